@@ -45,6 +45,7 @@
  * 20-May-2004 : Added equals() and clone() methods and implemented
  *               Serializable (DG);
  * 11-Jan-2005 : Removed deprecated code in preparation for 1.0.0 release (DG);
+ * 18-Oct-2026 : Refer to the source dataset for an item in a snapshot (G14);
  *
  */
 
@@ -53,6 +54,7 @@ package org.jfree.chart.entity;
 import java.awt.Shape;
 
 import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYDatasetSnapshot;
 
 /**
  * A chart entity that represents one item within an
@@ -73,7 +75,10 @@ public class XYItemEntity extends ChartEntity {
     private int item;
 
     /**
-     * Creates a new entity.
+     * Creates a new entity.  If the dataset is a snapshot (as drawn by an
+     * {@link org.jfree.chart.plot.XYPlot} for a dataset that publishes
+     * snapshots), the entity refers to the dataset that the snapshot was
+     * taken from, which is the dataset registered with the plot.
      *
      * @param area  the area.
      * @param dataset  the dataset.
@@ -86,6 +91,12 @@ public class XYItemEntity extends ChartEntity {
                         XYDataset dataset, int series, int item,
                         String toolTipText, String urlText) {
         super(area, toolTipText, urlText);
+        if (dataset instanceof XYDatasetSnapshot) {
+            XYDataset source = ((XYDatasetSnapshot) dataset).getSource();
+            if (source != null) {
+                dataset = source;
+            }
+        }
         this.dataset = dataset;
         this.series = series;
         this.item = item;
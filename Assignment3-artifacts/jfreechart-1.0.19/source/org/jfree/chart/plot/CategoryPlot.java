@@ -182,6 +182,8 @@
  * 12-Sep-2013 : Check for KEY_SUPPRESS_SHADOW_GENERATION rendering hint (DG);
  * 10-Mar-2014 : Updated Javadocs for issue #1123 (DG);
  * 09-Apr-2014 : Remove use of ObjectList (DG);
+ * 18-Oct-2026 : Pass dataset change events to the renderers, so that
+ *               bounds cached for an unchanged version are discarded (G14);
  * 
  */
 
@@ -2266,6 +2268,11 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
      */
     @Override
     public void datasetChanged(DatasetChangeEvent event) {
+        for (CategoryItemRenderer r : this.renderers.values()) {
+            if (r instanceof AbstractCategoryItemRenderer) {
+                ((AbstractCategoryItemRenderer) r).updateDataBounds(event);
+            }
+        }
         for (ValueAxis yAxis : this.rangeAxes.values()) {
             if (yAxis != null) {
                 yAxis.configure();
@@ -230,6 +230,14 @@
  * 12-Sep-2013 : Check for KEY_SUPPRESS_SHADOW_GENERATION rendering hint (DG);
  * 10-Mar-2014 : Updated Javadocs for issue #1123 (DG);
  * 29-Jul-2014 : Add hints to normalise stroke for crosshairs (DG);
+ * 18-Oct-2026 : Pass dataset change events to the renderer so that it can
+ *               update its data bounds (G14);
+ * 18-Oct-2026 : Render from the latest snapshot of an XYSnapshotSource
+ *               (G14);
+ * 18-Oct-2026 : Pass every dataset change event to the renderers, so that
+ *               bounds cached for an unchanged version are discarded (G14);
+ * 18-Oct-2026 : Find the data range from the latest snapshot, and look up
+ *               the source of a snapshot in indexOf() (G14);
  *
  */
 
@@ -297,6 +305,8 @@ import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtilities;
 import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYDatasetSnapshot;
+import org.jfree.data.xy.XYSnapshotSource;
 import org.jfree.io.SerialUtilities;
 import org.jfree.ui.Layer;
 import org.jfree.ui.RectangleEdge;
@@ -1407,13 +1417,21 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 
     /**
      * Returns the index of the specified dataset, or {@code -1} if the
-     * dataset does not belong to the plot.
+     * dataset does not belong to the plot.  For a snapshot
+     * ({@link XYDatasetSnapshot}), this is the index of the dataset that the
+     * snapshot was taken from.
      *
      * @param dataset  the dataset ({@code null} not permitted).
      *
      * @return The index or -1.
      */
     public int indexOf(XYDataset dataset) {
+        if (dataset instanceof XYDatasetSnapshot) {
+            XYDataset source = ((XYDatasetSnapshot) dataset).getSource();
+            if (source != null) {
+                dataset = source;
+            }
+        }
         for (Map.Entry<Integer, XYDataset> entry: this.datasets.entrySet()) {
             if (dataset == entry.getValue()) {
                 return entry.getKey();
@@ -3674,12 +3692,37 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         return axisStateMap;
     }
 
+    /**
+     * Returns the latest snapshot of a dataset that is an
+     * {@link XYSnapshotSource} publishing snapshots, otherwise the dataset
+     * itself.  The snapshot is read when drawing the dataset and finding
+     * its data range, so that these do not read the dataset while it is
+     * updated by another thread.
+     *
+     * @param dataset  the dataset ({@code null} permitted).
+     *
+     * @return The snapshot or dataset (possibly {@code null}).
+     */
+    private XYDataset getSnapshot(XYDataset dataset) {
+        if (dataset instanceof XYSnapshotSource) {
+            XYDataset snapshot = ((XYSnapshotSource) dataset).getSnapshot();
+            if (snapshot != null) {
+                return snapshot;
+            }
+        }
+        return dataset;
+    }
+
     /**
      * Draws a representation of the data within the dataArea region, using the
      * current renderer.
      * <P>
      * The <code>info</code> and <code>crosshairState</code> arguments may be
      * <code>null</code>.
+     * <P>
+     * If the dataset is an {@link XYSnapshotSource} that publishes
+     * snapshots, the items are drawn from the latest snapshot, so the
+     * dataset can be updated by another thread while it is drawn.
      *
      * @param g2  the graphics device.
      * @param dataArea  the region in which the data is to be drawn.
@@ -3694,7 +3737,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             PlotRenderingInfo info, CrosshairState crosshairState) {
 
         boolean foundData = false;
-        XYDataset dataset = getDataset(index);
+        XYDataset dataset = getSnapshot(getDataset(index));
         if (!DatasetUtilities.isEmptyOrNull(dataset)) {
             foundData = true;
             ValueAxis xAxis = getDomainAxisForDataset(index);
@@ -4405,7 +4448,9 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     }
 
     /**
-     * Returns the range for the specified axis.
+     * Returns the range for the specified axis.  For a dataset that
+     * publishes snapshots (see {@link XYSnapshotSource}), the range is found
+     * from the latest snapshot.
      *
      * @param axis  the axis.
      *
@@ -4454,9 +4499,10 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 
         // iterate through the datasets that map to the axis and get the union
         // of the ranges.
-        for (XYDataset d : mappedDatasets) {
-            if (d != null) {
-                XYItemRenderer r = getRendererForDataset(d);
+        for (XYDataset mapped : mappedDatasets) {
+            if (mapped != null) {
+                XYItemRenderer r = getRendererForDataset(mapped);
+                XYDataset d = getSnapshot(mapped);
                 if (isDomainAxis) {
                     if (r != null) {
                         result = Range.combine(result, r.findDomainBounds(d));
@@ -4532,10 +4578,17 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
      * <P>
      * The axis ranges are updated if necessary.
      *
-     * @param event  information about the event (not used here).
+     * @param event  information about the event.
      */
     @Override
     public void datasetChanged(DatasetChangeEvent event) {
+        // a change to one series may let the renderers update their cached
+        // data bounds, rather than recalculate them for the axes
+        for (XYItemRenderer r : this.renderers.values()) {
+            if (r instanceof AbstractXYItemRenderer) {
+                ((AbstractXYItemRenderer) r).updateDataBounds(event);
+            }
+        }
         configureDomainAxes();
         configureRangeAxes();
         if (getParent() != null) {
@@ -92,6 +92,8 @@
  * 05-Jul-2012 : No need for BooleanUtilities now that min JDK = 1.4.2 (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
  * 09-Apr-2014 : Remove use of ObjectList (DG);
+ * 18-Oct-2026 : Added a cache for the data bounds (G14);
+ * 18-Oct-2026 : Added invalidateDataBounds() and updateDataBounds() (G14);
  *
  */
 
@@ -127,6 +129,8 @@ import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.title.LegendTitle;
 import org.jfree.chart.util.CloneUtils;
 import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.general.Dataset;
+import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.io.SerialUtilities;
 import org.jfree.ui.TextAnchor;
 import org.jfree.util.BooleanList;
@@ -388,6 +392,13 @@ public abstract class AbstractRenderer implements Cloneable, Serializable {
     /** An event for re-use. */
     private transient RendererChangeEvent event;
 
+    /**
+     * A cache for the data bounds found by the renderer (created when first
+     * required, and cleared whenever the renderer changes).  The bounds can
+     * be found by more than one thread, so the field is volatile.
+     */
+    private transient volatile DataBoundsCache dataBoundsCache;
+
     /**
      * Default constructor.
      */
@@ -2725,6 +2736,74 @@ public abstract class AbstractRenderer implements Cloneable, Serializable {
         return this.dataBoundsIncludesVisibleSeriesOnly;
     }
 
+    /**
+     * Returns the cache for the data bounds found by this renderer.  The
+     * cache is cleared whenever the renderer sends a change event, so
+     * subclasses only need to include the dataset and any arguments in the
+     * cache key.
+     *
+     * @return The cache (never <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    protected DataBoundsCache getDataBoundsCache() {
+        DataBoundsCache cache = this.dataBoundsCache;
+        if (cache == null) {
+            cache = new DataBoundsCache();
+            this.dataBoundsCache = cache;
+        }
+        return cache;
+    }
+
+    /**
+     * Removes the cached data bounds for a dataset, so that they are
+     * recalculated from the data when next required.  Call this method
+     * after changing a dataset in a way that is not reflected in its version
+     * (see {@link org.jfree.data.general.AbstractDataset#getVersion()}), if
+     * the plot is not sent a change event for the dataset.
+     *
+     * @param dataset  the dataset (<code>null</code> to remove the cached
+     *     bounds for all datasets).
+     *
+     * @since 1.0.20
+     */
+    public void invalidateDataBounds(Dataset dataset) {
+        if (this.dataBoundsCache == null) {
+            return;
+        }
+        if (dataset == null) {
+            this.dataBoundsCache.clear();
+        }
+        else {
+            this.dataBoundsCache.invalidate(dataset);
+        }
+    }
+
+    /**
+     * Updates the cached data bounds after a change to a dataset.  The plot
+     * calls this method when it receives a change event for a dataset.  If
+     * the version of the dataset has not changed since the bounds were
+     * calculated, the change is not reflected in the version, so the bounds
+     * are removed.  Subclasses can override this method to update the
+     * bounds from the details of the change.
+     *
+     * @param event  the event (<code>null</code> not permitted).
+     *
+     * @since 1.0.20
+     */
+    public void updateDataBounds(DatasetChangeEvent event) {
+        ParamChecks.nullNotPermitted(event, "event");
+        if (this.dataBoundsCache == null) {
+            return;
+        }
+        if (event.getDataset() == null) {
+            this.dataBoundsCache.clear();
+        }
+        else {
+            this.dataBoundsCache.datasetChanged(event.getDataset());
+        }
+    }
+
     /**
      * Sets the flag that controls whether or not the data bounds reported
      * by this renderer will exclude non-visible series and sends a
@@ -2928,6 +3007,9 @@ public abstract class AbstractRenderer implements Cloneable, Serializable {
      * @param event  information about the change event.
      */
     public void notifyListeners(RendererChangeEvent event) {
+        if (this.dataBoundsCache != null) {
+            this.dataBoundsCache.clear();
+        }
         Object[] ls = this.listenerList.getListenerList();
         for (int i = ls.length - 2; i >= 0; i -= 2) {
             if (ls[i] == RendererChangeListener.class) {
@@ -3294,6 +3376,7 @@ public abstract class AbstractRenderer implements Cloneable, Serializable {
         }
         clone.listenerList = new EventListenerList();
         clone.event = null;
+        clone.dataBoundsCache = null;
         return clone;
     }
 
@@ -0,0 +1,266 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * DataBoundsCache.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Added getPreviousVersionBounds() (G14);
+ * 18-Oct-2026 : Synchronized the methods (G14);
+ *
+ */
+
+package org.jfree.chart.renderer;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jfree.data.Range;
+import org.jfree.data.general.AbstractDataset;
+import org.jfree.data.general.Dataset;
+
+/**
+ * A small cache of data bounds calculated by a renderer, so that the bounds
+ * are not recalculated from the data every time a chart is drawn.  Each
+ * entry records the version of the dataset it was calculated from (see
+ * {@link AbstractDataset#getVersion()}), and is only returned while the
+ * dataset version is unchanged.  Datasets that do not extend
+ * {@link AbstractDataset} have no version, and are never cached.
+ * <P>
+ * The cache holds weak references to the datasets, and a limited number of
+ * entries (the oldest entry is discarded when the cache is full).
+ * <P>
+ * The cache can be used by several threads (for example, a thread that
+ * updates a dataset, and so causes the plot to update its axis ranges, and
+ * a thread that draws the chart).  The methods are synchronized on the
+ * cache, so a caller that combines {@link #contains(Dataset, Object)} and
+ * {@link #get(Dataset, Object)} should hold the same lock.
+ *
+ * @since 1.0.20
+ */
+public class DataBoundsCache {
+
+    /** The maximum number of entries held by the cache. */
+    private static final int MAXIMUM_ENTRY_COUNT = 16;
+
+    /** An entry in the cache. */
+    private static class Entry {
+
+        /** The dataset. */
+        private WeakReference dataset;
+
+        /** The dataset version. */
+        private long version;
+
+        /** The key. */
+        private Object key;
+
+        /** The bounds (possibly <code>null</code>). */
+        private Range bounds;
+
+    }
+
+    /** The entries, oldest first. */
+    private List entries;
+
+    /**
+     * Creates a new empty cache.
+     */
+    public DataBoundsCache() {
+        this.entries = new ArrayList();
+    }
+
+    /**
+     * Returns <code>true</code> if the cache holds bounds for the specified
+     * dataset and key, calculated from the current version of the dataset.
+     *
+     * @param dataset  the dataset (<code>null</code> permitted).
+     * @param key  the key, which should identify the calculation and any
+     *     arguments other than the dataset (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     */
+    public synchronized boolean contains(Dataset dataset, Object key) {
+        return find(dataset, key) != null;
+    }
+
+    /**
+     * Returns the bounds for the specified dataset and key, or
+     * <code>null</code> if there are none.  Since <code>null</code> is also
+     * a valid result for the bounds, use
+     * {@link #contains(Dataset, Object)} to check whether the cache holds
+     * the bounds.
+     *
+     * @param dataset  the dataset (<code>null</code> permitted).
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @return The bounds (possibly <code>null</code>).
+     */
+    public synchronized Range get(Dataset dataset, Object key) {
+        Entry entry = find(dataset, key);
+        return entry != null ? entry.bounds : null;
+    }
+
+    /**
+     * Stores the bounds for the specified dataset and key, replacing any
+     * bounds that are already held.  This method does nothing if the
+     * dataset does not have a version.
+     *
+     * @param dataset  the dataset (<code>null</code> permitted).
+     * @param key  the key (<code>null</code> not permitted).
+     * @param bounds  the bounds (<code>null</code> permitted).
+     */
+    public synchronized void put(Dataset dataset, Object key, Range bounds) {
+        if (!(dataset instanceof AbstractDataset)) {
+            return;
+        }
+        for (int i = this.entries.size() - 1; i >= 0; i--) {
+            Entry e = (Entry) this.entries.get(i);
+            Object d = e.dataset.get();
+            if (d == null || (d == dataset && e.key.equals(key))) {
+                this.entries.remove(i);
+            }
+        }
+        if (this.entries.size() >= MAXIMUM_ENTRY_COUNT) {
+            this.entries.remove(0);
+        }
+        Entry entry = new Entry();
+        entry.dataset = new WeakReference(dataset);
+        entry.version = ((AbstractDataset) dataset).getVersion();
+        entry.key = key;
+        entry.bounds = bounds;
+        this.entries.add(entry);
+    }
+
+    /**
+     * Returns the bounds held for a dataset that were calculated from the
+     * version immediately before the current version, mapped by key.  When
+     * the only change since that version is described by a change event
+     * (for example, items appended to a series), a renderer can update these
+     * bounds and store them with {@link #put(Dataset, Object, Range)},
+     * rather than recalculate them from all the data.
+     *
+     * @param dataset  the dataset (<code>null</code> permitted).
+     *
+     * @return A map from key to bounds (possibly empty, never
+     *     <code>null</code>).
+     */
+    public synchronized Map getPreviousVersionBounds(Dataset dataset) {
+        Map result = new LinkedHashMap();
+        if (!(dataset instanceof AbstractDataset)) {
+            return result;
+        }
+        long version = ((AbstractDataset) dataset).getVersion() - 1;
+        for (int i = 0; i < this.entries.size(); i++) {
+            Entry e = (Entry) this.entries.get(i);
+            if (e.dataset.get() == dataset && e.version == version) {
+                result.put(e.key, e.bounds);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes all the entries for a dataset from the cache.
+     *
+     * @param dataset  the dataset (<code>null</code> permitted).
+     */
+    public synchronized void invalidate(Dataset dataset) {
+        for (int i = this.entries.size() - 1; i >= 0; i--) {
+            Entry e = (Entry) this.entries.get(i);
+            Object d = e.dataset.get();
+            if (d == null || d == dataset) {
+                this.entries.remove(i);
+            }
+        }
+    }
+
+    /**
+     * Updates the cache after a change event for a dataset.  If the cache
+     * holds bounds calculated from the current version of the dataset, the
+     * change was not recorded in the version (for example, the arrays
+     * supplied to a {@link org.jfree.data.xy.DefaultXYDataset} were modified
+     * before a change event was sent), so all the bounds for the dataset are
+     * removed.
+     *
+     * @param dataset  the dataset (<code>null</code> permitted).
+     */
+    public synchronized void datasetChanged(Dataset dataset) {
+        if (!(dataset instanceof AbstractDataset)) {
+            return;
+        }
+        long version = ((AbstractDataset) dataset).getVersion();
+        for (int i = 0; i < this.entries.size(); i++) {
+            Entry e = (Entry) this.entries.get(i);
+            if (e.dataset.get() == dataset && e.version == version) {
+                invalidate(dataset);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+    }
+
+    /**
+     * Finds the entry for a dataset and key, provided that it was calculated
+     * from the current version of the dataset.
+     *
+     * @param dataset  the dataset (<code>null</code> permitted).
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @return The entry (possibly <code>null</code>).
+     */
+    private Entry find(Dataset dataset, Object key) {
+        if (!(dataset instanceof AbstractDataset)) {
+            return null;
+        }
+        long version = ((AbstractDataset) dataset).getVersion();
+        for (int i = this.entries.size() - 1; i >= 0; i--) {
+            Entry e = (Entry) this.entries.get(i);
+            if (e.dataset.get() == dataset && e.version == version
+                    && e.key.equals(key)) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+}
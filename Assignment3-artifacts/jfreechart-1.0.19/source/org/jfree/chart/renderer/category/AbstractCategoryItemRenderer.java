@@ -106,6 +106,7 @@
  * 02-Jul-2013 : Use ParamChecks (DG);
  * 08-Apr-2014 : Remove use of ObjectList (DG);
  * 29-Jul-2014 : Add rendering hints to normalise range lines (DG);
+ * 18-Oct-2026 : Cache the range bounds until the dataset changes (G14);
  * 
  */
 
@@ -127,6 +128,7 @@ import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -152,6 +154,7 @@ import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.ValueMarker;
 import org.jfree.chart.renderer.AbstractRenderer;
+import org.jfree.chart.renderer.DataBoundsCache;
 import org.jfree.chart.urls.CategoryURLGenerator;
 import org.jfree.chart.util.CloneUtils;
 import org.jfree.chart.util.ParamChecks;
@@ -649,20 +652,36 @@ public abstract class AbstractCategoryItemRenderer extends AbstractRenderer
         if (dataset == null) {
             return null;
         }
+        List visibleSeriesKeys = null;
         if (getDataBoundsIncludesVisibleSeriesOnly()) {
-            List visibleSeriesKeys = new ArrayList();
+            visibleSeriesKeys = new ArrayList();
             int seriesCount = dataset.getRowCount();
             for (int s = 0; s < seriesCount; s++) {
                 if (isSeriesVisible(s)) {
                     visibleSeriesKeys.add(dataset.getRowKey(s));
                 }
             }
-            return DatasetUtilities.findRangeBounds(dataset,
+        }
+        // reuse the bounds if the dataset has not changed
+        DataBoundsCache cache = getDataBoundsCache();
+        List key = Arrays.asList(new Object[] {"range",
+                Boolean.valueOf(includeInterval), visibleSeriesKeys});
+        synchronized (cache) {
+            if (cache.contains(dataset, key)) {
+                return cache.get(dataset, key);
+            }
+        }
+        Range result;
+        if (visibleSeriesKeys != null) {
+            result = DatasetUtilities.findRangeBounds(dataset,
                     visibleSeriesKeys, includeInterval);
         }
         else {
-            return DatasetUtilities.findRangeBounds(dataset, includeInterval);
+            result = DatasetUtilities.findRangeBounds(dataset,
+                    includeInterval);
         }
+        cache.put(dataset, key, result);
+        return result;
     }
 
     /**
@@ -63,6 +63,8 @@
  * 04-Feb-2009 : Added item label support, and generate entities only in first
  *               pass (DG);
  * 04-Feb-2009 : Fixed bug for renderAsPercentages == true (DG);
+ * 18-Oct-2026 : Cache the stacked range bounds until the dataset
+ *               changes (G14);
  *
  */
 
@@ -74,12 +76,15 @@ import java.awt.Shape;
 import java.awt.geom.GeneralPath;
 import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
 
 import org.jfree.chart.axis.CategoryAxis;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.RendererChangeEvent;
 import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.renderer.DataBoundsCache;
 import org.jfree.data.DataUtilities;
 import org.jfree.data.Range;
 import org.jfree.data.category.CategoryDataset;
@@ -178,9 +183,17 @@ public class StackedAreaRenderer extends AreaRenderer
         if (this.renderAsPercentages) {
             return new Range(0.0, 1.0);
         }
-        else {
-            return DatasetUtilities.findStackedRangeBounds(dataset);
+        // reuse the bounds if the dataset has not changed
+        DataBoundsCache cache = getDataBoundsCache();
+        List key = Arrays.asList(new Object[] {"stacked"});
+        synchronized (cache) {
+            if (cache.contains(dataset, key)) {
+                return cache.get(dataset, key);
+            }
         }
+        Range result = DatasetUtilities.findStackedRangeBounds(dataset);
+        cache.put(dataset, key, result);
+        return result;
     }
 
     /**
@@ -89,6 +89,8 @@
  * 11-Oct-2006 : Source reformatting (DG);
  * 24-Jun-2008 : Added new barPainter mechanism (DG);
  * 04-Feb-2009 : Added support for hidden series (PK);
+ * 18-Oct-2026 : Cache the stacked range bounds until the dataset
+ *               changes (G14);
  *
  */
 
@@ -97,6 +99,8 @@ package org.jfree.chart.renderer.category;
 import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
 
 import org.jfree.chart.axis.CategoryAxis;
 import org.jfree.chart.axis.ValueAxis;
@@ -107,6 +111,7 @@ import org.jfree.chart.labels.ItemLabelAnchor;
 import org.jfree.chart.labels.ItemLabelPosition;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.renderer.DataBoundsCache;
 import org.jfree.data.DataUtilities;
 import org.jfree.data.Range;
 import org.jfree.data.category.CategoryDataset;
@@ -220,9 +225,19 @@ public class StackedBarRenderer extends BarRenderer
         if (this.renderAsPercentages) {
             return new Range(0.0, 1.0);
         }
-        else {
-            return DatasetUtilities.findStackedRangeBounds(dataset, getBase());
+        // reuse the bounds if the dataset has not changed
+        DataBoundsCache cache = getDataBoundsCache();
+        List key = Arrays.asList(new Object[] {"stacked",
+                new Double(getBase())});
+        synchronized (cache) {
+            if (cache.contains(dataset, key)) {
+                return cache.get(dataset, key);
+            }
         }
+        Range result = DatasetUtilities.findStackedRangeBounds(dataset,
+                getBase());
+        cache.put(dataset, key, result);
+        return result;
     }
 
     /**
@@ -122,6 +122,9 @@
  * 11-Jan-2014 : Fix error in fillDomainGridBand method (DG);
  * 07-Apr-2014 : Don't use ObjectList anymore (DG);
  * 29-Jul-2014 : Add rendering hint to normalise domain and range lines (DG);
+ * 18-Oct-2026 : Cache the domain and range bounds until the dataset
+ *               changes (G14);
+ * 18-Oct-2026 : Added updateDataBounds() for appended items (G14);
  * 
  */
 
@@ -143,6 +146,7 @@ import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -174,11 +178,15 @@ import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.ValueMarker;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.renderer.AbstractRenderer;
+import org.jfree.chart.renderer.DataBoundsCache;
 import org.jfree.chart.urls.XYURLGenerator;
 import org.jfree.chart.util.CloneUtils;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.text.TextUtilities;
 import org.jfree.ui.GradientPaintTransformer;
@@ -709,18 +717,36 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
         if (dataset == null) {
             return null;
         }
+        List visibleSeriesKeys = null;
         if (getDataBoundsIncludesVisibleSeriesOnly()) {
-            List visibleSeriesKeys = new ArrayList();
+            visibleSeriesKeys = new ArrayList();
             int seriesCount = dataset.getSeriesCount();
             for (int s = 0; s < seriesCount; s++) {
                 if (isSeriesVisible(s)) {
                     visibleSeriesKeys.add(dataset.getSeriesKey(s));
                 }
             }
-            return DatasetUtilities.findDomainBounds(dataset,
+        }
+        // reuse the bounds if the dataset has not changed
+        DataBoundsCache cache = getDataBoundsCache();
+        List key = Arrays.asList(new Object[] {"domain",
+                Boolean.valueOf(includeInterval), visibleSeriesKeys});
+        synchronized (cache) {
+            if (cache.contains(dataset, key)) {
+                return cache.get(dataset, key);
+            }
+        }
+        Range result;
+        if (visibleSeriesKeys != null) {
+            result = DatasetUtilities.findDomainBounds(dataset,
                     visibleSeriesKeys, includeInterval);
         }
-        return DatasetUtilities.findDomainBounds(dataset, includeInterval);
+        else {
+            result = DatasetUtilities.findDomainBounds(dataset,
+                    includeInterval);
+        }
+        cache.put(dataset, key, result);
+        return result;
     }
 
     /**
@@ -782,10 +808,91 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
                 xRange = new Range(Double.NEGATIVE_INFINITY,
                         Double.POSITIVE_INFINITY);
             }
-            return DatasetUtilities.findRangeBounds(dataset,
+            // reuse the bounds if the dataset and x-range have not changed
+            DataBoundsCache cache = getDataBoundsCache();
+            List key = Arrays.asList(new Object[] {"range",
+                    Boolean.valueOf(includeInterval), visibleSeriesKeys,
+                    xRange});
+            synchronized (cache) {
+                if (cache.contains(dataset, key)) {
+                    return cache.get(dataset, key);
+                }
+            }
+            Range result = DatasetUtilities.findRangeBounds(dataset,
                     visibleSeriesKeys, xRange, includeInterval);
+            cache.put(dataset, key, result);
+            return result;
+        }
+        DataBoundsCache cache = getDataBoundsCache();
+        List key = Arrays.asList(new Object[] {"range",
+                Boolean.valueOf(includeInterval)});
+        synchronized (cache) {
+            if (cache.contains(dataset, key)) {
+                return cache.get(dataset, key);
+            }
+        }
+        Range result = DatasetUtilities.findRangeBounds(dataset,
+                includeInterval);
+        cache.put(dataset, key, result);
+        return result;
+    }
+
+    /**
+     * Updates the cached data bounds for a dataset after a change that is
+     * described by the event, so that they need not be recalculated from all
+     * the data.  Only items appended to a series (with no items removed) are
+     * handled in this way, and only for bounds that do not include the
+     * intervals (which can depend on all the items in a dataset).  After any
+     * other change, the bounds are recalculated when they are next required.
+     * This method is called by the {@link XYPlot} when it receives a change
+     * event for a dataset.
+     *
+     * @param event  the event (<code>null</code> not permitted).
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public void updateDataBounds(DatasetChangeEvent event) {
+        super.updateDataBounds(event);
+        SeriesChangeEvent change = event.getSeriesChange();
+        if (change == null || change.getType() != SeriesChangeType.APPEND
+                || change.getRemovedCount() > 0
+                || !(event.getDataset() instanceof XYDataset)) {
+            return;
+        }
+        XYDataset dataset = (XYDataset) event.getDataset();
+        int series = event.getSeriesIndex();
+        Comparable seriesKey = dataset.getSeriesKey(series);
+        DataBoundsCache cache = getDataBoundsCache();
+        Iterator iterator = cache.getPreviousVersionBounds(dataset).entrySet()
+                .iterator();
+        while (iterator.hasNext()) {
+            Map.Entry entry = (Map.Entry) iterator.next();
+            // the keys are those created by findDomainBounds() and
+            // findRangeBounds()
+            List key = (List) entry.getKey();
+            boolean domain = "domain".equals(key.get(0));
+            if (!(domain || "range".equals(key.get(0)))
+                    || !Boolean.FALSE.equals(key.get(1))) {
+                continue;
+            }
+            List visibleSeriesKeys = key.size() > 2 ? (List) key.get(2) : null;
+            Range xRange = key.size() > 3 ? (Range) key.get(3) : null;
+            Range bounds = (Range) entry.getValue();
+            if (visibleSeriesKeys == null
+                    || visibleSeriesKeys.contains(seriesKey)) {
+                for (int item = change.getFirstIndex();
+                        item <= change.getLastIndex(); item++) {
+                    double x = dataset.getXValue(series, item);
+                    double v = domain ? x : dataset.getYValue(series, item);
+                    if (!Double.isNaN(v)
+                            && (xRange == null || xRange.contains(x))) {
+                        bounds = Range.expandToInclude(bounds, v);
+                    }
+                }
+            }
+            cache.put(dataset, key, bounds);
         }
-        return DatasetUtilities.findRangeBounds(dataset, includeInterval);
     }
 
     /**
@@ -37,6 +37,9 @@
  * 19-Oct-2006 : New class (DG);
  * 31-Oct-2007 : Implemented faster hashCode() (DG);
  * 27-Nov-2007 : Changed clear() from protected to public (DG);
+ * 18-Oct-2026 : Increment the version for changes made without sending a
+ *               change event (G14);
+ * 18-Oct-2026 : Send events that describe appended and updated items (G14);
  *
  */
 
@@ -49,6 +52,7 @@ import org.jfree.chart.util.ParamChecks;
 
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
 import org.jfree.util.ObjectUtilities;
 
@@ -215,9 +219,11 @@ public class ComparableObjectSeries extends Series
     protected void add(ComparableObjectItem item, boolean notify) {
 
         ParamChecks.nullNotPermitted(item, "item");
+        boolean appended = true;
         if (this.autoSort) {
             int index = Collections.binarySearch(this.data, item);
             if (index < 0) {
+                appended = -index - 1 == this.data.size();
                 this.data.add(-index - 1, item);
             }
             else {
@@ -230,6 +236,7 @@ public class ComparableObjectSeries extends Series
                     }
                     if (index < this.data.size()) {
                         this.data.add(index, item);
+                        appended = false;
                     }
                     else {
                         this.data.add(item);
@@ -251,12 +258,22 @@ public class ComparableObjectSeries extends Series
             }
             this.data.add(item);
         }
+        int removedCount = 0;
         if (getItemCount() > this.maximumItemCount) {
             this.data.remove(0);
+            removedCount = 1;
         }
-        if (notify) {
+        if (notify && appended) {
+            int last = this.data.size() - 1;
+            fireSeriesChanged(new SeriesChangeEvent(this,
+                    SeriesChangeType.APPEND, last, last, removedCount));
+        }
+        else if (notify) {
             fireSeriesChanged();
         }
+        else {
+            incrementVersion();
+        }
     }
 
     /**
@@ -303,7 +320,8 @@ public class ComparableObjectSeries extends Series
         else {
             ComparableObjectItem item = getDataItem(index);
             item.setObject(y);
-            fireSeriesChanged();
+            fireSeriesChanged(new SeriesChangeEvent(this,
+                    SeriesChangeType.UPDATE, index, index, 0));
         }
     }
 
@@ -317,7 +335,8 @@ public class ComparableObjectSeries extends Series
     protected void updateByIndex(int index, Object y) {
         ComparableObjectItem item = getDataItem(index);
         item.setObject(y);
-        fireSeriesChanged();
+        fireSeriesChanged(new SeriesChangeEvent(this, SeriesChangeType.UPDATE,
+                index, index, 0));
     }
 
     /**
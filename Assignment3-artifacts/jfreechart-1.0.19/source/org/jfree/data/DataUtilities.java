@@ -43,6 +43,8 @@
  * 28-Jan-2009 : Added clone(double[][]) method (DG);
  * 04-Feb-2009 : Added calculateColumnTotal/RowTotal variants (PK);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Skip empty cells in calculateRowTotal() for
+ *               SparseValues2D data (G14);
  *
  */
 
@@ -174,6 +176,14 @@ public abstract class DataUtilities {
     public static double calculateRowTotal(Values2D data, int row) {
         ParamChecks.nullNotPermitted(data, "data");
         double total = 0.0;
+        if (data instanceof SparseValues2D) {
+            SparseValues2D sparse = (SparseValues2D) data;
+            int count = sparse.getNonNullCount(row);
+            for (int i = 0; i < count; i++) {
+                total += sparse.getNonNullValue(row, i).doubleValue();
+            }
+            return total;
+        }
         int columnCount = data.getColumnCount();
         for (int c = 0; c < columnCount; c++) {
             Number n = data.getValue(row, c);
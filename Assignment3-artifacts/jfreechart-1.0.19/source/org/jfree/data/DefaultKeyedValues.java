@@ -55,16 +55,20 @@
  *               values (TM);
  * 21-Nov-2007 : Fixed bug in removeValue() method from previous patch (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Replaced the HashMap index with a KeyIndex that is updated
+ *               incrementally, rather than rebuilt, on insert and
+ *               remove (G14);
  *
  */
 
 package org.jfree.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import org.jfree.chart.util.ParamChecks;
 
@@ -88,10 +92,10 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable,
     private ArrayList values;
 
     /**
-     * Contains (key, Integer) mappings, where the Integer is the index for
-     * the key in the list.
+     * Maps each key to its index in the list (rebuilt from the keys when the
+     * object is deserialized).
      */
-    private HashMap indexMap;
+    private transient KeyIndex indexMap;
 
   /**
      * Creates a new collection (initially empty).
@@ -99,7 +103,7 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable,
     public DefaultKeyedValues() {
         this.keys = new ArrayList();
         this.values = new ArrayList();
-        this.indexMap = new HashMap();
+        this.indexMap = new KeyIndex();
     }
 
     /**
@@ -109,7 +113,7 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable,
      */
     @Override
     public int getItemCount() {
-        return this.indexMap.size();
+        return this.keys.size();
     }
 
     /**
@@ -153,11 +157,7 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable,
     @Override
     public int getIndex(Comparable key) {
         ParamChecks.nullNotPermitted(key, "key");
-        final Integer i = (Integer) this.indexMap.get(key);
-        if (i == null) {
-            return -1;  // key not found
-        }
-        return i.intValue();
+        return this.indexMap.indexOf(key);
     }
 
     /**
@@ -240,7 +240,7 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable,
         else {
             this.keys.add(key);
             this.values.add(value);
-            this.indexMap.put(key, new Integer(this.keys.size() - 1));
+            this.indexMap.add(key);
         }
     }
 
@@ -284,23 +284,12 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable,
             if (pos >= 0) {
                 this.keys.remove(pos);
                 this.values.remove(pos);
+                this.indexMap.remove(pos);
             }
 
             this.keys.add(position, key);
             this.values.add(position, value);
-            rebuildIndex();
-        }
-    }
-
-    /**
-     * Rebuilds the key to indexed-position mapping after an positioned insert
-     * or a remove operation.
-     */
-    private void rebuildIndex () {
-        this.indexMap.clear();
-        for (int i = 0; i < this.keys.size(); i++) {
-            final Object key = this.keys.get(i);
-            this.indexMap.put(key, new Integer(i));
+            this.indexMap.insert(position, key);
         }
     }
 
@@ -316,7 +305,7 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable,
     public void removeValue(int index) {
         this.keys.remove(index);
         this.values.remove(index);
-        rebuildIndex();
+        this.indexMap.remove(index);
     }
 
     /**
@@ -467,8 +456,22 @@ public class DefaultKeyedValues implements KeyedValues, Cloneable,
         DefaultKeyedValues clone = (DefaultKeyedValues) super.clone();
         clone.keys = (ArrayList) this.keys.clone();
         clone.values = (ArrayList) this.values.clone();
-        clone.indexMap = (HashMap) this.indexMap.clone();
+        clone.indexMap = (KeyIndex) this.indexMap.clone();
         return clone;
     }
 
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.indexMap = new KeyIndex(this.keys);
+    }
+
 }
@@ -53,11 +53,15 @@
  * 23-Nov-2007 : Added argument checks to removeRow(Comparable) to make it
  *               consistent with the removeRow(Comparable) method (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Look up row and column keys with a KeyIndex rather than a
+ *               linear search (G14);
  * 
  */
 
 package org.jfree.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.Iterator;
@@ -90,6 +94,18 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
     /** If the row keys should be sorted by their comparable order. */
     private boolean sortRowKeys;
 
+    /**
+     * Maps each row key to its index (rebuilt from the keys when the object
+     * is deserialized).
+     */
+    private transient KeyIndex rowKeyIndex;
+
+    /**
+     * Maps each column key to its index (rebuilt from the keys when the
+     * object is deserialized).
+     */
+    private transient KeyIndex columnKeyIndex;
+
     /**
      * Creates a new instance (initially empty).
      */
@@ -107,6 +123,8 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
         this.columnKeys = new java.util.ArrayList();
         this.rows = new java.util.ArrayList();
         this.sortRowKeys = sortRowKeys;
+        this.rowKeyIndex = new KeyIndex();
+        this.columnKeyIndex = new KeyIndex();
     }
 
     /**
@@ -191,7 +209,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
             return Collections.binarySearch(this.rowKeys, key);
         }
         else {
-            return this.rowKeys.indexOf(key);
+            return this.rowKeyIndex.indexOf(key);
         }
     }
 
@@ -236,7 +254,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
     @Override
     public int getColumnIndex(Comparable key) {
         ParamChecks.nullNotPermitted(key, "key");
-        return this.columnKeys.indexOf(key);
+        return this.columnKeyIndex.indexOf(key);
     }
 
     /**
@@ -270,7 +288,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
         ParamChecks.nullNotPermitted(columnKey, "columnKey");
 
         // check that the column key is defined in the 2D structure
-        if (!(this.columnKeys.contains(columnKey))) {
+        if (this.columnKeyIndex.indexOf(columnKey) < 0) {
             throw new UnknownKeyException("Unrecognised columnKey: "
                     + columnKey);
         }
@@ -332,17 +350,20 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
                 rowIndex = -rowIndex - 1;
                 this.rowKeys.add(rowIndex, rowKey);
                 this.rows.add(rowIndex, row);
+                this.rowKeyIndex.insert(rowIndex, rowKey);
             }
             else {
                 this.rowKeys.add(rowKey);
                 this.rows.add(row);
+                this.rowKeyIndex.add(rowKey);
             }
         }
         row.setValue(columnKey, value);
 
-        int columnIndex = this.columnKeys.indexOf(columnKey);
+        int columnIndex = this.columnKeyIndex.indexOf(columnKey);
         if (columnIndex < 0) {
             this.columnKeys.add(columnKey);
+            this.columnKeyIndex.add(columnKey);
         }
     }
 
@@ -375,6 +396,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
         if (allNull) {
             this.rowKeys.remove(rowIndex);
             this.rows.remove(rowIndex);
+            this.rowKeyIndex.remove(rowIndex);
         }
 
         // 2. check whether the column is now empty.
@@ -400,7 +422,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
                     row.removeValue(columnIndex);
                 }
             }
-            this.columnKeys.remove(columnKey);
+            removeColumnKey(columnKey);
         }
     }
 
@@ -415,6 +437,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
     public void removeRow(int rowIndex) {
         this.rowKeys.remove(rowIndex);
         this.rows.remove(rowIndex);
+        this.rowKeyIndex.remove(rowIndex);
     }
 
     /**
@@ -467,7 +490,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
      */
     public void removeColumn(Comparable columnKey) {
         ParamChecks.nullNotPermitted(columnKey, "columnKey");
-        if (!this.columnKeys.contains(columnKey)) {
+        if (this.columnKeyIndex.indexOf(columnKey) < 0) {
             throw new UnknownKeyException("Unknown key: " + columnKey);
         }
         Iterator iterator = this.rows.iterator();
@@ -478,7 +501,18 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
                 rowData.removeValue(columnKey);
             }
         }
-        this.columnKeys.remove(columnKey);
+        removeColumnKey(columnKey);
+    }
+
+    /**
+     * Removes a column key from the list of column keys and the index.
+     *
+     * @param columnKey  the column key (must be in the list).
+     */
+    private void removeColumnKey(Comparable columnKey) {
+        int columnIndex = this.columnKeyIndex.indexOf(columnKey);
+        this.columnKeys.remove(columnIndex);
+        this.columnKeyIndex.remove(columnIndex);
     }
 
     /**
@@ -488,6 +522,8 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
         this.rowKeys.clear();
         this.columnKeys.clear();
         this.rows.clear();
+        this.rowKeyIndex.clear();
+        this.columnKeyIndex.clear();
     }
 
     /**
@@ -575,10 +611,27 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
         // should be immutable...
         clone.columnKeys = new java.util.ArrayList(this.columnKeys);
         clone.rowKeys = new java.util.ArrayList(this.rowKeys);
+        clone.rowKeyIndex = (KeyIndex) this.rowKeyIndex.clone();
+        clone.columnKeyIndex = (KeyIndex) this.columnKeyIndex.clone();
 
         // but the row data requires a deep copy
         clone.rows = (List) ObjectUtilities.deepClone(this.rows);
         return clone;
     }
 
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.rowKeyIndex = new KeyIndex(this.rowKeys);
+        this.columnKeyIndex = new KeyIndex(this.columnKeys);
+    }
+
 }
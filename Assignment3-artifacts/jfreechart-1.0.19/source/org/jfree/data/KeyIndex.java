@@ -0,0 +1,345 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------
+ * KeyIndex.java
+ * -------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Maps keys to their positions in a list of keys, for the keyed data
+ * structures in this package.  The index is a hash table (using the keys'
+ * <code>equals()</code> and <code>hashCode()</code> methods) that stores
+ * positions as <code>int</code> values, so no <code>Integer</code> objects
+ * are created.  It also records the table slot for each position, so that
+ * when a key is inserted or removed the positions of the following keys are
+ * adjusted in a single pass over an <code>int</code> array, instead of
+ * rebuilding the whole map.  The stored positions are relative to an offset,
+ * so that only the keys on the shorter side of the change need to be
+ * adjusted (removing the first key, for example, is a constant time
+ * operation apart from the array copy).
+ * <P>
+ * The index does not hold the list itself: the owner is responsible for
+ * applying each change to both the list and the index.
+ *
+ * @since 1.0.20
+ */
+public class KeyIndex implements Cloneable {
+
+    /** The initial (and minimum) size of the hash table. */
+    private static final int MINIMUM_CAPACITY = 16;
+
+    /** The keys in the hash table (<code>null</code> for an empty slot). */
+    private Object[] table;
+
+    /**
+     * The position of the key in each slot of the hash table, plus the
+     * offset.
+     */
+    private int[] positions;
+
+    /**
+     * The offset that is subtracted from the values in the positions array.
+     * Integer overflow is harmless here, since the arithmetic wraps around
+     * consistently.
+     */
+    private int offset;
+
+    /** The hash table slot for each position. */
+    private int[] slots;
+
+    /** The number of keys. */
+    private int size;
+
+    /**
+     * Creates a new empty index.
+     */
+    public KeyIndex() {
+        allocate(MINIMUM_CAPACITY);
+    }
+
+    /**
+     * Creates a new index for the keys in a list.
+     *
+     * @param keys  the keys (<code>null</code> not permitted, and the list
+     *     should not contain duplicate or <code>null</code> keys).
+     */
+    public KeyIndex(List keys) {
+        int capacity = MINIMUM_CAPACITY;
+        while (capacity < (1 << 30) && capacity * 3 / 4 <= keys.size()) {
+            capacity = capacity << 1;
+        }
+        allocate(capacity);
+        for (int i = 0; i < keys.size(); i++) {
+            add(keys.get(i));
+        }
+    }
+
+    /**
+     * Returns the number of keys in the index.
+     *
+     * @return The number of keys.
+     */
+    public int getKeyCount() {
+        return this.size;
+    }
+
+    /**
+     * Returns the position of a key.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @return The position, or <code>-1</code> if the key is not in the
+     *     index.
+     */
+    public int indexOf(Object key) {
+        int slot = find(key);
+        return this.table[slot] == null ? -1
+                : this.positions[slot] - this.offset;
+    }
+
+    /**
+     * Adds a key at the end of the list.
+     *
+     * @param key  the key (<code>null</code> not permitted, and not already
+     *     in the index).
+     */
+    public void add(Object key) {
+        insert(this.size, key);
+    }
+
+    /**
+     * Inserts a key at the specified position, moving the keys at that
+     * position and beyond one place along.
+     *
+     * @param position  the position (in the range <code>0</code> to
+     *     <code>getKeyCount()</code>).
+     * @param key  the key (<code>null</code> not permitted, and not already
+     *     in the index).
+     */
+    public void insert(int position, Object key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Null 'key' argument.");
+        }
+        if (position < 0 || position > this.size) {
+            throw new IndexOutOfBoundsException("Position: " + position
+                    + ", Size: " + this.size);
+        }
+        if ((this.size + 1) * 4 > this.table.length * 3) {
+            rehash(this.table.length * 2);
+        }
+        int slot = find(key);
+        if (this.table[slot] != null) {
+            throw new IllegalArgumentException("Duplicate key: " + key);
+        }
+        System.arraycopy(this.slots, position, this.slots, position + 1,
+                this.size - position);
+        if (position < this.size - position) {
+            // move all keys up one place, then move back those before the
+            // new key
+            this.offset--;
+            for (int i = 0; i < position; i++) {
+                this.positions[this.slots[i]]--;
+            }
+        }
+        else {
+            for (int i = position + 1; i <= this.size; i++) {
+                this.positions[this.slots[i]]++;
+            }
+        }
+        this.table[slot] = key;
+        this.positions[slot] = position + this.offset;
+        this.slots[position] = slot;
+        this.size++;
+    }
+
+    /**
+     * Removes the key at the specified position, moving the keys beyond that
+     * position back one place.
+     *
+     * @param position  the position (in the range <code>0</code> to
+     *     <code>getKeyCount() - 1</code>).
+     */
+    public void remove(int position) {
+        if (position < 0 || position >= this.size) {
+            throw new IndexOutOfBoundsException("Position: " + position
+                    + ", Size: " + this.size);
+        }
+        deleteSlot(this.slots[position]);
+        System.arraycopy(this.slots, position + 1, this.slots, position,
+                this.size - position - 1);
+        this.size--;
+        if (position < this.size - position) {
+            // move all keys down one place, then move back those before the
+            // removed key
+            this.offset++;
+            for (int i = 0; i < position; i++) {
+                this.positions[this.slots[i]]++;
+            }
+        }
+        else {
+            for (int i = position; i < this.size; i++) {
+                this.positions[this.slots[i]]--;
+            }
+        }
+    }
+
+    /**
+     * Removes all the keys from the index.
+     */
+    public void clear() {
+        if (this.table.length > MINIMUM_CAPACITY) {
+            allocate(MINIMUM_CAPACITY);
+        }
+        else {
+            Arrays.fill(this.table, null);
+        }
+        this.size = 0;
+        this.offset = 0;
+    }
+
+    /**
+     * Returns an independent copy of the index (the keys themselves are not
+     * cloned).
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        KeyIndex clone = (KeyIndex) super.clone();
+        clone.table = (Object[]) this.table.clone();
+        clone.positions = (int[]) this.positions.clone();
+        clone.slots = (int[]) this.slots.clone();
+        return clone;
+    }
+
+    /**
+     * Creates empty arrays for the specified hash table capacity.
+     *
+     * @param capacity  the capacity (a power of two).
+     */
+    private void allocate(int capacity) {
+        this.table = new Object[capacity];
+        this.positions = new int[capacity];
+        this.slots = new int[capacity];
+    }
+
+    /**
+     * Returns the slot containing the specified key or, if the key is not in
+     * the index, the empty slot where it would be added.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @return The slot.
+     */
+    private int find(Object key) {
+        int mask = this.table.length - 1;
+        int i = hash(key) & mask;
+        while (this.table[i] != null && !this.table[i].equals(key)) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    /**
+     * Empties a slot in the hash table, using backward shift deletion so
+     * that the table never contains tombstones.
+     *
+     * @param slot  the slot.
+     */
+    private void deleteSlot(int slot) {
+        int mask = this.table.length - 1;
+        int hole = slot;
+        int j = hole;
+        while (true) {
+            j = (j + 1) & mask;
+            if (this.table[j] == null) {
+                break;
+            }
+            int home = hash(this.table[j]) & mask;
+            // the entry at j can fill the hole unless its home slot lies
+            // (cyclically) after the hole
+            boolean after = hole <= j ? (home > hole && home <= j)
+                    : (home > hole || home <= j);
+            if (!after) {
+                this.table[hole] = this.table[j];
+                this.positions[hole] = this.positions[j];
+                this.slots[this.positions[hole] - this.offset] = hole;
+                hole = j;
+            }
+        }
+        this.table[hole] = null;
+    }
+
+    /**
+     * Moves the keys into a hash table with the specified capacity.
+     *
+     * @param capacity  the new capacity (a power of two).
+     */
+    private void rehash(int capacity) {
+        Object[] oldTable = this.table;
+        int[] oldSlots = this.slots;
+        allocate(capacity);
+        for (int i = 0; i < this.size; i++) {
+            Object key = oldTable[oldSlots[i]];
+            int slot = find(key);
+            this.table[slot] = key;
+            this.positions[slot] = i + this.offset;
+            this.slots[i] = slot;
+        }
+    }
+
+    /**
+     * Returns a hash code for a key, with the high bits spread into the low
+     * bits (as <code>java.util.HashMap</code> does).
+     *
+     * @param key  the key.
+     *
+     * @return The hash code.
+     */
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        h ^= (h >>> 20) ^ (h >>> 12);
+        return h ^ (h >>> 7) ^ (h >>> 4);
+    }
+
+}
@@ -39,11 +39,15 @@
  * 28-Sep-2007 : Clean up equals() method (DG);
  * 03-Oct-2007 : Make method behaviour consistent with DefaultKeyedValues (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Look up keys with a KeyIndex rather than a linear
+ *               search (G14);
  *
  */
 
 package org.jfree.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.List;
@@ -62,11 +66,18 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
     /** Storage for the data. */
     private List data;
 
+    /**
+     * Maps each key to its index in the list (rebuilt from the data when the
+     * object is deserialized).
+     */
+    private transient KeyIndex index;
+
     /**
      * Creates a new collection (initially empty).
      */
     public KeyedObjects() {
         this.data = new java.util.ArrayList();
+        this.index = new KeyIndex();
     }
 
     /**
@@ -127,16 +138,7 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
      */
     public int getIndex(Comparable key) {
         ParamChecks.nullNotPermitted(key, "key");
-        int i = 0;
-        Iterator iterator = this.data.iterator();
-        while (iterator.hasNext()) {
-            KeyedObject ko = (KeyedObject) iterator.next();
-            if (ko.getKey().equals(key)) {
-                return i;
-            }
-            i++;
-        }
-        return -1;
+        return this.index.indexOf(key);
     }
 
     /**
@@ -205,6 +207,7 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
         else {
             KeyedObject ko = new KeyedObject(key, object);
             this.data.add(ko);
+            this.index.add(key);
         }
     }
 
@@ -228,13 +231,16 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
         int pos = getIndex(key);
         if (pos >= 0) {
             this.data.remove(pos);
+            this.index.remove(pos);
         }
         KeyedObject item = new KeyedObject(key, value);
         if (position <= this.data.size()) {
             this.data.add(position, item);
+            this.index.insert(position, key);
         }
         else {
             this.data.add(item);
+            this.index.add(key);
         }
     }
 
@@ -247,6 +253,7 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
      */
     public void removeValue(int index) {
         this.data.remove(index);
+        this.index.remove(index);
     }
 
     /**
@@ -275,6 +282,7 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
      */
     public void clear() {
         this.data.clear();
+        this.index.clear();
     }
 
     /**
@@ -295,6 +303,7 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
             KeyedObject ko = (KeyedObject) iterator.next();
             clone.data.add(ko.clone());
         }
+        clone.index = (KeyIndex) this.index.clone();
         return clone;
     }
 
@@ -353,4 +362,18 @@ public class KeyedObjects implements Cloneable, PublicCloneable, Serializable {
         return (this.data != null ? this.data.hashCode() : 0);
     }
 
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.index = new KeyIndex(getKeys());
+    }
+
 }
@@ -40,11 +40,15 @@
  * 03-Oct-2007 : Updated getObject() to handle modified behaviour in
  *               KeyedObjects class, added clear() method (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Look up row and column keys with a KeyIndex rather than a
+ *               linear search (G14);
  *
  */
 
 package org.jfree.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.Iterator;
@@ -69,6 +73,18 @@ public class KeyedObjects2D implements Cloneable, Serializable {
     /** The row data. */
     private List rows;
 
+    /**
+     * Maps each row key to its index (rebuilt from the keys when the object
+     * is deserialized).
+     */
+    private transient KeyIndex rowKeyIndex;
+
+    /**
+     * Maps each column key to its index (rebuilt from the keys when the
+     * object is deserialized).
+     */
+    private transient KeyIndex columnKeyIndex;
+
     /**
      * Creates a new instance (initially empty).
      */
@@ -76,6 +92,8 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         this.rowKeys = new java.util.ArrayList();
         this.columnKeys = new java.util.ArrayList();
         this.rows = new java.util.ArrayList();
+        this.rowKeyIndex = new KeyIndex();
+        this.columnKeyIndex = new KeyIndex();
     }
 
     /**
@@ -150,7 +168,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
      */
     public int getRowIndex(Comparable key) {
         ParamChecks.nullNotPermitted(key, "key");
-        return this.rowKeys.indexOf(key);
+        return this.rowKeyIndex.indexOf(key);
     }
 
     /**
@@ -189,7 +207,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
      */
     public int getColumnIndex(Comparable key) {
         ParamChecks.nullNotPermitted(key, "key");
-        return this.columnKeys.indexOf(key);
+        return this.columnKeyIndex.indexOf(key);
     }
 
     /**
@@ -219,12 +237,12 @@ public class KeyedObjects2D implements Cloneable, Serializable {
     public Object getObject(Comparable rowKey, Comparable columnKey) {
         ParamChecks.nullNotPermitted(rowKey, "rowKey");
         ParamChecks.nullNotPermitted(columnKey, "columnKey");
-        int row = this.rowKeys.indexOf(rowKey);
+        int row = this.rowKeyIndex.indexOf(rowKey);
         if (row < 0) {
             throw new UnknownKeyException("Row key (" + rowKey
                     + ") not recognised.");
         }
-        int column = this.columnKeys.indexOf(columnKey);
+        int column = this.columnKeyIndex.indexOf(columnKey);
         if (column < 0) {
             throw new UnknownKeyException("Column key (" + columnKey
                     + ") not recognised.");
@@ -263,19 +281,21 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         ParamChecks.nullNotPermitted(rowKey, "rowKey");
         ParamChecks.nullNotPermitted(columnKey, "columnKey");
         KeyedObjects row;
-        int rowIndex = this.rowKeys.indexOf(rowKey);
+        int rowIndex = this.rowKeyIndex.indexOf(rowKey);
         if (rowIndex >= 0) {
             row = (KeyedObjects) this.rows.get(rowIndex);
         }
         else {
             this.rowKeys.add(rowKey);
+            this.rowKeyIndex.add(rowKey);
             row = new KeyedObjects();
             this.rows.add(row);
         }
         row.setObject(columnKey, object);
-        int columnIndex = this.columnKeys.indexOf(columnKey);
+        int columnIndex = this.columnKeyIndex.indexOf(columnKey);
         if (columnIndex < 0) {
             this.columnKeys.add(columnKey);
+            this.columnKeyIndex.add(columnKey);
         }
     }
 
@@ -317,6 +337,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         if (allNull) {
             this.rowKeys.remove(rowIndex);
             this.rows.remove(rowIndex);
+            this.rowKeyIndex.remove(rowIndex);
         }
 
         // 2. check whether the column is now empty.
@@ -341,7 +362,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
                     row.removeValue(colIndex);
                 }
             }
-            this.columnKeys.remove(columnKey);
+            removeColumnKey(columnKey);
         }
     }
 
@@ -355,6 +376,7 @@ public class KeyedObjects2D implements Cloneable, Serializable {
     public void removeRow(int rowIndex) {
         this.rowKeys.remove(rowIndex);
         this.rows.remove(rowIndex);
+        this.rowKeyIndex.remove(rowIndex);
     }
 
     /**
@@ -410,7 +432,18 @@ public class KeyedObjects2D implements Cloneable, Serializable {
                 rowData.removeValue(i);
             }
         }
-        this.columnKeys.remove(columnKey);
+        removeColumnKey(columnKey);
+    }
+
+    /**
+     * Removes a column key from the list of column keys and the index.
+     *
+     * @param columnKey  the column key (must be in the list).
+     */
+    private void removeColumnKey(Comparable columnKey) {
+        int columnIndex = this.columnKeyIndex.indexOf(columnKey);
+        this.columnKeys.remove(columnIndex);
+        this.columnKeyIndex.remove(columnIndex);
     }
 
     /**
@@ -422,6 +455,8 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         this.rowKeys.clear();
         this.columnKeys.clear();
         this.rows.clear();
+        this.rowKeyIndex.clear();
+        this.columnKeyIndex.clear();
     }
 
     /**
@@ -501,6 +536,8 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         KeyedObjects2D clone = (KeyedObjects2D) super.clone();
         clone.columnKeys = new java.util.ArrayList(this.columnKeys);
         clone.rowKeys = new java.util.ArrayList(this.rowKeys);
+        clone.rowKeyIndex = (KeyIndex) this.rowKeyIndex.clone();
+        clone.columnKeyIndex = (KeyIndex) this.columnKeyIndex.clone();
         clone.rows = new java.util.ArrayList(this.rows.size());
         Iterator iterator = this.rows.iterator();
         while (iterator.hasNext()) {
@@ -510,4 +547,19 @@ public class KeyedObjects2D implements Cloneable, Serializable {
         return clone;
     }
 
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.rowKeyIndex = new KeyIndex(this.rowKeys);
+        this.columnKeyIndex = new KeyIndex(this.columnKeys);
+    }
+
 }
@@ -0,0 +1,732 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * SparseKeyedValues2D.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A {@link KeyedValues2D} implementation for tables where most cells are
+ * <code>null</code>.  Each row holds only its non-<code>null</code> values,
+ * in two arrays (column indices and values) sorted by column, so the memory
+ * used depends on the number of values rather than the number of cells.
+ * A value is found by a binary search within its row, and the
+ * {@link SparseValues2D} methods give direct access to the values in a row
+ * without visiting the empty cells.
+ * <P>
+ * Setting a value to <code>null</code> removes it from storage.  Otherwise
+ * the behaviour is the same as {@link DefaultKeyedValues2D} (with unsorted
+ * row keys).
+ *
+ * @since 1.0.20
+ */
+public class SparseKeyedValues2D implements KeyedValues2D, SparseValues2D,
+        PublicCloneable, Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2163582764925164417L;
+
+    /** The row keys. */
+    private List rowKeys;
+
+    /** The column keys. */
+    private List columnKeys;
+
+    /** The row data (one {@link SparseRow} for each row key). */
+    private List rows;
+
+    /** An index of the row keys (rebuilt after deserialization). */
+    private transient KeyIndex rowKeyIndex;
+
+    /** An index of the column keys (rebuilt after deserialization). */
+    private transient KeyIndex columnKeyIndex;
+
+    /**
+     * Creates a new instance (initially empty).
+     */
+    public SparseKeyedValues2D() {
+        this.rowKeys = new ArrayList();
+        this.columnKeys = new ArrayList();
+        this.rows = new ArrayList();
+        this.rowKeyIndex = new KeyIndex();
+        this.columnKeyIndex = new KeyIndex();
+    }
+
+    /**
+     * Returns the row count.
+     *
+     * @return The row count.
+     *
+     * @see #getColumnCount()
+     */
+    @Override
+    public int getRowCount() {
+        return this.rowKeys.size();
+    }
+
+    /**
+     * Returns the column count.
+     *
+     * @return The column count.
+     *
+     * @see #getRowCount()
+     */
+    @Override
+    public int getColumnCount() {
+        return this.columnKeys.size();
+    }
+
+    /**
+     * Returns the value for a given row and column.
+     *
+     * @param row  the row index.
+     * @param column  the column index.
+     *
+     * @return The value (possibly <code>null</code>).
+     *
+     * @throws IndexOutOfBoundsException if <code>row</code> or
+     *     <code>column</code> is out of bounds.
+     *
+     * @see #getValue(Comparable, Comparable)
+     */
+    @Override
+    public Number getValue(int row, int column) {
+        SparseRow rowData = (SparseRow) this.rows.get(row);
+        if (column < 0 || column >= this.columnKeys.size()) {
+            throw new IndexOutOfBoundsException("Column: " + column
+                    + ", Size: " + this.columnKeys.size());
+        }
+        int item = rowData.find(column);
+        return item >= 0 ? rowData.values[item] : null;
+    }
+
+    /**
+     * Returns the number of non-<code>null</code> values in a row.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The number of non-<code>null</code> values.
+     */
+    @Override
+    public int getNonNullCount(int row) {
+        return ((SparseRow) this.rows.get(row)).size;
+    }
+
+    /**
+     * Returns the column index for one of the non-<code>null</code> values
+     * in a row.
+     *
+     * @param row  the row index (zero-based).
+     * @param item  the item index.
+     *
+     * @return The column index.
+     */
+    @Override
+    public int getNonNullColumn(int row, int item) {
+        SparseRow rowData = (SparseRow) this.rows.get(row);
+        rowData.checkItem(item);
+        return rowData.columns[item];
+    }
+
+    /**
+     * Returns one of the non-<code>null</code> values in a row.
+     *
+     * @param row  the row index (zero-based).
+     * @param item  the item index.
+     *
+     * @return The value (never <code>null</code>).
+     */
+    @Override
+    public Number getNonNullValue(int row, int item) {
+        SparseRow rowData = (SparseRow) this.rows.get(row);
+        rowData.checkItem(item);
+        return rowData.values[item];
+    }
+
+    /**
+     * Returns the key for a given row.
+     *
+     * @param row  the row index (in the range 0 to {@link #getRowCount()} - 1).
+     *
+     * @return The row key.
+     *
+     * @see #getRowIndex(Comparable)
+     */
+    @Override
+    public Comparable getRowKey(int row) {
+        return (Comparable) this.rowKeys.get(row);
+    }
+
+    /**
+     * Returns the row index for a given key.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @return The row index, or <code>-1</code> if the key is unrecognised.
+     *
+     * @see #getRowKey(int)
+     */
+    @Override
+    public int getRowIndex(Comparable key) {
+        ParamChecks.nullNotPermitted(key, "key");
+        return this.rowKeyIndex.indexOf(key);
+    }
+
+    /**
+     * Returns the row keys in an unmodifiable list.
+     *
+     * @return The row keys.
+     *
+     * @see #getColumnKeys()
+     */
+    @Override
+    public List getRowKeys() {
+        return Collections.unmodifiableList(this.rowKeys);
+    }
+
+    /**
+     * Returns the key for a given column.
+     *
+     * @param column  the column (in the range 0 to {@link #getColumnCount()}
+     *     - 1).
+     *
+     * @return The key.
+     *
+     * @see #getColumnIndex(Comparable)
+     */
+    @Override
+    public Comparable getColumnKey(int column) {
+        return (Comparable) this.columnKeys.get(column);
+    }
+
+    /**
+     * Returns the column index for a given key.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @return The column index, or <code>-1</code> if the key is
+     *     unrecognised.
+     *
+     * @see #getColumnKey(int)
+     */
+    @Override
+    public int getColumnIndex(Comparable key) {
+        ParamChecks.nullNotPermitted(key, "key");
+        return this.columnKeyIndex.indexOf(key);
+    }
+
+    /**
+     * Returns the column keys in an unmodifiable list.
+     *
+     * @return The column keys.
+     *
+     * @see #getRowKeys()
+     */
+    @Override
+    public List getColumnKeys() {
+        return Collections.unmodifiableList(this.columnKeys);
+    }
+
+    /**
+     * Returns the value for the given row and column keys.  This method will
+     * throw an {@link UnknownKeyException} if either key is not defined in the
+     * data structure.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @return The value (possibly <code>null</code>).
+     *
+     * @see #addValue(Number, Comparable, Comparable)
+     * @see #removeValue(Comparable, Comparable)
+     */
+    @Override
+    public Number getValue(Comparable rowKey, Comparable columnKey) {
+        ParamChecks.nullNotPermitted(rowKey, "rowKey");
+        ParamChecks.nullNotPermitted(columnKey, "columnKey");
+        int column = this.columnKeyIndex.indexOf(columnKey);
+        if (column < 0) {
+            throw new UnknownKeyException("Unrecognised columnKey: "
+                    + columnKey);
+        }
+        int row = this.rowKeyIndex.indexOf(rowKey);
+        if (row < 0) {
+            throw new UnknownKeyException("Unrecognised rowKey: " + rowKey);
+        }
+        SparseRow rowData = (SparseRow) this.rows.get(row);
+        int item = rowData.find(column);
+        return item >= 0 ? rowData.values[item] : null;
+    }
+
+    /**
+     * Adds a value to the table.  Performs the same function as
+     * #setValue(Number, Comparable, Comparable).
+     *
+     * @param value  the value (<code>null</code> permitted).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @see #setValue(Number, Comparable, Comparable)
+     * @see #removeValue(Comparable, Comparable)
+     */
+    public void addValue(Number value, Comparable rowKey,
+                         Comparable columnKey) {
+        // defer argument checking
+        setValue(value, rowKey, columnKey);
+    }
+
+    /**
+     * Adds or updates a value.  The row and column keys are added if they
+     * are not already in the table, and a <code>null</code> value is not
+     * stored.
+     *
+     * @param value  the value (<code>null</code> permitted).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @see #addValue(Number, Comparable, Comparable)
+     * @see #removeValue(Comparable, Comparable)
+     */
+    public void setValue(Number value, Comparable rowKey,
+                         Comparable columnKey) {
+        ParamChecks.nullNotPermitted(rowKey, "rowKey");
+        ParamChecks.nullNotPermitted(columnKey, "columnKey");
+        SparseRow rowData;
+        int row = this.rowKeyIndex.indexOf(rowKey);
+        if (row >= 0) {
+            rowData = (SparseRow) this.rows.get(row);
+        }
+        else {
+            rowData = new SparseRow();
+            this.rowKeys.add(rowKey);
+            this.rows.add(rowData);
+            this.rowKeyIndex.add(rowKey);
+        }
+        int column = this.columnKeyIndex.indexOf(columnKey);
+        if (column < 0) {
+            column = this.columnKeys.size();
+            this.columnKeys.add(columnKey);
+            this.columnKeyIndex.add(columnKey);
+        }
+        rowData.set(column, value);
+    }
+
+    /**
+     * Removes a value from the table by setting it to <code>null</code>.  If
+     * all the values in the specified row and/or column are now
+     * <code>null</code>, the row and/or column is removed from the table.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @see #addValue(Number, Comparable, Comparable)
+     */
+    public void removeValue(Comparable rowKey, Comparable columnKey) {
+        ParamChecks.nullNotPermitted(rowKey, "rowKey");
+        ParamChecks.nullNotPermitted(columnKey, "columnKey");
+        // an unknown key would be added and then removed again, so only the
+        // known keys need to be checked
+        int row = this.rowKeyIndex.indexOf(rowKey);
+        int column = this.columnKeyIndex.indexOf(columnKey);
+        if (row >= 0) {
+            SparseRow rowData = (SparseRow) this.rows.get(row);
+            if (column >= 0) {
+                rowData.set(column, null);
+            }
+            if (rowData.size == 0) {
+                removeRow(row);
+            }
+        }
+        if (column < 0) {
+            return;
+        }
+        for (int r = 0; r < this.rows.size(); r++) {
+            if (((SparseRow) this.rows.get(r)).find(column) >= 0) {
+                return;
+            }
+        }
+        removeColumn(column);
+    }
+
+    /**
+     * Removes a row.
+     *
+     * @param rowIndex  the row index.
+     *
+     * @see #removeRow(Comparable)
+     * @see #removeColumn(int)
+     */
+    public void removeRow(int rowIndex) {
+        this.rows.remove(rowIndex);
+        this.rowKeys.remove(rowIndex);
+        this.rowKeyIndex.remove(rowIndex);
+    }
+
+    /**
+     * Removes a row.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if <code>rowKey</code> is not defined in the
+     *         table.
+     *
+     * @see #removeRow(int)
+     * @see #removeColumn(Comparable)
+     */
+    public void removeRow(Comparable rowKey) {
+        ParamChecks.nullNotPermitted(rowKey, "rowKey");
+        int index = getRowIndex(rowKey);
+        if (index >= 0) {
+            removeRow(index);
+        }
+        else {
+            throw new UnknownKeyException("Unknown key: " + rowKey);
+        }
+    }
+
+    /**
+     * Removes a column.
+     *
+     * @param columnIndex  the column index.
+     *
+     * @see #removeColumn(Comparable)
+     * @see #removeRow(int)
+     */
+    public void removeColumn(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= this.columnKeys.size()) {
+            throw new IndexOutOfBoundsException("Column: " + columnIndex
+                    + ", Size: " + this.columnKeys.size());
+        }
+        for (int r = 0; r < this.rows.size(); r++) {
+            ((SparseRow) this.rows.get(r)).removeColumn(columnIndex);
+        }
+        this.columnKeys.remove(columnIndex);
+        this.columnKeyIndex.remove(columnIndex);
+    }
+
+    /**
+     * Removes a column from the table.
+     *
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if the table does not contain a column with
+     *     the specified key.
+     * @throws IllegalArgumentException if <code>columnKey</code> is
+     *     <code>null</code>.
+     *
+     * @see #removeColumn(int)
+     * @see #removeRow(Comparable)
+     */
+    public void removeColumn(Comparable columnKey) {
+        ParamChecks.nullNotPermitted(columnKey, "columnKey");
+        int index = this.columnKeyIndex.indexOf(columnKey);
+        if (index < 0) {
+            throw new UnknownKeyException("Unknown key: " + columnKey);
+        }
+        removeColumn(index);
+    }
+
+    /**
+     * Clears all the data and associated keys.
+     */
+    public void clear() {
+        this.rowKeys.clear();
+        this.columnKeys.clear();
+        this.rows.clear();
+        this.rowKeyIndex.clear();
+        this.columnKeyIndex.clear();
+    }
+
+    /**
+     * Tests if this object is equal to another.  The other object can be any
+     * {@link KeyedValues2D} with the same keys and values.
+     *
+     * @param o  the other object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof KeyedValues2D)) {
+            return false;
+        }
+        KeyedValues2D kv2D = (KeyedValues2D) o;
+        if (!getRowKeys().equals(kv2D.getRowKeys())) {
+            return false;
+        }
+        if (!getColumnKeys().equals(kv2D.getColumnKeys())) {
+            return false;
+        }
+        int rowCount = getRowCount();
+        int colCount = getColumnCount();
+        for (int r = 0; r < rowCount; r++) {
+            SparseRow rowData = (SparseRow) this.rows.get(r);
+            int item = 0;
+            for (int c = 0; c < colCount; c++) {
+                Number v1 = null;
+                if (item < rowData.size && rowData.columns[item] == c) {
+                    v1 = rowData.values[item];
+                    item++;
+                }
+                Number v2 = kv2D.getValue(r, c);
+                if (v1 == null) {
+                    if (v2 != null) {
+                        return false;
+                    }
+                }
+                else if (!v1.equals(v2)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result;
+        result = this.rowKeys.hashCode();
+        result = 29 * result + this.columnKeys.hashCode();
+        for (int r = 0; r < this.rows.size(); r++) {
+            SparseRow rowData = (SparseRow) this.rows.get(r);
+            for (int i = 0; i < rowData.size; i++) {
+                result = 29 * result + rowData.columns[i];
+                result = 29 * result + rowData.values[i].hashCode();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a clone.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException  this class will not throw this
+     *         exception, but subclasses (if any) might.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        SparseKeyedValues2D clone = (SparseKeyedValues2D) super.clone();
+        // for the keys, a shallow copy should be fine because keys
+        // should be immutable...
+        clone.columnKeys = new ArrayList(this.columnKeys);
+        clone.rowKeys = new ArrayList(this.rowKeys);
+        clone.rowKeyIndex = (KeyIndex) this.rowKeyIndex.clone();
+        clone.columnKeyIndex = (KeyIndex) this.columnKeyIndex.clone();
+        clone.rows = new ArrayList(this.rows.size());
+        for (int r = 0; r < this.rows.size(); r++) {
+            clone.rows.add(((SparseRow) this.rows.get(r)).clone());
+        }
+        return clone;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.rowKeyIndex = new KeyIndex(this.rowKeys);
+        this.columnKeyIndex = new KeyIndex(this.columnKeys);
+    }
+
+    /**
+     * The non-<code>null</code> values in one row, sorted by column index.
+     */
+    private static class SparseRow implements Cloneable, Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 5284720934857266712L;
+
+        /** The column indices (in ascending order). */
+        private int[] columns;
+
+        /** The values (never <code>null</code>). */
+        private Number[] values;
+
+        /** The number of values in the row. */
+        private int size;
+
+        /**
+         * Creates a new empty row.
+         */
+        SparseRow() {
+            this.columns = new int[4];
+            this.values = new Number[4];
+        }
+
+        /**
+         * Returns the item index for a column, or a negative value
+         * (<code>-insertionPoint - 1</code>) if the row has no value for the
+         * column.
+         *
+         * @param column  the column index.
+         *
+         * @return The item index.
+         */
+        int find(int column) {
+            return Arrays.binarySearch(this.columns, 0, this.size, column);
+        }
+
+        /**
+         * Checks that an item index is valid.
+         *
+         * @param item  the item index.
+         */
+        void checkItem(int item) {
+            if (item < 0 || item >= this.size) {
+                throw new IndexOutOfBoundsException("Item: " + item
+                        + ", Size: " + this.size);
+            }
+        }
+
+        /**
+         * Sets the value for a column, removing the item if the value is
+         * <code>null</code>.
+         *
+         * @param column  the column index.
+         * @param value  the value (<code>null</code> permitted).
+         */
+        void set(int column, Number value) {
+            int item = find(column);
+            if (item >= 0) {
+                if (value != null) {
+                    this.values[item] = value;
+                }
+                else {
+                    remove(item);
+                }
+            }
+            else if (value != null) {
+                item = -item - 1;
+                if (this.size == this.columns.length) {
+                    int capacity = this.size + (this.size >> 1) + 1;
+                    int[] newColumns = new int[capacity];
+                    Number[] newValues = new Number[capacity];
+                    System.arraycopy(this.columns, 0, newColumns, 0,
+                            this.size);
+                    System.arraycopy(this.values, 0, newValues, 0, this.size);
+                    this.columns = newColumns;
+                    this.values = newValues;
+                }
+                System.arraycopy(this.columns, item, this.columns, item + 1,
+                        this.size - item);
+                System.arraycopy(this.values, item, this.values, item + 1,
+                        this.size - item);
+                this.columns[item] = column;
+                this.values[item] = value;
+                this.size++;
+            }
+        }
+
+        /**
+         * Removes the value (if any) for a column, and moves the values in
+         * the following columns down by one column.
+         *
+         * @param column  the column index.
+         */
+        void removeColumn(int column) {
+            int item = find(column);
+            if (item >= 0) {
+                remove(item);
+            }
+            else {
+                item = -item - 1;
+            }
+            for (int i = item; i < this.size; i++) {
+                this.columns[i]--;
+            }
+        }
+
+        /**
+         * Removes an item.
+         *
+         * @param item  the item index.
+         */
+        private void remove(int item) {
+            this.size--;
+            System.arraycopy(this.columns, item + 1, this.columns, item,
+                    this.size - item);
+            System.arraycopy(this.values, item + 1, this.values, item,
+                    this.size - item);
+            this.values[this.size] = null;
+        }
+
+        /**
+         * Returns a copy of the row.
+         *
+         * @return A copy.
+         *
+         * @throws CloneNotSupportedException  not thrown by this class.
+         */
+        @Override
+        public Object clone() throws CloneNotSupportedException {
+            SparseRow clone = (SparseRow) super.clone();
+            clone.columns = (int[]) this.columns.clone();
+            clone.values = (Number[]) this.values.clone();
+            return clone;
+        }
+
+    }
+
+}
@@ -0,0 +1,96 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * SparseValues2D.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data;
+
+/**
+ * An optional interface for a table of values where most of the cells are
+ * <code>null</code>.  It gives access to the non-<code>null</code> values
+ * in each row, so that code that would otherwise call
+ * {@link #getValue(int, int)} for every column (for example
+ * {@link DataUtilities#calculateRowTotal(Values2D, int)}) can skip the empty
+ * cells.
+ *
+ * @since 1.0.20
+ */
+public interface SparseValues2D extends Values2D {
+
+    /**
+     * Returns the number of non-<code>null</code> values in a row.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The number of non-<code>null</code> values.
+     *
+     * @throws IndexOutOfBoundsException if <code>row</code> is out of
+     *         bounds.
+     */
+    public int getNonNullCount(int row);
+
+    /**
+     * Returns the column index for one of the non-<code>null</code> values
+     * in a row.  The values are in ascending order of column index.
+     *
+     * @param row  the row index (zero-based).
+     * @param item  the item index (in the range <code>0</code> to
+     *     <code>getNonNullCount(row) - 1</code>).
+     *
+     * @return The column index.
+     *
+     * @throws IndexOutOfBoundsException if <code>row</code> or
+     *         <code>item</code> is out of bounds.
+     */
+    public int getNonNullColumn(int row, int item);
+
+    /**
+     * Returns one of the non-<code>null</code> values in a row.
+     *
+     * @param row  the row index (zero-based).
+     * @param item  the item index (in the range <code>0</code> to
+     *     <code>getNonNullCount(row) - 1</code>).
+     *
+     * @return The value (never <code>null</code>).
+     *
+     * @throws IndexOutOfBoundsException if <code>row</code> or
+     *         <code>item</code> is out of bounds.
+     */
+    public Number getNonNullValue(int row, int item);
+
+}
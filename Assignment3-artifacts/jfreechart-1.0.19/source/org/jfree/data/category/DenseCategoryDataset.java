@@ -0,0 +1,925 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * DenseCategoryDataset.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Restricted equals() to instances of this class, and check
+ *               the size of the data array (G14);
+ *
+ */
+
+package org.jfree.data.category;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.KeyIndex;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.AbstractDataset;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A {@link CategoryDataset} that stores its values in a single
+ * <code>double[]</code> array (one row after another) rather than a table
+ * of <code>Number</code> objects.  A dataset with 2,000 rows and 5,000
+ * columns needs around 80MB this way, and {@link #getDoubleValue(int, int)}
+ * reads a value without following any references or creating any objects.
+ * Rows and columns are located by key using the same {@link KeyIndex}
+ * structure as {@link org.jfree.data.DefaultKeyedValues2D}.
+ * <P>
+ * Missing values are stored as <code>Double.NaN</code>, so
+ * {@link #getValue(int, int)} returns <code>null</code> for a value that
+ * was set to <code>Double.NaN</code>, and a <code>null</code> value that is
+ * added to the dataset is returned as <code>Double.NaN</code> by
+ * {@link #getDoubleValue(int, int)}.  Values are returned as
+ * <code>Double</code> objects, whatever type of <code>Number</code> was
+ * added.
+ * <P>
+ * Apart from these points the dataset behaves in the same way as
+ * {@link DefaultCategoryDataset}.  The {@link #setRow(Comparable, double[])}
+ * and {@link #setColumn(Comparable, double[])} methods update a whole row
+ * or column with a single change event.
+ *
+ * @since 1.0.20
+ */
+public class DenseCategoryDataset extends AbstractDataset
+        implements CategoryDataset, RangeInfo, PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 7356391574617392836L;
+
+    /**
+     * The largest data array that is allocated (some virtual machines
+     * reserve header words in an array).
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /** The row keys. */
+    private List rowKeys;
+
+    /** The column keys. */
+    private List columnKeys;
+
+    /** An index of the row keys (rebuilt after deserialization). */
+    private transient KeyIndex rowKeyIndex;
+
+    /** An index of the column keys (rebuilt after deserialization). */
+    private transient KeyIndex columnKeyIndex;
+
+    /**
+     * The values, stored row by row with <code>columnCapacity</code> values
+     * per row.  Every value outside the current rows and columns is
+     * <code>Double.NaN</code>.
+     */
+    private double[] data;
+
+    /** The number of rows that there is space for in the data array. */
+    private int rowCapacity;
+
+    /** The number of values per row in the data array. */
+    private int columnCapacity;
+
+    /**
+     * Creates a new (empty) dataset.
+     */
+    public DenseCategoryDataset() {
+        this(0, 0);
+    }
+
+    /**
+     * Creates a new (empty) dataset with space for the specified number of
+     * rows and columns.  The dataset will grow as required, but specifying
+     * the expected size in advance avoids copying the data as it grows.
+     *
+     * @param rowCapacity  the initial row capacity (zero or more).
+     * @param columnCapacity  the initial column capacity (zero or more, and
+     *     the product of the two capacities must fit in an array).
+     */
+    public DenseCategoryDataset(int rowCapacity, int columnCapacity) {
+        if (rowCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'rowCapacity' >= 0.");
+        }
+        if (columnCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'columnCapacity' >= 0.");
+        }
+        this.rowKeys = new ArrayList();
+        this.columnKeys = new ArrayList();
+        this.rowKeyIndex = new KeyIndex();
+        this.columnKeyIndex = new KeyIndex();
+        this.rowCapacity = rowCapacity;
+        this.columnCapacity = columnCapacity;
+        this.data = new double[arraySize(rowCapacity, columnCapacity)];
+        Arrays.fill(this.data, Double.NaN);
+    }
+
+    /**
+     * Returns the number of rows in the table.
+     *
+     * @return The row count.
+     *
+     * @see #getColumnCount()
+     */
+    @Override
+    public int getRowCount() {
+        return this.rowKeys.size();
+    }
+
+    /**
+     * Returns the number of columns in the table.
+     *
+     * @return The column count.
+     *
+     * @see #getRowCount()
+     */
+    @Override
+    public int getColumnCount() {
+        return this.columnKeys.size();
+    }
+
+    /**
+     * Returns the value for a pair of keys, as a primitive.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (<code>Double.NaN</code> for a missing value).
+     *
+     * @throws IndexOutOfBoundsException if <code>row</code> or
+     *     <code>column</code> is out of bounds.
+     *
+     * @see #getValue(int, int)
+     */
+    public double getDoubleValue(int row, int column) {
+        return this.data[offset(row, column)];
+    }
+
+    /**
+     * Returns a value from the table.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (possibly <code>null</code>).
+     *
+     * @throws IndexOutOfBoundsException if <code>row</code> or
+     *     <code>column</code> is out of bounds.
+     *
+     * @see #getDoubleValue(int, int)
+     */
+    @Override
+    public Number getValue(int row, int column) {
+        double value = this.data[offset(row, column)];
+        return Double.isNaN(value) ? null : new Double(value);
+    }
+
+    /**
+     * Returns the key for the specified row.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The row key.
+     *
+     * @see #getRowIndex(Comparable)
+     */
+    @Override
+    public Comparable getRowKey(int row) {
+        return (Comparable) this.rowKeys.get(row);
+    }
+
+    /**
+     * Returns the row index for a given key.
+     *
+     * @param key  the row key (<code>null</code> not permitted).
+     *
+     * @return The row index, or <code>-1</code> if the key is unrecognised.
+     *
+     * @see #getRowKey(int)
+     */
+    @Override
+    public int getRowIndex(Comparable key) {
+        ParamChecks.nullNotPermitted(key, "key");
+        return this.rowKeyIndex.indexOf(key);
+    }
+
+    /**
+     * Returns the row keys.
+     *
+     * @return The keys (an unmodifiable list).
+     *
+     * @see #getRowKey(int)
+     */
+    @Override
+    public List getRowKeys() {
+        return Collections.unmodifiableList(this.rowKeys);
+    }
+
+    /**
+     * Returns a column key.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The column key.
+     *
+     * @see #getColumnIndex(Comparable)
+     */
+    @Override
+    public Comparable getColumnKey(int column) {
+        return (Comparable) this.columnKeys.get(column);
+    }
+
+    /**
+     * Returns the column index for a given key.
+     *
+     * @param key  the column key (<code>null</code> not permitted).
+     *
+     * @return The column index, or <code>-1</code> if the key is
+     *     unrecognised.
+     *
+     * @see #getColumnKey(int)
+     */
+    @Override
+    public int getColumnIndex(Comparable key) {
+        ParamChecks.nullNotPermitted(key, "key");
+        return this.columnKeyIndex.indexOf(key);
+    }
+
+    /**
+     * Returns the column keys.
+     *
+     * @return The keys (an unmodifiable list).
+     *
+     * @see #getColumnKey(int)
+     */
+    @Override
+    public List getColumnKeys() {
+        return Collections.unmodifiableList(this.columnKeys);
+    }
+
+    /**
+     * Returns the value for a pair of keys.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @return The value (possibly <code>null</code>).
+     *
+     * @throws UnknownKeyException if either key is not defined in the
+     *         dataset.
+     */
+    @Override
+    public Number getValue(Comparable rowKey, Comparable columnKey) {
+        ParamChecks.nullNotPermitted(rowKey, "rowKey");
+        ParamChecks.nullNotPermitted(columnKey, "columnKey");
+        int column = this.columnKeyIndex.indexOf(columnKey);
+        if (column < 0) {
+            throw new UnknownKeyException("Unrecognised columnKey: "
+                    + columnKey);
+        }
+        int row = this.rowKeyIndex.indexOf(rowKey);
+        if (row < 0) {
+            throw new UnknownKeyException("Unrecognised rowKey: " + rowKey);
+        }
+        return getValue(row, column);
+    }
+
+    /**
+     * Adds a value to the table.  Performs the same function as
+     * {@link #setValue(Number, Comparable, Comparable)}.
+     *
+     * @param value  the value (<code>null</code> permitted).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @see #getValue(Comparable, Comparable)
+     * @see #removeValue(Comparable, Comparable)
+     */
+    public void addValue(Number value, Comparable rowKey,
+                         Comparable columnKey) {
+        setValue(value, rowKey, columnKey);
+    }
+
+    /**
+     * Adds a value to the table.
+     *
+     * @param value  the value.
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @see #getValue(Comparable, Comparable)
+     */
+    public void addValue(double value, Comparable rowKey,
+                         Comparable columnKey) {
+        setValue(value, rowKey, columnKey);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param value  the value (<code>null</code> permitted).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @see #getValue(Comparable, Comparable)
+     */
+    public void setValue(Number value, Comparable rowKey,
+                         Comparable columnKey) {
+        setValue(value != null ? value.doubleValue() : Double.NaN, rowKey,
+                columnKey);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param value  the value (<code>Double.NaN</code> for a missing value).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @see #getValue(Comparable, Comparable)
+     */
+    public void setValue(double value, Comparable rowKey,
+                         Comparable columnKey) {
+        ParamChecks.nullNotPermitted(rowKey, "rowKey");
+        ParamChecks.nullNotPermitted(columnKey, "columnKey");
+        int row = addRowKey(rowKey);
+        int column = addColumnKey(columnKey);
+        this.data[row * this.columnCapacity + column] = value;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds the specified value to an existing value in the dataset (if the
+     * existing value is <code>null</code>, it is treated as if it were 0.0).
+     *
+     * @param value  the value.
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if either key is not defined in the
+     *         dataset.
+     */
+    public void incrementValue(double value, Comparable rowKey,
+                               Comparable columnKey) {
+        double existing = 0.0;
+        Number n = getValue(rowKey, columnKey);
+        if (n != null) {
+            existing = n.doubleValue();
+        }
+        setValue(existing + value, rowKey, columnKey);
+    }
+
+    /**
+     * Sets all the values in one row of the dataset (adding the row if
+     * there is no row with the specified key) and sends a single
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param values  the values, one for each column in the order of the
+     *     column keys (<code>null</code> not permitted).  Use
+     *     <code>Double.NaN</code> for missing values.
+     *
+     * @throws IllegalArgumentException if the length of <code>values</code>
+     *     is not equal to the column count.
+     *
+     * @see #setColumn(Comparable, double[])
+     */
+    public void setRow(Comparable rowKey, double[] values) {
+        ParamChecks.nullNotPermitted(rowKey, "rowKey");
+        ParamChecks.nullNotPermitted(values, "values");
+        int columnCount = this.columnKeys.size();
+        if (values.length != columnCount) {
+            throw new IllegalArgumentException("The 'values' array has "
+                    + values.length + " items, but the dataset has "
+                    + columnCount + " columns.");
+        }
+        int row = addRowKey(rowKey);
+        System.arraycopy(values, 0, this.data, row * this.columnCapacity,
+                columnCount);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Sets all the values in one column of the dataset (adding the column if
+     * there is no column with the specified key) and sends a single
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     * @param values  the values, one for each row in the order of the row
+     *     keys (<code>null</code> not permitted).  Use
+     *     <code>Double.NaN</code> for missing values.
+     *
+     * @throws IllegalArgumentException if the length of <code>values</code>
+     *     is not equal to the row count.
+     *
+     * @see #setRow(Comparable, double[])
+     */
+    public void setColumn(Comparable columnKey, double[] values) {
+        ParamChecks.nullNotPermitted(columnKey, "columnKey");
+        ParamChecks.nullNotPermitted(values, "values");
+        int rowCount = this.rowKeys.size();
+        if (values.length != rowCount) {
+            throw new IllegalArgumentException("The 'values' array has "
+                    + values.length + " items, but the dataset has "
+                    + rowCount + " rows.");
+        }
+        int column = addColumnKey(columnKey);
+        for (int r = 0; r < rowCount; r++) {
+            this.data[r * this.columnCapacity + column] = values[r];
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a value from the dataset by setting it to <code>null</code>
+     * and then removing the row and/or column if they contain no other
+     * values, and sends a {@link org.jfree.data.general.DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @see #addValue(Number, Comparable, Comparable)
+     */
+    public void removeValue(Comparable rowKey, Comparable columnKey) {
+        ParamChecks.nullNotPermitted(rowKey, "rowKey");
+        ParamChecks.nullNotPermitted(columnKey, "columnKey");
+        // an unknown key would be added and then removed again, so only the
+        // known keys need to be checked
+        int row = this.rowKeyIndex.indexOf(rowKey);
+        int column = this.columnKeyIndex.indexOf(columnKey);
+        int stride = this.columnCapacity;
+        if (row >= 0) {
+            if (column >= 0) {
+                this.data[row * stride + column] = Double.NaN;
+            }
+            int columnCount = this.columnKeys.size();
+            boolean allNull = true;
+            for (int c = 0; c < columnCount && allNull; c++) {
+                allNull = Double.isNaN(this.data[row * stride + c]);
+            }
+            if (allNull) {
+                deleteRow(row);
+            }
+        }
+        if (column >= 0) {
+            int rowCount = this.rowKeys.size();
+            boolean allNull = true;
+            for (int r = 0; r < rowCount && allNull; r++) {
+                allNull = Double.isNaN(this.data[r * stride + column]);
+            }
+            if (allNull) {
+                deleteColumn(column);
+            }
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a row from the dataset and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param rowIndex  the row index.
+     *
+     * @see #removeColumn(int)
+     */
+    public void removeRow(int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= this.rowKeys.size()) {
+            throw new IndexOutOfBoundsException("Row: " + rowIndex
+                    + ", Size: " + this.rowKeys.size());
+        }
+        deleteRow(rowIndex);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a row from the dataset and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     *
+     * @see #removeColumn(Comparable)
+     *
+     * @throws UnknownKeyException if <code>rowKey</code> is not defined in
+     *     the dataset.
+     */
+    public void removeRow(Comparable rowKey) {
+        ParamChecks.nullNotPermitted(rowKey, "rowKey");
+        int index = this.rowKeyIndex.indexOf(rowKey);
+        if (index < 0) {
+            throw new UnknownKeyException("Unknown key: " + rowKey);
+        }
+        removeRow(index);
+    }
+
+    /**
+     * Removes a column from the dataset and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param columnIndex  the column index.
+     *
+     * @see #removeRow(int)
+     */
+    public void removeColumn(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= this.columnKeys.size()) {
+            throw new IndexOutOfBoundsException("Column: " + columnIndex
+                    + ", Size: " + this.columnKeys.size());
+        }
+        deleteColumn(columnIndex);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a column from the dataset and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @see #removeRow(Comparable)
+     *
+     * @throws UnknownKeyException if <code>columnKey</code> is not defined
+     *     in the dataset.
+     */
+    public void removeColumn(Comparable columnKey) {
+        ParamChecks.nullNotPermitted(columnKey, "columnKey");
+        int index = this.columnKeyIndex.indexOf(columnKey);
+        if (index < 0) {
+            throw new UnknownKeyException("Unknown key: " + columnKey);
+        }
+        removeColumn(index);
+    }
+
+    /**
+     * Clears all data from the dataset and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     */
+    public void clear() {
+        this.rowKeys.clear();
+        this.columnKeys.clear();
+        this.rowKeyIndex.clear();
+        this.columnKeyIndex.clear();
+        this.data = new double[0];
+        this.rowCapacity = 0;
+        this.columnCapacity = 0;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the minimum value in the dataset.
+     *
+     * @param includeInterval  ignored, since this dataset has no intervals.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there are no
+     *     values).
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum value in the dataset.
+     *
+     * @param includeInterval  ignored, since this dataset has no intervals.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there are no
+     *     values).
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the values in the dataset.  This scans the data
+     * array directly, so no <code>Number</code> objects are created.
+     *
+     * @param includeInterval  ignored, since this dataset has no intervals.
+     *
+     * @return The range (<code>null</code> if the dataset contains no
+     *     values).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        int rowCount = this.rowKeys.size();
+        int columnCount = this.columnKeys.size();
+        for (int r = 0; r < rowCount; r++) {
+            int start = r * this.columnCapacity;
+            for (int i = start; i < start + columnCount; i++) {
+                double v = this.data[i];
+                if (!Double.isNaN(v)) {
+                    minimum = Math.min(minimum, v);
+                    maximum = Math.max(maximum, v);
+                }
+            }
+        }
+        if (minimum == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        return new Range(minimum, maximum);
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.  The object
+     * must be a <code>DenseCategoryDataset</code> with the same keys and
+     * values (the capacities are not compared).
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof DenseCategoryDataset)) {
+            return false;
+        }
+        DenseCategoryDataset that = (DenseCategoryDataset) obj;
+        if (!this.rowKeys.equals(that.rowKeys)) {
+            return false;
+        }
+        if (!this.columnKeys.equals(that.columnKeys)) {
+            return false;
+        }
+        int rowCount = this.rowKeys.size();
+        int colCount = this.columnKeys.size();
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < colCount; c++) {
+                double v1 = this.data[r * this.columnCapacity + c];
+                double v2 = that.data[r * that.columnCapacity + c];
+                if (Double.doubleToLongBits(v1)
+                        != Double.doubleToLongBits(v2)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for the dataset.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = this.rowKeys.hashCode();
+        result = 29 * result + this.columnKeys.hashCode();
+        int rowCount = this.rowKeys.size();
+        int columnCount = this.columnKeys.size();
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < columnCount; c++) {
+                double v = this.data[r * this.columnCapacity + c];
+                long bits = Double.isNaN(v) ? 0L : Double.doubleToLongBits(v);
+                result = 29 * result + (int) (bits ^ (bits >>> 32));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a clone of the dataset.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning the
+     *         dataset.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        DenseCategoryDataset clone = (DenseCategoryDataset) super.clone();
+        clone.rowKeys = new ArrayList(this.rowKeys);
+        clone.columnKeys = new ArrayList(this.columnKeys);
+        clone.rowKeyIndex = (KeyIndex) this.rowKeyIndex.clone();
+        clone.columnKeyIndex = (KeyIndex) this.columnKeyIndex.clone();
+        clone.data = (double[]) this.data.clone();
+        return clone;
+    }
+
+    /**
+     * Returns the position of a value in the data array, after checking the
+     * row and column indices.
+     *
+     * @param row  the row index.
+     * @param column  the column index.
+     *
+     * @return The position in the data array.
+     */
+    private int offset(int row, int column) {
+        if (row < 0 || row >= this.rowKeys.size()) {
+            throw new IndexOutOfBoundsException("Row: " + row + ", Size: "
+                    + this.rowKeys.size());
+        }
+        if (column < 0 || column >= this.columnKeys.size()) {
+            throw new IndexOutOfBoundsException("Column: " + column
+                    + ", Size: " + this.columnKeys.size());
+        }
+        return row * this.columnCapacity + column;
+    }
+
+    /**
+     * Returns the index of a row key, adding the key (and making space for
+     * the new row) if it is not already in the dataset.
+     *
+     * @param rowKey  the row key.
+     *
+     * @return The row index.
+     */
+    private int addRowKey(Comparable rowKey) {
+        int row = this.rowKeyIndex.indexOf(rowKey);
+        if (row < 0) {
+            row = this.rowKeys.size();
+            ensureCapacity(row + 1, this.columnKeys.size());
+            this.rowKeys.add(rowKey);
+            this.rowKeyIndex.add(rowKey);
+        }
+        return row;
+    }
+
+    /**
+     * Returns the index of a column key, adding the key (and making space for
+     * the new column) if it is not already in the dataset.
+     *
+     * @param columnKey  the column key.
+     *
+     * @return The column index.
+     */
+    private int addColumnKey(Comparable columnKey) {
+        int column = this.columnKeyIndex.indexOf(columnKey);
+        if (column < 0) {
+            column = this.columnKeys.size();
+            ensureCapacity(this.rowKeys.size(), column + 1);
+            this.columnKeys.add(columnKey);
+            this.columnKeyIndex.add(columnKey);
+        }
+        return column;
+    }
+
+    /**
+     * Returns the size of the data array for a number of rows and columns.
+     *
+     * @param rows  the number of rows.
+     * @param columns  the number of columns.
+     *
+     * @return The array size.
+     *
+     * @throws IllegalArgumentException if the array would be too large.
+     */
+    private static int arraySize(int rows, int columns) {
+        long size = (long) rows * columns;
+        if (size > MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException("A table with " + rows
+                    + " rows and " + columns + " columns is too large.");
+        }
+        return (int) size;
+    }
+
+    /**
+     * Grows the data array, if necessary, so that it has space for the
+     * specified number of rows and columns.  The capacity grows by half each
+     * time, in the same way as an <code>ArrayList</code>.
+     *
+     * @param rows  the required number of rows.
+     * @param columns  the required number of columns.
+     */
+    private void ensureCapacity(int rows, int columns) {
+        if (rows <= this.rowCapacity && columns <= this.columnCapacity) {
+            return;
+        }
+        int newRowCapacity = this.rowCapacity;
+        if (rows > newRowCapacity) {
+            newRowCapacity = Math.max(rows, newRowCapacity
+                    + (newRowCapacity >> 1));
+        }
+        int newColumnCapacity = this.columnCapacity;
+        if (columns > newColumnCapacity) {
+            newColumnCapacity = Math.max(columns, newColumnCapacity
+                    + (newColumnCapacity >> 1));
+        }
+        if ((long) newRowCapacity * newColumnCapacity > MAX_ARRAY_SIZE) {
+            // no room to grow ahead, so grow to the required size only
+            newRowCapacity = Math.max(rows, this.rowCapacity);
+            newColumnCapacity = Math.max(columns, this.columnCapacity);
+        }
+        double[] newData = new double[arraySize(newRowCapacity,
+                newColumnCapacity)];
+        Arrays.fill(newData, Double.NaN);
+        int rowCount = this.rowKeys.size();
+        int columnCount = this.columnKeys.size();
+        for (int r = 0; r < rowCount; r++) {
+            System.arraycopy(this.data, r * this.columnCapacity, newData,
+                    r * newColumnCapacity, columnCount);
+        }
+        this.data = newData;
+        this.rowCapacity = newRowCapacity;
+        this.columnCapacity = newColumnCapacity;
+    }
+
+    /**
+     * Removes a row without sending a change event.
+     *
+     * @param row  the row index (must be valid).
+     */
+    private void deleteRow(int row) {
+        int rowCount = this.rowKeys.size();
+        int stride = this.columnCapacity;
+        System.arraycopy(this.data, (row + 1) * stride, this.data,
+                row * stride, (rowCount - row - 1) * stride);
+        Arrays.fill(this.data, (rowCount - 1) * stride, rowCount * stride,
+                Double.NaN);
+        this.rowKeys.remove(row);
+        this.rowKeyIndex.remove(row);
+    }
+
+    /**
+     * Removes a column without sending a change event.
+     *
+     * @param column  the column index (must be valid).
+     */
+    private void deleteColumn(int column) {
+        int rowCount = this.rowKeys.size();
+        int columnCount = this.columnKeys.size();
+        int stride = this.columnCapacity;
+        for (int r = 0; r < rowCount; r++) {
+            int start = r * stride;
+            System.arraycopy(this.data, start + column + 1, this.data,
+                    start + column, columnCount - column - 1);
+            this.data[start + columnCount - 1] = Double.NaN;
+        }
+        this.columnKeys.remove(column);
+        this.columnKeyIndex.remove(column);
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.rowKeyIndex = new KeyIndex(this.rowKeys);
+        this.columnKeyIndex = new KeyIndex(this.columnKeys);
+    }
+
+}
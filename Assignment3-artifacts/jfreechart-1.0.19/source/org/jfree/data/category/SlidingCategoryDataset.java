@@ -36,6 +36,8 @@
  * -------
  * 08-May-2008 : Version 1 (DG);
  * 15-Mar-2009 : Fixed bug in getColumnKeys() method (DG);
+ * 18-Oct-2026 : Include the underlying dataset in getVersion() (G14);
+ * 18-Oct-2026 : Added serialVersionUID (G14);
  *
  */
 
@@ -60,6 +62,12 @@ import org.jfree.util.PublicCloneable;
 public class SlidingCategoryDataset extends AbstractDataset
         implements CategoryDataset {
 
+    /**
+     * For serialization (the value computed for this class before
+     * getVersion() was overridden).
+     */
+    private static final long serialVersionUID = 3282131296689553558L;
+
     /** The underlying dataset. */
     private CategoryDataset underlying;
 
@@ -94,6 +102,24 @@ public class SlidingCategoryDataset extends AbstractDataset
         return this.underlying;
     }
 
+    /**
+     * Returns the version of the dataset.  This dataset is not notified of
+     * changes to the underlying dataset, so the version also increases when
+     * the underlying dataset changes (if it has a version).
+     *
+     * @return The version.
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public long getVersion() {
+        long version = super.getVersion();
+        if (this.underlying instanceof AbstractDataset) {
+            version += ((AbstractDataset) this.underlying).getVersion();
+        }
+        return version;
+    }
+
     /**
      * Returns the index of the first visible category.
      *
@@ -0,0 +1,493 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * SparseCategoryDataset.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.category;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.jfree.data.SparseKeyedValues2D;
+import org.jfree.data.SparseValues2D;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.AbstractDataset;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A {@link CategoryDataset} for data where most of the values are
+ * <code>null</code>.  The data is stored in a {@link SparseKeyedValues2D},
+ * so the memory used depends on the number of non-<code>null</code> values
+ * rather than the number of rows times the number of columns, and the
+ * {@link SparseValues2D} methods allow the values in a row to be visited
+ * without looking at the empty cells.  In all other respects the dataset
+ * behaves in the same way as {@link DefaultCategoryDataset}.
+ *
+ * @since 1.0.20
+ */
+public class SparseCategoryDataset extends AbstractDataset
+        implements CategoryDataset, SparseValues2D, PublicCloneable,
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4412930618245790165L;
+
+    /** A storage structure for the data. */
+    private SparseKeyedValues2D data;
+
+    /**
+     * Creates a new (empty) dataset.
+     */
+    public SparseCategoryDataset() {
+        this.data = new SparseKeyedValues2D();
+    }
+
+    /**
+     * Returns the number of rows in the table.
+     *
+     * @return The row count.
+     *
+     * @see #getColumnCount()
+     */
+    @Override
+    public int getRowCount() {
+        return this.data.getRowCount();
+    }
+
+    /**
+     * Returns the number of columns in the table.
+     *
+     * @return The column count.
+     *
+     * @see #getRowCount()
+     */
+    @Override
+    public int getColumnCount() {
+        return this.data.getColumnCount();
+    }
+
+    /**
+     * Returns a value from the table.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (possibly <code>null</code>).
+     *
+     * @see #addValue(Number, Comparable, Comparable)
+     * @see #removeValue(Comparable, Comparable)
+     */
+    @Override
+    public Number getValue(int row, int column) {
+        return this.data.getValue(row, column);
+    }
+
+    /**
+     * Returns the number of non-<code>null</code> values in a row.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The number of non-<code>null</code> values.
+     *
+     * @see #getNonNullColumn(int, int)
+     */
+    @Override
+    public int getNonNullCount(int row) {
+        return this.data.getNonNullCount(row);
+    }
+
+    /**
+     * Returns the column index for one of the non-<code>null</code> values
+     * in a row.
+     *
+     * @param row  the row index (zero-based).
+     * @param item  the item index.
+     *
+     * @return The column index.
+     *
+     * @see #getNonNullValue(int, int)
+     */
+    @Override
+    public int getNonNullColumn(int row, int item) {
+        return this.data.getNonNullColumn(row, item);
+    }
+
+    /**
+     * Returns one of the non-<code>null</code> values in a row.
+     *
+     * @param row  the row index (zero-based).
+     * @param item  the item index.
+     *
+     * @return The value (never <code>null</code>).
+     *
+     * @see #getNonNullColumn(int, int)
+     */
+    @Override
+    public Number getNonNullValue(int row, int item) {
+        return this.data.getNonNullValue(row, item);
+    }
+
+    /**
+     * Returns the key for the specified row.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The row key.
+     *
+     * @see #getRowIndex(Comparable)
+     * @see #getRowKeys()
+     * @see #getColumnKey(int)
+     */
+    @Override
+    public Comparable getRowKey(int row) {
+        return this.data.getRowKey(row);
+    }
+
+    /**
+     * Returns the row index for a given key.
+     *
+     * @param key  the row key (<code>null</code> not permitted).
+     *
+     * @return The row index.
+     *
+     * @see #getRowKey(int)
+     */
+    @Override
+    public int getRowIndex(Comparable key) {
+        // defer null argument check
+        return this.data.getRowIndex(key);
+    }
+
+    /**
+     * Returns the row keys.
+     *
+     * @return The keys.
+     *
+     * @see #getRowKey(int)
+     */
+    @Override
+    public List getRowKeys() {
+        return this.data.getRowKeys();
+    }
+
+    /**
+     * Returns a column key.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The column key.
+     *
+     * @see #getColumnIndex(Comparable)
+     */
+    @Override
+    public Comparable getColumnKey(int column) {
+        return this.data.getColumnKey(column);
+    }
+
+    /**
+     * Returns the column index for a given key.
+     *
+     * @param key  the column key (<code>null</code> not permitted).
+     *
+     * @return The column index.
+     *
+     * @see #getColumnKey(int)
+     */
+    @Override
+    public int getColumnIndex(Comparable key) {
+        // defer null argument check
+        return this.data.getColumnIndex(key);
+    }
+
+    /**
+     * Returns the column keys.
+     *
+     * @return The keys.
+     *
+     * @see #getColumnKey(int)
+     */
+    @Override
+    public List getColumnKeys() {
+        return this.data.getColumnKeys();
+    }
+
+    /**
+     * Returns the value for a pair of keys.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @return The value (possibly <code>null</code>).
+     *
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     *
+     * @see #addValue(Number, Comparable, Comparable)
+     */
+    @Override
+    public Number getValue(Comparable rowKey, Comparable columnKey) {
+        return this.data.getValue(rowKey, columnKey);
+    }
+
+    /**
+     * Adds a value to the table.  Performs the same function as setValue().
+     *
+     * @param value  the value.
+     * @param rowKey  the row key.
+     * @param columnKey  the column key.
+     *
+     * @see #getValue(Comparable, Comparable)
+     * @see #removeValue(Comparable, Comparable)
+     */
+    public void addValue(Number value, Comparable rowKey,
+                         Comparable columnKey) {
+        this.data.addValue(value, rowKey, columnKey);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds a value to the table.
+     *
+     * @param value  the value.
+     * @param rowKey  the row key.
+     * @param columnKey  the column key.
+     *
+     * @see #getValue(Comparable, Comparable)
+     */
+    public void addValue(double value, Comparable rowKey,
+                         Comparable columnKey) {
+        addValue(new Double(value), rowKey, columnKey);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param value  the value (<code>null</code> permitted).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @see #getValue(Comparable, Comparable)
+     */
+    public void setValue(Number value, Comparable rowKey,
+                         Comparable columnKey) {
+        this.data.setValue(value, rowKey, columnKey);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param value  the value.
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @see #getValue(Comparable, Comparable)
+     */
+    public void setValue(double value, Comparable rowKey,
+                         Comparable columnKey) {
+        setValue(new Double(value), rowKey, columnKey);
+    }
+
+    /**
+     * Adds the specified value to an existing value in the dataset (if the
+     * existing value is <code>null</code>, it is treated as if it were 0.0).
+     *
+     * @param value  the value.
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    public void incrementValue(double value,
+                               Comparable rowKey,
+                               Comparable columnKey) {
+        double existing = 0.0;
+        Number n = getValue(rowKey, columnKey);
+        if (n != null) {
+            existing = n.doubleValue();
+        }
+        setValue(existing + value, rowKey, columnKey);
+    }
+
+    /**
+     * Removes a value from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param rowKey  the row key.
+     * @param columnKey  the column key.
+     *
+     * @see #addValue(Number, Comparable, Comparable)
+     */
+    public void removeValue(Comparable rowKey, Comparable columnKey) {
+        this.data.removeValue(rowKey, columnKey);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a row from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param rowIndex  the row index.
+     *
+     * @see #removeColumn(int)
+     */
+    public void removeRow(int rowIndex) {
+        this.data.removeRow(rowIndex);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a row from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param rowKey  the row key.
+     *
+     * @see #removeColumn(Comparable)
+     */
+    public void removeRow(Comparable rowKey) {
+        this.data.removeRow(rowKey);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a column from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param columnIndex  the column index.
+     *
+     * @see #removeRow(int)
+     */
+    public void removeColumn(int columnIndex) {
+        this.data.removeColumn(columnIndex);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a column from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @see #removeRow(Comparable)
+     *
+     * @throws UnknownKeyException if <code>columnKey</code> is not defined
+     *         in the dataset.
+     */
+    public void removeColumn(Comparable columnKey) {
+        this.data.removeColumn(columnKey);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Clears all data from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     */
+    public void clear() {
+        this.data.clear();
+        fireDatasetChanged();
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof CategoryDataset)) {
+            return false;
+        }
+        CategoryDataset that = (CategoryDataset) obj;
+        if (!getRowKeys().equals(that.getRowKeys())) {
+            return false;
+        }
+        if (!getColumnKeys().equals(that.getColumnKeys())) {
+            return false;
+        }
+        int rowCount = getRowCount();
+        int colCount = getColumnCount();
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < colCount; c++) {
+                Number v1 = getValue(r, c);
+                Number v2 = that.getValue(r, c);
+                if (v1 == null) {
+                    if (v2 != null) {
+                        return false;
+                    }
+                }
+                else if (!v1.equals(v2)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for the dataset.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return this.data.hashCode();
+    }
+
+    /**
+     * Returns a clone of the dataset.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning the
+     *         dataset.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        SparseCategoryDataset clone = (SparseCategoryDataset) super.clone();
+        clone.data = (SparseKeyedValues2D) this.data.clone();
+        return clone;
+    }
+
+}
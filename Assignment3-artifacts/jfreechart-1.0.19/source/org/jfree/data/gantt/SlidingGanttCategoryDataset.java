@@ -35,6 +35,8 @@
  * Changes
  * -------
  * 09-May-2008 : Version 1 (DG);
+ * 18-Oct-2026 : Include the underlying dataset in getVersion() (G14);
+ * 18-Oct-2026 : Added serialVersionUID (G14);
  *
  */
 
@@ -59,6 +61,12 @@ import org.jfree.util.PublicCloneable;
 public class SlidingGanttCategoryDataset extends AbstractDataset
         implements GanttCategoryDataset {
 
+    /**
+     * For serialization (the value computed for this class before
+     * getVersion() was overridden).
+     */
+    private static final long serialVersionUID = -6886626539532629787L;
+
     /** The underlying dataset. */
     private GanttCategoryDataset underlying;
 
@@ -93,6 +101,24 @@ public class SlidingGanttCategoryDataset extends AbstractDataset
         return this.underlying;
     }
 
+    /**
+     * Returns the version of the dataset.  This dataset is not notified of
+     * changes to the underlying dataset, so the version also increases when
+     * the underlying dataset changes (if it has a version).
+     *
+     * @return The version.
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public long getVersion() {
+        long version = super.getVersion();
+        if (this.underlying instanceof AbstractDataset) {
+            version += ((AbstractDataset) this.underlying).getVersion();
+        }
+        return version;
+    }
+
     /**
      * Returns the index of the first visible category.
      *
@@ -55,6 +55,9 @@
  * 03-Jul-2013 : Use ParamChecks (DG);
  * 21-Nov-2013 : Added notify flag to allow suppressing change events 
  *               temporarily (DG);
+ * 18-Oct-2026 : Added version counter (G14);
+ * 18-Oct-2026 : Added beginUpdate() and endUpdate() (G14);
+ * 18-Oct-2026 : Added fireDatasetChanged(DatasetChangeEvent) (G14);
  *
  */
 
@@ -95,6 +98,24 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      */
     private boolean notify;
 
+    /**
+     * A counter that is incremented for every change to the dataset (see
+     * {@link #getVersion()}).
+     */
+    private transient long version;
+
+    /**
+     * The number of calls to {@link #beginUpdate()} that have not yet been
+     * matched by a call to {@link #endUpdate()}.
+     */
+    private transient int updateDepth;
+
+    /**
+     * A flag that records whether the dataset has changed since the
+     * outermost call to {@link #beginUpdate()}.
+     */
+    private transient boolean changePending;
+
     /**
      * Constructs a dataset. By default, the dataset is assigned to its own
      * group.
@@ -161,6 +182,101 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
         }    
     }
     
+    /**
+     * Returns the version of the dataset, a number that increases every time
+     * the dataset changes (that is, whenever {@link #fireDatasetChanged()} or
+     * {@link #notifyListeners(DatasetChangeEvent)} is called, including when
+     * change events are suppressed by the notify flag).  Code that derives
+     * results from the dataset, such as the data bounds, can keep them until
+     * the version changes.
+     * <P>
+     * The version is not included in the serialized form of the dataset, and
+     * is only meaningful for comparison with other versions of the same
+     * dataset instance.
+     *
+     * @return The version.
+     *
+     * @since 1.0.20
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Increments the version of the dataset.  Subclasses should call this
+     * method when the dataset is changed without calling
+     * {@link #fireDatasetChanged()}.
+     *
+     * @since 1.0.20
+     */
+    protected void incrementVersion() {
+        this.version++;
+    }
+
+    /**
+     * Starts a batch of changes to the dataset.  Until the matching call to
+     * {@link #endUpdate()}, change events are not sent to registered
+     * listeners, then a single {@link DatasetChangeEvent} is sent if the
+     * dataset changed in the meantime.  Calls can be nested, in which case
+     * the event is sent by the outermost call to <code>endUpdate()</code>.
+     * This is useful when many values are updated at once, since each event
+     * typically causes a chart to be redrawn.  Use a
+     * <code>try/finally</code> block so that every call is matched:
+     * <pre>
+     * dataset.beginUpdate();
+     * try {
+     *     ...
+     * }
+     * finally {
+     *     dataset.endUpdate();
+     * }</pre>
+     * Events from series in a collection are also deferred, since the
+     * collection passes them on as dataset change events.
+     *
+     * @see #endUpdate()
+     *
+     * @since 1.0.20
+     */
+    public void beginUpdate() {
+        this.updateDepth++;
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginUpdate()}.  If this
+     * ends the outermost batch and the dataset has changed, a change event
+     * is sent to all registered listeners (provided that the
+     * <code>notify</code> flag is set).
+     *
+     * @throws IllegalStateException if there is no matching call to
+     *     <code>beginUpdate()</code>.
+     *
+     * @since 1.0.20
+     */
+    public void endUpdate() {
+        if (this.updateDepth == 0) {
+            throw new IllegalStateException(
+                    "No matching call to beginUpdate().");
+        }
+        this.updateDepth--;
+        if (this.updateDepth == 0 && this.changePending) {
+            this.changePending = false;
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if a batch of changes started by
+     * {@link #beginUpdate()} is in progress, and <code>false</code>
+     * otherwise.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.20
+     */
+    public boolean isUpdating() {
+        return this.updateDepth > 0;
+    }
+
     /**
      * Registers an object to receive notification of changes to the dataset.
      *
@@ -211,13 +327,31 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      * @see #addChangeListener(DatasetChangeListener)
      */
     protected void fireDatasetChanged() {
+        fireDatasetChanged(new DatasetChangeEvent(this, this));
+    }
+
+    /**
+     * Sends the specified event to all registered listeners, provided that
+     * the <code>notify</code> flag has not been set to <code>false</code>.
+     * Subclasses can use this to send an event with details of the change.
+     *
+     * @param event  the event (<code>null</code> not permitted).
+     *
+     * @since 1.0.20
+     */
+    protected void fireDatasetChanged(DatasetChangeEvent event) {
         if (this.notify) {
-            notifyListeners(new DatasetChangeEvent(this, this));
+            notifyListeners(event);
+        }
+        else {
+            this.version++;
         }
     }
 
     /**
-     * Notifies all registered listeners that the dataset has changed.
+     * Notifies all registered listeners that the dataset has changed.  If a
+     * batch of changes is in progress (see {@link #beginUpdate()}), the
+     * event is held back and a single event is sent when the batch ends.
      *
      * @param event  contains information about the event that triggered the
      *               notification.
@@ -226,6 +360,11 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      * @see #removeChangeListener(DatasetChangeListener)
      */
     protected void notifyListeners(DatasetChangeEvent event) {
+        this.version++;
+        if (this.updateDepth > 0) {
+            this.changePending = true;
+            return;
+        }
         Object[] listeners = this.listenerList.getListenerList();
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
             if (listeners[i] == DatasetChangeListener.class) {
@@ -249,6 +388,8 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
     public Object clone() throws CloneNotSupportedException {
         AbstractDataset clone = (AbstractDataset) super.clone();
         clone.listenerList = new EventListenerList();
+        clone.updateDepth = 0;
+        clone.changePending = false;
         return clone;
     }
 
@@ -39,6 +39,7 @@
  * 04-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * 04-Feb-2003 : Removed redundant methods (DG);
  * 27-Mar-2003 : Implemented Serializable (DG);
+ * 18-Oct-2026 : Pass on the details of series changes (G14);
  *
  */
 
@@ -105,12 +106,25 @@ public abstract class AbstractSeriesDataset extends AbstractDataset
     }
 
     /**
-     * Called when a series belonging to the dataset changes.
+     * Called when a series belonging to the dataset changes.  The
+     * {@link DatasetChangeEvent} that is sent to the dataset's listeners
+     * includes the details of the change, unless it is a
+     * {@link SeriesChangeType#GENERAL} change.
      *
      * @param event  information about the change.
      */
     @Override
     public void seriesChanged(SeriesChangeEvent event) {
+        if (event.getType() != SeriesChangeType.GENERAL
+                && event.getSource() instanceof Series) {
+            Series s = (Series) event.getSource();
+            int series = indexOf(s.getKey());
+            if (series >= 0) {
+                fireDatasetChanged(new DatasetChangeEvent(this, this, series,
+                        event));
+                return;
+            }
+        }
         fireDatasetChanged();
     }
 
@@ -0,0 +1,531 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * BoundsScanner.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.jfree.data.Range;
+import org.jfree.data.statistics.BoxAndWhiskerXYDataset;
+import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.data.xy.OHLCDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYZDataset;
+
+/**
+ * Finds the bounds of the values in a range of items in one series of a
+ * dataset.  This is used by the {@link DatasetUtilities} methods that take
+ * an <code>ExecutorService</code>, which split the items into chunks and
+ * scan each chunk in a separate task.  There is one scanner for each of
+ * the loops in the sequential methods, and each scanner applies exactly
+ * the same tests to each item as the loop it replaces.
+ */
+abstract class BoundsScanner {
+
+    /**
+     * The minimum number of items in a dataset for the bounds to be found
+     * in parallel.  Below this, the cost of starting the tasks is greater
+     * than the time saved.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 20;
+
+    /** The minimum number of items in each task. */
+    private static final int MINIMUM_CHUNK_SIZE = 1 << 16;
+
+    /**
+     * Updates the bounds with the values for some of the items in a series.
+     *
+     * @param series  the series index.
+     * @param start  the index of the first item.
+     * @param end  the index after the last item.
+     * @param bounds  the minimum (at index 0) and maximum (at index 1)
+     *     found so far.
+     */
+    abstract void scan(int series, int start, int end, double[] bounds);
+
+    /**
+     * Returns the total number of items in the specified series.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series indices.
+     *
+     * @return The item count.
+     */
+    static long getItemCount(XYDataset dataset, int[] series) {
+        long count = 0;
+        for (int i = 0; i < series.length; i++) {
+            count += dataset.getItemCount(series[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the indices of all the series in a dataset.
+     *
+     * @param dataset  the dataset.
+     *
+     * @return The series indices.
+     */
+    static int[] allSeries(XYDataset dataset) {
+        int[] result = new int[dataset.getSeriesCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = i;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the indices of the series with the specified keys.
+     *
+     * @param dataset  the dataset.
+     * @param seriesKeys  the series keys.
+     *
+     * @return The series indices.
+     */
+    static int[] seriesIndices(XYDataset dataset, List seriesKeys) {
+        int[] result = new int[seriesKeys.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = dataset.indexOf((Comparable) seriesKeys.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Scans the items in the specified series, dividing them into chunks
+     * that are scanned by separate tasks, and combines the results.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series indices.
+     * @param executor  the executor that runs the tasks.
+     *
+     * @return The minimum (at index 0) and maximum (at index 1) values.
+     */
+    double[] scan(XYDataset dataset, final int[] series,
+            ExecutorService executor) {
+        final int[] itemCounts = new int[series.length];
+        long total = 0;
+        for (int i = 0; i < series.length; i++) {
+            itemCounts[i] = dataset.getItemCount(series[i]);
+            total += itemCounts[i];
+        }
+        int maxTasks = 4 * Runtime.getRuntime().availableProcessors();
+        int taskCount = (int) Math.max(1, Math.min(maxTasks,
+                total / MINIMUM_CHUNK_SIZE));
+        long chunkSize = (total + taskCount - 1) / taskCount;
+
+        // each task covers a run of items that may span several series
+        List tasks = new ArrayList(taskCount);
+        int s = 0;
+        int item = 0;
+        for (int t = 0; t < taskCount && s < series.length; t++) {
+            final int firstSeries = s;
+            final int firstItem = item;
+            long remaining = chunkSize;
+            while (s < series.length && remaining > 0) {
+                long available = itemCounts[s] - item;
+                if (available > remaining) {
+                    item += (int) remaining;
+                    remaining = 0;
+                }
+                else {
+                    remaining -= available;
+                    s++;
+                    item = 0;
+                }
+            }
+            final int lastSeries = s;
+            final int endItem = item;
+            tasks.add(new Callable() {
+                @Override
+                public Object call() {
+                    return scanChunk(series, itemCounts, firstSeries,
+                            firstItem, lastSeries, endItem);
+                }
+            });
+        }
+
+        double[] result = new double[] {Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY};
+        try {
+            List futures = executor.invokeAll(tasks);
+            for (int i = 0; i < futures.size(); i++) {
+                double[] b = (double[]) ((Future) futures.get(i)).get();
+                result[0] = Math.min(result[0], b[0]);
+                result[1] = Math.max(result[1], b[1]);
+            }
+        }
+        catch (InterruptedException e) {
+            // the bounds are still needed, so finish the work on this
+            // thread and leave the interrupt for the caller to handle
+            Thread.currentThread().interrupt();
+            result = scanChunk(series, itemCounts, 0, 0, series.length, 0);
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+        return result;
+    }
+
+    /**
+     * Scans a run of items, starting at item <code>firstItem</code> of
+     * <code>series[firstSeries]</code> and ending before item
+     * <code>endItem</code> of <code>series[lastSeries]</code>.
+     *
+     * @param series  the series indices.
+     * @param itemCounts  the item count for each series.
+     * @param firstSeries  the position of the first series in the array.
+     * @param firstItem  the first item.
+     * @param lastSeries  the position of the last series in the array.
+     * @param endItem  the index after the last item.
+     *
+     * @return The minimum (at index 0) and maximum (at index 1) values.
+     */
+    private double[] scanChunk(int[] series, int[] itemCounts,
+            int firstSeries, int firstItem, int lastSeries, int endItem) {
+        double[] bounds = new double[] {Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY};
+        for (int s = firstSeries; s <= lastSeries && s < series.length;
+                s++) {
+            int start = (s == firstSeries ? firstItem : 0);
+            int end = (s == lastSeries ? endItem : itemCounts[s]);
+            if (start < end) {
+                scan(series[s], start, end, bounds);
+            }
+        }
+        return bounds;
+    }
+
+    /**
+     * Converts bounds to a range.
+     *
+     * @param bounds  the minimum and maximum.
+     *
+     * @return The range, or <code>null</code> if no value was found.
+     */
+    static Range toRange(double[] bounds) {
+        if (bounds[0] == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        return new Range(bounds[0], bounds[1]);
+    }
+
+    /**
+     * Creates a scanner for the x-values (the loops in
+     * {@link DatasetUtilities#iterateDomainBounds(XYDataset, boolean)}).
+     *
+     * @param dataset  the dataset.
+     * @param includeInterval  include the x-interval?
+     *
+     * @return The scanner.
+     */
+    static BoundsScanner createDomainScanner(final XYDataset dataset,
+            boolean includeInterval) {
+        if (includeInterval && dataset instanceof IntervalXYDataset) {
+            final IntervalXYDataset ixyd = (IntervalXYDataset) dataset;
+            return new BoundsScanner() {
+                @Override
+                void scan(int series, int start, int end, double[] bounds) {
+                    for (int item = start; item < end; item++) {
+                        include(bounds, ixyd.getXValue(series, item));
+                        include(bounds, ixyd.getStartXValue(series, item));
+                        include(bounds, ixyd.getEndXValue(series, item));
+                    }
+                }
+            };
+        }
+        return new BoundsScanner() {
+            @Override
+            void scan(int series, int start, int end, double[] bounds) {
+                for (int item = start; item < end; item++) {
+                    include(bounds, dataset.getXValue(series, item));
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates a scanner for the y-values (the loops in
+     * {@link DatasetUtilities#iterateRangeBounds(XYDataset, boolean)}).
+     *
+     * @param dataset  the dataset.
+     * @param includeInterval  include the y-interval?
+     *
+     * @return The scanner.
+     */
+    static BoundsScanner createRangeScanner(final XYDataset dataset,
+            boolean includeInterval) {
+        if (includeInterval && dataset instanceof IntervalXYDataset) {
+            final IntervalXYDataset ixyd = (IntervalXYDataset) dataset;
+            return new BoundsScanner() {
+                @Override
+                void scan(int series, int start, int end, double[] bounds) {
+                    for (int item = start; item < end; item++) {
+                        include(bounds, ixyd.getYValue(series, item));
+                        include(bounds, ixyd.getStartYValue(series, item));
+                        include(bounds, ixyd.getEndYValue(series, item));
+                    }
+                }
+            };
+        }
+        if (includeInterval && dataset instanceof OHLCDataset) {
+            final OHLCDataset ohlc = (OHLCDataset) dataset;
+            return new BoundsScanner() {
+                @Override
+                void scan(int series, int start, int end, double[] bounds) {
+                    for (int item = start; item < end; item++) {
+                        includeLow(bounds, ohlc.getLowValue(series, item));
+                        includeHigh(bounds, ohlc.getHighValue(series, item));
+                    }
+                }
+            };
+        }
+        return new BoundsScanner() {
+            @Override
+            void scan(int series, int start, int end, double[] bounds) {
+                for (int item = start; item < end; item++) {
+                    include(bounds, dataset.getYValue(series, item));
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates a scanner for the z-values (the loop in
+     * {@link DatasetUtilities#iterateZBounds(XYZDataset, boolean)}).
+     *
+     * @param dataset  the dataset.
+     *
+     * @return The scanner.
+     */
+    static BoundsScanner createZScanner(final XYZDataset dataset) {
+        return new BoundsScanner() {
+            @Override
+            void scan(int series, int start, int end, double[] bounds) {
+                for (int item = start; item < end; item++) {
+                    include(bounds, dataset.getZValue(series, item));
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates a scanner for the x-values of the visible series (the loops in
+     * {@link DatasetUtilities#iterateToFindDomainBounds(XYDataset, List,
+     * boolean)}).
+     *
+     * @param dataset  the dataset.
+     * @param includeInterval  include the x-interval?
+     *
+     * @return The scanner.
+     */
+    static BoundsScanner createVisibleDomainScanner(final XYDataset dataset,
+            boolean includeInterval) {
+        if (includeInterval && dataset instanceof IntervalXYDataset) {
+            final IntervalXYDataset ixyd = (IntervalXYDataset) dataset;
+            return new BoundsScanner() {
+                @Override
+                void scan(int series, int start, int end, double[] bounds) {
+                    for (int item = start; item < end; item++) {
+                        includeLow(bounds, ixyd.getStartXValue(series, item));
+                        includeHigh(bounds, ixyd.getEndXValue(series, item));
+                    }
+                }
+            };
+        }
+        return createDomainScanner(dataset, false);
+    }
+
+    /**
+     * Creates a scanner for the y-values of the items with x-values in a
+     * given range (the loops in
+     * {@link DatasetUtilities#iterateToFindRangeBounds(XYDataset, List,
+     * Range, boolean)}).
+     *
+     * @param dataset  the dataset.
+     * @param xRange  the x-range.
+     * @param includeInterval  include the y-interval?
+     *
+     * @return The scanner.
+     */
+    static BoundsScanner createVisibleRangeScanner(final XYDataset dataset,
+            final Range xRange, boolean includeInterval) {
+        if (includeInterval && dataset instanceof OHLCDataset) {
+            final OHLCDataset ohlc = (OHLCDataset) dataset;
+            return new BoundsScanner() {
+                @Override
+                void scan(int series, int start, int end, double[] bounds) {
+                    for (int item = start; item < end; item++) {
+                        if (xRange.contains(ohlc.getXValue(series, item))) {
+                            includeLow(bounds, ohlc.getLowValue(series,
+                                    item));
+                            includeHigh(bounds, ohlc.getHighValue(series,
+                                    item));
+                        }
+                    }
+                }
+            };
+        }
+        if (includeInterval && dataset instanceof BoxAndWhiskerXYDataset) {
+            final BoxAndWhiskerXYDataset bx = (BoxAndWhiskerXYDataset) dataset;
+            return new BoundsScanner() {
+                @Override
+                void scan(int series, int start, int end, double[] bounds) {
+                    for (int item = start; item < end; item++) {
+                        if (xRange.contains(bx.getXValue(series, item))) {
+                            Number lvalue = bx.getMinRegularValue(series,
+                                    item);
+                            Number uvalue = bx.getMaxRegularValue(series,
+                                    item);
+                            if (lvalue != null) {
+                                bounds[0] = Math.min(bounds[0],
+                                        lvalue.doubleValue());
+                            }
+                            if (uvalue != null) {
+                                bounds[1] = Math.max(bounds[1],
+                                        uvalue.doubleValue());
+                            }
+                        }
+                    }
+                }
+            };
+        }
+        if (includeInterval && dataset instanceof IntervalXYDataset) {
+            final IntervalXYDataset ixyd = (IntervalXYDataset) dataset;
+            return new BoundsScanner() {
+                @Override
+                void scan(int series, int start, int end, double[] bounds) {
+                    for (int item = start; item < end; item++) {
+                        if (xRange.contains(ixyd.getXValue(series, item))) {
+                            includeLow(bounds, ixyd.getStartYValue(series,
+                                    item));
+                            includeHigh(bounds, ixyd.getEndYValue(series,
+                                    item));
+                        }
+                    }
+                }
+            };
+        }
+        return new BoundsScanner() {
+            @Override
+            void scan(int series, int start, int end, double[] bounds) {
+                for (int item = start; item < end; item++) {
+                    if (xRange.contains(dataset.getXValue(series, item))) {
+                        include(bounds, dataset.getYValue(series, item));
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates a scanner for the z-values of the items with x-values in a
+     * given range (the loop in
+     * {@link DatasetUtilities#iterateToFindZBounds(XYZDataset, List, Range,
+     * boolean)}).
+     *
+     * @param dataset  the dataset.
+     * @param xRange  the x-range.
+     *
+     * @return The scanner.
+     */
+    static BoundsScanner createVisibleZScanner(final XYZDataset dataset,
+            final Range xRange) {
+        return new BoundsScanner() {
+            @Override
+            void scan(int series, int start, int end, double[] bounds) {
+                for (int item = start; item < end; item++) {
+                    if (xRange.contains(dataset.getXValue(series, item))) {
+                        include(bounds, dataset.getZValue(series, item));
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Includes a value in the minimum and maximum, unless it is NaN.
+     *
+     * @param bounds  the bounds.
+     * @param value  the value.
+     */
+    static void include(double[] bounds, double value) {
+        if (!Double.isNaN(value)) {
+            bounds[0] = Math.min(bounds[0], value);
+            bounds[1] = Math.max(bounds[1], value);
+        }
+    }
+
+    /**
+     * Includes a value in the minimum only, unless it is NaN.
+     *
+     * @param bounds  the bounds.
+     * @param value  the value.
+     */
+    static void includeLow(double[] bounds, double value) {
+        if (!Double.isNaN(value)) {
+            bounds[0] = Math.min(bounds[0], value);
+        }
+    }
+
+    /**
+     * Includes a value in the maximum only, unless it is NaN.
+     *
+     * @param bounds  the bounds.
+     * @param value  the value.
+     */
+    static void includeHigh(double[] bounds, double value) {
+        if (!Double.isNaN(value)) {
+            bounds[1] = Math.max(bounds[1], value);
+        }
+    }
+
+}
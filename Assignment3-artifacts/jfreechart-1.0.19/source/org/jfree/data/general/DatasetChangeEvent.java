@@ -42,21 +42,39 @@
  *               Updated Javadocs (DG);
  * 04-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * 05-Oct-2004 : Minor Javadoc updates (DG);
+ * 18-Oct-2026 : Added the series and details of a change to one
+ *               series (G14);
+ * 18-Oct-2026 : Added serialVersionUID and readObject() (G14);
  *
  */
 
 package org.jfree.data.general;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+
 /**
  * A change event that encapsulates information about a change to a dataset.
  */
 public class DatasetChangeEvent extends java.util.EventObject {
 
+    /**
+     * For serialization (the value computed for this class before the
+     * series details were added).
+     */
+    private static final long serialVersionUID = 196885348186251248L;
+
     /**
      * The dataset that generated the change event.
      */
     private Dataset dataset;
 
+    /** The index of the series that changed (or -1). */
+    private int series;
+
+    /** Details of the change to the series (possibly <code>null</code>). */
+    private SeriesChangeEvent seriesChange;
+
     /**
      * Constructs a new event.  The source is either the dataset or the
      * {@link org.jfree.chart.plot.Plot} class.  The dataset can be
@@ -68,8 +86,27 @@ public class DatasetChangeEvent extends java.util.EventObject {
      *                 permitted).
      */
     public DatasetChangeEvent(Object source, Dataset dataset) {
+        this(source, dataset, -1, null);
+    }
+
+    /**
+     * Constructs a new event for a change to one series in the dataset.
+     *
+     * @param source  the source of the event.
+     * @param dataset  the dataset that generated the event (<code>null</code>
+     *                 permitted).
+     * @param series  the index of the series that changed.
+     * @param seriesChange  details of the change to the series
+     *                      (<code>null</code> permitted).
+     *
+     * @since 1.0.20
+     */
+    public DatasetChangeEvent(Object source, Dataset dataset, int series,
+            SeriesChangeEvent seriesChange) {
         super(source);
         this.dataset = dataset;
+        this.series = series;
+        this.seriesChange = seriesChange;
     }
 
     /**
@@ -83,4 +120,49 @@ public class DatasetChangeEvent extends java.util.EventObject {
         return this.dataset;
     }
 
+    /**
+     * Returns the index of the series that changed, or <code>-1</code> if
+     * the event is not limited to one series.
+     *
+     * @return The series index.
+     *
+     * @since 1.0.20
+     */
+    public int getSeriesIndex() {
+        return this.series;
+    }
+
+    /**
+     * Returns details of the change to the series at
+     * {@link #getSeriesIndex()}, or <code>null</code> if there are no
+     * details (in which case listeners should assume that any part of the
+     * dataset may have changed).
+     *
+     * @return The series change (possibly <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public SeriesChangeEvent getSeriesChange() {
+        return this.seriesChange;
+    }
+
+    /**
+     * Provides serialization support.  An event that was serialized before
+     * the series details were added is restored as a change to the whole
+     * dataset.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = stream.readFields();
+        this.dataset = (Dataset) fields.get("dataset", null);
+        this.series = fields.get("series", -1);
+        this.seriesChange = (SeriesChangeEvent) fields.get("seriesChange",
+                null);
+    }
+
 }
@@ -123,6 +123,14 @@
  * 10-Sep-2009 : Fix bug 2849731 for IntervalCategoryDataset (DG);
  * 16-Feb-2010 : Patch 2952086 - find z-bounds (MH);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Skip empty cells in iterateRangeBounds() for
+ *               SparseValues2D datasets (G14);
+ * 18-Oct-2026 : Added parallel variants of the XY bounds methods that take
+ *               an ExecutorService (G14);
+ * 18-Oct-2026 : Use the stored totals in calculateStackTotal() for a
+ *               PrimitiveTableXYDataset (G14);
+ * 18-Oct-2026 : Use the XYStackTotalInfo interface in calculateStackTotal()
+ *               (G14);
  * 
  */
 
@@ -131,6 +139,7 @@ package org.jfree.data.general;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import org.jfree.chart.util.ParamChecks;
 
 import org.jfree.data.DomainInfo;
@@ -139,6 +148,7 @@ import org.jfree.data.KeyToGroupMap;
 import org.jfree.data.KeyedValues;
 import org.jfree.data.Range;
 import org.jfree.data.RangeInfo;
+import org.jfree.data.SparseValues2D;
 import org.jfree.data.category.CategoryDataset;
 import org.jfree.data.category.CategoryRangeInfo;
 import org.jfree.data.category.DefaultCategoryDataset;
@@ -156,6 +166,7 @@ import org.jfree.data.xy.XYDomainInfo;
 import org.jfree.data.xy.XYRangeInfo;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.data.xy.XYStackTotalInfo;
 import org.jfree.data.xy.XYZDataset;
 import org.jfree.util.ArrayUtilities;
 
@@ -773,6 +784,41 @@ public final class DatasetUtilities {
         }
     }
 
+    /**
+     * Iterates over the items in an {@link XYDataset} to find the range of
+     * x-values, in the same way as
+     * {@link #iterateDomainBounds(XYDataset, boolean)}.  If the dataset
+     * contains a large number of items, the items are divided into chunks
+     * (across and within series) that are scanned in parallel by tasks
+     * submitted to the specified executor, and the partial results are
+     * combined.  Smaller datasets are scanned on the calling thread.  The
+     * dataset must not be modified while this method is running.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param includeInterval  a flag that determines, for an
+     *          {@link IntervalXYDataset}, whether the x-interval or just the
+     *          x-value is used to determine the overall range.
+     * @param executor  the executor for the tasks (<code>null</code>
+     *     permitted, in which case the items are scanned on the calling
+     *     thread).
+     *
+     * @return The range (possibly <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public static Range iterateDomainBounds(XYDataset dataset,
+            boolean includeInterval, ExecutorService executor) {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        int[] series = BoundsScanner.allSeries(dataset);
+        if (executor == null || BoundsScanner.getItemCount(dataset, series)
+                < BoundsScanner.PARALLEL_THRESHOLD) {
+            return iterateDomainBounds(dataset, includeInterval);
+        }
+        BoundsScanner scanner = BoundsScanner.createDomainScanner(dataset,
+                includeInterval);
+        return BoundsScanner.toRange(scanner.scan(dataset, series, executor));
+    }
+
     /**
      * Returns the range of values in the range for the dataset.
      *
@@ -984,6 +1030,20 @@ public final class DatasetUtilities {
                 }
             }
         }
+        else if (dataset instanceof SparseValues2D) {
+            // only visit the non-null values
+            SparseValues2D sparse = (SparseValues2D) dataset;
+            for (int row = 0; row < rowCount; row++) {
+                int count = sparse.getNonNullCount(row);
+                for (int item = 0; item < count; item++) {
+                    double v = sparse.getNonNullValue(row, item).doubleValue();
+                    if (!Double.isNaN(v)) {
+                        minimum = Math.min(minimum, v);
+                        maximum = Math.max(maximum, v);
+                    }
+                }
+            }
+        }
         else {
             // handle the standard case (plain CategoryDataset)
             for (int row = 0; row < rowCount; row++) {
@@ -1271,6 +1331,38 @@ public final class DatasetUtilities {
         }
     }
 
+    /**
+     * Iterates over the items in an {@link XYDataset} to find the range of
+     * y-values, in the same way as
+     * {@link #iterateRangeBounds(XYDataset, boolean)}.  Large datasets are
+     * scanned in parallel, as described for
+     * {@link #iterateDomainBounds(XYDataset, boolean, ExecutorService)}.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param includeInterval  a flag that determines, for an
+     *          {@link IntervalXYDataset}, whether the y-interval or just the
+     *          y-value is used to determine the overall range.
+     * @param executor  the executor for the tasks (<code>null</code>
+     *     permitted, in which case the items are scanned on the calling
+     *     thread).
+     *
+     * @return The range (possibly <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public static Range iterateRangeBounds(XYDataset dataset,
+            boolean includeInterval, ExecutorService executor) {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        int[] series = BoundsScanner.allSeries(dataset);
+        if (executor == null || BoundsScanner.getItemCount(dataset, series)
+                < BoundsScanner.PARALLEL_THRESHOLD) {
+            return iterateRangeBounds(dataset, includeInterval);
+        }
+        BoundsScanner scanner = BoundsScanner.createRangeScanner(dataset,
+                includeInterval);
+        return BoundsScanner.toRange(scanner.scan(dataset, series, executor));
+    }
+
     /**
      * Returns the range of values in the z-dimension for the dataset. This
      * method is the partner for the {@link #findRangeBounds(XYDataset)}
@@ -1372,6 +1464,36 @@ public final class DatasetUtilities {
         }
     }
 
+    /**
+     * Iterates over the items in an {@link XYZDataset} to find the range of
+     * z-values, in the same way as
+     * {@link #iterateZBounds(XYZDataset, boolean)}.  Large datasets are
+     * scanned in parallel, as described for
+     * {@link #iterateDomainBounds(XYDataset, boolean, ExecutorService)}.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param includeInterval  include the z-interval (if the dataset has a
+     *     z-interval).
+     * @param executor  the executor for the tasks (<code>null</code>
+     *     permitted, in which case the items are scanned on the calling
+     *     thread).
+     *
+     * @return The range (possibly <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public static Range iterateZBounds(XYZDataset dataset,
+            boolean includeInterval, ExecutorService executor) {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        int[] series = BoundsScanner.allSeries(dataset);
+        if (executor == null || BoundsScanner.getItemCount(dataset, series)
+                < BoundsScanner.PARALLEL_THRESHOLD) {
+            return iterateZBounds(dataset, includeInterval);
+        }
+        BoundsScanner scanner = BoundsScanner.createZScanner(dataset);
+        return BoundsScanner.toRange(scanner.scan(dataset, series, executor));
+    }
+
     /**
      * Returns the range of x-values in the specified dataset for the
      * data items belonging to the visible series.
@@ -1440,6 +1562,43 @@ public final class DatasetUtilities {
         }
     }
 
+    /**
+     * Returns the range of x-values in the specified dataset for the
+     * data items belonging to the visible series, in the same way as
+     * {@link #iterateToFindDomainBounds(XYDataset, List, boolean)}.  Large
+     * datasets are scanned in parallel, as described for
+     * {@link #iterateDomainBounds(XYDataset, boolean, ExecutorService)}.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param visibleSeriesKeys  the visible series keys (<code>null</code> not
+     *     permitted).
+     * @param includeInterval  a flag that determines whether or not the
+     *     y-interval for the dataset is included (this only applies if the
+     *     dataset is an instance of IntervalXYDataset).
+     * @param executor  the executor for the tasks (<code>null</code>
+     *     permitted, in which case the items are scanned on the calling
+     *     thread).
+     *
+     * @return The x-range (possibly <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public static Range iterateToFindDomainBounds(XYDataset dataset,
+            List visibleSeriesKeys, boolean includeInterval,
+            ExecutorService executor) {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        ParamChecks.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        int[] series = BoundsScanner.seriesIndices(dataset, visibleSeriesKeys);
+        if (executor == null || BoundsScanner.getItemCount(dataset, series)
+                < BoundsScanner.PARALLEL_THRESHOLD) {
+            return iterateToFindDomainBounds(dataset, visibleSeriesKeys,
+                    includeInterval);
+        }
+        BoundsScanner scanner = BoundsScanner.createVisibleDomainScanner(
+                dataset, includeInterval);
+        return BoundsScanner.toRange(scanner.scan(dataset, series, executor));
+    }
+
     /**
      * Returns the range of y-values in the specified dataset for the
      * data items belonging to the visible series and with x-values in the
@@ -1564,6 +1723,46 @@ public final class DatasetUtilities {
         }
     }
 
+    /**
+     * Returns the range of y-values in the specified dataset for the
+     * data items belonging to the visible series and with x-values in the
+     * given range, in the same way as
+     * {@link #iterateToFindRangeBounds(XYDataset, List, Range, boolean)}.
+     * Large datasets are scanned in parallel, as described for
+     * {@link #iterateDomainBounds(XYDataset, boolean, ExecutorService)}.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param visibleSeriesKeys  the visible series keys (<code>null</code> not
+     *     permitted).
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     * @param includeInterval  a flag that determines whether or not the
+     *     y-interval for the dataset is included (this only applies if the
+     *     dataset is an instance of IntervalXYDataset).
+     * @param executor  the executor for the tasks (<code>null</code>
+     *     permitted, in which case the items are scanned on the calling
+     *     thread).
+     *
+     * @return The y-range (possibly <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public static Range iterateToFindRangeBounds(XYDataset dataset,
+            List visibleSeriesKeys, Range xRange, boolean includeInterval,
+            ExecutorService executor) {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        ParamChecks.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        ParamChecks.nullNotPermitted(xRange, "xRange");
+        int[] series = BoundsScanner.seriesIndices(dataset, visibleSeriesKeys);
+        if (executor == null || BoundsScanner.getItemCount(dataset, series)
+                < BoundsScanner.PARALLEL_THRESHOLD) {
+            return iterateToFindRangeBounds(dataset, visibleSeriesKeys,
+                    xRange, includeInterval);
+        }
+        BoundsScanner scanner = BoundsScanner.createVisibleRangeScanner(
+                dataset, xRange, includeInterval);
+        return BoundsScanner.toRange(scanner.scan(dataset, series, executor));
+    }
+
     /**
      * Returns the range of z-values in the specified dataset for the
      * data items belonging to the visible series and with x-values in the
@@ -1613,6 +1812,46 @@ public final class DatasetUtilities {
         }
     }
 
+    /**
+     * Returns the range of z-values in the specified dataset for the
+     * data items belonging to the visible series and with x-values in the
+     * given range, in the same way as
+     * {@link #iterateToFindZBounds(XYZDataset, List, Range, boolean)}.
+     * Large datasets are scanned in parallel, as described for
+     * {@link #iterateDomainBounds(XYDataset, boolean, ExecutorService)}.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param visibleSeriesKeys  the visible series keys (<code>null</code> not
+     *     permitted).
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     * @param includeInterval  a flag that determines whether or not the
+     *     z-interval for the dataset is included (this only applies if the
+     *     dataset has an interval, which is currently not supported).
+     * @param executor  the executor for the tasks (<code>null</code>
+     *     permitted, in which case the items are scanned on the calling
+     *     thread).
+     *
+     * @return The z-range (possibly <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public static Range iterateToFindZBounds(XYZDataset dataset,
+            List visibleSeriesKeys, Range xRange, boolean includeInterval,
+            ExecutorService executor) {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        ParamChecks.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        ParamChecks.nullNotPermitted(xRange, "xRange");
+        int[] series = BoundsScanner.seriesIndices(dataset, visibleSeriesKeys);
+        if (executor == null || BoundsScanner.getItemCount(dataset, series)
+                < BoundsScanner.PARALLEL_THRESHOLD) {
+            return iterateToFindZBounds(dataset, visibleSeriesKeys, xRange,
+                    includeInterval);
+        }
+        BoundsScanner scanner = BoundsScanner.createVisibleZScanner(dataset,
+                xRange);
+        return BoundsScanner.toRange(scanner.scan(dataset, series, executor));
+    }
+
     /**
      * Finds the minimum domain (or X) value for the specified dataset.  This
      * is easy if the dataset implements the {@link DomainInfo} interface (a
@@ -2195,7 +2434,9 @@ public final class DatasetUtilities {
 
     /**
      * Calculates the total for the y-values in all series for a given item
-     * index.
+     * index.  If the dataset implements {@link XYStackTotalInfo} the total is
+     * maintained by the dataset, so this method doesn't have to visit each
+     * series.
      *
      * @param dataset  the dataset.
      * @param item  the item index.
@@ -2205,6 +2446,9 @@ public final class DatasetUtilities {
      * @since 1.0.5
      */
     public static double calculateStackTotal(TableXYDataset dataset, int item) {
+        if (dataset instanceof XYStackTotalInfo) {
+            return ((XYStackTotalInfo) dataset).getStackTotal(item);
+        }
         double total = 0.0;
         int seriesCount = dataset.getSeriesCount();
         for (int s = 0; s < seriesCount; s++) {
@@ -35,6 +35,8 @@
  * Changes:
  * --------
  * 28-Jan-2009 : Version 1 (DG);
+ * 18-Oct-2026 : Increment the version for changes made without sending a
+ *               change event (G14);
  *
  */
 
@@ -274,6 +276,9 @@ public class DefaultHeatMapDataset extends AbstractDataset
         if (notify) {
             fireDatasetChanged();
         }
+        else {
+            incrementVersion();
+        }
     }
 
     /**
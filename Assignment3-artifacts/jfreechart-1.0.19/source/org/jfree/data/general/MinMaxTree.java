@@ -0,0 +1,349 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------
+ * MinMaxTree.java
+ * ---------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.general;
+
+/**
+ * A segment tree that finds the minimum and maximum of any run of
+ * consecutive values in a sequence in logarithmic time.  It is intended to
+ * be kept alongside the items of a series that is sorted by x-value, so
+ * that the range of y-values for the items in an x-window can be found by
+ * two binary searches and a query, rather than by visiting every item.
+ * <P>
+ * Values can be appended, changed and removed from the start of the
+ * sequence (as happens when a series with a maximum item count evicts its
+ * oldest items), each in logarithmic (amortised) time.  Other changes, such
+ * as inserting an item in the middle of a series, should be handled by
+ * discarding the tree and building a new one.
+ * <P>
+ * The values are combined with <code>Math.min()</code> and
+ * <code>Math.max()</code>, so a <code>Double.NaN</code> value makes the
+ * minimum and maximum of any run containing it <code>Double.NaN</code>.  A
+ * caller that wants missing values to be ignored should add them as
+ * <code>Double.POSITIVE_INFINITY</code> (for the minimum) and
+ * <code>Double.NEGATIVE_INFINITY</code> (for the maximum), which is what
+ * {@link #addMissing()} does.
+ *
+ * @since 1.0.20
+ */
+public class MinMaxTree implements Cloneable {
+
+    /** The initial (and minimum) number of leaves. */
+    private static final int MINIMUM_CAPACITY = 16;
+
+    /**
+     * The minimum values, with the leaves at <code>[capacity, 2 *
+     * capacity)</code> and the minimum of nodes <code>2n</code> and
+     * <code>2n + 1</code> at node <code>n</code>.
+     */
+    private double[] min;
+
+    /** The maximum values, arranged in the same way as the minimum values. */
+    private double[] max;
+
+    /** The number of leaves. */
+    private int capacity;
+
+    /** The leaf that holds the first value in the sequence. */
+    private int first;
+
+    /** The number of values in the sequence. */
+    private int size;
+
+    /**
+     * Creates a new empty tree.
+     */
+    public MinMaxTree() {
+        this(MINIMUM_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty tree with space for the specified number of
+     * values.
+     *
+     * @param initialCapacity  the initial capacity.
+     */
+    public MinMaxTree(int initialCapacity) {
+        allocate(Math.max(MINIMUM_CAPACITY, initialCapacity));
+    }
+
+    /**
+     * Returns the number of values in the sequence.
+     *
+     * @return The number of values.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Appends a value to the sequence.
+     *
+     * @param value  the value.
+     */
+    public void add(double value) {
+        add(value, value);
+    }
+
+    /**
+     * Appends a missing value to the sequence.  It takes a place in the
+     * sequence, but does not affect the minimum or maximum of any run.
+     */
+    public void addMissing() {
+        add(Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+    }
+
+    /**
+     * Appends an item with separate low and high values to the sequence
+     * (for example, the start and end y-values of an interval).
+     *
+     * @param low  the value used when finding the minimum.
+     * @param high  the value used when finding the maximum.
+     */
+    public void add(double low, double high) {
+        if (this.first + this.size == this.capacity) {
+            // compact the values at the start of the leaves, and grow if
+            // more than half full
+            int required = Math.max(MINIMUM_CAPACITY, 2 * (this.size + 1));
+            double[] oldMin = this.min;
+            double[] oldMax = this.max;
+            int oldStart = this.capacity + this.first;
+            int newCapacity = this.size + 1 > this.capacity / 2
+                    ? required : this.capacity;
+            allocate(newCapacity);
+            System.arraycopy(oldMin, oldStart, this.min, this.capacity,
+                    this.size);
+            System.arraycopy(oldMax, oldStart, this.max, this.capacity,
+                    this.size);
+            this.first = 0;
+            for (int n = this.capacity - 1; n > 0; n--) {
+                this.min[n] = Math.min(this.min[2 * n], this.min[2 * n + 1]);
+                this.max[n] = Math.max(this.max[2 * n], this.max[2 * n + 1]);
+            }
+        }
+        this.size++;
+        setLeaf(this.first + this.size - 1, low, high);
+    }
+
+    /**
+     * Changes a value in the sequence.
+     *
+     * @param index  the index (zero-based).
+     * @param value  the new value.
+     */
+    public void set(int index, double value) {
+        set(index, value, value);
+    }
+
+    /**
+     * Changes a value in the sequence to a missing value.
+     *
+     * @param index  the index (zero-based).
+     */
+    public void setMissing(int index) {
+        set(index, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+    }
+
+    /**
+     * Changes the low and high values of an item in the sequence.
+     *
+     * @param index  the index (zero-based).
+     * @param low  the value used when finding the minimum.
+     * @param high  the value used when finding the maximum.
+     */
+    public void set(int index, double low, double high) {
+        checkIndex(index, this.size);
+        setLeaf(this.first + index, low, high);
+    }
+
+    /**
+     * Removes values from the start of the sequence.
+     *
+     * @param count  the number of values to remove (not more than the size).
+     */
+    public void removeFirst(int count) {
+        checkIndex(count, this.size + 1);
+        for (int i = 0; i < count; i++) {
+            setLeaf(this.first + i, Double.POSITIVE_INFINITY,
+                    Double.NEGATIVE_INFINITY);
+        }
+        this.first += count;
+        this.size -= count;
+    }
+
+    /**
+     * Returns the minimum of the values in a run, or
+     * <code>Double.POSITIVE_INFINITY</code> if the run is empty or contains
+     * only missing values.
+     *
+     * @param start  the index of the first value in the run.
+     * @param end  the index after the last value in the run.
+     *
+     * @return The minimum value.
+     */
+    public double getMinimum(int start, int end) {
+        checkRun(start, end);
+        double result = Double.POSITIVE_INFINITY;
+        int lo = this.capacity + this.first + start;
+        int hi = this.capacity + this.first + end;
+        while (lo < hi) {
+            if ((lo & 1) == 1) {
+                result = Math.min(result, this.min[lo++]);
+            }
+            if ((hi & 1) == 1) {
+                result = Math.min(result, this.min[--hi]);
+            }
+            lo >>= 1;
+            hi >>= 1;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the maximum of the values in a run, or
+     * <code>Double.NEGATIVE_INFINITY</code> if the run is empty or contains
+     * only missing values.
+     *
+     * @param start  the index of the first value in the run.
+     * @param end  the index after the last value in the run.
+     *
+     * @return The maximum value.
+     */
+    public double getMaximum(int start, int end) {
+        checkRun(start, end);
+        double result = Double.NEGATIVE_INFINITY;
+        int lo = this.capacity + this.first + start;
+        int hi = this.capacity + this.first + end;
+        while (lo < hi) {
+            if ((lo & 1) == 1) {
+                result = Math.max(result, this.max[lo++]);
+            }
+            if ((hi & 1) == 1) {
+                result = Math.max(result, this.max[--hi]);
+            }
+            lo >>= 1;
+            hi >>= 1;
+        }
+        return result;
+    }
+
+    /**
+     * Removes all values from the sequence.
+     */
+    public void clear() {
+        allocate(MINIMUM_CAPACITY);
+        this.first = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Returns a clone of the tree.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        MinMaxTree clone = (MinMaxTree) super.clone();
+        clone.min = (double[]) this.min.clone();
+        clone.max = (double[]) this.max.clone();
+        return clone;
+    }
+
+    /**
+     * Allocates new (empty) arrays for the tree.
+     *
+     * @param leaves  the minimum number of leaves.
+     */
+    private void allocate(int leaves) {
+        int c = Integer.highestOneBit(leaves - 1) << 1;
+        this.capacity = c;
+        this.min = new double[2 * c];
+        this.max = new double[2 * c];
+        java.util.Arrays.fill(this.min, Double.POSITIVE_INFINITY);
+        java.util.Arrays.fill(this.max, Double.NEGATIVE_INFINITY);
+    }
+
+    /**
+     * Sets the values for a leaf and updates the nodes above it.
+     *
+     * @param leaf  the leaf index.
+     * @param low  the low value.
+     * @param high  the high value.
+     */
+    private void setLeaf(int leaf, double low, double high) {
+        int n = this.capacity + leaf;
+        this.min[n] = low;
+        this.max[n] = high;
+        for (n >>= 1; n > 0; n >>= 1) {
+            this.min[n] = Math.min(this.min[2 * n], this.min[2 * n + 1]);
+            this.max[n] = Math.max(this.max[2 * n], this.max[2 * n + 1]);
+        }
+    }
+
+    /**
+     * Checks that an index is in the range <code>0</code> to
+     * <code>limit - 1</code>.
+     *
+     * @param index  the index.
+     * @param limit  the limit.
+     */
+    private static void checkIndex(int index, int limit) {
+        if (index < 0 || index >= limit) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Limit: " + limit);
+        }
+    }
+
+    /**
+     * Checks that a run of values is within the sequence.
+     *
+     * @param start  the index of the first value in the run.
+     * @param end  the index after the last value in the run.
+     */
+    private void checkRun(int start, int end) {
+        if (start < 0 || end > this.size || start > end) {
+            throw new IndexOutOfBoundsException("Run: [" + start + ", " + end
+                    + "), Size: " + this.size);
+        }
+    }
+
+}
@@ -0,0 +1,354 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * RingBufferList.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.RandomAccess;
+
+/**
+ * A list backed by a circular array.  Adding an item at the end of the list
+ * and removing the item at the start of the list both run in constant time,
+ * which makes this a good storage structure for series that have a maximum
+ * item count (where every new item pushes out the oldest one).  Insertions
+ * and removals elsewhere in the list move the items on whichever side of the
+ * index is shorter.
+ *
+ * @since 1.0.20
+ */
+public class RingBufferList extends AbstractList implements RandomAccess,
+        Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2718432617709455023L;
+
+    /** The default initial capacity. */
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /** Storage for the items. */
+    private Object[] elements;
+
+    /** The index (in the elements array) of the first item in the list. */
+    private int head;
+
+    /** The number of items in the list. */
+    private int size;
+
+    /**
+     * Creates a new empty list.
+     */
+    public RingBufferList() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty list with the specified initial capacity.
+     *
+     * @param initialCapacity  the initial capacity (must be &gt;= 0).
+     */
+    public RingBufferList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Negative 'initialCapacity' argument.");
+        }
+        this.elements = new Object[Math.max(initialCapacity, 1)];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Creates a new list containing the items in the specified collection,
+     * in the order they are returned by the collection's iterator.
+     *
+     * @param c  the collection (<code>null</code> not permitted).
+     */
+    public RingBufferList(Collection c) {
+        this(c.size());
+        Iterator iterator = c.iterator();
+        while (iterator.hasNext()) {
+            add(iterator.next());
+        }
+    }
+
+    /**
+     * Returns the number of items in the list.
+     *
+     * @return The number of items in the list.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the item at the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return The item (possibly <code>null</code>).
+     */
+    @Override
+    public Object get(int index) {
+        checkIndex(index);
+        return this.elements[physical(index)];
+    }
+
+    /**
+     * Replaces the item at the specified index.
+     *
+     * @param index  the index.
+     * @param element  the new item (<code>null</code> permitted).
+     *
+     * @return The item previously at the specified index.
+     */
+    @Override
+    public Object set(int index, Object element) {
+        checkIndex(index);
+        int p = physical(index);
+        Object old = this.elements[p];
+        this.elements[p] = element;
+        return old;
+    }
+
+    /**
+     * Adds an item to the end of the list.  This runs in (amortised)
+     * constant time.
+     *
+     * @param element  the item (<code>null</code> permitted).
+     *
+     * @return <code>true</code>.
+     */
+    @Override
+    public boolean add(Object element) {
+        ensureCapacity(this.size + 1);
+        this.elements[physical(this.size)] = element;
+        this.size++;
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts an item at the specified index.
+     *
+     * @param index  the index (in the range <code>0</code> to
+     *     <code>size()</code>).
+     * @param element  the item (<code>null</code> permitted).
+     */
+    @Override
+    public void add(int index, Object element) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.size);
+        }
+        if (index == this.size) {
+            add(element);
+            return;
+        }
+        ensureCapacity(this.size + 1);
+        int capacity = this.elements.length;
+        if (index < this.size / 2) {
+            // move the items before the index one place to the left
+            this.head = (this.head - 1 + capacity) % capacity;
+            for (int i = 0; i < index; i++) {
+                this.elements[physical(i)] = this.elements[physical(i + 1)];
+            }
+        }
+        else {
+            // move the items after the index one place to the right
+            for (int i = this.size; i > index; i--) {
+                this.elements[physical(i)] = this.elements[physical(i - 1)];
+            }
+        }
+        this.elements[physical(index)] = element;
+        this.size++;
+        this.modCount++;
+    }
+
+    /**
+     * Removes the item at the specified index.  Removing the first or last
+     * item runs in constant time.
+     *
+     * @param index  the index.
+     *
+     * @return The item removed.
+     */
+    @Override
+    public Object remove(int index) {
+        checkIndex(index);
+        Object removed = this.elements[physical(index)];
+        if (index < this.size / 2) {
+            // move the items before the index one place to the right
+            for (int i = index; i > 0; i--) {
+                this.elements[physical(i)] = this.elements[physical(i - 1)];
+            }
+            this.elements[this.head] = null;
+            this.head = (this.head + 1) % this.elements.length;
+        }
+        else {
+            // move the items after the index one place to the left
+            for (int i = index; i < this.size - 1; i++) {
+                this.elements[physical(i)] = this.elements[physical(i + 1)];
+            }
+            this.elements[physical(this.size - 1)] = null;
+        }
+        this.size--;
+        this.modCount++;
+        return removed;
+    }
+
+    /**
+     * Removes all the items from the list.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < this.size; i++) {
+            this.elements[physical(i)] = null;
+        }
+        this.head = 0;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Removes the items from <code>fromIndex</code> (inclusive) to
+     * <code>toIndex</code> (exclusive).  Removing a range from the start or
+     * end of the list does not move any other items.
+     *
+     * @param fromIndex  the index of the first item to remove.
+     * @param toIndex  the index after the last item to remove.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        int count = toIndex - fromIndex;
+        if (count <= 0) {
+            return;
+        }
+        int tail = this.size - toIndex;
+        if (fromIndex < tail) {
+            // move the items before the range to the right
+            for (int i = fromIndex - 1; i >= 0; i--) {
+                this.elements[physical(i + count)] = this.elements[physical(i)];
+            }
+            for (int i = 0; i < count; i++) {
+                this.elements[physical(i)] = null;
+            }
+            this.head = physical(count);
+        }
+        else {
+            // move the items after the range to the left
+            for (int i = toIndex; i < this.size; i++) {
+                this.elements[physical(i - count)] = this.elements[physical(i)];
+            }
+            for (int i = this.size - count; i < this.size; i++) {
+                this.elements[physical(i)] = null;
+            }
+        }
+        this.size -= count;
+        this.modCount++;
+    }
+
+    /**
+     * Returns an independent copy of this list (the items themselves are not
+     * cloned).
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        RingBufferList clone = (RingBufferList) super.clone();
+        clone.elements = new Object[Math.max(this.size, 1)];
+        for (int i = 0; i < this.size; i++) {
+            clone.elements[i] = this.elements[physical(i)];
+        }
+        clone.head = 0;
+        clone.modCount = 0;
+        return clone;
+    }
+
+    /**
+     * Converts a list index to an index in the elements array.
+     *
+     * @param index  the list index.
+     *
+     * @return The array index.
+     */
+    private int physical(int index) {
+        int p = this.head + index;
+        int capacity = this.elements.length;
+        return p < capacity ? p : p - capacity;
+    }
+
+    /**
+     * Checks that an index refers to an item in the list.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.size);
+        }
+    }
+
+    /**
+     * Ensures that the list can hold at least the specified number of items,
+     * unwrapping the items to the start of a new array if it needs to grow.
+     *
+     * @param capacity  the required capacity.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > this.elements.length) {
+            int newCapacity = Math.max(capacity,
+                    this.elements.length + (this.elements.length >> 1) + 1);
+            Object[] newElements = new Object[newCapacity];
+            for (int i = 0; i < this.size; i++) {
+                newElements[i] = this.elements[physical(i)];
+            }
+            this.elements = newElements;
+            this.head = 0;
+        }
+    }
+
+}
@@ -51,6 +51,9 @@
  * 26-Sep-2007 : Added isEmpty() and getItemCount() methods (DG);
  * 16-Oct-2011 : Added vetoable property change support for series name (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Added version counter (G14);
+ * 18-Oct-2026 : Added beginUpdate() and endUpdate() (G14);
+ * 18-Oct-2026 : Added fireSeriesChanged(SeriesChangeEvent) (G14);
  * 
  */
 
@@ -101,6 +104,24 @@ public abstract class Series implements Cloneable, Serializable {
     /** A flag that controls whether or not changes are notified. */
     private boolean notify;
 
+    /**
+     * A counter that is incremented for every change to the series (see
+     * {@link #getVersion()}).
+     */
+    private transient long version;
+
+    /**
+     * The number of calls to {@link #beginUpdate()} that have not yet been
+     * matched by a call to {@link #endUpdate()}.
+     */
+    private transient int updateDepth;
+
+    /**
+     * A flag that records whether the series has changed since the
+     * outermost call to {@link #beginUpdate()}.
+     */
+    private transient boolean changePending;
+
     /**
      * Creates a new series with the specified key.
      *
@@ -218,6 +239,58 @@ public abstract class Series implements Cloneable, Serializable {
         }
     }
 
+    /**
+     * Starts a batch of changes to the series.  Until the matching call to
+     * {@link #endUpdate()}, change events are not sent to registered
+     * listeners, then a single {@link SeriesChangeEvent} is sent if the
+     * series changed in the meantime.  Calls can be nested, in which case
+     * the event is sent by the outermost call to <code>endUpdate()</code>.
+     * Use a <code>try/finally</code> block so that every call is matched.
+     *
+     * @see #endUpdate()
+     *
+     * @since 1.0.20
+     */
+    public void beginUpdate() {
+        this.updateDepth++;
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginUpdate()}.  If this
+     * ends the outermost batch and the series has changed, a change event
+     * is sent to all registered listeners (provided that the
+     * <code>notify</code> flag is set).
+     *
+     * @throws IllegalStateException if there is no matching call to
+     *     <code>beginUpdate()</code>.
+     *
+     * @since 1.0.20
+     */
+    public void endUpdate() {
+        if (this.updateDepth == 0) {
+            throw new IllegalStateException(
+                    "No matching call to beginUpdate().");
+        }
+        this.updateDepth--;
+        if (this.updateDepth == 0 && this.changePending) {
+            this.changePending = false;
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if a batch of changes started by
+     * {@link #beginUpdate()} is in progress, and <code>false</code>
+     * otherwise.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.20
+     */
+    public boolean isUpdating() {
+        return this.updateDepth > 0;
+    }
+
     /**
      * Returns <code>true</code> if the series contains no data items, and
      * <code>false</code> otherwise.
@@ -260,6 +333,8 @@ public abstract class Series implements Cloneable, Serializable {
         clone.listeners = new EventListenerList();
         clone.propertyChangeSupport = new PropertyChangeSupport(clone);
         clone.vetoableChangeSupport = new VetoableChangeSupport(clone);
+        clone.updateDepth = 0;
+        clone.changePending = false;
         return clone;
     }
 
@@ -325,24 +400,77 @@ public abstract class Series implements Cloneable, Serializable {
         this.listeners.remove(SeriesChangeListener.class, listener);
     }
 
+    /**
+     * Returns the version of the series, a number that increases every time
+     * the series changes (including changes made with change events
+     * suppressed, either by the notify flag or by methods that take a
+     * <code>notify</code> argument).  Code that derives results from the
+     * series can keep them until the version changes.
+     * <P>
+     * The version is not included in the serialized form of the series, and
+     * is only meaningful for comparison with other versions of the same
+     * series instance.
+     *
+     * @return The version.
+     *
+     * @since 1.0.20
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Increments the version of the series.  Subclasses should call this
+     * method when the series is changed without calling
+     * {@link #fireSeriesChanged()}.
+     *
+     * @since 1.0.20
+     */
+    protected void incrementVersion() {
+        this.version++;
+    }
+
     /**
      * General method for signalling to registered listeners that the series
      * has been changed.
      */
     public void fireSeriesChanged() {
+        fireSeriesChanged(new SeriesChangeEvent(this));
+    }
+
+    /**
+     * Sends the specified event to all registered listeners, provided that
+     * the <code>notify</code> flag is set.  Subclasses can use this to send
+     * an event with details of the change (see {@link SeriesChangeType}).
+     *
+     * @param event  the event (<code>null</code> not permitted).
+     *
+     * @since 1.0.20
+     */
+    protected void fireSeriesChanged(SeriesChangeEvent event) {
         if (this.notify) {
-            notifyListeners(new SeriesChangeEvent(this));
+            notifyListeners(event);
+        }
+        else {
+            this.version++;
         }
     }
 
     /**
-     * Sends a change event to all registered listeners.
+     * Sends a change event to all registered listeners.  If a batch of
+     * changes is in progress (see {@link #beginUpdate()}), the event is held
+     * back and a single event is sent when the batch ends.
      *
      * @param event  contains information about the event that triggered the
      *               notification.
      */
     protected void notifyListeners(SeriesChangeEvent event) {
 
+        this.version++;
+        if (this.updateDepth > 0) {
+            this.changePending = true;
+            return;
+        }
         Object[] listenerList = this.listeners.getListenerList();
         for (int i = listenerList.length - 2; i >= 0; i -= 2) {
             if (listenerList[i] == SeriesChangeListener.class) {
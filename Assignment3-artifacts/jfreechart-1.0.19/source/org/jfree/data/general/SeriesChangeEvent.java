@@ -36,29 +36,147 @@
  * -------
  * 15-Nov-2001 : Version 1 (DG);
  * 18-Aug-2003 : Implemented Serializable (DG);
+ * 18-Oct-2026 : Added details of appended, removed and updated items (G14);
+ * 18-Oct-2026 : Added readObject() for events serialized without the
+ *               details (G14);
  *
  */
 
 package org.jfree.data.general;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.EventObject;
+import org.jfree.chart.util.ParamChecks;
 
 /**
- * An event with details of a change to a series.
+ * An event with details of a change to a series.  Where possible, the event
+ * describes which items changed (see {@link #getType()}), so that listeners
+ * can update results derived from the series rather than recalculate them.
  */
 public class SeriesChangeEvent extends EventObject implements Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = 1593866085210089052L;
 
+    /** The type of change. */
+    private SeriesChangeType type;
+
+    /** The index of the first item affected by the change (or -1). */
+    private int firstIndex;
+
+    /** The index of the last item affected by the change (or -1). */
+    private int lastIndex;
+
+    /** The number of items removed from the start of the series. */
+    private int removedCount;
+
     /**
-     * Constructs a new event.
+     * Constructs a new event for a {@link SeriesChangeType#GENERAL} change.
      *
      * @param source  the source of the change event.
      */
     public SeriesChangeEvent(Object source) {
+        this(source, SeriesChangeType.GENERAL, -1, -1, 0);
+    }
+
+    /**
+     * Constructs a new event.
+     *
+     * @param source  the source of the change event.
+     * @param type  the type of change (<code>null</code> not permitted).
+     * @param firstIndex  the index of the first item that was appended or
+     *     updated (in the series after the change), or <code>-1</code>.
+     * @param lastIndex  the index of the last item that was appended or
+     *     updated (in the series after the change), or <code>-1</code>.
+     * @param removedCount  the number of items removed from the start of the
+     *     series.
+     *
+     * @since 1.0.20
+     */
+    public SeriesChangeEvent(Object source, SeriesChangeType type,
+            int firstIndex, int lastIndex, int removedCount) {
         super(source);
+        ParamChecks.nullNotPermitted(type, "type");
+        this.type = type;
+        this.firstIndex = firstIndex;
+        this.lastIndex = lastIndex;
+        this.removedCount = removedCount;
+    }
+
+    /**
+     * Returns the type of change.  For {@link SeriesChangeType#APPEND} the
+     * appended items are those from {@link #getFirstIndex()} to
+     * {@link #getLastIndex()}, and {@link #getRemovedCount()} items were
+     * removed from the start of the series first.  For
+     * {@link SeriesChangeType#REMOVE_FIRST}, <code>getRemovedCount()</code>
+     * items were removed from the start of the series.  For
+     * {@link SeriesChangeType#UPDATE} the item at
+     * <code>getFirstIndex()</code> was updated.
+     *
+     * @return The type (never <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public SeriesChangeType getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the index of the first item that was appended or updated, or
+     * <code>-1</code>.
+     *
+     * @return The index.
+     *
+     * @since 1.0.20
+     */
+    public int getFirstIndex() {
+        return this.firstIndex;
+    }
+
+    /**
+     * Returns the index of the last item that was appended or updated, or
+     * <code>-1</code>.
+     *
+     * @return The index.
+     *
+     * @since 1.0.20
+     */
+    public int getLastIndex() {
+        return this.lastIndex;
+    }
+
+    /**
+     * Returns the number of items that were removed from the start of the
+     * series.
+     *
+     * @return The item count.
+     *
+     * @since 1.0.20
+     */
+    public int getRemovedCount() {
+        return this.removedCount;
+    }
+
+    /**
+     * Provides serialization support.  An event that was serialized before
+     * the details were added is restored as a
+     * {@link SeriesChangeType#GENERAL} change.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = stream.readFields();
+        this.type = (SeriesChangeType) fields.get("type",
+                SeriesChangeType.GENERAL);
+        this.firstIndex = fields.get("firstIndex", -1);
+        this.lastIndex = fields.get("lastIndex", -1);
+        this.removedCount = fields.get("removedCount", 0);
     }
 
 }
@@ -0,0 +1,155 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * SeriesChangeType.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+
+/**
+ * Defines the tokens that describe the kind of change reported by a
+ * {@link SeriesChangeEvent}.
+ *
+ * @since 1.0.20
+ */
+public final class SeriesChangeType implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4218960318297134465L;
+
+    /**
+     * Any change to the series, which listeners should treat as a change to
+     * every item.
+     */
+    public static final SeriesChangeType GENERAL
+            = new SeriesChangeType("SeriesChangeType.GENERAL");
+
+    /**
+     * Items were added to the end of the series (and possibly some items
+     * removed from the start of the series, to respect the maximum item
+     * count).
+     */
+    public static final SeriesChangeType APPEND
+            = new SeriesChangeType("SeriesChangeType.APPEND");
+
+    /** Items were removed from the start of the series. */
+    public static final SeriesChangeType REMOVE_FIRST
+            = new SeriesChangeType("SeriesChangeType.REMOVE_FIRST");
+
+    /** A single item was updated. */
+    public static final SeriesChangeType UPDATE
+            = new SeriesChangeType("SeriesChangeType.UPDATE");
+
+    /** The name. */
+    private String name;
+
+    /**
+     * Private constructor.
+     *
+     * @param name  the name.
+     */
+    private SeriesChangeType(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns a string representing the object.
+     *
+     * @return The string (never <code>null</code>).
+     */
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+    /**
+     * Returns <code>true</code> if this object is equal to the specified
+     * object, and <code>false</code> otherwise.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SeriesChangeType)) {
+            return false;
+        }
+        SeriesChangeType that = (SeriesChangeType) obj;
+        return this.name.equals(that.toString());
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return this.name.hashCode();
+    }
+
+    /**
+     * Ensures that serialization returns the unique instances.
+     *
+     * @return The object.
+     *
+     * @throws ObjectStreamException if there is a problem.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        if (this.equals(SeriesChangeType.GENERAL)) {
+            return SeriesChangeType.GENERAL;
+        }
+        else if (this.equals(SeriesChangeType.APPEND)) {
+            return SeriesChangeType.APPEND;
+        }
+        else if (this.equals(SeriesChangeType.REMOVE_FIRST)) {
+            return SeriesChangeType.REMOVE_FIRST;
+        }
+        else if (this.equals(SeriesChangeType.UPDATE)) {
+            return SeriesChangeType.UPDATE;
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,272 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * WindowedMinMax.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.io.Serializable;
+
+/**
+ * Tracks the minimum and maximum of a first-in-first-out window of values,
+ * where values are appended at the end of the window and removed from the
+ * start.  Both operations run in amortised constant time (using a pair of
+ * monotonic queues), so a series with a maximum item count can keep its
+ * bounds up to date as old items are evicted, without iterating over all
+ * the remaining items.
+ * <P>
+ * <code>Double.NaN</code> values occupy a place in the window but are
+ * ignored when finding the minimum and maximum.
+ *
+ * @since 1.0.20
+ */
+public class WindowedMinMax implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 5203617094829358816L;
+
+    /** Candidates for the minimum value (increasing from front to back). */
+    private MonotonicQueue minQueue;
+
+    /** Candidates for the maximum value (decreasing from front to back). */
+    private MonotonicQueue maxQueue;
+
+    /** The sequence number of the first value in the window. */
+    private long first;
+
+    /** The sequence number that will be given to the next appended value. */
+    private long next;
+
+    /**
+     * Creates a new empty window.
+     */
+    public WindowedMinMax() {
+        this.minQueue = new MonotonicQueue();
+        this.maxQueue = new MonotonicQueue();
+        this.first = 0L;
+        this.next = 0L;
+    }
+
+    /**
+     * Returns the number of values in the window.
+     *
+     * @return The number of values.
+     */
+    public int getCount() {
+        return (int) (this.next - this.first);
+    }
+
+    /**
+     * Appends a value to the end of the window.
+     *
+     * @param value  the value (<code>Double.NaN</code> permitted).
+     */
+    public void append(double value) {
+        long seq = this.next++;
+        if (Double.isNaN(value)) {
+            return;
+        }
+        while (!this.minQueue.isEmpty() && this.minQueue.lastValue() >= value) {
+            this.minQueue.removeLast();
+        }
+        this.minQueue.addLast(seq, value);
+        while (!this.maxQueue.isEmpty() && this.maxQueue.lastValue() <= value) {
+            this.maxQueue.removeLast();
+        }
+        this.maxQueue.addLast(seq, value);
+    }
+
+    /**
+     * Removes the first value from the window.
+     *
+     * @throws IllegalStateException if the window is empty.
+     */
+    public void removeFirst() {
+        if (this.first == this.next) {
+            throw new IllegalStateException("The window is empty.");
+        }
+        long seq = this.first++;
+        if (!this.minQueue.isEmpty() && this.minQueue.firstSeq() == seq) {
+            this.minQueue.removeFirst();
+        }
+        if (!this.maxQueue.isEmpty() && this.maxQueue.firstSeq() == seq) {
+            this.maxQueue.removeFirst();
+        }
+    }
+
+    /**
+     * Returns the smallest value in the window, ignoring
+     * <code>Double.NaN</code> values.
+     *
+     * @return The minimum (<code>Double.NaN</code> if there are no values).
+     */
+    public double getMin() {
+        return this.minQueue.isEmpty() ? Double.NaN
+                : this.minQueue.firstValue();
+    }
+
+    /**
+     * Returns the largest value in the window, ignoring
+     * <code>Double.NaN</code> values.
+     *
+     * @return The maximum (<code>Double.NaN</code> if there are no values).
+     */
+    public double getMax() {
+        return this.maxQueue.isEmpty() ? Double.NaN
+                : this.maxQueue.firstValue();
+    }
+
+    /**
+     * Removes all values from the window.
+     */
+    public void clear() {
+        this.minQueue.clear();
+        this.maxQueue.clear();
+        this.first = this.next;
+    }
+
+    /**
+     * Returns an independent copy of this window.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        WindowedMinMax clone = (WindowedMinMax) super.clone();
+        clone.minQueue = (MonotonicQueue) this.minQueue.clone();
+        clone.maxQueue = (MonotonicQueue) this.maxQueue.clone();
+        return clone;
+    }
+
+    /**
+     * A double-ended queue of (sequence number, value) pairs stored in
+     * circular arrays.
+     */
+    private static class MonotonicQueue implements Cloneable, Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -4417350725916628474L;
+
+        /** The sequence numbers. */
+        private long[] seqs;
+
+        /** The values. */
+        private double[] values;
+
+        /** The array index of the first entry. */
+        private int head;
+
+        /** The number of entries. */
+        private int size;
+
+        /**
+         * Creates a new empty queue.
+         */
+        MonotonicQueue() {
+            this.seqs = new long[16];
+            this.values = new double[16];
+        }
+
+        boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        long firstSeq() {
+            return this.seqs[this.head];
+        }
+
+        double firstValue() {
+            return this.values[this.head];
+        }
+
+        double lastValue() {
+            return this.values[(this.head + this.size - 1)
+                    % this.values.length];
+        }
+
+        void addLast(long seq, double value) {
+            if (this.size == this.values.length) {
+                grow();
+            }
+            int p = (this.head + this.size) % this.values.length;
+            this.seqs[p] = seq;
+            this.values[p] = value;
+            this.size++;
+        }
+
+        void removeFirst() {
+            this.head = (this.head + 1) % this.values.length;
+            this.size--;
+        }
+
+        void removeLast() {
+            this.size--;
+        }
+
+        void clear() {
+            this.head = 0;
+            this.size = 0;
+        }
+
+        private void grow() {
+            int capacity = this.values.length;
+            long[] newSeqs = new long[capacity * 2];
+            double[] newValues = new double[capacity * 2];
+            for (int i = 0; i < this.size; i++) {
+                int p = (this.head + i) % capacity;
+                newSeqs[i] = this.seqs[p];
+                newValues[i] = this.values[p];
+            }
+            this.seqs = newSeqs;
+            this.values = newValues;
+            this.head = 0;
+        }
+
+        @Override
+        public Object clone() throws CloneNotSupportedException {
+            MonotonicQueue clone = (MonotonicQueue) super.clone();
+            clone.seqs = (long[]) this.seqs.clone();
+            clone.values = (double[]) this.values.clone();
+            return clone;
+        }
+
+    }
+
+}
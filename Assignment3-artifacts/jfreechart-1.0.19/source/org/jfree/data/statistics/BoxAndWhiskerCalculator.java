@@ -42,12 +42,15 @@
  * 15-Nov-2006 : Cleaned up handling of null arguments, and null or NaN items
  *               in the list (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Find the median and quartiles by selection, and added methods
+ *               for double arrays and sketches (G14);
  *
  */
 
 package org.jfree.data.statistics;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -56,7 +59,8 @@ import org.jfree.chart.util.ParamChecks;
 /**
  * A utility class that calculates the mean, median, quartiles Q1 and Q3, plus
  * a list of outlier values...all from an arbitrary list of
- * <code>Number</code> objects.
+ * <code>Number</code> objects, an array of values, or a
+ * {@link BoxAndWhiskerSketch} (for values that are too many to store).
  */
 public abstract class BoxAndWhiskerCalculator {
 
@@ -96,30 +100,146 @@ public abstract class BoxAndWhiskerCalculator {
 
         ParamChecks.nullNotPermitted(values, "values");
 
-        List vlist;
-        if (stripNullAndNaNItems) {
-            vlist = new ArrayList(values.size());
-            Iterator iterator = values.listIterator();
-            while (iterator.hasNext()) {
-                Object obj = iterator.next();
-                if (obj instanceof Number) {
-                    Number n = (Number) obj;
-                    double v = n.doubleValue();
-                    if (!Double.isNaN(v)) {
-                        vlist.add(n);
-                    }
+        if (!stripNullAndNaNItems) {
+            // the list is known to hold only numbers, so it can be sorted
+            List vlist = values;
+            Collections.sort(vlist);
+            double[] v = new double[vlist.size()];
+            for (int i = 0; i < v.length; i++) {
+                v[i] = ((Number) vlist.get(i)).doubleValue();
+            }
+            return createItem(v, v.length, (Number[]) vlist.toArray(
+                    new Number[v.length]), (double[]) v.clone());
+        }
+        Number[] numbers = new Number[values.size()];
+        double[] v = new double[numbers.length];
+        int count = 0;
+        Iterator iterator = values.iterator();
+        while (iterator.hasNext()) {
+            Object obj = iterator.next();
+            if (obj instanceof Number) {
+                Number n = (Number) obj;
+                double d = n.doubleValue();
+                if (!Double.isNaN(d)) {
+                    numbers[count] = n;
+                    v[count++] = d;
                 }
             }
         }
-        else {
-            vlist = values;
+        double[] work = new double[count];
+        System.arraycopy(v, 0, work, 0, count);
+        return createItem(v, count, numbers, work);
+
+    }
+
+    /**
+     * Calculates the statistics required for a {@link BoxAndWhiskerItem}
+     * from a slice of an array of values, with the same results as
+     * {@link #calculateBoxAndWhiskerStatistics(List)}.  The values are not
+     * sorted: the median and quartiles are found by selection, in time
+     * proportional to the number of values.  Values that are
+     * <code>Double.NaN</code> are ignored, and the array is not modified.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     * @param offset  the index of the first value.
+     * @param length  the number of values.
+     *
+     * @return A box-and-whisker item.
+     *
+     * @since 1.0.20
+     */
+    public static BoxAndWhiskerItem calculateBoxAndWhiskerStatistics(
+            double[] values, int offset, int length) {
+        ParamChecks.nullNotPermitted(values, "values");
+        Statistics.checkSlice(values.length, offset, length);
+        double[] work = new double[length];
+        int count = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (!Double.isNaN(values[i])) {
+                work[count++] = values[i];
+            }
+        }
+        return createItem(work, count, null, work);
+    }
+
+    /**
+     * Calculates the statistics required for a {@link BoxAndWhiskerItem}
+     * from a sketch.  If the sketch holds all the values added to it (see
+     * {@link BoxAndWhiskerSketch#isExact()}) the result is the same as for
+     * {@link #calculateBoxAndWhiskerStatistics(List)}.  Otherwise the mean
+     * is exact, the median and quartiles are estimates (within the rank error
+     * of the sketch), the whiskers are exact unless there are more outliers
+     * at that end than the tail size of the sketch, and the outliers are the
+     * most extreme values up to the tail size at each end.
+     *
+     * @param sketch  the sketch (<code>null</code> not permitted).
+     *
+     * @return A box-and-whisker item.
+     *
+     * @since 1.0.20
+     */
+    public static BoxAndWhiskerItem calculateSketchStatistics(
+            BoxAndWhiskerSketch sketch) {
+        ParamChecks.nullNotPermitted(sketch, "sketch");
+        double[] values = sketch.getValues();
+        if (values != null) {
+            return createItem(values, values.length, null, values);
+        }
+        double mean = sketch.getMean();
+        double median = sketch.getQuantile(0.5);
+        double q1 = sketch.getQuantile(0.25);
+        double q3 = sketch.getQuantile(0.75);
+
+        double interQuartileRange = q3 - q1;
+        double upperOutlierThreshold = q3 + (interQuartileRange * 1.5);
+        double lowerOutlierThreshold = q1 - (interQuartileRange * 1.5);
+        double upperFaroutThreshold = q3 + (interQuartileRange * 2.0);
+        double lowerFaroutThreshold = q1 - (interQuartileRange * 2.0);
+
+        double minRegularValue = sketch.ceiling(lowerOutlierThreshold);
+        if (!(minRegularValue <= upperOutlierThreshold)) {
+            minRegularValue = Double.POSITIVE_INFINITY;
+        }
+        double maxRegularValue = sketch.floor(upperOutlierThreshold);
+        if (!(maxRegularValue >= lowerOutlierThreshold)) {
+            maxRegularValue = Double.NEGATIVE_INFINITY;
         }
-        Collections.sort(vlist);
+        // as in createItem(), the outlier limits are the most extreme values
+        // within the farout thresholds
+        double minOutlier = Math.min(sketch.ceiling(lowerFaroutThreshold),
+                minRegularValue);
+        double maxOutlier = Math.max(sketch.floor(upperFaroutThreshold),
+                maxRegularValue);
+        List outliers = sketch.getValuesOutside(lowerOutlierThreshold,
+                upperOutlierThreshold);
 
-        double mean = Statistics.calculateMean(vlist, false);
-        double median = Statistics.calculateMedian(vlist, false);
-        double q1 = calculateQ1(vlist);
-        double q3 = calculateQ3(vlist);
+        return new BoxAndWhiskerItem(new Double(mean), new Double(median),
+                new Double(q1), new Double(q3), new Double(minRegularValue),
+                new Double(maxRegularValue), new Double(minOutlier),
+                new Double(maxOutlier), outliers);
+    }
+
+    /**
+     * Creates a box-and-whisker item for some values.
+     *
+     * @param values  the values (in any order).
+     * @param count  the number of values.
+     * @param numbers  the values as numbers, for the outlier list (if
+     *     <code>null</code>, <code>Double</code> objects are created).
+     * @param work  a copy of the values that can be reordered (this may be
+     *     the same array as <code>values</code> if <code>numbers</code> is
+     *     <code>null</code>).
+     *
+     * @return A box-and-whisker item.
+     */
+    private static BoxAndWhiskerItem createItem(double[] values, int count,
+            Number[] numbers, double[] work) {
+
+        double mean = Statistics.calculateMean(values, 0, count, false);
+        double[] quartiles = calculateQuartiles(work, count);
+        double median = quartiles[0];
+        double q1 = quartiles[1];
+        double q3 = quartiles[2];
 
         double interQuartileRange = q3 - q1;
 
@@ -135,18 +255,16 @@ public abstract class BoxAndWhiskerCalculator {
         double maxOutlier = Double.NEGATIVE_INFINITY;
         List outliers = new ArrayList();
 
-        Iterator iterator = vlist.iterator();
-        while (iterator.hasNext()) {
-            Number number = (Number) iterator.next();
-            double value = number.doubleValue();
+        for (int i = 0; i < count; i++) {
+            double value = values[i];
             if (value > upperOutlierThreshold) {
-                outliers.add(number);
+                outliers.add(numbers != null ? numbers[i] : new Double(value));
                 if (value > maxOutlier && value <= upperFaroutThreshold) {
                     maxOutlier = value;
                 }
             }
             else if (value < lowerOutlierThreshold) {
-                outliers.add(number);
+                outliers.add(numbers != null ? numbers[i] : new Double(value));
                 if (value < minOutlier && value >= lowerFaroutThreshold) {
                     minOutlier = value;
                 }
@@ -155,9 +273,10 @@ public abstract class BoxAndWhiskerCalculator {
                 minRegularValue = Math.min(minRegularValue, value);
                 maxRegularValue = Math.max(maxRegularValue, value);
             }
-            minOutlier = Math.min(minOutlier, minRegularValue);
-            maxOutlier = Math.max(maxOutlier, maxRegularValue);
         }
+        minOutlier = Math.min(minOutlier, minRegularValue);
+        maxOutlier = Math.max(maxOutlier, maxRegularValue);
+        Collections.sort(outliers);
 
         return new BoxAndWhiskerItem(new Double(mean), new Double(median),
                 new Double(q1), new Double(q3), new Double(minRegularValue),
@@ -166,6 +285,64 @@ public abstract class BoxAndWhiskerCalculator {
 
     }
 
+    /**
+     * Calculates the median, and the first and third quartiles as defined by
+     * {@link #calculateQ1(List)} and {@link #calculateQ3(List)}, for some
+     * values in any order.  Each is the median of a range of ranks, so is
+     * found by selecting (at most) six ranks in ascending order, each within
+     * the values left after the previous selection.
+     *
+     * @param work  the values (these are reordered).
+     * @param count  the number of values.
+     *
+     * @return An array containing the median, Q1 and Q3 (all
+     *     <code>NaN</code> if there are no values).
+     */
+    private static double[] calculateQuartiles(double[] work, int count) {
+        double[] result = new double[] {Double.NaN, Double.NaN, Double.NaN};
+        if (count == 0) {
+            return result;
+        }
+        int half = count / 2;
+        int[] ranges;
+        if (count % 2 == 1) {
+            ranges = new int[] {0, count - 1, 0, half, half, count - 1};
+        }
+        else {
+            ranges = new int[] {0, count - 1, 0, half - 1, half, count - 1};
+        }
+        int[] ranks = new int[6];
+        for (int i = 0; i < 3; i++) {
+            int a = ranges[2 * i];
+            int m = ranges[2 * i + 1] - a + 1;
+            ranks[2 * i] = a + (m - 1) / 2;
+            ranks[2 * i + 1] = a + m / 2;
+        }
+        int[] sorted = (int[]) ranks.clone();
+        Arrays.sort(sorted);
+        double[] selected = new double[6];
+        int start = 0;
+        for (int i = 0; i < 6; i++) {
+            int r = sorted[i];
+            if (i > 0 && r == sorted[i - 1]) {
+                selected[i] = selected[i - 1];
+            }
+            else {
+                selected[i] = Statistics.select(work, start, count, r);
+                start = r + 1;
+            }
+        }
+        for (int i = 0; i < 3; i++) {
+            double lo = selected[Arrays.binarySearch(sorted,
+                    ranks[2 * i])];
+            double hi = selected[Arrays.binarySearch(sorted,
+                    ranks[2 * i + 1])];
+            result[i] = ranks[2 * i] == ranks[2 * i + 1] ? lo
+                    : (lo + hi) / 2.0;
+        }
+        return result;
+    }
+
     /**
      * Calculates the first quartile for a list of numbers in ascending order.
      * If the items in the list are not in ascending order, the result is
@@ -186,14 +363,16 @@ public abstract class BoxAndWhiskerCalculator {
         if (count > 0) {
             if (count % 2 == 1) {
                 if (count > 1) {
-                    result = Statistics.calculateMedian(values, 0, count / 2);
+                    result = Statistics.calculateMedian(values, 0, count / 2,
+                            false);
                 }
                 else {
-                    result = Statistics.calculateMedian(values, 0, 0);
+                    result = Statistics.calculateMedian(values, 0, 0, false);
                 }
             }
             else {
-                result = Statistics.calculateMedian(values, 0, count / 2 - 1);
+                result = Statistics.calculateMedian(values, 0, count / 2 - 1,
+                        false);
             }
 
         }
@@ -219,15 +398,15 @@ public abstract class BoxAndWhiskerCalculator {
             if (count % 2 == 1) {
                 if (count > 1) {
                     result = Statistics.calculateMedian(values, count / 2,
-                            count - 1);
+                            count - 1, false);
                 }
                 else {
-                    result = Statistics.calculateMedian(values, 0, 0);
+                    result = Statistics.calculateMedian(values, 0, 0, false);
                 }
             }
             else {
                 result = Statistics.calculateMedian(values, count / 2,
-                        count - 1);
+                        count - 1, false);
             }
         }
         return result;
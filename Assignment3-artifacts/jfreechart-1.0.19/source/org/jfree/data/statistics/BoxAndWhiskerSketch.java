@@ -0,0 +1,441 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * BoxAndWhiskerSketch.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Fixed merge() with the sketch itself (G14);
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * Accumulates the values for a box-and-whisker item without storing them
+ * all, so that an item can be calculated for more values than would fit in
+ * memory.  Pass the sketch to
+ * {@link BoxAndWhiskerCalculator#calculateSketchStatistics(
+ * BoxAndWhiskerSketch)} to calculate the item.
+ * <P>
+ * The sketch records:
+ * <ul>
+ * <li>the mean, minimum and maximum (exactly), with a
+ * {@link RunningStatistics};</li>
+ * <li>the quantiles (approximately), with a {@link QuantileSketch}.  The
+ * median and quartiles are within the rank error of the quantile sketch;
+ * </li>
+ * <li>the smallest and largest values (exactly), up to a number set by the
+ * tail size.  These give the outliers and the ends of the whiskers.  If
+ * there are more outliers at one end than the tail size, only the most
+ * extreme are listed.</li>
+ * </ul>
+ * While the quantile sketch holds every value added (for the first
+ * <code>k</code> or so values) the item is calculated exactly, as by
+ * {@link BoxAndWhiskerCalculator#calculateBoxAndWhiskerStatistics(List)}.
+ * <P>
+ * Sketches with the same parameters can be combined with
+ * {@link #merge(BoxAndWhiskerSketch)}, so values can be added in several
+ * threads (with one sketch per thread) or partitions and the results
+ * merged.  Instances are not thread-safe.  <code>NaN</code> values are
+ * ignored.
+ *
+ * @since 1.0.20
+ */
+public class BoxAndWhiskerSketch implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2210391358441467217L;
+
+    /** The default tail size. */
+    public static final int DEFAULT_TAIL_SIZE = 100;
+
+    /** The quantile sketch. */
+    private QuantileSketch quantiles;
+
+    /** The mean, minimum and maximum. */
+    private RunningStatistics statistics;
+
+    /** The maximum number of values in each tail. */
+    private int tailSize;
+
+    /**
+     * The negated smallest values, in a heap with the smallest (negated)
+     * value first.
+     */
+    private double[] lowTail;
+
+    /** The number of values in the low tail. */
+    private int lowCount;
+
+    /** The largest values, in a heap with the smallest value first. */
+    private double[] highTail;
+
+    /** The number of values in the high tail. */
+    private int highCount;
+
+    /**
+     * Creates a new sketch with a quantile sketch with the default
+     * <code>k</code> ({@link QuantileSketch#DEFAULT_K}) and the default tail
+     * size ({@link #DEFAULT_TAIL_SIZE}).
+     */
+    public BoxAndWhiskerSketch() {
+        this(QuantileSketch.DEFAULT_K, DEFAULT_TAIL_SIZE);
+    }
+
+    /**
+     * Creates a new sketch.
+     *
+     * @param k  the parameter that controls the size and accuracy of the
+     *     quantile sketch (see {@link QuantileSketch#QuantileSketch(int)}).
+     * @param tailSize  the number of smallest and largest values recorded
+     *     (zero or more).
+     */
+    public BoxAndWhiskerSketch(int k, int tailSize) {
+        if (tailSize < 0) {
+            throw new IllegalArgumentException("Requires tailSize >= 0.");
+        }
+        this.quantiles = new QuantileSketch(k);
+        this.statistics = new RunningStatistics();
+        this.tailSize = tailSize;
+        this.lowTail = new double[tailSize];
+        this.highTail = new double[tailSize];
+    }
+
+    /**
+     * Returns the value of <code>k</code> for the quantile sketch.
+     *
+     * @return The value of <code>k</code>.
+     */
+    public int getK() {
+        return this.quantiles.getK();
+    }
+
+    /**
+     * Returns the number of smallest and largest values recorded.
+     *
+     * @return The tail size.
+     */
+    public int getTailSize() {
+        return this.tailSize;
+    }
+
+    /**
+     * Returns the number of values added.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return this.statistics.getCount();
+    }
+
+    /**
+     * Returns the mean of the values.
+     *
+     * @return The mean (<code>NaN</code> if there are no values).
+     */
+    public double getMean() {
+        return this.statistics.getMean();
+    }
+
+    /**
+     * Returns an estimate of the quantile for a fraction of the values (see
+     * {@link QuantileSketch#getQuantile(double)}).
+     *
+     * @param fraction  the fraction (in the range 0.0 to 1.0).
+     *
+     * @return The quantile (<code>NaN</code> if there are no values).
+     */
+    public double getQuantile(double fraction) {
+        return this.quantiles.getQuantile(fraction);
+    }
+
+    /**
+     * Returns <code>true</code> if the item calculated from this sketch is
+     * exact, because the sketch holds all the values added.
+     *
+     * @return A boolean.
+     */
+    public boolean isExact() {
+        return !this.quantiles.isEstimationMode();
+    }
+
+    /**
+     * Adds a value.  <code>NaN</code> is ignored.
+     *
+     * @param value  the value.
+     */
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        this.quantiles.add(value);
+        this.statistics.add(value);
+        this.lowCount = offer(this.lowTail, this.lowCount, -value);
+        this.highCount = offer(this.highTail, this.highCount, value);
+    }
+
+    /**
+     * Adds the values in a slice of an array.  <code>NaN</code> values are
+     * ignored.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     * @param offset  the index of the first value.
+     * @param length  the number of values.
+     */
+    public void add(double[] values, int offset, int length) {
+        ParamChecks.nullNotPermitted(values, "values");
+        Statistics.checkSlice(values.length, offset, length);
+        for (int i = offset; i < offset + length; i++) {
+            add(values[i]);
+        }
+    }
+
+    /**
+     * Adds the values summarised by another sketch to this sketch.  The
+     * other sketch is not changed (it may be this sketch, which then
+     * summarises each value twice).
+     *
+     * @param other  the other sketch (<code>null</code> not permitted, and
+     *     must have the same <code>k</code> and tail size).
+     */
+    public void merge(BoxAndWhiskerSketch other) {
+        ParamChecks.nullNotPermitted(other, "other");
+        if (other.tailSize != this.tailSize) {
+            throw new IllegalArgumentException(
+                    "Requires sketches with the same tail size.");
+        }
+        // copy the tails first, since offering values changes them if
+        // other == this
+        double[] low = Arrays.copyOf(other.lowTail, other.lowCount);
+        double[] high = Arrays.copyOf(other.highTail, other.highCount);
+        this.quantiles.merge(other.quantiles);
+        this.statistics.merge(other.statistics);
+        for (int i = 0; i < low.length; i++) {
+            this.lowCount = offer(this.lowTail, this.lowCount, low[i]);
+        }
+        for (int i = 0; i < high.length; i++) {
+            this.highCount = offer(this.highTail, this.highCount, high[i]);
+        }
+    }
+
+    /**
+     * Returns a copy of all the values added, if the sketch holds them.
+     *
+     * @return The values (or <code>null</code>).
+     */
+    double[] getValues() {
+        return this.quantiles.getValues();
+    }
+
+    /**
+     * Returns the smallest value added that is greater than or equal to the
+     * specified value.  The result is exact if one of the tails contains it,
+     * and otherwise is a value retained by the quantile sketch.
+     *
+     * @param value  the value.
+     *
+     * @return The smallest value (<code>NaN</code> if there is none).
+     */
+    double ceiling(double value) {
+        // every value up to the largest in the low tail is in the low tail
+        if (this.lowCount > 0 && -this.lowTail[0] >= value) {
+            double result = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < this.lowCount; i++) {
+                double v = -this.lowTail[i];
+                if (v >= value && v < result) {
+                    result = v;
+                }
+            }
+            return result;
+        }
+        // every value from the smallest in the high tail is in the high tail
+        if (this.highCount > 0 && (this.highTail[0] <= value
+                || this.highCount == getCount())) {
+            double result = Double.NaN;
+            for (int i = 0; i < this.highCount; i++) {
+                double v = this.highTail[i];
+                if (v >= value && !(v >= result)) {
+                    result = v;
+                }
+            }
+            return result;
+        }
+        double result = this.quantiles.ceiling(value);
+        if (this.highCount > 0 && !(result <= this.highTail[0])) {
+            result = this.highTail[0];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the largest value added that is less than or equal to the
+     * specified value.  The result is exact if one of the tails contains it,
+     * and otherwise is a value retained by the quantile sketch.
+     *
+     * @param value  the value.
+     *
+     * @return The largest value (<code>NaN</code> if there is none).
+     */
+    double floor(double value) {
+        if (this.highCount > 0 && this.highTail[0] <= value) {
+            double result = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < this.highCount; i++) {
+                double v = this.highTail[i];
+                if (v <= value && v > result) {
+                    result = v;
+                }
+            }
+            return result;
+        }
+        if (this.lowCount > 0 && (-this.lowTail[0] >= value
+                || this.lowCount == getCount())) {
+            double result = Double.NaN;
+            for (int i = 0; i < this.lowCount; i++) {
+                double v = -this.lowTail[i];
+                if (v <= value && !(v <= result)) {
+                    result = v;
+                }
+            }
+            return result;
+        }
+        double result = this.quantiles.floor(value);
+        if (this.lowCount > 0 && !(result >= -this.lowTail[0])) {
+            result = -this.lowTail[0];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the recorded values that are less than or greater than the
+     * specified thresholds, in ascending order.
+     *
+     * @param lower  the lower threshold.
+     * @param upper  the upper threshold.
+     *
+     * @return The values (as <code>Double</code> objects).
+     */
+    List getValuesOutside(double lower, double upper) {
+        List result = new ArrayList();
+        for (int i = 0; i < this.lowCount; i++) {
+            double v = -this.lowTail[i];
+            if (v < lower) {
+                result.add(new Double(v));
+            }
+        }
+        for (int i = 0; i < this.highCount; i++) {
+            double v = this.highTail[i];
+            if (v > upper) {
+                result.add(new Double(v));
+            }
+        }
+        Collections.sort(result);
+        return result;
+    }
+
+    /**
+     * Offers a value to a heap that keeps the largest values it is offered,
+     * with the smallest of them first.
+     *
+     * @param heap  the heap.
+     * @param size  the number of values in the heap.
+     * @param value  the value.
+     *
+     * @return The new number of values in the heap.
+     */
+    private static int offer(double[] heap, int size, double value) {
+        int i;
+        if (size < heap.length) {
+            // sift up from the end
+            i = size++;
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (heap[parent] <= value) {
+                    break;
+                }
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = value;
+            return size;
+        }
+        if (size == 0 || value <= heap[0]) {
+            return size;
+        }
+        // replace the smallest value and sift down
+        i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (heap[child] >= value) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = value;
+        return size;
+    }
+
+    /**
+     * Returns a clone of the sketch.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class, but
+     *     subclasses may differ.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        BoxAndWhiskerSketch clone = (BoxAndWhiskerSketch) super.clone();
+        clone.quantiles = (QuantileSketch) this.quantiles.clone();
+        clone.statistics = (RunningStatistics) this.statistics.clone();
+        clone.lowTail = (double[]) this.lowTail.clone();
+        clone.highTail = (double[]) this.highTail.clone();
+        return clone;
+    }
+
+}
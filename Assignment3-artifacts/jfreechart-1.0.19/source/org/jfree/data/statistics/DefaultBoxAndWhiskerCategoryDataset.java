@@ -51,6 +51,9 @@
  * 02-Oct-2007 : Fixed bug in updating cached bounds (DG);
  * 03-Oct-2007 : Fixed another bug in updating cached bounds, added removal
  *               methods (DG);
+ * 18-Oct-2026 : Keep the range bounds in sorted multisets, so that changes
+ *               to items don't rescan the table (G14);
+ * 18-Oct-2026 : Added serialVersionUID (G14);
  *
  */
 
@@ -73,42 +76,29 @@ import org.jfree.util.PublicCloneable;
 public class DefaultBoxAndWhiskerCategoryDataset extends AbstractDataset
         implements BoxAndWhiskerCategoryDataset, RangeInfo, PublicCloneable {
 
-    /** Storage for the data. */
-    protected KeyedObjects2D data;
-
-    /** The minimum range value. */
-    private double minimumRangeValue;
-
-    /** The row index for the cell that the minimum range value comes from. */
-    private int minimumRangeValueRow;
-
     /**
-     * The column index for the cell that the minimum range value comes from.
+     * For serialization (the value computed for this class before the
+     * range bounds were kept in multisets).
      */
-    private int minimumRangeValueColumn;
+    private static final long serialVersionUID = 8250342558516505559L;
 
-    /** The maximum range value. */
-    private double maximumRangeValue;
-
-    /** The row index for the cell that the maximum range value comes from. */
-    private int maximumRangeValueRow;
+    /** Storage for the data. */
+    protected KeyedObjects2D data;
 
     /**
-     * The column index for the cell that the maximum range value comes from.
+     * The minimum outliers of the items, used for the range bounds
+     * (<code>null</code> if the bounds need to be recalculated).
      */
-    private int maximumRangeValueColumn;
+    private transient ValueMultiset minOutliers;
+
+    /** The maximum outliers of the items. */
+    private transient ValueMultiset maxOutliers;
 
     /**
      * Creates a new dataset.
      */
     public DefaultBoxAndWhiskerCategoryDataset() {
         this.data = new KeyedObjects2D();
-        this.minimumRangeValue = Double.NaN;
-        this.minimumRangeValueRow = -1;
-        this.minimumRangeValueColumn = -1;
-        this.maximumRangeValue = Double.NaN;
-        this.maximumRangeValueRow = -1;
-        this.maximumRangeValueColumn = -1;
     }
 
     /**
@@ -141,50 +131,17 @@ public class DefaultBoxAndWhiskerCategoryDataset extends AbstractDataset
     public void add(BoxAndWhiskerItem item, Comparable rowKey,
             Comparable columnKey) {
 
-        this.data.addObject(item, rowKey, columnKey);
-
-        // update cached min and max values
-        int r = this.data.getRowIndex(rowKey);
-        int c = this.data.getColumnIndex(columnKey);
-        if ((this.maximumRangeValueRow == r && this.maximumRangeValueColumn
-                == c) || (this.minimumRangeValueRow == r
-                && this.minimumRangeValueColumn == c))  {
-            updateBounds();
-        }
-        else {
-
-            double minval = Double.NaN;
-            if (item.getMinOutlier() != null) {
-                minval = item.getMinOutlier().doubleValue();
-            }
-            double maxval = Double.NaN;
-            if (item.getMaxOutlier() != null) {
-                maxval = item.getMaxOutlier().doubleValue();
-            }
-
-            if (Double.isNaN(this.maximumRangeValue)) {
-                this.maximumRangeValue = maxval;
-                this.maximumRangeValueRow = r;
-                this.maximumRangeValueColumn = c;
-            }
-            else if (maxval > this.maximumRangeValue) {
-                this.maximumRangeValue = maxval;
-                this.maximumRangeValueRow = r;
-                this.maximumRangeValueColumn = c;
-            }
-
-            if (Double.isNaN(this.minimumRangeValue)) {
-                this.minimumRangeValue = minval;
-                this.minimumRangeValueRow = r;
-                this.minimumRangeValueColumn = c;
-            }
-            else if (minval < this.minimumRangeValue) {
-                this.minimumRangeValue = minval;
-                this.minimumRangeValueRow = r;
-                this.minimumRangeValueColumn = c;
+        if (isTrackingBounds()) {
+            // the bounds don't need the other items, whatever this item
+            // replaces
+            int r = this.data.getRowIndex(rowKey);
+            int c = this.data.getColumnIndex(columnKey);
+            if (r >= 0 && c >= 0) {
+                removeBounds(this.data.getObject(r, c));
             }
+            addBounds(item);
         }
-
+        this.data.addObject(item, rowKey, columnKey);
         fireDatasetChanged();
 
     }
@@ -204,16 +161,10 @@ public class DefaultBoxAndWhiskerCategoryDataset extends AbstractDataset
         // defer null argument checks
         int r = getRowIndex(rowKey);
         int c = getColumnIndex(columnKey);
-        this.data.removeObject(rowKey, columnKey);
-
-        // if this cell held a maximum and/or minimum value, we'll need to
-        // update the cached bounds...
-        if ((this.maximumRangeValueRow == r && this.maximumRangeValueColumn
-                == c) || (this.minimumRangeValueRow == r
-                && this.minimumRangeValueColumn == c))  {
-            updateBounds();
+        if (r >= 0 && c >= 0 && isTrackingBounds()) {
+            removeBounds(this.data.getObject(r, c));
         }
-
+        this.data.removeObject(rowKey, columnKey);
         fireDatasetChanged();
     }
 
@@ -228,8 +179,8 @@ public class DefaultBoxAndWhiskerCategoryDataset extends AbstractDataset
      * @since 1.0.7
      */
     public void removeRow(int rowIndex) {
+        removeRowBounds(rowIndex);
         this.data.removeRow(rowIndex);
-        updateBounds();
         fireDatasetChanged();
     }
 
@@ -244,8 +195,8 @@ public class DefaultBoxAndWhiskerCategoryDataset extends AbstractDataset
      * @since 1.0.7
      */
     public void removeRow(Comparable rowKey) {
+        removeRowBounds(this.data.getRowIndex(rowKey));
         this.data.removeRow(rowKey);
-        updateBounds();
         fireDatasetChanged();
     }
 
@@ -260,8 +211,8 @@ public class DefaultBoxAndWhiskerCategoryDataset extends AbstractDataset
      * @since 1.0.7
      */
     public void removeColumn(int columnIndex) {
+        removeColumnBounds(columnIndex);
         this.data.removeColumn(columnIndex);
-        updateBounds();
         fireDatasetChanged();
     }
 
@@ -276,8 +227,8 @@ public class DefaultBoxAndWhiskerCategoryDataset extends AbstractDataset
      * @since 1.0.7
      */
     public void removeColumn(Comparable columnKey) {
+        removeColumnBounds(this.data.getColumnIndex(columnKey));
         this.data.removeColumn(columnKey);
-        updateBounds();
         fireDatasetChanged();
     }
 
@@ -289,7 +240,8 @@ public class DefaultBoxAndWhiskerCategoryDataset extends AbstractDataset
      */
     public void clear() {
         this.data.clear();
-        updateBounds();
+        this.minOutliers = null;
+        this.maxOutliers = null;
         fireDatasetChanged();
     }
 
@@ -624,7 +576,8 @@ public class DefaultBoxAndWhiskerCategoryDataset extends AbstractDataset
      */
     @Override
     public double getRangeLowerBound(boolean includeInterval) {
-        return this.minimumRangeValue;
+        updateBounds();
+        return this.minOutliers.getMinimum();
     }
 
     /**
@@ -639,7 +592,8 @@ public class DefaultBoxAndWhiskerCategoryDataset extends AbstractDataset
      */
     @Override
     public double getRangeUpperBound(boolean includeInterval) {
-        return this.maximumRangeValue;
+        updateBounds();
+        return this.maxOutliers.getMaximum();
     }
 
     /**
@@ -652,7 +606,9 @@ public class DefaultBoxAndWhiskerCategoryDataset extends AbstractDataset
      */
     @Override
     public Range getRangeBounds(boolean includeInterval) {
-        return new Range(this.minimumRangeValue, this.maximumRangeValue);
+        updateBounds();
+        return new Range(this.minOutliers.getMinimum(),
+                this.maxOutliers.getMaximum());
     }
 
     /**
@@ -866,47 +822,102 @@ public class DefaultBoxAndWhiskerCategoryDataset extends AbstractDataset
     }
 
     /**
-     * Resets the cached bounds, by iterating over the entire dataset to find
-     * the current bounds.
+     * Returns <code>true</code> if the range bounds should be updated for a
+     * change to the data.  During a batch of changes (see
+     * {@link #beginUpdate()}) the bounds are discarded instead, so that they
+     * are recalculated once, when they are next needed.
+     *
+     * @return A boolean.
+     */
+    private boolean isTrackingBounds() {
+        if (this.minOutliers != null && isUpdating()) {
+            this.minOutliers = null;
+            this.maxOutliers = null;
+        }
+        return this.minOutliers != null;
+    }
+
+    /**
+     * Adds the outliers for an item to the range bounds.
+     *
+     * @param item  the item (<code>null</code> permitted).
+     */
+    private void addBounds(Object item) {
+        if (item == null) {
+            return;
+        }
+        BoxAndWhiskerItem b = (BoxAndWhiskerItem) item;
+        if (b.getMinOutlier() != null) {
+            this.minOutliers.add(b.getMinOutlier().doubleValue());
+        }
+        if (b.getMaxOutlier() != null) {
+            this.maxOutliers.add(b.getMaxOutlier().doubleValue());
+        }
+    }
+
+    /**
+     * Removes the outliers for an item from the range bounds.
+     *
+     * @param item  the item (<code>null</code> permitted).
+     */
+    private void removeBounds(Object item) {
+        if (item == null) {
+            return;
+        }
+        BoxAndWhiskerItem b = (BoxAndWhiskerItem) item;
+        if (b.getMinOutlier() != null) {
+            this.minOutliers.remove(b.getMinOutlier().doubleValue());
+        }
+        if (b.getMaxOutlier() != null) {
+            this.maxOutliers.remove(b.getMaxOutlier().doubleValue());
+        }
+    }
+
+    /**
+     * Removes the outliers for the items in a row from the range bounds.
+     *
+     * @param row  the row index (ignored if it is not a valid index).
+     */
+    private void removeRowBounds(int row) {
+        if (row >= 0 && row < this.data.getRowCount()
+                && isTrackingBounds()) {
+            int columnCount = this.data.getColumnCount();
+            for (int c = 0; c < columnCount; c++) {
+                removeBounds(this.data.getObject(row, c));
+            }
+        }
+    }
+
+    /**
+     * Removes the outliers for the items in a column from the range bounds.
+     *
+     * @param column  the column index (ignored if it is not a valid index).
+     */
+    private void removeColumnBounds(int column) {
+        if (column >= 0 && column < this.data.getColumnCount()
+                && isTrackingBounds()) {
+            int rowCount = this.data.getRowCount();
+            for (int r = 0; r < rowCount; r++) {
+                removeBounds(this.data.getObject(r, column));
+            }
+        }
+    }
+
+    /**
+     * Iterates over the entire dataset to find the range bounds, if they
+     * need to be recalculated.
      */
     private void updateBounds() {
-        this.minimumRangeValue = Double.NaN;
-        this.minimumRangeValueRow = -1;
-        this.minimumRangeValueColumn = -1;
-        this.maximumRangeValue = Double.NaN;
-        this.maximumRangeValueRow = -1;
-        this.maximumRangeValueColumn = -1;
+        if (this.minOutliers != null) {
+            return;
+        }
+        this.minOutliers = new ValueMultiset();
+        this.maxOutliers = new ValueMultiset();
         int rowCount = getRowCount();
         int columnCount = getColumnCount();
         for (int r = 0; r < rowCount; r++) {
             for (int c = 0; c < columnCount; c++) {
-                BoxAndWhiskerItem item = getItem(r, c);
-                if (item != null) {
-                    Number min = item.getMinOutlier();
-                    if (min != null) {
-                        double minv = min.doubleValue();
-                        if (!Double.isNaN(minv)) {
-                            if (minv < this.minimumRangeValue || Double.isNaN(
-                                    this.minimumRangeValue)) {
-                                this.minimumRangeValue = minv;
-                                this.minimumRangeValueRow = r;
-                                this.minimumRangeValueColumn = c;
-                            }
-                        }
-                    }
-                    Number max = item.getMaxOutlier();
-                    if (max != null) {
-                        double maxv = max.doubleValue();
-                        if (!Double.isNaN(maxv)) {
-                            if (maxv > this.maximumRangeValue || Double.isNaN(
-                                    this.maximumRangeValue)) {
-                                this.maximumRangeValue = maxv;
-                                this.maximumRangeValueRow = r;
-                                this.maximumRangeValueColumn = c;
-                            }
-                        }
-                    }
-                }
+                addBounds(getItem(r, c));
             }
         }
     }
@@ -943,6 +954,8 @@ public class DefaultBoxAndWhiskerCategoryDataset extends AbstractDataset
         DefaultBoxAndWhiskerCategoryDataset clone
                 = (DefaultBoxAndWhiskerCategoryDataset) super.clone();
         clone.data = (KeyedObjects2D) this.data.clone();
+        clone.minOutliers = null;
+        clone.maxOutliers = null;
         return clone;
     }
 
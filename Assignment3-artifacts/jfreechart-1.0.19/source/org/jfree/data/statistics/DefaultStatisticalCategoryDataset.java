@@ -52,6 +52,9 @@
  * 02-Oct-2007 : Fixed bug updating cached range values (DG);
  * 19-May-2009 : Fixed FindBugs warnings, patch by Michal Wozniak (DG);
  * 20-Oct-2011 : Fixed getRangeBounds() bug 3072674 (DG);
+ * 18-Oct-2026 : Keep the range bounds in sorted multisets, so that changes
+ *               to items don't rescan the table (G14);
+ * 18-Oct-2026 : Added serialVersionUID (G14);
  *
  */
 
@@ -73,74 +76,32 @@ import org.jfree.util.PublicCloneable;
 public class DefaultStatisticalCategoryDataset extends AbstractDataset
         implements StatisticalCategoryDataset, RangeInfo, PublicCloneable {
 
-    /** Storage for the data. */
-    private KeyedObjects2D data;
-
-    /** The minimum range value. */
-    private double minimumRangeValue;
-
-    /** The row index for the minimum range value. */
-    private int minimumRangeValueRow;
-
-    /** The column index for the minimum range value. */
-    private int minimumRangeValueColumn;
-
-    /** The minimum range value including the standard deviation. */
-    private double minimumRangeValueIncStdDev;
-
-    /**
-     * The row index for the minimum range value (including the standard
-     * deviation).
-     */
-    private int minimumRangeValueIncStdDevRow;
-
     /**
-     * The column index for the minimum range value (including the standard
-     * deviation).
+     * For serialization (the value computed for this class before the
+     * range bounds were kept in multisets).
      */
-    private int minimumRangeValueIncStdDevColumn;
+    private static final long serialVersionUID = 3508492100715756848L;
 
-    /** The maximum range value. */
-    private double maximumRangeValue;
-
-    /** The row index for the maximum range value. */
-    private int maximumRangeValueRow;
-
-    /** The column index for the maximum range value. */
-    private int maximumRangeValueColumn;
-
-    /** The maximum range value including the standard deviation. */
-    private double maximumRangeValueIncStdDev;
+    /** Storage for the data. */
+    private KeyedObjects2D data;
 
     /**
-     * The row index for the maximum range value (including the standard
-     * deviation).
+     * The mean values of the items, used for the range bounds
+     * (<code>null</code> if the bounds need to be recalculated).
      */
-    private int maximumRangeValueIncStdDevRow;
+    private transient ValueMultiset means;
 
-    /**
-     * The column index for the maximum range value (including the standard
-     * deviation).
-     */
-    private int maximumRangeValueIncStdDevColumn;
+    /** The mean minus the standard deviation for each item. */
+    private transient ValueMultiset lowerValues;
+
+    /** The mean plus the standard deviation for each item. */
+    private transient ValueMultiset upperValues;
 
     /**
      * Creates a new dataset.
      */
     public DefaultStatisticalCategoryDataset() {
         this.data = new KeyedObjects2D();
-        this.minimumRangeValue = Double.NaN;
-        this.minimumRangeValueRow = -1;
-        this.minimumRangeValueColumn = -1;
-        this.maximumRangeValue = Double.NaN;
-        this.maximumRangeValueRow = -1;
-        this.maximumRangeValueColumn = -1;
-        this.minimumRangeValueIncStdDev = Double.NaN;
-        this.minimumRangeValueIncStdDevRow = -1;
-        this.minimumRangeValueIncStdDevColumn = -1;
-        this.maximumRangeValueIncStdDev = Double.NaN;
-        this.maximumRangeValueIncStdDevRow = -1;
-        this.maximumRangeValueIncStdDevColumn = -1;
     }
 
     /**
@@ -366,69 +327,17 @@ public class DefaultStatisticalCategoryDataset extends AbstractDataset
                     Comparable rowKey, Comparable columnKey) {
         MeanAndStandardDeviation item = new MeanAndStandardDeviation(
                 mean, standardDeviation);
-        this.data.addObject(item, rowKey, columnKey);
-
-        double m = Double.NaN;
-        double sd = Double.NaN;
-        if (mean != null) {
-            m = mean.doubleValue();
-        }
-        if (standardDeviation != null) {
-            sd = standardDeviation.doubleValue();
-        }
-
-        // update cached range values
-        int r = this.data.getColumnIndex(columnKey);
-        int c = this.data.getRowIndex(rowKey);
-        if ((r == this.maximumRangeValueRow && c
-                == this.maximumRangeValueColumn) || (r
-                == this.maximumRangeValueIncStdDevRow && c
-                == this.maximumRangeValueIncStdDevColumn) || (r
-                == this.minimumRangeValueRow && c
-                == this.minimumRangeValueColumn) || (r
-                == this.minimumRangeValueIncStdDevRow && c
-                == this.minimumRangeValueIncStdDevColumn)) {
-
-            // iterate over all data items and update mins and maxes
-            updateBounds();
-        }
-        else {
-            if (!Double.isNaN(m)) {
-                if (Double.isNaN(this.maximumRangeValue)
-                        || m > this.maximumRangeValue) {
-                    this.maximumRangeValue = m;
-                    this.maximumRangeValueRow = r;
-                    this.maximumRangeValueColumn = c;
-                }
-            }
-
-            if (!Double.isNaN(m + sd)) {
-                if (Double.isNaN(this.maximumRangeValueIncStdDev)
-                        || (m + sd) > this.maximumRangeValueIncStdDev) {
-                    this.maximumRangeValueIncStdDev = m + sd;
-                    this.maximumRangeValueIncStdDevRow = r;
-                    this.maximumRangeValueIncStdDevColumn = c;
-                }
-            }
-
-            if (!Double.isNaN(m)) {
-                if (Double.isNaN(this.minimumRangeValue)
-                        || m < this.minimumRangeValue) {
-                    this.minimumRangeValue = m;
-                    this.minimumRangeValueRow = r;
-                    this.minimumRangeValueColumn = c;
-                }
-            }
-
-            if (!Double.isNaN(m - sd)) {
-                if (Double.isNaN(this.minimumRangeValueIncStdDev)
-                        || (m - sd) < this.minimumRangeValueIncStdDev) {
-                    this.minimumRangeValueIncStdDev = m - sd;
-                    this.minimumRangeValueIncStdDevRow = r;
-                    this.minimumRangeValueIncStdDevColumn = c;
-                }
+        if (isTrackingBounds()) {
+            // the bounds don't need the other items, whatever this item
+            // replaces
+            int r = this.data.getRowIndex(rowKey);
+            int c = this.data.getColumnIndex(columnKey);
+            if (r >= 0 && c >= 0) {
+                removeBounds(this.data.getObject(r, c));
             }
+            addBounds(item);
         }
+        this.data.addObject(item, rowKey, columnKey);
         fireDatasetChanged();
     }
 
@@ -447,27 +356,13 @@ public class DefaultStatisticalCategoryDataset extends AbstractDataset
         // defer null argument checks
         int r = getRowIndex(rowKey);
         int c = getColumnIndex(columnKey);
-        this.data.removeObject(rowKey, columnKey);
-
-        // if this cell held a maximum and/or minimum value, we'll need to
-        // update the cached bounds...
-        if ((r == this.maximumRangeValueRow && c
-                == this.maximumRangeValueColumn) || (r
-                == this.maximumRangeValueIncStdDevRow && c
-                == this.maximumRangeValueIncStdDevColumn) || (r
-                == this.minimumRangeValueRow && c
-                == this.minimumRangeValueColumn) || (r
-                == this.minimumRangeValueIncStdDevRow && c
-                == this.minimumRangeValueIncStdDevColumn)) {
-
-            // iterate over all data items and update mins and maxes
-            updateBounds();
+        if (r >= 0 && c >= 0 && isTrackingBounds()) {
+            removeBounds(this.data.getObject(r, c));
         }
-
+        this.data.removeObject(rowKey, columnKey);
         fireDatasetChanged();
     }
 
-
     /**
      * Removes a row from the dataset and sends a {@link DatasetChangeEvent}
      * to all registered listeners.
@@ -479,8 +374,8 @@ public class DefaultStatisticalCategoryDataset extends AbstractDataset
      * @since 1.0.7
      */
     public void removeRow(int rowIndex) {
+        removeRowBounds(rowIndex);
         this.data.removeRow(rowIndex);
-        updateBounds();
         fireDatasetChanged();
     }
 
@@ -495,8 +390,8 @@ public class DefaultStatisticalCategoryDataset extends AbstractDataset
      * @since 1.0.7
      */
     public void removeRow(Comparable rowKey) {
+        removeRowBounds(this.data.getRowIndex(rowKey));
         this.data.removeRow(rowKey);
-        updateBounds();
         fireDatasetChanged();
     }
 
@@ -511,8 +406,8 @@ public class DefaultStatisticalCategoryDataset extends AbstractDataset
      * @since 1.0.7
      */
     public void removeColumn(int columnIndex) {
+        removeColumnBounds(columnIndex);
         this.data.removeColumn(columnIndex);
-        updateBounds();
         fireDatasetChanged();
     }
 
@@ -527,8 +422,8 @@ public class DefaultStatisticalCategoryDataset extends AbstractDataset
      * @since 1.0.7
      */
     public void removeColumn(Comparable columnKey) {
+        removeColumnBounds(this.data.getColumnIndex(columnKey));
         this.data.removeColumn(columnKey);
-        updateBounds();
         fireDatasetChanged();
     }
 
@@ -540,99 +435,109 @@ public class DefaultStatisticalCategoryDataset extends AbstractDataset
      */
     public void clear() {
         this.data.clear();
-        updateBounds();
+        this.means = null;
+        this.lowerValues = null;
+        this.upperValues = null;
         fireDatasetChanged();
     }
 
     /**
-     * Iterate over all the data items and update the cached bound values.
+     * Returns <code>true</code> if the range bounds should be updated for a
+     * change to the data.  During a batch of changes (see
+     * {@link #beginUpdate()}) the bounds are discarded instead, so that they
+     * are recalculated once, when they are next needed.
+     *
+     * @return A boolean.
      */
-    private void updateBounds() {
-        this.maximumRangeValue = Double.NaN;
-        this.maximumRangeValueRow = -1;
-        this.maximumRangeValueColumn = -1;
-        this.minimumRangeValue = Double.NaN;
-        this.minimumRangeValueRow = -1;
-        this.minimumRangeValueColumn = -1;
-        this.maximumRangeValueIncStdDev = Double.NaN;
-        this.maximumRangeValueIncStdDevRow = -1;
-        this.maximumRangeValueIncStdDevColumn = -1;
-        this.minimumRangeValueIncStdDev = Double.NaN;
-        this.minimumRangeValueIncStdDevRow = -1;
-        this.minimumRangeValueIncStdDevColumn = -1;
+    private boolean isTrackingBounds() {
+        if (this.means != null && isUpdating()) {
+            this.means = null;
+            this.lowerValues = null;
+            this.upperValues = null;
+        }
+        return this.means != null;
+    }
+
+    /**
+     * Adds the values for an item to the range bounds.
+     *
+     * @param item  the item (<code>null</code> permitted).
+     */
+    private void addBounds(Object item) {
+        if (item == null) {
+            return;
+        }
+        MeanAndStandardDeviation masd = (MeanAndStandardDeviation) item;
+        double m = masd.getMeanValue();
+        double sd = masd.getStandardDeviationValue();
+        this.means.add(m);
+        this.lowerValues.add(m - sd);
+        this.upperValues.add(m + sd);
+    }
+
+    /**
+     * Removes the values for an item from the range bounds.
+     *
+     * @param item  the item (<code>null</code> permitted).
+     */
+    private void removeBounds(Object item) {
+        if (item == null) {
+            return;
+        }
+        MeanAndStandardDeviation masd = (MeanAndStandardDeviation) item;
+        double m = masd.getMeanValue();
+        double sd = masd.getStandardDeviationValue();
+        this.means.remove(m);
+        this.lowerValues.remove(m - sd);
+        this.upperValues.remove(m + sd);
+    }
+
+    /**
+     * Removes the values for the items in a row from the range bounds.
+     *
+     * @param row  the row index (ignored if it is not a valid index).
+     */
+    private void removeRowBounds(int row) {
+        if (row >= 0 && row < this.data.getRowCount()
+                && isTrackingBounds()) {
+            int columnCount = this.data.getColumnCount();
+            for (int c = 0; c < columnCount; c++) {
+                removeBounds(this.data.getObject(row, c));
+            }
+        }
+    }
+
+    /**
+     * Removes the values for the items in a column from the range bounds.
+     *
+     * @param column  the column index (ignored if it is not a valid index).
+     */
+    private void removeColumnBounds(int column) {
+        if (column >= 0 && column < this.data.getColumnCount()
+                && isTrackingBounds()) {
+            int rowCount = this.data.getRowCount();
+            for (int r = 0; r < rowCount; r++) {
+                removeBounds(this.data.getObject(r, column));
+            }
+        }
+    }
 
+    /**
+     * Iterates over all the data items to find the range bounds, if they
+     * need to be recalculated.
+     */
+    private void updateBounds() {
+        if (this.means != null) {
+            return;
+        }
+        this.means = new ValueMultiset();
+        this.lowerValues = new ValueMultiset();
+        this.upperValues = new ValueMultiset();
         int rowCount = this.data.getRowCount();
         int columnCount = this.data.getColumnCount();
         for (int r = 0; r < rowCount; r++) {
             for (int c = 0; c < columnCount; c++) {
-                MeanAndStandardDeviation masd = (MeanAndStandardDeviation)
-                        this.data.getObject(r, c);
-                if (masd == null) {
-                    continue;
-                }
-                double m = masd.getMeanValue();
-                double sd = masd.getStandardDeviationValue();
-
-                if (!Double.isNaN(m)) {
-
-                    // update the max value
-                    if (Double.isNaN(this.maximumRangeValue)) {
-                        this.maximumRangeValue = m;
-                        this.maximumRangeValueRow = r;
-                        this.maximumRangeValueColumn = c;
-                    }
-                    else {
-                        if (m > this.maximumRangeValue) {
-                            this.maximumRangeValue = m;
-                            this.maximumRangeValueRow = r;
-                            this.maximumRangeValueColumn = c;
-                        }
-                    }
-
-                    // update the min value
-                    if (Double.isNaN(this.minimumRangeValue)) {
-                        this.minimumRangeValue = m;
-                        this.minimumRangeValueRow = r;
-                        this.minimumRangeValueColumn = c;
-                    }
-                    else {
-                        if (m < this.minimumRangeValue) {
-                            this.minimumRangeValue = m;
-                            this.minimumRangeValueRow = r;
-                            this.minimumRangeValueColumn = c;
-                        }
-                    }
-
-                    if (!Double.isNaN(sd)) {
-                        // update the max value
-                        if (Double.isNaN(this.maximumRangeValueIncStdDev)) {
-                            this.maximumRangeValueIncStdDev = m + sd;
-                            this.maximumRangeValueIncStdDevRow = r;
-                            this.maximumRangeValueIncStdDevColumn = c;
-                        }
-                        else {
-                            if (m + sd > this.maximumRangeValueIncStdDev) {
-                                this.maximumRangeValueIncStdDev = m + sd;
-                                this.maximumRangeValueIncStdDevRow = r;
-                                this.maximumRangeValueIncStdDevColumn = c;
-                            }
-                        }
-
-                        // update the min value
-                        if (Double.isNaN(this.minimumRangeValueIncStdDev)) {
-                            this.minimumRangeValueIncStdDev = m - sd;
-                            this.minimumRangeValueIncStdDevRow = r;
-                            this.minimumRangeValueIncStdDevColumn = c;
-                        }
-                        else {
-                            if (m - sd < this.minimumRangeValueIncStdDev) {
-                                this.minimumRangeValueIncStdDev = m - sd;
-                                this.minimumRangeValueIncStdDevRow = r;
-                                this.minimumRangeValueIncStdDevColumn = c;
-                            }
-                        }
-                    }
-                }
+                addBounds(this.data.getObject(r, c));
             }
         }
     }
@@ -649,11 +554,13 @@ public class DefaultStatisticalCategoryDataset extends AbstractDataset
      */
     @Override
     public double getRangeLowerBound(boolean includeInterval) {
-        if (includeInterval && !Double.isNaN(this.minimumRangeValueIncStdDev)) {
-            return this.minimumRangeValueIncStdDev;
+        updateBounds();
+        double lower = this.lowerValues.getMinimum();
+        if (includeInterval && !Double.isNaN(lower)) {
+            return lower;
         }
         else {
-            return this.minimumRangeValue;
+            return this.means.getMinimum();
         }
     }
 
@@ -669,11 +576,13 @@ public class DefaultStatisticalCategoryDataset extends AbstractDataset
      */
     @Override
     public double getRangeUpperBound(boolean includeInterval) {
-        if (includeInterval && !Double.isNaN(this.maximumRangeValueIncStdDev)) {
-            return this.maximumRangeValueIncStdDev;
+        updateBounds();
+        double upper = this.upperValues.getMaximum();
+        if (includeInterval && !Double.isNaN(upper)) {
+            return upper;
         }
         else {
-            return this.maximumRangeValue;
+            return this.means.getMaximum();
         }
     }
 
@@ -730,6 +639,9 @@ public class DefaultStatisticalCategoryDataset extends AbstractDataset
         DefaultStatisticalCategoryDataset clone
                 = (DefaultStatisticalCategoryDataset) super.clone();
         clone.data = (KeyedObjects2D) this.data.clone();
+        clone.means = null;
+        clone.lowerValues = null;
+        clone.upperValues = null;
         return clone;
     }
 }
@@ -39,6 +39,7 @@
  * 01-Mar-2004 : Moved from org.jfree.data --> org.jfree.data.statistics (DG);
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 02-Feb-2007 : Removed author tags from all over JFreeChart sources (DG);
+ * 18-Oct-2026 : Added incrementCount(int) method (G14);
  *
  */
 
@@ -95,6 +96,15 @@ public class HistogramBin implements Cloneable, Serializable {
         this.count++;
     }
 
+    /**
+     * Increments the item count by the specified amount.
+     *
+     * @param increment  the increment.
+     */
+    void incrementCount(int increment) {
+        this.count += increment;
+    }
+
     /**
      * Returns the start boundary.
      *
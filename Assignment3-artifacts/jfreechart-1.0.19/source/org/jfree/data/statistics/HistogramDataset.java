@@ -57,6 +57,8 @@
  * 08-Dec-2009 : Fire change event in addSeries() - see patch 2902842
  *               contributed by Thomas A Caswell (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Added addObservations() methods, and clone() now copies the
+ *               bins (G14);
  *
  */
 
@@ -67,6 +69,11 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
 import org.jfree.chart.util.ParamChecks;
 
 import org.jfree.data.general.DatasetChangeEvent;
@@ -87,6 +94,9 @@ public class HistogramDataset extends AbstractIntervalXYDataset
     /** For serialization. */
     private static final long serialVersionUID = -6341668077370231153L;
 
+    /** The minimum number of values counted by each task. */
+    private static final int MINIMUM_CHUNK_SIZE = 1 << 16;
+
     /** A list of maps. */
     private List list;
 
@@ -181,20 +191,7 @@ public class HistogramDataset extends AbstractIntervalXYDataset
         }
         // fill the bins
         for (int i = 0; i < values.length; i++) {
-            int binIndex = bins - 1;
-            if (values[i] < maximum) {
-                double fraction = (values[i] - minimum) / (maximum - minimum);
-                if (fraction < 0.0) {
-                    fraction = 0.0;
-                }
-                binIndex = (int) (fraction * bins);
-                // rounding could result in binIndex being equal to bins
-                // which will cause an IndexOutOfBoundsException - see bug
-                // report 1553088
-                if (binIndex >= bins) {
-                    binIndex = bins - 1;
-                }
-            }
+            int binIndex = getBinIndex(values[i], minimum, maximum, bins);
             HistogramBin bin = (HistogramBin) binList.get(binIndex);
             bin.incrementCount();
         }
@@ -208,6 +205,175 @@ public class HistogramDataset extends AbstractIntervalXYDataset
         fireDatasetChanged();
     }
 
+    /**
+     * Returns the index of the bin for a value.
+     *
+     * @param value  the value.
+     * @param minimum  the lower bound of the bin range.
+     * @param maximum  the upper bound of the bin range.
+     * @param bins  the number of bins.
+     *
+     * @return The bin index.
+     */
+    private static int getBinIndex(double value, double minimum,
+            double maximum, int bins) {
+        int binIndex = bins - 1;
+        if (value < maximum) {
+            double fraction = (value - minimum) / (maximum - minimum);
+            if (fraction < 0.0) {
+                fraction = 0.0;
+            }
+            binIndex = (int) (fraction * bins);
+            // rounding could result in binIndex being equal to bins
+            // which will cause an IndexOutOfBoundsException - see bug
+            // report 1553088
+            if (binIndex >= bins) {
+                binIndex = bins - 1;
+            }
+        }
+        return binIndex;
+    }
+
+    /**
+     * Adds observations to the bins of a series, and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.  The bin for
+     * each value is found by calculation (as in
+     * {@link #addSeries(Comparable, double[], int, double, double)}), so
+     * each value takes the same time however many bins there are.  Values
+     * outside the range of the bins are counted in the first or last bin,
+     * and <code>Double.NaN</code> values are ignored.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param values  the values (<code>null</code> not permitted).
+     *
+     * @since 1.0.20
+     */
+    public void addObservations(int series, double[] values) {
+        ParamChecks.nullNotPermitted(values, "values");
+        addObservations(series, values, 0, values.length, null);
+    }
+
+    /**
+     * Adds observations from a slice of an array to the bins of a series,
+     * and sends a single {@link DatasetChangeEvent} to all registered
+     * listeners.  If an executor is supplied and there are enough values,
+     * the values are divided into chunks that are counted by separate tasks,
+     * and the counts are added to the bins when all the tasks have finished.
+     * <code>Double.NaN</code> values are ignored.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param values  the values (<code>null</code> not permitted).
+     * @param offset  the index of the first value.
+     * @param length  the number of values.
+     * @param executor  the executor that runs the tasks (<code>null</code>
+     *     permitted, in which case the values are counted on the calling
+     *     thread).
+     *
+     * @since 1.0.20
+     */
+    public void addObservations(int series, final double[] values,
+            int offset, int length, ExecutorService executor) {
+        ParamChecks.nullNotPermitted(values, "values");
+        Statistics.checkSlice(values.length, offset, length);
+        List bins = getBins(series);
+        final int binCount = bins.size();
+        final double minimum = ((HistogramBin) bins.get(0))
+                .getStartBoundary();
+        final double maximum = ((HistogramBin) bins.get(binCount - 1))
+                .getEndBoundary();
+
+        int[] counts;
+        int taskCount = 1;
+        if (executor != null) {
+            int maxTasks = 4 * Runtime.getRuntime().availableProcessors();
+            taskCount = Math.max(1, Math.min(maxTasks,
+                    length / MINIMUM_CHUNK_SIZE));
+        }
+        if (taskCount == 1) {
+            counts = count(values, offset, offset + length, minimum, maximum,
+                    binCount);
+        }
+        else {
+            int chunkSize = (length + taskCount - 1) / taskCount;
+            List tasks = new ArrayList(taskCount);
+            for (int start = offset; start < offset + length;
+                    start += chunkSize) {
+                final int s = start;
+                final int e = Math.min(start + chunkSize, offset + length);
+                tasks.add(new Callable() {
+                    @Override
+                    public Object call() {
+                        return count(values, s, e, minimum, maximum,
+                                binCount);
+                    }
+                });
+            }
+            counts = new int[binCount + 1];
+            try {
+                List futures = executor.invokeAll(tasks);
+                for (int i = 0; i < futures.size(); i++) {
+                    int[] c = (int[]) ((Future) futures.get(i)).get();
+                    for (int b = 0; b <= binCount; b++) {
+                        counts[b] += c[b];
+                    }
+                }
+            }
+            catch (InterruptedException e) {
+                // finish the work on this thread and leave the interrupt for
+                // the caller to handle
+                Thread.currentThread().interrupt();
+                counts = count(values, offset, offset + length, minimum,
+                        maximum, binCount);
+            }
+            catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+        for (int b = 0; b < binCount; b++) {
+            if (counts[b] > 0) {
+                ((HistogramBin) bins.get(b)).incrementCount(counts[b]);
+            }
+        }
+        Map map = (Map) this.list.get(series);
+        map.put("values.length", new Integer(getTotal(series)
+                + counts[binCount]));
+        fireDatasetChanged();
+    }
+
+    /**
+     * Counts the values in each bin.
+     *
+     * @param values  the values.
+     * @param start  the index of the first value.
+     * @param end  the index after the last value.
+     * @param minimum  the lower bound of the bin range.
+     * @param maximum  the upper bound of the bin range.
+     * @param bins  the number of bins.
+     *
+     * @return The count for each bin, followed by the total count.
+     */
+    private static int[] count(double[] values, int start, int end,
+            double minimum, double maximum, int bins) {
+        int[] counts = new int[bins + 1];
+        for (int i = start; i < end; i++) {
+            double v = values[i];
+            if (!Double.isNaN(v)) {
+                counts[getBinIndex(v, minimum, maximum, bins)]++;
+                counts[bins]++;
+            }
+        }
+        return counts;
+    }
+
     /**
      * Returns the minimum value in an array of values.
      *
@@ -506,7 +672,11 @@ public class HistogramDataset extends AbstractIntervalXYDataset
         int seriesCount = getSeriesCount();
         clone.list = new java.util.ArrayList(seriesCount);
         for (int i = 0; i < seriesCount; i++) {
-            clone.list.add(new HashMap((Map) this.list.get(i)));
+            // the bins are copied, as their counts can change
+            Map map = new HashMap((Map) this.list.get(i));
+            map.put("bins", new ArrayList(ObjectUtilities.deepClone(
+                    (List) map.get("bins"))));
+            clone.list.add(map);
         }
         return clone;
     }
@@ -0,0 +1,630 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * QuantileSketch.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Fixed merge() with the sketch itself (G14);
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * A streaming sketch that estimates the quantiles of a sequence of values
+ * without storing all of them, using the KLL algorithm (Karnin, Lang and
+ * Liberty, "Optimal Quantile Approximation in Streams", 2016).  The sketch
+ * keeps at most a few times <code>k</code> values, in levels: a value at
+ * level <i>h</i> stands for 2<sup><i>h</i></sup> of the values added.  When
+ * the levels are full, the values at one level are sorted and every other
+ * value is moved up to the next level.
+ * <P>
+ * The rank of an estimated quantile differs from the requested rank by at
+ * most {@link #getNormalizedRankError()} (a fraction of the number of
+ * values) with a probability of 99%.  For example, with the default
+ * <code>k</code> of 200 the estimated median lies between the 48.7th and
+ * 51.3rd percentiles.  Until the first values are moved up (for the first
+ * <code>k</code> or so values) the quantiles are exact.  The minimum and
+ * maximum are always exact.
+ * <P>
+ * Sketches with the same <code>k</code> can be combined with
+ * {@link #merge(QuantileSketch)}, so values can be added in several threads
+ * (with one sketch per thread) or partitions and the results merged.
+ * Instances are not thread-safe.  <code>NaN</code> values are ignored.
+ *
+ * @see BoxAndWhiskerSketch
+ *
+ * @since 1.0.20
+ */
+public class QuantileSketch implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -3310270945727251946L;
+
+    /** The default value of k. */
+    public static final int DEFAULT_K = 200;
+
+    /** The smallest value of k (and the smallest capacity of a level). */
+    private static final int MIN_K = 8;
+
+    /** The ratio of the capacities of successive levels. */
+    private static final double CAPACITY_RATIO = 2.0 / 3.0;
+
+    /** The parameter that controls the size and accuracy of the sketch. */
+    private int k;
+
+    /** The number of values added. */
+    private long count;
+
+    /** The minimum value. */
+    private double minimum;
+
+    /** The maximum value. */
+    private double maximum;
+
+    /** The values retained at each level (at the start of each array). */
+    private double[][] levels;
+
+    /** The number of values retained at each level. */
+    private int[] sizes;
+
+    /** The capacity of each level. */
+    private int[] capacities;
+
+    /** The sum of the level capacities. */
+    private int totalCapacity;
+
+    /** The total number of values retained. */
+    private int retained;
+
+    /** The state of the random number generator for compactions. */
+    private long random;
+
+    /** The retained values in ascending order (or <code>null</code>). */
+    private transient double[] sortedValues;
+
+    /**
+     * The total weight of the values up to and including each sorted value.
+     */
+    private transient long[] cumulativeWeights;
+
+    /**
+     * Creates a new sketch with the default <code>k</code> of
+     * {@link #DEFAULT_K}.
+     */
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * Creates a new sketch.  Larger values of <code>k</code> give more
+     * accurate quantiles in a larger sketch (see
+     * {@link #getKForRankError(double)}).
+     *
+     * @param k  the parameter that controls the size and accuracy of the
+     *     sketch (8 or more).
+     */
+    public QuantileSketch(int k) {
+        if (k < MIN_K) {
+            throw new IllegalArgumentException("Requires k >= " + MIN_K
+                    + ".");
+        }
+        this.k = k;
+        this.minimum = Double.NaN;
+        this.maximum = Double.NaN;
+        this.levels = new double[][] {new double[Math.min(k, 64)]};
+        this.sizes = new int[1];
+        this.random = 0x9E3779B97F4A7C15L;
+        updateCapacities();
+    }
+
+    /**
+     * Returns the value of <code>k</code> that gives a normalized rank error
+     * (see {@link #getNormalizedRankError()}) no larger than the specified
+     * value.
+     *
+     * @param rankError  the rank error, as a fraction of the number of values
+     *     (greater than zero and less than one).
+     *
+     * @return The value of <code>k</code>.
+     */
+    public static int getKForRankError(double rankError) {
+        if (!(rankError > 0.0 && rankError < 1.0)) {
+            throw new IllegalArgumentException(
+                    "Requires 0 < rankError < 1.");
+        }
+        double k = Math.ceil(Math.pow(2.296 / rankError, 1.0 / 0.9723));
+        return (int) Math.max(MIN_K, Math.min(k, Integer.MAX_VALUE / 4));
+    }
+
+    /**
+     * Returns the value of <code>k</code> for this sketch.
+     *
+     * @return The value of <code>k</code>.
+     */
+    public int getK() {
+        return this.k;
+    }
+
+    /**
+     * Returns the rank error of the estimated quantiles, as a fraction of
+     * the number of values, that is exceeded with a probability of 1%.  This
+     * is an empirical bound for the KLL algorithm.
+     *
+     * @return The rank error.
+     */
+    public double getNormalizedRankError() {
+        return 2.296 / Math.pow(this.k, 0.9723);
+    }
+
+    /**
+     * Returns the number of values added.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the number of values retained by the sketch.
+     *
+     * @return The number of values.
+     */
+    public int getRetainedCount() {
+        return this.retained;
+    }
+
+    /**
+     * Returns <code>true</code> if the quantiles are estimates, and
+     * <code>false</code> if they are exact (because the sketch has retained
+     * every value added).
+     *
+     * @return A boolean.
+     */
+    public boolean isEstimationMode() {
+        return this.levels.length > 1;
+    }
+
+    /**
+     * Returns the minimum value.
+     *
+     * @return The minimum (<code>NaN</code> if there are no values).
+     */
+    public double getMinimum() {
+        return this.minimum;
+    }
+
+    /**
+     * Returns the maximum value.
+     *
+     * @return The maximum (<code>NaN</code> if there are no values).
+     */
+    public double getMaximum() {
+        return this.maximum;
+    }
+
+    /**
+     * Adds a value.  <code>NaN</code> is ignored.
+     *
+     * @param value  the value.
+     */
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (this.count == 0) {
+            this.minimum = value;
+            this.maximum = value;
+        }
+        else if (value < this.minimum) {
+            this.minimum = value;
+        }
+        else if (value > this.maximum) {
+            this.maximum = value;
+        }
+        this.count++;
+        append(0, value);
+        this.sortedValues = null;
+        if (this.retained > this.totalCapacity) {
+            compress();
+        }
+    }
+
+    /**
+     * Adds the values in a slice of an array.  <code>NaN</code> values are
+     * ignored.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     * @param offset  the index of the first value.
+     * @param length  the number of values.
+     */
+    public void add(double[] values, int offset, int length) {
+        ParamChecks.nullNotPermitted(values, "values");
+        Statistics.checkSlice(values.length, offset, length);
+        for (int i = offset; i < offset + length; i++) {
+            add(values[i]);
+        }
+    }
+
+    /**
+     * Adds the values summarised by another sketch to this sketch.  The
+     * other sketch is not changed (it may be this sketch, which then
+     * summarises each value twice).
+     *
+     * @param other  the other sketch (<code>null</code> not permitted).
+     */
+    public void merge(QuantileSketch other) {
+        ParamChecks.nullNotPermitted(other, "other");
+        if (other.k != this.k) {
+            throw new IllegalArgumentException(
+                    "Requires sketches with the same k.");
+        }
+        if (other.count == 0) {
+            return;
+        }
+        if (this.count == 0 || other.minimum < this.minimum) {
+            this.minimum = other.minimum;
+        }
+        if (this.count == 0 || other.maximum > this.maximum) {
+            this.maximum = other.maximum;
+        }
+        this.count += other.count;
+        while (this.levels.length < other.levels.length) {
+            addLevel();
+        }
+        for (int h = 0; h < other.levels.length; h++) {
+            // read the size and array first, since appending to this sketch
+            // changes them if other == this (the values before the size are
+            // not overwritten)
+            int size = other.sizes[h];
+            double[] values = other.levels[h];
+            for (int i = 0; i < size; i++) {
+                append(h, values[i]);
+            }
+        }
+        this.sortedValues = null;
+        while (this.retained > this.totalCapacity) {
+            compress();
+        }
+    }
+
+    /**
+     * Returns an estimate of the quantile for a fraction of the values: the
+     * smallest value such that at least that fraction of the values are
+     * less than or equal to it.
+     *
+     * @param fraction  the fraction (in the range 0.0 to 1.0).
+     *
+     * @return The quantile (<code>NaN</code> if there are no values).
+     */
+    public double getQuantile(double fraction) {
+        if (!(fraction >= 0.0 && fraction <= 1.0)) {
+            throw new IllegalArgumentException(
+                    "Requires 0.0 <= fraction <= 1.0.");
+        }
+        if (this.count == 0) {
+            return Double.NaN;
+        }
+        if (fraction == 0.0) {
+            return this.minimum;
+        }
+        if (fraction == 1.0) {
+            return this.maximum;
+        }
+        sort();
+        long total = this.cumulativeWeights[this.retained - 1];
+        double target = Math.max(1.0, Math.ceil(fraction * total));
+        int low = 0;
+        int high = this.retained - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.cumulativeWeights[mid] >= target) {
+                high = mid;
+            }
+            else {
+                low = mid + 1;
+            }
+        }
+        return this.sortedValues[low];
+    }
+
+    /**
+     * Returns an estimate of the fraction of the values that are less than
+     * or equal to the specified value.
+     *
+     * @param value  the value.
+     *
+     * @return The fraction (<code>NaN</code> if there are no values).
+     */
+    public double getRank(double value) {
+        if (this.count == 0) {
+            return Double.NaN;
+        }
+        sort();
+        int i = upperBound(value);
+        if (i == 0) {
+            return 0.0;
+        }
+        return (double) this.cumulativeWeights[i - 1]
+                / this.cumulativeWeights[this.retained - 1];
+    }
+
+    /**
+     * Returns the smallest retained value that is greater than or equal to
+     * the specified value (or the minimum, if that is greater than or equal
+     * to the value).
+     *
+     * @param value  the value.
+     *
+     * @return The retained value (<code>NaN</code> if there is none).
+     */
+    double ceiling(double value) {
+        if (this.count == 0) {
+            return Double.NaN;
+        }
+        if (value <= this.minimum) {
+            return this.minimum;
+        }
+        sort();
+        int low = 0;
+        int high = this.retained;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.sortedValues[mid] < value) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low < this.retained ? this.sortedValues[low] : Double.NaN;
+    }
+
+    /**
+     * Returns the largest retained value that is less than or equal to the
+     * specified value (or the maximum, if that is less than or equal to the
+     * value).
+     *
+     * @param value  the value.
+     *
+     * @return The retained value (<code>NaN</code> if there is none).
+     */
+    double floor(double value) {
+        if (this.count == 0) {
+            return Double.NaN;
+        }
+        if (value >= this.maximum) {
+            return this.maximum;
+        }
+        sort();
+        int i = upperBound(value);
+        return i > 0 ? this.sortedValues[i - 1] : Double.NaN;
+    }
+
+    /**
+     * Returns a copy of the values added to the sketch, if the sketch has
+     * retained them all.
+     *
+     * @return The values (or <code>null</code> if the sketch is in
+     *     estimation mode).
+     */
+    double[] getValues() {
+        if (isEstimationMode()) {
+            return null;
+        }
+        double[] result = new double[this.sizes[0]];
+        System.arraycopy(this.levels[0], 0, result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * Returns the number of sorted values that are less than or equal to the
+     * specified value.
+     *
+     * @param value  the value.
+     *
+     * @return The number of values.
+     */
+    private int upperBound(double value) {
+        int low = 0;
+        int high = this.retained;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.sortedValues[mid] <= value) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Appends a value to a level.
+     *
+     * @param level  the level.
+     * @param value  the value.
+     */
+    private void append(int level, double value) {
+        double[] a = this.levels[level];
+        int size = this.sizes[level];
+        if (size == a.length) {
+            a = Arrays.copyOf(a, Math.max(size * 2, MIN_K));
+            this.levels[level] = a;
+        }
+        a[size] = value;
+        this.sizes[level] = size + 1;
+        this.retained++;
+    }
+
+    /**
+     * Compacts the lowest level that is at (or over) its capacity.
+     */
+    private void compress() {
+        for (int h = 0; h < this.levels.length; h++) {
+            if (this.sizes[h] >= this.capacities[h]) {
+                compact(h);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sorts the values at a level and moves every other value to the next
+     * level, starting with the first or the second value at random.  If
+     * there is an odd number of values, one stays at the level.
+     *
+     * @param h  the level.
+     */
+    private void compact(int h) {
+        if (h == this.levels.length - 1) {
+            addLevel();
+        }
+        double[] a = this.levels[h];
+        int n = this.sizes[h];
+        int start = n % 2;
+        Arrays.sort(a, start, n);
+        this.random ^= this.random << 13;
+        this.random ^= this.random >>> 7;
+        this.random ^= this.random << 17;
+        int offset = (int) (this.random >>> 63);
+        this.retained -= n - start;
+        for (int i = start + offset; i < n; i += 2) {
+            append(h + 1, a[i]);
+        }
+        this.sizes[h] = start;
+    }
+
+    /**
+     * Adds a level to the top of the sketch.
+     */
+    private void addLevel() {
+        int n = this.levels.length;
+        double[][] l = new double[n + 1][];
+        System.arraycopy(this.levels, 0, l, 0, n);
+        l[n] = new double[MIN_K];
+        this.levels = l;
+        this.sizes = Arrays.copyOf(this.sizes, n + 1);
+        updateCapacities();
+    }
+
+    /**
+     * Calculates the level capacities, which shrink geometrically from
+     * <code>k</code> at the top level.
+     */
+    private void updateCapacities() {
+        int n = this.levels.length;
+        this.capacities = new int[n];
+        this.totalCapacity = 0;
+        for (int h = 0; h < n; h++) {
+            double c = this.k * Math.pow(CAPACITY_RATIO, n - 1 - h);
+            this.capacities[h] = Math.max(MIN_K, (int) Math.ceil(c));
+            this.totalCapacity += this.capacities[h];
+        }
+    }
+
+    /**
+     * Builds the sorted values and cumulative weights, if necessary.
+     */
+    private void sort() {
+        if (this.sortedValues != null) {
+            return;
+        }
+        double[] values = new double[this.retained];
+        long[] weights = new long[this.retained];
+        int n = 0;
+        double[] mergedValues = new double[this.retained];
+        long[] mergedWeights = new long[this.retained];
+        for (int h = 0; h < this.levels.length; h++) {
+            double[] a = this.levels[h];
+            int size = this.sizes[h];
+            Arrays.sort(a, 0, size);
+            long w = 1L << h;
+            // merge the level into the values sorted so far
+            int i = 0;
+            int j = 0;
+            int m = 0;
+            while (i < n || j < size) {
+                if (j == size || (i < n && values[i] <= a[j])) {
+                    mergedValues[m] = values[i];
+                    mergedWeights[m++] = weights[i++];
+                }
+                else {
+                    mergedValues[m] = a[j++];
+                    mergedWeights[m++] = w;
+                }
+            }
+            double[] tv = values;
+            values = mergedValues;
+            mergedValues = tv;
+            long[] tw = weights;
+            weights = mergedWeights;
+            mergedWeights = tw;
+            n = m;
+        }
+        for (int i = 1; i < n; i++) {
+            weights[i] += weights[i - 1];
+        }
+        this.sortedValues = values;
+        this.cumulativeWeights = weights;
+    }
+
+    /**
+     * Returns a clone of the sketch.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class, but
+     *     subclasses may differ.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        QuantileSketch clone = (QuantileSketch) super.clone();
+        clone.levels = new double[this.levels.length][];
+        for (int h = 0; h < this.levels.length; h++) {
+            clone.levels[h] = (double[]) this.levels[h].clone();
+        }
+        clone.sizes = (int[]) this.sizes.clone();
+        clone.sortedValues = null;
+        return clone;
+    }
+
+}
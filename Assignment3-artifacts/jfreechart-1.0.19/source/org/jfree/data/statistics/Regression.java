@@ -41,6 +41,7 @@
  * 29-May-2009 : Added support for polynomial regression, see patch 2795746
  *               by Peter Kolb (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Added references to RegressionAccumulator (G14);
  *
  */
 
@@ -50,7 +51,11 @@ import org.jfree.chart.util.ParamChecks;
 import org.jfree.data.xy.XYDataset;
 
 /**
- * A utility class for fitting regression curves to data.
+ * A utility class for fitting regression curves to data.  Each method makes
+ * a pass over the data, so for data that changes often (for example, a
+ * trend line for a live series) see {@link RegressionAccumulator} and
+ * {@link SeriesRegression}, which update the fit as items are added and
+ * removed.
  */
 public abstract class Regression {
 
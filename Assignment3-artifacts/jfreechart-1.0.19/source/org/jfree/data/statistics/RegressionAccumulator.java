@@ -0,0 +1,450 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * RegressionAccumulator.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jfree.data.function.Function2D;
+import org.jfree.data.function.LineFunction2D;
+import org.jfree.data.function.PolynomialFunction2D;
+import org.jfree.data.function.PowerFunction2D;
+
+/**
+ * Accumulates the sums needed to fit a regression curve to a set of points,
+ * so that points can be added and removed without a pass over the data.
+ * The fits are the same as those calculated by {@link Regression}:
+ * <ul>
+ * <li>a polynomial of order 1 is the straight line y = a + bx, as in
+ * {@link Regression#getOLSRegression(double[][])};</li>
+ * <li>a power fit is the curve y = ax^b, as in
+ * {@link Regression#getPowerRegression(double[][])};</li>
+ * <li>a polynomial of higher order is the curve y = a0 + a1 * x + ... +
+ * an * x^n, as in
+ * {@link Regression#getPolynomialRegression(org.jfree.data.xy.XYDataset,
+ * int, int)}.</li>
+ * </ul>
+ * Adding or removing a point updates the sums of the normal equations, at a
+ * cost proportional to the order, and the equations are solved (at a cost
+ * proportional to the cube of the order) only when the coefficients are
+ * requested.  The sums are calculated relative to the first point added, so
+ * that x- and y-values with a large offset (for example, milliseconds) don't
+ * lose precision.
+ * <P>
+ * Points with a <code>NaN</code> x- or y-value are ignored, as are points
+ * with an x- or y-value that is not positive for a power fit.  Instances are
+ * not thread-safe.
+ *
+ * @see SeriesRegression
+ *
+ * @since 1.0.20
+ */
+public class RegressionAccumulator implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2310447095236561846L;
+
+    /** The order of the polynomial. */
+    private int order;
+
+    /** A flag that indicates a power fit (on the logs of the values). */
+    private boolean power;
+
+    /** The number of points. */
+    private long count;
+
+    /** The x-value that the sums are relative to. */
+    private double xOrigin;
+
+    /** The y-value that the sums are relative to. */
+    private double yOrigin;
+
+    /** The sums of dx^k, for k from 0 to 2 * order. */
+    private double[] xSums;
+
+    /** The sums of dx^k * dy, for k from 0 to order. */
+    private double[] xySums;
+
+    /** The sum of dy^2. */
+    private double yySum;
+
+    /**
+     * Creates a new accumulator for a polynomial fit.
+     *
+     * @param order  the order of the polynomial (&gt; 0, use 1 for a
+     *     straight line).
+     */
+    public RegressionAccumulator(int order) {
+        this(order, false);
+    }
+
+    /**
+     * Creates a new accumulator.
+     *
+     * @param order  the order of the polynomial (&gt; 0, and 1 for a power
+     *     fit).
+     * @param power  if <code>true</code>, the accumulator fits the curve
+     *     y = ax^b.
+     */
+    public RegressionAccumulator(int order, boolean power) {
+        if (order < 1) {
+            throw new IllegalArgumentException("Requires 'order' > 0.");
+        }
+        if (power && order != 1) {
+            throw new IllegalArgumentException(
+                    "A power fit requires 'order' == 1.");
+        }
+        this.order = order;
+        this.power = power;
+        this.xSums = new double[2 * order + 1];
+        this.xySums = new double[order + 1];
+    }
+
+    /**
+     * Returns the order of the polynomial.
+     *
+     * @return The order.
+     */
+    public int getOrder() {
+        return this.order;
+    }
+
+    /**
+     * Returns <code>true</code> if the accumulator fits the curve y = ax^b,
+     * and <code>false</code> if it fits a polynomial.
+     *
+     * @return A boolean.
+     */
+    public boolean isPower() {
+        return this.power;
+    }
+
+    /**
+     * Returns the number of points.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Adds a point.  The point is ignored if it can't be included in the fit
+     * (see the class description).
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    public void add(double x, double y) {
+        accumulate(x, y, 1.0);
+    }
+
+    /**
+     * Removes a point that was added earlier.  If the point wasn't added, the
+     * results are undefined.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    public void remove(double x, double y) {
+        accumulate(x, y, -1.0);
+    }
+
+    /**
+     * Removes all the points.
+     */
+    public void clear() {
+        this.count = 0;
+        this.xOrigin = 0.0;
+        this.yOrigin = 0.0;
+        Arrays.fill(this.xSums, 0.0);
+        Arrays.fill(this.xySums, 0.0);
+        this.yySum = 0.0;
+    }
+
+    /**
+     * Adds a point to, or subtracts it from, the sums.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     * @param sign  1.0 to add the point, -1.0 to remove it.
+     */
+    private void accumulate(double x, double y, double sign) {
+        if (this.power) {
+            if (!(x > 0.0) || !(y > 0.0)) {
+                return;
+            }
+            x = Math.log(x);
+            y = Math.log(y);
+        }
+        if (Double.isNaN(x) || Double.isNaN(y)) {
+            return;
+        }
+        if (this.count == 0) {
+            if (sign < 0.0) {
+                return;
+            }
+            this.xOrigin = x;
+            this.yOrigin = y;
+        }
+        double dx = x - this.xOrigin;
+        double dy = y - this.yOrigin;
+        double p = sign;
+        for (int k = 0; k < this.xSums.length; k++) {
+            this.xSums[k] += p;
+            if (k <= this.order) {
+                this.xySums[k] += p * dy;
+            }
+            p *= dx;
+        }
+        this.yySum += sign * dy * dy;
+        this.count += (long) sign;
+        if (this.count == 0) {
+            // start again from exact zeros
+            clear();
+        }
+    }
+
+    /**
+     * Returns the coefficients of the fitted curve.  For a polynomial the
+     * result is an array a0, a1, ..., an (so for a straight line, a and b),
+     * and for a power fit the result is an array a, b.
+     *
+     * @return The coefficients.
+     *
+     * @throws IllegalArgumentException if there are fewer than
+     *     <code>order + 1</code> points.
+     */
+    public double[] getCoefficients() {
+        double[] c = solve();
+        if (this.power) {
+            return new double[] {Math.exp(c[0] + this.yOrigin
+                    - c[1] * this.xOrigin), c[1]};
+        }
+        // expand the polynomial in (x - xOrigin) into powers of x
+        int n = this.order + 1;
+        double[] result = new double[n];
+        for (int j = 0; j < n; j++) {
+            double binomial = 1.0;
+            double shift = 1.0;
+            double a = 0.0;
+            for (int k = j; k < n; k++) {
+                a += c[k] * binomial * shift;
+                binomial = binomial * (k + 1) / (k + 1 - j);
+                shift *= -this.xOrigin;
+            }
+            result[j] = a;
+        }
+        result[0] += this.yOrigin;
+        return result;
+    }
+
+    /**
+     * Returns the coefficient of determination (R<sup>2</sup>) of the
+     * fitted curve, as calculated by
+     * {@link Regression#getPolynomialRegression(org.jfree.data.xy.XYDataset,
+     * int, int)}.  For a power fit, this is calculated for the logs of the
+     * values.
+     *
+     * @return The coefficient of determination.
+     *
+     * @throws IllegalArgumentException if there are fewer than
+     *     <code>order + 1</code> points.
+     */
+    public double getRSquare() {
+        double[] c = solve();
+        double meanY = this.xySums[0] / this.count;
+        double regression = -meanY * this.xySums[0];
+        for (int k = 0; k <= this.order; k++) {
+            regression += c[k] * this.xySums[k];
+        }
+        double total = this.yySum - meanY * this.xySums[0];
+        return regression / total;
+    }
+
+    /**
+     * Returns the fitted curve as a function:  a {@link LineFunction2D} for
+     * a straight line, a {@link PowerFunction2D} for a power fit, and a
+     * {@link PolynomialFunction2D} otherwise.
+     *
+     * @return The function.
+     *
+     * @throws IllegalArgumentException if there are fewer than
+     *     <code>order + 1</code> points.
+     */
+    public Function2D getFunction() {
+        double[] c = getCoefficients();
+        if (this.power) {
+            return new PowerFunction2D(c[0], c[1]);
+        }
+        if (this.order == 1) {
+            return new LineFunction2D(c[0], c[1]);
+        }
+        return new PolynomialFunction2D(c);
+    }
+
+    /**
+     * Solves the normal equations, by Gaussian elimination with partial
+     * pivoting.
+     *
+     * @return The coefficients of the polynomial in (x - xOrigin) that fits
+     *     (y - yOrigin), or <code>NaN</code> values if the equations have no
+     *     unique solution.
+     */
+    private double[] solve() {
+        int n = this.order + 1;
+        if (this.count < n) {
+            throw new IllegalArgumentException("Not enough data.");
+        }
+        double[][] m = new double[n][n + 1];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(this.xSums, i, m[i], 0, n);
+            m[i][n] = this.xySums[i];
+        }
+        double[] result = new double[n];
+        for (int col = 0; col < n; col++) {
+            int pivot = col;
+            for (int row = col + 1; row < n; row++) {
+                if (Math.abs(m[row][col]) > Math.abs(m[pivot][col])) {
+                    pivot = row;
+                }
+            }
+            if (m[pivot][col] == 0.0) {
+                Arrays.fill(result, Double.NaN);
+                return result;
+            }
+            double[] temp = m[col];
+            m[col] = m[pivot];
+            m[pivot] = temp;
+            for (int row = col + 1; row < n; row++) {
+                double factor = m[row][col] / m[col][col];
+                for (int k = col; k <= n; k++) {
+                    m[row][k] -= factor * m[col][k];
+                }
+            }
+        }
+        for (int row = n - 1; row >= 0; row--) {
+            double value = m[row][n];
+            for (int k = row + 1; k < n; k++) {
+                value -= m[row][k] * result[k];
+            }
+            result[row] = value / m[row][row];
+        }
+        return result;
+    }
+
+    /**
+     * Tests this instance for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof RegressionAccumulator)) {
+            return false;
+        }
+        RegressionAccumulator that = (RegressionAccumulator) obj;
+        if (this.order != that.order) {
+            return false;
+        }
+        if (this.power != that.power) {
+            return false;
+        }
+        if (this.count != that.count) {
+            return false;
+        }
+        if (Double.doubleToLongBits(this.xOrigin)
+                != Double.doubleToLongBits(that.xOrigin)) {
+            return false;
+        }
+        if (Double.doubleToLongBits(this.yOrigin)
+                != Double.doubleToLongBits(that.yOrigin)) {
+            return false;
+        }
+        if (!Arrays.equals(this.xSums, that.xSums)) {
+            return false;
+        }
+        if (!Arrays.equals(this.xySums, that.xySums)) {
+            return false;
+        }
+        if (Double.doubleToLongBits(this.yySum)
+                != Double.doubleToLongBits(that.yySum)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        long bits = this.order;
+        bits = 31 * bits + (this.power ? 1 : 0);
+        bits = 31 * bits + this.count;
+        bits = 31 * bits + Double.doubleToLongBits(this.xySums[0]);
+        return (int) (bits ^ (bits >>> 32));
+    }
+
+    /**
+     * Returns a clone of this instance.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class, but
+     *     subclasses may differ.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        RegressionAccumulator clone = (RegressionAccumulator) super.clone();
+        clone.xSums = (double[]) this.xSums.clone();
+        clone.xySums = (double[]) this.xySums.clone();
+        return clone;
+    }
+
+}
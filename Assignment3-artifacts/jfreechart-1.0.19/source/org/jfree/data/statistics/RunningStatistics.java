@@ -0,0 +1,350 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * RunningStatistics.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * Accumulates the count, sum, mean, variance, minimum and maximum of a
+ * sequence of values in a single pass, without storing the values.  The
+ * mean and variance are updated with Welford's method and the sum is
+ * compensated (Kahan-Babuska), so the results stay accurate for long
+ * sequences and for values with a large mean.
+ * <P>
+ * Instances are not thread-safe.  To process values in several threads,
+ * give each thread its own instance and combine the results with
+ * {@link #merge(RunningStatistics)}.  <code>NaN</code> values are ignored.
+ *
+ * @see Statistics
+ *
+ * @since 1.0.20
+ */
+public class RunningStatistics implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4871623508742938470L;
+
+    /** The number of values. */
+    private long count;
+
+    /** The mean of the values. */
+    private double mean;
+
+    /** The sum of the squared differences from the mean. */
+    private double m2;
+
+    /** The sum of the values (before compensation). */
+    private double sum;
+
+    /** The compensation for the rounding error in the sum. */
+    private double compensation;
+
+    /** The minimum value. */
+    private double minimum;
+
+    /** The maximum value. */
+    private double maximum;
+
+    /**
+     * Creates a new instance with no values.
+     */
+    public RunningStatistics() {
+        clear();
+    }
+
+    /**
+     * Adds a value.  <code>NaN</code> is ignored.
+     *
+     * @param value  the value.
+     */
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        this.count++;
+        double delta = value - this.mean;
+        this.mean += delta / this.count;
+        this.m2 += delta * (value - this.mean);
+        addToSum(value);
+        if (value < this.minimum) {
+            this.minimum = value;
+        }
+        if (value > this.maximum) {
+            this.maximum = value;
+        }
+    }
+
+    /**
+     * Adds the values in a slice of an array.  <code>NaN</code> values are
+     * ignored.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     * @param offset  the index of the first value.
+     * @param length  the number of values.
+     */
+    public void add(double[] values, int offset, int length) {
+        ParamChecks.nullNotPermitted(values, "values");
+        Statistics.checkSlice(values.length, offset, length);
+        for (int i = offset; i < offset + length; i++) {
+            add(values[i]);
+        }
+    }
+
+    /**
+     * Adds the values accumulated by another instance, as if they had been
+     * added to this instance.
+     *
+     * @param other  the other instance (<code>null</code> not permitted).
+     */
+    public void merge(RunningStatistics other) {
+        ParamChecks.nullNotPermitted(other, "other");
+        if (other.count == 0) {
+            return;
+        }
+        if (this.count == 0) {
+            copy(other);
+            return;
+        }
+        long n = this.count + other.count;
+        double delta = other.mean - this.mean;
+        double f = (double) other.count / n;
+        this.mean += delta * f;
+        this.m2 += other.m2 + delta * delta * this.count * f;
+        this.count = n;
+        addToSum(other.sum);
+        addToSum(other.compensation);
+        this.minimum = Math.min(this.minimum, other.minimum);
+        this.maximum = Math.max(this.maximum, other.maximum);
+    }
+
+    /**
+     * Removes all the values.
+     */
+    public void clear() {
+        this.count = 0;
+        this.mean = 0.0;
+        this.m2 = 0.0;
+        this.sum = 0.0;
+        this.compensation = 0.0;
+        this.minimum = Double.POSITIVE_INFINITY;
+        this.maximum = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Returns the number of values.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the sum of the values.
+     *
+     * @return The sum (zero if there are no values).
+     */
+    public double getSum() {
+        return this.sum + this.compensation;
+    }
+
+    /**
+     * Returns the mean of the values.
+     *
+     * @return The mean (<code>NaN</code> if there are no values).
+     */
+    public double getMean() {
+        return this.count > 0 ? this.mean : Double.NaN;
+    }
+
+    /**
+     * Returns the sample variance of the values (the sum of the squared
+     * differences from the mean, divided by <code>n - 1</code>).
+     *
+     * @return The variance (<code>NaN</code> if there are fewer than two
+     *     values).
+     */
+    public double getVariance() {
+        return this.count > 1 ? this.m2 / (this.count - 1) : Double.NaN;
+    }
+
+    /**
+     * Returns the sample standard deviation of the values, as calculated by
+     * {@link Statistics#getStdDev(Number[])}.
+     *
+     * @return The standard deviation (<code>NaN</code> if there are fewer
+     *     than two values).
+     */
+    public double getStdDev() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * Returns the minimum value.
+     *
+     * @return The minimum (<code>NaN</code> if there are no values).
+     */
+    public double getMinimum() {
+        return this.count > 0 ? this.minimum : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum value.
+     *
+     * @return The maximum (<code>NaN</code> if there are no values).
+     */
+    public double getMaximum() {
+        return this.count > 0 ? this.maximum : Double.NaN;
+    }
+
+    /**
+     * Adds a value to the compensated sum.
+     *
+     * @param value  the value.
+     */
+    private void addToSum(double value) {
+        double t = this.sum + value;
+        if (Math.abs(this.sum) >= Math.abs(value)) {
+            this.compensation += (this.sum - t) + value;
+        }
+        else {
+            this.compensation += (value - t) + this.sum;
+        }
+        this.sum = t;
+    }
+
+    /**
+     * Copies the state of another instance.
+     *
+     * @param other  the other instance.
+     */
+    private void copy(RunningStatistics other) {
+        this.count = other.count;
+        this.mean = other.mean;
+        this.m2 = other.m2;
+        this.sum = other.sum;
+        this.compensation = other.compensation;
+        this.minimum = other.minimum;
+        this.maximum = other.maximum;
+    }
+
+    /**
+     * Tests this instance for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof RunningStatistics)) {
+            return false;
+        }
+        RunningStatistics that = (RunningStatistics) obj;
+        if (this.count != that.count) {
+            return false;
+        }
+        if (Double.doubleToLongBits(this.mean)
+                != Double.doubleToLongBits(that.mean)) {
+            return false;
+        }
+        if (Double.doubleToLongBits(this.m2)
+                != Double.doubleToLongBits(that.m2)) {
+            return false;
+        }
+        if (Double.doubleToLongBits(getSum())
+                != Double.doubleToLongBits(that.getSum())) {
+            return false;
+        }
+        if (Double.doubleToLongBits(this.minimum)
+                != Double.doubleToLongBits(that.minimum)) {
+            return false;
+        }
+        if (Double.doubleToLongBits(this.maximum)
+                != Double.doubleToLongBits(that.maximum)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        long bits = this.count;
+        bits = 31 * bits + Double.doubleToLongBits(this.mean);
+        bits = 31 * bits + Double.doubleToLongBits(this.m2);
+        return (int) (bits ^ (bits >>> 32));
+    }
+
+    /**
+     * Returns a clone of this instance.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException not thrown by this class, but
+     *     subclasses may differ.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        return super.clone();
+    }
+
+    /**
+     * Returns a string representing this instance.
+     *
+     * @return A string.
+     */
+    @Override
+    public String toString() {
+        return "RunningStatistics[count=" + this.count + ", mean="
+                + getMean() + ", stdDev=" + getStdDev() + "]";
+    }
+
+}
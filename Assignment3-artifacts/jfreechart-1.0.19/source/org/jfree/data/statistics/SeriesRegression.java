@@ -0,0 +1,412 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * SeriesRegression.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.function.Function2D;
+import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimePeriodAnchor;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.xy.XYSeries;
+
+/**
+ * Maintains a regression curve fitted to the items in an {@link XYSeries}
+ * or a {@link TimeSeries}, so that a trend line for live data doesn't need
+ * a pass over the series each time it is drawn.  The regression registers
+ * itself as a listener of the series, and adds each appended item to (and
+ * removes each item removed from the start of the series from) a
+ * {@link RegressionAccumulator}, at a cost that is proportional to the
+ * order of the fit.  An updated item is removed and added again.  Any other
+ * change (for example an item inserted before the end of the series)
+ * recalculates the sums from all the items.
+ *
+ * @since 1.0.20
+ */
+public class SeriesRegression implements SeriesChangeListener {
+
+    /** The source series. */
+    private Series source;
+
+    /** The anchor for the x-values of a time series. */
+    private TimePeriodAnchor anchor;
+
+    /** The accumulated sums. */
+    private RegressionAccumulator accumulator;
+
+    /**
+     * The x-values of the items in the series (the items are stored from
+     * <code>head</code> to <code>head + size - 1</code> in this array and
+     * <code>yValues</code>).
+     */
+    private double[] xValues;
+
+    /** The y-values of the items in the series. */
+    private double[] yValues;
+
+    /** The array index of the first item. */
+    private int head;
+
+    /** The number of items. */
+    private int size;
+
+    /**
+     * The number of items removed from the sums since they were last
+     * calculated in full (used to limit the rounding error).
+     */
+    private int removedCount;
+
+    /** The version of the series that the sums are based on. */
+    private long version;
+
+    /**
+     * Creates a new regression for the items in an {@link XYSeries}.
+     *
+     * @param source  the series (<code>null</code> not permitted).
+     * @param order  the order of the polynomial (&gt; 0, and 1 for a power
+     *     fit).
+     * @param power  if <code>true</code>, the regression fits the curve
+     *     y = ax^b.
+     */
+    public SeriesRegression(XYSeries source, int order, boolean power) {
+        this(source, null, order, power);
+    }
+
+    /**
+     * Creates a new regression for the items in a {@link TimeSeries}.  The
+     * x-value of each item is taken from its time period in the same way
+     * as in a {@link org.jfree.data.time.TimeSeriesCollection}.
+     *
+     * @param source  the series (<code>null</code> not permitted).
+     * @param anchor  the point in each time period that is used for the
+     *     x-value (<code>null</code> not permitted).
+     * @param order  the order of the polynomial (&gt; 0, and 1 for a power
+     *     fit).
+     * @param power  if <code>true</code>, the regression fits the curve
+     *     y = ax^b.
+     */
+    public SeriesRegression(TimeSeries source, TimePeriodAnchor anchor,
+            int order, boolean power) {
+        this((Series) source, anchor, order, power);
+    }
+
+    /**
+     * Creates a new regression.
+     *
+     * @param source  the series (<code>null</code> not permitted).
+     * @param anchor  the anchor (<code>null</code> not permitted for a time
+     *     series).
+     * @param order  the order of the polynomial.
+     * @param power  the flag for a power fit.
+     */
+    private SeriesRegression(Series source, TimePeriodAnchor anchor,
+            int order, boolean power) {
+        ParamChecks.nullNotPermitted(source, "source");
+        if (source instanceof TimeSeries) {
+            ParamChecks.nullNotPermitted(anchor, "anchor");
+        }
+        this.source = source;
+        this.anchor = anchor;
+        this.accumulator = new RegressionAccumulator(order, power);
+        this.xValues = new double[16];
+        this.yValues = new double[16];
+        rebuild();
+        source.addChangeListener(this);
+    }
+
+    /**
+     * Returns the source series.
+     *
+     * @return The source series (never <code>null</code>).
+     */
+    public Series getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the order of the polynomial.
+     *
+     * @return The order.
+     */
+    public int getOrder() {
+        return this.accumulator.getOrder();
+    }
+
+    /**
+     * Returns <code>true</code> if the regression fits the curve y = ax^b,
+     * and <code>false</code> if it fits a polynomial.
+     *
+     * @return A boolean.
+     */
+    public boolean isPower() {
+        return this.accumulator.isPower();
+    }
+
+    /**
+     * Returns the number of items included in the fit.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return this.accumulator.getCount();
+    }
+
+    /**
+     * Returns the coefficients of the fitted curve (see
+     * {@link RegressionAccumulator#getCoefficients()}).
+     *
+     * @return The coefficients.
+     *
+     * @throws IllegalArgumentException if there are not enough items.
+     */
+    public double[] getCoefficients() {
+        return this.accumulator.getCoefficients();
+    }
+
+    /**
+     * Returns the coefficient of determination (R<sup>2</sup>) of the
+     * fitted curve (see {@link RegressionAccumulator#getRSquare()}).
+     *
+     * @return The coefficient of determination.
+     *
+     * @throws IllegalArgumentException if there are not enough items.
+     */
+    public double getRSquare() {
+        return this.accumulator.getRSquare();
+    }
+
+    /**
+     * Returns the fitted curve as a function (see
+     * {@link RegressionAccumulator#getFunction()}).
+     *
+     * @return The function.
+     *
+     * @throws IllegalArgumentException if there are not enough items.
+     */
+    public Function2D getFunction() {
+        return this.accumulator.getFunction();
+    }
+
+    /**
+     * Stops updating the regression, by deregistering from the source
+     * series.
+     */
+    public void dispose() {
+        this.source.removeChangeListener(this);
+    }
+
+    /**
+     * Receives notification of a change to the source series, and updates
+     * the regression.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        if (event.getSource() != this.source) {
+            return;
+        }
+        if (!update(event)) {
+            rebuild();
+        }
+        this.version = this.source.getVersion();
+    }
+
+    /**
+     * Applies the change described by an event to the sums, if it can be
+     * done incrementally.
+     *
+     * @param event  the event.
+     *
+     * @return A boolean that indicates whether or not the sums were updated
+     *     (if <code>false</code> they must be recalculated).
+     */
+    private boolean update(SeriesChangeEvent event) {
+        // a missed change can only be handled by recalculating
+        if (this.source.getVersion() != this.version + 1) {
+            return false;
+        }
+        int count = this.source.getItemCount();
+        SeriesChangeType type = event.getType();
+        if (type == SeriesChangeType.UPDATE) {
+            int index = event.getFirstIndex();
+            if (count != this.size || index < 0 || index >= count) {
+                return false;
+            }
+            int k = this.head + index;
+            this.accumulator.remove(this.xValues[k], this.yValues[k]);
+            this.removedCount++;
+            this.xValues[k] = getX(index);
+            this.yValues[k] = getY(index);
+            this.accumulator.add(this.xValues[k], this.yValues[k]);
+        }
+        else {
+            int removed = event.getRemovedCount();
+            int first = count;
+            if (type == SeriesChangeType.APPEND) {
+                first = event.getFirstIndex();
+                if (event.getLastIndex() != count - 1) {
+                    return false;
+                }
+            }
+            else if (type != SeriesChangeType.REMOVE_FIRST) {
+                return false;
+            }
+            if (removed < 0 || removed > this.size
+                    || first != this.size - removed || first < 0) {
+                return false;
+            }
+            for (int i = 0; i < removed; i++) {
+                this.accumulator.remove(this.xValues[this.head],
+                        this.yValues[this.head]);
+                this.head++;
+                this.size--;
+            }
+            this.removedCount += removed;
+            for (int i = first; i < count; i++) {
+                append(i);
+            }
+        }
+        if (this.removedCount > this.size) {
+            // limit the rounding error from the subtractions, at a cost
+            // that is constant per item removed
+            recalculate();
+        }
+        return true;
+    }
+
+    /**
+     * Reads all the items from the source series and recalculates the sums.
+     */
+    private void rebuild() {
+        this.head = 0;
+        this.size = 0;
+        int count = this.source.getItemCount();
+        for (int i = 0; i < count; i++) {
+            append(i);
+        }
+        recalculate();
+        this.version = this.source.getVersion();
+    }
+
+    /**
+     * Recalculates the sums from the stored items.
+     */
+    private void recalculate() {
+        this.accumulator.clear();
+        for (int i = this.head; i < this.head + this.size; i++) {
+            this.accumulator.add(this.xValues[i], this.yValues[i]);
+        }
+        this.removedCount = 0;
+    }
+
+    /**
+     * Stores an item from the source series and adds it to the sums.
+     *
+     * @param index  the index of the item in the source series.
+     */
+    private void append(int index) {
+        int k = this.head + this.size;
+        if (k == this.xValues.length) {
+            if (this.head > this.size) {
+                // reuse the space before the first item
+                System.arraycopy(this.xValues, this.head, this.xValues, 0,
+                        this.size);
+                System.arraycopy(this.yValues, this.head, this.yValues, 0,
+                        this.size);
+            }
+            else {
+                double[] x = new double[Math.max(16, this.size * 2)];
+                double[] y = new double[x.length];
+                System.arraycopy(this.xValues, this.head, x, 0, this.size);
+                System.arraycopy(this.yValues, this.head, y, 0, this.size);
+                this.xValues = x;
+                this.yValues = y;
+            }
+            this.head = 0;
+            k = this.size;
+        }
+        this.xValues[k] = getX(index);
+        this.yValues[k] = getY(index);
+        this.size++;
+        this.accumulator.add(this.xValues[k], this.yValues[k]);
+    }
+
+    /**
+     * Returns the x-value of an item in the source series.
+     *
+     * @param index  the item index.
+     *
+     * @return The x-value.
+     */
+    private double getX(int index) {
+        if (this.source instanceof XYSeries) {
+            return ((XYSeries) this.source).getXValue(index);
+        }
+        RegularTimePeriod period
+                = ((TimeSeries) this.source).getTimePeriod(index);
+        if (this.anchor == TimePeriodAnchor.MIDDLE) {
+            return period.getMiddleMillisecond();
+        }
+        if (this.anchor == TimePeriodAnchor.END) {
+            return period.getLastMillisecond();
+        }
+        return period.getFirstMillisecond();
+    }
+
+    /**
+     * Returns the y-value of an item in the source series.
+     *
+     * @param index  the item index.
+     *
+     * @return The y-value (<code>NaN</code> for a <code>null</code> value).
+     */
+    private double getY(int index) {
+        if (this.source instanceof XYSeries) {
+            return ((XYSeries) this.source).getYValue(index);
+        }
+        return ((TimeSeries) this.source).getYValue(index);
+    }
+
+}
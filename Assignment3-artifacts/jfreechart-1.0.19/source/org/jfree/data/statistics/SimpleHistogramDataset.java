@@ -38,6 +38,9 @@
  * 21-May-2007 : Added clearObservations() and removeAllBins() (SI);
  * 10-Jul-2007 : Added null argument check to constructor (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Increment the version for changes made without sending a
+ *               change event (G14);
+ * 18-Oct-2026 : Use a binary search to find the bin for an observation (G14);
  *
  */
 
@@ -208,21 +211,54 @@ public class SimpleHistogramDataset extends AbstractIntervalXYDataset
      * @param notify  send {@link DatasetChangeEvent} to listeners?
      */
     public void addObservation(double value, boolean notify) {
-        boolean placed = false;
-        Iterator iterator = this.bins.iterator();
-        while (iterator.hasNext() && !placed) {
-            SimpleHistogramBin bin = (SimpleHistogramBin) iterator.next();
-            if (bin.accepts(value)) {
-                bin.setItemCount(bin.getItemCount() + 1);
-                placed = true;
-            }
-        }
-        if (!placed) {
+        SimpleHistogramBin bin = findBin(value);
+        if (bin == null) {
             throw new RuntimeException("No bin.");
         }
+        bin.setItemCount(bin.getItemCount() + 1);
         if (notify) {
             notifyListeners(new DatasetChangeEvent(this, this));
         }
+        else {
+            incrementVersion();
+        }
+    }
+
+    /**
+     * Returns the bin that accepts the specified value, or <code>null</code>
+     * if there is no such bin.  The bins are kept sorted by lower bound and
+     * do not overlap, so the search takes O(log n) time:  only the last bin
+     * with a lower bound not greater than the value, and the bins before it
+     * that end at the value (adjacent bins can share a bound), need to be
+     * checked.
+     *
+     * @param value  the value.
+     *
+     * @return The bin (possibly <code>null</code>).
+     */
+    private SimpleHistogramBin findBin(double value) {
+        int low = 0;
+        int high = this.bins.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            SimpleHistogramBin bin = (SimpleHistogramBin) this.bins.get(mid);
+            if (bin.getLowerBound() <= value) {
+                low = mid + 1;
+            }
+            else {
+                high = mid - 1;
+            }
+        }
+        for (int i = high; i >= 0; i--) {
+            SimpleHistogramBin bin = (SimpleHistogramBin) this.bins.get(i);
+            if (bin.accepts(value)) {
+                return bin;
+            }
+            if (bin.getUpperBound() < value) {
+                break;
+            }
+        }
+        return null;
     }
 
     /**
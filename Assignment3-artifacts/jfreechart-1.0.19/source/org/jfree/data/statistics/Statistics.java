@@ -44,6 +44,7 @@
  * 11-Jan-2005 : Removed deprecated code in preparation for the 1.0.0
  *               release (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Added single-pass methods for double arrays (G14);
  *
  */
 
@@ -58,6 +59,11 @@ import org.jfree.chart.util.ParamChecks;
 
 /**
  * A utility class that provides some common statistical functions.
+ * <P>
+ * The methods that take <code>double</code> arrays read each value once,
+ * using compensated sums and Welford's method for the mean and (co)variance,
+ * and find the median by selection rather than sorting.  To accumulate
+ * values as they arrive, see {@link RunningStatistics}.
  */
 public abstract class Statistics {
 
@@ -168,6 +174,64 @@ public abstract class Statistics {
         return total / count;
     }
 
+    /**
+     * Returns the mean of an array of values.  This is equivalent to calling
+     * {@code calculateMean(values, 0, values.length, true)}.
+     *
+     * @param values  the values ({@code null} not permitted).
+     *
+     * @return The mean.
+     *
+     * @since 1.0.20
+     */
+    public static double calculateMean(double[] values) {
+        ParamChecks.nullNotPermitted(values, "values");
+        return calculateMean(values, 0, values.length, true);
+    }
+
+    /**
+     * Returns the mean of a slice of an array of values.  The values are
+     * added with a compensated (Kahan-Babuska) sum.
+     *
+     * @param values  the values ({@code null} not permitted).
+     * @param offset  the index of the first value.
+     * @param length  the number of values.
+     * @param includeNaN  a flag that controls whether or not
+     *     {@code Double.NaN} values are included in the calculation (if one
+     *     is present in the slice, the result is {@link Double#NaN}).
+     *
+     * @return The mean ({@code Double.NaN} if there are no values).
+     *
+     * @since 1.0.20
+     */
+    public static double calculateMean(double[] values, int offset,
+            int length, boolean includeNaN) {
+        ParamChecks.nullNotPermitted(values, "values");
+        checkSlice(values.length, offset, length);
+        double sum = 0.0;
+        double c = 0.0;
+        int counter = 0;
+        for (int i = offset; i < offset + length; i++) {
+            double v = values[i];
+            if (Double.isNaN(v)) {
+                if (includeNaN) {
+                    return Double.NaN;
+                }
+                continue;
+            }
+            double t = sum + v;
+            if (Math.abs(sum) >= Math.abs(v)) {
+                c += (sum - t) + v;
+            }
+            else {
+                c += (v - t) + sum;
+            }
+            sum = t;
+            counter++;
+        }
+        return (sum + c) / counter;
+    }
+
     /**
      * Calculates the median for a list of values ({@code Number} objects).
      * The list of values will be copied, and the copy sorted, before
@@ -295,6 +359,145 @@ public abstract class Statistics {
 
     }
 
+    /**
+     * Calculates the median for an array of values.  The array is not
+     * modified.
+     *
+     * @param values  the values, in any order ({@code null} not permitted).
+     *
+     * @return The median.
+     *
+     * @see #calculateMedian(double[], int, int)
+     *
+     * @since 1.0.20
+     */
+    public static double calculateMedian(double[] values) {
+        ParamChecks.nullNotPermitted(values, "values");
+        return calculateMedian(values, 0, values.length);
+    }
+
+    /**
+     * Calculates the median for a slice of an array of values, ignoring
+     * {@code Double.NaN} values.  The values are copied and the median is
+     * found by selection (quickselect), which takes linear time on average
+     * rather than the time to sort the values.  The array is not modified.
+     *
+     * @param values  the values, in any order ({@code null} not permitted).
+     * @param offset  the index of the first value.
+     * @param length  the number of values.
+     *
+     * @return The median ({@code Double.NaN} if there are no values).
+     *
+     * @since 1.0.20
+     */
+    public static double calculateMedian(double[] values, int offset,
+            int length) {
+        ParamChecks.nullNotPermitted(values, "values");
+        checkSlice(values.length, offset, length);
+        double[] work = new double[length];
+        int count = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (!Double.isNaN(values[i])) {
+                work[count++] = values[i];
+            }
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        int k = count / 2;
+        double upper = select(work, 0, count, k);
+        if (count % 2 == 1) {
+            return upper;
+        }
+        // after the selection, the values before k are <= the kth value
+        double lower = work[0];
+        for (int i = 1; i < k; i++) {
+            if (work[i] > lower) {
+                lower = work[i];
+            }
+        }
+        return (lower + upper) / 2.0;
+    }
+
+    /**
+     * Reorders a range of an array so that the value at index {@code k} is
+     * the value that would be there if the range was sorted, with smaller
+     * or equal values before it and larger or equal values after it.
+     *
+     * @param a  the array (must not contain {@code Double.NaN}).
+     * @param start  the start of the range.
+     * @param end  the end of the range (exclusive).
+     * @param k  the index of the value to find.
+     *
+     * @return The value at index {@code k}.
+     */
+    static double select(double[] a, int start, int end, int k) {
+        int lo = start;
+        int hi = end - 1;
+        while (hi - lo >= 16) {
+            // median-of-three pivot
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] < a[lo]) {
+                swap(a, lo, mid);
+            }
+            if (a[hi] < a[lo]) {
+                swap(a, lo, hi);
+            }
+            if (a[hi] < a[mid]) {
+                swap(a, mid, hi);
+            }
+            double pivot = a[mid];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (a[i] < pivot) {
+                    i++;
+                }
+                while (a[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(a, i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                hi = j;
+            }
+            else if (k >= i) {
+                lo = i;
+            }
+            else {
+                return a[k];
+            }
+        }
+        // insertion sort for a short range
+        for (int i = lo + 1; i <= hi; i++) {
+            double v = a[i];
+            int j = i - 1;
+            while (j >= lo && a[j] > v) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = v;
+        }
+        return a[k];
+    }
+
+    /**
+     * Swaps two values in an array.
+     *
+     * @param a  the array.
+     * @param i  the index of the first value.
+     * @param j  the index of the second value.
+     */
+    private static void swap(double[] a, int i, int j) {
+        double t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
     /**
      * Returns the standard deviation of a set of numbers.
      *
@@ -318,6 +521,39 @@ public abstract class Statistics {
         return Math.sqrt(sum / (data.length - 1));
     }
 
+    /**
+     * Returns the standard deviation of a slice of an array of values,
+     * calculated in a single pass with Welford's method.  The result is the
+     * same as for {@link #getStdDev(Number[])}, but is not affected by the
+     * rounding error of subtracting a large mean.
+     *
+     * @param data  the data ({@code null} not permitted).
+     * @param offset  the index of the first value.
+     * @param length  the number of values (zero not permitted).
+     *
+     * @return The standard deviation.
+     *
+     * @since 1.0.20
+     */
+    public static double getStdDev(double[] data, int offset, int length) {
+        ParamChecks.nullNotPermitted(data, "data");
+        checkSlice(data.length, offset, length);
+        if (length == 0) {
+            throw new IllegalArgumentException("Zero length 'data' array.");
+        }
+        double mean = 0.0;
+        double m2 = 0.0;
+        int n = 0;
+        for (int i = offset; i < offset + length; i++) {
+            double v = data[i];
+            n++;
+            double delta = v - mean;
+            mean += delta / n;
+            m2 += delta * (v - mean);
+        }
+        return Math.sqrt(m2 / (n - 1));
+    }
+
     /**
      * Fits a straight line to a set of (x, y) data, returning the slope and
      * intercept.
@@ -346,6 +582,23 @@ public abstract class Statistics {
 
     }
 
+    /**
+     * Fits a straight line to a set of (x, y) data, returning the slope and
+     * intercept.  The data is read in a single pass.
+     *
+     * @param xData  the x-data ({@code null} not permitted).
+     * @param yData  the y-data ({@code null} not permitted).
+     *
+     * @return A double array with the intercept in [0] and the slope in [1].
+     *
+     * @since 1.0.20
+     */
+    public static double[] getLinearFit(double[] xData, double[] yData) {
+        double[] m = getMoments(xData, yData);
+        double slope = m[2] / m[3];
+        return new double[] {m[1] - slope * m[0], slope};
+    }
+
     /**
      * Finds the slope of a regression line using least squares.
      *
@@ -383,6 +636,23 @@ public abstract class Statistics {
 
     }
 
+    /**
+     * Finds the slope of a regression line using least squares.  The data is
+     * read in a single pass, and the result is not affected by the rounding
+     * error of subtracting large sums.
+     *
+     * @param xData  the x-values ({@code null} not permitted).
+     * @param yData  the y-values ({@code null} not permitted).
+     *
+     * @return The slope.
+     *
+     * @since 1.0.20
+     */
+    public static double getSlope(double[] xData, double[] yData) {
+        double[] m = getMoments(xData, yData);
+        return m[2] / m[3];
+    }
+
     /**
      * Calculates the correlation between two datasets.  Both arrays should
      * contain the same number of items.  Null values are treated as zero.
@@ -429,6 +699,60 @@ public abstract class Statistics {
                 * (n * sumY2 - sumY * sumY), 0.5);
     }
 
+    /**
+     * Calculates the correlation between two datasets.  Both arrays should
+     * contain the same number of items.  The data is read in a single pass.
+     *
+     * @param data1  the first dataset ({@code null} not permitted).
+     * @param data2  the second dataset ({@code null} not permitted).
+     *
+     * @return The correlation.
+     *
+     * @since 1.0.20
+     */
+    public static double getCorrelation(double[] data1, double[] data2) {
+        double[] m = getMoments(data1, data2);
+        return m[2] / Math.sqrt(m[3] * m[4]);
+    }
+
+    /**
+     * Calculates the means and the sums of the squared differences from the
+     * means (the co-moments) for two arrays of values, in a single pass with
+     * Welford's method.
+     *
+     * @param xData  the x-values ({@code null} not permitted).
+     * @param yData  the y-values ({@code null} not permitted).
+     *
+     * @return An array containing the mean of x, the mean of y, the sum of
+     *     the products of the x and y differences, and the sums of the
+     *     squared x and y differences.
+     */
+    private static double[] getMoments(double[] xData, double[] yData) {
+        ParamChecks.nullNotPermitted(xData, "xData");
+        ParamChecks.nullNotPermitted(yData, "yData");
+        if (xData.length != yData.length) {
+            throw new IllegalArgumentException("Array lengths must be equal.");
+        }
+        double meanX = 0.0;
+        double meanY = 0.0;
+        double cxy = 0.0;
+        double m2x = 0.0;
+        double m2y = 0.0;
+        for (int i = 0; i < xData.length; i++) {
+            double x = xData[i];
+            double y = yData[i];
+            int n = i + 1;
+            double dx = x - meanX;
+            meanX += dx / n;
+            double dy = y - meanY;
+            meanY += dy / n;
+            cxy += dx * (y - meanY);
+            m2x += dx * (x - meanX);
+            m2y += dy * (y - meanY);
+        }
+        return new double[] {meanX, meanY, cxy, m2x, m2y};
+    }
+
     /**
      * Returns a data set for a moving average on the data set passed in.
      *
@@ -467,4 +791,71 @@ public abstract class Statistics {
 
     }
 
+    /**
+     * Returns a data set for a moving average on the data set passed in,
+     * calculated as for {@link #getMovingAverage(Number[], Number[], int)}
+     * but with a running sum, so that each value is read twice rather than
+     * {@code period} times.
+     *
+     * @param xData  an array of the x data ({@code null} not permitted).
+     * @param yData  an array of the y data ({@code null} not permitted).
+     * @param period  the number of data points to average.
+     *
+     * @return A double[][] the length of the data set in the first dimension,
+     *         with two doubles for x and y in the second dimension
+     *
+     * @since 1.0.20
+     */
+    public static double[][] getMovingAverage(double[] xData, double[] yData,
+            int period) {
+
+        ParamChecks.nullNotPermitted(xData, "xData");
+        ParamChecks.nullNotPermitted(yData, "yData");
+        if (xData.length != yData.length) {
+            throw new IllegalArgumentException("Array lengths must be equal.");
+        }
+        if (period < 1) {
+            throw new IllegalArgumentException("Period must be positive.");
+        }
+        if (period > xData.length) {
+            throw new IllegalArgumentException(
+                "Period can't be longer than dataset.");
+        }
+
+        double[][] result = new double[xData.length - period][2];
+        double sum = 0.0;
+        for (int i = 0; i < result.length; i++) {
+            if (i % period == 0) {
+                // start again every period to stop rounding errors building
+                // up, at a cost of one more read per value
+                sum = 0.0;
+                for (int j = 0; j < period; j++) {
+                    sum += yData[i + j];
+                }
+            }
+            else {
+                sum += yData[i + period - 1] - yData[i - 1];
+            }
+            result[i][0] = xData[i + period];
+            result[i][1] = sum / period;
+        }
+        return result;
+
+    }
+
+    /**
+     * Checks that a slice lies within an array.
+     *
+     * @param arrayLength  the array length.
+     * @param offset  the index of the first value in the slice.
+     * @param length  the number of values in the slice.
+     *
+     * @throws IllegalArgumentException if the slice is not within the array.
+     */
+    static void checkSlice(int arrayLength, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > arrayLength - length) {
+            throw new IllegalArgumentException("Invalid offset or length.");
+        }
+    }
+
 }
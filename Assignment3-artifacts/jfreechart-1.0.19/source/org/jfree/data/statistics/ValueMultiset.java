@@ -0,0 +1,132 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * ValueMultiset.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.util.TreeMap;
+
+/**
+ * A sorted multiset of values, used by the datasets in this package to keep
+ * track of their range bounds.  Each value is stored once with a count, so
+ * adding or removing a value and finding the minimum or maximum each take
+ * logarithmic time, and the bounds don't need to be recalculated from all
+ * the items when the item holding a bound is changed or removed.
+ * <code>Double.NaN</code> values are ignored.
+ */
+class ValueMultiset {
+
+    /** The count (an <code>int[1]</code>) for each value. */
+    private TreeMap counts;
+
+    /**
+     * Creates a new empty multiset.
+     */
+    ValueMultiset() {
+        this.counts = new TreeMap();
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value  the value (<code>NaN</code> is ignored).
+     */
+    void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        Double key = new Double(value);
+        int[] count = (int[]) this.counts.get(key);
+        if (count == null) {
+            this.counts.put(key, new int[] {1});
+        }
+        else {
+            count[0]++;
+        }
+    }
+
+    /**
+     * Removes one occurrence of a value.  A value that isn't in the
+     * multiset is ignored.
+     *
+     * @param value  the value.
+     */
+    void remove(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        Double key = new Double(value);
+        int[] count = (int[]) this.counts.get(key);
+        if (count != null && --count[0] == 0) {
+            this.counts.remove(key);
+        }
+    }
+
+    /**
+     * Removes all the values.
+     */
+    void clear() {
+        this.counts.clear();
+    }
+
+    /**
+     * Returns the smallest value.
+     *
+     * @return The smallest value (<code>NaN</code> if there are no values).
+     */
+    double getMinimum() {
+        if (this.counts.isEmpty()) {
+            return Double.NaN;
+        }
+        return ((Double) this.counts.firstKey()).doubleValue();
+    }
+
+    /**
+     * Returns the largest value.
+     *
+     * @return The largest value (<code>NaN</code> if there are no values).
+     */
+    double getMaximum() {
+        if (this.counts.isEmpty()) {
+            return Double.NaN;
+        }
+        return ((Double) this.counts.lastKey()).doubleValue();
+    }
+
+}
@@ -0,0 +1,494 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * CalendarArithmetic.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Key the default calendar on the FORMAT locale (G14);
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.lang.reflect.Method;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * Computes the first and last milliseconds of time periods with integer
+ * arithmetic rather than by setting the fields of a {@link Calendar}, which
+ * is slow and (for {@link Week}) allocates a new calendar for every call.
+ * The time periods in a series are evaluated once per item whenever a
+ * dataset or axis needs their x-values, so this is a hot path.
+ * <P>
+ * For each time zone a small cache holds the offset that applies on recently
+ * used days.  A day is only cached when the zone's offset is the same
+ * throughout that day (and the days either side of it); every wall clock
+ * time on such a day has exactly one meaning, so the arithmetic result is
+ * the same as the result from the calendar.  Days that contain a daylight
+ * saving (or other) transition, calendars other than the default
+ * {@link GregorianCalendar}, years before the Gregorian change-over and
+ * out-of-range fields are all left to the calendar: for those the methods
+ * here return {@link #UNKNOWN} and the caller uses the calendar as before.
+ */
+final class CalendarArithmetic {
+
+    /** The number of milliseconds in one hour. */
+    private static final long MILLIS_PER_HOUR = 60L * 60L * 1000L;
+
+    /** The number of milliseconds in one day. */
+    private static final long MILLIS_PER_DAY = 24L * MILLIS_PER_HOUR;
+
+    /** The default Gregorian change-over (15-Oct-1582 UTC). */
+    private static final long DEFAULT_GREGORIAN_CHANGE = -12219292800000L;
+
+    /** The first year handled with arithmetic. */
+    private static final int FIRST_YEAR = 1583;
+
+    /** The last year handled with arithmetic. */
+    private static final int LAST_YEAR = 9999;
+
+    /** The maximum number of time zones in the cache. */
+    private static final int MAX_ZONES = 32;
+
+    /**
+     * The value returned (in place of a millisecond) when the result must be
+     * found with the calendar.
+     */
+    static final long UNKNOWN = Long.MIN_VALUE;
+
+    /** The day caches for each time zone (keyed by a copy of the zone). */
+    private static final Map ZONES = new HashMap();
+
+    /**
+     * Records, for each time zone class, whether the class defines
+     * <code>equals()</code> (the cache depends on it).
+     */
+    private static final Map ZONE_CLASSES = new HashMap();
+
+    /** The day cache used most recently. */
+    private static volatile ZoneDays lastZoneDays;
+
+    /**
+     * A calendar for each thread, created with the default time zone and
+     * locale.  Each value is an array holding the zone, the locale and the
+     * calendar (only JDK classes, so that a thread does not keep this class
+     * loaded).
+     */
+    private static final ThreadLocal DEFAULT_CALENDAR = new ThreadLocal();
+
+    /**
+     * The method <code>Locale.getDefault(Locale.Category)</code>, or
+     * <code>null</code> if the JDK does not have it (before Java 7).
+     */
+    private static final Method GET_DEFAULT_LOCALE;
+
+    /** The <code>Locale.Category.FORMAT</code> value, or <code>null</code>. */
+    private static final Object FORMAT_CATEGORY;
+
+    static {
+        Method method = null;
+        Object category = null;
+        try {
+            Class c = Class.forName("java.util.Locale$Category");
+            category = c.getField("FORMAT").get(null);
+            method = Locale.class.getMethod("getDefault", new Class[] {c});
+        }
+        catch (Exception e) {
+            method = null;
+            category = null;
+        }
+        GET_DEFAULT_LOCALE = method;
+        FORMAT_CATEGORY = category;
+    }
+
+    private CalendarArithmetic() {
+        // no requirement to instantiate
+    }
+
+    /**
+     * Returns a calendar for the default time zone and locale, equivalent to
+     * <code>Calendar.getInstance()</code> but reused (by the current thread)
+     * until the default time zone or locale is changed.  The time periods
+     * use this calendar to peg themselves when they are created.  The
+     * calendar must not be passed to other threads.
+     *
+     * @return A calendar.
+     */
+    static Calendar getDefaultCalendar() {
+        TimeZone zone = TimeZone.getDefault();
+        Locale locale = getDefaultFormatLocale();
+        Object[] cached = (Object[]) DEFAULT_CALENDAR.get();
+        if (cached == null || !cached[0].equals(zone)
+                || !cached[1].equals(locale)) {
+            cached = new Object[] {zone, locale,
+                    Calendar.getInstance(zone, locale)};
+            DEFAULT_CALENDAR.set(cached);
+        }
+        return (Calendar) cached[2];
+    }
+
+    /**
+     * Returns the default locale that <code>Calendar.getInstance()</code>
+     * uses: the default locale for formatting from Java 7 on (which can
+     * differ from <code>Locale.getDefault()</code>), otherwise the default
+     * locale.
+     *
+     * @return The locale (never <code>null</code>).
+     */
+    private static Locale getDefaultFormatLocale() {
+        if (GET_DEFAULT_LOCALE != null) {
+            try {
+                return (Locale) GET_DEFAULT_LOCALE.invoke(null,
+                        new Object[] {FORMAT_CATEGORY});
+            }
+            catch (Exception e) {
+                // fall through to the default locale
+            }
+        }
+        return Locale.getDefault();
+    }
+
+    /**
+     * Returns the millisecond for a date and time, with the same result as
+     * setting the fields of the calendar and calling
+     * <code>getTimeInMillis()</code>, or {@link #UNKNOWN}.
+     *
+     * @param calendar  the calendar (<code>null</code> not permitted).
+     * @param year  the year.
+     * @param month  the month (1 to 12).
+     * @param day  the day of the month.
+     * @param hour  the hour of the day (0 to 23).
+     * @param minute  the minute (0 to 59).
+     * @param second  the second (0 to 59).
+     * @param millisecond  the millisecond (0 to 999).
+     *
+     * @return The millisecond or {@link #UNKNOWN}.
+     */
+    static long getMillisecond(Calendar calendar, int year, int month,
+            int day, int hour, int minute, int second, int millisecond) {
+        if (year >= FIRST_YEAR && year <= LAST_YEAR
+                && month >= 1 && month <= 12 && day >= 1
+                && day <= daysInMonth(year, month) && hour >= 0 && hour < 24
+                && minute >= 0 && minute < 60 && second >= 0 && second < 60
+                && millisecond >= 0 && millisecond < 1000
+                && isGregorian(calendar)) {
+            long start = getDayStart(calendar.getTimeZone(),
+                    epochDay(year, month, day));
+            if (start != UNKNOWN) {
+                return start + hour * MILLIS_PER_HOUR + minute * 60000L
+                        + second * 1000L + millisecond;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Returns the first millisecond of a week, with the same result as
+     * setting the year, week-of-year and (first) day-of-week fields of a
+     * copy of the calendar, or {@link #UNKNOWN}.  The week rules (first day
+     * of the week and minimal days in the first week) are taken from the
+     * calendar.
+     *
+     * @param calendar  the calendar (<code>null</code> not permitted).
+     * @param year  the year.
+     * @param week  the week (values past the last week of the year run on
+     *     into the following year).
+     *
+     * @return The millisecond or {@link #UNKNOWN}.
+     */
+    static long getWeekStart(Calendar calendar, int year, int week) {
+        // a strict calendar rejects weeks that do not exist, so leave those
+        // to the calendar
+        if (year >= FIRST_YEAR && year <= LAST_YEAR && week >= 1
+                && week <= 54 && calendar.isLenient()
+                && isGregorian(calendar)) {
+            long jan1 = epochDay(year, 1, 1);
+            int firstDay = calendar.getFirstDayOfWeek();
+            int offset = (dayOfWeek(jan1) - firstDay + 7) % 7;
+            long week1 = jan1 - offset;
+            if (7 - offset < calendar.getMinimalDaysInFirstWeek()) {
+                week1 += 7;
+            }
+            return getDayStart(calendar.getTimeZone(),
+                    week1 + 7L * (week - 1));
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Returns the number of days from 1-Jan-1970 to a date in the proleptic
+     * Gregorian calendar.
+     *
+     * @param year  the year.
+     * @param month  the month (1 to 12).
+     * @param day  the day of the month.
+     *
+     * @return The day number.
+     */
+    static long epochDay(int year, int month, int day) {
+        // count years from 1-Mar so that the leap day is the last day
+        long y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5
+                + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100
+                + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * Returns the day of the week for a day number.
+     *
+     * @param epochDay  the number of days since 1-Jan-1970.
+     *
+     * @return The day of the week (<code>Calendar.SUNDAY</code> to
+     *     <code>Calendar.SATURDAY</code>).
+     */
+    static int dayOfWeek(long epochDay) {
+        // 1-Jan-1970 was a Thursday
+        return (int) (((epochDay + 4) % 7 + 7) % 7) + Calendar.SUNDAY;
+    }
+
+    /**
+     * Returns the number of days in a month.
+     *
+     * @param year  the year.
+     * @param month  the month (1 to 12).
+     *
+     * @return The number of days.
+     */
+    private static int daysInMonth(int year, int month) {
+        if (month == 2) {
+            boolean leap = (year % 4 == 0)
+                    && (year % 100 != 0 || year % 400 == 0);
+            return leap ? 29 : 28;
+        }
+        return (month == 4 || month == 6 || month == 9 || month == 11)
+                ? 30 : 31;
+    }
+
+    /**
+     * Returns <code>true</code> if the calendar is a plain
+     * <code>GregorianCalendar</code> with the default change-over, so that
+     * its dates match {@link #epochDay(int, int, int)}.
+     *
+     * @param calendar  the calendar.
+     *
+     * @return A boolean.
+     */
+    private static boolean isGregorian(Calendar calendar) {
+        return calendar.getClass() == GregorianCalendar.class
+                && ((GregorianCalendar) calendar).getGregorianChange()
+                .getTime() == DEFAULT_GREGORIAN_CHANGE;
+    }
+
+    /**
+     * Returns the millisecond at the start of a day, or {@link #UNKNOWN} if
+     * the day is not handled with arithmetic.
+     *
+     * @param zone  the time zone.
+     * @param epochDay  the number of days since 1-Jan-1970.
+     *
+     * @return The millisecond or {@link #UNKNOWN}.
+     */
+    private static long getDayStart(TimeZone zone, long epochDay) {
+        ZoneDays days = lastZoneDays;
+        if (days == null || !days.zone.equals(zone)) {
+            days = findZoneDays(zone);
+            if (days == null) {
+                return UNKNOWN;
+            }
+            lastZoneDays = days;
+        }
+        return days.getDayStart(epochDay);
+    }
+
+    /**
+     * Returns the day cache for a time zone, creating it if necessary, or
+     * <code>null</code> if the zone cannot be cached.
+     *
+     * @param zone  the time zone.
+     *
+     * @return The day cache (possibly <code>null</code>).
+     */
+    private static ZoneDays findZoneDays(TimeZone zone) {
+        synchronized (ZONES) {
+            ZoneDays result = (ZoneDays) ZONES.get(zone);
+            if (result == null) {
+                if (!definesEquals(zone.getClass())) {
+                    return null;
+                }
+                if (ZONES.size() >= MAX_ZONES) {
+                    ZONES.clear();
+                }
+                // the zone is copied since time zones are mutable
+                TimeZone copy = (TimeZone) zone.clone();
+                result = new ZoneDays(copy);
+                ZONES.put(copy, result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if a time zone class overrides
+     * <code>equals()</code>.  A zone that only has identity equality would
+     * never match the copy held in the cache.  The caller must hold the lock
+     * on {@link #ZONES}.
+     *
+     * @param c  the class.
+     *
+     * @return A boolean.
+     */
+    private static boolean definesEquals(Class c) {
+        Boolean result = (Boolean) ZONE_CLASSES.get(c);
+        if (result == null) {
+            try {
+                Method m = c.getMethod("equals", new Class[] {Object.class});
+                result = Boolean.valueOf(m.getDeclaringClass()
+                        != Object.class);
+            }
+            catch (NoSuchMethodException e) {
+                result = Boolean.FALSE;
+            }
+            ZONE_CLASSES.put(c, result);
+        }
+        return result.booleanValue();
+    }
+
+    /**
+     * The start of each recently used day in one time zone.
+     */
+    private static final class ZoneDays {
+
+        /** The number of days held (a power of two). */
+        private static final int SIZE = 512;
+
+        /** The interval between offset checks. */
+        private static final long STEP = 6L * MILLIS_PER_HOUR;
+
+        /** The time zone (a private copy). */
+        final TimeZone zone;
+
+        /**
+         * The days, indexed by the low bits of the day number.  Entries are
+         * immutable, so threads can share the array without locking.
+         */
+        private final DayStart[] days;
+
+        /**
+         * Creates an empty cache.
+         *
+         * @param zone  the time zone.
+         */
+        ZoneDays(TimeZone zone) {
+            this.zone = zone;
+            this.days = new DayStart[SIZE];
+        }
+
+        /**
+         * Returns the millisecond at the start of a day, or
+         * {@link CalendarArithmetic#UNKNOWN} if the offset changes near the
+         * day.
+         *
+         * @param epochDay  the number of days since 1-Jan-1970.
+         *
+         * @return The millisecond.
+         */
+        long getDayStart(long epochDay) {
+            int slot = (int) (epochDay & (SIZE - 1));
+            DayStart d = this.days[slot];
+            if (d == null || d.epochDay != epochDay) {
+                d = new DayStart(epochDay, calculateDayStart(epochDay));
+                this.days[slot] = d;
+            }
+            return d.start;
+        }
+
+        /**
+         * Calculates the start of a day.  The wall clock times in a day lie
+         * within 18 hours of the same times in UTC, so if the offset does
+         * not change from the day before to the day after, it applies
+         * throughout the day.
+         *
+         * @param epochDay  the number of days since 1-Jan-1970.
+         *
+         * @return The millisecond.
+         */
+        private long calculateDayStart(long epochDay) {
+            long midnight = epochDay * MILLIS_PER_DAY;
+            long t = midnight - MILLIS_PER_DAY;
+            int offset = this.zone.getOffset(t);
+            while (t < midnight + 2 * MILLIS_PER_DAY) {
+                t += STEP;
+                if (this.zone.getOffset(t) != offset) {
+                    return UNKNOWN;
+                }
+            }
+            return midnight - offset;
+        }
+
+    }
+
+    /**
+     * The start of one day.
+     */
+    private static final class DayStart {
+
+        /** The number of days since 1-Jan-1970. */
+        final long epochDay;
+
+        /** The first millisecond of the day (or UNKNOWN). */
+        final long start;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param epochDay  the day number.
+         * @param start  the first millisecond.
+         */
+        DayStart(long epochDay, long start) {
+            this.epochDay = epochDay;
+            this.start = start;
+        }
+
+    }
+
+}
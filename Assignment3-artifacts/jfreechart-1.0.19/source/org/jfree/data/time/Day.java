@@ -60,6 +60,8 @@
  * 02-Mar-2009 : Added new constructor with Locale (DG);
  * 05-Jul-2012 : Replaced getTime().getTime() with getTimeInMillis() (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Calculate milliseconds without the calendar where possible
+ *               (G14);
  *
  */
 
@@ -129,7 +131,7 @@ public class Day extends RegularTimePeriod implements Serializable {
      */
     public Day(int day, int month, int year) {
         this.serialDate = SerialDate.createInstance(day, month, year);
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultCalendar());
     }
 
     /**
@@ -140,7 +142,7 @@ public class Day extends RegularTimePeriod implements Serializable {
     public Day(SerialDate serialDate) {
         ParamChecks.nullNotPermitted(serialDate, "serialDate");
         this.serialDate = serialDate;
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultCalendar());
     }
 
     /**
@@ -339,6 +341,11 @@ public class Day extends RegularTimePeriod implements Serializable {
         int year = this.serialDate.getYYYY();
         int month = this.serialDate.getMonth();
         int day = this.serialDate.getDayOfMonth();
+        long result = CalendarArithmetic.getMillisecond(calendar, year,
+                month, day, 0, 0, 0, 0);
+        if (result != CalendarArithmetic.UNKNOWN) {
+            return result;
+        }
         calendar.clear();
         calendar.set(year, month - 1, day, 0, 0, 0);
         calendar.set(Calendar.MILLISECOND, 0);
@@ -361,6 +368,11 @@ public class Day extends RegularTimePeriod implements Serializable {
         int year = this.serialDate.getYYYY();
         int month = this.serialDate.getMonth();
         int day = this.serialDate.getDayOfMonth();
+        long result = CalendarArithmetic.getMillisecond(calendar, year,
+                month, day, 23, 59, 59, 999);
+        if (result != CalendarArithmetic.UNKNOWN) {
+            return result;
+        }
         calendar.clear();
         calendar.set(year, month - 1, day, 23, 59, 59);
         calendar.set(Calendar.MILLISECOND, 999);
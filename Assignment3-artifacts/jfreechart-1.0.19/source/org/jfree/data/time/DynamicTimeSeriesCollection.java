@@ -57,6 +57,8 @@
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
  * 01-Jul-2014 : Add millisecond time period - see patch #310 by Ricardo JL
  *               Rufino (DG);
+ * 18-Oct-2026 : Increment the version for data appended without sending a
+ *               change event (G14);
  *
  */
 
@@ -693,8 +695,10 @@ public class DynamicTimeSeriesCollection extends AbstractIntervalXYDataset
             insertionIndex++;
             if (insertionIndex % refresh == 0) {
                 fireSeriesChanged();
+                return;
             }
         }
+        incrementVersion();  // the change is not signalled yet
     }
 
     /**
@@ -61,6 +61,8 @@
  * 02-Mar-2009 : Added new constructor with Locale (DG);
  * 05-Jul-2012 : Replaced getTime().getTime() with getTimeInMillis() (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Calculate milliseconds without the calendar where possible
+ *               (G14);
  *
  */
 
@@ -117,7 +119,7 @@ public class Hour extends RegularTimePeriod implements Serializable {
         ParamChecks.nullNotPermitted(day, "day");
         this.hour = (byte) hour;
         this.day = day;
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultCalendar());
     }
 
     /**
@@ -340,6 +342,11 @@ public class Hour extends RegularTimePeriod implements Serializable {
         int year = this.day.getYear();
         int month = this.day.getMonth() - 1;
         int dom = this.day.getDayOfMonth();
+        long result = CalendarArithmetic.getMillisecond(calendar, year,
+                month + 1, dom, this.hour, 0, 0, 0);
+        if (result != CalendarArithmetic.UNKNOWN) {
+            return result;
+        }
         calendar.set(year, month, dom, this.hour, 0, 0);
         calendar.set(Calendar.MILLISECOND, 0);
         return calendar.getTimeInMillis();
@@ -360,6 +367,11 @@ public class Hour extends RegularTimePeriod implements Serializable {
         int year = this.day.getYear();
         int month = this.day.getMonth() - 1;
         int dom = this.day.getDayOfMonth();
+        long result = CalendarArithmetic.getMillisecond(calendar, year,
+                month + 1, dom, this.hour, 59, 59, 999);
+        if (result != CalendarArithmetic.UNKNOWN) {
+            return result;
+        }
         calendar.set(year, month, dom, this.hour, 59, 59);
         calendar.set(Calendar.MILLISECOND, 999);
         return calendar.getTimeInMillis();
@@ -55,6 +55,8 @@
  * 16-Sep-2008 : Deprecated DEFAULT_TIME_ZONE (DG);
  * 02-Mar-2009 : Added new constructor with Locale (DG);
  * 05-Jul-2012 : Replaced getTime().getTime() with getTimeInMillis() (DG);
+ * 18-Oct-2026 : Calculate milliseconds without the calendar where possible
+ *               (G14);
  *
  */
 
@@ -120,7 +122,7 @@ public class Millisecond extends RegularTimePeriod implements Serializable {
         this.minute = (byte) second.getMinute().getMinute();
         this.hour = (byte) second.getMinute().getHourValue();
         this.day = second.getMinute().getDay();
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultCalendar());
     }
 
     /**
@@ -424,6 +426,12 @@ public class Millisecond extends RegularTimePeriod implements Serializable {
         int year = this.day.getYear();
         int month = this.day.getMonth() - 1;
         int d = this.day.getDayOfMonth();
+        long result = CalendarArithmetic.getMillisecond(calendar, year,
+                month + 1, d, this.hour, this.minute, this.second,
+                this.millisecond);
+        if (result != CalendarArithmetic.UNKNOWN) {
+            return result;
+        }
         calendar.clear();
         calendar.set(year, month, d, this.hour, this.minute, this.second);
         calendar.set(Calendar.MILLISECOND, this.millisecond);
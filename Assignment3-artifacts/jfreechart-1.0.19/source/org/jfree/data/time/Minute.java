@@ -62,6 +62,8 @@
  * 02-Mar-2009 : Added new constructor that specifies Locale (DG);
  * 05-Jul-2012 : Replaced getTime().getTime() with getTimeInMillis() (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Calculate milliseconds without the calendar where possible
+ *               (G14);
  *
  */
 
@@ -122,7 +124,7 @@ public class Minute extends RegularTimePeriod implements Serializable {
         this.minute = (byte) minute;
         this.hour = (byte) hour.getHour();
         this.day = hour.getDay();
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultCalendar());
     }
 
     /**
@@ -343,6 +345,11 @@ public class Minute extends RegularTimePeriod implements Serializable {
         int year = this.day.getYear();
         int month = this.day.getMonth() - 1;
         int d = this.day.getDayOfMonth();
+        long result = CalendarArithmetic.getMillisecond(calendar, year,
+                month + 1, d, this.hour, this.minute, 0, 0);
+        if (result != CalendarArithmetic.UNKNOWN) {
+            return result;
+        }
 
         calendar.clear();
         calendar.set(year, month, d, this.hour, this.minute, 0);
@@ -367,6 +374,11 @@ public class Minute extends RegularTimePeriod implements Serializable {
         int year = this.day.getYear();
         int month = this.day.getMonth() - 1;
         int d = this.day.getDayOfMonth();
+        long result = CalendarArithmetic.getMillisecond(calendar, year,
+                month + 1, d, this.hour, this.minute, 59, 999);
+        if (result != CalendarArithmetic.UNKNOWN) {
+            return result;
+        }
 
         calendar.clear();
         calendar.set(year, month, d, this.hour, this.minute, 59);
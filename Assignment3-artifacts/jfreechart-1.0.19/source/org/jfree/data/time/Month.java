@@ -61,6 +61,8 @@
  * 25-Nov-2008 : Added new constructor with Locale (DG);
  * 04-Feb-2009 : Fix for new constructor with Locale - bug 2564636 (DG);
  * 05-Jul-2012 : Removed JDK 1.3.1 supporting code (DG);
+ * 18-Oct-2026 : Calculate milliseconds without the calendar where possible
+ *               (G14);
  *
  */
 
@@ -115,7 +117,7 @@ public class Month extends RegularTimePeriod implements Serializable {
         }
         this.month = month;
         this.year = year;
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultCalendar());
     }
 
     /**
@@ -130,7 +132,7 @@ public class Month extends RegularTimePeriod implements Serializable {
         }
         this.month = month;
         this.year = year.getYear();
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultCalendar());
     }
 
     /**
@@ -421,6 +423,11 @@ public class Month extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getFirstMillisecond(Calendar calendar) {
+        long result = CalendarArithmetic.getMillisecond(calendar, this.year,
+                this.month, 1, 0, 0, 0, 0);
+        if (result != CalendarArithmetic.UNKNOWN) {
+            return result;
+        }
         calendar.set(this.year, this.month - 1, 1, 0, 0, 0);
         calendar.set(Calendar.MILLISECOND, 0);
         return calendar.getTimeInMillis();
@@ -440,6 +447,11 @@ public class Month extends RegularTimePeriod implements Serializable {
     @Override
     public long getLastMillisecond(Calendar calendar) {
         int eom = SerialDate.lastDayOfMonth(this.month, this.year);
+        long result = CalendarArithmetic.getMillisecond(calendar, this.year,
+                this.month, eom, 23, 59, 59, 999);
+        if (result != CalendarArithmetic.UNKNOWN) {
+            return result;
+        }
         calendar.set(this.year, this.month - 1, eom, 23, 59, 59);
         calendar.set(Calendar.MILLISECOND, 999);
         return calendar.getTimeInMillis();
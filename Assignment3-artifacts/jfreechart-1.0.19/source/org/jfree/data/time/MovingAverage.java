@@ -45,6 +45,9 @@
  *               release (DG);
  * 09-Jun-2009 : Tidied up some calls to TimeSeries (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Added methods for moving averages that are updated as the
+ *               source series changes, and fixed createPointMovingAverage() for
+ *               null values (G14);
  *
  */
 
@@ -177,7 +180,9 @@ public class MovingAverage {
      * Creates a new {@link TimeSeries} containing moving average values for
      * the given series, calculated by number of points (irrespective of the
      * 'age' of those points).  If the series is empty (contains zero items),
-     * the result is an empty series.
+     * the result is an empty series.  Items with a <code>null</code> value
+     * are not included in the average (if all the items in the window are
+     * <code>null</code>, so is the average).
      * <p>
      * Developed by Benoit Xhenseval (www.ObjectLab.co.uk).
      *
@@ -199,28 +204,87 @@ public class MovingAverage {
 
         TimeSeries result = new TimeSeries(name);
         double rollingSumForPeriod = 0.0;
+        int n = 0;
         for (int i = 0; i < source.getItemCount(); i++) {
             // get the current data item...
             TimeSeriesDataItem current = source.getRawDataItem(i);
             RegularTimePeriod period = current.getPeriod();
-            // FIXME: what if value is null on next line?
-            rollingSumForPeriod += current.getValue().doubleValue();
+            Number v = current.getValue();
+            if (v != null) {
+                rollingSumForPeriod += v.doubleValue();
+                n = n + 1;
+            }
 
             if (i > pointCount - 1) {
                 // remove the point i-periodCount out of the rolling sum.
                 TimeSeriesDataItem startOfMovingAvg = source.getRawDataItem(
                         i - pointCount);
-                rollingSumForPeriod -= startOfMovingAvg.getValue()
-                        .doubleValue();
-                result.add(period, rollingSumForPeriod / pointCount);
+                Number old = startOfMovingAvg.getValue();
+                if (old != null) {
+                    rollingSumForPeriod -= old.doubleValue();
+                    n = n - 1;
+                }
             }
-            else if (i == pointCount - 1) {
-                result.add(period, rollingSumForPeriod / pointCount);
+            if (i >= pointCount - 1) {
+                if (n > 0) {
+                    result.add(period, rollingSumForPeriod / n);
+                }
+                else {
+                    result.add(period, null);
+                }
             }
         }
         return result;
     }
 
+    /**
+     * Creates a moving average for the given series, calculated over a number
+     * of periods, that is updated as the source series changes.  The averages
+     * are the same as those calculated by
+     * {@link #createMovingAverage(TimeSeries, String, int, int)}, and are
+     * available from {@link TimeSeriesMovingAverage#getSeries()}.  Removing
+     * items from the start of the source series removes their averages, but
+     * doesn't change the others.
+     *
+     * @param source  the source series (<code>null</code> not permitted).
+     * @param name  the name of the new series.
+     * @param periodCount  the number of periods used in the average
+     *                     calculation.
+     * @param skip  the number of initial periods to skip.
+     *
+     * @return The moving average.
+     *
+     * @since 1.0.20
+     */
+    public static TimeSeriesMovingAverage createLiveMovingAverage(
+            TimeSeries source, String name, int periodCount, int skip) {
+        return new TimeSeriesMovingAverage(source, name, periodCount, skip,
+                false);
+    }
+
+    /**
+     * Creates a moving average for the given series, calculated over a number
+     * of points, that is updated as the source series changes.  The averages
+     * are the same as those calculated by
+     * {@link #createPointMovingAverage(TimeSeries, String, int)}, and are
+     * available from {@link TimeSeriesMovingAverage#getSeries()}.  Removing
+     * items from the start of the source series removes their averages, but
+     * doesn't change the others.
+     *
+     * @param source  the source series (<code>null</code> not permitted).
+     * @param name  the name of the new series.
+     * @param pointCount  the number of POINTS used in the average calculation
+     *                    (not periods!)
+     *
+     * @return The moving average.
+     *
+     * @since 1.0.20
+     */
+    public static TimeSeriesMovingAverage createLivePointMovingAverage(
+            TimeSeries source, String name, int pointCount) {
+        return new TimeSeriesMovingAverage(source, name, pointCount, 0, true);
+    }
+
     /**
      * Creates a new {@link XYDataset} containing the moving averages of each
      * series in the <code>source</code> dataset.
@@ -0,0 +1,1598 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * PrimitiveTimeSeries.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Find aged items with a binary search (G14);
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.Range;
+import org.jfree.data.general.MinMaxTree;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.data.general.SeriesException;
+import org.jfree.data.general.WindowedMinMax;
+import org.jfree.util.ObjectUtilities;
+
+/**
+ * A {@link TimeSeries} that stores its data in primitive columns rather than
+ * a list of {@link TimeSeriesDataItem} objects.  For each item the series
+ * keeps the first and last millisecond of the time period (evaluated in the
+ * time zone of the series) and the value, so that it uses far less memory
+ * than a {@link TimeSeries} (24 bytes per item rather than roughly 100) and
+ * {@link #getMillisecond(int, TimePeriodAnchor, Calendar)} and
+ * {@link #getYValue(int)} can be answered without creating any objects.
+ * When the series is added to a {@link TimeSeriesCollection} that uses the
+ * same time zone, the collection reads x and y-values for rendering
+ * directly from these columns.
+ * <P>
+ * Time period objects are only created when they are requested, for
+ * example by {@link #getTimePeriod(int)} or {@link #getDataItem(int)}, and
+ * a new object is created on each call (changes to a returned
+ * {@link TimeSeriesDataItem} have no effect on the series).  To recreate the
+ * periods, the time period class must be {@link FixedMillisecond} or have a
+ * <code>(Date, TimeZone)</code> constructor, as all the standard time period
+ * classes do.  A time period that does not exist in the time zone of the
+ * series (for example, an {@link Hour} that is skipped when daylight saving
+ * time starts) has the same first millisecond as the following time period,
+ * so is stored as that time period.
+ * <P>
+ * Missing values are stored as <code>Double.NaN</code>, so a
+ * <code>null</code> value that is added to the series will be returned as
+ * <code>null</code> by {@link #getValue(int)} and as <code>Double.NaN</code>
+ * by {@link #getYValue(int)}, and vice versa.  Values are returned as
+ * <code>Double</code> instances whatever type of <code>Number</code> was
+ * added.
+ *
+ * @since 1.0.20
+ */
+public class PrimitiveTimeSeries extends TimeSeries implements Cloneable,
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2717410573853640221L;
+
+    /** The default initial capacity for the columns. */
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /** The time zone used to convert time periods to milliseconds. */
+    private TimeZone zone;
+
+    /** The first millisecond of the time period for each item. */
+    private long[] firstMillis;
+
+    /** The last millisecond of the time period for each item. */
+    private long[] lastMillis;
+
+    /** The values (<code>Double.NaN</code> for missing). */
+    private double[] values;
+
+    /**
+     * The position of the first item in the columns (items removed from the
+     * start of the series are dropped by advancing this position).
+     */
+    private int head;
+
+    /** The number of items in the series. */
+    private int itemCount;
+
+    /** The lowest value in the series, excluding Double.NaN values. */
+    private double minY;
+
+    /** The highest value in the series, excluding Double.NaN values. */
+    private double maxY;
+
+    /** A calendar for the series time zone (created when first needed). */
+    private transient Calendar calendar;
+
+    /**
+     * The <code>(Date, TimeZone)</code> constructor for the time period class
+     * (looked up when first needed, and <code>null</code> for
+     * {@link FixedMillisecond}).
+     */
+    private transient Constructor periodConstructor;
+
+    /**
+     * The last time zone passed to
+     * {@link #getMillisecond(int, TimePeriodAnchor, Calendar)} that was found
+     * to have the same rules as the series time zone.
+     */
+    private transient TimeZone matchedZone;
+
+    /**
+     * Tracks the y-bounds of the series while items are only appended and
+     * removed from the start (<code>null</code> if not currently tracking).
+     */
+    private transient WindowedMinMax yWindow;
+
+    /**
+     * A min/max tree over the values, built when the first call to
+     * {@link #findValueRange(Range, TimePeriodAnchor, TimeZone)} is made and
+     * kept up to date while items are only appended, updated and removed
+     * from the start.
+     */
+    private transient MinMaxTree yTree;
+
+    /**
+     * Creates a new (empty) series that uses the default time zone.
+     *
+     * @param name  the series name (<code>null</code> not permitted).
+     */
+    public PrimitiveTimeSeries(Comparable name) {
+        this(name, TimeZone.getDefault());
+    }
+
+    /**
+     * Creates a new (empty) series.
+     *
+     * @param name  the series name (<code>null</code> not permitted).
+     * @param zone  the time zone used to convert time periods to
+     *     milliseconds (<code>null</code> not permitted).
+     */
+    public PrimitiveTimeSeries(Comparable name, TimeZone zone) {
+        this(name, DEFAULT_DOMAIN_DESCRIPTION, DEFAULT_RANGE_DESCRIPTION, zone);
+    }
+
+    /**
+     * Creates a new (empty) series.
+     *
+     * @param name  the series name (<code>null</code> not permitted).
+     * @param domain  the domain description (<code>null</code> permitted).
+     * @param range  the range description (<code>null</code> permitted).
+     * @param zone  the time zone used to convert time periods to
+     *     milliseconds (<code>null</code> not permitted).
+     */
+    public PrimitiveTimeSeries(Comparable name, String domain, String range,
+            TimeZone zone) {
+        super(name, domain, range);
+        ParamChecks.nullNotPermitted(zone, "zone");
+        this.zone = zone;
+        this.firstMillis = new long[DEFAULT_INITIAL_CAPACITY];
+        this.lastMillis = new long[DEFAULT_INITIAL_CAPACITY];
+        this.values = new double[DEFAULT_INITIAL_CAPACITY];
+        this.head = 0;
+        this.itemCount = 0;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+    }
+
+    /**
+     * Returns the time zone used to convert time periods to milliseconds.
+     *
+     * @return The time zone (never <code>null</code>).
+     */
+    public TimeZone getTimeZone() {
+        return this.zone;
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns a new unmodifiable list containing a copy of each item in the
+     * series.  This creates one {@link TimeSeriesDataItem} (and time period)
+     * per item, so should be avoided for large series.
+     *
+     * @return The list of data items.
+     */
+    @Override
+    public List getItems() {
+        List result = new java.util.ArrayList(this.itemCount);
+        for (int i = 0; i < this.itemCount; i++) {
+            result.add(createItem(i));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in the series.
+     * If the series currently contains more items, the oldest items are
+     * removed and a {@link SeriesChangeEvent} is sent to all registered
+     * listeners.
+     *
+     * @param maximum  the maximum (requires &gt;= 0).
+     */
+    @Override
+    public void setMaximumItemCount(int maximum) {
+        super.setMaximumItemCount(maximum);
+        int remove = this.itemCount - maximum;
+        if (remove > 0) {
+            removeFirst(remove);
+            fireSeriesChanged(new SeriesChangeEvent(this,
+                    SeriesChangeType.REMOVE_FIRST, -1, -1, remove));
+        }
+    }
+
+    /**
+     * Returns the range of values in the series.
+     *
+     * @return The range of values in the series (<code>null</code> if the
+     *     series is empty).
+     */
+    @Override
+    public Range findValueRange() {
+        if (this.itemCount == 0) {
+            return null;
+        }
+        return new Range(this.minY, this.maxY);
+    }
+
+    /**
+     * Finds the range of values for the items with an x-value in the
+     * specified range.  When <code>zone</code> has the same rules as the
+     * time zone for the series, the x-values are read from the stored
+     * milliseconds without creating time period objects.
+     *
+     * @param xRange  the subset of x-values to use (<code>null</code> not
+     *     permitted).
+     * @param xAnchor  the anchor point for the x-values (<code>null</code>
+     *     not permitted).
+     * @param zone  the time zone (<code>null</code> not permitted).
+     *
+     * @return The range of values.
+     */
+    @Override
+    public Range findValueRange(Range xRange, TimePeriodAnchor xAnchor,
+            TimeZone zone) {
+        ParamChecks.nullNotPermitted(xRange, "xRange");
+        ParamChecks.nullNotPermitted(xAnchor, "xAnchor");
+        ParamChecks.nullNotPermitted(zone, "zone");
+        if (this.itemCount == 0) {
+            return null;
+        }
+        Calendar c = Calendar.getInstance(zone);
+        buildYTree();
+        int start = findFirstIndex(xRange.getLowerBound(), false, xAnchor, c);
+        int end = findFirstIndex(xRange.getUpperBound(), true, xAnchor, c);
+        double lowY = Double.POSITIVE_INFINITY;
+        double highY = Double.NEGATIVE_INFINITY;
+        if (start < end) {
+            lowY = this.yTree.getMinimum(start, end);
+            highY = this.yTree.getMaximum(start, end);
+        }
+        if (Double.isInfinite(lowY) && Double.isInfinite(highY)) {
+            if (lowY < highY) {
+                return new Range(lowY, highY);
+            }
+            else {
+                return new Range(Double.NaN, Double.NaN);
+            }
+        }
+        return new Range(lowY, highY);
+    }
+
+    /**
+     * Returns the smallest value in the series, ignoring any missing values.
+     *
+     * @return The smallest value.
+     */
+    @Override
+    public double getMinY() {
+        return this.minY;
+    }
+
+    /**
+     * Returns the largest value in the series, ignoring any missing values.
+     *
+     * @return The largest value.
+     */
+    @Override
+    public double getMaxY() {
+        return this.maxY;
+    }
+
+    /**
+     * Returns a new data item containing the time period and value at the
+     * specified index.
+     *
+     * @param index  the item index.
+     *
+     * @return The data item.
+     */
+    @Override
+    public TimeSeriesDataItem getDataItem(int index) {
+        checkIndex(index);
+        return createItem(index);
+    }
+
+    /**
+     * Returns a new data item containing the time period and value at the
+     * specified index.  Since this series does not store
+     * {@link TimeSeriesDataItem} objects, changes to the returned item are
+     * not reflected in the series.
+     *
+     * @param index  the item index (zero-based).
+     *
+     * @return The data item.
+     */
+    @Override
+    TimeSeriesDataItem getRawDataItem(int index) {
+        return getDataItem(index);
+    }
+
+    /**
+     * Returns a new data item for the specified time period.  Since this
+     * series does not store {@link TimeSeriesDataItem} objects, changes to
+     * the returned item are not reflected in the series.
+     *
+     * @param period  the time period (<code>null</code> not permitted).
+     *
+     * @return The data item (<code>null</code> if there is no item for the
+     *     time period).
+     */
+    @Override
+    TimeSeriesDataItem getRawDataItem(RegularTimePeriod period) {
+        int index = getIndex(period);
+        if (index >= 0) {
+            return createItem(index);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the time period at the specified index.  The time period is
+     * created from the stored first millisecond on each call.
+     *
+     * @param index  the index of the data item.
+     *
+     * @return The time period.
+     */
+    @Override
+    public RegularTimePeriod getTimePeriod(int index) {
+        checkIndex(index);
+        return createPeriod(this.firstMillis[this.head + index]);
+    }
+
+    /**
+     * Returns the index for the item (if any) that corresponds to a time
+     * period.  If there is no such item, the negative value encodes the
+     * insertion point in the same way as <code>Arrays.binarySearch()</code>.
+     *
+     * @param period  the time period (<code>null</code> not permitted).
+     *
+     * @return The index.
+     */
+    @Override
+    public int getIndex(RegularTimePeriod period) {
+        ParamChecks.nullNotPermitted(period, "period");
+        return indexOf(period.getFirstMillisecond(getCalendar()));
+    }
+
+    /**
+     * Returns the value at the specified index.
+     *
+     * @param index  index of a value.
+     *
+     * @return The value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getValue(int index) {
+        double y = getYValue(index);
+        return Double.isNaN(y) ? null : new Double(y);
+    }
+
+    /**
+     * Returns the x-value (in milliseconds since 1-Jan-1970) for the time
+     * period at the specified index.  If the calendar has the same time zone
+     * rules (and week settings) as the series, or the time periods are
+     * {@link FixedMillisecond} instances, the value is calculated from the
+     * stored milliseconds without creating a time period object.
+     *
+     * @param index  the index of the data item.
+     * @param anchor  the anchor point within the time period
+     *     (<code>null</code> not permitted).
+     * @param calendar  the calendar used to convert the time period to
+     *     milliseconds (<code>null</code> not permitted).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public long getMillisecond(int index, TimePeriodAnchor anchor,
+            Calendar calendar) {
+        checkIndex(index);
+        if (!FixedMillisecond.class.equals(this.timePeriodClass)
+                && !isSeriesCalendar(calendar)) {
+            return super.getMillisecond(index, anchor, calendar);
+        }
+        int i = this.head + index;
+        if (anchor == TimePeriodAnchor.START) {
+            return this.firstMillis[i];
+        }
+        else if (anchor == TimePeriodAnchor.MIDDLE) {
+            long m1 = this.firstMillis[i];
+            return m1 + (this.lastMillis[i] - m1) / 2;
+        }
+        else if (anchor == TimePeriodAnchor.END) {
+            return this.lastMillis[i];
+        }
+        throw new IllegalStateException("Unrecognised anchor: " + anchor);
+    }
+
+    /**
+     * Returns the value at the specified index as a double primitive.
+     *
+     * @param index  index of a value.
+     *
+     * @return The value (<code>Double.NaN</code> for a missing value).
+     */
+    @Override
+    public double getYValue(int index) {
+        checkIndex(index);
+        return this.values[this.head + index];
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the (timeperiod, value) pair (<code>null</code> not
+     *              permitted).
+     * @param notify  notify listeners?
+     */
+    @Override
+    public void add(TimeSeriesDataItem item, boolean notify) {
+        ParamChecks.nullNotPermitted(item, "item");
+        add(item.getPeriod(), toDouble(item.getValue()), notify);
+    }
+
+    /**
+     * Adds a new data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param period  the time period (<code>null</code> not permitted).
+     * @param value  the value (<code>Double.NaN</code> for a missing value).
+     * @param notify  notify listeners?
+     */
+    @Override
+    public void add(RegularTimePeriod period, double value, boolean notify) {
+        ParamChecks.nullNotPermitted(period, "period");
+        checkTimePeriodClass(period);
+        Calendar c = getCalendar();
+        long first = period.getFirstMillisecond(c);
+        int index;
+        if (this.itemCount == 0
+                || first > this.firstMillis[this.head + this.itemCount - 1]) {
+            index = this.itemCount;
+        }
+        else {
+            index = indexOf(first);
+            if (index >= 0) {
+                throw duplicatePeriod(period);
+            }
+            index = -index - 1;
+        }
+        boolean appended = (index == this.itemCount);
+        insert(index, first, period.getLastMillisecond(c), value);
+        updateBoundsForAddedItem(value);
+        int removedCount = 0;
+        if (this.itemCount > getMaximumItemCount()) {
+            removeFirst(1);
+            removedCount = 1;
+        }
+        removedCount += removeAgedItems();
+        if (notify && appended) {
+            int last = this.itemCount - 1;
+            fireSeriesChanged(new SeriesChangeEvent(this,
+                    SeriesChangeType.APPEND, last, last, removedCount));
+        }
+        else if (notify) {
+            fireSeriesChanged();
+        }
+        else {
+            incrementVersion();
+        }
+    }
+
+    /**
+     * Adds a block of observations to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.  Each
+     * observation is assigned to the time period (of the series' time period
+     * class, or {@link Millisecond} if that is not yet known) that contains
+     * the specified millisecond in the time zone of the series.  The new
+     * items are sorted once and then copied to the end of (or merged with)
+     * the existing columns.
+     * <P>
+     * If any time period would be a duplicate, an exception is thrown and
+     * the series is not changed.
+     *
+     * @param millis  the times, in milliseconds since 1-Jan-1970
+     *     (<code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted, must have
+     *     the same length as <code>millis</code>).
+     *
+     * @throws SeriesException if two observations fall in the same time
+     *     period, or an observation falls in a period that the series
+     *     already contains.
+     */
+    @Override
+    public void addAll(long[] millis, double[] values) {
+        ParamChecks.nullNotPermitted(millis, "millis");
+        ParamChecks.nullNotPermitted(values, "values");
+        if (millis.length != values.length) {
+            throw new IllegalArgumentException(
+                    "The 'millis' and 'values' arrays must have equal length.");
+        }
+        int count = millis.length;
+        if (count == 0) {
+            return;
+        }
+        Class periodClass = this.timePeriodClass;
+        if (periodClass == null) {
+            periodClass = Millisecond.class;
+        }
+        Constructor constructor = findConstructor(periodClass);
+        Calendar c = getCalendar();
+        long[] first = new long[count];
+        long[] last = new long[count];
+        double[] y = (double[]) values.clone();
+        boolean sorted = true;
+        for (int i = 0; i < count; i++) {
+            if (constructor == null) {
+                first[i] = millis[i];
+                last[i] = millis[i];
+            }
+            else {
+                RegularTimePeriod period = newPeriod(constructor, millis[i]);
+                first[i] = period.getFirstMillisecond(c);
+                last[i] = period.getLastMillisecond(c);
+            }
+            sorted = sorted && (i == 0 || first[i - 1] <= first[i]);
+        }
+        if (!sorted) {
+            sortByFirstMillisecond(first, last, y);
+        }
+        boolean appended = this.itemCount == 0 || first[0]
+                > this.firstMillis[this.head + this.itemCount - 1];
+        long[] mergedFirst = first;
+        long[] mergedLast = last;
+        double[] mergedY = y;
+        if (!appended) {
+            int size = this.itemCount + count;
+            mergedFirst = new long[size];
+            mergedLast = new long[size];
+            mergedY = new double[size];
+            int i = this.head;
+            int end = this.head + this.itemCount;
+            int j = 0;
+            for (int k = 0; k < size; k++) {
+                if (j == count || (i < end && this.firstMillis[i]
+                        <= first[j])) {
+                    mergedFirst[k] = this.firstMillis[i];
+                    mergedLast[k] = this.lastMillis[i];
+                    mergedY[k] = this.values[i++];
+                }
+                else {
+                    mergedFirst[k] = first[j];
+                    mergedLast[k] = last[j];
+                    mergedY[k] = y[j++];
+                }
+            }
+        }
+        for (int i = 1; i < mergedFirst.length; i++) {
+            if (mergedFirst[i] == mergedFirst[i - 1]) {
+                throw duplicatePeriod(constructor == null
+                        ? new FixedMillisecond(mergedFirst[i])
+                        : newPeriod(constructor, mergedFirst[i]));
+            }
+        }
+
+        // nothing has been changed until this point
+        this.timePeriodClass = periodClass;
+        this.periodConstructor = constructor;
+        int oldCount = this.itemCount;
+        if (appended) {
+            ensureCapacity(this.itemCount + count);
+            int end = this.head + this.itemCount;
+            System.arraycopy(first, 0, this.firstMillis, end, count);
+            System.arraycopy(last, 0, this.lastMillis, end, count);
+            System.arraycopy(y, 0, this.values, end, count);
+            for (int i = 0; i < count; i++) {
+                appendToTrackers(y[i]);
+                updateBoundsForAddedItem(y[i]);
+            }
+            this.itemCount += count;
+        }
+        else {
+            this.firstMillis = mergedFirst;
+            this.lastMillis = mergedLast;
+            this.values = mergedY;
+            this.head = 0;
+            this.itemCount = mergedFirst.length;
+            this.yWindow = null;
+            this.yTree = null;
+            findBoundsByIteration();
+        }
+        int remove = this.itemCount - getMaximumItemCount();
+        if (remove > 0) {
+            removeFirst(remove);
+        }
+        int aged = removeAgedItems();
+        if (appended) {
+            int lastIndex = this.itemCount - 1;
+            int removedCount = Math.min(Math.max(remove, 0) + aged, oldCount);
+            fireSeriesChanged(new SeriesChangeEvent(this,
+                    SeriesChangeType.APPEND,
+                    Math.max(lastIndex + 1 - count, 0), lastIndex,
+                    removedCount));
+        }
+        else {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Updates (changes) the value for a time period.  Throws a
+     * {@link SeriesException} if the period does not exist.
+     *
+     * @param period  the period (<code>null</code> not permitted).
+     * @param value  the value (<code>null</code> permitted).
+     */
+    @Override
+    public void update(RegularTimePeriod period, Number value) {
+        int index = getIndex(period);
+        if (index < 0) {
+            throw new SeriesException("There is no existing value for the "
+                    + "specified 'period'.");
+        }
+        update(index, value);
+    }
+
+    /**
+     * Updates (changes) the value of a data item and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the index of the data item.
+     * @param value  the new value (<code>null</code> permitted).
+     */
+    @Override
+    public void update(int index, Number value) {
+        checkIndex(index);
+        setValue(index, toDouble(value));
+        fireSeriesChanged(new SeriesChangeEvent(this, SeriesChangeType.UPDATE,
+                index, index, 0));
+    }
+
+    /**
+     * Adds or updates an item in the times series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the data item (<code>null</code> not permitted).
+     *
+     * @return A copy of the overwritten data item, or <code>null</code> if no
+     *         item was overwritten.
+     */
+    @Override
+    public TimeSeriesDataItem addOrUpdate(TimeSeriesDataItem item) {
+        ParamChecks.nullNotPermitted(item, "item");
+        RegularTimePeriod period = item.getPeriod();
+        checkTimePeriodClass(period);
+        double value = toDouble(item.getValue());
+        Calendar c = getCalendar();
+        TimeSeriesDataItem overwritten = null;
+        SeriesChangeType type = SeriesChangeType.GENERAL;
+        int changed = -1;
+        int removedCount = 0;
+        int index = indexOf(period.getFirstMillisecond(c));
+        if (index >= 0) {
+            overwritten = createItem(index);
+            setValue(index, value);
+            type = SeriesChangeType.UPDATE;
+            changed = index;
+        }
+        else {
+            index = -index - 1;
+            if (index == this.itemCount) {
+                type = SeriesChangeType.APPEND;
+            }
+            insert(index, period.getFirstMillisecond(c),
+                    period.getLastMillisecond(c), value);
+            updateBoundsForAddedItem(value);
+            if (this.itemCount > getMaximumItemCount()) {
+                removeFirst(1);
+                removedCount = 1;
+            }
+        }
+        removedCount += removeAgedItems();
+        if (type == SeriesChangeType.APPEND) {
+            changed = this.itemCount - 1;
+        }
+        if (type == SeriesChangeType.APPEND
+                || (type == SeriesChangeType.UPDATE && removedCount == 0)) {
+            fireSeriesChanged(new SeriesChangeEvent(this, type, changed,
+                    changed, removedCount));
+        }
+        else {
+            fireSeriesChanged();
+        }
+        return overwritten;
+    }
+
+    /**
+     * Age items in the series.  Ensure that the timespan from the youngest to
+     * the oldest record in the series does not exceed maximumItemAge time
+     * periods.  Oldest items will be removed if required.
+     *
+     * @param notify  controls whether or not a {@link SeriesChangeEvent} is
+     *                sent to registered listeners IF any items are removed.
+     */
+    @Override
+    public void removeAgedItems(boolean notify) {
+        int removed = removeAgedItems();
+        if (removed > 0) {
+            if (notify) {
+                fireSeriesChanged(new SeriesChangeEvent(this,
+                        SeriesChangeType.REMOVE_FIRST, -1, -1, removed));
+            }
+            else {
+                incrementVersion();
+            }
+        }
+    }
+
+    /**
+     * Age items in the series.  Ensure that the timespan from the supplied
+     * time to the oldest record in the series does not exceed the maximum
+     * item age.  Oldest items will be removed if required.
+     *
+     * @param latest  the time to be compared against when aging data
+     *     (specified in milliseconds).
+     * @param notify  controls whether or not a {@link SeriesChangeEvent} is
+     *                sent to registered listeners IF any items are removed.
+     */
+    @Override
+    public void removeAgedItems(long latest, boolean notify) {
+        if (this.itemCount == 0) {
+            return;  // nothing to do
+        }
+        int removed = countAgedItems(createPeriod(latest).getSerialIndex());
+        if (removed > 0) {
+            removeFirst(removed);
+            if (notify) {
+                fireSeriesChanged(new SeriesChangeEvent(this,
+                        SeriesChangeType.REMOVE_FIRST, -1, -1, removed));
+            }
+            else {
+                incrementVersion();
+            }
+        }
+    }
+
+    /**
+     * Removes all data items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     */
+    @Override
+    public void clear() {
+        if (this.itemCount > 0) {
+            this.head = 0;
+            this.itemCount = 0;
+            this.yWindow = null;
+            this.yTree = null;
+            this.timePeriodClass = null;
+            this.periodConstructor = null;
+            this.minY = Double.NaN;
+            this.maxY = Double.NaN;
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Deletes the data item for the given time period and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.  If there is no
+     * item with the specified time period, this method does nothing.
+     *
+     * @param period  the period of the item to delete (<code>null</code> not
+     *                permitted).
+     */
+    @Override
+    public void delete(RegularTimePeriod period) {
+        int index = getIndex(period);
+        if (index >= 0) {
+            if (index == 0) {
+                removeFirst(1);
+            }
+            else {
+                double y = this.values[this.head + index];
+                removeRange(index, index + 1);
+                updateBoundsForRemovedItem(y);
+            }
+            if (this.itemCount == 0) {
+                this.timePeriodClass = null;
+            }
+            if (index == 0) {
+                fireSeriesChanged(new SeriesChangeEvent(this,
+                        SeriesChangeType.REMOVE_FIRST, -1, -1, 1));
+            }
+            else {
+                fireSeriesChanged();
+            }
+        }
+    }
+
+    /**
+     * Deletes data from start until end index (end inclusive).
+     *
+     * @param start  the index of the first period to delete.
+     * @param end  the index of the last period to delete.
+     * @param notify  notify listeners?
+     */
+    @Override
+    public void delete(int start, int end, boolean notify) {
+        if (end < start) {
+            throw new IllegalArgumentException("Requires start <= end.");
+        }
+        checkIndex(start);
+        checkIndex(end);
+        if (start == 0) {
+            removeFirst(end + 1);
+        }
+        else {
+            removeRange(start, end + 1);
+            findBoundsByIteration();
+        }
+        if (this.itemCount == 0) {
+            this.timePeriodClass = null;
+        }
+        if (notify && start == 0) {
+            fireSeriesChanged(new SeriesChangeEvent(this,
+                    SeriesChangeType.REMOVE_FIRST, -1, -1, end + 1));
+        }
+        else if (notify) {
+            fireSeriesChanged();
+        }
+        else {
+            incrementVersion();
+        }
+    }
+
+    /**
+     * Returns a clone of the time series.
+     *
+     * @return A clone of the time series.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        return copyRange(0, this.itemCount);
+    }
+
+    /**
+     * Creates a new timeseries by copying a subset of the data in this time
+     * series.
+     *
+     * @param start  the index of the first time period to copy.
+     * @param end  the index of the last time period to copy.
+     *
+     * @return A series containing a copy of this times series from start until
+     *         end.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    public TimeSeries createCopy(int start, int end)
+            throws CloneNotSupportedException {
+        if (start < 0) {
+            throw new IllegalArgumentException("Requires start >= 0.");
+        }
+        if (end < start) {
+            throw new IllegalArgumentException("Requires start <= end.");
+        }
+        if (this.itemCount == 0) {
+            return copyRange(0, 0);
+        }
+        checkIndex(end);
+        PrimitiveTimeSeries copy = copyRange(start, end + 1);
+        int remove = copy.itemCount - copy.getMaximumItemCount();
+        if (remove > 0) {
+            copy.removeFirst(remove);
+        }
+        copy.removeAgedItems();
+        return copy;
+    }
+
+    /**
+     * Creates a new timeseries by copying a subset of the data in this time
+     * series.
+     *
+     * @param start  the first time period to copy (<code>null</code> not
+     *         permitted).
+     * @param end  the last time period to copy (<code>null</code> not
+     *         permitted).
+     *
+     * @return A time series containing a copy of this time series from start
+     *         until end.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    public TimeSeries createCopy(RegularTimePeriod start,
+            RegularTimePeriod end) throws CloneNotSupportedException {
+        ParamChecks.nullNotPermitted(start, "start");
+        ParamChecks.nullNotPermitted(end, "end");
+        if (start.compareTo(end) > 0) {
+            throw new IllegalArgumentException(
+                    "Requires start on or before end.");
+        }
+        int startIndex = getIndex(start);
+        if (startIndex < 0) {
+            startIndex = -(startIndex + 1);
+        }
+        int endIndex = getIndex(end);
+        if (endIndex < 0) {
+            endIndex = -(endIndex + 1) - 1;  // the last item BEFORE end
+        }
+        if (startIndex == this.itemCount || endIndex < startIndex) {
+            return copyRange(0, 0);
+        }
+        return createCopy(startIndex, endIndex);
+    }
+
+    /**
+     * Tests this series for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof PrimitiveTimeSeries)) {
+            return false;
+        }
+        if (!super.equals(obj)) {
+            return false;
+        }
+        PrimitiveTimeSeries that = (PrimitiveTimeSeries) obj;
+        if (!ObjectUtilities.equal(this.zone, that.zone)) {
+            return false;
+        }
+        if (this.itemCount != that.itemCount) {
+            return false;
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            if (this.firstMillis[this.head + i]
+                    != that.firstMillis[that.head + i]) {
+                return false;
+            }
+            if (Double.doubleToLongBits(this.values[this.head + i])
+                    != Double.doubleToLongBits(that.values[that.head + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * Creates a new data item for the values at the specified index.
+     *
+     * @param index  the index (assumed to be valid).
+     *
+     * @return A new data item.
+     */
+    private TimeSeriesDataItem createItem(int index) {
+        int i = this.head + index;
+        double y = this.values[i];
+        return new TimeSeriesDataItem(createPeriod(this.firstMillis[i]),
+                Double.isNaN(y) ? null : new Double(y));
+    }
+
+    /**
+     * Creates the time period (of the series' time period class) that
+     * contains the specified millisecond in the series time zone.
+     *
+     * @param millis  the millisecond.
+     *
+     * @return The time period.
+     */
+    private RegularTimePeriod createPeriod(long millis) {
+        if (FixedMillisecond.class.equals(this.timePeriodClass)) {
+            return new FixedMillisecond(millis);
+        }
+        if (this.periodConstructor == null) {
+            // not serialized
+            this.periodConstructor = findConstructor(this.timePeriodClass);
+        }
+        return newPeriod(this.periodConstructor, millis);
+    }
+
+    /**
+     * Creates a time period using a <code>(Date, TimeZone)</code>
+     * constructor.
+     *
+     * @param constructor  the constructor (<code>null</code> not permitted).
+     * @param millis  a millisecond within the time period.
+     *
+     * @return The time period.
+     */
+    private RegularTimePeriod newPeriod(Constructor constructor,
+            long millis) {
+        try {
+            return (RegularTimePeriod) constructor.newInstance(new Object[] {
+                    new Date(millis), this.zone});
+        }
+        catch (InstantiationException e) {
+            throw new RuntimeException(e);
+        }
+        catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+        catch (InvocationTargetException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the <code>(Date, TimeZone)</code> constructor for a time
+     * period class.
+     *
+     * @param periodClass  the time period class (<code>null</code> not
+     *     permitted).
+     *
+     * @return The constructor (<code>null</code> for
+     *     {@link FixedMillisecond}).
+     *
+     * @throws SeriesException if the class has no such constructor.
+     */
+    private static Constructor findConstructor(Class periodClass) {
+        if (FixedMillisecond.class.equals(periodClass)) {
+            return null;
+        }
+        try {
+            return periodClass.getDeclaredConstructor(new Class[] {
+                    Date.class, TimeZone.class});
+        }
+        catch (NoSuchMethodException e) {
+            throw new SeriesException("The time period class "
+                    + periodClass.getName() + " has no (Date, TimeZone) "
+                    + "constructor, so cannot be used in a "
+                    + "PrimitiveTimeSeries.");
+        }
+    }
+
+    /**
+     * Checks that a time period has the same class as the other time
+     * periods in the series (and, for the first item, that the time periods
+     * can be recreated).
+     *
+     * @param period  the time period (<code>null</code> not permitted).
+     *
+     * @throws SeriesException if the time period has the wrong class.
+     */
+    private void checkTimePeriodClass(RegularTimePeriod period) {
+        Class c = period.getClass();
+        if (this.timePeriodClass == null) {
+            this.periodConstructor = findConstructor(c);
+            this.timePeriodClass = c;
+        }
+        else if (!this.timePeriodClass.equals(c)) {
+            StringBuilder b = new StringBuilder();
+            b.append("You are trying to add data where the time period class ");
+            b.append("is ");
+            b.append(c.getName());
+            b.append(", but the TimeSeries is expecting an instance of ");
+            b.append(this.timePeriodClass.getName());
+            b.append(".");
+            throw new SeriesException(b.toString());
+        }
+    }
+
+    /**
+     * Creates the exception that is thrown when an item is added for a time
+     * period that is already in the series.
+     *
+     * @param period  the time period.
+     *
+     * @return The exception.
+     */
+    private static SeriesException duplicatePeriod(RegularTimePeriod period) {
+        StringBuilder b = new StringBuilder();
+        b.append("You are attempting to add an observation for ");
+        b.append("the time period ");
+        b.append(period.toString());
+        b.append(" but the series already contains an observation");
+        b.append(" for that time period. Duplicates are not ");
+        b.append("permitted.  Try using the addOrUpdate() method.");
+        return new SeriesException(b.toString());
+    }
+
+    /**
+     * Returns the calendar used to convert time periods to milliseconds.
+     *
+     * @return The calendar.
+     */
+    private Calendar getCalendar() {
+        if (this.calendar == null) {
+            this.calendar = Calendar.getInstance(this.zone);
+        }
+        return this.calendar;
+    }
+
+    /**
+     * Returns <code>true</code> if a calendar converts time periods to the
+     * same milliseconds as the calendar for this series.
+     *
+     * @param calendar  the calendar (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     */
+    private boolean isSeriesCalendar(Calendar calendar) {
+        TimeZone tz = calendar.getTimeZone();
+        if (tz != this.matchedZone) {
+            if (!this.zone.hasSameRules(tz)) {
+                return false;
+            }
+            this.matchedZone = tz;
+        }
+        Calendar c = getCalendar();
+        return calendar.getFirstDayOfWeek() == c.getFirstDayOfWeek()
+                && calendar.getMinimalDaysInFirstWeek()
+                == c.getMinimalDaysInFirstWeek();
+    }
+
+    /**
+     * Checks that an index is within the bounds of the series.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.itemCount);
+        }
+    }
+
+    /**
+     * Converts a possibly <code>null</code> number to a double primitive.
+     *
+     * @param n  the number (<code>null</code> permitted).
+     *
+     * @return The value, or <code>Double.NaN</code>.
+     */
+    private static double toDouble(Number n) {
+        return n != null ? n.doubleValue() : Double.NaN;
+    }
+
+    /**
+     * Returns the index of the item with the specified first millisecond,
+     * or a negative value that encodes the insertion point in the same way
+     * as <code>Arrays.binarySearch()</code>.
+     *
+     * @param first  the first millisecond of the time period.
+     *
+     * @return The index.
+     */
+    private int indexOf(long first) {
+        int index = Arrays.binarySearch(this.firstMillis, this.head,
+                this.head + this.itemCount, first);
+        return index >= 0 ? index - this.head : index + this.head;
+    }
+
+    /**
+     * Returns the index of the first item with an x-value greater than (or
+     * equal to, if <code>inclusive</code> is <code>false</code>) the
+     * specified value.
+     *
+     * @param x  the x-value.
+     * @param inclusive  if <code>true</code>, items with an x-value equal to
+     *     <code>x</code> are skipped.
+     * @param xAnchor  the anchor point for the x-values.
+     * @param calendar  the calendar used to convert time periods to x-values.
+     *
+     * @return The index (<code>getItemCount()</code> if there is no such
+     *     item).
+     */
+    private int findFirstIndex(double x, boolean inclusive,
+            TimePeriodAnchor xAnchor, Calendar calendar) {
+        int low = 0;
+        int high = this.itemCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long millis = getMillisecond(mid, xAnchor, calendar);
+            if (millis < x || (inclusive && millis == x)) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Sorts the columns for a block of new items into ascending order of
+     * first millisecond, using a stable (bottom-up merge) sort.
+     *
+     * @param first  the first milliseconds.
+     * @param last  the last milliseconds (reordered to match).
+     * @param y  the values (reordered to match).
+     */
+    private static void sortByFirstMillisecond(long[] first, long[] last,
+            double[] y) {
+        int n = first.length;
+        long[] srcF = first;
+        long[] srcL = last;
+        double[] srcY = y;
+        long[] dstF = new long[n];
+        long[] dstL = new long[n];
+        double[] dstY = new double[n];
+        for (int width = 1; width < n; width = width * 2) {
+            for (int low = 0; low < n; low += 2 * width) {
+                int mid = Math.min(low + width, n);
+                int high = Math.min(low + 2 * width, n);
+                int i = low;
+                int j = mid;
+                for (int k = low; k < high; k++) {
+                    int from = (j == high || (i < mid && srcF[i] <= srcF[j]))
+                            ? i++ : j++;
+                    dstF[k] = srcF[from];
+                    dstL[k] = srcL[from];
+                    dstY[k] = srcY[from];
+                }
+            }
+            long[] tmp = srcF;
+            srcF = dstF;
+            dstF = tmp;
+            tmp = srcL;
+            srcL = dstL;
+            dstL = tmp;
+            double[] tmpY = srcY;
+            srcY = dstY;
+            dstY = tmpY;
+        }
+        if (srcF != first) {
+            System.arraycopy(srcF, 0, first, 0, n);
+            System.arraycopy(srcL, 0, last, 0, n);
+            System.arraycopy(srcY, 0, y, 0, n);
+        }
+    }
+
+    /**
+     * Creates a copy of this series containing the items from
+     * <code>start</code> (inclusive) to <code>end</code> (exclusive).
+     *
+     * @param start  the start index.
+     * @param end  the end index.
+     *
+     * @return The copy.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    private PrimitiveTimeSeries copyRange(int start, int end)
+            throws CloneNotSupportedException {
+        PrimitiveTimeSeries copy = (PrimitiveTimeSeries) super.clone();
+        int from = this.head + start;
+        int to = this.head + end;
+        copy.firstMillis = Arrays.copyOfRange(this.firstMillis, from, to);
+        copy.lastMillis = Arrays.copyOfRange(this.lastMillis, from, to);
+        copy.values = Arrays.copyOfRange(this.values, from, to);
+        copy.head = 0;
+        copy.itemCount = end - start;
+        copy.calendar = null;
+        copy.yWindow = null;
+        copy.yTree = null;
+        copy.findBoundsByIteration();
+        return copy;
+    }
+
+    /**
+     * Inserts an item at the specified index, growing the storage if
+     * necessary.
+     *
+     * @param index  the index.
+     * @param first  the first millisecond of the time period.
+     * @param last  the last millisecond of the time period.
+     * @param y  the value.
+     */
+    private void insert(int index, long first, long last, double y) {
+        ensureCapacity(this.itemCount + 1);
+        int i = this.head + index;
+        int tail = this.itemCount - index;
+        if (tail > 0) {
+            System.arraycopy(this.firstMillis, i, this.firstMillis, i + 1,
+                    tail);
+            System.arraycopy(this.lastMillis, i, this.lastMillis, i + 1, tail);
+            System.arraycopy(this.values, i, this.values, i + 1, tail);
+        }
+        this.firstMillis[i] = first;
+        this.lastMillis[i] = last;
+        this.values[i] = y;
+        if (tail == 0) {
+            appendToTrackers(y);
+        }
+        else {
+            this.yWindow = null;
+            this.yTree = null;
+        }
+        this.itemCount++;
+    }
+
+    /**
+     * Removes the first <code>count</code> items by advancing the head of
+     * the columns, and updates the cached bounds (without sending a change
+     * event).  Once a bound has been removed, the bounds are tracked with a
+     * {@link WindowedMinMax} so that later removals do not require
+     * iteration.
+     *
+     * @param count  the number of items to remove.
+     */
+    private void removeFirst(int count) {
+        if (this.yTree != null) {
+            this.yTree.removeFirst(count);
+        }
+        boolean bound = false;
+        for (int i = this.head; i < this.head + count; i++) {
+            double y = this.values[i];
+            if (this.yWindow != null) {
+                this.yWindow.removeFirst();
+            }
+            else if (!Double.isNaN(y) && (y <= this.minY || y >= this.maxY)) {
+                bound = true;
+            }
+        }
+        this.head += count;
+        this.itemCount -= count;
+        if (this.itemCount == 0) {
+            this.head = 0;
+        }
+        if (bound) {
+            this.yWindow = new WindowedMinMax();
+            for (int i = this.head; i < this.head + this.itemCount; i++) {
+                this.yWindow.append(this.values[i]);
+            }
+        }
+        if (this.yWindow != null) {
+            this.minY = this.yWindow.getMin();
+            this.maxY = this.yWindow.getMax();
+        }
+    }
+
+    /**
+     * Removes the items from <code>start</code> (inclusive) to
+     * <code>end</code> (exclusive), without updating the bounds or sending a
+     * change event.
+     *
+     * @param start  the start index.
+     * @param end  the end index.
+     */
+    private void removeRange(int start, int end) {
+        int tail = this.itemCount - end;
+        if (tail > 0) {
+            int from = this.head + end;
+            int to = this.head + start;
+            System.arraycopy(this.firstMillis, from, this.firstMillis, to,
+                    tail);
+            System.arraycopy(this.lastMillis, from, this.lastMillis, to, tail);
+            System.arraycopy(this.values, from, this.values, to, tail);
+        }
+        this.itemCount -= (end - start);
+        this.yWindow = null;
+        this.yTree = null;
+    }
+
+    /**
+     * Ensures that the storage can hold at least the specified number of
+     * items after the head position.  When at least half of the columns is
+     * unused space before the head, the items are moved to the start of the
+     * columns rather than into new columns.
+     *
+     * @param capacity  the required capacity.
+     */
+    private void ensureCapacity(int capacity) {
+        int length = this.firstMillis.length;
+        if (this.head + capacity <= length) {
+            return;
+        }
+        if (this.head >= this.itemCount && capacity <= length) {
+            System.arraycopy(this.firstMillis, this.head, this.firstMillis, 0,
+                    this.itemCount);
+            System.arraycopy(this.lastMillis, this.head, this.lastMillis, 0,
+                    this.itemCount);
+            System.arraycopy(this.values, this.head, this.values, 0,
+                    this.itemCount);
+        }
+        else {
+            int newCapacity = Math.max(capacity, length + (length >> 1) + 1);
+            long[] f = new long[newCapacity];
+            long[] l = new long[newCapacity];
+            double[] y = new double[newCapacity];
+            System.arraycopy(this.firstMillis, this.head, f, 0,
+                    this.itemCount);
+            System.arraycopy(this.lastMillis, this.head, l, 0, this.itemCount);
+            System.arraycopy(this.values, this.head, y, 0, this.itemCount);
+            this.firstMillis = f;
+            this.lastMillis = l;
+            this.values = y;
+        }
+        this.head = 0;
+    }
+
+    /**
+     * Removes the items that are older than the maximum item age, relative
+     * to the last item in the series, without sending a change event.
+     *
+     * @return The number of items removed.
+     */
+    private int removeAgedItems() {
+        long maximumItemAge = getMaximumItemAge();
+        if (this.itemCount < 2 || maximumItemAge == Long.MAX_VALUE) {
+            return 0;  // no item can be too old
+        }
+        long latest = createPeriod(this.firstMillis[this.head
+                + this.itemCount - 1]).getSerialIndex();
+        int removed = countAgedItems(latest);
+        if (removed > 0) {
+            removeFirst(removed);
+        }
+        return removed;
+    }
+
+    /**
+     * Adds the value of an item that was appended to the end of the series
+     * to the bounds tracker and min/max tree, if they are in use.
+     *
+     * @param y  the value.
+     */
+    private void appendToTrackers(double y) {
+        if (this.yWindow != null) {
+            this.yWindow.append(y);
+        }
+        if (this.yTree != null) {
+            if (Double.isNaN(y)) {
+                this.yTree.addMissing();
+            }
+            else {
+                this.yTree.add(y);
+            }
+        }
+    }
+
+    /**
+     * Builds the min/max tree for the series, if it does not already exist.
+     */
+    private void buildYTree() {
+        if (this.yTree != null) {
+            return;
+        }
+        this.yTree = new MinMaxTree(this.itemCount);
+        for (int i = this.head; i < this.head + this.itemCount; i++) {
+            double y = this.values[i];
+            if (Double.isNaN(y)) {
+                this.yTree.addMissing();
+            }
+            else {
+                this.yTree.add(y);
+            }
+        }
+    }
+
+    /**
+     * Sets the value at the specified index and updates the cached bounds.
+     *
+     * @param index  the index (assumed to be valid).
+     * @param y  the new value.
+     */
+    private void setValue(int index, double y) {
+        int i = this.head + index;
+        double oldY = this.values[i];
+        this.values[i] = y;
+        this.yWindow = null;
+        if (this.yTree != null) {
+            if (Double.isNaN(y)) {
+                this.yTree.setMissing(index);
+            }
+            else {
+                this.yTree.set(index, y);
+            }
+        }
+        if (!Double.isNaN(oldY) && (oldY <= this.minY || oldY >= this.maxY)) {
+            findBoundsByIteration();
+        }
+        else {
+            updateBoundsForAddedItem(y);
+        }
+    }
+
+    /**
+     * Updates the cached bounds for an added value.
+     *
+     * @param y  the value.
+     */
+    private void updateBoundsForAddedItem(double y) {
+        if (!Double.isNaN(y)) {
+            this.minY = Double.isNaN(this.minY) ? y : Math.min(this.minY, y);
+            this.maxY = Double.isNaN(this.maxY) ? y : Math.max(this.maxY, y);
+        }
+    }
+
+    /**
+     * Updates the cached bounds on the basis that an item with the specified
+     * value has just been removed.
+     *
+     * @param y  the value of the removed item.
+     */
+    private void updateBoundsForRemovedItem(double y) {
+        if (!Double.isNaN(y) && (y <= this.minY || y >= this.maxY)) {
+            findBoundsByIteration();
+        }
+    }
+
+    /**
+     * Finds the bounds of the values in the series by scanning the value
+     * column.
+     */
+    private void findBoundsByIteration() {
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+        for (int i = this.head; i < this.head + this.itemCount; i++) {
+            updateBoundsForAddedItem(this.values[i]);
+        }
+    }
+
+}
@@ -56,6 +56,8 @@
  * 16-Sep-2008 : Deprecated DEFAULT_TIME_ZONE (DG);
  * 25-Nov-2008 : Added new constructor with Locale (DG);
  * 05-Jul-2012 : REmoved JDK 1.3.1 supporting code (DG);
+ * 18-Oct-2026 : Calculate milliseconds without the calendar where possible
+ *               (G14);
  *
  */
 
@@ -129,7 +131,7 @@ public class Quarter extends RegularTimePeriod implements Serializable {
         }
         this.year = (short) year;
         this.quarter = (byte) quarter;
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultCalendar());
     }
 
     /**
@@ -144,7 +146,7 @@ public class Quarter extends RegularTimePeriod implements Serializable {
         }
         this.year = (short) year.getYear();
         this.quarter = (byte) quarter;
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultCalendar());
     }
 
     /**
@@ -433,6 +435,11 @@ public class Quarter extends RegularTimePeriod implements Serializable {
     @Override
     public long getFirstMillisecond(Calendar calendar) {
         int month = Quarter.FIRST_MONTH_IN_QUARTER[this.quarter];
+        long result = CalendarArithmetic.getMillisecond(calendar, this.year,
+                month, 1, 0, 0, 0, 0);
+        if (result != CalendarArithmetic.UNKNOWN) {
+            return result;
+        }
         calendar.set(this.year, month - 1, 1, 0, 0, 0);
         calendar.set(Calendar.MILLISECOND, 0);
         return calendar.getTimeInMillis();
@@ -453,6 +460,11 @@ public class Quarter extends RegularTimePeriod implements Serializable {
     public long getLastMillisecond(Calendar calendar) {
         int month = Quarter.LAST_MONTH_IN_QUARTER[this.quarter];
         int eom = SerialDate.lastDayOfMonth(month, this.year);
+        long result = CalendarArithmetic.getMillisecond(calendar, this.year,
+                month, eom, 23, 59, 59, 999);
+        if (result != CalendarArithmetic.UNKNOWN) {
+            return result;
+        }
         calendar.set(this.year, month - 1, eom, 23, 59, 59);
         calendar.set(Calendar.MILLISECOND, 999);
         return calendar.getTimeInMillis();
@@ -57,6 +57,8 @@
  * 02-Mar-2009 : Added new constructor with Locale (DG);
  * 05-Jul-2012 : Replaced getTime().getTime() with getTimeInMillis() (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Calculate milliseconds without the calendar where possible
+ *               (G14);
  *
  */
 
@@ -121,7 +123,7 @@ public class Second extends RegularTimePeriod implements Serializable {
         this.hour = (byte) minute.getHourValue();
         this.minute = (byte) minute.getMinute();
         this.second = (byte) second;
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultCalendar());
     }
 
     /**
@@ -311,6 +313,11 @@ public class Second extends RegularTimePeriod implements Serializable {
         int year = this.day.getYear();
         int month = this.day.getMonth() - 1;
         int d = this.day.getDayOfMonth();
+        long result = CalendarArithmetic.getMillisecond(calendar, year,
+                month + 1, d, this.hour, this.minute, this.second, 0);
+        if (result != CalendarArithmetic.UNKNOWN) {
+            return result;
+        }
         calendar.clear();
         calendar.set(year, month, d, this.hour, this.minute, this.second);
         calendar.set(Calendar.MILLISECOND, 0);
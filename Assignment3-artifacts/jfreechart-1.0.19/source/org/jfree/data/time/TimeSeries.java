@@ -85,14 +85,29 @@
  * 03-Dec-2011 : Fixed bug 3446965 which affects the y-range calculation for 
  *               the series (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Use ring buffer storage when a maximum item count is set,
+ *               and track bounds incrementally as items are evicted (G14);
+ * 18-Oct-2026 : Added addAll(long[], double[]) method (G14);
+ * 18-Oct-2026 : Use a min/max tree in findValueRange() so that the items
+ *               outside the x-range are not visited (G14);
+ * 18-Oct-2026 : Increment the version for changes made without sending a
+ *               change event (G14);
+ * 18-Oct-2026 : Describe appended, removed and updated items in change
+ *               events (G14);
+ * 18-Oct-2026 : Added getMillisecond(int, TimePeriodAnchor, Calendar) and
+ *               getYValue(int) methods (G14);
+ * 18-Oct-2026 : Find aged items with a binary search and remove them (and
+ *               evicted items) in one operation (G14);
  * 
  */
 
 package org.jfree.data.time;
 
 import java.io.Serializable;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
@@ -103,9 +118,13 @@ import java.util.TimeZone;
 
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.data.Range;
+import org.jfree.data.general.MinMaxTree;
+import org.jfree.data.general.RingBufferList;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
+import org.jfree.data.general.WindowedMinMax;
 import org.jfree.util.ObjectUtilities;
 
 /**
@@ -161,6 +180,19 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      */
     private double maxY;
 
+    /**
+     * Tracks the y-bounds of the series while items are only appended and
+     * evicted (<code>null</code> if not currently tracking).
+     */
+    private transient WindowedMinMax yWindow;
+
+    /**
+     * A min/max tree over the y-values, built when the first call to
+     * {@link #findValueRange(Range, TimePeriodAnchor, TimeZone)} is made and
+     * kept up to date while items are only appended and evicted.
+     */
+    private transient MinMaxTree yTree;
+
     /**
      * Creates a new (empty) time series.  By default, a daily time series is
      * created.  Use one of the other constructors if you require a different
@@ -297,6 +329,14 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             throw new IllegalArgumentException("Negative 'maximum' argument.");
         }
         this.maximumItemCount = maximum;
+        if (maximum < Integer.MAX_VALUE
+                && !(this.data instanceof RingBufferList)) {
+            // a capped series evicts its first item on every add, so use
+            // storage where that is a constant time operation
+            this.data = new RingBufferList(this.data);
+        }
+        this.yWindow = null;
+        this.yTree = null;
         int count = this.data.size();
         if (count > maximum) {
             delete(0, count - maximum - 1);
@@ -395,21 +435,25 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             return null;
         }
         Calendar calendar = Calendar.getInstance(zone);
-        // since the items are ordered, we could be more clever here and avoid
-        // iterating over all the data
+        // the items are ordered by time period, so the x-values are in
+        // ascending order and the items in the x-range can be found by a
+        // binary search...then the y-range comes from the min/max tree
+        if (this.yTree == null) {
+            this.yTree = new MinMaxTree(this.data.size());
+            Iterator iterator = this.data.iterator();
+            while (iterator.hasNext()) {
+                addToYTree((TimeSeriesDataItem) iterator.next());
+            }
+        }
+        int start = findFirstIndex(xRange.getLowerBound(), false, xAnchor,
+                calendar);
+        int end = findFirstIndex(xRange.getUpperBound(), true, xAnchor,
+                calendar);
         double lowY = Double.POSITIVE_INFINITY;
         double highY = Double.NEGATIVE_INFINITY;
-        for (int i = 0; i < this.data.size(); i++) {
-            TimeSeriesDataItem item = (TimeSeriesDataItem) this.data.get(i);
-            long millis = item.getPeriod().getMillisecond(xAnchor, calendar);
-            if (xRange.contains(millis)) {
-                Number n = item.getValue();
-                if (n != null) {
-                    double v = n.doubleValue();
-                    lowY = Math.min(lowY, v);
-                    highY = Math.max(highY, v);
-                }
-            }
+        if (start < end) {
+            lowY = this.yTree.getMinimum(start, end);
+            highY = this.yTree.getMaximum(start, end);
         }
         if (Double.isInfinite(lowY) && Double.isInfinite(highY)) {
             if (lowY < highY) {
@@ -421,6 +465,37 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         return new Range(lowY, highY);
     }
 
+    /**
+     * Returns the index of the first item with an x-value greater than (or
+     * equal to, if <code>inclusive</code> is <code>false</code>) the
+     * specified value.
+     *
+     * @param x  the x-value.
+     * @param inclusive  if <code>true</code>, items with an x-value equal to
+     *     <code>x</code> are skipped.
+     * @param xAnchor  the anchor point for the x-values.
+     * @param calendar  the calendar used to convert time periods to x-values.
+     *
+     * @return The index (<code>getItemCount()</code> if there is no such
+     *     item).
+     */
+    private int findFirstIndex(double x, boolean inclusive,
+            TimePeriodAnchor xAnchor, Calendar calendar) {
+        int low = 0;
+        int high = this.data.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long millis = getMillisecond(mid, xAnchor, calendar);
+            if (millis < x || (inclusive && millis == x)) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
     /**
      * Returns the smallest y-value in the series, ignoring any 
      * <code>null</code> and <code>Double.NaN</code> values.  This method 
@@ -620,6 +695,43 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         return getRawDataItem(index).getValue();
     }
 
+    /**
+     * Returns the x-value (in milliseconds since 1-Jan-1970) for the time
+     * period at the specified index.  This is equivalent to
+     * <code>getTimePeriod(index).getMillisecond(anchor, calendar)</code>,
+     * but subclasses that do not store {@link RegularTimePeriod} objects can
+     * override it to avoid creating one.
+     *
+     * @param index  the index of the data item.
+     * @param anchor  the anchor point within the time period
+     *     (<code>null</code> not permitted).
+     * @param calendar  the calendar used to convert the time period to
+     *     milliseconds (<code>null</code> not permitted).
+     *
+     * @return The x-value.
+     *
+     * @since 1.0.20
+     */
+    public long getMillisecond(int index, TimePeriodAnchor anchor,
+            Calendar calendar) {
+        return getTimePeriod(index).getMillisecond(anchor, calendar);
+    }
+
+    /**
+     * Returns the value at the specified index as a double primitive.
+     *
+     * @param index  index of a value.
+     *
+     * @return The value (<code>Double.NaN</code> for a <code>null</code>
+     *     value).
+     *
+     * @since 1.0.20
+     */
+    public double getYValue(int index) {
+        Number value = getValue(index);
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
     /**
      * Returns the value for a time period.  If there is no data item with the
      * specified period, this method will return <code>null</code>.
@@ -675,21 +787,30 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
 
         // make the change (if it's not a duplicate time period)...
         boolean added = false;
+        boolean appended = false;
         int count = getItemCount();
         if (count == 0) {
             this.data.add(item);
+            appendToWindow(item);
+            appendToYTree(item);
             added = true;
+            appended = true;
         }
         else {
             RegularTimePeriod last = getTimePeriod(getItemCount() - 1);
             if (item.getPeriod().compareTo(last) > 0) {
                 this.data.add(item);
+                appendToWindow(item);
+                appendToYTree(item);
                 added = true;
+                appended = true;
             }
             else {
                 int index = Collections.binarySearch(this.data, item);
                 if (index < 0) {
                     this.data.add(-index - 1, item);
+                    this.yWindow = null;
+                    this.yTree = null;
                     added = true;
                 }
                 else {
@@ -707,17 +828,26 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         if (added) {
             updateBoundsForAddedItem(item);
             // check if this addition will exceed the maximum item count...
+            int removedCount = 0;
             if (getItemCount() > this.maximumItemCount) {
-                TimeSeriesDataItem d = (TimeSeriesDataItem) this.data.remove(0);
-                updateBoundsForRemovedItem(d);
+                removeFirstItems(1);
+                removedCount = 1;
             }
 
-            removeAgedItems(false);  // remove old items if necessary, but
-                                     // don't notify anyone, because that
-                                     // happens next anyway...
-            if (notify) {
+            // remove old items if necessary, but don't notify anyone,
+            // because that happens next anyway...
+            removedCount += removeAgedItems();
+            if (notify && appended) {
+                int last = getItemCount() - 1;
+                fireSeriesChanged(new SeriesChangeEvent(this,
+                        SeriesChangeType.APPEND, last, last, removedCount));
+            }
+            else if (notify) {
                 fireSeriesChanged();
             }
+            else {
+                incrementVersion();
+            }
         }
 
     }
@@ -775,6 +905,153 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         add(item, notify);
     }
 
+    /**
+     * Adds a block of observations to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.  Each
+     * observation is assigned to the time period (of the series' time period
+     * class, or {@link Millisecond} if that is not yet known) that contains
+     * the specified millisecond in the default time zone.  This gives the
+     * same result as adding the items one at a time (including the removal
+     * of items beyond the maximum item count or age), but the new items are
+     * sorted once and then appended to (or merged with) the existing items in
+     * a single pass, and the bounds are updated once.
+     * <P>
+     * If any time period would be a duplicate, an exception is thrown and
+     * the series is not changed.
+     *
+     * @param millis  the times, in milliseconds since 1-Jan-1970
+     *     (<code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted, must have
+     *     the same length as <code>millis</code>).
+     *
+     * @throws SeriesException if two observations fall in the same time
+     *     period, or an observation falls in a period that the series
+     *     already contains.
+     *
+     * @since 1.0.20
+     */
+    public void addAll(long[] millis, double[] values) {
+        ParamChecks.nullNotPermitted(millis, "millis");
+        ParamChecks.nullNotPermitted(values, "values");
+        if (millis.length != values.length) {
+            throw new IllegalArgumentException(
+                    "The 'millis' and 'values' arrays must have equal length.");
+        }
+        if (millis.length == 0) {
+            return;
+        }
+        Class periodClass = this.timePeriodClass;
+        if (periodClass == null) {
+            periodClass = Millisecond.class;
+        }
+        List items = new ArrayList(millis.length);
+        boolean sorted = true;
+        if (FixedMillisecond.class.equals(periodClass)) {
+            for (int i = 0; i < millis.length; i++) {
+                items.add(new TimeSeriesDataItem(
+                        new FixedMillisecond(millis[i]), values[i]));
+                sorted = sorted && (i == 0 || millis[i - 1] <= millis[i]);
+            }
+        }
+        else {
+            // look up the constructor once, rather than once per item as
+            // RegularTimePeriod.createInstance() would
+            TimeZone zone = TimeZone.getDefault();
+            try {
+                Constructor constructor = periodClass.getDeclaredConstructor(
+                        new Class[] {Date.class, TimeZone.class});
+                for (int i = 0; i < millis.length; i++) {
+                    RegularTimePeriod period = (RegularTimePeriod)
+                            constructor.newInstance(new Object[] {
+                            new Date(millis[i]), zone});
+                    items.add(new TimeSeriesDataItem(period, values[i]));
+                    sorted = sorted && (i == 0 || millis[i - 1] <= millis[i]);
+                }
+            }
+            catch (NoSuchMethodException e) {
+                throw new RuntimeException(e);
+            }
+            catch (InstantiationException e) {
+                throw new RuntimeException(e);
+            }
+            catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+            catch (InvocationTargetException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        if (!sorted) {
+            Collections.sort(items);
+        }
+        boolean appended = this.data.isEmpty() || getTimePeriod(
+                getItemCount() - 1).compareTo(((TimeSeriesDataItem)
+                items.get(0)).getPeriod()) < 0;
+        if (!appended) {
+            List merged = new ArrayList(this.data.size() + items.size());
+            int i = 0;
+            int j = 0;
+            while (i < this.data.size() || j < items.size()) {
+                if (j == items.size() || (i < this.data.size()
+                        && ((TimeSeriesDataItem) this.data.get(i)).compareTo(
+                        items.get(j)) <= 0)) {
+                    merged.add(this.data.get(i++));
+                }
+                else {
+                    merged.add(items.get(j++));
+                }
+            }
+            items = merged;
+        }
+        for (int i = 1; i < items.size(); i++) {
+            TimeSeriesDataItem item = (TimeSeriesDataItem) items.get(i);
+            if (item.compareTo(items.get(i - 1)) == 0) {
+                StringBuilder b = new StringBuilder();
+                b.append("You are attempting to add an observation for ");
+                b.append("the time period ");
+                b.append(item.getPeriod().toString());
+                b.append(" but the series already contains an observation");
+                b.append(" for that time period. Duplicates are not ");
+                b.append("permitted.  Try using the addOrUpdate() method.");
+                throw new SeriesException(b.toString());
+            }
+        }
+
+        // nothing has been changed until this point
+        this.timePeriodClass = periodClass;
+        int oldCount = this.data.size();
+        if (!appended) {
+            this.data.clear();
+        }
+        this.data.addAll(items);
+        this.yWindow = null;
+        this.yTree = null;
+        int remove = this.data.size() - this.maximumItemCount;
+        if (remove > 0) {
+            this.data.subList(0, remove).clear();
+        }
+        if (appended && remove <= 0) {
+            Iterator iterator = items.iterator();
+            while (iterator.hasNext()) {
+                updateBoundsForAddedItem((TimeSeriesDataItem) iterator.next());
+            }
+        }
+        else {
+            updateMinMaxYByIteration();
+        }
+        int aged = removeAgedItems();
+        if (appended) {
+            int last = getItemCount() - 1;
+            int removedCount = Math.min(Math.max(remove, 0) + aged, oldCount);
+            fireSeriesChanged(new SeriesChangeEvent(this,
+                    SeriesChangeType.APPEND,
+                    Math.max(last + 1 - items.size(), 0), last, removedCount));
+        }
+        else {
+            fireSeriesChanged();
+        }
+    }
+
     /**
      * Updates (changes) the value for a time period.  Throws a
      * {@link SeriesException} if the period does not exist.
@@ -822,6 +1099,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             }
         }
         item.setValue(value);
+        this.yWindow = null;
+        this.yTree = null;
         if (iterate) {
             updateMinMaxYByIteration();
         }
@@ -830,7 +1109,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             this.minY = minIgnoreNaN(this.minY, yy);
             this.maxY = maxIgnoreNaN(this.maxY, yy);
         }
-        fireSeriesChanged();
+        fireSeriesChanged(new SeriesChangeEvent(this, SeriesChangeType.UPDATE,
+                index, index, 0));
     }
 
     /**
@@ -913,6 +1193,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             throw new SeriesException(msg);
         }
         TimeSeriesDataItem overwritten = null;
+        SeriesChangeType type = SeriesChangeType.GENERAL;
+        int changed = -1;
+        int removedCount = 0;
         int index = Collections.binarySearch(this.data, item);
         if (index >= 0) {
             TimeSeriesDataItem existing
@@ -927,6 +1210,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
                 iterate = oldY <= this.minY || oldY >= this.maxY;
             }
             existing.setValue(item.getValue());
+            this.yWindow = null;
+            this.yTree = null;
             if (iterate) {
                 updateMinMaxYByIteration();
             }
@@ -935,22 +1220,44 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
                 this.minY = minIgnoreNaN(this.minY, yy);
                 this.maxY = maxIgnoreNaN(this.maxY, yy);
             }
+            type = SeriesChangeType.UPDATE;
+            changed = index;
         }
         else {
             item = (TimeSeriesDataItem) item.clone();
-            this.data.add(-index - 1, item);
+            if (-index - 1 == this.data.size()) {
+                this.data.add(item);
+                appendToWindow(item);
+                appendToYTree(item);
+                type = SeriesChangeType.APPEND;
+            }
+            else {
+                this.data.add(-index - 1, item);
+                this.yWindow = null;
+                this.yTree = null;
+            }
             updateBoundsForAddedItem(item);
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                TimeSeriesDataItem d = (TimeSeriesDataItem) this.data.remove(0);
-                updateBoundsForRemovedItem(d);
+                removeFirstItems(1);
+                removedCount = 1;
             }
         }
-        removeAgedItems(false);  // remove old items if necessary, but
-                                 // don't notify anyone, because that
-                                 // happens next anyway...
-        fireSeriesChanged();
+        // remove old items if necessary, but don't notify anyone, because
+        // that happens next anyway...
+        removedCount += removeAgedItems();
+        if (type == SeriesChangeType.APPEND) {
+            changed = getItemCount() - 1;
+        }
+        if (type == SeriesChangeType.APPEND
+                || (type == SeriesChangeType.UPDATE && removedCount == 0)) {
+            fireSeriesChanged(new SeriesChangeEvent(this, type, changed,
+                    changed, removedCount));
+        }
+        else {
+            fireSeriesChanged();
+        }
         return overwritten;
 
     }
@@ -964,23 +1271,58 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      *                sent to registered listeners IF any items are removed.
      */
     public void removeAgedItems(boolean notify) {
-        // check if there are any values earlier than specified by the history
-        // count...
-        if (getItemCount() > 1) {
-            long latest = getTimePeriod(getItemCount() - 1).getSerialIndex();
-            boolean removed = false;
-            while ((latest - getTimePeriod(0).getSerialIndex())
+        int removed = removeAgedItems();
+        if (removed > 0) {
+            if (notify) {
+                fireSeriesChanged(new SeriesChangeEvent(this,
+                        SeriesChangeType.REMOVE_FIRST, -1, -1, removed));
+            }
+            else {
+                incrementVersion();
+            }
+        }
+    }
+
+    /**
+     * Removes the items that are older than the maximum item age, relative
+     * to the last item in the series, without sending a change event.
+     *
+     * @return The number of items removed.
+     */
+    private int removeAgedItems() {
+        if (getItemCount() < 2 || this.maximumItemAge == Long.MAX_VALUE) {
+            return 0;  // no item can be too old
+        }
+        long latest = getTimePeriod(getItemCount() - 1).getSerialIndex();
+        int removed = countAgedItems(latest);
+        removeFirstItems(removed);
+        return removed;
+    }
+
+    /**
+     * Returns the number of items at the start of the series with a time
+     * period that is more than the maximum item age before the specified
+     * serial index.  The serial indices increase with the item index, so the
+     * cut-off is found with a binary search.
+     *
+     * @param latest  the serial index of the latest time period.
+     *
+     * @return The number of aged items.
+     */
+    int countAgedItems(long latest) {
+        int low = 0;
+        int high = getItemCount();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (latest - getTimePeriod(mid).getSerialIndex()
                     > this.maximumItemAge) {
-                this.data.remove(0);
-                removed = true;
+                low = mid + 1;
             }
-            if (removed) {
-                updateMinMaxYByIteration();
-                if (notify) {
-                    fireSeriesChanged();
-                }
+            else {
+                high = mid;
             }
         }
+        return low;
     }
 
     /**
@@ -1000,13 +1342,20 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         // find the serial index of the period specified by 'latest'
         long index = Long.MAX_VALUE;
         try {
-            Method m = RegularTimePeriod.class.getDeclaredMethod(
-                    "createInstance", new Class[] {Class.class, Date.class,
-                    TimeZone.class});
-            RegularTimePeriod newest = (RegularTimePeriod) m.invoke(
-                    this.timePeriodClass, new Object[] {this.timePeriodClass,
-                            new Date(latest), TimeZone.getDefault()});
-            index = newest.getSerialIndex();
+            if (FixedMillisecond.class.equals(this.timePeriodClass)) {
+                // there is no (Date, TimeZone) constructor to call
+                index = new FixedMillisecond(latest).getSerialIndex();
+            }
+            else {
+                Method m = RegularTimePeriod.class.getDeclaredMethod(
+                        "createInstance", new Class[] {Class.class,
+                        Date.class, TimeZone.class});
+                RegularTimePeriod newest = (RegularTimePeriod) m.invoke(
+                        this.timePeriodClass, new Object[] {
+                        this.timePeriodClass, new Date(latest),
+                        TimeZone.getDefault()});
+                index = newest.getSerialIndex();
+            }
         }
         catch (NoSuchMethodException e) {
             throw new RuntimeException(e);
@@ -1020,16 +1369,15 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
 
         // check if there are any values earlier than specified by the history
         // count...
-        boolean removed = false;
-        while (getItemCount() > 0 && (index
-                - getTimePeriod(0).getSerialIndex()) > this.maximumItemAge) {
-            this.data.remove(0);
-            removed = true;
-        }
-        if (removed) {
-            updateMinMaxYByIteration();
+        int removed = countAgedItems(index);
+        if (removed > 0) {
+            removeFirstItems(removed);
             if (notify) {
-                fireSeriesChanged();
+                fireSeriesChanged(new SeriesChangeEvent(this,
+                        SeriesChangeType.REMOVE_FIRST, -1, -1, removed));
+            }
+            else {
+                incrementVersion();
             }
         }
     }
@@ -1041,6 +1389,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            this.yWindow = null;
+            this.yTree = null;
             this.timePeriodClass = null;
             this.minY = Double.NaN;
             this.maxY = Double.NaN;
@@ -1061,11 +1411,19 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         if (index >= 0) {
             TimeSeriesDataItem item = (TimeSeriesDataItem) this.data.remove(
                     index);
+            this.yWindow = null;
+            this.yTree = null;
             updateBoundsForRemovedItem(item);
             if (this.data.isEmpty()) {
                 this.timePeriodClass = null;
             }
-            fireSeriesChanged();
+            if (index == 0) {
+                fireSeriesChanged(new SeriesChangeEvent(this,
+                        SeriesChangeType.REMOVE_FIRST, -1, -1, 1));
+            }
+            else {
+                fireSeriesChanged();
+            }
         }
     }
 
@@ -1092,16 +1450,28 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         if (end < start) {
             throw new IllegalArgumentException("Requires start <= end.");
         }
-        for (int i = 0; i <= (end - start); i++) {
-            this.data.remove(start);
+        if (start == 0) {
+            removeFirstItems(end + 1);
+        }
+        else {
+            this.data.subList(start, end + 1).clear();
+            this.yWindow = null;
+            this.yTree = null;
+            updateMinMaxYByIteration();
         }
-        updateMinMaxYByIteration();
         if (this.data.isEmpty()) {
             this.timePeriodClass = null;
         }
-        if (notify) {
+        if (notify && start == 0) {
+            fireSeriesChanged(new SeriesChangeEvent(this,
+                    SeriesChangeType.REMOVE_FIRST, -1, -1, end + 1));
+        }
+        else if (notify) {
             fireSeriesChanged();
         }
+        else {
+            incrementVersion();
+        }
     }
 
     /**
@@ -1123,6 +1493,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     public Object clone() throws CloneNotSupportedException {
         TimeSeries clone = (TimeSeries) super.clone();
         clone.data = (List) ObjectUtilities.deepClone(this.data);
+        clone.yWindow = null;
+        clone.yTree = null;
         return clone;
     }
 
@@ -1149,7 +1521,10 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         TimeSeries copy = (TimeSeries) super.clone();
         copy.minY = Double.NaN;
         copy.maxY = Double.NaN;
-        copy.data = new java.util.ArrayList();
+        copy.data = this.data instanceof RingBufferList
+                ? new RingBufferList() : new java.util.ArrayList();
+        copy.yWindow = null;
+        copy.yTree = null;
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 TimeSeriesDataItem item
@@ -1326,6 +1701,94 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         }
     }
 
+    /**
+     * Removes the first <code>count</code> items from the series in a single
+     * operation (without sending a change event) and updates the cached
+     * bounds.  The bounds are maintained by a sliding window tracker, so no
+     * iteration is required while items are only appended and removed from
+     * the start of the series (the tracker is built from the remaining items
+     * the first time that a bound is removed).
+     *
+     * @param count  the number of items to remove.
+     */
+    private void removeFirstItems(int count) {
+        if (count == 0) {
+            return;
+        }
+        List removed = this.data.subList(0, count);
+        boolean bound = false;
+        Iterator iterator = removed.iterator();
+        while (iterator.hasNext()) {
+            TimeSeriesDataItem item = (TimeSeriesDataItem) iterator.next();
+            if (this.yWindow != null) {
+                this.yWindow.removeFirst();
+            }
+            else if (item.getValue() != null) {
+                double y = item.getValue().doubleValue();
+                bound = bound || (!Double.isNaN(y) && (y <= this.minY
+                        || y >= this.maxY));
+            }
+        }
+        removed.clear();
+        if (this.yTree != null) {
+            this.yTree.removeFirst(count);
+        }
+        if (bound) {
+            this.yWindow = new WindowedMinMax();
+            iterator = this.data.iterator();
+            while (iterator.hasNext()) {
+                appendToWindow((TimeSeriesDataItem) iterator.next());
+            }
+        }
+        if (this.yWindow != null) {
+            this.minY = this.yWindow.getMin();
+            this.maxY = this.yWindow.getMax();
+        }
+    }
+
+    /**
+     * Adds an item that was appended to the end of the series to the bounds
+     * tracker, if it is in use.
+     *
+     * @param item  the item (<code>null</code> not permitted).
+     */
+    private void appendToWindow(TimeSeriesDataItem item) {
+        if (this.yWindow != null) {
+            Number yN = item.getValue();
+            this.yWindow.append(yN != null ? yN.doubleValue() : Double.NaN);
+        }
+    }
+
+    /**
+     * Adds an item that was appended to the end of the series to the min/max
+     * tree, if it is in use.
+     *
+     * @param item  the item (<code>null</code> not permitted).
+     */
+    private void appendToYTree(TimeSeriesDataItem item) {
+        if (this.yTree != null) {
+            addToYTree(item);
+        }
+    }
+
+    /**
+     * Adds the value of an item to the end of the min/max tree.  A
+     * <code>null</code> value is ignored by queries, while
+     * <code>Double.NaN</code> is retained (as in earlier versions of
+     * {@link #findValueRange(Range, TimePeriodAnchor, TimeZone)}).
+     *
+     * @param item  the item (<code>null</code> not permitted).
+     */
+    private void addToYTree(TimeSeriesDataItem item) {
+        Number yN = item.getValue();
+        if (yN == null) {
+            this.yTree.addMissing();
+        }
+        else {
+            this.yTree.add(yN.doubleValue());
+        }
+    }
+
     /**
      * Finds the bounds of the x and y values for the series, by iterating
      * through all the data items.
@@ -83,6 +83,14 @@
  * 26-Jun-2009 : Fixed clone() (DG);
  * 08-Jan-2012 : Fixed getRangeBounds() method (bug 3445507) (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Override getVersion() to include series changes (G14);
+ * 18-Oct-2026 : Calculate the version without changing the collection (G14);
+ * 18-Oct-2026 : Publish snapshots before sending change events (G14);
+ * 18-Oct-2026 : Override seriesChanged() to track series versions (G14);
+ * 18-Oct-2026 : Implemented XYSnapshotSource (G14);
+ * 18-Oct-2026 : Read x and y-values through the primitive series accessors,
+ *               and added getYValue(), getStartXValue() and getEndXValue()
+ *               overrides (G14);
  *
  */
 
@@ -105,11 +113,14 @@ import org.jfree.data.DomainOrder;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.xy.AbstractIntervalXYDataset;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYDomainInfo;
 import org.jfree.data.xy.XYRangeInfo;
+import org.jfree.data.xy.XYSnapshotPublisher;
+import org.jfree.data.xy.XYSnapshotSource;
 import org.jfree.util.ObjectUtilities;
 
 /**
@@ -117,10 +128,13 @@ import org.jfree.util.ObjectUtilities;
  * {@link XYDataset} interface, as well as the extended
  * {@link IntervalXYDataset} interface.  This makes it a convenient dataset for
  * use with the {@link org.jfree.chart.plot.XYPlot} class.
+ * <P>
+ * If snapshots are enabled (see {@link #setSnapshotsEnabled(boolean)}), a
+ * chart can be drawn on one thread while the series are updated on another.
  */
 public class TimeSeriesCollection extends AbstractIntervalXYDataset
         implements XYDataset, IntervalXYDataset, DomainInfo, XYDomainInfo,
-        XYRangeInfo, VetoableChangeListener, Serializable {
+        XYRangeInfo, XYSnapshotSource, VetoableChangeListener, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = 834149929022371137L;
@@ -128,6 +142,14 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
     /** Storage for the time series. */
     private List data;
 
+    /**
+     * The amount subtracted from the total of the series versions in
+     * {@link #getVersion()}, so that the collection version increases by one
+     * for each series change that is also signalled by a dataset change
+     * event, and when series are added or removed.
+     */
+    private transient long seriesVersionOffset;
+
     /** A working calendar (to recycle) */
     private Calendar workingCalendar;
 
@@ -138,6 +160,12 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     private TimePeriodAnchor xPosition;
 
+    /**
+     * The snapshot publisher (<code>null</code> if snapshots are not
+     * enabled).
+     */
+    private transient volatile XYSnapshotPublisher snapshotPublisher;
+
     /**
      * A flag that indicates that the domain is 'points in time'.  If this
      * flag is true, only the x-value is used to determine the range of values
@@ -193,6 +221,7 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         this.data = new ArrayList();
         if (series != null) {
             this.data.add(series);
+            this.seriesVersionOffset = series.getVersion();
             series.addChangeListener(this);
         }
         this.xPosition = TimePeriodAnchor.START;
@@ -261,6 +290,10 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
     public void setXPosition(TimePeriodAnchor anchor) {
         ParamChecks.nullNotPermitted(anchor, "anchor");
         this.xPosition = anchor;
+        XYSnapshotPublisher publisher = this.snapshotPublisher;
+        if (publisher != null) {
+            publisher.reset();  // every x-value has changed
+        }
         notifyListeners(new DatasetChangeEvent(this, this));
     }
 
@@ -273,6 +306,123 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         return Collections.unmodifiableList(this.data);
     }
 
+    /**
+     * Returns the version of the collection.  This also increases when a
+     * series in the collection is changed without sending a change event.
+     * Calling this method does not change the collection.
+     *
+     * @return The version.
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public long getVersion() {
+        // a series change is not always signalled to the collection, so
+        // include the series versions
+        long total = 0;
+        for (int i = 0; i < this.data.size(); i++) {
+            total += ((TimeSeries) this.data.get(i)).getVersion();
+        }
+        return super.getVersion() + total - this.seriesVersionOffset;
+    }
+
+    /**
+     * Receives notification that a series in the collection has changed,
+     * and sends a {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param event  information about the change.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        // the series version has increased by one for this event, which is
+        // covered by the increment for the dataset change event...any other
+        // difference is picked up by getVersion()
+        this.seriesVersionOffset++;
+        XYSnapshotPublisher publisher = this.snapshotPublisher;
+        if (publisher != null) {
+            publisher.seriesChanged(this, event);
+        }
+        super.seriesChanged(event);
+    }
+
+    /**
+     * Returns the flag that controls whether or not the collection publishes
+     * snapshots of its data.  The default value is <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @see #setSnapshotsEnabled(boolean)
+     *
+     * @since 1.0.20
+     */
+    public boolean getSnapshotsEnabled() {
+        return this.snapshotPublisher != null;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the collection publishes
+     * snapshots of its data.  When snapshots are enabled, an immutable copy
+     * of the data is published (see {@link #getSnapshot()}) each time the
+     * collection sends a change event, and an
+     * {@link org.jfree.chart.plot.XYPlot} draws the collection (and finds
+     * its data range) from the latest snapshot.  This allows the series to
+     * be updated by one thread while charts are drawn by other threads (only
+     * one thread at a time may update the series).  Changes made without a
+     * change event (or in a batch, see {@link #beginUpdate()}) are published
+     * with the next event.
+     * <P>
+     * The flag is not serialized, so a deserialized collection does not
+     * publish snapshots.
+     *
+     * @param enabled  the new flag value.
+     *
+     * @since 1.0.20
+     */
+    public void setSnapshotsEnabled(boolean enabled) {
+        if (enabled == getSnapshotsEnabled()) {
+            return;
+        }
+        XYSnapshotPublisher publisher = null;
+        if (enabled) {
+            publisher = new XYSnapshotPublisher(true);
+            publisher.publish(this, this.data);
+        }
+        this.snapshotPublisher = publisher;
+    }
+
+    /**
+     * Returns the latest snapshot of the data in this collection, or
+     * <code>null</code> if snapshots are not enabled.
+     *
+     * @return The snapshot (possibly <code>null</code>).
+     *
+     * @see #setSnapshotsEnabled(boolean)
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public XYDataset getSnapshot() {
+        XYSnapshotPublisher publisher = this.snapshotPublisher;
+        return publisher != null ? publisher.getSnapshot() : null;
+    }
+
+    /**
+     * If snapshots are enabled, publishes a new snapshot, then sends a change
+     * event to all registered listeners.  Publishing the snapshot first means
+     * that listeners (for example, a plot that updates its axis ranges) see
+     * the change in the snapshot.
+     *
+     * @param event  the event.
+     */
+    @Override
+    protected void notifyListeners(DatasetChangeEvent event) {
+        XYSnapshotPublisher publisher = this.snapshotPublisher;
+        if (publisher != null && !isUpdating()) {
+            publisher.publish(this, this.data);
+        }
+        super.notifyListeners(event);
+    }
+
     /**
      * Returns the number of series in the collection.
      *
@@ -379,6 +529,7 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
     public void addSeries(TimeSeries series) {
         ParamChecks.nullNotPermitted(series, "series");
         this.data.add(series);
+        this.seriesVersionOffset += series.getVersion();
         series.addChangeListener(this);
         series.addVetoableChangeListener(this);
         fireDatasetChanged();
@@ -392,7 +543,9 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     public void removeSeries(TimeSeries series) {
         ParamChecks.nullNotPermitted(series, "series");
-        this.data.remove(series);
+        if (this.data.remove(series)) {
+            this.seriesVersionOffset -= series.getVersion();
+        }
         series.removeChangeListener(this);
         series.removeVetoableChangeListener(this);
         fireDatasetChanged();
@@ -422,6 +575,7 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
             TimeSeries series = (TimeSeries) this.data.get(i);
             series.removeChangeListener(this);
             series.removeVetoableChangeListener(this);
+            this.seriesVersionOffset -= series.getVersion();
         }
 
         // remove all the series from the collection and notify listeners.
@@ -454,8 +608,7 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
     @Override
     public double getXValue(int series, int item) {
         TimeSeries s = (TimeSeries) this.data.get(series);
-        RegularTimePeriod period = s.getTimePeriod(item);
-        return getX(period);
+        return getX(s, item, this.xPosition);
     }
 
     /**
@@ -469,8 +622,24 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
     @Override
     public Number getX(int series, int item) {
         TimeSeries ts = (TimeSeries) this.data.get(series);
-        RegularTimePeriod period = ts.getTimePeriod(item);
-        return new Long(getX(period));
+        return new Long(getX(ts, item, this.xPosition));
+    }
+
+    /**
+     * Returns the x-value for an item in a series, using the time zone for
+     * the collection.  The series may be able to supply the value without
+     * creating a {@link RegularTimePeriod} (see
+     * {@link TimeSeries#getMillisecond(int, TimePeriodAnchor, Calendar)}).
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     * @param item  the item (zero-based index).
+     * @param anchor  the anchor point within the time period.
+     *
+     * @return The x-value.
+     */
+    private synchronized long getX(TimeSeries series, int item,
+            TimePeriodAnchor anchor) {
+        return series.getMillisecond(item, anchor, this.workingCalendar);
     }
 
     /**
@@ -503,10 +672,25 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      * @return The value.
      */
     @Override
-    public synchronized Number getStartX(int series, int item) {
+    public Number getStartX(int series, int item) {
+        return new Long((long) getStartXValue(series, item));
+    }
+
+    /**
+     * Returns the starting x-value (as a double primitive) for an item
+     * within a series.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
         TimeSeries ts = (TimeSeries) this.data.get(series);
-        return new Long(ts.getTimePeriod(item).getFirstMillisecond(
-                this.workingCalendar));
+        return getX(ts, item, TimePeriodAnchor.START);
     }
 
     /**
@@ -518,10 +702,25 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      * @return The value.
      */
     @Override
-    public synchronized Number getEndX(int series, int item) {
+    public Number getEndX(int series, int item) {
+        return new Long((long) getEndXValue(series, item));
+    }
+
+    /**
+     * Returns the ending x-value (as a double primitive) for an item within
+     * a series.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
         TimeSeries ts = (TimeSeries) this.data.get(series);
-        return new Long(ts.getTimePeriod(item).getLastMillisecond(
-                this.workingCalendar));
+        return getX(ts, item, TimePeriodAnchor.END);
     }
 
     /**
@@ -538,6 +737,24 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         return ts.getValue(item);
     }
 
+    /**
+     * Returns the y-value (as a double primitive) for an item within a
+     * series.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value (<code>Double.NaN</code> for a <code>null</code>
+     *     value).
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        TimeSeries ts = (TimeSeries) this.data.get(series);
+        return ts.getYValue(item);
+    }
+
     /**
      * Returns the starting Y value for the specified series and item.
      *
@@ -833,6 +1050,8 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         TimeSeriesCollection clone = (TimeSeriesCollection) super.clone();
         clone.data = (List) ObjectUtilities.deepClone(this.data);
         clone.workingCalendar = (Calendar) this.workingCalendar.clone();
+        clone.snapshotPublisher = null;
+        clone.setSnapshotsEnabled(getSnapshotsEnabled());
         return clone;
     }
 
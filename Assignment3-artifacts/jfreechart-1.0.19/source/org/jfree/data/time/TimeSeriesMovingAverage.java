@@ -0,0 +1,532 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * TimeSeriesMovingAverage.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.time;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesChangeType;
+
+/**
+ * Maintains a moving average of a {@link TimeSeries} in a second time series
+ * that can be added to a {@link TimeSeriesCollection}.  The average is
+ * calculated either over a number of time periods (as in
+ * {@link MovingAverage#createMovingAverage(TimeSeries, String, int, int)}) or
+ * over a number of points (as in
+ * {@link MovingAverage#createPointMovingAverage(TimeSeries, String, int)}).
+ * Items with a <code>null</code> value are not included in the averages.
+ * <P>
+ * The moving average registers itself as a listener of the source series.
+ * Each average is calculated when its item is appended to the source series,
+ * from a running sum of the values in the window, so an append costs a
+ * constant amount of work.  The average series is changed only where the
+ * source series changes:
+ * <ul>
+ * <li>an item appended to the source appends an average;</li>
+ * <li>items removed from the start of the source (by the maximum item count
+ * or age) remove their averages.  The averages of the remaining items are
+ * not changed;</li>
+ * <li>an updated item updates the averages whose windows include it.</li>
+ * </ul>
+ * Any other change (for example an item inserted before the end of the
+ * series) recalculates all the averages.  The average series should not be
+ * changed by other code.
+ *
+ * @since 1.0.20
+ */
+public class TimeSeriesMovingAverage implements SeriesChangeListener {
+
+    /** The source series. */
+    private TimeSeries source;
+
+    /** The series of moving averages. */
+    private TimeSeries series;
+
+    /** The number of periods or points in the average. */
+    private int windowSize;
+
+    /** A flag that controls whether the window is a number of points. */
+    private boolean pointWindow;
+
+    /** The number of initial periods to skip (for a period window). */
+    private int skip;
+
+    /** The serial index of the first period to have an average. */
+    private long firstSerial;
+
+    /** The number of items appended since the last recalculation. */
+    private long appendedCount;
+
+    /**
+     * The serial indices of the periods in the source series (the items in
+     * the source are stored from <code>head</code> to
+     * <code>head + size - 1</code> in this array and the three that follow).
+     */
+    private long[] serials;
+
+    /** The values in the source series (<code>NaN</code> for null). */
+    private double[] values;
+
+    /** The sum of the non-null values in the window for each item. */
+    private double[] sums;
+
+    /** The number of non-null values in the window for each item. */
+    private int[] counts;
+
+    /** The array index of the first item. */
+    private int head;
+
+    /** The number of items. */
+    private int size;
+
+    /** The number of initial items that don't have an average. */
+    private int skipped;
+
+    /** The index of the first item in the window for the last item. */
+    private int windowStart;
+
+    /** The sum of the non-null values in the window for the last item. */
+    private double windowSum;
+
+    /** The number of non-null values in the window for the last item. */
+    private int windowCount;
+
+    /**
+     * The number of values subtracted from the window sum since it was last
+     * calculated in full (used to limit the rounding error).
+     */
+    private int subtractedCount;
+
+    /** The version of the source series that the averages are based on. */
+    private long version;
+
+    /** The version of the average series after the last change. */
+    private long seriesVersion;
+
+    /**
+     * Creates a new moving average for the given series.
+     *
+     * @param source  the source series (<code>null</code> not permitted).
+     * @param name  the name of the average series (<code>null</code> not
+     *     permitted).
+     * @param windowSize  the number of periods or points in the average.
+     * @param skip  the number of initial periods to skip (ignored for a
+     *     point window).
+     * @param pointWindow  if <code>true</code>, the average is calculated over
+     *     <code>windowSize</code> points rather than periods.
+     */
+    public TimeSeriesMovingAverage(TimeSeries source, Comparable name,
+            int windowSize, int skip, boolean pointWindow) {
+        ParamChecks.nullNotPermitted(source, "source");
+        ParamChecks.nullNotPermitted(name, "name");
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("windowSize must be greater "
+                    + "than or equal to 1.");
+        }
+        if (skip < 0) {
+            throw new IllegalArgumentException("skip must be >= 0.");
+        }
+        this.source = source;
+        this.series = new TimeSeries(name);
+        this.windowSize = windowSize;
+        this.skip = skip;
+        this.pointWindow = pointWindow;
+        this.serials = new long[16];
+        this.values = new double[16];
+        this.sums = new double[16];
+        this.counts = new int[16];
+        rebuild(false);
+        source.addChangeListener(this);
+    }
+
+    /**
+     * Returns the source series.
+     *
+     * @return The source series (never <code>null</code>).
+     */
+    public TimeSeries getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the series of moving averages.
+     *
+     * @return The series (never <code>null</code>).
+     */
+    public TimeSeries getSeries() {
+        return this.series;
+    }
+
+    /**
+     * Returns the number of periods or points in the average.
+     *
+     * @return The window size.
+     */
+    public int getWindowSize() {
+        return this.windowSize;
+    }
+
+    /**
+     * Returns the number of initial periods that are skipped.
+     *
+     * @return The number of periods.
+     */
+    public int getSkip() {
+        return this.skip;
+    }
+
+    /**
+     * Returns <code>true</code> if the average is calculated over a number of
+     * points, and <code>false</code> if it is calculated over a number of
+     * periods.
+     *
+     * @return A boolean.
+     */
+    public boolean isPointWindow() {
+        return this.pointWindow;
+    }
+
+    /**
+     * Stops updating the averages, by deregistering from the source series.
+     */
+    public void dispose() {
+        this.source.removeChangeListener(this);
+    }
+
+    /**
+     * Receives notification of a change to the source series, and updates
+     * the average series.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        if (event.getSource() != this.source) {
+            return;
+        }
+        if (!update(event)) {
+            rebuild(true);
+        }
+        this.version = this.source.getVersion();
+        this.seriesVersion = this.series.getVersion();
+    }
+
+    /**
+     * Applies the change described by an event to the averages, if it can
+     * be done incrementally.
+     *
+     * @param event  the event.
+     *
+     * @return A boolean that indicates whether or not the averages were
+     *     updated (if <code>false</code> they must be recalculated).
+     */
+    private boolean update(SeriesChangeEvent event) {
+        // a missed change to either series can only be handled by
+        // recalculating
+        if (this.source.getVersion() != this.version + 1
+                || this.series.getVersion() != this.seriesVersion
+                || this.series.getItemCount() != this.size - this.skipped) {
+            return false;
+        }
+        int count = this.source.getItemCount();
+        SeriesChangeType type = event.getType();
+        if (type == SeriesChangeType.UPDATE) {
+            int index = event.getFirstIndex();
+            if (count != this.size || index < 0 || index >= count) {
+                return false;
+            }
+            updateItem(index);
+            return true;
+        }
+        int removed = event.getRemovedCount();
+        int first = count;
+        if (type == SeriesChangeType.APPEND) {
+            first = event.getFirstIndex();
+            if (event.getLastIndex() != count - 1) {
+                return false;
+            }
+        }
+        else if (type != SeriesChangeType.REMOVE_FIRST) {
+            return false;
+        }
+        if (removed < 0 || removed > this.size
+                || first != this.size - removed || first < 0) {
+            return false;
+        }
+        // the removed items were gone before the new items were appended
+        if (removed > 0) {
+            removeFirst(removed);
+        }
+        for (int i = first; i < count; i++) {
+            append(i, true);
+        }
+        return true;
+    }
+
+    /**
+     * Recalculates all the averages.
+     *
+     * @param notify  notify listeners of the average series?
+     */
+    private void rebuild(boolean notify) {
+        this.head = 0;
+        this.size = 0;
+        this.skipped = 0;
+        this.appendedCount = 0;
+        this.windowStart = 0;
+        this.windowSum = 0.0;
+        this.windowCount = 0;
+        this.subtractedCount = 0;
+        int count = this.source.getItemCount();
+        int n = this.series.getItemCount();
+        if (n > 0) {
+            this.series.delete(0, n - 1, false);
+        }
+        for (int i = 0; i < count; i++) {
+            append(i, false);
+        }
+        if (notify) {
+            this.series.fireSeriesChanged();
+        }
+        this.version = this.source.getVersion();
+        this.seriesVersion = this.series.getVersion();
+    }
+
+    /**
+     * Adds an item from the source series to the end of the window, and
+     * appends its average to the average series.
+     *
+     * @param index  the index of the item in the source series.
+     * @param notify  notify listeners of the average series?
+     */
+    private void append(int index, boolean notify) {
+        RegularTimePeriod period = this.source.getTimePeriod(index);
+        long serial = period.getSerialIndex();
+        double value = this.source.getYValue(index);
+        if (this.appendedCount == 0) {
+            this.firstSerial = serial + this.skip;
+        }
+        this.appendedCount++;
+        ensureCapacity();
+        int last = this.size;
+        int k = this.head + last;
+        this.serials[k] = serial;
+        this.values[k] = value;
+        this.size++;
+        if (!Double.isNaN(value)) {
+            this.windowSum += value;
+            this.windowCount++;
+        }
+        if (this.pointWindow) {
+            while (last - this.windowStart >= this.windowSize) {
+                subtract(this.windowStart++);
+            }
+        }
+        else {
+            long limit = serial - this.windowSize;
+            while (this.serials[this.head + this.windowStart] <= limit) {
+                subtract(this.windowStart++);
+            }
+        }
+        if (this.windowCount == 0) {
+            this.windowSum = 0.0;
+            this.subtractedCount = 0;
+        }
+        else if (this.subtractedCount > last - this.windowStart) {
+            // limit the rounding error from the subtractions, at a cost
+            // that is constant per item appended
+            double sum = 0.0;
+            for (int i = this.windowStart; i <= last; i++) {
+                double v = this.values[this.head + i];
+                if (!Double.isNaN(v)) {
+                    sum += v;
+                }
+            }
+            this.windowSum = sum;
+            this.subtractedCount = 0;
+        }
+        this.sums[k] = this.windowSum;
+        this.counts[k] = this.windowCount;
+        boolean average;
+        if (this.pointWindow) {
+            average = this.appendedCount >= this.windowSize;
+        }
+        else {
+            average = serial >= this.firstSerial;
+        }
+        if (average) {
+            this.series.add(period, average(k), notify);
+        }
+        else {
+            this.skipped++;
+        }
+    }
+
+    /**
+     * Removes a value from the window sum.
+     *
+     * @param index  the item index.
+     */
+    private void subtract(int index) {
+        double v = this.values[this.head + index];
+        if (!Double.isNaN(v)) {
+            this.windowSum -= v;
+            this.windowCount--;
+            this.subtractedCount++;
+        }
+    }
+
+    /**
+     * Removes items from the start, along with their averages.
+     *
+     * @param count  the number of items.
+     */
+    private void removeFirst(int count) {
+        for (int i = this.windowStart; i < count; i++) {
+            subtract(i);
+        }
+        this.windowStart = Math.max(this.windowStart - count, 0);
+        this.head += count;
+        this.size -= count;
+        int averages = count - this.skipped;
+        this.skipped = Math.max(this.skipped - count, 0);
+        if (averages > 0) {
+            this.series.delete(0, averages - 1);
+        }
+    }
+
+    /**
+     * Updates the averages for a change to the value of an item.
+     *
+     * @param index  the item index.
+     */
+    private void updateItem(int index) {
+        int k = this.head + index;
+        double oldValue = this.values[k];
+        double newValue = this.source.getYValue(index);
+        double deltaSum;
+        int deltaCount;
+        if (Double.isNaN(oldValue)) {
+            if (Double.isNaN(newValue)) {
+                return;
+            }
+            deltaSum = newValue;
+            deltaCount = 1;
+        }
+        else if (Double.isNaN(newValue)) {
+            deltaSum = -oldValue;
+            deltaCount = -1;
+        }
+        else {
+            deltaSum = newValue - oldValue;
+            deltaCount = 0;
+        }
+        this.values[k] = newValue;
+        if (index >= this.windowStart) {
+            this.windowSum += deltaSum;
+            this.windowCount += deltaCount;
+        }
+        long serial = this.serials[k];
+        for (int i = index; i < this.size; i++) {
+            int j = this.head + i;
+            boolean inWindow;
+            if (this.pointWindow) {
+                inWindow = i - index < this.windowSize;
+            }
+            else {
+                inWindow = this.serials[j] - this.windowSize < serial;
+            }
+            if (!inWindow) {
+                break;
+            }
+            this.sums[j] += deltaSum;
+            this.counts[j] += deltaCount;
+            if (this.counts[j] == 0) {
+                this.sums[j] = 0.0;
+            }
+            if (i >= this.skipped) {
+                this.series.update(i - this.skipped, average(j));
+            }
+        }
+    }
+
+    /**
+     * Returns the average for an item.
+     *
+     * @param k  the array index.
+     *
+     * @return The average (possibly <code>null</code>).
+     */
+    private Number average(int k) {
+        if (this.counts[k] == 0) {
+            return null;
+        }
+        return new Double(this.sums[k] / this.counts[k]);
+    }
+
+    /**
+     * Makes room for one more item at the end of the arrays, by moving the
+     * items to the start of the arrays or by growing them.
+     */
+    private void ensureCapacity() {
+        if (this.head + this.size < this.serials.length) {
+            return;
+        }
+        int capacity = this.serials.length;
+        if (this.size >= capacity / 2) {
+            capacity = capacity * 2;
+        }
+        long[] s = new long[capacity];
+        double[] v = new double[capacity];
+        double[] sum = new double[capacity];
+        int[] c = new int[capacity];
+        System.arraycopy(this.serials, this.head, s, 0, this.size);
+        System.arraycopy(this.values, this.head, v, 0, this.size);
+        System.arraycopy(this.sums, this.head, sum, 0, this.size);
+        System.arraycopy(this.counts, this.head, c, 0, this.size);
+        this.serials = s;
+        this.values = v;
+        this.sums = sum;
+        this.counts = c;
+        this.head = 0;
+    }
+
+}
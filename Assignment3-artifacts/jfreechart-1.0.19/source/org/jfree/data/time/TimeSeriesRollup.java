@@ -0,0 +1,1026 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * TimeSeriesRollup.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Added dispose(), equals(), hashCode() and serialization
+ *               support (G14);
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+
+import javax.swing.event.EventListenerList;
+
+import org.jfree.chart.HashUtilities;
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesChangeType;
+
+/**
+ * Maintains aggregates of the values in a {@link TimeSeries} over a sequence
+ * of coarser time periods (for example {@link Minute}, {@link Hour} and
+ * {@link Day} for a series of {@link Second} values), so that a chart of a
+ * long time range can show one item per minute, hour or day rather than
+ * every item in the series.  For each period (at each level) the rollup
+ * records the minimum, maximum, first, last and sum of the (non-null)
+ * values, and the number of values.
+ * <P>
+ * The rollup registers itself as a listener of the series and updates the
+ * aggregates as the series changes: appended items are added to the last
+ * period at each level, items removed from the start of the series (by the
+ * maximum item count or age) remove whole periods, and an updated item
+ * recalculates the periods that contain it.  Any other change rebuilds the
+ * aggregates.  Where the periods at one level fit inside the periods at the
+ * next (as minutes fit inside hours), periods are recalculated from the
+ * level below rather than from the series.
+ * <P>
+ * An item in the series belongs to the period that contains its first
+ * millisecond (in the time zone of the rollup).  Items with a
+ * <code>null</code> value belong to a period, but are not included in its
+ * aggregates.
+ * <P>
+ * Call {@link #dispose()} when the rollup is no longer needed, so that the
+ * series stops updating it.
+ *
+ * @see TimeSeriesRollupDataset
+ *
+ * @since 1.0.20
+ */
+public class TimeSeriesRollup implements SeriesChangeListener, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 8957413917466561730L;
+
+    /** The series. */
+    private TimeSeries series;
+
+    /** The time zone used to place items in periods. */
+    private TimeZone zone;
+
+    /** A calendar (for the time zone) used to find the period bounds. */
+    private Calendar calendar;
+
+    /** The levels, from the finest periods to the coarsest. */
+    private Level[] levels;
+
+    /** The number of items in the series (when last updated). */
+    private int itemCount;
+
+    /** The version of the series (when last updated). */
+    private long version;
+
+    /** Storage for registered change listeners. */
+    private EventListenerList listeners;
+
+    /**
+     * Creates a rollup of a series by {@link Minute}, {@link Hour} and
+     * {@link Day}, in the default time zone.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     */
+    public TimeSeriesRollup(TimeSeries series) {
+        this(series, new Class[] {Minute.class, Hour.class, Day.class},
+                TimeZone.getDefault());
+    }
+
+    /**
+     * Creates a rollup of a series.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     * @param periodClasses  the time period classes for the levels of the
+     *     rollup, from the finest to the coarsest (<code>null</code> not
+     *     permitted).  Each class must be a subclass of
+     *     {@link RegularTimePeriod} with a (Date, TimeZone) constructor.
+     * @param zone  the time zone (<code>null</code> not permitted).
+     */
+    public TimeSeriesRollup(TimeSeries series, Class[] periodClasses,
+            TimeZone zone) {
+        ParamChecks.nullNotPermitted(series, "series");
+        ParamChecks.nullNotPermitted(periodClasses, "periodClasses");
+        ParamChecks.nullNotPermitted(zone, "zone");
+        this.levels = new Level[periodClasses.length];
+        for (int i = 0; i < periodClasses.length; i++) {
+            Class c = periodClasses[i];
+            if (c == null || !RegularTimePeriod.class.isAssignableFrom(c)) {
+                throw new IllegalArgumentException(
+                        "Requires RegularTimePeriod subclasses.");
+            }
+            try {
+                this.levels[i] = new Level(c, c.getDeclaredConstructor(
+                        new Class[] {Date.class, TimeZone.class}));
+            }
+            catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException("The class "
+                        + c.getName() + " has no (Date, TimeZone) "
+                        + "constructor.");
+            }
+        }
+        this.series = series;
+        this.zone = zone;
+        this.calendar = Calendar.getInstance(zone);
+        this.listeners = new EventListenerList();
+        rebuild();
+        series.addChangeListener(this);
+    }
+
+    /**
+     * Returns the series.
+     *
+     * @return The series (never <code>null</code>).
+     */
+    public TimeSeries getSeries() {
+        return this.series;
+    }
+
+    /**
+     * Returns the time zone used to place items in periods.
+     *
+     * @return The time zone (never <code>null</code>).
+     */
+    public TimeZone getTimeZone() {
+        return this.zone;
+    }
+
+    /**
+     * Returns the number of levels in the rollup.
+     *
+     * @return The level count.
+     */
+    public int getLevelCount() {
+        return this.levels.length;
+    }
+
+    /**
+     * Returns the time period class for a level.
+     *
+     * @param level  the level (zero-based, finest first).
+     *
+     * @return The time period class.
+     */
+    public Class getPeriodClass(int level) {
+        return this.levels[level].periodClass;
+    }
+
+    /**
+     * Returns the number of periods at a level.
+     *
+     * @param level  the level (zero-based, finest first).
+     *
+     * @return The number of periods.
+     */
+    public int getItemCount(int level) {
+        return getLevel(level).size;
+    }
+
+    /**
+     * Returns a time period at a level.
+     *
+     * @param level  the level.
+     * @param item  the item index.
+     *
+     * @return The time period.
+     */
+    public RegularTimePeriod getPeriod(int level, int item) {
+        Level lv = getLevel(level);
+        return lv.periods[lv.index(item)];
+    }
+
+    /**
+     * Returns the first millisecond of a time period at a level (in the time
+     * zone of the rollup).
+     *
+     * @param level  the level.
+     * @param item  the item index.
+     *
+     * @return The millisecond.
+     */
+    public long getFirstMillisecond(int level, int item) {
+        Level lv = getLevel(level);
+        return lv.starts[lv.index(item)];
+    }
+
+    /**
+     * Returns the last millisecond of a time period at a level (in the time
+     * zone of the rollup).
+     *
+     * @param level  the level.
+     * @param item  the item index.
+     *
+     * @return The millisecond.
+     */
+    public long getLastMillisecond(int level, int item) {
+        Level lv = getLevel(level);
+        return lv.ends[lv.index(item)];
+    }
+
+    /**
+     * Returns the minimum value in a time period at a level, or
+     * <code>Double.NaN</code> if the period has no (non-null) values.
+     *
+     * @param level  the level.
+     * @param item  the item index.
+     *
+     * @return The minimum value.
+     */
+    public double getMinValue(int level, int item) {
+        Level lv = getLevel(level);
+        return lv.mins[lv.index(item)];
+    }
+
+    /**
+     * Returns the maximum value in a time period at a level, or
+     * <code>Double.NaN</code> if the period has no (non-null) values.
+     *
+     * @param level  the level.
+     * @param item  the item index.
+     *
+     * @return The maximum value.
+     */
+    public double getMaxValue(int level, int item) {
+        Level lv = getLevel(level);
+        return lv.maxs[lv.index(item)];
+    }
+
+    /**
+     * Returns the first value in a time period at a level, or
+     * <code>Double.NaN</code> if the period has no (non-null) values.
+     *
+     * @param level  the level.
+     * @param item  the item index.
+     *
+     * @return The first value.
+     */
+    public double getFirstValue(int level, int item) {
+        Level lv = getLevel(level);
+        return lv.firsts[lv.index(item)];
+    }
+
+    /**
+     * Returns the last value in a time period at a level, or
+     * <code>Double.NaN</code> if the period has no (non-null) values.
+     *
+     * @param level  the level.
+     * @param item  the item index.
+     *
+     * @return The last value.
+     */
+    public double getLastValue(int level, int item) {
+        Level lv = getLevel(level);
+        return lv.lasts[lv.index(item)];
+    }
+
+    /**
+     * Returns the sum of the values in a time period at a level.
+     *
+     * @param level  the level.
+     * @param item  the item index.
+     *
+     * @return The sum.
+     */
+    public double getSum(int level, int item) {
+        Level lv = getLevel(level);
+        return lv.sums[lv.index(item)];
+    }
+
+    /**
+     * Returns the number of (non-null) values in a time period at a level.
+     *
+     * @param level  the level.
+     * @param item  the item index.
+     *
+     * @return The count.
+     */
+    public int getCount(int level, int item) {
+        Level lv = getLevel(level);
+        return lv.counts[lv.index(item)];
+    }
+
+    /**
+     * Returns the index of the time period at a level that contains a
+     * millisecond or, if there is no such period, <code>-(i + 1)</code>
+     * where <code>i</code> is the index of the first period that starts
+     * after the millisecond.
+     *
+     * @param level  the level.
+     * @param millisecond  the millisecond.
+     *
+     * @return The index.
+     */
+    public int getIndex(int level, long millisecond) {
+        return getLevel(level).find(millisecond);
+    }
+
+    /**
+     * Registers an object to receive notification whenever the aggregates
+     * change.
+     *
+     * @param listener  the listener (<code>null</code> not permitted).
+     */
+    public void addChangeListener(SeriesChangeListener listener) {
+        ParamChecks.nullNotPermitted(listener, "listener");
+        this.listeners.add(SeriesChangeListener.class, listener);
+    }
+
+    /**
+     * Deregisters an object, so that it no longer receives notification
+     * whenever the aggregates change.
+     *
+     * @param listener  the listener.
+     */
+    public void removeChangeListener(SeriesChangeListener listener) {
+        this.listeners.remove(SeriesChangeListener.class, listener);
+    }
+
+    /**
+     * Stops updating the aggregates, by deregistering from the series.
+     */
+    public void dispose() {
+        this.series.removeChangeListener(this);
+    }
+
+    /**
+     * Updates the aggregates following a change to the series, then sends a
+     * {@link SeriesChangeEvent} (with the rollup as its source) to all
+     * registered listeners.
+     *
+     * @param event  information about the change.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        if (!update(event)) {
+            rebuild();
+        }
+        this.itemCount = this.series.getItemCount();
+        this.version = this.series.getVersion();
+        Object[] ls = this.listeners.getListenerList();
+        SeriesChangeEvent e = new SeriesChangeEvent(this);
+        for (int i = ls.length - 2; i >= 0; i -= 2) {
+            if (ls[i] == SeriesChangeListener.class) {
+                ((SeriesChangeListener) ls[i + 1]).seriesChanged(e);
+            }
+        }
+    }
+
+    /**
+     * Tests this rollup for equality with an arbitrary object.  Two rollups
+     * are equal if they have equal series, the same time zone and the same
+     * period classes (the aggregates follow from these).
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof TimeSeriesRollup)) {
+            return false;
+        }
+        TimeSeriesRollup that = (TimeSeriesRollup) obj;
+        if (!this.series.equals(that.series)) {
+            return false;
+        }
+        if (!this.zone.equals(that.zone)) {
+            return false;
+        }
+        if (this.levels.length != that.levels.length) {
+            return false;
+        }
+        for (int i = 0; i < this.levels.length; i++) {
+            if (this.levels[i].periodClass != that.levels[i].periodClass) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this rollup.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = 193;
+        result = HashUtilities.hashCode(result, this.series);
+        result = HashUtilities.hashCode(result, this.zone);
+        result = HashUtilities.hashCode(result, this.levels.length);
+        return result;
+    }
+
+    /**
+     * Applies the change described by an event to the aggregates, if it can
+     * be done incrementally.
+     *
+     * @param event  the event.
+     *
+     * @return A boolean that indicates whether or not the aggregates were
+     *     updated (if <code>false</code> they must be rebuilt).
+     */
+    private boolean update(SeriesChangeEvent event) {
+        // a missed change (made with notification switched off) can only be
+        // handled by rebuilding
+        if (this.series.getVersion() != this.version + 1) {
+            return false;
+        }
+        int count = this.series.getItemCount();
+        SeriesChangeType type = event.getType();
+        int removed = event.getRemovedCount();
+        if (type == SeriesChangeType.UPDATE) {
+            int index = event.getFirstIndex();
+            if (count != this.itemCount || index < 0 || index >= count) {
+                return false;
+            }
+            long millis = getMillisecond(index);
+            for (int i = 0; i < this.levels.length; i++) {
+                int b = this.levels[i].find(millis);
+                if (b < 0) {
+                    return false;
+                }
+                recalculate(i, b);
+            }
+            return true;
+        }
+        int first = count;
+        if (type == SeriesChangeType.APPEND) {
+            first = event.getFirstIndex();
+            if (event.getLastIndex() != count - 1) {
+                return false;
+            }
+        }
+        else if (type != SeriesChangeType.REMOVE_FIRST) {
+            return false;
+        }
+        if (first != this.itemCount - removed || first < 0) {
+            return false;
+        }
+        if (!append(first, count - 1)) {
+            return false;
+        }
+        if (removed > 0) {
+            removeBefore(count > 0 ? getMillisecond(0) : Long.MAX_VALUE);
+        }
+        return true;
+    }
+
+    /**
+     * Rebuilds the aggregates from the series.
+     */
+    private void rebuild() {
+        for (int i = 0; i < this.levels.length; i++) {
+            this.levels[i].clear();
+        }
+        int count = this.series.getItemCount();
+        if (!append(0, count - 1)) {
+            throw new IllegalStateException("Series items are not in order.");
+        }
+        this.itemCount = count;
+        this.version = this.series.getVersion();
+    }
+
+    /**
+     * Returns a level, first rebuilding the aggregates if the series has
+     * been changed without an event (while notification was switched off).
+     *
+     * @param level  the level index.
+     *
+     * @return The level.
+     */
+    private Level getLevel(int level) {
+        if (this.series.getVersion() != this.version) {
+            rebuild();
+        }
+        return this.levels[level];
+    }
+
+    /**
+     * Adds the values of a range of items at the end of the series to the
+     * aggregates.
+     *
+     * @param start  the index of the first item.
+     * @param end  the index of the last item.
+     *
+     * @return <code>false</code> if an item lies before the last period at
+     *     some level.
+     */
+    private boolean append(int start, int end) {
+        for (int i = start; i <= end; i++) {
+            long millis = getMillisecond(i);
+            double y = this.series.getYValue(i);
+            for (int j = 0; j < this.levels.length; j++) {
+                Level lv = this.levels[j];
+                int n = lv.size;
+                if (n > 0 && millis <= lv.ends[lv.index(n - 1)]) {
+                    if (millis < lv.starts[lv.index(n - 1)]) {
+                        return false;
+                    }
+                    lv.add(lv.index(n - 1), y);
+                }
+                else {
+                    RegularTimePeriod p = lv.createPeriod(millis, this.zone);
+                    int b = lv.append(p, p.getFirstMillisecond(this.calendar),
+                            p.getLastMillisecond(this.calendar));
+                    lv.add(b, y);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes the periods that end before a millisecond (the first
+     * millisecond of the first item in the series) and recalculates the
+     * first remaining period at each level, which may have lost items.
+     *
+     * @param millis  the millisecond.
+     */
+    private void removeBefore(long millis) {
+        for (int i = 0; i < this.levels.length; i++) {
+            Level lv = this.levels[i];
+            lv.removeFirst(lv.countEndingBefore(millis));
+            if (lv.size > 0) {
+                recalculate(i, 0);
+            }
+        }
+    }
+
+    /**
+     * Recalculates the aggregates for one period, from the periods in the
+     * level below if they fit inside it, otherwise from the series.  The
+     * level below must already be up to date.
+     *
+     * @param level  the level.
+     * @param item  the item index.
+     */
+    private void recalculate(int level, int item) {
+        Level lv = this.levels[level];
+        int b = lv.index(item);
+        long start = lv.starts[b];
+        long end = lv.ends[b];
+        lv.reset(b);
+        if (level > 0) {
+            Level fine = this.levels[level - 1];
+            int i = fine.countStartingBefore(start);
+            int j = fine.countStartingBefore(end + 1) - 1;
+            if ((i == 0 || fine.ends[fine.index(i - 1)] < start)
+                    && (j < i || fine.ends[fine.index(j)] <= end)) {
+                for (int k = i; k <= j; k++) {
+                    lv.merge(b, fine, fine.index(k));
+                }
+                return;
+            }
+        }
+        int count = this.series.getItemCount();
+        for (int k = findFirstItem(start); k < count; k++) {
+            if (getMillisecond(k) > end) {
+                break;
+            }
+            lv.add(b, this.series.getYValue(k));
+        }
+    }
+
+    /**
+     * Returns the index of the first item in the series that starts at or
+     * after a millisecond.
+     *
+     * @param millis  the millisecond.
+     *
+     * @return The item index.
+     */
+    private int findFirstItem(long millis) {
+        int low = 0;
+        int high = this.series.getItemCount();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getMillisecond(mid) < millis) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first millisecond of an item in the series.
+     *
+     * @param index  the item index.
+     *
+     * @return The millisecond.
+     */
+    private long getMillisecond(int index) {
+        return this.series.getMillisecond(index, TimePeriodAnchor.START,
+                this.calendar);
+    }
+
+    /**
+     * The periods and aggregates at one level, held in parallel arrays.
+     * Periods removed from the start advance a head index, so that removal
+     * does not move the remaining periods.
+     */
+    private static final class Level implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -5864555776985217588L;
+
+        /** The time period class. */
+        final Class periodClass;
+
+        /**
+         * The (Date, TimeZone) constructor for the period class (found again
+         * after deserialization).
+         */
+        private transient Constructor constructor;
+
+        /** The periods. */
+        RegularTimePeriod[] periods;
+
+        /** The first millisecond of each period. */
+        long[] starts;
+
+        /** The last millisecond of each period. */
+        long[] ends;
+
+        /** The minimum value in each period. */
+        double[] mins;
+
+        /** The maximum value in each period. */
+        double[] maxs;
+
+        /** The first value in each period. */
+        double[] firsts;
+
+        /** The last value in each period. */
+        double[] lasts;
+
+        /** The sum of the values in each period. */
+        double[] sums;
+
+        /** The number of values in each period. */
+        int[] counts;
+
+        /** The array index of the first period. */
+        int head;
+
+        /** The number of periods. */
+        int size;
+
+        /**
+         * Creates an empty level.
+         *
+         * @param periodClass  the time period class.
+         * @param constructor  the constructor.
+         */
+        Level(Class periodClass, Constructor constructor) {
+            this.periodClass = periodClass;
+            this.constructor = constructor;
+            allocate(16);
+        }
+
+        /**
+         * Returns the array index for a period.
+         *
+         * @param item  the item index.
+         *
+         * @return The array index.
+         */
+        int index(int item) {
+            if (item < 0 || item >= this.size) {
+                throw new IndexOutOfBoundsException("Index " + item
+                        + " out of bounds.");
+            }
+            return this.head + item;
+        }
+
+        /**
+         * Creates the period that contains a millisecond.
+         *
+         * @param millis  the millisecond.
+         * @param zone  the time zone.
+         *
+         * @return The period.
+         */
+        RegularTimePeriod createPeriod(long millis, TimeZone zone) {
+            try {
+                return (RegularTimePeriod) this.constructor.newInstance(
+                        new Object[] {new Date(millis), zone});
+            }
+            catch (Exception e) {
+                throw new IllegalStateException("Unable to create an "
+                        + "instance of " + this.periodClass.getName() + ".");
+            }
+        }
+
+        /**
+         * Appends an empty period.
+         *
+         * @param period  the period.
+         * @param start  the first millisecond of the period.
+         * @param end  the last millisecond of the period.
+         *
+         * @return The array index of the period.
+         */
+        int append(RegularTimePeriod period, long start, long end) {
+            if (this.head + this.size == this.starts.length) {
+                if (this.head >= this.size) {
+                    compact();
+                }
+                else {
+                    grow();
+                }
+            }
+            int b = this.head + this.size;
+            this.periods[b] = period;
+            this.starts[b] = start;
+            this.ends[b] = end;
+            reset(b);
+            this.size++;
+            return b;
+        }
+
+        /**
+         * Clears the aggregates for a period.
+         *
+         * @param b  the array index.
+         */
+        void reset(int b) {
+            this.mins[b] = Double.NaN;
+            this.maxs[b] = Double.NaN;
+            this.firsts[b] = Double.NaN;
+            this.lasts[b] = Double.NaN;
+            this.sums[b] = 0.0;
+            this.counts[b] = 0;
+        }
+
+        /**
+         * Adds a value to the aggregates for a period.
+         *
+         * @param b  the array index.
+         * @param y  the value (<code>Double.NaN</code> is ignored).
+         */
+        void add(int b, double y) {
+            if (Double.isNaN(y)) {
+                return;
+            }
+            if (this.counts[b] == 0) {
+                this.mins[b] = y;
+                this.maxs[b] = y;
+                this.firsts[b] = y;
+            }
+            else {
+                this.mins[b] = Math.min(this.mins[b], y);
+                this.maxs[b] = Math.max(this.maxs[b], y);
+            }
+            this.lasts[b] = y;
+            this.sums[b] += y;
+            this.counts[b]++;
+        }
+
+        /**
+         * Adds the aggregates for a period at another level (that follows
+         * the periods already added) to the aggregates for a period.
+         *
+         * @param b  the array index.
+         * @param other  the other level.
+         * @param k  the array index in the other level.
+         */
+        void merge(int b, Level other, int k) {
+            if (other.counts[k] == 0) {
+                return;
+            }
+            if (this.counts[b] == 0) {
+                this.mins[b] = other.mins[k];
+                this.maxs[b] = other.maxs[k];
+                this.firsts[b] = other.firsts[k];
+            }
+            else {
+                this.mins[b] = Math.min(this.mins[b], other.mins[k]);
+                this.maxs[b] = Math.max(this.maxs[b], other.maxs[k]);
+            }
+            this.lasts[b] = other.lasts[k];
+            this.sums[b] += other.sums[k];
+            this.counts[b] += other.counts[k];
+        }
+
+        /**
+         * Returns the index of the period that contains a millisecond, or
+         * <code>-(i + 1)</code> where <code>i</code> is the index of the
+         * first period that starts after it.
+         *
+         * @param millis  the millisecond.
+         *
+         * @return The index.
+         */
+        int find(long millis) {
+            int i = countStartingBefore(millis + 1) - 1;
+            if (i >= 0 && millis <= this.ends[this.head + i]) {
+                return i;
+            }
+            return -(i + 2);
+        }
+
+        /**
+         * Returns the number of periods that start before a millisecond.
+         *
+         * @param millis  the millisecond.
+         *
+         * @return The number of periods.
+         */
+        int countStartingBefore(long millis) {
+            return search(this.starts, millis);
+        }
+
+        /**
+         * Returns the number of periods that end before a millisecond.
+         *
+         * @param millis  the millisecond.
+         *
+         * @return The number of periods.
+         */
+        int countEndingBefore(long millis) {
+            return search(this.ends, millis);
+        }
+
+        /**
+         * Returns the number of periods with a value (from the given array)
+         * less than a millisecond.
+         *
+         * @param values  the start or end milliseconds.
+         * @param millis  the millisecond.
+         *
+         * @return The number of periods.
+         */
+        private int search(long[] values, long millis) {
+            int low = this.head;
+            int high = this.head + this.size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < millis) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            return low - this.head;
+        }
+
+        /**
+         * Removes periods from the start of the level.
+         *
+         * @param count  the number of periods.
+         */
+        void removeFirst(int count) {
+            Arrays.fill(this.periods, this.head, this.head + count, null);
+            this.head += count;
+            this.size -= count;
+            if (this.size == 0) {
+                this.head = 0;
+            }
+        }
+
+        /**
+         * Removes all periods.
+         */
+        void clear() {
+            Arrays.fill(this.periods, null);
+            this.head = 0;
+            this.size = 0;
+        }
+
+        /**
+         * Moves the periods to the start of the arrays.
+         */
+        private void compact() {
+            int h = this.head;
+            int n = this.size;
+            System.arraycopy(this.periods, h, this.periods, 0, n);
+            Arrays.fill(this.periods, n, h + n, null);
+            System.arraycopy(this.starts, h, this.starts, 0, n);
+            System.arraycopy(this.ends, h, this.ends, 0, n);
+            System.arraycopy(this.mins, h, this.mins, 0, n);
+            System.arraycopy(this.maxs, h, this.maxs, 0, n);
+            System.arraycopy(this.firsts, h, this.firsts, 0, n);
+            System.arraycopy(this.lasts, h, this.lasts, 0, n);
+            System.arraycopy(this.sums, h, this.sums, 0, n);
+            System.arraycopy(this.counts, h, this.counts, 0, n);
+            this.head = 0;
+        }
+
+        /**
+         * Doubles the capacity of the arrays.
+         */
+        private void grow() {
+            RegularTimePeriod[] p = this.periods;
+            long[] s = this.starts;
+            long[] e = this.ends;
+            double[] mn = this.mins;
+            double[] mx = this.maxs;
+            double[] f = this.firsts;
+            double[] l = this.lasts;
+            double[] sm = this.sums;
+            int[] c = this.counts;
+            allocate(p.length * 2);
+            int h = this.head;
+            int n = this.size;
+            System.arraycopy(p, h, this.periods, 0, n);
+            System.arraycopy(s, h, this.starts, 0, n);
+            System.arraycopy(e, h, this.ends, 0, n);
+            System.arraycopy(mn, h, this.mins, 0, n);
+            System.arraycopy(mx, h, this.maxs, 0, n);
+            System.arraycopy(f, h, this.firsts, 0, n);
+            System.arraycopy(l, h, this.lasts, 0, n);
+            System.arraycopy(sm, h, this.sums, 0, n);
+            System.arraycopy(c, h, this.counts, 0, n);
+            this.head = 0;
+        }
+
+        /**
+         * Allocates new (empty) arrays.
+         *
+         * @param capacity  the capacity.
+         */
+        private void allocate(int capacity) {
+            this.periods = new RegularTimePeriod[capacity];
+            this.starts = new long[capacity];
+            this.ends = new long[capacity];
+            this.mins = new double[capacity];
+            this.maxs = new double[capacity];
+            this.firsts = new double[capacity];
+            this.lasts = new double[capacity];
+            this.sums = new double[capacity];
+            this.counts = new int[capacity];
+        }
+
+        /**
+         * Provides serialization support.
+         *
+         * @param stream  the input stream.
+         *
+         * @throws IOException  if there is an I/O error.
+         * @throws ClassNotFoundException  if there is a classpath problem.
+         */
+        private void readObject(ObjectInputStream stream)
+                throws IOException, ClassNotFoundException {
+            stream.defaultReadObject();
+            try {
+                this.constructor = this.periodClass.getDeclaredConstructor(
+                        new Class[] {Date.class, TimeZone.class});
+            }
+            catch (NoSuchMethodException e) {
+                throw new InvalidObjectException("The class "
+                        + this.periodClass.getName() + " has no (Date, "
+                        + "TimeZone) constructor.");
+            }
+        }
+
+    }
+
+}
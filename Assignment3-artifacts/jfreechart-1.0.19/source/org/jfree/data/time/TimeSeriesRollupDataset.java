@@ -0,0 +1,756 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * TimeSeriesRollupDataset.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Added dispose(), equals(), hashCode(), clone() and
+ *               serialization support, and use fireDatasetChanged() in
+ *               setXPosition() (G14);
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.util.Calendar;
+
+import org.jfree.chart.HashUtilities;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.event.AxisChangeEvent;
+import org.jfree.chart.event.AxisChangeListener;
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.xy.AbstractIntervalXYDataset;
+import org.jfree.data.xy.OHLCDataset;
+import org.jfree.util.ObjectUtilities;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A dataset that presents one {@link TimeSeries} at a resolution chosen from
+ * the levels of a {@link TimeSeriesRollup}, or at full resolution.  Each
+ * item at a rollup level is one time period: the y-value is the average of
+ * the values in the period, the y-interval runs from the minimum to the
+ * maximum value (so that a renderer for interval data can draw the range
+ * that the period covers) and, as an {@link OHLCDataset}, the open, high,
+ * low, close and volume are the first, maximum, minimum and last values and
+ * the number of values.
+ * <P>
+ * The level can be set directly, or chosen for a range of x-values and a
+ * width in pixels with {@link #selectLevel(double, double, int)}: this picks
+ * the finest resolution that has no more items in the range than there are
+ * pixels.  If the pixel width is set (see {@link #setPixelWidth(int)}), the
+ * dataset can also be registered as a listener of the domain axis, and will
+ * then select the level whenever the axis range changes.
+ * <P>
+ * The dataset registers itself as a listener of the rollup; call
+ * {@link #dispose()} when it is no longer needed.
+ *
+ * @since 1.0.20
+ */
+public class TimeSeriesRollupDataset extends AbstractIntervalXYDataset
+        implements OHLCDataset, AxisChangeListener, PublicCloneable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 434898809809191248L;
+
+    /** The level used for the items of the series itself. */
+    public static final int SERIES_LEVEL = -1;
+
+    /** The rollup. */
+    private TimeSeriesRollup rollup;
+
+    /** The current level (or SERIES_LEVEL). */
+    private int level;
+
+    /** The width (in pixels) used when the axis range changes. */
+    private int pixelWidth;
+
+    /** The position within each time period used for the x-values. */
+    private TimePeriodAnchor xPosition;
+
+    /** A calendar used to find the x-values of the series items. */
+    private Calendar calendar;
+
+    /**
+     * Creates a new dataset that shows the series at full resolution until
+     * a level is set or selected.
+     *
+     * @param rollup  the rollup (<code>null</code> not permitted).
+     */
+    public TimeSeriesRollupDataset(TimeSeriesRollup rollup) {
+        ParamChecks.nullNotPermitted(rollup, "rollup");
+        this.rollup = rollup;
+        this.level = SERIES_LEVEL;
+        this.pixelWidth = 0;
+        this.xPosition = TimePeriodAnchor.START;
+        this.calendar = Calendar.getInstance(rollup.getTimeZone());
+        rollup.addChangeListener(this);
+    }
+
+    /**
+     * Returns the rollup.
+     *
+     * @return The rollup (never <code>null</code>).
+     */
+    public TimeSeriesRollup getRollup() {
+        return this.rollup;
+    }
+
+    /**
+     * Returns the level shown by the dataset.
+     *
+     * @return The level (a rollup level, or {@link #SERIES_LEVEL}).
+     */
+    public int getLevel() {
+        return this.level;
+    }
+
+    /**
+     * Sets the level shown by the dataset and, if it has changed, sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param level  the level (a rollup level, or {@link #SERIES_LEVEL}).
+     */
+    public void setLevel(int level) {
+        if (level < SERIES_LEVEL || level >= this.rollup.getLevelCount()) {
+            throw new IllegalArgumentException("Invalid 'level' argument.");
+        }
+        if (level != this.level) {
+            this.level = level;
+            fireDatasetChanged();
+        }
+    }
+
+    /**
+     * Returns the width (in pixels) used to select the level when the range
+     * of an axis changes.
+     *
+     * @return The width (zero if the level is not selected automatically).
+     */
+    public int getPixelWidth() {
+        return this.pixelWidth;
+    }
+
+    /**
+     * Sets the width (in pixels) used to select the level when the range of
+     * an axis changes.  Zero switches off the automatic selection.  No
+     * change event is sent.
+     *
+     * @param width  the width (zero or more).
+     */
+    public void setPixelWidth(int width) {
+        if (width < 0) {
+            throw new IllegalArgumentException("Negative 'width' argument.");
+        }
+        this.pixelWidth = width;
+    }
+
+    /**
+     * Returns the position within each time period that is used for the
+     * x-values.
+     *
+     * @return The anchor position (never <code>null</code>).
+     */
+    public TimePeriodAnchor getXPosition() {
+        return this.xPosition;
+    }
+
+    /**
+     * Sets the position within each time period that is used for the
+     * x-values, then sends a {@link DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param anchor  the anchor position (<code>null</code> not permitted).
+     */
+    public void setXPosition(TimePeriodAnchor anchor) {
+        ParamChecks.nullNotPermitted(anchor, "anchor");
+        this.xPosition = anchor;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Stops receiving changes from the rollup, by deregistering from it.
+     * The rollup itself is not disposed (see
+     * {@link TimeSeriesRollup#dispose()}), since other datasets may share
+     * it.
+     */
+    public void dispose() {
+        this.rollup.removeChangeListener(this);
+    }
+
+    /**
+     * Selects the finest level that has no more items between two x-values
+     * than the given width in pixels (or the coarsest level if none does),
+     * and sets it as the current level.
+     *
+     * @param lower  the lower x-value (in milliseconds).
+     * @param upper  the upper x-value (in milliseconds).
+     * @param width  the width in pixels.
+     *
+     * @return The level.
+     */
+    public int selectLevel(double lower, double upper, int width) {
+        int result = this.rollup.getLevelCount() - 1;
+        for (int i = SERIES_LEVEL; i < result; i++) {
+            if (getItemCount(i, lower, upper) <= width) {
+                result = i;
+                break;
+            }
+        }
+        setLevel(result);
+        return result;
+    }
+
+    /**
+     * Selects the level for the new range of the axis (see
+     * {@link #selectLevel(double, double, int)}), provided that the pixel
+     * width has been set.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void axisChanged(AxisChangeEvent event) {
+        if (this.pixelWidth > 0 && event.getAxis() instanceof ValueAxis) {
+            ValueAxis axis = (ValueAxis) event.getAxis();
+            selectLevel(axis.getLowerBound(), axis.getUpperBound(),
+                    this.pixelWidth);
+        }
+    }
+
+    /**
+     * Returns the number of items at a level that overlap a range of
+     * x-values.
+     *
+     * @param level  the level.
+     * @param lower  the lower x-value.
+     * @param upper  the upper x-value.
+     *
+     * @return The item count.
+     */
+    private int getItemCount(int level, double lower, double upper) {
+        if (level == SERIES_LEVEL) {
+            return countStartingBefore(Math.floor(upper) + 1)
+                    - countStartingBefore(Math.ceil(lower));
+        }
+        long lo = (long) Math.ceil(lower);
+        long hi = (long) Math.floor(upper);
+        int i = this.rollup.getIndex(level, hi);
+        int j = this.rollup.getIndex(level, lo);
+        // the periods that start at or before hi, less those that end
+        // before lo
+        return (i >= 0 ? i + 1 : -(i + 1)) - (j >= 0 ? j : -(j + 1));
+    }
+
+    /**
+     * Returns the number of items in the series that start before an
+     * x-value.
+     *
+     * @param x  the x-value.
+     *
+     * @return The item count.
+     */
+    private int countStartingBefore(double x) {
+        TimeSeries series = this.rollup.getSeries();
+        int low = 0;
+        int high = series.getItemCount();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (series.getMillisecond(mid, TimePeriodAnchor.START,
+                    this.calendar) < x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the number of series in the dataset (always one).
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return 1;
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (must be zero).
+     *
+     * @return The key for the series.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        checkSeries(series);
+        return this.rollup.getSeries().getKey();
+    }
+
+    /**
+     * Returns the number of items at the current level.
+     *
+     * @param series  the series index (must be zero).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        checkSeries(series);
+        if (this.level == SERIES_LEVEL) {
+            return this.rollup.getSeries().getItemCount();
+        }
+        return this.rollup.getItemCount(this.level);
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The x-value (in milliseconds).
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return new Long((long) getXValue(series, item));
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The x-value (in milliseconds).
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        if (this.level == SERIES_LEVEL) {
+            return this.rollup.getSeries().getMillisecond(item,
+                    this.xPosition, this.calendar);
+        }
+        long start = this.rollup.getFirstMillisecond(this.level, item);
+        long end = this.rollup.getLastMillisecond(this.level, item);
+        if (this.xPosition == TimePeriodAnchor.START) {
+            return start;
+        }
+        else if (this.xPosition == TimePeriodAnchor.MIDDLE) {
+            return start + (end - start) / 2;
+        }
+        return end;
+    }
+
+    /**
+     * Returns the start x-value for an item.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The start x-value.
+     */
+    @Override
+    public Number getStartX(int series, int item) {
+        return new Long((long) getStartXValue(series, item));
+    }
+
+    /**
+     * Returns the start x-value for an item.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The first millisecond of the time period.
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
+        if (this.level == SERIES_LEVEL) {
+            return this.rollup.getSeries().getMillisecond(item,
+                    TimePeriodAnchor.START, this.calendar);
+        }
+        return this.rollup.getFirstMillisecond(this.level, item);
+    }
+
+    /**
+     * Returns the end x-value for an item.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The end x-value.
+     */
+    @Override
+    public Number getEndX(int series, int item) {
+        return new Long((long) getEndXValue(series, item));
+    }
+
+    /**
+     * Returns the end x-value for an item.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The last millisecond of the time period.
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
+        if (this.level == SERIES_LEVEL) {
+            return this.rollup.getSeries().getMillisecond(item,
+                    TimePeriodAnchor.END, this.calendar);
+        }
+        return this.rollup.getLastMillisecond(this.level, item);
+    }
+
+    /**
+     * Returns the y-value for an item: the value of a series item, or the
+     * average of the values in a time period.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The y-value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return toNumber(getYValue(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item: the value of a series item, or the
+     * average of the values in a time period.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The y-value (<code>Double.NaN</code> for a missing value).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        if (this.level == SERIES_LEVEL) {
+            return this.rollup.getSeries().getYValue(item);
+        }
+        int count = this.rollup.getCount(this.level, item);
+        if (count == 0) {
+            return Double.NaN;
+        }
+        return this.rollup.getSum(this.level, item) / count;
+    }
+
+    /**
+     * Returns the start y-value (the minimum value) for an item.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The start y-value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getStartY(int series, int item) {
+        return toNumber(getLowValue(series, item));
+    }
+
+    /**
+     * Returns the start y-value (the minimum value) for an item.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The start y-value.
+     */
+    @Override
+    public double getStartYValue(int series, int item) {
+        return getLowValue(series, item);
+    }
+
+    /**
+     * Returns the end y-value (the maximum value) for an item.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The end y-value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getEndY(int series, int item) {
+        return toNumber(getHighValue(series, item));
+    }
+
+    /**
+     * Returns the end y-value (the maximum value) for an item.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The end y-value.
+     */
+    @Override
+    public double getEndYValue(int series, int item) {
+        return getHighValue(series, item);
+    }
+
+    /**
+     * Returns the high value (the maximum value) for an item.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The high value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getHigh(int series, int item) {
+        return toNumber(getHighValue(series, item));
+    }
+
+    /**
+     * Returns the high value (the maximum value) for an item.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The high value.
+     */
+    @Override
+    public double getHighValue(int series, int item) {
+        if (this.level == SERIES_LEVEL) {
+            return this.rollup.getSeries().getYValue(item);
+        }
+        return this.rollup.getMaxValue(this.level, item);
+    }
+
+    /**
+     * Returns the low value (the minimum value) for an item.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The low value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getLow(int series, int item) {
+        return toNumber(getLowValue(series, item));
+    }
+
+    /**
+     * Returns the low value (the minimum value) for an item.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The low value.
+     */
+    @Override
+    public double getLowValue(int series, int item) {
+        if (this.level == SERIES_LEVEL) {
+            return this.rollup.getSeries().getYValue(item);
+        }
+        return this.rollup.getMinValue(this.level, item);
+    }
+
+    /**
+     * Returns the open value (the first value) for an item.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The open value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getOpen(int series, int item) {
+        return toNumber(getOpenValue(series, item));
+    }
+
+    /**
+     * Returns the open value (the first value) for an item.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The open value.
+     */
+    @Override
+    public double getOpenValue(int series, int item) {
+        if (this.level == SERIES_LEVEL) {
+            return this.rollup.getSeries().getYValue(item);
+        }
+        return this.rollup.getFirstValue(this.level, item);
+    }
+
+    /**
+     * Returns the close value (the last value) for an item.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The close value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getClose(int series, int item) {
+        return toNumber(getCloseValue(series, item));
+    }
+
+    /**
+     * Returns the close value (the last value) for an item.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The close value.
+     */
+    @Override
+    public double getCloseValue(int series, int item) {
+        if (this.level == SERIES_LEVEL) {
+            return this.rollup.getSeries().getYValue(item);
+        }
+        return this.rollup.getLastValue(this.level, item);
+    }
+
+    /**
+     * Returns the volume (the number of values) for an item.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The volume.
+     */
+    @Override
+    public Number getVolume(int series, int item) {
+        return new Double(getVolumeValue(series, item));
+    }
+
+    /**
+     * Returns the volume (the number of values) for an item.
+     *
+     * @param series  the series index (must be zero).
+     * @param item  the item index.
+     *
+     * @return The volume.
+     */
+    @Override
+    public double getVolumeValue(int series, int item) {
+        if (this.level == SERIES_LEVEL) {
+            return Double.isNaN(this.rollup.getSeries().getYValue(item))
+                    ? 0.0 : 1.0;
+        }
+        return this.rollup.getCount(this.level, item);
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof TimeSeriesRollupDataset)) {
+            return false;
+        }
+        TimeSeriesRollupDataset that = (TimeSeriesRollupDataset) obj;
+        if (!this.rollup.equals(that.rollup)) {
+            return false;
+        }
+        if (this.level != that.level) {
+            return false;
+        }
+        if (this.pixelWidth != that.pixelWidth) {
+            return false;
+        }
+        if (!ObjectUtilities.equal(this.xPosition, that.xPosition)) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this dataset.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = 193;
+        result = HashUtilities.hashCode(result, this.rollup);
+        result = HashUtilities.hashCode(result, this.level);
+        result = HashUtilities.hashCode(result, this.pixelWidth);
+        result = HashUtilities.hashCode(result, this.xPosition);
+        return result;
+    }
+
+    /**
+     * Returns a clone of the dataset.  The clone shares the rollup (and is
+     * registered as a listener of it), but not the listeners of this
+     * dataset.
+     *
+     * @return A clone of the dataset.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        TimeSeriesRollupDataset clone = (TimeSeriesRollupDataset)
+                super.clone();
+        clone.calendar = (Calendar) this.calendar.clone();
+        this.rollup.addChangeListener(clone);
+        return clone;
+    }
+
+    /**
+     * Checks a series index.
+     *
+     * @param series  the series index.
+     */
+    private void checkSeries(int series) {
+        if (series != 0) {
+            throw new IllegalArgumentException("Series index out of bounds");
+        }
+    }
+
+    /**
+     * Converts a value to a <code>Number</code>.
+     *
+     * @param value  the value.
+     *
+     * @return The number, or <code>null</code> for <code>Double.NaN</code>.
+     */
+    private static Number toNumber(double value) {
+        return Double.isNaN(value) ? null : new Double(value);
+    }
+
+}
@@ -52,6 +52,8 @@
  * 26-May-2009 : Peg to time zone if RegularTimePeriod is used (DG);
  * 02-Nov-2009 : Changed String to Comparable in add methods (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Increment the version for changes made without sending a
+ *               change event (G14);
  *
  */
 
@@ -241,6 +243,9 @@ public class TimeTableXYDataset extends AbstractIntervalXYDataset
         if (notify) {
             fireDatasetChanged();
         }
+        else {
+            incrementVersion();
+        }
     }
 
     /**
@@ -275,6 +280,9 @@ public class TimeTableXYDataset extends AbstractIntervalXYDataset
         if (notify) {
             fireDatasetChanged();
         }
+        else {
+            incrementVersion();
+        }
     }
 
     /**
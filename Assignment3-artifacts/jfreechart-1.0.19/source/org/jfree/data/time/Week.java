@@ -69,6 +69,8 @@
  * 16-Sep-2008 : Deprecated DEFAULT_TIME_ZONE (DG);
  * 05-Jul-2012 : Replaced getTime().getTime() with getTimeInMillis() (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Calculate milliseconds without the calendar where possible
+ *               (G14);
  *
  */
 
@@ -135,7 +137,7 @@ public class Week extends RegularTimePeriod implements Serializable {
         }
         this.week = (byte) week;
         this.year = (short) year;
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultCalendar());
     }
 
     /**
@@ -151,7 +153,7 @@ public class Week extends RegularTimePeriod implements Serializable {
         }
         this.week = (byte) week;
         this.year = (short) year.getYear();
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultCalendar());
    }
 
     /**
@@ -386,6 +388,11 @@ public class Week extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getFirstMillisecond(Calendar calendar) {
+        long result = CalendarArithmetic.getWeekStart(calendar, this.year,
+                this.week);
+        if (result != CalendarArithmetic.UNKNOWN) {
+            return result;
+        }
         Calendar c = (Calendar) calendar.clone();
         c.clear();
         c.set(Calendar.YEAR, this.year);
@@ -411,6 +418,11 @@ public class Week extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getLastMillisecond(Calendar calendar) {
+        long result = CalendarArithmetic.getWeekStart(calendar, this.year,
+                this.week + 1);
+        if (result != CalendarArithmetic.UNKNOWN) {
+            return result - 1;
+        }
         Calendar c = (Calendar) calendar.clone();
         c.clear();
         c.set(Calendar.YEAR, this.year);
@@ -57,6 +57,8 @@
  *               DEFAULT_TIME_ZONE (DG);
  * 25-Nov-2008 : Added new constructor with Locale (DG);
  * 05-Jul-2012 : Removed JRE 1.3.1 code (DG);
+ * 18-Oct-2026 : Calculate milliseconds without the calendar where possible
+ *               (G14);
  *
  */
 
@@ -118,7 +120,7 @@ public class Year extends RegularTimePeriod implements Serializable {
                 "Year constructor: year (" + year + ") outside valid range.");
         }
         this.year = (short) year;
-        peg(Calendar.getInstance());
+        peg(CalendarArithmetic.getDefaultCalendar());
     }
 
     /**
@@ -273,6 +275,11 @@ public class Year extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getFirstMillisecond(Calendar calendar) {
+        long result = CalendarArithmetic.getMillisecond(calendar, this.year,
+                1, 1, 0, 0, 0, 0);
+        if (result != CalendarArithmetic.UNKNOWN) {
+            return result;
+        }
         calendar.set(this.year, Calendar.JANUARY, 1, 0, 0, 0);
         calendar.set(Calendar.MILLISECOND, 0);
         return calendar.getTimeInMillis();
@@ -291,6 +298,11 @@ public class Year extends RegularTimePeriod implements Serializable {
      */
     @Override
     public long getLastMillisecond(Calendar calendar) {
+        long result = CalendarArithmetic.getMillisecond(calendar, this.year,
+                12, 31, 23, 59, 59, 999);
+        if (result != CalendarArithmetic.UNKNOWN) {
+            return result;
+        }
         calendar.set(this.year, Calendar.DECEMBER, 31, 23, 59, 59);
         calendar.set(Calendar.MILLISECOND, 999);
         return calendar.getTimeInMillis();
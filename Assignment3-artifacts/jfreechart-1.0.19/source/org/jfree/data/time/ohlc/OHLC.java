@@ -36,22 +36,34 @@
  * -------
  * 04-Dec-2006 : Version 1 (DG);
  * 23-May-2009 : Implemented hashCode() (DG);
+ * 18-Oct-2026 : Added volume (G14);
+ * 18-Oct-2026 : Added serialVersionUID and readObject() so that instances
+ *               serialized without a volume can be restored (G14);
  *
  */
 
 package org.jfree.data.time.ohlc;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import org.jfree.chart.HashUtilities;
 
 /**
- * A data record containing open-high-low-close data (immutable).  This class 
+ * A data record containing open-high-low-close data and, optionally, a volume
+ * (immutable).  This class 
  * is used internally by the {@link OHLCItem} class.
  *
  * @since 1.0.4
  */
 public class OHLC implements Serializable {
 
+    /**
+     * For serialization (the value computed for this class before the
+     * volume was added).
+     */
+    private static final long serialVersionUID = 601747095563683939L;
+
     /** The open value. */
     private double open;
 
@@ -64,6 +76,9 @@ public class OHLC implements Serializable {
     /** The low value. */
     private double low;
 
+    /** The volume (<code>Double.NaN</code> if not known). */
+    private double volume;
+
     /**
      * Creates a new instance of <code>OHLC</code>.
      *
@@ -73,10 +88,27 @@ public class OHLC implements Serializable {
      * @param low  the low value.
      */
     public OHLC(double open, double high, double low, double close) {
+        this(open, high, low, close, Double.NaN);
+    }
+
+    /**
+     * Creates a new instance of <code>OHLC</code>.
+     *
+     * @param open  the open value.
+     * @param high  the high value.
+     * @param low  the low value.
+     * @param close  the close value.
+     * @param volume  the volume (<code>Double.NaN</code> if not known).
+     *
+     * @since 1.0.20
+     */
+    public OHLC(double open, double high, double low, double close,
+            double volume) {
         this.open = open;
         this.close = close;
         this.high = high;
         this.low = low;
+        this.volume = volume;
     }
 
     /**
@@ -115,6 +147,17 @@ public class OHLC implements Serializable {
         return this.low;
     }
 
+    /**
+     * Returns the volume.
+     *
+     * @return The volume (<code>Double.NaN</code> if not known).
+     *
+     * @since 1.0.20
+     */
+    public double getVolume() {
+        return this.volume;
+    }
+
     /**
      * Tests this instance for equality with an arbitrary object.
      *
@@ -143,6 +186,10 @@ public class OHLC implements Serializable {
         if (this.low != that.low) {
             return false;
         }
+        if (Double.doubleToLongBits(this.volume)
+                != Double.doubleToLongBits(that.volume)) {
+            return false;
+        }
         return true;
     }
 
@@ -158,7 +205,28 @@ public class OHLC implements Serializable {
         result = HashUtilities.hashCode(result, this.high);
         result = HashUtilities.hashCode(result, this.low);
         result = HashUtilities.hashCode(result, this.close);
+        result = HashUtilities.hashCode(result, this.volume);
         return result;
     }
 
+    /**
+     * Provides serialization support.  The volume is
+     * <code>Double.NaN</code> for an instance that was serialized before
+     * the volume was added.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = stream.readFields();
+        this.open = fields.get("open", 0.0);
+        this.close = fields.get("close", 0.0);
+        this.high = fields.get("high", 0.0);
+        this.low = fields.get("low", 0.0);
+        this.volume = fields.get("volume", Double.NaN);
+    }
+
 }
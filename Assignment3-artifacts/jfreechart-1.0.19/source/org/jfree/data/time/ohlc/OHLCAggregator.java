@@ -0,0 +1,418 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * OHLCAggregator.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Add a new bar to the series only when it is written (G14);
+ *
+ */
+
+package org.jfree.data.time.ohlc;
+
+import java.lang.reflect.Constructor;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.time.RegularTimePeriod;
+
+/**
+ * Builds open-high-low-close bars in an {@link OHLCSeries} from a stream of
+ * trades (ticks), each with a time, a price and a volume.  Each bar covers
+ * one time period of a chosen class (for example {@link
+ * org.jfree.data.time.Minute}) and records the first, highest, lowest and
+ * last price in the period and the total volume.
+ * <P>
+ * The bar for the current period is held in fields of the aggregator, so a
+ * tick that falls in the current period only compares its time with the
+ * bounds of the period and updates those fields.  The bar is then written
+ * to the series: a new bar is added to the series, and a change to an
+ * existing bar replaces its values in place and sends a
+ * {@link SeriesChangeEvent} for that item only.  The bulk method
+ * {@link #add(long[], double[], double[], int, int)} writes each bar once,
+ * when the ticks move on to the next period and after the last tick, which
+ * is much faster than adding ticks one at a time when the series has
+ * listeners.
+ * <P>
+ * Ticks are expected in time order.  A tick for the current period that
+ * is earlier than the first tick seen (or later than the last) becomes the
+ * open (or close) price.  A tick for an earlier period updates the high,
+ * low and volume of the bar for that period (or adds a bar if there is
+ * none), but not its open and close prices.  A tick with a price of
+ * <code>Double.NaN</code> adds to the volume only.
+ *
+ * @since 1.0.20
+ */
+public class OHLCAggregator {
+
+    /** The series that receives the bars. */
+    private OHLCSeries series;
+
+    /** The time period class for the bars. */
+    private Class periodClass;
+
+    /** The (Date, TimeZone) constructor for the period class. */
+    private Constructor constructor;
+
+    /** The time zone for the periods. */
+    private TimeZone zone;
+
+    /** A calendar (for the time zone) used to find the period bounds. */
+    private Calendar calendar;
+
+    /** The period of the current bar (<code>null</code> before any ticks). */
+    private RegularTimePeriod period;
+
+    /** The first millisecond of the current period. */
+    private long start;
+
+    /** The last millisecond of the current period. */
+    private long end;
+
+    /**
+     * The index of the current bar in the series (checked before use, and
+     * negative if the bar is not yet in the series).
+     */
+    private int index;
+
+    /** The time of the first tick in the current bar. */
+    private long openTime;
+
+    /** The time of the last tick in the current bar. */
+    private long closeTime;
+
+    /** The open price of the current bar. */
+    private double open;
+
+    /** The high price of the current bar. */
+    private double high;
+
+    /** The low price of the current bar. */
+    private double low;
+
+    /** The close price of the current bar. */
+    private double close;
+
+    /** The volume of the current bar. */
+    private double volume;
+
+    /**
+     * Creates a new aggregator.
+     *
+     * @param series  the series that receives the bars (<code>null</code>
+     *     not permitted).
+     * @param periodClass  the time period class for the bars, a subclass of
+     *     {@link RegularTimePeriod} with a (Date, TimeZone) constructor
+     *     (<code>null</code> not permitted).
+     * @param zone  the time zone for the periods (<code>null</code> not
+     *     permitted).
+     */
+    public OHLCAggregator(OHLCSeries series, Class periodClass,
+            TimeZone zone) {
+        ParamChecks.nullNotPermitted(series, "series");
+        ParamChecks.nullNotPermitted(periodClass, "periodClass");
+        ParamChecks.nullNotPermitted(zone, "zone");
+        if (!RegularTimePeriod.class.isAssignableFrom(periodClass)) {
+            throw new IllegalArgumentException(
+                    "Requires a RegularTimePeriod subclass.");
+        }
+        try {
+            this.constructor = periodClass.getDeclaredConstructor(
+                    new Class[] {Date.class, TimeZone.class});
+        }
+        catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("The class "
+                    + periodClass.getName() + " has no (Date, TimeZone) "
+                    + "constructor.");
+        }
+        this.series = series;
+        this.periodClass = periodClass;
+        this.zone = zone;
+        this.calendar = Calendar.getInstance(zone);
+    }
+
+    /**
+     * Returns the series that receives the bars.
+     *
+     * @return The series (never <code>null</code>).
+     */
+    public OHLCSeries getSeries() {
+        return this.series;
+    }
+
+    /**
+     * Returns the time period class for the bars.
+     *
+     * @return The time period class (never <code>null</code>).
+     */
+    public Class getPeriodClass() {
+        return this.periodClass;
+    }
+
+    /**
+     * Returns the time zone for the periods.
+     *
+     * @return The time zone (never <code>null</code>).
+     */
+    public TimeZone getTimeZone() {
+        return this.zone;
+    }
+
+    /**
+     * Returns the period of the current bar.
+     *
+     * @return The period (<code>null</code> before the first tick).
+     */
+    public RegularTimePeriod getCurrentPeriod() {
+        return this.period;
+    }
+
+    /**
+     * Adds a tick and updates the series (sending at most one
+     * {@link SeriesChangeEvent}).
+     *
+     * @param millisecond  the time of the tick.
+     * @param price  the price.
+     * @param volume  the volume.
+     */
+    public void add(long millisecond, double price, double volume) {
+        if (accumulate(millisecond, price, volume)) {
+            publish();
+        }
+    }
+
+    /**
+     * Adds a run of ticks and updates the series, writing each bar once.
+     *
+     * @param milliseconds  the times of the ticks (<code>null</code> not
+     *     permitted).
+     * @param prices  the prices (<code>null</code> not permitted).
+     * @param volumes  the volumes (<code>null</code> for a volume of zero).
+     * @param offset  the index of the first tick in the arrays.
+     * @param length  the number of ticks.
+     */
+    public void add(long[] milliseconds, double[] prices, double[] volumes,
+            int offset, int length) {
+        ParamChecks.nullNotPermitted(milliseconds, "milliseconds");
+        ParamChecks.nullNotPermitted(prices, "prices");
+        if (offset < 0 || length < 0
+                || offset + length > milliseconds.length
+                || offset + length > prices.length
+                || (volumes != null && offset + length > volumes.length)) {
+            throw new IllegalArgumentException("Invalid offset or length.");
+        }
+        boolean pending = false;
+        for (int i = offset; i < offset + length; i++) {
+            long t = milliseconds[i];
+            double v = volumes != null ? volumes[i] : 0.0;
+            if (this.period != null && t >= this.start && t <= this.end) {
+                update(t, prices[i], v);
+                pending = true;
+            }
+            else {
+                if (pending) {
+                    publish();
+                }
+                pending = accumulate(t, prices[i], v);
+            }
+        }
+        if (pending) {
+            publish();
+        }
+    }
+
+    /**
+     * Adds a tick to the current bar, or starts a new bar, or updates an
+     * earlier bar.
+     *
+     * @param t  the time.
+     * @param price  the price.
+     * @param v  the volume.
+     *
+     * @return A boolean that indicates whether or not the current bar has
+     *     changes that are not yet in the series.
+     */
+    private boolean accumulate(long t, double price, double v) {
+        if (this.period != null && t >= this.start && t <= this.end) {
+            update(t, price, v);
+            return true;
+        }
+        RegularTimePeriod p = createPeriod(t);
+        if (this.period != null && t < this.start) {
+            addToEarlierBar(p, price, v);
+            return false;
+        }
+        this.period = p;
+        this.start = p.getFirstMillisecond(this.calendar);
+        this.end = p.getLastMillisecond(this.calendar);
+        int i = this.series.indexOf(p);
+        if (i >= 0) {
+            // continue a bar that is already in the series
+            OHLCItem item = (OHLCItem) this.series.getDataItem(i);
+            this.period = item.getPeriod();
+            this.index = i;
+            this.open = item.getOpenValue();
+            this.high = item.getHighValue();
+            this.low = item.getLowValue();
+            this.close = item.getCloseValue();
+            this.volume = item.getVolumeValue();
+            if (Double.isNaN(this.volume)) {
+                this.volume = 0.0;
+            }
+            this.openTime = Long.MIN_VALUE;
+            this.closeTime = Long.MIN_VALUE;
+            update(t, price, v);
+            return true;
+        }
+        this.open = price;
+        this.high = price;
+        this.low = price;
+        this.close = price;
+        this.volume = v;
+        this.openTime = t;
+        this.closeTime = t;
+        this.index = -1;
+        return true;
+    }
+
+    /**
+     * Adds a tick to the fields for the current bar.
+     *
+     * @param t  the time.
+     * @param price  the price.
+     * @param v  the volume.
+     */
+    private void update(long t, double price, double v) {
+        this.volume += v;
+        if (Double.isNaN(price)) {
+            return;
+        }
+        if (t < this.openTime || Double.isNaN(this.open)) {
+            this.open = price;
+            this.openTime = t;
+        }
+        if (t >= this.closeTime || Double.isNaN(this.close)) {
+            this.close = price;
+            this.closeTime = t;
+        }
+        if (!(price <= this.high)) {
+            this.high = price;
+        }
+        if (!(price >= this.low)) {
+            this.low = price;
+        }
+    }
+
+    /**
+     * Writes the current bar to the series.
+     */
+    private void publish() {
+        int i = this.index;
+        if (i < 0 || i >= this.series.getItemCount()
+                || this.series.getPeriod(i) != this.period) {
+            // a new bar, or the series has been changed by other code
+            i = findCurrentBar();
+            if (i < 0) {
+                this.series.add(this.period, this.open, this.high, this.low,
+                        this.close, this.volume);
+                this.index = findCurrentBar();
+                return;
+            }
+            this.index = i;
+        }
+        this.series.updateByIndex(i, this.open, this.high, this.low,
+                this.close, this.volume);
+    }
+
+    /**
+     * Returns the index of the current bar in the series.
+     *
+     * @return The index (negative if the bar is not in the series).
+     */
+    private int findCurrentBar() {
+        int last = this.series.getItemCount() - 1;
+        if (last >= 0 && this.series.getPeriod(last) == this.period) {
+            return last;
+        }
+        return this.series.indexOf(this.period);
+    }
+
+    /**
+     * Adds a tick to the bar for a period before the current one.
+     *
+     * @param p  the period.
+     * @param price  the price.
+     * @param v  the volume.
+     */
+    private void addToEarlierBar(RegularTimePeriod p, double price,
+            double v) {
+        int i = this.series.indexOf(p);
+        if (i < 0) {
+            this.series.add(p, price, price, price, price, v);
+            return;
+        }
+        OHLCItem item = (OHLCItem) this.series.getDataItem(i);
+        double h = item.getHighValue();
+        double l = item.getLowValue();
+        if (!Double.isNaN(price)) {
+            h = Double.isNaN(h) ? price : Math.max(h, price);
+            l = Double.isNaN(l) ? price : Math.min(l, price);
+        }
+        double vol = item.getVolumeValue();
+        this.series.updateByIndex(i, item.getOpenValue(), h, l,
+                item.getCloseValue(), Double.isNaN(vol) ? v : vol + v);
+    }
+
+    /**
+     * Creates the period that contains a millisecond.
+     *
+     * @param millis  the millisecond.
+     *
+     * @return The period.
+     */
+    private RegularTimePeriod createPeriod(long millis) {
+        try {
+            return (RegularTimePeriod) this.constructor.newInstance(
+                    new Object[] {new Date(millis), this.zone});
+        }
+        catch (Exception e) {
+            throw new IllegalStateException("Unable to create an instance of "
+                    + this.periodClass.getName() + ".");
+        }
+    }
+
+}
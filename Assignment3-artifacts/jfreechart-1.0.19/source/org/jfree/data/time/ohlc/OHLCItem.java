@@ -35,6 +35,8 @@
  * Changes
  * -------
  * 04-Dec-2006 : Version 1 (DG);
+ * 18-Oct-2026 : Added volume (G14);
+ * 18-Oct-2026 : Added serialVersionUID (G14);
  *
  */
 
@@ -51,6 +53,12 @@ import org.jfree.data.time.RegularTimePeriod;
  */
 public class OHLCItem extends ComparableObjectItem {
 
+    /**
+     * For serialization (the value computed for this class before the
+     * volume was added).
+     */
+    private static final long serialVersionUID = -2037305235343073140L;
+
     /**
      * Creates a new instance of <code>OHLCItem</code>.
      *
@@ -65,6 +73,23 @@ public class OHLCItem extends ComparableObjectItem {
         super(period, new OHLC(open, high, low, close));
     }
 
+    /**
+     * Creates a new instance of <code>OHLCItem</code> with a volume.
+     *
+     * @param period  the time period.
+     * @param open  the open-value.
+     * @param high  the high-value.
+     * @param low  the low-value.
+     * @param close  the close-value.
+     * @param volume  the volume (<code>Double.NaN</code> if not known).
+     *
+     * @since 1.0.20
+     */
+    public OHLCItem(RegularTimePeriod period, double open, double high,
+            double low, double close, double volume) {
+        super(period, new OHLC(open, high, low, close, volume));
+    }
+
     /**
      * Returns the period.
      *
@@ -143,4 +168,21 @@ public class OHLCItem extends ComparableObjectItem {
         }
     }
 
+    /**
+     * Returns the volume.
+     *
+     * @return The volume (<code>Double.NaN</code> if not known).
+     *
+     * @since 1.0.20
+     */
+    public double getVolumeValue() {
+        OHLC ohlc = (OHLC) getObject();
+        if (ohlc != null) {
+            return ohlc.getVolume();
+        }
+        else {
+            return Double.NaN;
+        }
+    }
+
 }
@@ -37,6 +37,8 @@
  * 04-Dec-2006 : Version 1 (DG);
  * 17-Jun-2009 : Added remove(int) method (DG);
  * 21-Nov-2013 : Added add(OHLCItem) method - feature request #385 (DG);
+ * 18-Oct-2026 : Added volume and updateByIndex() (G14);
+ * 18-Oct-2026 : Added serialVersionUID (G14);
  *
  */
 
@@ -45,6 +47,7 @@ package org.jfree.data.time.ohlc;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.data.ComparableObjectItem;
 import org.jfree.data.ComparableObjectSeries;
+import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.time.RegularTimePeriod;
 
 /**
@@ -56,6 +59,12 @@ import org.jfree.data.time.RegularTimePeriod;
  */
 public class OHLCSeries extends ComparableObjectSeries {
 
+    /**
+     * For serialization (the value computed for this class before the
+     * volume was added).
+     */
+    private static final long serialVersionUID = 8830417599373881612L;
+
     /**
      * Creates a new empty series.  By default, items added to the series will
      * be sorted into ascending order by period, and duplicate periods will
@@ -102,6 +111,23 @@ public class OHLCSeries extends ComparableObjectSeries {
      */
     public void add(RegularTimePeriod period, double open, double high,
             double low, double close) {
+        add(period, open, high, low, close, Double.NaN);
+    }
+
+    /**
+     * Adds a data item with a volume to the series.
+     *
+     * @param period  the period.
+     * @param open  the open-value.
+     * @param high  the high-value.
+     * @param low  the low-value.
+     * @param close  the close-value.
+     * @param volume  the volume (<code>Double.NaN</code> if not known).
+     *
+     * @since 1.0.20
+     */
+    public void add(RegularTimePeriod period, double open, double high,
+            double low, double close, double volume) {
         if (getItemCount() > 0) {
             OHLCItem item0 = (OHLCItem) this.getDataItem(0);
             if (!period.getClass().equals(item0.getPeriod().getClass())) {
@@ -109,7 +135,7 @@ public class OHLCSeries extends ComparableObjectSeries {
                         "Can't mix RegularTimePeriod class types.");
             }
         }
-        super.add(new OHLCItem(period, open, high, low, close), true);
+        super.add(new OHLCItem(period, open, high, low, close, volume), true);
     }
     
     /**
@@ -123,7 +149,27 @@ public class OHLCSeries extends ComparableObjectSeries {
     public void add(OHLCItem item) {
         ParamChecks.nullNotPermitted(item, "item");
         add(item.getPeriod(), item.getOpenValue(), item.getHighValue(),
-                item.getLowValue(), item.getCloseValue());
+                item.getLowValue(), item.getCloseValue(),
+                item.getVolumeValue());
+    }
+
+    /**
+     * Replaces the values of the item at the specified index (the period is
+     * unchanged) and sends a {@link SeriesChangeEvent} that describes the
+     * updated item to all registered listeners.
+     *
+     * @param index  the item index.
+     * @param open  the open-value.
+     * @param high  the high-value.
+     * @param low  the low-value.
+     * @param close  the close-value.
+     * @param volume  the volume (<code>Double.NaN</code> if not known).
+     *
+     * @since 1.0.20
+     */
+    public void updateByIndex(int index, double open, double high,
+            double low, double close, double volume) {
+        updateByIndex(index, new OHLC(open, high, low, close, volume));
     }
 
     /**
@@ -39,6 +39,7 @@
  * 23-May-2009 : Added hashCode() implementation (DG);
  * 26-Jun-2009 : Added removeSeries() methods (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Return the volume of each item (G14);
  *
  */
 
@@ -357,31 +358,34 @@ public class OHLCSeriesCollection extends AbstractXYDataset
     }
 
     /**
-     * Returns <code>null</code> always, because this dataset doesn't record
-     * any volume data.
+     * Returns the volume for an item, or <code>null</code> if the item does
+     * not record a volume.
      *
-     * @param series  the series index (ignored).
-     * @param item  the item index (ignored).
+     * @param series  the series index.
+     * @param item  the item index.
      *
-     * @return <code>null</code>.
+     * @return The volume (possibly <code>null</code>).
      */
     @Override
     public Number getVolume(int series, int item) {
-        return null;
+        double v = getVolumeValue(series, item);
+        return Double.isNaN(v) ? null : new Double(v);
     }
 
     /**
-     * Returns <code>Double.NaN</code> always, because this dataset doesn't
-     * record any volume data.
+     * Returns the volume for an item, or <code>Double.NaN</code> if the item
+     * does not record a volume.
      *
-     * @param series  the series index (ignored).
-     * @param item  the item index (ignored).
+     * @param series  the series index.
+     * @param item  the item index.
      *
-     * @return <code>Double.NaN</code>.
+     * @return The volume.
      */
     @Override
     public double getVolumeValue(int series, int item) {
-        return Double.NaN;
+        OHLCSeries s = (OHLCSeries) this.data.get(series);
+        OHLCItem di = (OHLCItem) s.getDataItem(item);
+        return di.getVolumeValue();
     }
 
     /**
@@ -44,6 +44,8 @@
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
  * 22-Apr-2008 : Implemented PublicCloneable, and fixed clone() method (DG);
  * 18-Oct-2011 : Fixed bug 3190615 - added clear() method (DG);
+ * 18-Oct-2026 : Increment the version for changes made without sending a
+ *               change event (G14);
  *
  */
 
@@ -116,6 +118,9 @@ public class CategoryTableXYDataset extends AbstractIntervalXYDataset
         if (notify) {
             fireDatasetChanged();
         }
+        else {
+            incrementVersion();
+        }
     }
 
     /**
@@ -140,6 +145,9 @@ public class CategoryTableXYDataset extends AbstractIntervalXYDataset
         if (notify) {
             fireDatasetChanged();
         }
+        else {
+            incrementVersion();
+        }
     }
 
     /**
@@ -0,0 +1,874 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * PrimitiveTableXYDataset.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Implemented XYStackTotalInfo (G14);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.KeyIndex;
+import org.jfree.data.Range;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A {@link TableXYDataset} that stores the shared x-values in a single
+ * sorted <code>double[]</code> column, and the y-values for each series in
+ * a <code>double[]</code> column with one value per x-value.  Unlike
+ * {@link DefaultTableXYDataset}, the series are not separate
+ * {@link XYSeries} objects that each have to hold every x-value, so adding
+ * an x-value takes time proportional to the number of series (if it is
+ * greater than the existing x-values) rather than a pass over every series.
+ * <P>
+ * Missing y-values are stored as <code>Double.NaN</code>, so
+ * {@link #getY(int, int)} returns <code>null</code> for them.  The dataset
+ * also keeps the total of the y-values for each x-value (see
+ * {@link #getStackTotal(int)}), which is used by
+ * {@link org.jfree.data.general.DatasetUtilities#calculateStackTotal(
+ * TableXYDataset, int)} so that stacked renderers don't have to add up the
+ * series for every item they draw.
+ *
+ * @since 1.0.20
+ */
+public class PrimitiveTableXYDataset extends AbstractIntervalXYDataset
+        implements TableXYDataset, IntervalXYDataset, DomainInfo,
+        XYStackTotalInfo, PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -4425869871209736416L;
+
+    /** The minimum capacity of the columns. */
+    private static final int MINIMUM_CAPACITY = 16;
+
+    /** The series keys. */
+    private List seriesKeys;
+
+    /** An index of the series keys (rebuilt after deserialization). */
+    private transient KeyIndex seriesKeyIndex;
+
+    /** The x-values, in ascending order (without duplicates). */
+    private double[] xValues;
+
+    /**
+     * The y-values, one column for each series, with the same capacity as
+     * the x-values.
+     */
+    private double[][] yValues;
+
+    /** The total of the (non-NaN) y-values for each x-value. */
+    private double[] totals;
+
+    /** The number of x-values. */
+    private int itemCount;
+
+    /** The delegate used to control the interval width. */
+    private IntervalXYDelegate intervalDelegate;
+
+    /**
+     * Creates a new empty dataset.
+     */
+    public PrimitiveTableXYDataset() {
+        this(MINIMUM_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty dataset with space for the specified number of
+     * x-values.  The dataset will grow as required, but specifying the
+     * expected size in advance avoids copying the data as it grows.
+     *
+     * @param initialCapacity  the initial capacity (zero or more).
+     */
+    public PrimitiveTableXYDataset(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'initialCapacity' >= 0.");
+        }
+        int capacity = Math.max(MINIMUM_CAPACITY, initialCapacity);
+        this.seriesKeys = new ArrayList();
+        this.seriesKeyIndex = new KeyIndex();
+        this.xValues = new double[capacity];
+        this.yValues = new double[0][];
+        this.totals = new double[capacity];
+        this.intervalDelegate = new IntervalXYDelegate(this, false);
+        addChangeListener(this.intervalDelegate);
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.seriesKeys.size();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The key for the series.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return (Comparable) this.seriesKeys.get(series);
+    }
+
+    /**
+     * Returns the index of the series with the specified key, or -1.
+     *
+     * @param seriesKey  the series key.
+     *
+     * @return The index.
+     */
+    @Override
+    public int indexOf(Comparable seriesKey) {
+        return this.seriesKeyIndex.indexOf(seriesKey);
+    }
+
+    /**
+     * Returns the series keys.
+     *
+     * @return The keys (an unmodifiable list).
+     */
+    public List getSeriesKeys() {
+        return Collections.unmodifiableList(this.seriesKeys);
+    }
+
+    /**
+     * Returns the number of x-values in the dataset.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the number of items in a series (the same for every series).
+     *
+     * @param series  the series index (ignored).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns the order of the x-values, which is always
+     * {@link DomainOrder#ASCENDING}.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the index of an x-value, or a negative value
+     * (<code>-(insertionPoint) - 1</code>) if the dataset doesn't contain
+     * the x-value.
+     *
+     * @param x  the x-value.
+     *
+     * @return The item index.
+     */
+    public int getItemIndex(double x) {
+        if (this.itemCount > 0 && x > this.xValues[this.itemCount - 1]) {
+            return -this.itemCount - 1;
+        }
+        return Arrays.binarySearch(this.xValues, 0, this.itemCount, x);
+    }
+
+    /**
+     * Returns an x-value.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        checkItem(item);
+        return this.xValues[item];
+    }
+
+    /**
+     * Returns an x-value.
+     *
+     * @param series  the series index (ignored).
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return new Double(getXValue(series, item));
+    }
+
+    /**
+     * Returns a y-value.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value (<code>Double.NaN</code> for a missing value).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        checkItem(item);
+        return this.yValues[series][item];
+    }
+
+    /**
+     * Returns a y-value.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value (<code>null</code> for a missing value).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        double y = getYValue(series, item);
+        return Double.isNaN(y) ? null : new Double(y);
+    }
+
+    /**
+     * Returns the starting x-value for an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The starting x-value.
+     */
+    @Override
+    public Number getStartX(int series, int item) {
+        return this.intervalDelegate.getStartX(series, item);
+    }
+
+    /**
+     * Returns the ending x-value for an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The ending x-value.
+     */
+    @Override
+    public Number getEndX(int series, int item) {
+        return this.intervalDelegate.getEndX(series, item);
+    }
+
+    /**
+     * Returns the starting y-value for an item (the same as the y-value).
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The starting y-value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getStartY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the ending y-value for an item (the same as the y-value).
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The ending y-value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getEndY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the total of the y-values in all series for an item (the
+     * same result as
+     * {@link org.jfree.data.general.DatasetUtilities#calculateStackTotal(
+     * TableXYDataset, int)}, without visiting each series).
+     *
+     * @param item  the item index.
+     *
+     * @return The total (missing values are ignored).
+     */
+    @Override
+    public double getStackTotal(int item) {
+        checkItem(item);
+        return this.totals[item];
+    }
+
+    /**
+     * Adds a series, with missing values for all the existing x-values, and
+     * sends a {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param seriesKey  the series key (<code>null</code> not permitted).
+     *
+     * @return The index of the new series.
+     *
+     * @throws IllegalArgumentException if the dataset already contains a
+     *     series with the same key.
+     */
+    public int addSeries(Comparable seriesKey) {
+        int series = addSeriesColumn(seriesKey);
+        fireDatasetChanged();
+        return series;
+    }
+
+    /**
+     * Removes a series and sends a {@link DatasetChangeEvent} to all
+     * registered listeners.
+     *
+     * @param series  the series index.
+     */
+    public void removeSeries(int series) {
+        if (series < 0 || series >= this.seriesKeys.size()) {
+            throw new IllegalArgumentException("Series index out of bounds.");
+        }
+        this.seriesKeys.remove(series);
+        this.seriesKeyIndex.remove(series);
+        double[][] columns = new double[this.yValues.length - 1][];
+        System.arraycopy(this.yValues, 0, columns, 0, series);
+        System.arraycopy(this.yValues, series + 1, columns, series,
+                columns.length - series);
+        this.yValues = columns;
+        for (int i = 0; i < this.itemCount; i++) {
+            updateTotal(i);
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a series and sends a {@link DatasetChangeEvent} to all
+     * registered listeners.
+     *
+     * @param seriesKey  the series key.
+     *
+     * @throws UnknownKeyException if the key is not recognised.
+     */
+    public void removeSeries(Comparable seriesKey) {
+        int series = indexOf(seriesKey);
+        if (series < 0) {
+            throw new UnknownKeyException("Unknown series key: "
+                    + seriesKey);
+        }
+        removeSeries(series);
+    }
+
+    /**
+     * Adds a y-value to the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.  The series is added if the dataset
+     * doesn't have a series with the specified key, and the x-value is
+     * added (with missing values for the other series) if it isn't already
+     * in the dataset.
+     *
+     * @param x  the x-value (<code>NaN</code> not permitted).
+     * @param y  the y-value (<code>NaN</code> for a missing value).
+     * @param seriesKey  the series key (<code>null</code> not permitted).
+     */
+    public void add(double x, double y, Comparable seriesKey) {
+        add(x, y, seriesKey, true);
+    }
+
+    /**
+     * Adds a y-value to the dataset and, if requested, sends a
+     * {@link DatasetChangeEvent} to all registered listeners.  The series is
+     * added if the dataset doesn't have a series with the specified key,
+     * and the x-value is added (with missing values for the other series)
+     * if it isn't already in the dataset.
+     *
+     * @param x  the x-value (<code>NaN</code> not permitted).
+     * @param y  the y-value (<code>NaN</code> for a missing value).
+     * @param seriesKey  the series key (<code>null</code> not permitted).
+     * @param notify  notify listeners?
+     */
+    public void add(double x, double y, Comparable seriesKey,
+            boolean notify) {
+        ParamChecks.nullNotPermitted(seriesKey, "seriesKey");
+        int series = indexOf(seriesKey);
+        if (series < 0) {
+            series = addSeriesColumn(seriesKey);
+        }
+        int item = findOrAddItem(x);
+        this.yValues[series][item] = y;
+        updateTotal(item);
+        if (notify) {
+            fireDatasetChanged();
+        }
+        else {
+            incrementVersion();
+        }
+    }
+
+    /**
+     * Adds an x-value with a y-value for each series (replacing the
+     * y-values if the x-value is already in the dataset), and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.  If the
+     * x-value is greater than the existing x-values, this takes time
+     * proportional to the number of series.
+     *
+     * @param x  the x-value (<code>NaN</code> not permitted).
+     * @param y  the y-values, in series order (<code>null</code> not
+     *     permitted, and the length must equal the series count).
+     *
+     * @return The item index.
+     */
+    public int addRow(double x, double[] y) {
+        ParamChecks.nullNotPermitted(y, "y");
+        if (y.length != this.yValues.length) {
+            throw new IllegalArgumentException(
+                    "Requires one y-value for each series.");
+        }
+        int item = findOrAddItem(x);
+        for (int s = 0; s < y.length; s++) {
+            this.yValues[s][item] = y[s];
+        }
+        updateTotal(item);
+        fireDatasetChanged();
+        return item;
+    }
+
+    /**
+     * Sets a y-value to missing and sends a {@link DatasetChangeEvent} to
+     * all registered listeners.  The x-value is not removed (see
+     * {@link #removeRow(int)}).
+     *
+     * @param x  the x-value.
+     * @param seriesKey  the series key.
+     *
+     * @throws UnknownKeyException if the x-value or series key is not
+     *     recognised.
+     */
+    public void remove(double x, Comparable seriesKey) {
+        int series = indexOf(seriesKey);
+        if (series < 0) {
+            throw new UnknownKeyException("Unknown series key: "
+                    + seriesKey);
+        }
+        int item = getItemIndex(x);
+        if (item < 0) {
+            throw new UnknownKeyException("Unknown x-value: " + x);
+        }
+        this.yValues[series][item] = Double.NaN;
+        updateTotal(item);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes an x-value and the y-values for it, and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param item  the item index.
+     */
+    public void removeRow(int item) {
+        checkItem(item);
+        int moved = this.itemCount - item - 1;
+        System.arraycopy(this.xValues, item + 1, this.xValues, item, moved);
+        System.arraycopy(this.totals, item + 1, this.totals, item, moved);
+        for (int s = 0; s < this.yValues.length; s++) {
+            System.arraycopy(this.yValues[s], item + 1, this.yValues[s],
+                    item, moved);
+        }
+        this.itemCount--;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes all the x-values and series, and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     */
+    public void clear() {
+        this.seriesKeys.clear();
+        this.seriesKeyIndex.clear();
+        this.yValues = new double[0][];
+        this.itemCount = 0;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The minimum value (<code>NaN</code> if there are no x-values).
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        if (includeInterval) {
+            return this.intervalDelegate.getDomainLowerBound(true);
+        }
+        return this.itemCount > 0 ? this.xValues[0] : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The maximum value (<code>NaN</code> if there are no x-values).
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        if (includeInterval) {
+            return this.intervalDelegate.getDomainUpperBound(true);
+        }
+        return this.itemCount > 0 ? this.xValues[this.itemCount - 1]
+                : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the values in this dataset's domain.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The range (<code>null</code> if there are no x-values).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        if (includeInterval) {
+            return this.intervalDelegate.getDomainBounds(true);
+        }
+        if (this.itemCount == 0) {
+            return null;
+        }
+        return new Range(this.xValues[0], this.xValues[this.itemCount - 1]);
+    }
+
+    /**
+     * Returns the interval position factor.
+     *
+     * @return The interval position factor.
+     */
+    public double getIntervalPositionFactor() {
+        return this.intervalDelegate.getIntervalPositionFactor();
+    }
+
+    /**
+     * Sets the interval position factor.  Must be between 0.0 and 1.0
+     * inclusive.  If the factor is 0.5, the gap is in the middle of the x
+     * values.  If it is less than 0.5, the gap is farther to the left and if
+     * greater than 0.5 it gets farther to the right.
+     *
+     * @param d  the new interval position factor.
+     */
+    public void setIntervalPositionFactor(double d) {
+        this.intervalDelegate.setIntervalPositionFactor(d);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the full interval width.
+     *
+     * @return The interval width to use.
+     */
+    public double getIntervalWidth() {
+        return this.intervalDelegate.getIntervalWidth();
+    }
+
+    /**
+     * Sets the interval width to a fixed value, and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param d  the new interval width (must be &gt; 0).
+     */
+    public void setIntervalWidth(double d) {
+        this.intervalDelegate.setFixedIntervalWidth(d);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns whether the interval width is automatically calculated or not.
+     *
+     * @return A flag that determines whether or not the interval width is
+     *         automatically calculated.
+     */
+    public boolean isAutoWidth() {
+        return this.intervalDelegate.isAutoWidth();
+    }
+
+    /**
+     * Sets the flag that indicates whether the interval width is
+     * automatically calculated or not.
+     *
+     * @param b  a boolean.
+     */
+    public void setAutoWidth(boolean b) {
+        this.intervalDelegate.setAutoWidth(b);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the index of an x-value, adding the x-value (with missing
+     * y-values) if it isn't in the dataset.
+     *
+     * @param x  the x-value (<code>NaN</code> not permitted).
+     *
+     * @return The item index.
+     */
+    private int findOrAddItem(double x) {
+        if (Double.isNaN(x)) {
+            throw new IllegalArgumentException("Requires 'x' to be a number.");
+        }
+        int item = getItemIndex(x);
+        if (item >= 0) {
+            return item;
+        }
+        item = -item - 1;
+        if (this.itemCount == this.xValues.length) {
+            int capacity = Math.max(MINIMUM_CAPACITY, this.itemCount * 2);
+            this.xValues = grow(this.xValues, capacity);
+            this.totals = grow(this.totals, capacity);
+            for (int s = 0; s < this.yValues.length; s++) {
+                this.yValues[s] = grow(this.yValues[s], capacity);
+            }
+        }
+        int moved = this.itemCount - item;
+        if (moved > 0) {
+            System.arraycopy(this.xValues, item, this.xValues, item + 1,
+                    moved);
+            System.arraycopy(this.totals, item, this.totals, item + 1, moved);
+            for (int s = 0; s < this.yValues.length; s++) {
+                System.arraycopy(this.yValues[s], item, this.yValues[s],
+                        item + 1, moved);
+            }
+        }
+        this.xValues[item] = x;
+        this.totals[item] = 0.0;
+        for (int s = 0; s < this.yValues.length; s++) {
+            this.yValues[s][item] = Double.NaN;
+        }
+        this.itemCount++;
+        return item;
+    }
+
+    /**
+     * Adds a column for a new series, without sending an event.
+     *
+     * @param seriesKey  the series key (<code>null</code> not permitted).
+     *
+     * @return The index of the new series.
+     */
+    private int addSeriesColumn(Comparable seriesKey) {
+        ParamChecks.nullNotPermitted(seriesKey, "seriesKey");
+        if (indexOf(seriesKey) >= 0) {
+            throw new IllegalArgumentException("Duplicate series key: "
+                    + seriesKey);
+        }
+        double[] column = new double[this.xValues.length];
+        Arrays.fill(column, Double.NaN);
+        double[][] columns = new double[this.yValues.length + 1][];
+        System.arraycopy(this.yValues, 0, columns, 0, this.yValues.length);
+        columns[this.yValues.length] = column;
+        this.yValues = columns;
+        this.seriesKeys.add(seriesKey);
+        this.seriesKeyIndex.add(seriesKey);
+        return this.yValues.length - 1;
+    }
+
+    /**
+     * Recalculates the total of the y-values for an item (adding the series
+     * in order, as {@link
+     * org.jfree.data.general.DatasetUtilities#calculateStackTotal(
+     * TableXYDataset, int)} does).
+     *
+     * @param item  the item index.
+     */
+    private void updateTotal(int item) {
+        double total = 0.0;
+        for (int s = 0; s < this.yValues.length; s++) {
+            double y = this.yValues[s][item];
+            if (!Double.isNaN(y)) {
+                total = total + y;
+            }
+        }
+        this.totals[item] = total;
+    }
+
+    /**
+     * Checks that an item index is valid.
+     *
+     * @param item  the item index.
+     */
+    private void checkItem(int item) {
+        if (item < 0 || item >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Item index out of bounds: "
+                    + item);
+        }
+    }
+
+    /**
+     * Returns a copy of an array with a new length.
+     *
+     * @param array  the array.
+     * @param length  the new length.
+     *
+     * @return The new array.
+     */
+    private static double[] grow(double[] array, int length) {
+        double[] result = new double[length];
+        System.arraycopy(array, 0, result, 0, array.length);
+        return result;
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof PrimitiveTableXYDataset)) {
+            return false;
+        }
+        PrimitiveTableXYDataset that = (PrimitiveTableXYDataset) obj;
+        if (!this.intervalDelegate.equals(that.intervalDelegate)) {
+            return false;
+        }
+        if (!this.seriesKeys.equals(that.seriesKeys)) {
+            return false;
+        }
+        if (this.itemCount != that.itemCount) {
+            return false;
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            if (Double.doubleToLongBits(this.xValues[i])
+                    != Double.doubleToLongBits(that.xValues[i])) {
+                return false;
+            }
+            for (int s = 0; s < this.yValues.length; s++) {
+                if (Double.doubleToLongBits(this.yValues[s][i])
+                        != Double.doubleToLongBits(that.yValues[s][i])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for the dataset.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = this.seriesKeys.hashCode();
+        result = 29 * result + this.itemCount;
+        for (int i = 0; i < this.itemCount; i++) {
+            long bits = Double.doubleToLongBits(this.xValues[i]);
+            result = 29 * result + (int) (bits ^ (bits >>> 32));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an independent copy of this dataset.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is some reason that cloning
+     *     cannot be performed.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        PrimitiveTableXYDataset clone
+                = (PrimitiveTableXYDataset) super.clone();
+        clone.seriesKeys = new ArrayList(this.seriesKeys);
+        clone.seriesKeyIndex = (KeyIndex) this.seriesKeyIndex.clone();
+        clone.xValues = (double[]) this.xValues.clone();
+        clone.totals = (double[]) this.totals.clone();
+        clone.yValues = new double[this.yValues.length][];
+        for (int s = 0; s < this.yValues.length; s++) {
+            clone.yValues[s] = (double[]) this.yValues[s].clone();
+        }
+        clone.intervalDelegate = new IntervalXYDelegate(clone, false);
+        // need to configure the intervalDelegate to match the original
+        clone.intervalDelegate.setFixedIntervalWidth(getIntervalWidth());
+        clone.intervalDelegate.setAutoWidth(isAutoWidth());
+        clone.intervalDelegate.setIntervalPositionFactor(
+                getIntervalPositionFactor());
+        clone.addChangeListener(clone.intervalDelegate);
+        return clone;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+        throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.seriesKeyIndex = new KeyIndex(this.seriesKeys);
+    }
+
+}
@@ -0,0 +1,1372 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * PrimitiveXYSeries.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Added addAll(double[], double[]) override (G14);
+ * 18-Oct-2026 : Added a hash index for x-value lookups in unsorted
+ *               series (G14);
+ * 18-Oct-2026 : Added findValueRange(Range) override (G14);
+ * 18-Oct-2026 : Increment the version for changes made without sending a
+ *               change event (G14);
+ * 18-Oct-2026 : Describe appended, removed and updated items in change
+ *               events (G14);
+ * 18-Oct-2026 : Don't retry building the min/max tree until the series
+ *               changes (G14);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.Range;
+import org.jfree.data.general.MinMaxTree;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.data.general.SeriesException;
+
+/**
+ * An {@link XYSeries} that stores its data in two growable
+ * <code>double[]</code> columns rather than a list of {@link XYDataItem}
+ * objects.  This uses far less memory for large series (16 bytes per item
+ * rather than roughly 80) and the primitive accessors
+ * {@link #getXValue(int)} and {@link #getYValue(int)} never create
+ * <code>Number</code> instances, so the series can be added to an
+ * {@link XYSeriesCollection} and rendered without boxing.
+ * <P>
+ * The auto-sort and duplicate x-value semantics are the same as for
+ * {@link XYSeries}.  Missing y-values are stored as <code>Double.NaN</code>,
+ * so a <code>null</code> y-value that is added to the series will be
+ * returned as <code>null</code> by {@link #getY(int)} and as
+ * <code>Double.NaN</code> by {@link #getYValue(int)}, and vice versa.
+ * <P>
+ * The methods that return {@link XYDataItem} instances (such as
+ * {@link #getDataItem(int)} and {@link #getItems()}) create new objects on
+ * each call, and changes to those objects have no effect on the series.
+ *
+ * @since 1.0.20
+ */
+public class PrimitiveXYSeries extends XYSeries implements Cloneable,
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3618574239571034982L;
+
+    /** The default initial capacity for the x and y columns. */
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /** Storage for the x-values. */
+    private double[] xValues;
+
+    /** Storage for the y-values (<code>Double.NaN</code> for missing). */
+    private double[] yValues;
+
+    /** The number of items in the series. */
+    private int itemCount;
+
+    /** The lowest x-value in the series, excluding Double.NaN values. */
+    private double minX;
+
+    /** The highest x-value in the series, excluding Double.NaN values. */
+    private double maxX;
+
+    /** The lowest y-value in the series, excluding Double.NaN values. */
+    private double minY;
+
+    /** The highest y-value in the series, excluding Double.NaN values. */
+    private double maxY;
+
+    /**
+     * An index of the x-values for an unsorted series, built when the first
+     * lookup by x-value is made (and discarded after any change that cannot
+     * be applied to it directly).
+     */
+    private transient XValueIndex xIndex;
+
+    /**
+     * A min/max tree over the y-values of a sorted series, built when the
+     * first call to {@link #findValueRange(Range)} is made and kept up to
+     * date while items are only appended, updated and evicted.
+     */
+    private transient MinMaxTree yTree;
+
+    /**
+     * A flag that records that the min/max tree could not be built (because
+     * of a <code>Double.NaN</code> x-value), so that no attempt is made to
+     * build it again until the series changes.
+     */
+    private transient boolean yTreeUnavailable;
+
+    /** The version of the series when the min/max tree could not be built. */
+    private transient long yTreeUnavailableVersion;
+
+    /**
+     * Creates a new empty series.  By default, items added to the series will
+     * be sorted into ascending order by x-value, and duplicate x-values will
+     * be allowed (these defaults can be modified with another constructor).
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     */
+    public PrimitiveXYSeries(Comparable key) {
+        this(key, true, true);
+    }
+
+    /**
+     * Constructs a new empty series, with the auto-sort flag set as requested,
+     * and duplicate values allowed.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     */
+    public PrimitiveXYSeries(Comparable key, boolean autoSort) {
+        this(key, autoSort, true);
+    }
+
+    /**
+     * Constructs a new series that contains no data.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     */
+    public PrimitiveXYSeries(Comparable key, boolean autoSort,
+            boolean allowDuplicateXValues) {
+        this(key, autoSort, allowDuplicateXValues, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new series that contains no data, with storage
+     * preallocated for the specified number of items.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     * @param initialCapacity  the initial capacity (must be &gt;= 0).
+     */
+    public PrimitiveXYSeries(Comparable key, boolean autoSort,
+            boolean allowDuplicateXValues, int initialCapacity) {
+        super(key, autoSort, allowDuplicateXValues);
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Negative 'initialCapacity' argument.");
+        }
+        this.xValues = new double[initialCapacity];
+        this.yValues = new double[initialCapacity];
+        this.itemCount = 0;
+        resetBounds();
+    }
+
+    /**
+     * Returns the smallest x-value in the series, ignoring any Double.NaN
+     * values.
+     *
+     * @return The smallest x-value.
+     */
+    @Override
+    public double getMinX() {
+        return this.minX;
+    }
+
+    /**
+     * Returns the largest x-value in the series, ignoring any Double.NaN
+     * values.
+     *
+     * @return The largest x-value.
+     */
+    @Override
+    public double getMaxX() {
+        return this.maxX;
+    }
+
+    /**
+     * Returns the smallest y-value in the series, ignoring any missing
+     * values.
+     *
+     * @return The smallest y-value.
+     */
+    @Override
+    public double getMinY() {
+        return this.minY;
+    }
+
+    /**
+     * Returns the largest y-value in the series, ignoring any missing values.
+     *
+     * @return The largest y-value.
+     */
+    @Override
+    public double getMaxY() {
+        return this.maxY;
+    }
+
+    /**
+     * Returns the range of the y-values for the items in the series that have
+     * an x-value within the specified range, ignoring <code>Double.NaN</code>
+     * y-values.  For a sorted series, the first call to this method builds a
+     * min/max tree of the y-values, so that this and later calls take
+     * logarithmic time.
+     *
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     *
+     * @return The range of y-values (<code>null</code> if there are no
+     *     y-values for items in the x-range).
+     */
+    @Override
+    public Range findValueRange(Range xRange) {
+        ParamChecks.nullNotPermitted(xRange, "xRange");
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        if (getAutoSort() && buildYTree()) {
+            int start = findFirstIndex(xRange.getLowerBound());
+            int end = findInsertionIndex(xRange.getUpperBound());
+            if (start < end) {
+                lower = this.yTree.getMinimum(start, end);
+                upper = this.yTree.getMaximum(start, end);
+            }
+        }
+        else {
+            for (int i = 0; i < this.itemCount; i++) {
+                double y = this.yValues[i];
+                if (xRange.contains(this.xValues[i]) && !Double.isNaN(y)) {
+                    lower = Math.min(lower, y);
+                    upper = Math.max(upper, y);
+                }
+            }
+        }
+        if (lower == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns a new unmodifiable list containing a copy of each item in the
+     * series.  This creates one {@link XYDataItem} per item, so should be
+     * avoided for large series.
+     *
+     * @return The list of data items.
+     */
+    @Override
+    public List getItems() {
+        List result = new java.util.ArrayList(this.itemCount);
+        for (int i = 0; i < this.itemCount; i++) {
+            result.add(createItem(i));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in the series.
+     * If the series currently contains more items, the oldest items are
+     * removed and a {@link SeriesChangeEvent} is sent to all registered
+     * listeners.
+     *
+     * @param maximum  the maximum number of items for the series.
+     */
+    @Override
+    public void setMaximumItemCount(int maximum) {
+        super.setMaximumItemCount(maximum);
+        int remove = this.itemCount - maximum;
+        if (remove > 0) {
+            removeRange(0, remove);
+            findBoundsByIteration();
+            fireSeriesChanged(new SeriesChangeEvent(this,
+                    SeriesChangeType.REMOVE_FIRST, -1, -1, remove));
+        }
+    }
+
+    /**
+     * Adds a data item to the series and sends a {@link SeriesChangeEvent} to
+     * all registered listeners.
+     *
+     * @param x  the x value.
+     * @param y  the y value.
+     */
+    @Override
+    public void add(double x, double y) {
+        add(x, y, true);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x value.
+     * @param y  the y value (<code>Double.NaN</code> for a missing value).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     *
+     * @throws SeriesException if the x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     */
+    @Override
+    public void add(double x, double y, boolean notify) {
+        int index;
+        if (getAutoSort()) {
+            if (this.itemCount == 0 || x > this.xValues[this.itemCount - 1]) {
+                index = this.itemCount;
+            }
+            else {
+                index = findInsertionIndex(x);
+                if (!getAllowDuplicateXValues() && index > 0
+                        && this.xValues[index - 1] == x) {
+                    throw new SeriesException("X-value already exists.");
+                }
+            }
+        }
+        else {
+            if (!getAllowDuplicateXValues() && indexOf(x) >= 0) {
+                throw new SeriesException("X-value already exists.");
+            }
+            index = this.itemCount;
+        }
+        boolean appended = (index == this.itemCount);
+        insert(index, x, y);
+        updateBoundsForAddedItem(x, y);
+        int removedCount = 0;
+        if (this.itemCount > getMaximumItemCount()) {
+            double removedX = this.xValues[0];
+            double removedY = this.yValues[0];
+            removeRange(0, 1);
+            updateBoundsForRemovedItem(removedX, removedY);
+            removedCount = 1;
+        }
+        if (notify && appended) {
+            int last = this.itemCount - 1;
+            fireSeriesChanged(new SeriesChangeEvent(this,
+                    SeriesChangeType.APPEND, last, last, removedCount));
+        }
+        else if (notify) {
+            fireSeriesChanged();
+        }
+        else {
+            incrementVersion();
+        }
+    }
+
+    /**
+     * Adds new data to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value (<code>null</code> not permitted).
+     * @param y  the y-value (<code>null</code> permitted).
+     * @param notify  a flag the controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     */
+    @Override
+    public void add(Number x, Number y, boolean notify) {
+        ParamChecks.nullNotPermitted(x, "x");
+        add(x.doubleValue(), toDouble(y), notify);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the (x, y) item (<code>null</code> not permitted).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     */
+    @Override
+    public void add(XYDataItem item, boolean notify) {
+        ParamChecks.nullNotPermitted(item, "item");
+        add(item.getXValue(), item.getYValue(), notify);
+    }
+
+    /**
+     * Adds a block of data items to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.  When the series
+     * is unsorted, or the new x-values are in ascending order and follow the
+     * existing items, the arrays are copied directly into the series storage.
+     * Otherwise the new items are sorted (stably) and merged with the
+     * existing items in a single pass.
+     *
+     * @param xValues  the x-values (<code>null</code> not permitted).
+     * @param yValues  the y-values (<code>null</code> not permitted, must
+     *     have the same length as <code>xValues</code>).
+     *
+     * @throws SeriesException if an x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     */
+    @Override
+    public void addAll(double[] xValues, double[] yValues) {
+        ParamChecks.nullNotPermitted(xValues, "xValues");
+        ParamChecks.nullNotPermitted(yValues, "yValues");
+        if (xValues.length != yValues.length) {
+            throw new IllegalArgumentException(
+                    "The 'xValues' and 'yValues' arrays must have equal "
+                    + "length.");
+        }
+        int count = xValues.length;
+        if (count == 0) {
+            return;
+        }
+        boolean allowDuplicates = getAllowDuplicateXValues();
+        double[] x = xValues;
+        double[] y = yValues;
+        boolean appended = true;
+        if (getAutoSort()) {
+            if (!isSorted(x)) {
+                x = (double[]) xValues.clone();
+                y = (double[]) yValues.clone();
+                sortByXValue(x, y);
+            }
+            double last = this.itemCount > 0
+                    ? this.xValues[this.itemCount - 1]
+                    : Double.NEGATIVE_INFINITY;
+            if (this.itemCount == 0 || x[0] > last
+                    || (x[0] == last && allowDuplicates)) {
+                if (!allowDuplicates) {
+                    checkForDuplicates(x, count);
+                }
+            }
+            else {
+                appended = false;
+            }
+        }
+        else if (!allowDuplicates) {
+            // check against the existing items, then within the new items
+            XValueIndex added = new XValueIndex(count);
+            for (int i = 0; i < count; i++) {
+                if (!Double.isNaN(x[i])) {
+                    if (indexOf(x[i]) >= 0 || added.get(key(x[i])) >= 0) {
+                        throw new SeriesException("X-value already exists.");
+                    }
+                    added.append(key(x[i]), i);
+                }
+            }
+        }
+
+        if (appended) {
+            ensureCapacity(this.itemCount + count);
+            System.arraycopy(x, 0, this.xValues, this.itemCount, count);
+            System.arraycopy(y, 0, this.yValues, this.itemCount, count);
+            for (int i = 0; i < count; i++) {
+                appendToXIndex(x[i], this.itemCount + i);
+                appendToYTree(x[i], y[i]);
+            }
+            this.itemCount += count;
+        }
+        else {
+            int size = this.itemCount + count;
+            double[] mergedX = new double[size];
+            double[] mergedY = new double[size];
+            int i = 0;
+            int j = 0;
+            for (int k = 0; k < size; k++) {
+                if (j == count || (i < this.itemCount
+                        && this.xValues[i] <= x[j])) {
+                    mergedX[k] = this.xValues[i];
+                    mergedY[k] = this.yValues[i++];
+                }
+                else {
+                    mergedX[k] = x[j];
+                    mergedY[k] = y[j++];
+                }
+            }
+            if (!allowDuplicates) {
+                checkForDuplicates(mergedX, size);
+            }
+            this.xValues = mergedX;
+            this.yValues = mergedY;
+            this.itemCount = size;
+            this.yTree = null;
+        }
+        int oldCount = this.itemCount - count;
+        int remove = this.itemCount - getMaximumItemCount();
+        if (remove > 0) {
+            removeRange(0, remove);
+        }
+        if (appended && remove <= 0) {
+            for (int i = 0; i < count; i++) {
+                updateBoundsForAddedItem(x[i], y[i]);
+            }
+        }
+        else {
+            findBoundsByIteration();
+        }
+        if (appended) {
+            int last = this.itemCount - 1;
+            fireSeriesChanged(new SeriesChangeEvent(this,
+                    SeriesChangeType.APPEND, Math.max(last + 1 - count, 0),
+                    last, Math.min(Math.max(remove, 0), oldCount)));
+        }
+        else {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Deletes a range of items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param start  the start index (zero-based).
+     * @param end  the end index (zero-based).
+     */
+    @Override
+    public void delete(int start, int end) {
+        if (start < 0 || end >= this.itemCount || start > end + 1) {
+            throw new IndexOutOfBoundsException("Invalid range: " + start
+                    + " to " + end);
+        }
+        removeRange(start, end + 1);
+        findBoundsByIteration();
+        if (start == 0) {
+            fireSeriesChanged(new SeriesChangeEvent(this,
+                    SeriesChangeType.REMOVE_FIRST, -1, -1, end + 1));
+        }
+        else {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Removes the item at the specified index and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the index.
+     *
+     * @return The item removed.
+     */
+    @Override
+    public XYDataItem remove(int index) {
+        checkIndex(index);
+        XYDataItem removed = createItem(index);
+        double x = this.xValues[index];
+        double y = this.yValues[index];
+        removeRange(index, index + 1);
+        updateBoundsForRemovedItem(x, y);
+        if (index == 0) {
+            fireSeriesChanged(new SeriesChangeEvent(this,
+                    SeriesChangeType.REMOVE_FIRST, -1, -1, 1));
+        }
+        else {
+            fireSeriesChanged();
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all data items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     */
+    @Override
+    public void clear() {
+        if (this.itemCount > 0) {
+            this.itemCount = 0;
+            this.xIndex = null;
+            this.yTree = null;
+            resetBounds();
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Returns a new data item containing the values at the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return The data item with the specified index.
+     */
+    @Override
+    public XYDataItem getDataItem(int index) {
+        checkIndex(index);
+        return createItem(index);
+    }
+
+    /**
+     * Returns a new data item containing the values at the specified index.
+     * Since this series does not store {@link XYDataItem} objects, changes
+     * to the returned item are not reflected in the series.
+     *
+     * @param index  the index.
+     *
+     * @return The data item with the specified index.
+     */
+    @Override
+    XYDataItem getRawDataItem(int index) {
+        return getDataItem(index);
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value (never <code>null</code>).
+     */
+    @Override
+    public Number getX(int index) {
+        return new Double(getXValue(index));
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (<code>null</code> for a missing value).
+     */
+    @Override
+    public Number getY(int index) {
+        double y = getYValue(index);
+        return Double.isNaN(y) ? null : new Double(y);
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int index) {
+        checkIndex(index);
+        return this.xValues[index];
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (<code>Double.NaN</code> for a missing value).
+     */
+    @Override
+    public double getYValue(int index) {
+        checkIndex(index);
+        return this.yValues[index];
+    }
+
+    /**
+     * Updates the value of an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the item (zero based index).
+     * @param y  the new value (<code>null</code> permitted).
+     *
+     * @deprecated Renamed {@link #updateByIndex(int, Number)} to avoid
+     *         confusion with the {@link #update(Number, Number)} method.
+     */
+    @Override
+    public void update(int index, Number y) {
+        updateByIndex(index, toDouble(y));
+    }
+
+    /**
+     * Updates the y-value of an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the item (zero based index).
+     * @param y  the new value (<code>Double.NaN</code> for a missing value).
+     */
+    public void updateByIndex(int index, double y) {
+        checkIndex(index);
+        setYValue(index, y);
+        fireSeriesChanged(new SeriesChangeEvent(this, SeriesChangeType.UPDATE,
+                index, index, 0));
+    }
+
+    /**
+     * Adds or updates an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     *
+     * @return The item that was overwritten, if any.
+     */
+    @Override
+    public XYDataItem addOrUpdate(double x, double y) {
+        if (getAllowDuplicateXValues()) {
+            add(x, y, true);
+            return null;
+        }
+        XYDataItem overwritten = null;
+        int index = indexOf(x);
+        if (index >= 0) {
+            overwritten = createItem(index);
+            setYValue(index, y);
+            fireSeriesChanged(new SeriesChangeEvent(this,
+                    SeriesChangeType.UPDATE, index, index, 0));
+        }
+        else {
+            add(x, y, true);
+        }
+        return overwritten;
+    }
+
+    /**
+     * Adds or updates an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the data item (<code>null</code> not permitted).
+     *
+     * @return A copy of the overwritten data item, or <code>null</code> if no
+     *         item was overwritten.
+     */
+    @Override
+    public XYDataItem addOrUpdate(XYDataItem item) {
+        ParamChecks.nullNotPermitted(item, "item");
+        return addOrUpdate(item.getXValue(), item.getYValue());
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if the series does not contain an item with that x-value.
+     *
+     * @param x  the x-value (<code>null</code> not permitted).
+     *
+     * @return The index.
+     */
+    @Override
+    public int indexOf(Number x) {
+        ParamChecks.nullNotPermitted(x, "x");
+        return indexOf(x.doubleValue());
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if the series does not contain an item with that x-value.  For a
+     * sorted series the negative value encodes the insertion point in the
+     * same way as <code>Arrays.binarySearch()</code>, for an unsorted series
+     * it is always <code>-1</code> (and the lookup uses a hash index that is
+     * built on the first call).
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     */
+    public int indexOf(double x) {
+        if (getAutoSort()) {
+            return Arrays.binarySearch(this.xValues, 0, this.itemCount, x);
+        }
+        if (Double.isNaN(x)) {
+            return -1;
+        }
+        if (this.xIndex == null) {
+            this.xIndex = new XValueIndex(this.itemCount);
+            for (int i = 0; i < this.itemCount; i++) {
+                appendToXIndex(this.xValues[i], i);
+            }
+        }
+        return this.xIndex.get(key(x));
+    }
+
+    /**
+     * Returns a new array containing the x and y values from this series.
+     *
+     * @return A new array containing the x and y values from this series.
+     */
+    @Override
+    public double[][] toArray() {
+        double[][] result = new double[2][];
+        result[0] = Arrays.copyOf(this.xValues, this.itemCount);
+        result[1] = Arrays.copyOf(this.yValues, this.itemCount);
+        return result;
+    }
+
+    /**
+     * Returns a clone of the series.
+     *
+     * @return A clone of the series.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        PrimitiveXYSeries clone = (PrimitiveXYSeries) super.clone();
+        clone.xValues = Arrays.copyOf(this.xValues, this.itemCount);
+        clone.yValues = Arrays.copyOf(this.yValues, this.itemCount);
+        clone.xIndex = null;
+        clone.yTree = null;
+        return clone;
+    }
+
+    /**
+     * Creates a new series by copying a subset of the data in this series.
+     *
+     * @param start  the index of the first item to copy.
+     * @param end  the index of the last item to copy.
+     *
+     * @return A series containing a copy of this series from start until end.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    public XYSeries createCopy(int start, int end)
+            throws CloneNotSupportedException {
+        PrimitiveXYSeries copy = (PrimitiveXYSeries) super.clone();
+        copy.xIndex = null;
+        copy.yTree = null;
+        if (this.itemCount > 0) {
+            copy.xValues = Arrays.copyOfRange(this.xValues, start, end + 1);
+            copy.yValues = Arrays.copyOfRange(this.yValues, start, end + 1);
+            copy.itemCount = end - start + 1;
+        }
+        else {
+            copy.xValues = new double[0];
+            copy.yValues = new double[0];
+            copy.itemCount = 0;
+        }
+        copy.findBoundsByIteration();
+        return copy;
+    }
+
+    /**
+     * Tests this series for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against for equality
+     *             (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof PrimitiveXYSeries)) {
+            return false;
+        }
+        if (!super.equals(obj)) {
+            return false;
+        }
+        PrimitiveXYSeries that = (PrimitiveXYSeries) obj;
+        if (this.itemCount != that.itemCount) {
+            return false;
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            if (Double.doubleToLongBits(this.xValues[i])
+                    != Double.doubleToLongBits(that.xValues[i])) {
+                return false;
+            }
+            if (Double.doubleToLongBits(this.yValues[i])
+                    != Double.doubleToLongBits(that.yValues[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * Creates a new data item for the values at the specified index.
+     *
+     * @param index  the index (assumed to be valid).
+     *
+     * @return A new data item.
+     */
+    private XYDataItem createItem(int index) {
+        double y = this.yValues[index];
+        return new XYDataItem(new Double(this.xValues[index]),
+                Double.isNaN(y) ? null : new Double(y));
+    }
+
+    /**
+     * Checks that an index is within the bounds of the series.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.itemCount);
+        }
+    }
+
+    /**
+     * Converts a possibly <code>null</code> number to a double primitive.
+     *
+     * @param n  the number (<code>null</code> permitted).
+     *
+     * @return The value, or <code>Double.NaN</code>.
+     */
+    private static double toDouble(Number n) {
+        return n != null ? n.doubleValue() : Double.NaN;
+    }
+
+    /**
+     * Returns the index at which an item with the specified x-value should
+     * be inserted in a sorted series (that is, after any existing items with
+     * the same x-value).
+     *
+     * @param x  the x-value.
+     *
+     * @return The insertion index.
+     */
+    private int findInsertionIndex(double x) {
+        int low = 0;
+        int high = this.itemCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.xValues[mid] <= x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first item in a sorted series with an x-value
+     * greater than or equal to the specified value.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     */
+    private int findFirstIndex(double x) {
+        int low = 0;
+        int high = this.itemCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.xValues[mid] < x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns <code>true</code> if the values in an array are in ascending
+     * order, and <code>false</code> otherwise.
+     *
+     * @param values  the values.
+     *
+     * @return A boolean.
+     */
+    private static boolean isSorted(double[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] < values[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Throws an exception if two adjacent values in a sorted array are equal.
+     *
+     * @param values  the values.
+     * @param count  the number of values to check.
+     *
+     * @throws SeriesException if a duplicate is found.
+     */
+    private static void checkForDuplicates(double[] values, int count) {
+        for (int i = 1; i < count; i++) {
+            if (values[i] == values[i - 1]) {
+                throw new SeriesException("X-value already exists.");
+            }
+        }
+    }
+
+    /**
+     * Sorts a pair of arrays into ascending order of x-value, using a stable
+     * (bottom-up merge) sort so that items with the same x-value keep their
+     * original order.
+     *
+     * @param x  the x-values.
+     * @param y  the y-values (reordered to match the x-values).
+     */
+    private static void sortByXValue(double[] x, double[] y) {
+        int n = x.length;
+        double[] srcX = x;
+        double[] srcY = y;
+        double[] dstX = new double[n];
+        double[] dstY = new double[n];
+        for (int width = 1; width < n; width = width * 2) {
+            for (int low = 0; low < n; low += 2 * width) {
+                int mid = Math.min(low + width, n);
+                int high = Math.min(low + 2 * width, n);
+                int i = low;
+                int j = mid;
+                for (int k = low; k < high; k++) {
+                    if (j == high || (i < mid && srcX[i] <= srcX[j])) {
+                        dstX[k] = srcX[i];
+                        dstY[k] = srcY[i++];
+                    }
+                    else {
+                        dstX[k] = srcX[j];
+                        dstY[k] = srcY[j++];
+                    }
+                }
+            }
+            double[] tmp = srcX;
+            srcX = dstX;
+            dstX = tmp;
+            tmp = srcY;
+            srcY = dstY;
+            dstY = tmp;
+        }
+        if (srcX != x) {
+            System.arraycopy(srcX, 0, x, 0, n);
+            System.arraycopy(srcY, 0, y, 0, n);
+        }
+    }
+
+    /**
+     * Inserts an item at the specified index, growing the storage if
+     * necessary.
+     *
+     * @param index  the index.
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void insert(int index, double x, double y) {
+        ensureCapacity(this.itemCount + 1);
+        if (index < this.itemCount) {
+            System.arraycopy(this.xValues, index, this.xValues, index + 1,
+                    this.itemCount - index);
+            System.arraycopy(this.yValues, index, this.yValues, index + 1,
+                    this.itemCount - index);
+        }
+        this.xValues[index] = x;
+        this.yValues[index] = y;
+        if (index == this.itemCount) {
+            appendToXIndex(x, index);
+            appendToYTree(x, y);
+        }
+        else {
+            this.xIndex = null;
+            this.yTree = null;
+        }
+        this.itemCount++;
+    }
+
+    /**
+     * Removes the items from <code>start</code> (inclusive) to
+     * <code>end</code> (exclusive), without updating the bounds or sending a
+     * change event.
+     *
+     * @param start  the start index.
+     * @param end  the end index.
+     */
+    private void removeRange(int start, int end) {
+        if (this.yTree != null) {
+            if (start == 0) {
+                this.yTree.removeFirst(end);
+            }
+            else {
+                this.yTree = null;
+            }
+        }
+        if (this.xIndex != null) {
+            if (start == 0 && !getAllowDuplicateXValues()) {
+                for (int i = start; i < end && this.xIndex != null; i++) {
+                    if (!this.xIndex.removeFirst(key(this.xValues[i]))) {
+                        this.xIndex = null;
+                    }
+                }
+            }
+            else if (end == this.itemCount) {
+                for (int i = end - 1; i >= start; i--) {
+                    this.xIndex.removeLast(key(this.xValues[i]), i);
+                }
+            }
+            else {
+                this.xIndex = null;
+            }
+        }
+        int tail = this.itemCount - end;
+        if (tail > 0) {
+            System.arraycopy(this.xValues, end, this.xValues, start, tail);
+            System.arraycopy(this.yValues, end, this.yValues, start, tail);
+        }
+        this.itemCount -= (end - start);
+    }
+
+    /**
+     * Adds an item that was appended to the end of the series to the x-value
+     * index, if it is in use.  <code>Double.NaN</code> values are not
+     * indexed, since they never match in {@link #indexOf(double)}.
+     *
+     * @param x  the x-value.
+     * @param index  the index of the item.
+     */
+    private void appendToXIndex(double x, int index) {
+        if (this.xIndex != null && !Double.isNaN(x)) {
+            this.xIndex.append(key(x), index);
+        }
+    }
+
+    /**
+     * Adds the y-value of an item that was appended to the end of the series
+     * to the min/max tree, if it is in use.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void appendToYTree(double x, double y) {
+        if (this.yTree != null) {
+            if (Double.isNaN(x)) {
+                this.yTree = null;  // binary search would not work
+            }
+            else if (Double.isNaN(y)) {
+                this.yTree.addMissing();
+            }
+            else {
+                this.yTree.add(y);
+            }
+        }
+    }
+
+    /**
+     * Builds the min/max tree for a sorted series, if it does not already
+     * exist.  The tree is not built if the series contains a
+     * <code>Double.NaN</code> x-value (and no further attempt is made until
+     * the series changes).
+     *
+     * @return A boolean indicating whether the tree is available.
+     */
+    private boolean buildYTree() {
+        if (this.yTree != null) {
+            return true;
+        }
+        if (this.yTreeUnavailable
+                && this.yTreeUnavailableVersion == getVersion()) {
+            return false;
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            if (Double.isNaN(this.xValues[i])) {
+                this.yTreeUnavailable = true;
+                this.yTreeUnavailableVersion = getVersion();
+                return false;
+            }
+        }
+        this.yTree = new MinMaxTree(this.itemCount);
+        for (int i = 0; i < this.itemCount; i++) {
+            double y = this.yValues[i];
+            if (Double.isNaN(y)) {
+                this.yTree.addMissing();
+            }
+            else {
+                this.yTree.add(y);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the x-value index key for an x-value.  Adding zero maps
+     * <code>-0.0</code> to <code>0.0</code>, so that the keys match the
+     * <code>==</code> comparison used for x-values in this class.
+     *
+     * @param x  the x-value.
+     *
+     * @return The key.
+     */
+    private static long key(double x) {
+        return XValueIndex.key(x + 0.0);
+    }
+
+    /**
+     * Ensures that the storage can hold at least the specified number of
+     * items.
+     *
+     * @param capacity  the required capacity.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > this.xValues.length) {
+            int newCapacity = Math.max(capacity,
+                    this.xValues.length + (this.xValues.length >> 1) + 1);
+            this.xValues = Arrays.copyOf(this.xValues, newCapacity);
+            this.yValues = Arrays.copyOf(this.yValues, newCapacity);
+        }
+    }
+
+    /**
+     * Sets the y-value at the specified index and updates the cached bounds.
+     *
+     * @param index  the index (assumed to be valid).
+     * @param y  the new y-value.
+     */
+    private void setYValue(int index, double y) {
+        double oldY = this.yValues[index];
+        this.yValues[index] = y;
+        if (this.yTree != null) {
+            if (Double.isNaN(y)) {
+                this.yTree.setMissing(index);
+            }
+            else {
+                this.yTree.set(index, y);
+            }
+        }
+        if (!Double.isNaN(oldY) && (oldY <= this.minY || oldY >= this.maxY)) {
+            findBoundsByIteration();
+        }
+        else if (!Double.isNaN(y)) {
+            this.minY = minIgnoreNaN(this.minY, y);
+            this.maxY = maxIgnoreNaN(this.maxY, y);
+        }
+    }
+
+    /**
+     * Resets the cached bounds to <code>Double.NaN</code>.
+     */
+    private void resetBounds() {
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values.
+     *
+     * @param x  the x-value of the added item.
+     * @param y  the y-value of the added item.
+     */
+    private void updateBoundsForAddedItem(double x, double y) {
+        this.minX = minIgnoreNaN(this.minX, x);
+        this.maxX = maxIgnoreNaN(this.maxX, x);
+        this.minY = minIgnoreNaN(this.minY, y);
+        this.maxY = maxIgnoreNaN(this.maxY, y);
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values on
+     * the basis that an item with the specified values has just been removed.
+     *
+     * @param x  the x-value of the removed item.
+     * @param y  the y-value of the removed item.
+     */
+    private void updateBoundsForRemovedItem(double x, double y) {
+        boolean xBound = !Double.isNaN(x) && (x <= this.minX
+                || x >= this.maxX);
+        boolean yBound = !Double.isNaN(y) && (y <= this.minY
+                || y >= this.maxY);
+        if (yBound) {
+            findBoundsByIteration();
+        }
+        else if (xBound) {
+            if (getAutoSort() && this.itemCount > 0) {
+                this.minX = this.xValues[0];
+                this.maxX = this.xValues[this.itemCount - 1];
+            }
+            else {
+                findBoundsByIteration();
+            }
+        }
+    }
+
+    /**
+     * Finds the bounds of the x and y values for the series by scanning the
+     * x and y columns.
+     */
+    private void findBoundsByIteration() {
+        resetBounds();
+        for (int i = 0; i < this.itemCount; i++) {
+            updateBoundsForAddedItem(this.xValues[i], this.yValues[i]);
+        }
+    }
+
+    /**
+     * A function to find the minimum of two values, but ignoring any
+     * Double.NaN values.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The minimum of the two values.
+     */
+    private static double minIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.min(a, b);
+    }
+
+    /**
+     * A function to find the maximum of two values, but ignoring any
+     * Double.NaN values.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The maximum of the two values.
+     */
+    private static double maxIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.max(a, b);
+    }
+
+}
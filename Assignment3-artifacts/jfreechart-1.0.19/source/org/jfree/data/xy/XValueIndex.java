@@ -0,0 +1,266 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------
+ * XValueIndex.java
+ * ----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.Arrays;
+
+/**
+ * A hash index from x-values to item positions, used by {@link XYSeries} and
+ * {@link PrimitiveXYSeries} to find items by x-value in an unsorted series
+ * without scanning all the items.  Keys are the bits of a
+ * <code>double</code> (see {@link #key(double)}) held in an open addressing
+ * table, so no <code>Number</code> instances are created.  Where several
+ * items have the same x-value, the index records the position of the first.
+ * <P>
+ * Positions are stored relative to an offset that is incremented when the
+ * first item in the series is removed, so evicting the oldest item (for a
+ * series with a maximum item count) does not require the other positions to
+ * be renumbered.  Other structural changes are handled by the series
+ * discarding the index and rebuilding it when it is next required.
+ */
+class XValueIndex {
+
+    /** The marker for an empty slot. */
+    private static final int EMPTY = -1;
+
+    /** The offset at which the index should be rebuilt. */
+    private static final int MAXIMUM_OFFSET = 1 << 30;
+
+    /** The keys. */
+    private long[] keys;
+
+    /** The positions plus the offset (or EMPTY for an empty slot). */
+    private int[] slots;
+
+    /** The number of keys in the index. */
+    private int size;
+
+    /** The number of items removed from the start of the series. */
+    private int offset;
+
+    /**
+     * Creates a new empty index.
+     *
+     * @param expectedSize  the number of keys expected.
+     */
+    XValueIndex(int expectedSize) {
+        int capacity = 16;
+        while (capacity < (1 << 30) && capacity * 3 / 4 <= expectedSize) {
+            capacity = capacity << 1;
+        }
+        this.keys = new long[capacity];
+        this.slots = new int[capacity];
+        Arrays.fill(this.slots, EMPTY);
+    }
+
+    /**
+     * Returns the key for an x-value.  This is consistent with
+     * <code>Double.equals()</code>, so all <code>Double.NaN</code> values
+     * share a key, and <code>0.0</code> and <code>-0.0</code> do not.
+     *
+     * @param x  the x-value.
+     *
+     * @return The key.
+     */
+    static long key(double x) {
+        return Double.doubleToLongBits(x);
+    }
+
+    /**
+     * Returns the number of keys in the index.
+     *
+     * @return The number of keys.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the position of the first item with the specified key.
+     *
+     * @param key  the key.
+     *
+     * @return The position, or <code>-1</code> if the key is not in the
+     *     index.
+     */
+    int get(long key) {
+        int i = find(key);
+        return this.slots[i] == EMPTY ? -1 : this.slots[i] - this.offset;
+    }
+
+    /**
+     * Records the position of an item added at the end of the series.  If
+     * the index already contains the key, it is not changed (since the
+     * earlier item comes first).
+     *
+     * @param key  the key.
+     * @param position  the position of the item in the series.
+     */
+    void append(long key, int position) {
+        int i = find(key);
+        if (this.slots[i] != EMPTY) {
+            return;
+        }
+        this.keys[i] = key;
+        this.slots[i] = position + this.offset;
+        this.size++;
+        if (this.size * 4 > this.slots.length * 3) {
+            rehash(this.slots.length * 2);
+        }
+    }
+
+    /**
+     * Updates the index for the removal of the first item in the series.
+     * This is only valid if the series contains no other item with the same
+     * key.
+     *
+     * @param key  the key of the item that was removed.
+     *
+     * @return <code>false</code> if the index should be discarded and
+     *     rebuilt (which happens after a very large number of removals).
+     */
+    boolean removeFirst(long key) {
+        remove(key, this.offset);
+        this.offset++;
+        return this.offset < MAXIMUM_OFFSET;
+    }
+
+    /**
+     * Updates the index for the removal of the last item in the series.
+     *
+     * @param key  the key of the item that was removed.
+     * @param position  the position of the item that was removed.
+     */
+    void removeLast(long key, int position) {
+        remove(key, position + this.offset);
+    }
+
+    /**
+     * Removes a key from the index, if it maps to the specified slot value.
+     * Uses backward shift deletion, so the table never contains tombstones.
+     *
+     * @param key  the key.
+     * @param value  the slot value (position plus offset).
+     */
+    private void remove(long key, int value) {
+        int hole = find(key);
+        if (this.slots[hole] != value) {
+            return;
+        }
+        int mask = this.slots.length - 1;
+        int j = hole;
+        while (true) {
+            j = (j + 1) & mask;
+            if (this.slots[j] == EMPTY) {
+                break;
+            }
+            int home = hash(this.keys[j]) & mask;
+            // the entry at j can fill the hole unless its home slot lies
+            // (cyclically) after the hole
+            boolean after = hole <= j ? (home > hole && home <= j)
+                    : (home > hole || home <= j);
+            if (!after) {
+                this.keys[hole] = this.keys[j];
+                this.slots[hole] = this.slots[j];
+                hole = j;
+            }
+        }
+        this.slots[hole] = EMPTY;
+        this.size--;
+    }
+
+    /**
+     * Returns the slot containing the specified key or, if the key is not in
+     * the index, the empty slot where it would be added.
+     *
+     * @param key  the key.
+     *
+     * @return The slot index.
+     */
+    private int find(long key) {
+        int mask = this.slots.length - 1;
+        int i = hash(key) & mask;
+        while (this.slots[i] != EMPTY && this.keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    /**
+     * Moves the keys into a table with the specified capacity.
+     *
+     * @param capacity  the new capacity (a power of two).
+     */
+    private void rehash(int capacity) {
+        long[] oldKeys = this.keys;
+        int[] oldSlots = this.slots;
+        this.keys = new long[capacity];
+        this.slots = new int[capacity];
+        Arrays.fill(this.slots, EMPTY);
+        for (int i = 0; i < oldSlots.length; i++) {
+            if (oldSlots[i] != EMPTY) {
+                int j = find(oldKeys[i]);
+                this.keys[j] = oldKeys[i];
+                this.slots[j] = oldSlots[i];
+            }
+        }
+    }
+
+    /**
+     * Mixes all the bits of a key into the low bits of the hash code, since
+     * the low bits of a <code>double</code> are often all zero (this is the
+     * finalisation step of the MurmurHash3 algorithm).
+     *
+     * @param key  the key.
+     *
+     * @return A hash code.
+     */
+    private static int hash(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+}
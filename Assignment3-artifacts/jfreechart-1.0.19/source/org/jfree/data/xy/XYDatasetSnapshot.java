@@ -0,0 +1,435 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * XYDatasetSnapshot.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Added getSource() (G14);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import org.jfree.data.DomainOrder;
+
+/**
+ * An immutable copy of the values in an {@link XYDataset}, as published by
+ * an {@link XYSnapshotPublisher}.  Since a snapshot never changes, it can be
+ * read by any number of threads (for example, to draw a chart) while the
+ * source dataset is being updated by another thread.
+ * <P>
+ * The values are held in fixed size segments that are shared between
+ * successive snapshots, so publishing a snapshot after items have been
+ * appended to a series does not copy the existing values.
+ * <P>
+ * The x-interval for each item is either copied from the source dataset or
+ * (for datasets where the interval is the same for every item) derived from
+ * the x-value.  The y-interval is always the y-value.
+ *
+ * @see XYSnapshotSource
+ *
+ * @since 1.0.20
+ */
+public class XYDatasetSnapshot extends AbstractIntervalXYDataset {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -6327402213486720251L;
+
+    /** The number of bits in an index within a segment. */
+    static final int SEGMENT_BITS = 10;
+
+    /** The number of values in a segment. */
+    static final int SEGMENT_SIZE = 1 << SEGMENT_BITS;
+
+    /** The column holding the x-values. */
+    static final int X = 0;
+
+    /** The column holding the y-values. */
+    static final int Y = 1;
+
+    /** The column holding the starting x-values (if any). */
+    static final int START_X = 2;
+
+    /** The column holding the ending x-values (if any). */
+    static final int END_X = 3;
+
+    /** The series keys. */
+    private final Comparable[] keys;
+
+    /**
+     * The values, indexed by series, column, segment and position within
+     * the segment.
+     */
+    private final double[][][][] values;
+
+    /**
+     * The position of the first item of each series within its first
+     * segment.
+     */
+    private final int[] offsets;
+
+    /** The number of items in each series. */
+    private final int[] itemCounts;
+
+    /** The order of the x-values. */
+    private final DomainOrder domainOrder;
+
+    /**
+     * The distance from the start of the x-interval to the x-value, used
+     * when there is no {@link #START_X} column.
+     */
+    private final double startXOffset;
+
+    /**
+     * The distance from the x-value to the end of the x-interval, used when
+     * there is no {@link #END_X} column.
+     */
+    private final double endXOffset;
+
+    /**
+     * The dataset that the snapshot was taken from (not serialized, so
+     * <code>null</code> for a deserialized snapshot).
+     */
+    private final transient XYDataset source;
+
+    /**
+     * Creates a new snapshot that does not refer to a source dataset.  The
+     * arrays are not copied, and must not be modified later (except for the
+     * elements of a segment that follow the last item of a series).
+     *
+     * @param keys  the series keys.
+     * @param values  the value segments for each series (two columns, or
+     *     four if the x-intervals are included).
+     * @param offsets  the position of the first item of each series.
+     * @param itemCounts  the number of items in each series.
+     * @param domainOrder  the order of the x-values.
+     * @param startXOffset  the distance from the start of the x-interval to
+     *     the x-value.
+     * @param endXOffset  the distance from the x-value to the end of the
+     *     x-interval.
+     */
+    XYDatasetSnapshot(Comparable[] keys, double[][][][] values,
+            int[] offsets, int[] itemCounts, DomainOrder domainOrder,
+            double startXOffset, double endXOffset) {
+        this(keys, values, offsets, itemCounts, domainOrder, startXOffset,
+                endXOffset, null);
+    }
+
+    /**
+     * Creates a new snapshot.  The arrays are not copied, and must not be
+     * modified later (except for the elements of a segment that follow the
+     * last item of a series).
+     *
+     * @param keys  the series keys.
+     * @param values  the value segments for each series (two columns, or
+     *     four if the x-intervals are included).
+     * @param offsets  the position of the first item of each series.
+     * @param itemCounts  the number of items in each series.
+     * @param domainOrder  the order of the x-values.
+     * @param startXOffset  the distance from the start of the x-interval to
+     *     the x-value.
+     * @param endXOffset  the distance from the x-value to the end of the
+     *     x-interval.
+     * @param source  the dataset that the snapshot was taken from
+     *     (<code>null</code> permitted).
+     */
+    XYDatasetSnapshot(Comparable[] keys, double[][][][] values,
+            int[] offsets, int[] itemCounts, DomainOrder domainOrder,
+            double startXOffset, double endXOffset, XYDataset source) {
+        this.source = source;
+        this.keys = keys;
+        this.values = values;
+        this.offsets = offsets;
+        this.itemCounts = itemCounts;
+        this.domainOrder = domainOrder;
+        this.startXOffset = startXOffset;
+        this.endXOffset = endXOffset;
+    }
+
+    /**
+     * Returns the dataset that the snapshot was taken from.  This is the
+     * dataset that is registered with a plot, so a plot uses it to find the
+     * dataset index for a snapshot, and the entities created when a
+     * snapshot is drawn refer to it.  The source dataset may have changed
+     * since the snapshot was taken, so read the values from the snapshot.
+     *
+     * @return The source dataset (possibly <code>null</code>).
+     */
+    public XYDataset getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the order of the x-values, as reported by the source dataset.
+     *
+     * @return The order (never <code>null</code>).
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return this.domainOrder;
+    }
+
+    /**
+     * Returns the number of series in the snapshot.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.keys.length;
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The key for the series.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return this.keys[series];
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.itemCounts[series];
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the item index (in the range <code>0</code> to
+     *     <code>getItemCount(series) - 1</code>).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return value(series, X, item);
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the item index (in the range <code>0</code> to
+     *     <code>getItemCount(series) - 1</code>).
+     *
+     * @return The y-value (<code>Double.NaN</code> for a missing value).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return value(series, Y, item);
+    }
+
+    /**
+     * Returns the starting x-value for an item within a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the item index (in the range <code>0</code> to
+     *     <code>getItemCount(series) - 1</code>).
+     *
+     * @return The starting x-value.
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
+        if (this.values[series].length > START_X) {
+            return value(series, START_X, item);
+        }
+        return value(series, X, item) - this.startXOffset;
+    }
+
+    /**
+     * Returns the ending x-value for an item within a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the item index (in the range <code>0</code> to
+     *     <code>getItemCount(series) - 1</code>).
+     *
+     * @return The ending x-value.
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
+        if (this.values[series].length > END_X) {
+            return value(series, END_X, item);
+        }
+        return value(series, X, item) + this.endXOffset;
+    }
+
+    /**
+     * Returns the starting y-value for an item within a series (this is
+     * the same as the y-value).
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The starting y-value.
+     */
+    @Override
+    public double getStartYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the ending y-value for an item within a series (this is the
+     * same as the y-value).
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The ending y-value.
+     */
+    @Override
+    public double getEndYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return new Double(getXValue(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value (<code>null</code> for a missing value).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        double y = getYValue(series, item);
+        return Double.isNaN(y) ? null : new Double(y);
+    }
+
+    /**
+     * Returns the starting x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The starting x-value.
+     */
+    @Override
+    public Number getStartX(int series, int item) {
+        return new Double(getStartXValue(series, item));
+    }
+
+    /**
+     * Returns the ending x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The ending x-value.
+     */
+    @Override
+    public Number getEndX(int series, int item) {
+        return new Double(getEndXValue(series, item));
+    }
+
+    /**
+     * Returns the starting y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The starting y-value (<code>null</code> for a missing value).
+     */
+    @Override
+    public Number getStartY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the ending y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The ending y-value (<code>null</code> for a missing value).
+     */
+    @Override
+    public Number getEndY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns a value from one column of a series.
+     *
+     * @param series  the series index.
+     * @param column  the column.
+     * @param item  the item index.
+     *
+     * @return The value.
+     *
+     * @throws IndexOutOfBoundsException if <code>item</code> is not in the
+     *     range <code>0</code> to <code>getItemCount(series) - 1</code>.
+     */
+    private double value(int series, int column, int item) {
+        if (item < 0 || item >= this.itemCounts[series]) {
+            throw new IndexOutOfBoundsException("Index " + item
+                    + " out of bounds for series with "
+                    + this.itemCounts[series] + " items.");
+        }
+        int i = this.offsets[series] + item;
+        return this.values[series][column][i >> SEGMENT_BITS][
+                i & (SEGMENT_SIZE - 1)];
+    }
+
+}
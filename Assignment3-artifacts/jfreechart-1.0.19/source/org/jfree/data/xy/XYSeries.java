@@ -75,20 +75,42 @@
  * 10-Jun-2009 : Make clones to isolate XYDataItem instances used
  *               for data storage (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 18-Oct-2026 : Added getXValue(int) and getYValue(int) methods (G14);
+ * 18-Oct-2026 : Use ring buffer storage when a maximum item count is set,
+ *               and track bounds incrementally as items are evicted (G14);
+ * 18-Oct-2026 : Added addAll(double[], double[]) method (G14);
+ * 18-Oct-2026 : Added a hash index for x-value lookups in unsorted
+ *               series (G14);
+ * 18-Oct-2026 : Added findValueRange(Range) method, backed by a min/max
+ *               tree for sorted series (G14);
+ * 18-Oct-2026 : Increment the version for changes made without sending a
+ *               change event (G14);
+ * 18-Oct-2026 : Describe appended, removed and updated items in change
+ *               events (G14);
+ * 18-Oct-2026 : Keep the bounds trackers and min/max tree when addAll()
+ *               only appends items (G14);
+ * 18-Oct-2026 : Don't retry building the min/max tree until the series
+ *               changes (G14);
  * 
  */
 
 package org.jfree.data.xy;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import org.jfree.chart.util.ParamChecks;
 
+import org.jfree.data.Range;
+import org.jfree.data.general.MinMaxTree;
+import org.jfree.data.general.RingBufferList;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
+import org.jfree.data.general.WindowedMinMax;
 import org.jfree.util.ObjectUtilities;
 
 /**
@@ -134,6 +156,42 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     /** The highest y-value in the series, excluding Double.NaN values. */
     private double maxY;
 
+    /**
+     * Tracks the x-bounds of an unsorted series while items are only appended
+     * and evicted (<code>null</code> if not currently tracking).
+     */
+    private transient WindowedMinMax xWindow;
+
+    /**
+     * Tracks the y-bounds of the series while items are only appended and
+     * evicted (<code>null</code> if not currently tracking).
+     */
+    private transient WindowedMinMax yWindow;
+
+    /**
+     * An index of the x-values for an unsorted series, built when the first
+     * lookup by x-value is made (and discarded after any change that cannot
+     * be applied to it directly).
+     */
+    private transient XValueIndex xIndex;
+
+    /**
+     * A min/max tree over the y-values of a sorted series, built when the
+     * first call to {@link #findValueRange(Range)} is made and kept up to
+     * date while items are only appended and evicted.
+     */
+    private transient MinMaxTree yTree;
+
+    /**
+     * A flag that records that the min/max tree could not be built (because
+     * of a <code>Double.NaN</code> x-value), so that no attempt is made to
+     * build it again until the series changes.
+     */
+    private transient boolean yTreeUnavailable;
+
+    /** The version of the series when the min/max tree could not be built. */
+    private transient long yTreeUnavailableVersion;
+
     /**
      * Creates a new empty series.  By default, items added to the series will
      * be sorted into ascending order by x-value, and duplicate x-values will
@@ -239,6 +297,115 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         return this.maxY;
     }
 
+    /**
+     * Returns the range of the y-values for the items in the series that have
+     * an x-value within the specified range, ignoring <code>null</code> and
+     * <code>Double.NaN</code> y-values.  For a sorted series, the first call
+     * to this method builds a min/max tree of the y-values, so that this and
+     * later calls take logarithmic time (the tree is kept up to date as items
+     * are appended to, or evicted from, the series and is rebuilt after any
+     * other change).
+     *
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     *
+     * @return The range of y-values (<code>null</code> if there are no
+     *     y-values for items in the x-range).
+     *
+     * @since 1.0.20
+     */
+    public Range findValueRange(Range xRange) {
+        ParamChecks.nullNotPermitted(xRange, "xRange");
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        if (this.autoSort && buildYTree()) {
+            int start = findFirstIndex(xRange.getLowerBound(), false);
+            int end = findFirstIndex(xRange.getUpperBound(), true);
+            if (start < end) {
+                lower = this.yTree.getMinimum(start, end);
+                upper = this.yTree.getMaximum(start, end);
+            }
+        }
+        else {
+            int count = this.data.size();
+            for (int i = 0; i < count; i++) {
+                XYDataItem item = (XYDataItem) this.data.get(i);
+                double y = item.getYValue();
+                if (xRange.contains(item.getXValue()) && !Double.isNaN(y)) {
+                    lower = Math.min(lower, y);
+                    upper = Math.max(upper, y);
+                }
+            }
+        }
+        if (lower == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Builds the min/max tree for a sorted series, if it does not already
+     * exist.  The tree is not built if the series contains a
+     * <code>Double.NaN</code> x-value, because then the items cannot be
+     * found by a binary search (and no further attempt is made until the
+     * series changes).
+     *
+     * @return A boolean indicating whether the tree is available.
+     */
+    private boolean buildYTree() {
+        if (this.yTree != null) {
+            return true;
+        }
+        if (this.yTreeUnavailable
+                && this.yTreeUnavailableVersion == getVersion()) {
+            return false;
+        }
+        int count = this.data.size();
+        MinMaxTree tree = new MinMaxTree(count);
+        this.yTree = tree;
+        double previous = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            XYDataItem item = (XYDataItem) this.data.get(i);
+            double x = item.getXValue();
+            if (!(x >= previous)) {
+                this.yTree = null;
+                this.yTreeUnavailable = true;
+                this.yTreeUnavailableVersion = getVersion();
+                return false;
+            }
+            previous = x;
+            addToYTree(item);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the first item in a sorted series with an x-value
+     * greater than (or equal to, if <code>inclusive</code> is
+     * <code>false</code>) the specified value.
+     *
+     * @param x  the x-value.
+     * @param inclusive  if <code>true</code>, items with an x-value equal to
+     *     <code>x</code> are skipped.
+     *
+     * @return The index (<code>getItemCount()</code> if there is no such
+     *     item).
+     */
+    private int findFirstIndex(double x, boolean inclusive) {
+        int low = 0;
+        int high = this.data.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            double midX = ((XYDataItem) this.data.get(mid)).getXValue();
+            if (midX < x || (inclusive && midX == x)) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
     /**
      * Updates the cached values for the minimum and maximum data values.
      *
@@ -314,6 +481,158 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         }
     }
 
+    /**
+     * Updates the cached bounds after the first item in the series has been
+     * evicted to respect the maximum item count.  For ring buffer storage
+     * the bounds are maintained by sliding window trackers, so no iteration
+     * is required while items are only appended and evicted.
+     *
+     * @param removed  the item that was removed (<code>null</code> not
+     *     permitted).
+     */
+    private void updateBoundsForEvictedItem(XYDataItem removed) {
+        if (this.yTree != null) {
+            this.yTree.removeFirst(1);
+        }
+        if (!(this.data instanceof RingBufferList)) {
+            updateBoundsForRemovedItem(removed);
+            return;
+        }
+        if (this.yWindow == null) {
+            double y = removed.getYValue();
+            boolean yBound = !Double.isNaN(y) && (y <= this.minY
+                    || y >= this.maxY);
+            double x = removed.getXValue();
+            boolean xBound = !this.autoSort && !Double.isNaN(x)
+                    && (x <= this.minX || x >= this.maxX);
+            if (!yBound && !xBound) {
+                if (this.autoSort) {
+                    updateBoundsForRemovedItem(removed);
+                }
+                return;
+            }
+            // (re)build the trackers from the items that remain, so that
+            // subsequent evictions do not require iteration
+            this.yWindow = new WindowedMinMax();
+            this.xWindow = this.autoSort ? null : new WindowedMinMax();
+            Iterator iterator = this.data.iterator();
+            while (iterator.hasNext()) {
+                appendToWindows((XYDataItem) iterator.next());
+            }
+        }
+        else {
+            this.yWindow.removeFirst();
+            if (this.xWindow != null) {
+                this.xWindow.removeFirst();
+            }
+        }
+        this.minY = this.yWindow.getMin();
+        this.maxY = this.yWindow.getMax();
+        if (this.xWindow != null) {
+            this.minX = this.xWindow.getMin();
+            this.maxX = this.xWindow.getMax();
+        }
+        else if (this.data.isEmpty()) {
+            this.minX = Double.NaN;
+            this.maxX = Double.NaN;
+        }
+        else {
+            this.minX = getX(0).doubleValue();
+            this.maxX = getX(getItemCount() - 1).doubleValue();
+        }
+    }
+
+    /**
+     * Adds an item that was appended to the end of the series to the bounds
+     * trackers, if they are in use.
+     *
+     * @param item  the item (<code>null</code> not permitted).
+     */
+    private void appendToWindows(XYDataItem item) {
+        if (this.yWindow != null) {
+            this.yWindow.append(item.getYValue());
+        }
+        if (this.xWindow != null) {
+            this.xWindow.append(item.getXValue());
+        }
+    }
+
+    /**
+     * Adds an item that was appended to the end of the series to the min/max
+     * tree, if it is in use.
+     *
+     * @param item  the item (<code>null</code> not permitted).
+     */
+    private void appendToYTree(XYDataItem item) {
+        if (this.yTree != null) {
+            if (Double.isNaN(item.getXValue())) {
+                this.yTree = null;  // binary search would not work
+            }
+            else {
+                addToYTree(item);
+            }
+        }
+    }
+
+    /**
+     * Adds the y-value of an item to the end of the min/max tree (a
+     * <code>null</code> or <code>Double.NaN</code> value is ignored by
+     * queries).
+     *
+     * @param item  the item (<code>null</code> not permitted).
+     */
+    private void addToYTree(XYDataItem item) {
+        double y = item.getYValue();
+        if (Double.isNaN(y)) {
+            this.yTree.addMissing();
+        }
+        else {
+            this.yTree.add(y);
+        }
+    }
+
+    /**
+     * Discards the bounds trackers, following a change to the series other
+     * than appending an item or evicting the first item.  The trackers will be
+     * rebuilt when they are next required.
+     */
+    private void invalidateWindows() {
+        this.xWindow = null;
+        this.yWindow = null;
+        this.yTree = null;
+    }
+
+    /**
+     * Adds an item that was appended to the end of the series to the x-value
+     * index, if it is in use.
+     *
+     * @param item  the item (<code>null</code> not permitted).
+     */
+    private void appendToXIndex(XYDataItem item) {
+        if (this.xIndex != null) {
+            this.xIndex.append(XValueIndex.key(item.getXValue()),
+                    this.data.size() - 1);
+        }
+    }
+
+    /**
+     * Updates the x-value index (if it is in use) after the first item in the
+     * series has been removed.
+     *
+     * @param removed  the item that was removed (<code>null</code> not
+     *     permitted).
+     */
+    private void removeFirstFromXIndex(XYDataItem removed) {
+        if (this.xIndex != null) {
+            // with duplicates, the index would need to find the next item
+            // with the same x-value, so it is simpler to rebuild it
+            if (this.allowDuplicateXValues || !this.xIndex.removeFirst(
+                    XValueIndex.key(removed.getXValue()))) {
+                this.xIndex = null;
+            }
+        }
+    }
+
     /**
      * Returns the flag that controls whether the items in the series are
      * automatically sorted.  There is no setter for this flag, it must be
@@ -385,11 +704,20 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public void setMaximumItemCount(int maximum) {
         this.maximumItemCount = maximum;
+        if (maximum < Integer.MAX_VALUE
+                && !(this.data instanceof RingBufferList)) {
+            // a capped series evicts its first item on every add, so use
+            // storage where that is a constant time operation
+            this.data = new RingBufferList(this.data);
+        }
+        invalidateWindows();
         int remove = this.data.size() - maximum;
         if (remove > 0) {
             this.data.subList(0, remove).clear();
+            this.xIndex = null;
             findBoundsByIteration();
-            fireSeriesChanged();
+            fireSeriesChanged(new SeriesChangeEvent(this,
+                    SeriesChangeType.REMOVE_FIRST, -1, -1, remove));
         }
     }
 
@@ -506,9 +834,11 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public void add(XYDataItem item, boolean notify) {
         ParamChecks.nullNotPermitted(item, "item");
         item = (XYDataItem) item.clone();
+        boolean appended = true;
         if (this.autoSort) {
             int index = Collections.binarySearch(this.data, item);
             if (index < 0) {
+                appended = (-index - 1 == this.data.size());
                 this.data.add(-index - 1, item);
             }
             else {
@@ -521,6 +851,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                     }
                     if (index < this.data.size()) {
                         this.data.add(index, item);
+                        appended = false;
                     }
                     else {
                         this.data.add(item);
@@ -541,15 +872,238 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                 }
             }
             this.data.add(item);
+            appendToXIndex(item);
         }
         updateBoundsForAddedItem(item);
+        if (appended) {
+            appendToWindows(item);
+            appendToYTree(item);
+        }
+        else {
+            invalidateWindows();
+        }
+        int removedCount = 0;
         if (getItemCount() > this.maximumItemCount) {
             XYDataItem removed = (XYDataItem) this.data.remove(0);
-            updateBoundsForRemovedItem(removed);
+            removeFirstFromXIndex(removed);
+            updateBoundsForEvictedItem(removed);
+            removedCount = 1;
         }
-        if (notify) {
+        if (notify && appended) {
+            int last = this.data.size() - 1;
+            fireSeriesChanged(new SeriesChangeEvent(this,
+                    SeriesChangeType.APPEND, last, last, removedCount));
+        }
+        else if (notify) {
             fireSeriesChanged();
         }
+        else {
+            incrementVersion();
+        }
+    }
+
+    /**
+     * Adds a block of data items to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.  This gives the
+     * same result as calling {@link #add(double, double, boolean)} for each
+     * item in turn (including the removal of items beyond the maximum item
+     * count), but is much faster for large arrays: if the series is sorted
+     * the new items are sorted once and merged with the existing items (or
+     * simply appended, when they all follow the existing items), and the
+     * bounds are updated once.
+     * <P>
+     * If any x-value is a duplicate AND the allowDuplicateXValues flag is
+     * false, an exception is thrown and the series is not changed.
+     *
+     * @param xValues  the x-values (<code>null</code> not permitted).
+     * @param yValues  the y-values (<code>null</code> not permitted, must
+     *     have the same length as <code>xValues</code>).
+     *
+     * @throws SeriesException if an x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     *
+     * @since 1.0.20
+     */
+    public void addAll(double[] xValues, double[] yValues) {
+        ParamChecks.nullNotPermitted(xValues, "xValues");
+        ParamChecks.nullNotPermitted(yValues, "yValues");
+        if (xValues.length != yValues.length) {
+            throw new IllegalArgumentException(
+                    "The 'xValues' and 'yValues' arrays must have equal "
+                    + "length.");
+        }
+        if (xValues.length == 0) {
+            return;
+        }
+        List items = new ArrayList(xValues.length);
+        for (int i = 0; i < xValues.length; i++) {
+            items.add(new XYDataItem(xValues[i], yValues[i]));
+        }
+        boolean appended = true;
+        if (this.autoSort) {
+            if (!isSorted(items)) {
+                Collections.sort(items);  // stable, so duplicates keep order
+            }
+            int c = -1;
+            if (!this.data.isEmpty()) {
+                XYDataItem last = (XYDataItem) this.data.get(
+                        this.data.size() - 1);
+                c = last.compareTo(items.get(0));
+            }
+            if (c < 0 || (c == 0 && this.allowDuplicateXValues)) {
+                // the new items all follow the existing items
+                if (!this.allowDuplicateXValues) {
+                    checkForDuplicates(items);
+                }
+            }
+            else {
+                items = merge(this.data, items);
+                appended = false;
+            }
+        }
+        else if (!this.allowDuplicateXValues) {
+            // check against the existing items, then within the new items
+            // (which all have Double x-values)
+            XValueIndex added = new XValueIndex(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                XYDataItem item = (XYDataItem) items.get(i);
+                long key = XValueIndex.key(item.getXValue());
+                if (indexOf(item.getX()) >= 0 || added.get(key) >= 0) {
+                    throw new SeriesException("X-value already exists.");
+                }
+                added.append(key, i);
+            }
+        }
+
+        // nothing has been changed until this point
+        int oldCount = this.data.size();
+        if (!appended) {
+            this.data.clear();
+        }
+        this.data.addAll(items);
+        if (this.xIndex != null) {
+            int position = this.data.size() - items.size();
+            for (int i = 0; i < items.size(); i++) {
+                XYDataItem item = (XYDataItem) items.get(i);
+                this.xIndex.append(XValueIndex.key(item.getXValue()),
+                        position + i);
+            }
+        }
+        if (appended) {
+            // the trackers cover the existing items, so they can be extended
+            Iterator iterator = items.iterator();
+            while (iterator.hasNext()) {
+                XYDataItem item = (XYDataItem) iterator.next();
+                appendToWindows(item);
+                appendToYTree(item);
+            }
+        }
+        else {
+            invalidateWindows();
+        }
+        int remove = this.data.size() - this.maximumItemCount;
+        if (remove > 0) {
+            List removed = this.data.subList(0, remove);
+            for (int i = 0; i < remove; i++) {
+                removeFirstFromXIndex((XYDataItem) removed.get(i));
+                if (this.yWindow != null) {
+                    this.yWindow.removeFirst();
+                }
+                if (this.xWindow != null) {
+                    this.xWindow.removeFirst();
+                }
+            }
+            if (this.yTree != null) {
+                this.yTree.removeFirst(remove);
+            }
+            removed.clear();
+        }
+        if (appended && remove <= 0) {
+            Iterator iterator = items.iterator();
+            while (iterator.hasNext()) {
+                updateBoundsForAddedItem((XYDataItem) iterator.next());
+            }
+        }
+        else {
+            findBoundsByIteration();
+        }
+        if (appended) {
+            int last = this.data.size() - 1;
+            fireSeriesChanged(new SeriesChangeEvent(this,
+                    SeriesChangeType.APPEND,
+                    Math.max(last + 1 - items.size(), 0), last,
+                    Math.min(Math.max(remove, 0), oldCount)));
+        }
+        else {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the items in a list are in ascending
+     * order of x-value, and <code>false</code> otherwise.
+     *
+     * @param items  a list of {@link XYDataItem} objects.
+     *
+     * @return A boolean.
+     */
+    private static boolean isSorted(List items) {
+        for (int i = 1; i < items.size(); i++) {
+            XYDataItem item = (XYDataItem) items.get(i);
+            if (item.compareTo(items.get(i - 1)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Throws an exception if two adjacent items in a sorted list have the
+     * same x-value.
+     *
+     * @param items  a sorted list of {@link XYDataItem} objects.
+     *
+     * @throws SeriesException if a duplicate is found.
+     */
+    private static void checkForDuplicates(List items) {
+        for (int i = 1; i < items.size(); i++) {
+            XYDataItem item = (XYDataItem) items.get(i);
+            if (item.compareTo(items.get(i - 1)) == 0) {
+                throw new SeriesException("X-value already exists.");
+            }
+        }
+    }
+
+    /**
+     * Merges two sorted lists of items into a new list.  Where items have the
+     * same x-value, the items from the first list come first.
+     *
+     * @param existing  the existing items.
+     * @param added  the new items.
+     *
+     * @return The merged list.
+     *
+     * @throws SeriesException if there is a duplicate x-value and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     */
+    private List merge(List existing, List added) {
+        List result = new ArrayList(existing.size() + added.size());
+        int i = 0;
+        int j = 0;
+        while (i < existing.size() || j < added.size()) {
+            if (j == added.size() || (i < existing.size()
+                    && ((XYDataItem) existing.get(i)).compareTo(
+                    added.get(j)) <= 0)) {
+                result.add(existing.get(i++));
+            }
+            else {
+                result.add(added.get(j++));
+            }
+        }
+        if (!this.allowDuplicateXValues) {
+            checkForDuplicates(result);
+        }
+        return result;
     }
 
     /**
@@ -561,8 +1115,16 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public void delete(int start, int end) {
         this.data.subList(start, end + 1).clear();
+        invalidateWindows();
+        this.xIndex = null;
         findBoundsByIteration();
-        fireSeriesChanged();
+        if (start == 0) {
+            fireSeriesChanged(new SeriesChangeEvent(this,
+                    SeriesChangeType.REMOVE_FIRST, -1, -1, end + 1));
+        }
+        else {
+            fireSeriesChanged();
+        }
     }
 
     /**
@@ -575,8 +1137,25 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public XYDataItem remove(int index) {
         XYDataItem removed = (XYDataItem) this.data.remove(index);
+        invalidateWindows();
+        if (index == 0) {
+            removeFirstFromXIndex(removed);
+        }
+        else if (index == this.data.size() && this.xIndex != null) {
+            this.xIndex.removeLast(XValueIndex.key(removed.getXValue()),
+                    index);
+        }
+        else {
+            this.xIndex = null;
+        }
         updateBoundsForRemovedItem(removed);
-        fireSeriesChanged();
+        if (index == 0) {
+            fireSeriesChanged(new SeriesChangeEvent(this,
+                    SeriesChangeType.REMOVE_FIRST, -1, -1, 1));
+        }
+        else {
+            fireSeriesChanged();
+        }
         return removed;
     }
 
@@ -601,6 +1180,8 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            invalidateWindows();
+            this.xIndex = null;
             this.minX = Double.NaN;
             this.maxX = Double.NaN;
             this.minY = Double.NaN;
@@ -656,6 +1237,33 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         return getRawDataItem(index).getY();
     }
 
+    /**
+     * Returns the x-value (as a double primitive) at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     *
+     * @since 1.0.20
+     */
+    public double getXValue(int index) {
+        return getRawDataItem(index).getXValue();
+    }
+
+    /**
+     * Returns the y-value (as a double primitive) at the specified index.
+     * A <code>null</code> y-value is returned as <code>Double.NaN</code>.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (possibly <code>Double.NaN</code>).
+     *
+     * @since 1.0.20
+     */
+    public double getYValue(int index) {
+        return getRawDataItem(index).getYValue();
+    }
+
     /**
      * Updates the value of an item in the series and sends a
      * {@link SeriesChangeEvent} to all registered listeners.
@@ -676,6 +1284,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             iterate = oldY <= this.minY || oldY >= this.maxY;
         }
         item.setY(y);
+        invalidateWindows();
 
         if (iterate) {
             findBoundsByIteration();
@@ -685,7 +1294,8 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             this.minY = minIgnoreNaN(this.minY, yy);
             this.maxY = maxIgnoreNaN(this.maxY, yy);
         }
-        fireSeriesChanged();
+        fireSeriesChanged(new SeriesChangeEvent(this, SeriesChangeType.UPDATE,
+                index, index, 0));
     }
 
     /**
@@ -806,6 +1416,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
 
         // if we get to here, we know that duplicate X values are not permitted
         XYDataItem overwritten = null;
+        SeriesChangeEvent event = null;
         int index = indexOf(item.getX());
         if (index >= 0) {
             XYDataItem existing = (XYDataItem) this.data.get(index);
@@ -817,6 +1428,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                 iterate = oldY <= this.minY || oldY >= this.maxY;
             }
             existing.setY(item.getY());
+            invalidateWindows();
 
             if (iterate) {
                 findBoundsByIteration();
@@ -826,6 +1438,8 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                 this.minY = minIgnoreNaN(this.minY, yy);
                 this.maxY = maxIgnoreNaN(this.maxY, yy);
             }
+            event = new SeriesChangeEvent(this, SeriesChangeType.UPDATE,
+                    index, index, 0);
         }
         else {
             // if the series is sorted, the negative index is a result from
@@ -833,29 +1447,49 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             // new item...otherwise it will be just -1 and we should just
             // append the value to the list...
             item = (XYDataItem) item.clone();
-            if (this.autoSort) {
+            boolean appended = true;
+            if (this.autoSort && -index - 1 < this.data.size()) {
                 this.data.add(-index - 1, item);
+                invalidateWindows();
+                appended = false;
             }
             else {
                 this.data.add(item);
+                appendToWindows(item);
+                appendToYTree(item);
+                appendToXIndex(item);
             }
             updateBoundsForAddedItem(item);
 
             // check if this addition will exceed the maximum item count...
+            int removedCount = 0;
             if (getItemCount() > this.maximumItemCount) {
                 XYDataItem removed = (XYDataItem) this.data.remove(0);
-                updateBoundsForRemovedItem(removed);
+                removeFirstFromXIndex(removed);
+                updateBoundsForEvictedItem(removed);
+                removedCount = 1;
+            }
+            if (appended) {
+                int last = this.data.size() - 1;
+                event = new SeriesChangeEvent(this, SeriesChangeType.APPEND,
+                        last, last, removedCount);
             }
         }
-        fireSeriesChanged();
+        if (event != null) {
+            fireSeriesChanged(event);
+        }
+        else {
+            fireSeriesChanged();
+        }
         return overwritten;
     }
 
     /**
      * Returns the index of the item with the specified x-value, or a negative
-     * index if the series does not contain an item with that x-value.  Be
-     * aware that for an unsorted series, the index is found by iterating
-     * through all items in the series.
+     * index if the series does not contain an item with that x-value.  For
+     * an unsorted series, the first call to this method builds a hash index
+     * of the x-values, which is then kept up to date as items are added and
+     * removed, so that later lookups do not iterate through all the items.
      *
      * @param x  the x-value (<code>null</code> not permitted).
      *
@@ -866,6 +1500,20 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             return Collections.binarySearch(this.data, new XYDataItem(x, null));
         }
         else {
+            if (this.xIndex == null) {
+                this.xIndex = new XValueIndex(this.data.size());
+                for (int i = 0; i < this.data.size(); i++) {
+                    XYDataItem item = (XYDataItem) this.data.get(i);
+                    this.xIndex.append(XValueIndex.key(item.getXValue()), i);
+                }
+            }
+            int index = this.xIndex.get(XValueIndex.key(x.doubleValue()));
+            if (index < 0 || ((XYDataItem) this.data.get(index)).getX()
+                    .equals(x)) {
+                return index;
+            }
+            // an item with the same value but a different Number type comes
+            // first, so fall back to checking every item
             for (int i = 0; i < this.data.size(); i++) {
                 XYDataItem item = (XYDataItem) this.data.get(i);
                 if (item.getX().equals(x)) {
@@ -910,6 +1558,8 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public Object clone() throws CloneNotSupportedException {
         XYSeries clone = (XYSeries) super.clone();
         clone.data = (List) ObjectUtilities.deepClone(this.data);
+        clone.invalidateWindows();
+        clone.xIndex = null;
         return clone;
     }
 
@@ -927,7 +1577,10 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             throws CloneNotSupportedException {
 
         XYSeries copy = (XYSeries) super.clone();
-        copy.data = new java.util.ArrayList();
+        copy.data = this.data instanceof RingBufferList
+                ? new RingBufferList() : new ArrayList();
+        copy.invalidateWindows();
+        copy.xIndex = null;
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 XYDataItem item = (XYDataItem) this.data.get(index);
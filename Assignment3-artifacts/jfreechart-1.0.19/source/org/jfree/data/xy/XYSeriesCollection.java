@@ -60,6 +60,14 @@
  * 02-Jul-2013 : Use ParamChecks (DG);
  * 21-Nov-2013 : Fixed bug where removeSeries(int) was not deregistering 
  *               vetoable listener (DG);
+ * 18-Oct-2026 : Overridden getXValue() and getYValue() to read primitive
+ *               values directly from the series (G14);
+ * 18-Oct-2026 : Implemented XYRangeInfo (G14);
+ * 18-Oct-2026 : Override getVersion() to include series changes (G14);
+ * 18-Oct-2026 : Calculate the version without changing the collection (G14);
+ * 18-Oct-2026 : Publish snapshots before sending change events (G14);
+ * 18-Oct-2026 : Override seriesChanged() to track series versions (G14);
+ * 18-Oct-2026 : Implemented XYSnapshotSource (G14);
  *
  */
 
@@ -82,16 +90,21 @@ import org.jfree.data.RangeInfo;
 import org.jfree.data.UnknownKeyException;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.util.ObjectUtilities;
 import org.jfree.util.PublicCloneable;
 
 /**
  * Represents a collection of {@link XYSeries} objects that can be used as a
  * dataset.
+ * <P>
+ * If snapshots are enabled (see {@link #setSnapshotsEnabled(boolean)}), a
+ * chart can be drawn on one thread while the series are updated on another.
  */
 public class XYSeriesCollection extends AbstractIntervalXYDataset
-        implements IntervalXYDataset, DomainInfo, RangeInfo, 
-        VetoableChangeListener, PublicCloneable, Serializable {
+        implements IntervalXYDataset, DomainInfo, RangeInfo, XYRangeInfo,
+        XYSnapshotSource, VetoableChangeListener, PublicCloneable,
+        Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -7590013825931496766L;
@@ -99,9 +112,23 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
     /** The series that are included in the collection. */
     private List data;
 
+    /**
+     * The amount subtracted from the total of the series versions in
+     * {@link #getVersion()}, so that the collection version increases by one
+     * for each series change that is also signalled by a dataset change
+     * event, and when series are added or removed.
+     */
+    private transient long seriesVersionOffset;
+
     /** The interval delegate (used to calculate the start and end x-values). */
     private IntervalXYDelegate intervalDelegate;
 
+    /**
+     * The snapshot publisher (<code>null</code> if snapshots are not
+     * enabled).
+     */
+    private transient volatile XYSnapshotPublisher snapshotPublisher;
+
     /**
      * Constructs an empty dataset.
      */
@@ -120,6 +147,7 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         addChangeListener(this.intervalDelegate);
         if (series != null) {
             this.data.add(series);
+            this.seriesVersionOffset = series.getVersion();
             series.addChangeListener(this);
             series.addVetoableChangeListener(this);
         }
@@ -159,6 +187,7 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
                 + series.getKey());
         }
         this.data.add(series);
+        this.seriesVersionOffset += series.getVersion();
         series.addChangeListener(this);
         series.addVetoableChangeListener(this);
         fireDatasetChanged();
@@ -192,6 +221,7 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
             series.removeChangeListener(this);
             series.removeVetoableChangeListener(this);
             this.data.remove(series);
+            this.seriesVersionOffset -= series.getVersion();
             fireDatasetChanged();
         }
     }
@@ -207,6 +237,7 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
           XYSeries series = (XYSeries) this.data.get(i);
           series.removeChangeListener(this);
           series.removeVetoableChangeListener(this);
+          this.seriesVersionOffset -= series.getVersion();
         }
 
         // Remove all the series from the collection and notify listeners.
@@ -214,6 +245,126 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         fireDatasetChanged();
     }
 
+    /**
+     * Returns the version of the collection.  This also increases when a
+     * series in the collection is changed without sending a change event.
+     * Calling this method does not change the collection.
+     *
+     * @return The version.
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public long getVersion() {
+        // a series change is not always signalled to the collection, so
+        // include the series versions
+        long total = 0;
+        for (int i = 0; i < this.data.size(); i++) {
+            total += ((XYSeries) this.data.get(i)).getVersion();
+        }
+        return super.getVersion() + total - this.seriesVersionOffset;
+    }
+
+    /**
+     * Receives notification that a series in the collection has changed,
+     * and sends a {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param event  information about the change.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        // the series version has increased by one for this event, which is
+        // covered by the increment for the dataset change event...any other
+        // difference is picked up by getVersion()
+        this.seriesVersionOffset++;
+        XYSnapshotPublisher publisher = this.snapshotPublisher;
+        if (publisher != null) {
+            publisher.seriesChanged(this, event);
+        }
+        super.seriesChanged(event);
+    }
+
+    /**
+     * Returns the flag that controls whether or not the collection publishes
+     * snapshots of its data.  The default value is <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @see #setSnapshotsEnabled(boolean)
+     *
+     * @since 1.0.20
+     */
+    public boolean getSnapshotsEnabled() {
+        return this.snapshotPublisher != null;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the collection publishes
+     * snapshots of its data.  When snapshots are enabled, an immutable copy
+     * of the data is published (see {@link #getSnapshot()}) each time the
+     * collection sends a change event, and an
+     * {@link org.jfree.chart.plot.XYPlot} draws the collection (and finds
+     * its data range) from the latest snapshot.  This allows the series to
+     * be updated by one thread while charts are drawn by other threads (only
+     * one thread at a time may update the series).  Changes made without a
+     * change event (or in a batch, see {@link #beginUpdate()}) are published
+     * with the next event.
+     * <P>
+     * The flag is not serialized, so a deserialized collection does not
+     * publish snapshots.
+     *
+     * @param enabled  the new flag value.
+     *
+     * @since 1.0.20
+     */
+    public void setSnapshotsEnabled(boolean enabled) {
+        if (enabled == getSnapshotsEnabled()) {
+            return;
+        }
+        XYSnapshotPublisher publisher = null;
+        if (enabled) {
+            publisher = new XYSnapshotPublisher(false);
+            publisher.publish(this, this.data);
+        }
+        this.snapshotPublisher = publisher;
+    }
+
+    /**
+     * Returns the latest snapshot of the data in this collection, or
+     * <code>null</code> if snapshots are not enabled.
+     *
+     * @return The snapshot (possibly <code>null</code>).
+     *
+     * @see #setSnapshotsEnabled(boolean)
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public XYDataset getSnapshot() {
+        XYSnapshotPublisher publisher = this.snapshotPublisher;
+        return publisher != null ? publisher.getSnapshot() : null;
+    }
+
+    /**
+     * If snapshots are enabled, publishes a new snapshot, then sends a change
+     * event to all registered listeners.  Publishing the snapshot first means
+     * that listeners (for example, a plot that updates its axis ranges) see
+     * the change in the snapshot.
+     *
+     * @param event  the event.
+     */
+    @Override
+    protected void notifyListeners(DatasetChangeEvent event) {
+        XYSnapshotPublisher publisher = this.snapshotPublisher;
+        if (publisher != null && !isUpdating()) {
+            // the interval delegate (also a listener) must update the auto
+            // interval width before it is copied to the snapshot
+            this.intervalDelegate.datasetChanged(event);
+            publisher.publish(this, this.data);
+        }
+        super.notifyListeners(event);
+    }
+
     /**
      * Returns the number of series in the collection.
      *
@@ -358,6 +509,23 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         return s.getX(item);
     }
 
+    /**
+     * Returns the x-value (as a double primitive) for an item within a
+     * series.  This reads the value directly from the series, so that series
+     * with primitive storage (such as {@link PrimitiveXYSeries}) are never
+     * required to create a <code>Number</code> instance.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        XYSeries s = (XYSeries) this.data.get(series);
+        return s.getXValue(item);
+    }
+
     /**
      * Returns the starting X value for the specified series and item.
      *
@@ -398,6 +566,22 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         return s.getY(index);
     }
 
+    /**
+     * Returns the y-value (as a double primitive) for an item within a
+     * series.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The y-value (<code>Double.NaN</code> for a <code>null</code>
+     *     value).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        XYSeries s = (XYSeries) this.data.get(series);
+        return s.getYValue(item);
+    }
+
     /**
      * Returns the starting Y value for the specified series and item.
      *
@@ -459,6 +643,8 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         clone.data = (List) ObjectUtilities.deepClone(this.data);
         clone.intervalDelegate
                 = (IntervalXYDelegate) this.intervalDelegate.clone();
+        clone.snapshotPublisher = null;
+        clone.setSnapshotsEnabled(getSnapshotsEnabled());
         return clone;
     }
 
@@ -672,6 +858,37 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         }
     }
 
+    /**
+     * Returns the bounds for the y-values of the items in the visible series
+     * that have an x-value within the specified range.  This is found with
+     * {@link XYSeries#findValueRange(Range)}, which does not need to visit
+     * every item in a sorted series.
+     *
+     * @param visibleSeriesKeys  the visible series keys (<code>null</code>
+     *     not permitted).
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     * @param includeInterval  ignored, since the y-interval for each item is
+     *     the y-value.
+     *
+     * @return The bounds (possibly <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        ParamChecks.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        ParamChecks.nullNotPermitted(xRange, "xRange");
+        Range result = null;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            Comparable seriesKey = (Comparable) iterator.next();
+            XYSeries series = getSeries(seriesKey);
+            result = Range.combine(result, series.findValueRange(xRange));
+        }
+        return result;
+    }
+
     /**
      * Returns the minimum y-value in the dataset.
      *
@@ -0,0 +1,413 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * XYSnapshotPublisher.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeType;
+
+/**
+ * Maintains immutable snapshots ({@link XYDatasetSnapshot}) of a dataset
+ * whose series are updated by one thread while other threads read the data.
+ * This class is used by {@link XYSeriesCollection} and
+ * {@link org.jfree.data.time.TimeSeriesCollection} to implement
+ * {@link XYSnapshotSource}.
+ * <P>
+ * The values for each series are copied into fixed size segments.  When a
+ * series sends a change event that describes the change (see
+ * {@link SeriesChangeType}), only the affected segments are updated:
+ * appended items are written after the last item of the previous snapshot,
+ * items removed from the start of a series are dropped by moving an offset
+ * (and releasing whole segments) and an updated item is written to a copy
+ * of its segment.  Segments and segment arrays that belong to a published
+ * snapshot are never modified in any other way, so readers of a snapshot
+ * do not need to lock anything.  Any other change to a series causes its
+ * values to be copied again when the next snapshot is published.
+ * <P>
+ * The methods in this class (other than {@link #getSnapshot()}) must only be
+ * called by the thread that updates the dataset, or with the same lock
+ * held as the updates.
+ *
+ * @since 1.0.20
+ */
+public class XYSnapshotPublisher {
+
+    /** The mask for the position within a segment. */
+    private static final int MASK = XYDatasetSnapshot.SEGMENT_SIZE - 1;
+
+    /** The segments for each series, keyed by (identity of) the series. */
+    private Map states;
+
+    /**
+     * A flag that controls whether the x-interval of every item is copied
+     * from the dataset.
+     */
+    private boolean itemIntervals;
+
+    /** The latest snapshot. */
+    private volatile XYDatasetSnapshot snapshot;
+
+    /**
+     * Creates a new publisher.
+     *
+     * @param itemIntervals  copy the x-interval of every item from the
+     *     dataset (use <code>false</code> for a dataset where the x-interval
+     *     is the same for every item, relative to its x-value).
+     */
+    public XYSnapshotPublisher(boolean itemIntervals) {
+        this.states = new IdentityHashMap();
+        this.itemIntervals = itemIntervals;
+    }
+
+    /**
+     * Returns the latest snapshot published by this publisher.
+     *
+     * @return The snapshot (<code>null</code> if no snapshot has been
+     *     published).
+     */
+    public XYDatasetSnapshot getSnapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * Updates the copy of a series to reflect a change that is described by
+     * the given event.  The change is not visible to readers until the
+     * next call to {@link #publish(XYDataset, List)}.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param event  the event from a series in the dataset
+     *     (<code>null</code> not permitted).
+     */
+    public void seriesChanged(XYDataset dataset, SeriesChangeEvent event) {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        ParamChecks.nullNotPermitted(event, "event");
+        SeriesState state = (SeriesState) this.states.get(event.getSource());
+        if (state == null) {
+            return;
+        }
+        Series source = (Series) event.getSource();
+        int series = dataset.indexOf(source.getKey());
+        // the event covers exactly one change if the version has increased
+        // by one, otherwise the series is copied again at the next publish
+        if (series >= 0 && source.getVersion() == state.version + 1
+                && apply(state, dataset, series, event)
+                && state.count == dataset.getItemCount(series)) {
+            state.version = source.getVersion();
+        }
+        else {
+            this.states.remove(source);
+        }
+    }
+
+    /**
+     * Applies a change to the copy of a series.
+     *
+     * @param state  the copy of the series.
+     * @param dataset  the dataset.
+     * @param series  the index of the series in the dataset.
+     * @param event  the event.
+     *
+     * @return A boolean that indicates whether or not the change was applied.
+     */
+    private boolean apply(SeriesState state, XYDataset dataset, int series,
+            SeriesChangeEvent event) {
+        SeriesChangeType type = event.getType();
+        if (type == SeriesChangeType.APPEND) {
+            if (!removeFirst(state, event.getRemovedCount())
+                    || event.getFirstIndex() != state.count) {
+                return false;
+            }
+            for (int i = event.getFirstIndex(); i <= event.getLastIndex();
+                    i++) {
+                append(state, dataset, series, i);
+            }
+            return true;
+        }
+        if (type == SeriesChangeType.REMOVE_FIRST) {
+            return removeFirst(state, event.getRemovedCount());
+        }
+        if (type == SeriesChangeType.UPDATE) {
+            int item = event.getFirstIndex();
+            if (item < 0 || item >= state.count) {
+                return false;
+            }
+            update(state, dataset, series, item);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Publishes a new snapshot of the dataset.  Any series that has changed
+     * in a way that has not been passed to
+     * {@link #seriesChanged(XYDataset, SeriesChangeEvent)} is
+     * copied again.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param seriesList  the series in the dataset, in order (each an
+     *     instance of {@link Series}).
+     */
+    public void publish(XYDataset dataset, List seriesList) {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        ParamChecks.nullNotPermitted(seriesList, "seriesList");
+        int seriesCount = seriesList.size();
+        Map current = new IdentityHashMap();
+        Comparable[] keys = new Comparable[seriesCount];
+        double[][][][] values = new double[seriesCount][][][];
+        int[] offsets = new int[seriesCount];
+        int[] itemCounts = new int[seriesCount];
+        for (int s = 0; s < seriesCount; s++) {
+            Series source = (Series) seriesList.get(s);
+            SeriesState state = (SeriesState) this.states.get(source);
+            if (state == null || state.version != source.getVersion()
+                    || state.count != dataset.getItemCount(s)) {
+                state = copy(dataset, s, source.getVersion());
+            }
+            current.put(source, state);
+            keys[s] = dataset.getSeriesKey(s);
+            values[s] = state.segments;
+            offsets[s] = state.offset;
+            itemCounts[s] = state.count;
+        }
+        this.states = current;
+
+        // a dataset with the same x-interval for every item (relative to
+        // its x-value) is represented by the interval for the first item
+        double startXOffset = 0.0;
+        double endXOffset = 0.0;
+        if (!this.itemIntervals && dataset instanceof IntervalXYDataset) {
+            IntervalXYDataset intervals = (IntervalXYDataset) dataset;
+            for (int s = 0; s < seriesCount; s++) {
+                if (itemCounts[s] > 0) {
+                    double x = intervals.getXValue(s, 0);
+                    startXOffset = x - intervals.getStartXValue(s, 0);
+                    endXOffset = intervals.getEndXValue(s, 0) - x;
+                    break;
+                }
+            }
+        }
+        this.snapshot = new XYDatasetSnapshot(keys, values, offsets,
+                itemCounts, dataset.getDomainOrder(), startXOffset,
+                endXOffset, dataset);
+    }
+
+    /**
+     * Discards the copies of all series, so that every series is copied
+     * again when the next snapshot is published.  This should be called
+     * when a change to the dataset alters the values for every item (for
+     * example, a change of the x-position in a time series collection).
+     */
+    public void reset() {
+        this.states.clear();
+    }
+
+    /**
+     * Copies the values for a series.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param version  the version of the series.
+     *
+     * @return A new copy of the series.
+     */
+    private SeriesState copy(XYDataset dataset, int series, long version) {
+        int columns = this.itemIntervals
+                && dataset instanceof IntervalXYDataset ? 4 : 2;
+        SeriesState state = new SeriesState(columns);
+        int itemCount = dataset.getItemCount(series);
+        for (int i = 0; i < itemCount; i++) {
+            append(state, dataset, series, i);
+        }
+        state.version = version;
+        return state;
+    }
+
+    /**
+     * Appends an item to the copy of a series.  The item is written after
+     * the last item, where it cannot be seen by readers of an earlier
+     * snapshot, and a new segment array is created if a segment is added.
+     *
+     * @param state  the copy of the series.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param item  the item index (in the dataset).
+     */
+    private void append(SeriesState state, XYDataset dataset, int series,
+            int item) {
+        int position = state.offset + state.count;
+        int segment = position >> XYDatasetSnapshot.SEGMENT_BITS;
+        double[][][] segments = state.segments;
+        if (segment == segments[0].length) {
+            double[][][] copy = new double[segments.length][][];
+            for (int c = 0; c < segments.length; c++) {
+                copy[c] = new double[segment + 1][];
+                System.arraycopy(segments[c], 0, copy[c], 0, segment);
+                copy[c][segment] = new double[XYDatasetSnapshot.SEGMENT_SIZE];
+            }
+            state.segments = copy;
+            segments = copy;
+        }
+        write(segments, segment, position & MASK, dataset, series, item);
+        state.count++;
+    }
+
+    /**
+     * Replaces an item in the copy of a series.  The item is written to a
+     * copy of its segment, in a new segment array.
+     *
+     * @param state  the copy of the series.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param item  the item index.
+     */
+    private void update(SeriesState state, XYDataset dataset, int series,
+            int item) {
+        int position = state.offset + item;
+        int segment = position >> XYDatasetSnapshot.SEGMENT_BITS;
+        double[][][] segments = state.segments;
+        double[][][] copy = new double[segments.length][][];
+        for (int c = 0; c < segments.length; c++) {
+            copy[c] = (double[][]) segments[c].clone();
+            copy[c][segment] = (double[]) segments[c][segment].clone();
+        }
+        state.segments = copy;
+        write(copy, segment, position & MASK, dataset, series, item);
+    }
+
+    /**
+     * Removes items from the start of the copy of a series.  Segments that
+     * no longer hold any items are released (in a new segment array).
+     *
+     * @param state  the copy of the series.
+     * @param count  the number of items to remove.
+     *
+     * @return A boolean that indicates whether or not the items were
+     *     removed (<code>false</code> if there are fewer items than
+     *     <code>count</code>).
+     */
+    private boolean removeFirst(SeriesState state, int count) {
+        if (count == 0) {
+            return true;
+        }
+        if (count < 0 || count > state.count) {
+            return false;
+        }
+        state.count -= count;
+        if (state.count == 0) {
+            state.segments = new double[state.segments.length][0][];
+            state.offset = 0;
+            return true;
+        }
+        state.offset += count;
+        int drop = state.offset >> XYDatasetSnapshot.SEGMENT_BITS;
+        if (drop > 0) {
+            double[][][] segments = state.segments;
+            double[][][] copy = new double[segments.length][][];
+            for (int c = 0; c < segments.length; c++) {
+                copy[c] = new double[segments[c].length - drop][];
+                System.arraycopy(segments[c], drop, copy[c], 0,
+                        copy[c].length);
+            }
+            state.segments = copy;
+            state.offset &= MASK;
+        }
+        return true;
+    }
+
+    /**
+     * Writes the values for an item to a position in a segment.
+     *
+     * @param segments  the segments (by column).
+     * @param segment  the segment index.
+     * @param index  the position within the segment.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param item  the item index.
+     */
+    private void write(double[][][] segments, int segment, int index,
+            XYDataset dataset, int series, int item) {
+        segments[XYDatasetSnapshot.X][segment][index]
+                = dataset.getXValue(series, item);
+        segments[XYDatasetSnapshot.Y][segment][index]
+                = dataset.getYValue(series, item);
+        if (segments.length > XYDatasetSnapshot.START_X) {
+            IntervalXYDataset intervals = (IntervalXYDataset) dataset;
+            segments[XYDatasetSnapshot.START_X][segment][index]
+                    = intervals.getStartXValue(series, item);
+            segments[XYDatasetSnapshot.END_X][segment][index]
+                    = intervals.getEndXValue(series, item);
+        }
+    }
+
+    /**
+     * The copy of the values for one series.
+     */
+    private static class SeriesState {
+
+        /** The segments, indexed by column and segment. */
+        double[][][] segments;
+
+        /** The position of the first item within the first segment. */
+        int offset;
+
+        /** The number of items. */
+        int count;
+
+        /** The version of the series that has been copied. */
+        long version;
+
+        /**
+         * Creates a new (empty) copy.
+         *
+         * @param columns  the number of columns.
+         */
+        SeriesState(int columns) {
+            this.segments = new double[columns][0][];
+        }
+
+    }
+
+}
@@ -0,0 +1,64 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * XYSnapshotSource.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.xy;
+
+/**
+ * A dataset that can publish immutable snapshots of its data, so that the
+ * data can be read (for example, by a plot that is drawing the dataset) on
+ * one thread while it is being updated on another.
+ *
+ * @see XYDatasetSnapshot
+ *
+ * @since 1.0.20
+ */
+public interface XYSnapshotSource {
+
+    /**
+     * Returns the most recently published snapshot of the dataset, or
+     * <code>null</code> if snapshots are not enabled.  A snapshot is
+     * published each time the dataset sends a change event to its
+     * listeners, so it reflects the state of the dataset at that event.
+     *
+     * @return The snapshot (possibly <code>null</code>).
+     */
+    public XYDataset getSnapshot();
+
+}
@@ -0,0 +1,64 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * XYStackTotalInfo.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.xy;
+
+/**
+ * An interface that can (optionally) be implemented by a
+ * {@link TableXYDataset} that keeps the total of the y-values for each
+ * item, so that
+ * {@link org.jfree.data.general.DatasetUtilities#calculateStackTotal(
+ * TableXYDataset, int)} doesn't have to visit each series.
+ *
+ * @since 1.0.20
+ */
+public interface XYStackTotalInfo {
+
+    /**
+     * Returns the total of the y-values in all series for an item, ignoring
+     * missing values.
+     *
+     * @param item  the item index.
+     *
+     * @return The total.
+     */
+    public double getStackTotal(int item);
+
+}
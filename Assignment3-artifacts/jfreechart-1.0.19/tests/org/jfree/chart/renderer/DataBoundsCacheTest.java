@@ -0,0 +1,209 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * DataBoundsCacheTest.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.chart.renderer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.jfree.data.Range;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.DefaultPieDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link DataBoundsCache} class.
+ */
+public class DataBoundsCacheTest {
+
+    /**
+     * Entries are returned only until the dataset changes.
+     */
+    @Test
+    public void testVersion() {
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        dataset.addValue(1.0, "R1", "C1");
+        DataBoundsCache cache = new DataBoundsCache();
+        assertFalse(cache.contains(dataset, "K1"));
+        cache.put(dataset, "K1", new Range(1.0, 2.0));
+        cache.put(dataset, "K2", null);
+        assertTrue(cache.contains(dataset, "K1"));
+        assertEquals(new Range(1.0, 2.0), cache.get(dataset, "K1"));
+        assertTrue(cache.contains(dataset, "K2"));
+        assertNull(cache.get(dataset, "K2"));
+        assertFalse(cache.contains(new DefaultCategoryDataset(), "K1"));
+
+        long version = dataset.getVersion();
+        dataset.addValue(2.0, "R1", "C1");
+        assertTrue(dataset.getVersion() > version);
+        assertFalse(cache.contains(dataset, "K1"));
+        assertFalse(cache.contains(dataset, "K2"));
+
+        // changes are counted even when events are suppressed
+        cache.put(dataset, "K1", new Range(1.0, 2.0));
+        dataset.setNotify(false);
+        dataset.addValue(3.0, "R1", "C1");
+        assertFalse(cache.contains(dataset, "K1"));
+
+        cache.put(dataset, "K1", new Range(1.0, 2.0));
+        cache.clear();
+        assertFalse(cache.contains(dataset, "K1"));
+    }
+
+    /**
+     * A change to a series is a change to the collection that contains it.
+     */
+    @Test
+    public void testSeriesChange() {
+        XYSeries series = new XYSeries("S1");
+        XYSeriesCollection dataset = new XYSeriesCollection(series);
+        DataBoundsCache cache = new DataBoundsCache();
+        cache.put(dataset, "K1", null);
+        long version = series.getVersion();
+        series.add(1.0, 2.0);
+        assertTrue(series.getVersion() > version);
+        assertFalse(cache.contains(dataset, "K1"));
+    }
+
+    /**
+     * Some checks for the invalidate() and datasetChanged() methods.
+     */
+    @Test
+    public void testInvalidate() {
+        DefaultCategoryDataset d1 = new DefaultCategoryDataset();
+        DefaultCategoryDataset d2 = new DefaultCategoryDataset();
+        DataBoundsCache cache = new DataBoundsCache();
+        cache.put(d1, "K1", null);
+        cache.put(d1, "K2", null);
+        cache.put(d2, "K1", null);
+        cache.invalidate(d1);
+        assertFalse(cache.contains(d1, "K1"));
+        assertFalse(cache.contains(d1, "K2"));
+        assertTrue(cache.contains(d2, "K1"));
+
+        // an event for a dataset with an unchanged version removes the
+        // entries for the dataset
+        cache.put(d1, "K1", null);
+        cache.datasetChanged(d1);
+        assertFalse(cache.contains(d1, "K1"));
+        assertTrue(cache.contains(d2, "K1"));
+
+        // ...but entries for an earlier version are kept for updating
+        d1.addValue(1.0, "R1", "C1");
+        cache.put(d1, "K1", null);
+        d1.addValue(2.0, "R1", "C1");
+        cache.datasetChanged(d1);
+        assertEquals(1, cache.getPreviousVersionBounds(d1).size());
+    }
+
+    /**
+     * Datasets that do not have a version are never cached.
+     */
+    @Test
+    public void testUnversionedDataset() {
+        XYDataset dataset = new org.jfree.data.xy.XYDataset() {
+            @Override
+            public org.jfree.data.DomainOrder getDomainOrder() {
+                return org.jfree.data.DomainOrder.NONE;
+            }
+            @Override
+            public int getItemCount(int series) {
+                return 0;
+            }
+            @Override
+            public Number getX(int series, int item) {
+                return null;
+            }
+            @Override
+            public double getXValue(int series, int item) {
+                return Double.NaN;
+            }
+            @Override
+            public Number getY(int series, int item) {
+                return null;
+            }
+            @Override
+            public double getYValue(int series, int item) {
+                return Double.NaN;
+            }
+            @Override
+            public int getSeriesCount() {
+                return 0;
+            }
+            @Override
+            public Comparable getSeriesKey(int series) {
+                return null;
+            }
+            @Override
+            public int indexOf(Comparable seriesKey) {
+                return -1;
+            }
+            @Override
+            public void addChangeListener(
+                    org.jfree.data.general.DatasetChangeListener listener) {
+                // ignore
+            }
+            @Override
+            public void removeChangeListener(
+                    org.jfree.data.general.DatasetChangeListener listener) {
+                // ignore
+            }
+            @Override
+            public org.jfree.data.general.DatasetGroup getGroup() {
+                return null;
+            }
+            @Override
+            public void setGroup(org.jfree.data.general.DatasetGroup group) {
+                // ignore
+            }
+        };
+        DataBoundsCache cache = new DataBoundsCache();
+        cache.put(dataset, "K1", new Range(1.0, 2.0));
+        assertFalse(cache.contains(dataset, "K1"));
+        cache.put(new DefaultPieDataset(), "K1", null);
+        assertFalse(cache.contains(null, "K1"));
+    }
+
+}
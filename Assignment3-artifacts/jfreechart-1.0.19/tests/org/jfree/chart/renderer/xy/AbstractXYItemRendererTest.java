@@ -36,6 +36,9 @@
  * -------
  * 06-Oct-2004 : Version 1 (DG);
  * 24-Nov-2006 : Added cloning tests (DG);
+ * 18-Oct-2026 : Added testCachedBounds() (G14);
+ * 18-Oct-2026 : Added testUpdateDataBounds() (G14);
+ * 18-Oct-2026 : Added testUnversionedChange() (G14);
  *
  */
 
@@ -43,14 +46,19 @@ package org.jfree.chart.renderer.xy;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
+import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.labels.StandardXYSeriesLabelGenerator;
 import org.jfree.chart.labels.StandardXYToolTipGenerator;
 import org.jfree.chart.labels.StandardXYItemLabelGenerator;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.xy.DefaultXYDataset;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
@@ -107,6 +115,41 @@ public class AbstractXYItemRendererTest {
     /**
      * Check that the legendItemLabelGenerator is cloned.
      */
+    /**
+     * The bounds are cached until the dataset or renderer changes.
+     */
+    @Test
+    public void testCachedBounds() {
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 1.0);
+        series.add(2.0, 2.0);
+        XYSeries series2 = new XYSeries("S2");
+        series2.add(5.0, 5.0);
+        XYSeriesCollection dataset = new XYSeriesCollection(series);
+        dataset.addSeries(series2);
+        AbstractXYItemRenderer renderer = new StandardXYItemRenderer();
+        Range r1 = renderer.findDomainBounds(dataset);
+        assertEquals(new Range(1.0, 5.0), r1);
+        assertSame(r1, renderer.findDomainBounds(dataset));
+        Range r2 = renderer.findRangeBounds(dataset);
+        assertSame(r2, renderer.findRangeBounds(dataset));
+
+        // a change made without notification is still detected
+        series.add(10.0, 10.0, false);
+        assertEquals(new Range(1.0, 10.0), renderer.findDomainBounds(dataset));
+        assertEquals(new Range(1.0, 10.0), renderer.findRangeBounds(dataset));
+
+        // hiding a series changes the key
+        renderer.setSeriesVisible(0, Boolean.FALSE, false);
+        assertEquals(new Range(5.0, 5.0), renderer.findDomainBounds(dataset));
+        renderer.setSeriesVisible(0, Boolean.TRUE);
+        assertEquals(new Range(1.0, 10.0), renderer.findDomainBounds(dataset));
+
+        // a change with notification
+        series.add(20.0, 20.0);
+        assertEquals(new Range(1.0, 20.0), renderer.findDomainBounds(dataset));
+    }
+
     @Test
     public void testCloning_LegendItemLabelGenerator() throws CloneNotSupportedException {
         StandardXYSeriesLabelGenerator generator
@@ -186,4 +229,88 @@ public class AbstractXYItemRendererTest {
         assertNotEquals(r1, r2);
     }
 
+    /** The number of x-values read from the dataset. */
+    private int xValueCount;
+
+    /**
+     * Checks that the cached bounds are updated for appended items, rather
+     * than recalculated.
+     */
+    @Test
+    public void testUpdateDataBounds() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < 100; i++) {
+            series.add(i, i % 10);
+        }
+        XYSeriesCollection dataset = new XYSeriesCollection(series) {
+            @Override
+            public double getXValue(int series, int item) {
+                xValueCount++;
+                return super.getXValue(series, item);
+            }
+        };
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+        NumberAxis xAxis = new NumberAxis("X");
+        NumberAxis yAxis = new NumberAxis("Y");
+        xAxis.setAutoRangeIncludesZero(false);
+        XYPlot plot = new XYPlot(dataset, xAxis, yAxis, renderer);
+        assertEquals(new Range(0.0, 99.0), renderer.findDomainBounds(dataset));
+
+        // appending an item reads just that item
+        this.xValueCount = 0;
+        series.add(100.0, 50.0);
+        assertTrue(this.xValueCount < 10);
+        assertEquals(new Range(0.0, 100.0),
+                renderer.findDomainBounds(dataset));
+        assertEquals(100.0, xAxis.getUpperBound(), 5.0);
+        assertTrue(yAxis.getUpperBound() >= 50.0);
+
+        // an unsignalled change means the bounds are recalculated
+        series.add(-10.0, -50.0, false);
+        this.xValueCount = 0;
+        series.add(101.0, 0.0);
+        assertTrue(this.xValueCount > 100);
+        assertEquals(new Range(-10.0, 101.0),
+                renderer.findDomainBounds(dataset));
+        assertTrue(yAxis.getLowerBound() <= -50.0);
+
+        // as does removing the first item
+        series.remove(0);
+        assertEquals(new Range(0.0, 101.0),
+                renderer.findDomainBounds(dataset));
+        assertEquals(plot.getDataRange(xAxis),
+                new XYLineAndShapeRenderer().findDomainBounds(dataset));
+    }
+
+    /**
+     * A change that is not reflected in the dataset version is picked up
+     * when the plot receives a change event, or when the renderer's cached
+     * bounds are invalidated.
+     */
+    @Test
+    public void testUnversionedChange() {
+        double[][] data = new double[][] {{1.0, 2.0, 3.0}, {4.0, 5.0, 6.0}};
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("S1", data);
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+        NumberAxis xAxis = new NumberAxis("X");
+        NumberAxis yAxis = new NumberAxis("Y");
+        XYPlot plot = new XYPlot(dataset, xAxis, yAxis, renderer);
+        assertEquals(new Range(4.0, 6.0), renderer.findRangeBounds(dataset));
+
+        // the caller changes the data and then notifies the plot
+        data[1][2] = 60.0;
+        plot.datasetChanged(new DatasetChangeEvent(plot, dataset));
+        assertEquals(new Range(4.0, 60.0), renderer.findRangeBounds(dataset));
+        assertTrue(yAxis.getUpperBound() >= 60.0);
+
+        // ...or invalidates the cached bounds
+        data[0][0] = -1.0;
+        renderer.invalidateDataBounds(dataset);
+        assertEquals(new Range(-1.0, 3.0), renderer.findDomainBounds(dataset));
+        data[0][0] = -2.0;
+        renderer.invalidateDataBounds(null);
+        assertEquals(new Range(-2.0, 3.0), renderer.findDomainBounds(dataset));
+    }
+
 }
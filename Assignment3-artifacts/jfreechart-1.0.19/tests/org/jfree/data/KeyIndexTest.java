@@ -0,0 +1,153 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------
+ * KeyIndexTest.java
+ * -----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link KeyIndex} class.
+ */
+public class KeyIndexTest {
+
+    /**
+     * Some simple checks.
+     */
+    @Test
+    public void testIndexOf() {
+        KeyIndex index = new KeyIndex();
+        assertEquals(-1, index.indexOf("A"));
+        index.add("A");
+        index.add("B");
+        index.insert(0, "C");
+        assertEquals(3, index.getKeyCount());
+        assertEquals(0, index.indexOf("C"));
+        assertEquals(1, index.indexOf("A"));
+        assertEquals(2, index.indexOf("B"));
+        index.remove(1);
+        assertEquals(-1, index.indexOf("A"));
+        assertEquals(1, index.indexOf("B"));
+        index.clear();
+        assertEquals(0, index.getKeyCount());
+        assertEquals(-1, index.indexOf("B"));
+    }
+
+    /**
+     * Duplicate and null keys are rejected.
+     */
+    @Test
+    public void testInvalidKeys() {
+        KeyIndex index = new KeyIndex();
+        index.add("A");
+        try {
+            index.add("A");
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            index.add(null);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            index.remove(1);
+            fail("Expected an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        assertEquals(1, index.getKeyCount());
+    }
+
+    /**
+     * Run a long random sequence of inserts and removals, checking the index
+     * against a list of the keys.
+     */
+    @Test
+    public void testAgainstList() throws CloneNotSupportedException {
+        Random random = new Random(5L);
+        KeyIndex index = new KeyIndex();
+        List keys = new ArrayList();
+        int next = 0;
+        for (int i = 0; i < 5000; i++) {
+            if (random.nextInt(3) > 0 || keys.isEmpty()) {
+                // Integer keys have poorly distributed hash codes
+                Integer key = new Integer(next++ * 64);
+                int position = random.nextInt(keys.size() + 1);
+                keys.add(position, key);
+                index.insert(position, key);
+            }
+            else {
+                int position = random.nextInt(keys.size());
+                keys.remove(position);
+                index.remove(position);
+            }
+            if (i % 50 == 0) {
+                for (int j = 0; j < keys.size(); j++) {
+                    assertEquals(j, index.indexOf(keys.get(j)));
+                }
+                assertEquals(-1, index.indexOf(new Integer(-1)));
+            }
+        }
+        assertEquals(keys.size(), index.getKeyCount());
+
+        // a clone is independent, and an index can be built from a list
+        KeyIndex clone = (KeyIndex) index.clone();
+        index.remove(0);
+        KeyIndex copy = new KeyIndex(keys);
+        for (int j = 0; j < keys.size(); j++) {
+            assertEquals(j, clone.indexOf(keys.get(j)));
+            assertEquals(j, copy.indexOf(keys.get(j)));
+            assertEquals(j - 1, index.indexOf(keys.get(j)));
+        }
+    }
+
+}
@@ -0,0 +1,210 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * SparseKeyedValues2DTest.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.jfree.chart.TestUtilities;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link SparseKeyedValues2D} class.
+ */
+public class SparseKeyedValues2DTest {
+
+    /**
+     * Some checks for the getValue() methods.
+     */
+    @Test
+    public void testGetValue() {
+        SparseKeyedValues2D d = new SparseKeyedValues2D();
+        d.addValue(new Double(1.0), "R1", "C1");
+        d.addValue(new Integer(2), "R2", "C2");
+        assertEquals(new Double(1.0), d.getValue("R1", "C1"));
+        assertEquals(new Integer(2), d.getValue(1, 1));
+        assertNull(d.getValue("R1", "C2"));
+        assertNull(d.getValue(1, 0));
+        try {
+            d.getValue("XX", "C1");
+            fail("Should have thrown UnknownKeyException.");
+        }
+        catch (UnknownKeyException e) {
+            // expected
+        }
+        try {
+            d.getValue("R1", "XX");
+            fail("Should have thrown UnknownKeyException.");
+        }
+        catch (UnknownKeyException e) {
+            // expected
+        }
+        try {
+            d.getValue(0, 2);
+            fail("Should have thrown IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Check that null values are not stored.
+     */
+    @Test
+    public void testNonNullValues() {
+        SparseKeyedValues2D d = new SparseKeyedValues2D();
+        d.addValue(new Double(3.0), "R1", "C3");
+        d.addValue(null, "R1", "C2");
+        d.addValue(new Double(1.0), "R1", "C1");
+        assertEquals(3, d.getColumnCount());
+        assertEquals(2, d.getNonNullCount(0));
+        assertEquals(0, d.getNonNullColumn(0, 0));
+        assertEquals(new Double(3.0), d.getNonNullValue(0, 0));
+        assertEquals(2, d.getNonNullColumn(0, 1));
+        assertEquals(new Double(1.0), d.getNonNullValue(0, 1));
+
+        d.setValue(null, "R1", "C3");
+        assertEquals(1, d.getNonNullCount(0));
+        assertEquals(3, d.getColumnCount());
+        try {
+            d.getNonNullValue(0, 1);
+            fail("Should have thrown IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Apply a random sequence of changes to a SparseKeyedValues2D and a
+     * DefaultKeyedValues2D, and check that they remain equal.
+     */
+    @Test
+    public void testAgainstDefaultKeyedValues2D() {
+        Random random = new Random(7L);
+        SparseKeyedValues2D d1 = new SparseKeyedValues2D();
+        DefaultKeyedValues2D d2 = new DefaultKeyedValues2D();
+        for (int i = 0; i < 2000; i++) {
+            String rowKey = "R" + random.nextInt(20);
+            String columnKey = "C" + random.nextInt(40);
+            int op = random.nextInt(10);
+            if (op < 7) {
+                Number value = (op == 0 ? null : new Double(i));
+                d1.setValue(value, rowKey, columnKey);
+                d2.setValue(value, rowKey, columnKey);
+            }
+            else if (op == 7) {
+                d1.removeValue(rowKey, columnKey);
+                d2.removeValue(rowKey, columnKey);
+            }
+            else if (op == 8 && d2.getRowIndex(rowKey) >= 0) {
+                d1.removeRow(rowKey);
+                d2.removeRow(rowKey);
+            }
+            else if (op == 9 && d2.getColumnIndex(columnKey) >= 0) {
+                d1.removeColumn(columnKey);
+                d2.removeColumn(columnKey);
+            }
+            assertTrue(d1.equals(d2));
+        }
+        assertTrue(d2.equals(d1));
+    }
+
+    /**
+     * Some checks for the removeValue() method.
+     */
+    @Test
+    public void testRemoveValue() {
+        SparseKeyedValues2D d = new SparseKeyedValues2D();
+        d.removeValue("R1", "C1");
+        d.addValue(new Double(1.0), "R1", "C1");
+        d.addValue(new Double(2.0), "R2", "C2");
+        d.removeValue("R1", "C1");
+        assertEquals(1, d.getRowCount());
+        assertEquals(1, d.getColumnCount());
+        assertEquals(new Double(2.0), d.getValue(0, 0));
+        assertEquals(0, d.getNonNullColumn(0, 0));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        SparseKeyedValues2D d1 = new SparseKeyedValues2D();
+        d1.setValue(new Integer(1), "V1", "C1");
+        d1.setValue(null, "V2", "C1");
+        d1.setValue(new Integer(3), "V3", "C2");
+        SparseKeyedValues2D d2 = (SparseKeyedValues2D) d1.clone();
+        assertTrue(d1 != d2);
+        assertTrue(d1.getClass() == d2.getClass());
+        assertTrue(d1.equals(d2));
+
+        // check independence
+        d1.setValue(new Integer(2), "V2", "C1");
+        assertFalse(d1.equals(d2));
+        d1.setValue(new Integer(4), "V4", "C3");
+        assertEquals(-1, d2.getRowIndex("V4"));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        SparseKeyedValues2D d1 = new SparseKeyedValues2D();
+        d1.addValue(new Double(234.2), "Row1", "Col1");
+        d1.addValue(null, "Row1", "Col2");
+        d1.addValue(new Double(345.9), "Row2", "Col1");
+        SparseKeyedValues2D d2 = (SparseKeyedValues2D)
+                TestUtilities.serialised(d1);
+        assertEquals(d1, d2);
+        assertEquals(d1.hashCode(), d2.hashCode());
+        assertEquals(1, d2.getColumnIndex("Col2"));
+    }
+
+}
@@ -38,6 +38,7 @@
  * 08-Mar-2007 : Added testCloning() (DG);
  * 21-Nov-2007 : Added testBug1835955() method (DG);
  * 09-May-2008 : Added testPublicCloneable() (DG);
+ * 18-Oct-2026 : Added testBeginEndUpdate() (G14);
  *
  */
 
@@ -45,12 +46,15 @@ package org.jfree.data.category;
 
 import org.jfree.chart.TestUtilities;
 import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
 import org.jfree.util.PublicCloneable;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
 import org.junit.Test;
 
 /**
@@ -374,4 +378,62 @@ public class DefaultCategoryDatasetTest {
         assertTrue(pass);
     }
 
+    /** The number of change events received by the listener. */
+    private int eventCount;
+
+    /**
+     * Some checks for the beginUpdate() and endUpdate() methods.
+     */
+    @Test
+    public void testBeginEndUpdate() {
+        DefaultCategoryDataset d = new DefaultCategoryDataset();
+        d.addChangeListener(new DatasetChangeListener() {
+            @Override
+            public void datasetChanged(DatasetChangeEvent event) {
+                eventCount++;
+            }
+        });
+        this.eventCount = 0;
+        d.addValue(1.0, "R1", "C1");
+        assertEquals(1, this.eventCount);
+
+        // events are coalesced and sent by the outermost endUpdate()
+        long version = d.getVersion();
+        d.beginUpdate();
+        d.beginUpdate();
+        assertTrue(d.isUpdating());
+        for (int i = 0; i < 100; i++) {
+            d.setValue(i, "R" + i % 10, "C" + i / 10);
+        }
+        d.endUpdate();
+        assertEquals(1, this.eventCount);
+        assertTrue(d.getVersion() > version);
+        d.endUpdate();
+        assertFalse(d.isUpdating());
+        assertEquals(2, this.eventCount);
+        assertEquals(99.0, d.getValue("R9", "C9").doubleValue(), 0.0);
+
+        // no event if nothing changed
+        d.beginUpdate();
+        d.endUpdate();
+        assertEquals(2, this.eventCount);
+
+        // no event if the notify flag is cleared
+        d.setNotify(false);
+        d.beginUpdate();
+        d.setValue(5.0, "R1", "C1");
+        d.endUpdate();
+        assertEquals(2, this.eventCount);
+        d.setNotify(true);
+        assertEquals(3, this.eventCount);
+
+        try {
+            d.endUpdate();
+            fail("Should have thrown an IllegalStateException");
+        }
+        catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
 }
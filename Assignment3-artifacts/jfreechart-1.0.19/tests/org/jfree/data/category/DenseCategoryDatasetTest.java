@@ -0,0 +1,351 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * DenseCategoryDatasetTest.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Added testEquals() and testTooLarge() (G14);
+ *
+ */
+
+package org.jfree.data.category;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.Range;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DatasetUtilities;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link DenseCategoryDataset} class.
+ */
+public class DenseCategoryDatasetTest implements DatasetChangeListener {
+
+    /** The number of change events received. */
+    private int eventCount;
+
+    /**
+     * Counts the change events.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.eventCount++;
+    }
+
+    /**
+     * Some checks for the getValue() methods.
+     */
+    @Test
+    public void testGetValue() {
+        DenseCategoryDataset d = new DenseCategoryDataset();
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(new Integer(2), "R1", "C2");
+        d.addValue(null, "R2", "C1");
+        assertEquals(new Double(1.0), d.getValue("R1", "C1"));
+        assertEquals(new Double(2.0), d.getValue(0, 1));
+        assertNull(d.getValue("R2", "C1"));
+        assertNull(d.getValue("R2", "C2"));
+        assertTrue(Double.isNaN(d.getDoubleValue(1, 1)));
+
+        // NaN is treated as null
+        d.setValue(Double.NaN, "R1", "C1");
+        assertNull(d.getValue(0, 0));
+
+        try {
+            d.getValue("R1", "XX");
+            fail("Should have thrown UnknownKeyException.");
+        }
+        catch (UnknownKeyException e) {
+            // expected
+        }
+        try {
+            d.getValue("XX", "C1");
+            fail("Should have thrown UnknownKeyException.");
+        }
+        catch (UnknownKeyException e) {
+            // expected
+        }
+        try {
+            d.getValue(0, 2);
+            fail("Should have thrown IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Checks that two datasets have the same keys and values.
+     *
+     * @param expected  the expected dataset.
+     * @param actual  the dataset to check.
+     */
+    private static void checkValues(CategoryDataset expected,
+            CategoryDataset actual) {
+        assertEquals(expected.getRowKeys(), actual.getRowKeys());
+        assertEquals(expected.getColumnKeys(), actual.getColumnKeys());
+        for (int r = 0; r < expected.getRowCount(); r++) {
+            for (int c = 0; c < expected.getColumnCount(); c++) {
+                assertEquals(expected.getValue(r, c), actual.getValue(r, c));
+            }
+        }
+    }
+
+    /**
+     * Check that the dataset gives the same results as a
+     * DefaultCategoryDataset as it grows beyond its capacity and has rows
+     * and columns removed.
+     */
+    @Test
+    public void testAgainstDefaultCategoryDataset() {
+        DenseCategoryDataset d1 = new DenseCategoryDataset(2, 2);
+        DefaultCategoryDataset d2 = new DefaultCategoryDataset();
+        for (int r = 0; r < 20; r++) {
+            for (int c = 0; c < 30; c += (r % 3) + 1) {
+                d1.addValue(r * 100.0 + c, "R" + r, "C" + c);
+                d2.addValue(r * 100.0 + c, "R" + r, "C" + c);
+            }
+        }
+        checkValues(d2, d1);
+
+        d1.removeRow(0);
+        d2.removeRow(0);
+        d1.removeRow("R7");
+        d2.removeRow("R7");
+        d1.removeColumn(3);
+        d2.removeColumn(3);
+        d1.removeColumn("C29");
+        d2.removeColumn("C29");
+        checkValues(d2, d1);
+        assertEquals(d2.getRowIndex("R12"), d1.getRowIndex("R12"));
+        assertEquals(d2.getColumnIndex("C12"), d1.getColumnIndex("C12"));
+
+        // values added after removals must not pick up stale data
+        d1.addValue(5.0, "R99", "C99");
+        d2.addValue(5.0, "R99", "C99");
+        checkValues(d2, d1);
+    }
+
+    /**
+     * Some checks for the equals() and hashCode() methods.
+     */
+    @Test
+    public void testEquals() {
+        DenseCategoryDataset d1 = new DenseCategoryDataset(1, 1);
+        DenseCategoryDataset d2 = new DenseCategoryDataset(5, 8);
+        assertTrue(d1.equals(d2));
+        d1.addValue(1.0, "R1", "C1");
+        assertFalse(d1.equals(d2));
+        d2.addValue(1.0, "R1", "C1");
+        assertTrue(d1.equals(d2));
+        d1.addValue(null, "R1", "C2");
+        assertFalse(d1.equals(d2));
+        d2.addValue(Double.NaN, "R1", "C2");
+        assertTrue(d1.equals(d2));
+        assertEquals(d1.hashCode(), d2.hashCode());
+
+        // not equal to other types of dataset with the same values, since
+        // the hash codes differ
+        DefaultCategoryDataset d3 = new DefaultCategoryDataset();
+        d3.addValue(1.0, "R1", "C1");
+        d3.addValue(null, "R1", "C2");
+        assertFalse(d1.equals(d3));
+    }
+
+    /**
+     * A dataset with more values than an array can hold is rejected.
+     */
+    @Test
+    public void testTooLarge() {
+        try {
+            new DenseCategoryDataset(100000, 100000);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Some checks for the removeValue() method.
+     */
+    @Test
+    public void testRemoveValue() {
+        DenseCategoryDataset d = new DenseCategoryDataset();
+        d.removeValue("R1", "C1");
+        d.addValue(new Double(1.0), "R1", "C1");
+        d.removeValue("R1", "C1");
+        assertEquals(0, d.getRowCount());
+        assertEquals(0, d.getColumnCount());
+
+        d.addValue(new Double(1.0), "R1", "C1");
+        d.addValue(new Double(2.0), "R2", "C1");
+        d.removeValue("R1", "C1");
+        assertEquals(1, d.getRowCount());
+        assertEquals(new Double(2.0), d.getValue(0, 0));
+    }
+
+    /**
+     * Some checks for the setRow() and setColumn() methods.
+     */
+    @Test
+    public void testSetRowAndColumn() {
+        DenseCategoryDataset d = new DenseCategoryDataset();
+        d.addChangeListener(this);
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(2.0, "R1", "C2");
+        d.addValue(3.0, "R1", "C3");
+        this.eventCount = 0;
+
+        d.setRow("R2", new double[] {4.0, Double.NaN, 6.0});
+        assertEquals(1, this.eventCount);
+        assertEquals(2, d.getRowCount());
+        assertEquals(new Double(4.0), d.getValue("R2", "C1"));
+        assertNull(d.getValue("R2", "C2"));
+        assertEquals(new Double(6.0), d.getValue("R2", "C3"));
+
+        d.setRow("R1", new double[] {7.0, 8.0, 9.0});
+        assertEquals(2, this.eventCount);
+        assertEquals(new Double(8.0), d.getValue("R1", "C2"));
+
+        d.setColumn("C4", new double[] {10.0, 11.0});
+        assertEquals(3, this.eventCount);
+        assertEquals(4, d.getColumnCount());
+        assertEquals(new Double(10.0), d.getValue("R1", "C4"));
+        assertEquals(new Double(11.0), d.getValue("R2", "C4"));
+
+        d.setColumn("C1", new double[] {12.0, Double.NaN});
+        assertEquals(new Double(12.0), d.getValue("R1", "C1"));
+        assertNull(d.getValue("R2", "C1"));
+
+        try {
+            d.setRow("R3", new double[] {1.0});
+            fail("Should have thrown IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            d.setColumn("C5", new double[] {1.0, 2.0, 3.0});
+            fail("Should have thrown IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals(2, d.getRowCount());
+        assertEquals(4, d.getColumnCount());
+    }
+
+    /**
+     * Check the range bounds, which are found without going through
+     * getValue().
+     */
+    @Test
+    public void testGetRangeBounds() {
+        DenseCategoryDataset d = new DenseCategoryDataset();
+        assertNull(d.getRangeBounds(false));
+        assertNull(DatasetUtilities.findRangeBounds(d));
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(-2.0, "R2", "C2");
+        d.addValue(null, "R3", "C3");
+        assertEquals(new Range(-2.0, 1.0), d.getRangeBounds(false));
+        assertEquals(DatasetUtilities.iterateRangeBounds(d),
+                DatasetUtilities.findRangeBounds(d));
+        assertEquals(-2.0, d.getRangeLowerBound(false), 0.0);
+        assertEquals(1.0, d.getRangeUpperBound(false), 0.0);
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        DenseCategoryDataset d1 = new DenseCategoryDataset();
+        d1.addValue(1.0, "R1", "C1");
+        d1.addValue(2.0, "R1", "C2");
+        DenseCategoryDataset d2 = (DenseCategoryDataset) d1.clone();
+        assertTrue(d1 != d2);
+        assertTrue(d1.getClass() == d2.getClass());
+        assertTrue(d1.equals(d2));
+
+        // check independence
+        d1.addValue(3.0, "R1", "C1");
+        assertFalse(d1.equals(d2));
+        d2.addValue(3.0, "R1", "C1");
+        assertTrue(d1.equals(d2));
+        d1.addValue(4.0, "R2", "C1");
+        assertEquals(-1, d2.getRowIndex("R2"));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        DenseCategoryDataset d1 = new DenseCategoryDataset();
+        d1.addValue(23.4, "R1", "C1");
+        d1.addValue(null, "R2", "C2");
+        DenseCategoryDataset d2 = (DenseCategoryDataset)
+                TestUtilities.serialised(d1);
+        assertEquals(d1, d2);
+        assertEquals(1, d2.getRowIndex("R2"));
+        d2.addValue(1.0, "R3", "C1");
+        assertEquals(2, d2.getRowIndex("R3"));
+    }
+
+    /**
+     * A check for the clear() method.
+     */
+    @Test
+    public void testClear() {
+        DenseCategoryDataset d = new DenseCategoryDataset(4, 4);
+        d.addValue(1.0, "R1", "C1");
+        d.clear();
+        assertEquals(0, d.getRowCount());
+        assertEquals(0, d.getColumnCount());
+        d.addValue(2.0, "R1", "C2");
+        assertEquals(new Double(2.0), d.getValue(0, 0));
+    }
+
+}
@@ -36,11 +36,14 @@
  * -------
  * 08-May-2008 : Version 1 (DG);
  * 15-Mar-2009 : Added testGetColumnKeys() (DG);
+ * 18-Oct-2026 : Added testGetVersion() (G14);
+ * 18-Oct-2026 : Added testSerialVersionUID() (G14);
  *
  */
 
 package org.jfree.data.category;
 
+import java.io.ObjectStreamClass;
 import java.util.List;
 
 import org.jfree.chart.TestUtilities;
@@ -133,6 +136,17 @@ public class SlidingCategoryDatasetTest {
         assertTrue(d1.equals(d2));
     }
 
+    /**
+     * The serialVersionUID is unchanged, so that instances serialized by
+     * earlier versions can be restored.
+     */
+    @Test
+    public void testSerialVersionUID() {
+        ObjectStreamClass c = ObjectStreamClass.lookup(
+                SlidingCategoryDataset.class);
+        assertEquals(3282131296689553558L, c.getSerialVersionUID());
+    }
+
     /**
      * Some checks for the getColumnCount() method.
      */
@@ -264,4 +278,21 @@ public class SlidingCategoryDatasetTest {
         assertEquals(1, keys.size());
     }
 
+    /**
+     * The version changes when the underlying dataset changes.
+     */
+    @Test
+    public void testGetVersion() {
+        DefaultCategoryDataset underlying = new DefaultCategoryDataset();
+        underlying.addValue(1.0, "R1", "C1");
+        SlidingCategoryDataset dataset = new SlidingCategoryDataset(
+                underlying, 0, 2);
+        long v0 = dataset.getVersion();
+        underlying.addValue(2.0, "R1", "C2");
+        long v1 = dataset.getVersion();
+        assertTrue(v1 > v0);
+        dataset.setFirstCategoryIndex(1);
+        assertTrue(dataset.getVersion() > v1);
+    }
+
 }
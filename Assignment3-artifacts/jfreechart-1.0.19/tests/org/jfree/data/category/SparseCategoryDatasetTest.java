@@ -0,0 +1,170 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------
+ * SparseCategoryDatasetTest.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.category;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.DataUtilities;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.util.PublicCloneable;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link SparseCategoryDataset} class.
+ */
+public class SparseCategoryDatasetTest {
+
+    /**
+     * Some checks for the getValue() method.
+     */
+    @Test
+    public void testGetValue() {
+        SparseCategoryDataset d = new SparseCategoryDataset();
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(2.0, "R2", "C2");
+        assertEquals(new Double(1.0), d.getValue("R1", "C1"));
+        assertEquals(new Double(2.0), d.getValue(1, 1));
+        assertNull(d.getValue(0, 1));
+        assertNull(d.getValue("R2", "C1"));
+        assertTrue(d.equals(createDefault()));
+        assertTrue(createDefault().equals(d));
+    }
+
+    /**
+     * The row totals and range bounds take a different path for sparse
+     * data, so check them against a DefaultCategoryDataset.
+     */
+    @Test
+    public void testTotalsAndBounds() {
+        SparseCategoryDataset d1 = new SparseCategoryDataset();
+        DefaultCategoryDataset d2 = new DefaultCategoryDataset();
+        for (int r = 0; r < 10; r++) {
+            for (int c = r; c < 100; c += 7) {
+                d1.addValue(r - c, "R" + r, "C" + c);
+                d2.addValue(r - c, "R" + r, "C" + c);
+            }
+        }
+        d1.addValue(Double.NaN, "R0", "C1");
+        d2.addValue(Double.NaN, "R0", "C1");
+        for (int r = 1; r < 10; r++) {
+            assertEquals(DataUtilities.calculateRowTotal(d2, r),
+                    DataUtilities.calculateRowTotal(d1, r), 0.0);
+        }
+        for (int c = 0; c < d1.getColumnCount(); c++) {
+            assertEquals(DataUtilities.calculateColumnTotal(d2, c),
+                    DataUtilities.calculateColumnTotal(d1, c), 0.0);
+        }
+        Range r1 = DatasetUtilities.findRangeBounds(d1);
+        assertEquals(DatasetUtilities.findRangeBounds(d2), r1);
+        assertEquals(new Range(-98.0, 0.0), r1);
+    }
+
+    /**
+     * Some checks for the removeValue() method.
+     */
+    @Test
+    public void testRemoveValue() {
+        SparseCategoryDataset d = new SparseCategoryDataset();
+        d.removeValue("R1", "C1");
+        d.addValue(new Double(1.0), "R1", "C1");
+        d.removeValue("R1", "C1");
+        assertEquals(0, d.getRowCount());
+        assertEquals(0, d.getColumnCount());
+
+        d.addValue(new Double(1.0), "R1", "C1");
+        d.addValue(new Double(2.0), "R2", "C1");
+        d.removeValue("R1", "C1");
+        assertEquals(new Double(2.0), d.getValue(0, 0));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        SparseCategoryDataset d1 = new SparseCategoryDataset();
+        d1.addValue(1.0, "R1", "C1");
+        d1.addValue(2.0, "R1", "C2");
+        SparseCategoryDataset d2 = (SparseCategoryDataset) d1.clone();
+        assertTrue(d1 != d2);
+        assertTrue(d1.getClass() == d2.getClass());
+        assertTrue(d1.equals(d2));
+        assertTrue(d1 instanceof PublicCloneable);
+
+        // check that the clone doesn't share the same underlying data
+        d1.addValue(3.0, "R1", "C1");
+        assertFalse(d1.equals(d2));
+        d2.addValue(3.0, "R1", "C1");
+        assertTrue(d1.equals(d2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        SparseCategoryDataset d1 = new SparseCategoryDataset();
+        d1.setValue(23.4, "R1", "C1");
+        d1.setValue(null, "R2", "C2");
+        SparseCategoryDataset d2 = (SparseCategoryDataset)
+                TestUtilities.serialised(d1);
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * Creates a DefaultCategoryDataset with the same data as the dataset
+     * in testGetValue().
+     *
+     * @return A dataset.
+     */
+    private DefaultCategoryDataset createDefault() {
+        DefaultCategoryDataset d = new DefaultCategoryDataset();
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(2.0, "R2", "C2");
+        return d;
+    }
+
+}
@@ -35,11 +35,13 @@
  * Changes
  * -------
  * 08-May-2008 : Version 1 (DG);
+ * 18-Oct-2026 : Added testSerialVersionUID() (G14);
  *
  */
 
 package org.jfree.data.gantt;
 
+import java.io.ObjectStreamClass;
 import java.util.Date;
 
 import org.jfree.chart.TestUtilities;
@@ -144,4 +146,15 @@ public class SlidingGanttCategoryDatasetTest {
         assertTrue(d1.equals(d2));
     }
 
+    /**
+     * The serialVersionUID is unchanged, so that instances serialized by
+     * earlier versions can be restored.
+     */
+    @Test
+    public void testSerialVersionUID() {
+        ObjectStreamClass c = ObjectStreamClass.lookup(
+                SlidingGanttCategoryDataset.class);
+        assertEquals(-6886626539532629787L, c.getSerialVersionUID());
+    }
+
 }
@@ -47,6 +47,8 @@
  * 16-May-2009 : Added
  *               testIterateToFindRangeBounds_MultiValueCategoryDataset() (DG);
  * 10-Sep-2009 : Added tests for bug 2849731 (DG);
+ * 18-Oct-2026 : Added testParallelBounds() (G14);
+ * 18-Oct-2026 : Added testCalculateStackTotal() (G14);
  *
  */
 
@@ -56,6 +58,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.jfree.data.KeyToGroupMap;
 import org.jfree.data.Range;
@@ -72,6 +77,7 @@ import org.jfree.data.statistics.MultiValueCategoryDataset;
 import org.jfree.data.xy.DefaultIntervalXYDataset;
 import org.jfree.data.xy.DefaultTableXYDataset;
 import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.DefaultXYZDataset;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.TableXYDataset;
 import org.jfree.data.xy.XYDataset;
@@ -79,6 +85,7 @@ import org.jfree.data.xy.XYIntervalSeries;
 import org.jfree.data.xy.XYIntervalSeriesCollection;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.data.xy.XYStackTotalInfo;
 import org.jfree.data.xy.YIntervalSeries;
 import org.jfree.data.xy.YIntervalSeriesCollection;
 import org.junit.Test;
@@ -1039,6 +1046,42 @@ public class DatasetUtilitiesTest {
         return dataset;
     }
 
+    /**
+     * A table dataset that supplies its own stack totals.
+     */
+    static class StackTotalDataset extends DefaultTableXYDataset
+            implements XYStackTotalInfo {
+
+        @Override
+        public double getStackTotal(int item) {
+            return 100.0 + item;
+        }
+
+    }
+
+    /**
+     * The stack total is found by adding the series unless the dataset
+     * implements {@link XYStackTotalInfo}.
+     */
+    @Test
+    public void testCalculateStackTotal() {
+        TableXYDataset d1 = createTableXYDataset1();
+        assertEquals(-1.0, DatasetUtilities.calculateStackTotal(d1, 0),
+                EPSILON);
+        assertEquals(1.0, DatasetUtilities.calculateStackTotal(d1, 1),
+                EPSILON);
+
+        StackTotalDataset d2 = new StackTotalDataset();
+        XYSeries s1 = new XYSeries("Series 1", true, false);
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        d2.addSeries(s1);
+        assertEquals(100.0, DatasetUtilities.calculateStackTotal(d2, 0),
+                EPSILON);
+        assertEquals(101.0, DatasetUtilities.calculateStackTotal(d2, 1),
+                EPSILON);
+    }
+
     /**
      * Some checks for the iteratorToFindRangeBounds(XYDataset...) method.
      */
@@ -1418,4 +1461,71 @@ public class DatasetUtilitiesTest {
         assertTrue(Double.isNaN(DatasetUtilities.findYValue(dataset, 0, 3.0)));
     }
 
+    /**
+     * Check that the parallel bounds methods give the same results as the
+     * sequential methods, for datasets that are large enough to be split
+     * into several tasks (with chunks that cross series boundaries).
+     */
+    @Test
+    public void testParallelBounds() {
+        Random random = new Random(123L);
+        DefaultIntervalXYDataset d1 = new DefaultIntervalXYDataset();
+        DefaultXYZDataset d2 = new DefaultXYZDataset();
+        int[] sizes = new int[] {700000, 0, 12345, 500000};
+        for (int s = 0; s < sizes.length; s++) {
+            int n = sizes[s];
+            double[][] data = new double[6][n];
+            for (int i = 0; i < n; i++) {
+                double x = random.nextGaussian() * 1000.0;
+                double y = random.nextGaussian() * (s + 1);
+                double w = random.nextDouble();
+                data[0][i] = (i % 1000 == 7 ? Double.NaN : x);
+                data[1][i] = x - w;
+                data[2][i] = x + w;
+                data[3][i] = (i % 999 == 5 ? Double.NaN : y);
+                data[4][i] = y - w;
+                data[5][i] = y + w;
+            }
+            d1.addSeries("S" + s, data);
+            d2.addSeries("S" + s, new double[][] {data[0], data[1],
+                    data[3]});
+        }
+        List keys = Arrays.asList(new Comparable[] {"S3", "S1", "S0"});
+        Range xRange = new Range(-500.0, 800.0);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (int i = 0; i < 2; i++) {
+                boolean b = (i == 0);
+                assertEquals(DatasetUtilities.iterateDomainBounds(d1, b),
+                        DatasetUtilities.iterateDomainBounds(d1, b,
+                        executor));
+                assertEquals(DatasetUtilities.iterateRangeBounds(d1, b),
+                        DatasetUtilities.iterateRangeBounds(d1, b, executor));
+                assertEquals(DatasetUtilities.iterateZBounds(d2, b),
+                        DatasetUtilities.iterateZBounds(d2, b, executor));
+                assertEquals(DatasetUtilities.iterateToFindDomainBounds(d1,
+                        keys, b), DatasetUtilities.iterateToFindDomainBounds(
+                        d1, keys, b, executor));
+                assertEquals(DatasetUtilities.iterateToFindRangeBounds(d1,
+                        keys, xRange, b),
+                        DatasetUtilities.iterateToFindRangeBounds(d1, keys,
+                        xRange, b, executor));
+                assertEquals(DatasetUtilities.iterateToFindZBounds(d2, keys,
+                        xRange, b), DatasetUtilities.iterateToFindZBounds(d2,
+                        keys, xRange, b, executor));
+            }
+
+            // a small dataset, and no executor
+            DefaultXYDataset d3 = new DefaultXYDataset();
+            d3.addSeries("S1", new double[][] {{1.0, 2.0}, {3.0, 4.0}});
+            assertEquals(new Range(1.0, 2.0),
+                    DatasetUtilities.iterateDomainBounds(d3, true, executor));
+            assertEquals(new Range(3.0, 4.0),
+                    DatasetUtilities.iterateRangeBounds(d3, true, null));
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
 }
@@ -0,0 +1,152 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * MinMaxTreeTest.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.general;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link MinMaxTree} class.
+ */
+public class MinMaxTreeTest {
+
+    /**
+     * An empty tree, or a run of missing values, has no minimum or maximum.
+     */
+    @Test
+    public void testEmpty() {
+        MinMaxTree t = new MinMaxTree();
+        assertEquals(0, t.size());
+        assertEquals(Double.POSITIVE_INFINITY, t.getMinimum(0, 0), 0.0);
+        assertEquals(Double.NEGATIVE_INFINITY, t.getMaximum(0, 0), 0.0);
+        t.addMissing();
+        t.add(3.0);
+        assertEquals(Double.POSITIVE_INFINITY, t.getMinimum(0, 1), 0.0);
+        assertEquals(3.0, t.getMinimum(0, 2), 0.0);
+        assertEquals(3.0, t.getMaximum(0, 2), 0.0);
+        t.add(Double.NaN);
+        assertTrue(Double.isNaN(t.getMinimum(0, 3)));
+        assertTrue(Double.isNaN(t.getMaximum(1, 3)));
+        try {
+            t.getMinimum(1, 4);
+            fail("Expected an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Compare the results against a brute force calculation, while values
+     * are appended, changed and removed from the start of the sequence.
+     */
+    @Test
+    public void testRandom() {
+        Random random = new Random(14L);
+        MinMaxTree t = new MinMaxTree();
+        List low = new ArrayList();
+        List high = new ArrayList();
+        for (int i = 0; i < 5000; i++) {
+            int action = random.nextInt(10);
+            if (action == 0 && !low.isEmpty()) {
+                int count = random.nextInt(Math.min(low.size(), 20) + 1);
+                t.removeFirst(count);
+                low.subList(0, count).clear();
+                high.subList(0, count).clear();
+            }
+            else if (action == 1 && !low.isEmpty()) {
+                int index = random.nextInt(low.size());
+                double v = random.nextInt(1000);
+                t.set(index, v);
+                low.set(index, new Double(v));
+                high.set(index, new Double(v));
+            }
+            else if (action == 2) {
+                t.addMissing();
+                low.add(new Double(Double.POSITIVE_INFINITY));
+                high.add(new Double(Double.NEGATIVE_INFINITY));
+            }
+            else {
+                double v = random.nextInt(1000);
+                t.add(v - 10.0, v);
+                low.add(new Double(v - 10.0));
+                high.add(new Double(v));
+            }
+            assertEquals(low.size(), t.size());
+            for (int j = 0; j < 3; j++) {
+                int a = random.nextInt(low.size() + 1);
+                int b = a + random.nextInt(low.size() - a + 1);
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                for (int k = a; k < b; k++) {
+                    min = Math.min(min, ((Double) low.get(k)).doubleValue());
+                    max = Math.max(max, ((Double) high.get(k)).doubleValue());
+                }
+                assertEquals(min, t.getMinimum(a, b), 0.0);
+                assertEquals(max, t.getMaximum(a, b), 0.0);
+            }
+        }
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        MinMaxTree t1 = new MinMaxTree();
+        t1.add(1.0);
+        t1.add(2.0);
+        MinMaxTree t2 = (MinMaxTree) t1.clone();
+        t1.set(1, 5.0);
+        assertEquals(2.0, t2.getMaximum(0, 2), 0.0);
+        assertEquals(5.0, t1.getMaximum(0, 2), 0.0);
+    }
+
+}
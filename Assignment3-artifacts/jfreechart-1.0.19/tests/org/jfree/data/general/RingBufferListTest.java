@@ -0,0 +1,181 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * RingBufferListTest.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.general;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jfree.chart.TestUtilities;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link RingBufferList} class.
+ */
+public class RingBufferListTest {
+
+    /**
+     * Adding at the end and removing from the front wraps around the
+     * underlying array without disturbing the order of the items.
+     */
+    @Test
+    public void testAddAndRemoveFirst() {
+        RingBufferList list = new RingBufferList(4);
+        for (int i = 0; i < 100; i++) {
+            list.add(new Integer(i));
+            if (list.size() > 3) {
+                assertEquals(new Integer(i - 3), list.remove(0));
+            }
+        }
+        assertEquals(3, list.size());
+        assertEquals(new Integer(97), list.get(0));
+        assertEquals(new Integer(98), list.get(1));
+        assertEquals(new Integer(99), list.get(2));
+    }
+
+    /**
+     * Insertions and removals at arbitrary positions should behave the same
+     * way as for an ArrayList.
+     */
+    @Test
+    public void testInsertAndRemoveMatchesArrayList() {
+        RingBufferList list = new RingBufferList(2);
+        List expected = new ArrayList();
+        java.util.Random random = new java.util.Random(637L);
+        for (int i = 0; i < 2000; i++) {
+            int op = random.nextInt(4);
+            if (op < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, new Integer(i));
+                expected.add(index, new Integer(i));
+            }
+            else if (op == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+            else {
+                assertEquals(expected.remove(0), list.remove(0));
+            }
+        }
+        assertEquals(expected, list);
+    }
+
+    /**
+     * Some checks for the removeRange() method (via subList().clear()).
+     */
+    @Test
+    public void testRemoveRange() {
+        RingBufferList list = new RingBufferList(4);
+        List expected = new ArrayList();
+        for (int i = 0; i < 10; i++) {
+            list.add(new Integer(i));
+            expected.add(new Integer(i));
+        }
+        list.remove(0);
+        expected.remove(0);
+        list.subList(0, 3).clear();
+        expected.subList(0, 3).clear();
+        assertEquals(expected, list);
+        list.subList(3, 6).clear();
+        expected.subList(3, 6).clear();
+        assertEquals(expected, list);
+        list.subList(1, 2).clear();
+        expected.subList(1, 2).clear();
+        assertEquals(expected, list);
+    }
+
+    /**
+     * Check index checking.
+     */
+    @Test
+    public void testIndexOutOfBounds() {
+        RingBufferList list = new RingBufferList();
+        list.add("A");
+        try {
+            list.get(1);
+            fail("Expected an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        try {
+            list.add(2, "B");
+            fail("Expected an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        RingBufferList l1 = new RingBufferList(2);
+        l1.add("A");
+        l1.add("B");
+        l1.remove(0);
+        l1.add("C");
+        RingBufferList l2 = (RingBufferList) l1.clone();
+        assertTrue(l1 != l2);
+        assertEquals(l1, l2);
+        l2.clear();
+        assertEquals(2, l1.size());
+        assertEquals("B", l1.get(0));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        RingBufferList l1 = new RingBufferList();
+        l1.add("A");
+        l1.add("B");
+        RingBufferList l2 = (RingBufferList) TestUtilities.serialised(l1);
+        assertEquals(l1, l2);
+    }
+
+}
@@ -0,0 +1,149 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * SeriesChangeTypeTest.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Added testEventsSerializedWithoutDetails() (G14);
+ *
+ */
+
+package org.jfree.data.general;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ObjectInputStream;
+
+import org.jfree.chart.TestUtilities;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link SeriesChangeType} class.
+ */
+public class SeriesChangeTypeTest {
+
+    /**
+     * Some checks for the equals() method.
+     */
+    @Test
+    public void testEquals() {
+        assertEquals(SeriesChangeType.APPEND, SeriesChangeType.APPEND);
+        assertFalse(SeriesChangeType.APPEND.equals(SeriesChangeType.UPDATE));
+        assertFalse(SeriesChangeType.GENERAL.equals(
+                SeriesChangeType.REMOVE_FIRST));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for identity.
+     */
+    @Test
+    public void testSerialization() {
+        SeriesChangeType t1 = SeriesChangeType.REMOVE_FIRST;
+        SeriesChangeType t2 = (SeriesChangeType) TestUtilities.serialised(t1);
+        assertSame(t1, t2);
+    }
+
+    /**
+     * Check that a series change event survives serialization.
+     */
+    @Test
+    public void testEventSerialization() {
+        SeriesChangeEvent e1 = new SeriesChangeEvent("S1",
+                SeriesChangeType.APPEND, 3, 5, 1);
+        SeriesChangeEvent e2 = (SeriesChangeEvent) TestUtilities.serialised(
+                e1);
+        assertSame(SeriesChangeType.APPEND, e2.getType());
+        assertEquals(3, e2.getFirstIndex());
+        assertEquals(5, e2.getLastIndex());
+        assertEquals(1, e2.getRemovedCount());
+    }
+
+    /**
+     * Restores an object from a hex string.
+     *
+     * @param hex  the serialized form.
+     *
+     * @return The object.
+     *
+     * @throws Exception if there is a problem.
+     */
+    private static Object restore(String hex) throws Exception {
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(
+                    hex.substring(2 * i, 2 * i + 2), 16);
+        }
+        ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes));
+        Object result = in.readObject();
+        in.close();
+        return result;
+    }
+
+    /**
+     * Events serialized before the change details were added,
+     * SeriesChangeEvent("S1") and DatasetChangeEvent("S1", null), are
+     * restored as changes to the whole series or dataset.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testEventsSerializedWithoutDetails() throws Exception {
+        String series = "aced0005737200286f72672e6a667265652e646174612e67656e"
+                + "6572616c2e5365726965734368616e67654576656e74161e8cc2847d"
+                + "665c020000787200156a6176612e7574696c2e4576656e744f626a65"
+                + "63744c8d094e186d7da80200007870";
+        SeriesChangeEvent e1 = (SeriesChangeEvent) restore(series);
+        assertSame(SeriesChangeType.GENERAL, e1.getType());
+        assertEquals(-1, e1.getFirstIndex());
+        assertEquals(-1, e1.getLastIndex());
+        assertEquals(0, e1.getRemovedCount());
+
+        String dataset = "aced0005737200296f72672e6a667265652e646174612e67656e"
+                + "6572616c2e446174617365744368616e67654576656e7402bb7a2e58"
+                + "1edff00200014c0007646174617365747400204c6f72672f6a667265"
+                + "652f646174612f67656e6572616c2f446174617365743b787200156a"
+                + "6176612e7574696c2e4576656e744f626a6563744c8d094e186d7da8"
+                + "020000787070";
+        DatasetChangeEvent e2 = (DatasetChangeEvent) restore(dataset);
+        assertNull(e2.getDataset());
+        assertEquals(-1, e2.getSeriesIndex());
+        assertNull(e2.getSeriesChange());
+    }
+
+}
@@ -0,0 +1,116 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * WindowedMinMaxTest.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.general;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link WindowedMinMax} class.
+ */
+public class WindowedMinMaxTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * An empty window has no minimum or maximum.
+     */
+    @Test
+    public void testEmpty() {
+        WindowedMinMax w = new WindowedMinMax();
+        assertTrue(Double.isNaN(w.getMin()));
+        assertTrue(Double.isNaN(w.getMax()));
+        w.append(Double.NaN);
+        assertEquals(1, w.getCount());
+        assertTrue(Double.isNaN(w.getMin()));
+    }
+
+    /**
+     * Compare the tracked bounds against a brute force calculation for a
+     * sliding window over random data.
+     */
+    @Test
+    public void testSlidingWindow() {
+        java.util.Random random = new java.util.Random(14L);
+        double[] values = new double[5000];
+        int windowSize = 37;
+        WindowedMinMax w = new WindowedMinMax();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(10) == 0 ? Double.NaN
+                    : random.nextGaussian();
+            w.append(values[i]);
+            if (w.getCount() > windowSize) {
+                w.removeFirst();
+            }
+            double min = Double.NaN;
+            double max = Double.NaN;
+            for (int j = Math.max(0, i - windowSize + 1); j <= i; j++) {
+                if (!Double.isNaN(values[j])) {
+                    min = Double.isNaN(min) ? values[j]
+                            : Math.min(min, values[j]);
+                    max = Double.isNaN(max) ? values[j]
+                            : Math.max(max, values[j]);
+                }
+            }
+            assertEquals(min, w.getMin(), EPSILON);
+            assertEquals(max, w.getMax(), EPSILON);
+        }
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        WindowedMinMax w1 = new WindowedMinMax();
+        w1.append(3.0);
+        w1.append(1.0);
+        WindowedMinMax w2 = (WindowedMinMax) w1.clone();
+        w2.removeFirst();
+        w2.removeFirst();
+        assertEquals(1.0, w1.getMin(), EPSILON);
+        assertEquals(3.0, w1.getMax(), EPSILON);
+        assertTrue(Double.isNaN(w2.getMax()));
+    }
+
+}
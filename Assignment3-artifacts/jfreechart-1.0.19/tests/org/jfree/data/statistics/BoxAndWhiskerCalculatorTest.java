@@ -41,10 +41,13 @@
 package org.jfree.data.statistics;
 
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import org.junit.Test;
 
 /**
@@ -162,4 +165,155 @@ public class BoxAndWhiskerCalculatorTest {
         assertEquals(1.0, theItem.getMinRegularValue().doubleValue(), EPSILON);
         assertEquals(4.0, theItem.getMaxRegularValue().doubleValue(), EPSILON);
     }
+
+    /**
+     * Creates some values with outliers and duplicates.
+     *
+     * @param random  the random number generator.
+     * @param n  the number of values.
+     *
+     * @return The values.
+     */
+    private static double[] createValues(Random random, int n) {
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = Math.floor(random.nextGaussian() * 10.0);
+            if (i % 17 == 0) {
+                values[i] = values[i] * 5.0;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Checks that two items are equal (allowing for rounding in the mean).
+     *
+     * @param expected  the expected item.
+     * @param actual  the actual item.
+     */
+    private static void check(BoxAndWhiskerItem expected,
+            BoxAndWhiskerItem actual) {
+        assertEquals(expected.getMean().doubleValue(),
+                actual.getMean().doubleValue(), EPSILON);
+        assertEquals(expected.getMedian(), actual.getMedian());
+        assertEquals(expected.getQ1(), actual.getQ1());
+        assertEquals(expected.getQ3(), actual.getQ3());
+        assertEquals(expected.getMinRegularValue(),
+                actual.getMinRegularValue());
+        assertEquals(expected.getMaxRegularValue(),
+                actual.getMaxRegularValue());
+        assertEquals(expected.getMinOutlier(), actual.getMinOutlier());
+        assertEquals(expected.getMaxOutlier(), actual.getMaxOutlier());
+        assertEquals(expected.getOutliers(), actual.getOutliers());
+    }
+
+    /**
+     * The statistics for an array (found by selection) and for a sketch
+     * that holds all its values should be the same as for a list (found by
+     * sorting).
+     */
+    @Test
+    public void testCalculateFromArrayAndSketch() {
+        Random random = new Random(21L);
+        for (int n = 0; n < 150; n += 7) {
+            double[] values = createValues(random, n + 2);
+            values[0] = Double.NaN;
+            List list = new ArrayList();
+            for (int i = 1; i < n + 1; i++) {
+                list.add(new Double(values[i]));
+            }
+            BoxAndWhiskerItem expected = BoxAndWhiskerCalculator
+                    .calculateBoxAndWhiskerStatistics(list);
+            double[] copy = (double[]) values.clone();
+            check(expected, BoxAndWhiskerCalculator
+                    .calculateBoxAndWhiskerStatistics(values, 0, n + 1));
+            assertTrue(Arrays.equals(copy, values));
+
+            BoxAndWhiskerSketch sketch = new BoxAndWhiskerSketch();
+            sketch.add(values, 0, n + 1);
+            assertTrue(sketch.isExact());
+            check(expected, BoxAndWhiskerCalculator
+                    .calculateSketchStatistics(sketch));
+
+            // the same again, without stripping nulls and NaNs
+            check(expected, BoxAndWhiskerCalculator
+                    .calculateBoxAndWhiskerStatistics(list, false));
+        }
+    }
+
+    /**
+     * The statistics estimated from a sketch should be within its error
+     * bounds.
+     */
+    @Test
+    public void testCalculateFromSketch() {
+        Random random = new Random(2L);
+        double[] values = createValues(random, 200000);
+        BoxAndWhiskerItem expected = BoxAndWhiskerCalculator
+                .calculateBoxAndWhiskerStatistics(values, 0, values.length);
+        BoxAndWhiskerSketch sketch = new BoxAndWhiskerSketch(200, 20);
+        BoxAndWhiskerSketch part = new BoxAndWhiskerSketch(200, 20);
+        sketch.add(values, 0, 100000);
+        part.add(values, 100000, 100000);
+        sketch.merge(part);
+        assertFalse(sketch.isExact());
+        assertEquals(200000, sketch.getCount());
+        BoxAndWhiskerItem item = BoxAndWhiskerCalculator
+                .calculateSketchStatistics(sketch);
+        assertEquals(expected.getMean().doubleValue(),
+                item.getMean().doubleValue(), 1E-9);
+
+        // quartiles by rank
+        double[] sorted = (double[]) values.clone();
+        Arrays.sort(sorted);
+        double error = 0.0133 * sorted.length;
+        checkRank(sorted, item.getQ1().doubleValue(), 0.25, error);
+        checkRank(sorted, item.getMedian().doubleValue(), 0.5, error);
+        checkRank(sorted, item.getQ3().doubleValue(), 0.75, error);
+
+        // the whiskers are within the values recorded in the tails, or
+        // are values in the data
+        assertTrue(Arrays.binarySearch(sorted,
+                item.getMinRegularValue().doubleValue()) >= 0);
+        assertTrue(Arrays.binarySearch(sorted,
+                item.getMaxRegularValue().doubleValue()) >= 0);
+
+        // only the 20 most extreme outliers at each end are listed
+        List outliers = item.getOutliers();
+        assertEquals(40, outliers.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(sorted[i], ((Number) outliers.get(i)).doubleValue(),
+                    0.0);
+            assertEquals(sorted[sorted.length - 20 + i],
+                    ((Number) outliers.get(20 + i)).doubleValue(), 0.0);
+        }
+        assertTrue(Arrays.binarySearch(sorted,
+                item.getMinOutlier().doubleValue()) >= 0);
+        assertTrue(item.getMinOutlier().doubleValue()
+                <= item.getMinRegularValue().doubleValue());
+    }
+
+    /**
+     * Checks that the rank of a value in sorted data is within an error of
+     * a fraction of the data.
+     *
+     * @param sorted  the sorted data.
+     * @param value  the value.
+     * @param fraction  the fraction.
+     * @param error  the permitted error (in ranks).
+     */
+    private static void checkRank(double[] sorted, double value,
+            double fraction, double error) {
+        double target = fraction * sorted.length;
+        int first = 0;
+        while (sorted[first] < value) {
+            first++;
+        }
+        int last = first;
+        while (last < sorted.length && sorted[last] == value) {
+            last++;
+        }
+        assertTrue(first - error <= target && target <= last + error);
+    }
+
 }
@@ -0,0 +1,192 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * BoxAndWhiskerSketchTest.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Added testMergeWithItself() (G14);
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+
+import org.jfree.chart.TestUtilities;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link BoxAndWhiskerSketch} class.
+ */
+public class BoxAndWhiskerSketchTest {
+
+    /**
+     * Creates a sketch of the values 1 to n, added in a scrambled order.
+     *
+     * @param n  the number of values.
+     * @param tailSize  the tail size.
+     *
+     * @return The sketch.
+     */
+    private static BoxAndWhiskerSketch createSketch(int n, int tailSize) {
+        BoxAndWhiskerSketch s = new BoxAndWhiskerSketch(16, tailSize);
+        for (int i = 0; i < n; i++) {
+            s.add((i * 7919L) % n + 1);
+        }
+        return s;
+    }
+
+    /**
+     * Some checks for the tails.
+     */
+    @Test
+    public void testTails() {
+        BoxAndWhiskerSketch s = createSketch(1000, 10);
+        assertFalse(s.isExact());
+        assertEquals(1000, s.getCount());
+        assertEquals(500.5, s.getMean(), 1E-9);
+
+        // exact within the tails
+        assertEquals(1.0, s.ceiling(-5.0), 0.0);
+        assertEquals(5.0, s.ceiling(4.5), 0.0);
+        assertEquals(996.0, s.floor(996.5), 0.0);
+        assertEquals(1000.0, s.floor(2000.0), 0.0);
+        assertTrue(Double.isNaN(s.ceiling(1000.5)));
+        assertTrue(Double.isNaN(s.floor(0.5)));
+
+        // approximate between them, but always a value that was added
+        double c = s.ceiling(500.5);
+        assertTrue(c >= 501.0 && c == Math.floor(c) && c < 991.0);
+        double f = s.floor(500.5);
+        assertTrue(f <= 500.0 && f == Math.floor(f) && f > 10.0);
+
+        List outside = s.getValuesOutside(3.0, 999.0);
+        assertEquals(3, outside.size());
+        assertEquals(new Double(1.0), outside.get(0));
+        assertEquals(new Double(2.0), outside.get(1));
+        assertEquals(new Double(1000.0), outside.get(2));
+    }
+
+    /**
+     * A sketch with no tails still gives the whiskers (here exactly, as
+     * there are no outliers).
+     */
+    @Test
+    public void testNoTails() {
+        BoxAndWhiskerSketch s = createSketch(1000, 0);
+        s.add(Double.NaN);
+        assertEquals(1000, s.getCount());
+        BoxAndWhiskerItem item
+                = BoxAndWhiskerCalculator.calculateSketchStatistics(s);
+        assertEquals(0, item.getOutliers().size());
+        assertEquals(1.0, item.getMinRegularValue().doubleValue(), 0.0);
+        assertEquals(1000.0, item.getMaxRegularValue().doubleValue(), 0.0);
+        assertEquals(500.0, item.getMedian().doubleValue(), 20.0);
+    }
+
+    /**
+     * Merging sketches should record the tails of both.
+     */
+    @Test
+    public void testMerge() {
+        BoxAndWhiskerSketch s1 = new BoxAndWhiskerSketch(16, 5);
+        BoxAndWhiskerSketch s2 = new BoxAndWhiskerSketch(16, 5);
+        for (int i = 0; i < 500; i++) {
+            s1.add(i);
+            s2.add(-i);
+        }
+        s1.merge(s2);
+        assertEquals(1000, s1.getCount());
+        assertEquals(-499.0, s1.ceiling(-1000.0), 0.0);
+        assertEquals(499.0, s1.floor(1000.0), 0.0);
+        assertEquals(10, s1.getValuesOutside(-400.0, 400.0).size());
+        try {
+            s1.merge(new BoxAndWhiskerSketch(16, 6));
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Merging a sketch with itself gives the same result as merging it with
+     * a copy.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testMergeWithItself() throws CloneNotSupportedException {
+        BoxAndWhiskerSketch s1 = createSketch(1000, 5);
+        BoxAndWhiskerSketch s2 = (BoxAndWhiskerSketch) s1.clone();
+        s1.merge(s1);
+        s2.merge((BoxAndWhiskerSketch) s2.clone());
+        assertEquals(2000, s1.getCount());
+        assertEquals(s2.getMean(), s1.getMean(), 0.0);
+        assertEquals(1.0, s1.ceiling(-1.0), 0.0);
+        assertEquals(1000.0, s1.floor(2000.0), 0.0);
+        assertEquals(s2.getValuesOutside(50.0, 950.0),
+                s1.getValuesOutside(50.0, 950.0));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        BoxAndWhiskerSketch s1 = createSketch(100, 5);
+        BoxAndWhiskerSketch s2 = (BoxAndWhiskerSketch) s1.clone();
+        s1.add(-1.0);
+        assertEquals(100, s2.getCount());
+        assertEquals(1.0, s2.ceiling(-5.0), 0.0);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check the item.
+     */
+    @Test
+    public void testSerialization() {
+        BoxAndWhiskerSketch s1 = createSketch(100, 5);
+        BoxAndWhiskerSketch s2 = (BoxAndWhiskerSketch)
+                TestUtilities.serialised(s1);
+        assertEquals(BoxAndWhiskerCalculator.calculateSketchStatistics(s1),
+                BoxAndWhiskerCalculator.calculateSketchStatistics(s2));
+    }
+
+}
@@ -39,6 +39,7 @@
  * 28-Sep-2007 : Enhanced testClone() (DG);
  * 02-Oct-2007 : Added new tests (DG);
  * 03-Oct-2007 : Added getTestRangeBounds() and testRemove() (DG);
+ * 18-Oct-2026 : Added testSerialVersionUID() (G14);
  *
  */
 
@@ -48,6 +49,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 
+import java.io.ObjectStreamClass;
 import java.util.ArrayList;
 
 import org.jfree.chart.TestUtilities;
@@ -98,6 +100,17 @@ public class DefaultBoxAndWhiskerCategoryDatasetTest {
         assertEquals(d1, d2);
     }
 
+    /**
+     * The serialVersionUID is unchanged, so that instances serialized by
+     * earlier versions can be restored.
+     */
+    @Test
+    public void testSerialVersionUID() {
+        ObjectStreamClass c = ObjectStreamClass.lookup(
+                DefaultBoxAndWhiskerCategoryDataset.class);
+        assertEquals(8250342558516505559L, c.getSerialVersionUID());
+    }
+
     /**
      * Confirm that cloning works.
      */
@@ -289,4 +302,37 @@ public class DefaultBoxAndWhiskerCategoryDatasetTest {
         assertEquals(new Range(8.5, 9.5), data.getRangeBounds(true));
     }
 
+    /**
+     * The range bounds should follow items that are removed, including the
+     * items that hold the bounds, and items added in a batch.
+     */
+    @Test
+    public void testRangeBoundsAfterChanges() {
+        DefaultBoxAndWhiskerCategoryDataset d
+                = new DefaultBoxAndWhiskerCategoryDataset();
+        d.beginUpdate();
+        try {
+            for (int i = 0; i < 20; i++) {
+                d.add(new BoxAndWhiskerItem(5.0, 5.0, 4.0, 6.0, 3.0, 7.0,
+                        2.0 - i, 8.0 + i, new ArrayList()), "R" + (i % 4),
+                        "C" + (i / 4));
+            }
+        }
+        finally {
+            d.endUpdate();
+        }
+        assertEquals(new Range(-17.0, 27.0), d.getRangeBounds(false));
+        d.remove("R3", "C4");
+        assertEquals(new Range(-16.0, 26.0), d.getRangeBounds(false));
+        d.removeColumn("C4");
+        assertEquals(new Range(-13.0, 23.0), d.getRangeBounds(false));
+        d.removeRow(0);
+        assertEquals(-13.0, d.getRangeLowerBound(false), EPSILON);
+        assertEquals(23.0, d.getRangeUpperBound(false), EPSILON);
+        d.removeRow("R3");
+        assertEquals(new Range(-12.0, 22.0), d.getRangeBounds(false));
+        d.clear();
+        assertTrue(Double.isNaN(d.getRangeLowerBound(false)));
+    }
+
 }
@@ -39,6 +39,7 @@
  * 28-Sep-2007 : Enhanced testCloning() method (DG);
  * 02-Oct-2007 : Added new bounds tests (DG);
  * 03-Oct-2007 : Added testRemove() method (DG);
+ * 18-Oct-2026 : Added testSerialVersionUID() (G14);
  *
  */
 
@@ -49,6 +50,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 
+import java.io.ObjectStreamClass;
+
 import org.jfree.chart.TestUtilities;
 
 import org.jfree.data.Range;
@@ -171,6 +174,17 @@ public class DefaultStatisticalCategoryDatasetTest {
         assertEquals(d1, d2);
     }
 
+    /**
+     * The serialVersionUID is unchanged, so that instances serialized by
+     * earlier versions can be restored.
+     */
+    @Test
+    public void testSerialVersionUID() {
+        ObjectStreamClass c = ObjectStreamClass.lookup(
+                DefaultStatisticalCategoryDataset.class);
+        assertEquals(3508492100715756848L, c.getSerialVersionUID());
+    }
+
     private static final double EPSILON = 0.0000000001;
 
     /**
@@ -281,5 +295,79 @@ public class DefaultStatisticalCategoryDatasetTest {
         assertEquals(1.0, r.getUpperBound(), EPSILON);
     }
 
+    /**
+     * The range bounds should follow items that are replaced and removed,
+     * including the items that hold the bounds.
+     */
+    @Test
+    public void testRangeBoundsAfterChanges() {
+        DefaultStatisticalCategoryDataset d
+                = new DefaultStatisticalCategoryDataset();
+        d.add(1.0, 0.5, "R1", "C1");
+        d.add(5.0, 1.0, "R1", "C2");
+        d.add(3.0, 3.0, "R2", "C1");
+        d.add(2.0, 0.1, "R2", "C2");
+        assertEquals(new Range(1.0, 5.0), d.getRangeBounds(false));
+        assertEquals(new Range(0.0, 6.0), d.getRangeBounds(true));
+
+        // replace the item with the maximum mean
+        d.add(4.0, 0.5, "R1", "C2");
+        assertEquals(new Range(1.0, 4.0), d.getRangeBounds(false));
+        assertEquals(new Range(0.0, 6.0), d.getRangeBounds(true));
+
+        // remove the item with the largest interval
+        d.remove("R2", "C1");
+        assertEquals(new Range(1.0, 4.0), d.getRangeBounds(false));
+        assertEquals(new Range(0.5, 4.5), d.getRangeBounds(true));
+
+        d.removeColumn("C1");
+        assertEquals(new Range(2.0, 4.0), d.getRangeBounds(false));
+        d.removeRow(0);
+        assertEquals(new Range(2.0, 2.0), d.getRangeBounds(false));
+        assertEquals(new Range(1.9, 2.1), d.getRangeBounds(true));
+        d.clear();
+        assertNull(d.getRangeBounds(false));
+    }
+
+    /**
+     * Items added in a batch are included in the range bounds.
+     */
+    @Test
+    public void testRangeBoundsWithBatch() {
+        DefaultStatisticalCategoryDataset d
+                = new DefaultStatisticalCategoryDataset();
+        d.add(1.0, 0.5, "R1", "C1");
+        assertEquals(new Range(1.0, 1.0), d.getRangeBounds(false));
+        d.beginUpdate();
+        try {
+            for (int i = 0; i < 100; i++) {
+                d.add(i, 1.0, "R" + (i % 10), "C" + (i / 10));
+            }
+            d.add(-5.0, 1.0, "R1", "C1");
+        }
+        finally {
+            d.endUpdate();
+        }
+        assertEquals(new Range(-5.0, 99.0), d.getRangeBounds(false));
+        assertEquals(new Range(-6.0, 100.0), d.getRangeBounds(true));
+        d.remove("R1", "C1");
+        assertEquals(new Range(0.0, 99.0), d.getRangeBounds(false));
+    }
+
+    /**
+     * A clone has its own range bounds.
+     */
+    @Test
+    public void testCloningRangeBounds() throws CloneNotSupportedException {
+        DefaultStatisticalCategoryDataset d1
+                = new DefaultStatisticalCategoryDataset();
+        d1.add(1.0, 0.5, "R1", "C1");
+        assertEquals(new Range(1.0, 1.0), d1.getRangeBounds(false));
+        DefaultStatisticalCategoryDataset d2
+                = (DefaultStatisticalCategoryDataset) d1.clone();
+        d2.add(3.0, 0.5, "R1", "C2");
+        assertEquals(new Range(1.0, 1.0), d1.getRangeBounds(false));
+        assertEquals(new Range(1.0, 3.0), d2.getRangeBounds(false));
+    }
 
 }
@@ -49,6 +49,8 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.jfree.chart.TestUtilities;
 
 import org.jfree.data.general.DatasetChangeEvent;
@@ -238,11 +240,100 @@ public class HistogramDatasetTest implements DatasetChangeListener {
         assertNotNull(this.lastEvent);
     }
 
+    /**
+     * Some checks for the addObservations() methods.
+     */
+    @Test
+    public void testAddObservations() {
+        double[] values = {1.0, 2.0, 3.0, 4.0, 6.0, 7.0, 8.0, 9.0};
+        HistogramDataset d1 = new HistogramDataset();
+        d1.addSeries("S1", new double[] {0.0, 10.0}, 5);
+        d1.addChangeListener(this);
+        this.eventCount = 0;
+        d1.addObservations(0, new double[] {1.0, 2.0, Double.NaN, 3.0, 4.0,
+                6.0, 7.0, 8.0, 9.0});
+        assertEquals(1, this.eventCount);
+
+        double[] all = {0.0, 10.0, 1.0, 2.0, 3.0, 4.0, 6.0, 7.0, 8.0, 9.0};
+        HistogramDataset d2 = new HistogramDataset();
+        d2.addSeries("S1", all, 5);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(d2.getY(0, i), d1.getY(0, i));
+        }
+        assertEquals(2.0, d1.getYValue(0, 0), EPSILON);
+        assertEquals(3.0, d1.getYValue(0, 4), EPSILON);
+
+        // values outside the range go into the first and last bins
+        d1.addObservations(0, new double[] {-5.0, 15.0}, 0, 2, null);
+        assertEquals(3.0, d1.getYValue(0, 0), EPSILON);
+        assertEquals(4.0, d1.getYValue(0, 4), EPSILON);
+
+        // a slice
+        d1.addObservations(0, values, 2, 2, null);
+        assertEquals(3.0, d1.getYValue(0, 1), EPSILON);
+
+        // the total includes the new observations
+        d1.setType(HistogramType.RELATIVE_FREQUENCY);
+        assertEquals(3.0 / 14.0, d1.getYValue(0, 1), EPSILON);
+    }
+
+    /**
+     * Observations counted in parallel should give the same result as those
+     * counted on the calling thread.
+     */
+    @Test
+    public void testAddObservationsParallel() {
+        int n = 300000;
+        double[] values = new double[n];
+        long seed = 12345L;
+        for (int i = 0; i < n; i++) {
+            seed = seed * 6364136223846793005L + 1442695040888963407L;
+            values[i] = (seed >>> 11) / (double) (1L << 53) * 100.0;
+        }
+        HistogramDataset d1 = new HistogramDataset();
+        d1.addSeries("S1", new double[] {0.0, 100.0}, 37);
+        HistogramDataset d2 = new HistogramDataset();
+        d2.addSeries("S1", new double[] {0.0, 100.0}, 37);
+        d2.addChangeListener(this);
+        d1.addObservations(0, values);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            this.eventCount = 0;
+            d2.addObservations(0, values, 0, n, executor);
+            assertEquals(1, this.eventCount);
+        }
+        finally {
+            executor.shutdown();
+        }
+        d1.setType(HistogramType.RELATIVE_FREQUENCY);
+        d2.setType(HistogramType.RELATIVE_FREQUENCY);
+        for (int i = 0; i < 37; i++) {
+            assertEquals(d1.getY(0, i), d2.getY(0, i));
+        }
+    }
+
+    /**
+     * The bins of a clone should be independent of the original.
+     */
+    @Test
+    public void testCloningIndependence() throws CloneNotSupportedException {
+        HistogramDataset d1 = new HistogramDataset();
+        d1.addSeries("S1", new double[] {1.0, 2.0, 3.0}, 2);
+        HistogramDataset d2 = (HistogramDataset) d1.clone();
+        d2.addObservations(0, new double[] {1.0});
+        assertEquals(1.0, d1.getYValue(0, 0), EPSILON);
+        assertEquals(2.0, d2.getYValue(0, 0), EPSILON);
+        assertFalse(d1.equals(d2));
+    }
+
     /**
      * A reference to the last event received by the datasetChanged() method.
      */
     private DatasetChangeEvent lastEvent;
 
+    /** The number of events received by the datasetChanged() method. */
+    private int eventCount;
+
     /**
      * Receives event notification.
      *
@@ -251,6 +342,7 @@ public class HistogramDatasetTest implements DatasetChangeListener {
     @Override
     public void datasetChanged(DatasetChangeEvent event) {
         this.lastEvent = event;
+        this.eventCount++;
     }
 
 }
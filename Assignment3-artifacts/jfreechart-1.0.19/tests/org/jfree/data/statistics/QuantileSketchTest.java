@@ -0,0 +1,274 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * QuantileSketchTest.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Added testMergeWithItself() (G14);
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.jfree.chart.TestUtilities;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link QuantileSketch} class.
+ */
+public class QuantileSketchTest {
+
+    /**
+     * Checks that the quantiles estimated by a sketch are within its rank
+     * error.
+     *
+     * @param sketch  the sketch.
+     * @param sorted  all the values, sorted.
+     */
+    private static void checkQuantiles(QuantileSketch sketch,
+            double[] sorted) {
+        double error = sketch.getNormalizedRankError() * sorted.length;
+        for (int p = 1; p < 100; p++) {
+            double q = sketch.getQuantile(p / 100.0);
+            int first = lowerBound(sorted, q);
+            int last = lowerBound(sorted, Math.nextUp(q));
+            double target = p / 100.0 * sorted.length;
+            assertTrue("p=" + p, first - error <= target
+                    && target <= last + error);
+        }
+    }
+
+    /**
+     * Returns the number of sorted values less than a value.
+     *
+     * @param sorted  the sorted values.
+     * @param value  the value.
+     *
+     * @return The number of values.
+     */
+    private static int lowerBound(double[] sorted, double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * A sketch is exact until its first compaction.
+     */
+    @Test
+    public void testExact() {
+        QuantileSketch s = new QuantileSketch(16);
+        assertTrue(Double.isNaN(s.getQuantile(0.5)));
+        assertTrue(Double.isNaN(s.getRank(1.0)));
+        assertTrue(Double.isNaN(s.getMinimum()));
+        for (int i = 10; i >= 1; i--) {
+            s.add(i);
+        }
+        s.add(Double.NaN);
+        assertFalse(s.isEstimationMode());
+        assertEquals(10, s.getCount());
+        assertEquals(1.0, s.getMinimum(), 0.0);
+        assertEquals(10.0, s.getMaximum(), 0.0);
+        assertEquals(5.0, s.getQuantile(0.5), 0.0);
+        assertEquals(3.0, s.getQuantile(0.25), 0.0);
+        assertEquals(1.0, s.getQuantile(0.01), 0.0);
+        assertEquals(10.0, s.getQuantile(1.0), 0.0);
+        assertEquals(0.3, s.getRank(3.5), 0.0);
+        assertEquals(0.0, s.getRank(0.5), 0.0);
+        assertEquals(1.0, s.getRank(10.0), 0.0);
+        assertEquals(4.0, s.ceiling(3.5), 0.0);
+        assertEquals(3.0, s.floor(3.5), 0.0);
+        assertTrue(Double.isNaN(s.ceiling(11.0)));
+        assertEquals(10, s.getValues().length);
+        try {
+            s.getQuantile(1.5);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The estimated quantiles of a large number of values should be within
+     * the rank error, with a bounded number of values retained.
+     */
+    @Test
+    public void testAccuracy() {
+        Random random = new Random(3L);
+        int n = 1000000;
+        double[] values = new double[n];
+        QuantileSketch s = new QuantileSketch();
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextGaussian() * 100.0;
+            s.add(values[i]);
+        }
+        assertTrue(s.isEstimationMode());
+        assertTrue(s.getRetainedCount() < 3 * s.getK() + 200);
+        assertEquals(n, s.getCount());
+        assertTrue(s.getValues() == null);
+        Arrays.sort(values);
+        assertEquals(values[0], s.getMinimum(), 0.0);
+        assertEquals(values[n - 1], s.getMaximum(), 0.0);
+        checkQuantiles(s, values);
+    }
+
+    /**
+     * Merged sketches should be within the rank error for all the values.
+     */
+    @Test
+    public void testMerge() {
+        Random random = new Random(4L);
+        int n = 300000;
+        double[] values = new double[n];
+        QuantileSketch merged = new QuantileSketch(100);
+        for (int part = 0; part < 6; part++) {
+            QuantileSketch s = new QuantileSketch(100);
+            for (int i = part; i < n; i += 6) {
+                values[i] = random.nextDouble() * (part + 1);
+            }
+            s.add(values, 0, n);
+            // only add every sixth value to each part
+            s = new QuantileSketch(100);
+            for (int i = part; i < n; i += 6) {
+                s.add(values[i]);
+            }
+            merged.merge(s);
+        }
+        merged.merge(new QuantileSketch(100));
+        assertEquals(n, merged.getCount());
+        Arrays.sort(values);
+        checkQuantiles(merged, values);
+        try {
+            merged.merge(new QuantileSketch(200));
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Merging a sketch with itself gives the same result as merging it with
+     * a copy.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testMergeWithItself() throws CloneNotSupportedException {
+        QuantileSketch s1 = new QuantileSketch(20);
+        for (int i = 0; i < 1000; i++) {
+            s1.add((i * 7919L) % 1000);
+        }
+        QuantileSketch s2 = (QuantileSketch) s1.clone();
+        s1.merge(s1);
+        s2.merge((QuantileSketch) s2.clone());
+        assertEquals(2000, s1.getCount());
+        for (int i = 0; i <= 10; i++) {
+            assertEquals(s2.getQuantile(i / 10.0), s1.getQuantile(i / 10.0),
+                    0.0);
+        }
+    }
+
+    /**
+     * Some checks for the getKForRankError() method.
+     */
+    @Test
+    public void testGetKForRankError() {
+        int k = QuantileSketch.getKForRankError(0.01);
+        assertTrue(new QuantileSketch(k).getNormalizedRankError() <= 0.01);
+        assertTrue(new QuantileSketch(k - 1).getNormalizedRankError() > 0.01);
+        assertEquals(8, QuantileSketch.getKForRankError(0.9));
+        try {
+            QuantileSketch.getKForRankError(0.0);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        QuantileSketch s1 = new QuantileSketch(8);
+        for (int i = 0; i < 100; i++) {
+            s1.add(i);
+        }
+        QuantileSketch s2 = (QuantileSketch) s1.clone();
+        assertEquals(s1.getQuantile(0.5), s2.getQuantile(0.5), 0.0);
+        for (int i = 0; i < 100; i++) {
+            s1.add(1000.0);
+        }
+        assertEquals(100, s2.getCount());
+        assertTrue(s2.getQuantile(0.9) < 100.0);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check the quantiles.
+     */
+    @Test
+    public void testSerialization() {
+        QuantileSketch s1 = new QuantileSketch(8);
+        for (int i = 0; i < 100; i++) {
+            s1.add(i);
+        }
+        QuantileSketch s2 = (QuantileSketch) TestUtilities.serialised(s1);
+        assertEquals(s1.getCount(), s2.getCount());
+        for (int p = 0; p <= 10; p++) {
+            assertEquals(s1.getQuantile(p / 10.0), s2.getQuantile(p / 10.0),
+                    0.0);
+        }
+    }
+
+}
@@ -0,0 +1,224 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------
+ * RegressionAccumulatorTest.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.function.Function2D;
+import org.jfree.data.function.LineFunction2D;
+import org.jfree.data.function.PolynomialFunction2D;
+import org.jfree.data.function.PowerFunction2D;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link RegressionAccumulator} class.
+ */
+public class RegressionAccumulatorTest {
+
+    private static final double EPSILON = 0.0000001;
+
+    /**
+     * Returns some sample data.
+     *
+     * @return The data.
+     */
+    private double[][] createSampleData() {
+        return new double[][] {{2.0, 56.27}, {3.0, 41.32}, {4.0, 31.45},
+                {5.0, 30.05}, {6.0, 24.69}, {7.0, 19.78}, {8.0, 20.94},
+                {9.0, 16.73}, {10.0, 14.21}, {11.0, 12.44}};
+    }
+
+    /**
+     * The OLS fit should match the result from the Regression class.
+     */
+    @Test
+    public void testOLS() {
+        double[][] data = createSampleData();
+        RegressionAccumulator r = new RegressionAccumulator(1);
+        for (int i = 0; i < data.length; i++) {
+            r.add(data[i][0], data[i][1]);
+        }
+        assertEquals(10, r.getCount());
+        double[] c = r.getCoefficients();
+        assertEquals(53.9729697, c[0], EPSILON);
+        assertEquals(-4.1823030, c[1], EPSILON);
+        Function2D f = r.getFunction();
+        assertTrue(f instanceof LineFunction2D);
+        assertEquals(53.9729697 - 4.1823030 * 3, f.getValue(3.0), 0.000001);
+
+        // removing a point gives the fit for the remaining points
+        r.remove(data[0][0], data[0][1]);
+        double[][] rest = new double[data.length - 1][];
+        System.arraycopy(data, 1, rest, 0, rest.length);
+        double[] expected = Regression.getOLSRegression(rest);
+        c = r.getCoefficients();
+        assertEquals(expected[0], c[0], EPSILON);
+        assertEquals(expected[1], c[1], EPSILON);
+    }
+
+    /**
+     * The power fit should match the result from the Regression class, and
+     * ignore points that can't be included.
+     */
+    @Test
+    public void testPower() {
+        double[][] data = createSampleData();
+        RegressionAccumulator r = new RegressionAccumulator(1, true);
+        for (int i = 0; i < data.length; i++) {
+            r.add(data[i][0], data[i][1]);
+        }
+        r.add(-1.0, 2.0);
+        r.add(1.0, 0.0);
+        r.add(Double.NaN, 2.0);
+        assertEquals(10, r.getCount());
+        double[] expected = Regression.getPowerRegression(data);
+        double[] c = r.getCoefficients();
+        assertEquals(expected[0], c[0], EPSILON);
+        assertEquals(expected[1], c[1], EPSILON);
+        assertTrue(r.getFunction() instanceof PowerFunction2D);
+    }
+
+    /**
+     * The polynomial fit should match the result from the Regression class,
+     * including for x-values with a large offset.
+     */
+    @Test
+    public void testPolynomial() {
+        double[][] data = createSampleData();
+        XYSeries s = new XYSeries("S");
+        RegressionAccumulator r = new RegressionAccumulator(2);
+        for (int i = 0; i < data.length; i++) {
+            s.add(data[i][0], data[i][1]);
+            r.add(data[i][0], data[i][1]);
+        }
+        double[] expected = Regression.getPolynomialRegression(
+                new XYSeriesCollection(s), 0, 2);
+        double[] c = r.getCoefficients();
+        assertEquals(3, c.length);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(expected[i], c[i], 0.000001);
+        }
+        assertEquals(expected[3], r.getRSquare(), EPSILON);
+        assertTrue(r.getFunction() instanceof PolynomialFunction2D);
+
+        // y = 3 + 2(x - 1e9) + 0.5(x - 1e9)^2, fitted through the origin
+        // shift, so the values match where the curve is evaluated
+        RegressionAccumulator r2 = new RegressionAccumulator(2);
+        for (int i = 0; i < 20; i++) {
+            double dx = i * 10.0;
+            r2.add(1.0e9 + dx, 3.0 + 2.0 * dx + 0.5 * dx * dx);
+        }
+        assertEquals(1.0, r2.getRSquare(), EPSILON);
+        assertEquals(0.5, r2.getCoefficients()[2], EPSILON);
+    }
+
+    /**
+     * A fit needs at least order + 1 points.
+     */
+    @Test
+    public void testNotEnoughData() {
+        RegressionAccumulator r = new RegressionAccumulator(2);
+        r.add(1.0, 1.0);
+        r.add(2.0, 3.0);
+        try {
+            r.getCoefficients();
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            assertEquals("Not enough data.", e.getMessage());
+        }
+        r.remove(1.0, 1.0);
+        r.remove(2.0, 3.0);
+        assertEquals(0, r.getCount());
+        assertEquals(new RegressionAccumulator(2), r);
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        RegressionAccumulator r1 = new RegressionAccumulator(1);
+        RegressionAccumulator r2 = new RegressionAccumulator(1);
+        assertTrue(r1.equals(r2));
+        r1.add(1.0, 2.0);
+        assertFalse(r1.equals(r2));
+        r2.add(1.0, 2.0);
+        assertTrue(r1.equals(r2));
+        assertEquals(r1.hashCode(), r2.hashCode());
+        assertFalse(r1.equals(new RegressionAccumulator(2)));
+        assertFalse(r1.equals(new RegressionAccumulator(1, true)));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        RegressionAccumulator r1 = new RegressionAccumulator(3);
+        r1.add(1.0, 2.0);
+        RegressionAccumulator r2 = (RegressionAccumulator) r1.clone();
+        assertTrue(r1 != r2);
+        assertTrue(r1.equals(r2));
+        r2.add(2.0, 3.0);
+        assertFalse(r1.equals(r2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        RegressionAccumulator r1 = new RegressionAccumulator(2);
+        r1.add(1.0, 2.0);
+        r1.add(3.0, 5.0);
+        RegressionAccumulator r2
+                = (RegressionAccumulator) TestUtilities.serialised(r1);
+        assertEquals(r1, r2);
+    }
+
+}
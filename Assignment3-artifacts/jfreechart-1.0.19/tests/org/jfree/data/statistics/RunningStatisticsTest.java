@@ -0,0 +1,185 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * RunningStatisticsTest.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.jfree.chart.TestUtilities;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link RunningStatistics} class.
+ */
+public class RunningStatisticsTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Some checks for the values of an instance.
+     */
+    @Test
+    public void testAdd() {
+        RunningStatistics s = new RunningStatistics();
+        assertEquals(0, s.getCount());
+        assertEquals(0.0, s.getSum(), 0.0);
+        assertTrue(Double.isNaN(s.getMean()));
+        assertTrue(Double.isNaN(s.getVariance()));
+        assertTrue(Double.isNaN(s.getMinimum()));
+        assertTrue(Double.isNaN(s.getMaximum()));
+
+        s.add(new double[] {4.0, Double.NaN, 2.0, 9.0, 1.0}, 0, 5);
+        assertEquals(4, s.getCount());
+        assertEquals(16.0, s.getSum(), EPSILON);
+        assertEquals(4.0, s.getMean(), EPSILON);
+        assertEquals(Statistics.getStdDev(new Double[] {new Double(4.0),
+                new Double(2.0), new Double(9.0), new Double(1.0)}),
+                s.getStdDev(), EPSILON);
+        assertEquals(38.0 / 3.0, s.getVariance(), EPSILON);
+        assertEquals(1.0, s.getMinimum(), 0.0);
+        assertEquals(9.0, s.getMaximum(), 0.0);
+
+        s.clear();
+        assertEquals(0, s.getCount());
+        s.add(-3.0);
+        assertEquals(-3.0, s.getMean(), 0.0);
+        assertTrue(Double.isNaN(s.getStdDev()));
+    }
+
+    /**
+     * The sum and variance should be accurate for values with a large mean.
+     */
+    @Test
+    public void testAccuracy() {
+        RunningStatistics s = new RunningStatistics();
+        s.add(1.0E16);
+        for (int i = 0; i < 1000; i++) {
+            s.add(1.0);
+        }
+        s.add(-1.0E16);
+        assertEquals(1000.0, s.getSum(), 0.0);
+
+        s = new RunningStatistics();
+        for (int i = 0; i < 1000; i++) {
+            s.add(1.0E9 + (i % 2 == 0 ? 1.0 : -1.0));
+        }
+        assertEquals(1000.0 / 999.0, s.getVariance(), 1E-9);
+    }
+
+    /**
+     * Merging instances should give the same results as adding all the
+     * values to one instance.
+     */
+    @Test
+    public void testMerge() {
+        Random random = new Random(1L);
+        double[] values = new double[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 100.0 + random.nextGaussian() * 15.0;
+        }
+        RunningStatistics all = new RunningStatistics();
+        all.add(values, 0, values.length);
+        RunningStatistics merged = new RunningStatistics();
+        for (int start = 0; start < values.length; start += 300) {
+            RunningStatistics part = new RunningStatistics();
+            part.add(values, start, Math.min(300, values.length - start));
+            merged.merge(part);
+        }
+        merged.merge(new RunningStatistics());
+        assertEquals(all.getCount(), merged.getCount());
+        assertEquals(all.getSum(), merged.getSum(), 1E-9);
+        assertEquals(all.getMean(), merged.getMean(), 1E-10);
+        assertEquals(all.getVariance(), merged.getVariance(), 1E-9);
+        assertEquals(all.getMinimum(), merged.getMinimum(), 0.0);
+        assertEquals(all.getMaximum(), merged.getMaximum(), 0.0);
+        assertEquals(Statistics.getStdDev(values, 0, values.length),
+                merged.getStdDev(), 1E-10);
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        RunningStatistics s1 = new RunningStatistics();
+        RunningStatistics s2 = new RunningStatistics();
+        assertTrue(s1.equals(s2));
+        s1.add(1.0);
+        assertFalse(s1.equals(s2));
+        s2.add(1.0);
+        assertTrue(s1.equals(s2));
+        assertEquals(s1.hashCode(), s2.hashCode());
+        s1.add(5.0);
+        s2.add(3.0);
+        assertFalse(s1.equals(s2));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        RunningStatistics s1 = new RunningStatistics();
+        s1.add(2.0);
+        RunningStatistics s2 = (RunningStatistics) s1.clone();
+        assertTrue(s1 != s2);
+        assertTrue(s1.equals(s2));
+        s1.add(4.0);
+        assertFalse(s1.equals(s2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        RunningStatistics s1 = new RunningStatistics();
+        s1.add(2.0);
+        s1.add(7.5);
+        RunningStatistics s2 = (RunningStatistics) TestUtilities.serialised(
+                s1);
+        assertEquals(s1, s2);
+    }
+
+}
@@ -0,0 +1,149 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * SeriesRegressionTest.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import static org.junit.Assert.assertEquals;
+
+import org.jfree.data.time.Day;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimePeriodAnchor;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link SeriesRegression} class.
+ */
+public class SeriesRegressionTest {
+
+    private static final double EPSILON = 0.0000001;
+
+    /**
+     * Checks that the fit matches a fit calculated from the series.
+     *
+     * @param r  the regression.
+     * @param series  the series.
+     */
+    private void checkFit(SeriesRegression r, XYSeries series) {
+        double[] expected = Regression.getPolynomialRegression(
+                new XYSeriesCollection(series), 0, r.getOrder());
+        double[] c = r.getCoefficients();
+        for (int i = 0; i < c.length; i++) {
+            assertEquals(expected[i], c[i], 0.000001);
+        }
+        assertEquals(expected[c.length], r.getRSquare(), EPSILON);
+    }
+
+    /**
+     * The fit should follow items appended to, removed from and updated in
+     * an XYSeries.
+     */
+    @Test
+    public void testXYSeries() {
+        XYSeries s = new XYSeries("S", true, false);
+        s.setMaximumItemCount(50);
+        s.add(0.0, 1.0);
+        s.add(1.0, 3.0);
+        s.add(2.0, 2.0);
+        SeriesRegression r = new SeriesRegression(s, 2, false);
+        assertEquals(3, r.getCount());
+        checkFit(r, s);
+
+        // appends, with items removed for the maximum item count
+        for (int i = 3; i < 200; i++) {
+            s.add(i, Math.sin(i / 10.0) * 10.0 + i * 0.1);
+        }
+        assertEquals(50, r.getCount());
+        checkFit(r, s);
+
+        // updates
+        s.updateByIndex(10, new Double(99.0));
+        s.updateByIndex(20, null);
+        assertEquals(49, r.getCount());
+        checkFit(r, s);
+
+        // removals from the start
+        s.delete(0, 9);
+        s.remove(0);
+        assertEquals(38, r.getCount());
+        checkFit(r, s);
+
+        // an insertion before the end recalculates the sums
+        s.add(155.5, 12.0);
+        checkFit(r, s);
+
+        r.dispose();
+        s.add(500.0, 1.0);
+        assertEquals(41, s.getItemCount());
+        assertEquals(39, r.getCount());
+    }
+
+    /**
+     * The x-values for a time series are taken from the time periods.
+     */
+    @Test
+    public void testTimeSeries() {
+        TimeSeries ts = new TimeSeries("S");
+        ts.setMaximumItemCount(20);
+        SeriesRegression r = new SeriesRegression(ts, TimePeriodAnchor.MIDDLE,
+                1, false);
+        RegularTimePeriod day = new Day(1, 1, 2026);
+        double sumX = 0.0;
+        double sumY = 0.0;
+        for (int i = 0; i < 60; i++) {
+            double y = 100.0 + i * 0.5;
+            ts.add(day, y);
+            if (i >= 40) {
+                sumX += day.getMiddleMillisecond();
+                sumY += y;
+            }
+            day = day.next();
+        }
+        assertEquals(20, r.getCount());
+        // the line has the slope of the data (per millisecond), and passes
+        // through the means
+        double[] c = r.getCoefficients();
+        assertEquals(0.5 / (24 * 60 * 60 * 1000.0), c[1], 1.0e-12);
+        assertEquals(sumY / 20, r.getFunction().getValue(sumX / 20), 0.0001);
+    }
+
+}
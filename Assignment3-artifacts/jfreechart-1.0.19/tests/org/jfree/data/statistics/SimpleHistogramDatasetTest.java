@@ -44,6 +44,7 @@ package org.jfree.data.statistics;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
 
 import org.jfree.chart.TestUtilities;
 import org.junit.Test;
@@ -125,4 +126,37 @@ public class SimpleHistogramDatasetTest {
         assertEquals(0, d1.getItemCount(0));
     }
 
+    /**
+     * Some checks for the addObservation() method, which searches for the
+     * bin accepting each value.
+     */
+    @Test
+    public void testAddObservation() {
+        SimpleHistogramDataset d = new SimpleHistogramDataset("S1");
+        d.addBin(new SimpleHistogramBin(2.0, 3.0, false, true));
+        d.addBin(new SimpleHistogramBin(0.0, 1.0, true, true));
+        d.addBin(new SimpleHistogramBin(1.0, 2.0, false, false));
+        d.addBin(new SimpleHistogramBin(5.0, 6.0));
+        d.addObservation(0.0);
+        d.addObservation(1.0);
+        d.addObservation(1.5);
+        d.addObservation(3.0);
+        d.addObservation(6.0);
+        d.addObservations(new double[] {0.5, 2.5, 5.0});
+        assertEquals(3, d.getY(0, 0).intValue());
+        assertEquals(1, d.getY(0, 1).intValue());
+        assertEquals(2, d.getY(0, 2).intValue());
+        assertEquals(2, d.getY(0, 3).intValue());
+        String[] missing = {"2.0", "4.0", "-1.0", "7.0", "NaN"};
+        for (int i = 0; i < missing.length; i++) {
+            try {
+                d.addObservation(Double.parseDouble(missing[i]));
+                fail("No bin for " + missing[i]);
+            }
+            catch (RuntimeException e) {
+                assertEquals("No bin.", e.getMessage());
+            }
+        }
+    }
+
 }
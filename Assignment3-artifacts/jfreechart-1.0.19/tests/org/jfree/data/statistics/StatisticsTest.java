@@ -43,11 +43,14 @@ package org.jfree.data.statistics;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import org.junit.Test;
 
 /**
@@ -462,4 +465,155 @@ public class StatisticsTest {
                 {new Double(1.0)})));
     }
 
+    /**
+     * Returns the values in a slice of an array as Number objects.
+     *
+     * @param values  the values.
+     * @param offset  the index of the first value.
+     * @param length  the number of values.
+     *
+     * @return The numbers.
+     */
+    private static Number[] toNumbers(double[] values, int offset,
+            int length) {
+        Number[] result = new Number[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = new Double(values[offset + i]);
+        }
+        return result;
+    }
+
+    /**
+     * The methods for double arrays should give the same results as the
+     * methods for Number arrays.
+     */
+    @Test
+    public void testDoubleArrays() {
+        Random random = new Random(20L);
+        for (int n = 1; n < 60; n++) {
+            double[] x = new double[n + 4];
+            double[] y = new double[n + 4];
+            for (int i = 0; i < x.length; i++) {
+                x[i] = random.nextInt(20) + random.nextDouble();
+                y[i] = 2.0 * x[i] + random.nextGaussian();
+            }
+            Number[] xn = toNumbers(x, 2, n);
+            assertEquals(Statistics.calculateMean(xn),
+                    Statistics.calculateMean(x, 2, n, true), 1E-12);
+            List list = new ArrayList(Arrays.asList(xn));
+            assertEquals(Statistics.calculateMedian(list),
+                    Statistics.calculateMedian(x, 2, n), 0.0);
+            if (n > 1) {
+                assertEquals(Statistics.getStdDev(xn),
+                        Statistics.getStdDev(x, 2, n), 1E-10);
+            }
+        }
+        double[] x = new double[40];
+        double[] y = new double[40];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = random.nextDouble() * 10.0;
+            y[i] = 3.0 - 2.0 * x[i] + random.nextGaussian();
+        }
+        Number[] xn = toNumbers(x, 0, 40);
+        Number[] yn = toNumbers(y, 0, 40);
+        assertEquals(Statistics.getSlope(xn, yn), Statistics.getSlope(x, y),
+                1E-10);
+        double[] fit = Statistics.getLinearFit(x, y);
+        double[] expected = Statistics.getLinearFit(xn, yn);
+        assertEquals(expected[0], fit[0], 1E-10);
+        assertEquals(expected[1], fit[1], 1E-10);
+        assertEquals(Statistics.getCorrelation(xn, yn),
+                Statistics.getCorrelation(x, y), 1E-10);
+        double[][] ma = Statistics.getMovingAverage(x, y, 7);
+        double[][] man = Statistics.getMovingAverage(xn, yn, 7);
+        assertEquals(man.length, ma.length);
+        for (int i = 0; i < ma.length; i++) {
+            assertEquals(man[i][0], ma[i][0], 0.0);
+            assertEquals(man[i][1], ma[i][1], 1E-12);
+        }
+    }
+
+    /**
+     * Some checks for the double array methods with special values and
+     * invalid arguments.
+     */
+    @Test
+    public void testDoubleArraysSpecialCases() {
+        double[] values = new double[] {5.0, Double.NaN, 1.0, 3.0, 2.0};
+        assertTrue(Double.isNaN(Statistics.calculateMean(values)));
+        assertEquals(2.75, Statistics.calculateMean(values, 0, 5, false),
+                EPSILON);
+        assertTrue(Double.isNaN(Statistics.calculateMean(values, 1, 1,
+                false)));
+        // NaN is ignored by the median, and the array is not modified
+        assertEquals(2.5, Statistics.calculateMedian(values), EPSILON);
+        assertEquals(5.0, values[0], 0.0);
+        assertEquals(2.0, Statistics.calculateMedian(values, 1, 3), EPSILON);
+        assertTrue(Double.isNaN(Statistics.calculateMedian(values, 1, 1)));
+        assertTrue(Double.isNaN(Statistics.calculateMedian(new double[0])));
+        assertTrue(Double.isNaN(Statistics.getStdDev(values, 2, 1)));
+        try {
+            Statistics.getStdDev(values, 2, 0);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            Statistics.calculateMean(values, 3, 3, true);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            Statistics.calculateMedian(values, -1, 2);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            Statistics.getSlope(values, new double[4]);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The single-pass standard deviation is not affected by a large mean.
+     */
+    @Test
+    public void testGetStdDevLargeMean() {
+        double[] values = new double[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1.0E9 + (i % 2 == 0 ? 1.0 : -1.0);
+        }
+        assertEquals(Math.sqrt(1000.0 / 999.0),
+                Statistics.getStdDev(values, 0, 1000), 1E-9);
+        assertEquals(1.0E9, Statistics.calculateMean(values), 0.0);
+    }
+
+    /**
+     * Checks the median (found by selection) against a sorted copy, for
+     * ranges with many duplicates.
+     */
+    @Test
+    public void testCalculateMedianSelect() {
+        Random random = new Random(7L);
+        for (int n = 1; n < 300; n += 7) {
+            double[] values = new double[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = random.nextInt(n % 3 == 0 ? 5 : 1000);
+            }
+            double[] sorted = (double[]) values.clone();
+            Arrays.sort(sorted);
+            double expected = n % 2 == 1 ? sorted[n / 2]
+                    : (sorted[n / 2 - 1] + sorted[n / 2]) / 2.0;
+            assertEquals(expected, Statistics.calculateMedian(values), 0.0);
+        }
+    }
+
 }
@@ -0,0 +1,267 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * CalendarArithmetic.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Added testGetDefaultCalendarFormatLocale() (G14);
+ *
+ */
+
+package org.jfree.data.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link CalendarArithmetic} class.
+ */
+public class CalendarArithmeticTest {
+
+    /** Zones with fixed offsets, DST, half hour DST and a skipped day. */
+    private static final String[] ZONE_IDS = {"UTC", "America/Toronto",
+        "Europe/London", "Asia/Kolkata", "Asia/Kathmandu",
+        "Australia/Lord_Howe", "Pacific/Apia", "America/Sao_Paulo"};
+
+    private TimeZone[] getZones() {
+        TimeZone[] result = new TimeZone[ZONE_IDS.length + 1];
+        for (int i = 0; i < ZONE_IDS.length; i++) {
+            result[i] = TimeZone.getTimeZone(ZONE_IDS[i]);
+        }
+        // a zone that is not a tz database zone (DST from 2am on the last
+        // Sunday in March to 3am on the last Sunday in October)
+        result[ZONE_IDS.length] = new SimpleTimeZone(3600000, "Custom",
+                Calendar.MARCH, -1, Calendar.SUNDAY, 7200000,
+                Calendar.OCTOBER, -1, Calendar.SUNDAY, 10800000);
+        return result;
+    }
+
+    /**
+     * The day numbers should match those found with a calendar.
+     */
+    @Test
+    public void testEpochDay() {
+        Calendar c = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        c.clear();
+        c.set(1600, Calendar.JANUARY, 1);
+        long expected = c.getTimeInMillis() / 86400000L;
+        while (c.get(Calendar.YEAR) < 2400) {
+            assertEquals(expected, CalendarArithmetic.epochDay(
+                    c.get(Calendar.YEAR), c.get(Calendar.MONTH) + 1,
+                    c.get(Calendar.DAY_OF_MONTH)));
+            assertEquals(c.get(Calendar.DAY_OF_WEEK),
+                    CalendarArithmetic.dayOfWeek(expected));
+            c.add(Calendar.DAY_OF_MONTH, 1);
+            expected++;
+        }
+        assertEquals(0, CalendarArithmetic.epochDay(1970, 1, 1));
+    }
+
+    /**
+     * Every hour and half hour over four years should give the same
+     * millisecond as the calendar, including on days with a transition.
+     */
+    @Test
+    public void testGetMillisecond() {
+        TimeZone[] zones = getZones();
+        for (int z = 0; z < zones.length; z++) {
+            Calendar calendar = new GregorianCalendar(zones[z]);
+            Calendar days = new GregorianCalendar(2010, Calendar.JANUARY, 1);
+            int calculated = 0;
+            int total = 0;
+            while (days.get(Calendar.YEAR) < 2014) {
+                int y = days.get(Calendar.YEAR);
+                int m = days.get(Calendar.MONTH) + 1;
+                int d = days.get(Calendar.DAY_OF_MONTH);
+                for (int h = 0; h < 24; h++) {
+                    for (int min = 0; min < 60; min += 30) {
+                        long result = CalendarArithmetic.getMillisecond(
+                                calendar, y, m, d, h, min, 59, 999);
+                        calendar.clear();
+                        calendar.set(y, m - 1, d, h, min, 59);
+                        calendar.set(Calendar.MILLISECOND, 999);
+                        long expected = calendar.getTimeInMillis();
+                        if (result != CalendarArithmetic.UNKNOWN) {
+                            assertEquals(zones[z].getID() + " " + y + "-" + m
+                                    + "-" + d + " " + h + ":" + min, expected,
+                                    result);
+                            calculated++;
+                        }
+                        total++;
+                    }
+                }
+                days.add(Calendar.DAY_OF_MONTH, 1);
+            }
+            // only the days around a transition are left to the calendar
+            assertTrue(zones[z].getID(), calculated > total * 9 / 10);
+        }
+    }
+
+    /**
+     * The start of each week should match the calendar's week rules.
+     */
+    @Test
+    public void testGetWeekStart() {
+        TimeZone[] zones = getZones();
+        for (int z = 0; z < zones.length; z++) {
+            Calendar calendar = new GregorianCalendar(zones[z]);
+            for (int firstDay = Calendar.SUNDAY; firstDay <= Calendar.SATURDAY;
+                    firstDay++) {
+                for (int minDays = 1; minDays <= 7; minDays++) {
+                    calendar.setFirstDayOfWeek(firstDay);
+                    calendar.setMinimalDaysInFirstWeek(minDays);
+                    for (int y = 2009; y <= 2013; y++) {
+                        for (int w = 1; w <= 54; w++) {
+                            long result = CalendarArithmetic.getWeekStart(
+                                    calendar, y, w);
+                            if (result == CalendarArithmetic.UNKNOWN) {
+                                continue;
+                            }
+                            Calendar c = (Calendar) calendar.clone();
+                            c.clear();
+                            c.set(Calendar.YEAR, y);
+                            c.set(Calendar.WEEK_OF_YEAR, w);
+                            c.set(Calendar.DAY_OF_WEEK, c.getFirstDayOfWeek());
+                            c.set(Calendar.HOUR, 0);
+                            assertEquals(c.getTimeInMillis(), result);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Time periods should give the same results with the arithmetic as with
+     * a calendar that does not support it.
+     */
+    @Test
+    public void testTimePeriods() {
+        TimeZone zone = TimeZone.getTimeZone("America/Toronto");
+        Calendar calendar = new GregorianCalendar(zone, Locale.UK);
+        // a calendar with a different change-over is left to the calendar
+        GregorianCalendar reference = new GregorianCalendar(zone, Locale.UK);
+        reference.setGregorianChange(new java.util.Date(Long.MIN_VALUE));
+        assertEquals(CalendarArithmetic.UNKNOWN,
+                CalendarArithmetic.getMillisecond(reference, 2020, 1, 1, 0,
+                0, 0, 0));
+        Day day = new Day(25, 10, 2020);
+        for (int i = 0; i < 21; i++) {
+            RegularTimePeriod[] periods = {day, new Hour(1, day),
+                new Minute(30, new Hour(1, day)), new Second(59,
+                new Minute(59, new Hour(23, day))), new Millisecond(999,
+                new Second(0, new Minute(0, new Hour(0, day)))),
+                new Week(day.getSerialDate().toDate()), new Month(
+                day.getMonth(), day.getYear()), new Quarter(
+                day.getSerialDate().toDate()), new Year(day.getYear())};
+            for (int p = 0; p < periods.length; p++) {
+                assertEquals(periods[p].getFirstMillisecond(reference),
+                        periods[p].getFirstMillisecond(calendar));
+                assertEquals(periods[p].getLastMillisecond(reference),
+                        periods[p].getLastMillisecond(calendar));
+            }
+            day = (Day) day.next();
+        }
+    }
+
+    /**
+     * The default calendar is reused until the default time zone changes.
+     */
+    @Test
+    public void testGetDefaultCalendar() {
+        TimeZone saved = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Europe/Paris"));
+            Calendar c1 = CalendarArithmetic.getDefaultCalendar();
+            assertSame(c1, CalendarArithmetic.getDefaultCalendar());
+            assertEquals("Europe/Paris", c1.getTimeZone().getID());
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+            Calendar c2 = CalendarArithmetic.getDefaultCalendar();
+            assertNotSame(c1, c2);
+            assertEquals("Asia/Tokyo", c2.getTimeZone().getID());
+            Hour h = new Hour(0, new Day(1, 1, 2020));
+            assertEquals(1577804400000L, h.getFirstMillisecond());
+        }
+        finally {
+            TimeZone.setDefault(saved);
+        }
+    }
+
+    /**
+     * The week fields of the default calendar come from the locale for
+     * formatting, as they do for <code>Calendar.getInstance()</code>, even
+     * when it differs from the default display locale.
+     */
+    @Test
+    public void testGetDefaultCalendarFormatLocale() {
+        Locale savedDisplay = Locale.getDefault(Locale.Category.DISPLAY);
+        Locale savedFormat = Locale.getDefault(Locale.Category.FORMAT);
+        Locale saved = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.US);
+            Calendar c1 = CalendarArithmetic.getDefaultCalendar();
+            assertEquals(Calendar.SUNDAY, c1.getFirstDayOfWeek());
+            assertEquals(1, c1.getMinimalDaysInFirstWeek());
+
+            // only the format locale changes
+            Locale.setDefault(Locale.Category.FORMAT, Locale.GERMANY);
+            assertEquals(Locale.US, Locale.getDefault());
+            Calendar c2 = CalendarArithmetic.getDefaultCalendar();
+            assertNotSame(c1, c2);
+            Calendar expected = Calendar.getInstance();
+            assertEquals(expected.getFirstDayOfWeek(),
+                    c2.getFirstDayOfWeek());
+            assertEquals(expected.getMinimalDaysInFirstWeek(),
+                    c2.getMinimalDaysInFirstWeek());
+            assertEquals(Calendar.MONDAY, c2.getFirstDayOfWeek());
+            assertEquals(4, c2.getMinimalDaysInFirstWeek());
+        }
+        finally {
+            Locale.setDefault(saved);
+            Locale.setDefault(Locale.Category.DISPLAY, savedDisplay);
+            Locale.setDefault(Locale.Category.FORMAT, savedFormat);
+        }
+    }
+
+}
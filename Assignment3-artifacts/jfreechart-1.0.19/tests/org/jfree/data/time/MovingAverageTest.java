@@ -42,6 +42,7 @@
 package org.jfree.data.time;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import org.jfree.date.MonthConstants;
 import org.junit.Test;
@@ -81,6 +82,26 @@ public class MovingAverageTest {
         assertEquals(12.5, value, EPSILON);
     }
 
+    /**
+     * Null values are not included in a point moving average.
+     */
+    @Test
+    public void testPointMovingAverageWithNulls() {
+        TimeSeries source = new TimeSeries("Series 1");
+        source.add(new Day(1, MonthConstants.AUGUST, 2003), 1.0);
+        source.add(new Day(2, MonthConstants.AUGUST, 2003), null);
+        source.add(new Day(3, MonthConstants.AUGUST, 2003), null);
+        source.add(new Day(4, MonthConstants.AUGUST, 2003), 4.0);
+        source.add(new Day(5, MonthConstants.AUGUST, 2003), 5.0);
+        TimeSeries maverage = MovingAverage.createPointMovingAverage(source,
+                "Moving Average", 2);
+        assertEquals(4, maverage.getItemCount());
+        assertEquals(1.0, maverage.getValue(0).doubleValue(), EPSILON);
+        assertNull(maverage.getValue(1));
+        assertEquals(4.0, maverage.getValue(2).doubleValue(), EPSILON);
+        assertEquals(4.5, maverage.getValue(3).doubleValue(), EPSILON);
+    }
+
     /**
      * Creates a sample series.
      *
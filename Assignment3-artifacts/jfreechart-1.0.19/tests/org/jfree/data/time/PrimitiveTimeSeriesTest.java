@@ -0,0 +1,494 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * PrimitiveTimeSeriesTest.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Calendar;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.Range;
+import org.jfree.data.general.SeriesException;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link PrimitiveTimeSeries} class.
+ */
+public class PrimitiveTimeSeriesTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    private static final TimeZone ZONE = TimeZone.getTimeZone(
+            "America/Toronto");
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        PrimitiveTimeSeries s1 = new PrimitiveTimeSeries("S", ZONE);
+        s1.add(new Day(1, 1, 2020), 1.1);
+        PrimitiveTimeSeries s2 = new PrimitiveTimeSeries("S", ZONE);
+        s2.add(new Day(1, 1, 2020), 1.1);
+        assertTrue(s1.equals(s2));
+        assertTrue(s2.equals(s1));
+        assertEquals(s1.hashCode(), s2.hashCode());
+
+        s1.add(new Day(2, 1, 2020), 2.2);
+        assertFalse(s1.equals(s2));
+        s2.add(new Day(2, 1, 2020), 2.2);
+        assertTrue(s1.equals(s2));
+
+        s1.update(new Day(2, 1, 2020), null);
+        assertFalse(s1.equals(s2));
+        s2.update(new Day(2, 1, 2020), null);
+        assertTrue(s1.equals(s2));
+
+        PrimitiveTimeSeries s3 = new PrimitiveTimeSeries("S",
+                TimeZone.getTimeZone("Europe/Paris"));
+        s3.add(new Day(1, 1, 2020), 1.1);
+        s3.add(new Day(2, 1, 2020), (Number) null);
+        assertFalse(s1.equals(s3));
+
+        // a TimeSeries with the same data is not equal
+        TimeSeries s4 = new TimeSeries("S");
+        s4.add(new Day(1, 1, 2020), 1.1);
+        s4.add(new Day(2, 1, 2020), (Number) null);
+        assertFalse(s1.equals(s4));
+    }
+
+    /**
+     * Confirm that cloning works and the clone is independent.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        PrimitiveTimeSeries s1 = new PrimitiveTimeSeries("S", ZONE);
+        s1.setMaximumItemCount(3);
+        for (int i = 1; i <= 5; i++) {
+            s1.add(new Day(i, 1, 2020), i);
+        }
+        PrimitiveTimeSeries s2 = (PrimitiveTimeSeries) s1.clone();
+        assertTrue(s1 != s2);
+        assertEquals(s1, s2);
+        s2.add(new Day(6, 1, 2020), 6.0);
+        assertEquals(3, s1.getItemCount());
+        assertEquals(new Day(3, 1, 2020), s1.getTimePeriod(0));
+        assertEquals(new Day(4, 1, 2020), s2.getTimePeriod(0));
+        assertFalse(s1.equals(s2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        PrimitiveTimeSeries s1 = new PrimitiveTimeSeries("S", ZONE);
+        s1.add(new Month(1, 2020), 1.0);
+        s1.add(new Month(2, 2020), (Number) null);
+        PrimitiveTimeSeries s2 = (PrimitiveTimeSeries)
+                TestUtilities.serialised(s1);
+        assertEquals(s1, s2);
+        // the time periods can still be created after deserialization
+        assertEquals(new Month(2, 2020), s2.getTimePeriod(1));
+        s2.add(new Month(3, 2020), 3.0);
+        assertEquals(3, s2.getItemCount());
+    }
+
+    /**
+     * Items are stored in time period order and the time periods are
+     * recreated when requested.
+     */
+    @Test
+    public void testAdd() {
+        PrimitiveTimeSeries s = new PrimitiveTimeSeries("S", ZONE);
+        s.add(new Day(5, 1, 2020), 5.0);
+        s.add(new Day(1, 1, 2020), new Integer(1));
+        s.add(new Day(3, 1, 2020), (Number) null);
+        assertEquals(3, s.getItemCount());
+        assertEquals(Day.class, s.getTimePeriodClass());
+        assertEquals(new Day(1, 1, 2020), s.getTimePeriod(0));
+        assertEquals(new Day(3, 1, 2020), s.getTimePeriod(1));
+        assertEquals(new Day(5, 1, 2020), s.getTimePeriod(2));
+        assertEquals(new Double(1.0), s.getValue(0));
+        assertNull(s.getValue(1));
+        assertTrue(Double.isNaN(s.getYValue(1)));
+        assertEquals(5.0, s.getYValue(2), EPSILON);
+        assertEquals(new TimeSeriesDataItem(new Day(5, 1, 2020), 5.0),
+                s.getDataItem(2));
+        assertEquals(new Double(5.0), s.getValue(new Day(5, 1, 2020)));
+        assertNull(s.getValue(new Day(4, 1, 2020)));
+        assertEquals(1, s.getIndex(new Day(3, 1, 2020)));
+        assertEquals(-3, s.getIndex(new Day(4, 1, 2020)));
+        assertEquals(new Day(6, 1, 2020), s.getNextTimePeriod());
+
+        // changes to a data item are not reflected in the series
+        s.getDataItem(0).setValue(new Double(99.0));
+        assertEquals(1.0, s.getYValue(0), EPSILON);
+
+        try {
+            s.add(new Day(3, 1, 2020), 3.0);
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        try {
+            s.add(new Month(3, 2020), 3.0);
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(3, s.getItemCount());
+    }
+
+    /**
+     * The x-values are read from the stored milliseconds when the calendar
+     * matches the series, and calculated from the time period otherwise.
+     */
+    @Test
+    public void testGetMillisecond() {
+        PrimitiveTimeSeries s = new PrimitiveTimeSeries("S", ZONE);
+        Day d = new Day(8, 3, 2020);  // daylight saving starts in Toronto
+        s.add(d, 1.0);
+        Calendar[] calendars = new Calendar[] {Calendar.getInstance(ZONE),
+                Calendar.getInstance(TimeZone.getTimeZone("UTC"))};
+        TimePeriodAnchor[] anchors = new TimePeriodAnchor[] {
+                TimePeriodAnchor.START, TimePeriodAnchor.MIDDLE,
+                TimePeriodAnchor.END};
+        for (int i = 0; i < calendars.length; i++) {
+            for (int j = 0; j < anchors.length; j++) {
+                assertEquals(d.getMillisecond(anchors[j], calendars[i]),
+                        s.getMillisecond(0, anchors[j], calendars[i]));
+            }
+        }
+        assertEquals(23L * 60 * 60 * 1000 - 1,
+                s.getMillisecond(0, TimePeriodAnchor.END, calendars[0])
+                - s.getMillisecond(0, TimePeriodAnchor.START, calendars[0]));
+    }
+
+    /**
+     * Check that the oldest items are dropped when the maximum item count is
+     * reached, and that the bounds are tracked.
+     */
+    @Test
+    public void testMaximumItemCount() {
+        PrimitiveTimeSeries s = new PrimitiveTimeSeries("S", ZONE);
+        for (int i = 0; i < 5; i++) {
+            s.add(new FixedMillisecond(i), 10.0 - i);
+        }
+        s.setMaximumItemCount(3);
+        assertEquals(3, s.getItemCount());
+        assertEquals(new FixedMillisecond(2), s.getTimePeriod(0));
+        assertEquals(6.0, s.getMinY(), EPSILON);
+        assertEquals(8.0, s.getMaxY(), EPSILON);
+        for (int i = 5; i < 100; i++) {
+            s.add(new FixedMillisecond(i), (i % 7) * 1.5);
+            assertEquals(3, s.getItemCount());
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int j = 0; j < 3; j++) {
+                min = Math.min(min, s.getYValue(j));
+                max = Math.max(max, s.getYValue(j));
+            }
+            assertEquals(min, s.getMinY(), EPSILON);
+            assertEquals(max, s.getMaxY(), EPSILON);
+        }
+        assertEquals(97L, s.getMillisecond(0, TimePeriodAnchor.START,
+                Calendar.getInstance()));
+    }
+
+    /**
+     * Check that old items are dropped when a maximum item age is set.
+     */
+    @Test
+    public void testMaximumItemAge() {
+        PrimitiveTimeSeries s = new PrimitiveTimeSeries("S", ZONE);
+        s.setMaximumItemAge(2);
+        s.add(new Day(1, 1, 2020), 1.0);
+        s.add(new Day(2, 1, 2020), 2.0);
+        s.add(new Day(3, 1, 2020), 3.0);
+        assertEquals(3, s.getItemCount());
+        s.add(new Day(5, 1, 2020), 5.0);
+        assertEquals(2, s.getItemCount());
+        assertEquals(new Day(3, 1, 2020), s.getTimePeriod(0));
+        assertEquals(3.0, s.getMinY(), EPSILON);
+
+        Calendar c = Calendar.getInstance(ZONE);
+        c.clear();
+        c.set(2020, Calendar.JANUARY, 7, 12, 0);
+        s.removeAgedItems(c.getTimeInMillis(), true);
+        assertEquals(1, s.getItemCount());
+        assertEquals(new Day(5, 1, 2020), s.getTimePeriod(0));
+    }
+
+    /**
+     * Some checks for the addAll() method.
+     */
+    @Test
+    public void testAddAll() {
+        PrimitiveTimeSeries s = new PrimitiveTimeSeries("S", ZONE);
+        s.add(new FixedMillisecond(10L), 1.0);
+        s.addAll(new long[] {30L, 20L}, new double[] {3.0, 2.0});
+        assertEquals(3, s.getItemCount());
+        assertEquals(new FixedMillisecond(20L), s.getTimePeriod(1));
+        assertEquals(3.0, s.getYValue(2), EPSILON);
+
+        // merged with the existing items
+        s.addAll(new long[] {25L, 5L}, new double[] {2.5, 0.5});
+        assertEquals(5, s.getItemCount());
+        assertEquals(0.5, s.getYValue(0), EPSILON);
+        assertEquals(2.5, s.getYValue(3), EPSILON);
+        assertEquals(0.5, s.getMinY(), EPSILON);
+
+        try {
+            s.addAll(new long[] {40L, 20L}, new double[] {4.0, 2.0});
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(5, s.getItemCount());
+
+        // the observations are assigned to time periods in the series zone
+        PrimitiveTimeSeries days = new PrimitiveTimeSeries("D", ZONE);
+        days.add(new Day(1, 1, 2020), 1.0);
+        long jan1 = new Day(1, 1, 2020).getFirstMillisecond(
+                Calendar.getInstance(ZONE));
+        long hour = 60L * 60L * 1000L;
+        days.addAll(new long[] {jan1 + 25 * hour, jan1 + 50 * hour},
+                new double[] {2.0, 3.0});
+        assertEquals(new Day(2, 1, 2020), days.getTimePeriod(1));
+        assertEquals(new Day(3, 1, 2020), days.getTimePeriod(2));
+    }
+
+    /**
+     * Some checks for the addOrUpdate(), update() and delete() methods.
+     */
+    @Test
+    public void testAddOrUpdateAndDelete() {
+        PrimitiveTimeSeries s = new PrimitiveTimeSeries("S", ZONE);
+        assertNull(s.addOrUpdate(new Year(2020), 1.0));
+        assertNull(s.addOrUpdate(new Year(2018), 3.0));
+        TimeSeriesDataItem old = s.addOrUpdate(new Year(2020), 2.0);
+        assertEquals(new TimeSeriesDataItem(new Year(2020), 1.0), old);
+        assertEquals(2, s.getItemCount());
+        assertEquals(2.0, s.getMinY(), EPSILON);
+        assertEquals(3.0, s.getMaxY(), EPSILON);
+
+        s.update(0, new Double(5.0));
+        assertEquals(2.0, s.getMinY(), EPSILON);
+        assertEquals(5.0, s.getMaxY(), EPSILON);
+        try {
+            s.update(new Year(2019), new Double(1.0));
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+
+        s.delete(new Year(2018));
+        assertEquals(1, s.getItemCount());
+        assertEquals(2.0, s.getMaxY(), EPSILON);
+        s.delete(new Year(2017));  // no effect
+        assertEquals(1, s.getItemCount());
+        s.delete(0, 0);
+        assertEquals(0, s.getItemCount());
+        assertNull(s.getTimePeriodClass());
+        assertTrue(Double.isNaN(s.getMinY()));
+        s.add(new Quarter(1, 2020), 1.0);
+        assertEquals(Quarter.class, s.getTimePeriodClass());
+        s.clear();
+        assertEquals(0, s.getItemCount());
+        assertNull(s.findValueRange());
+    }
+
+    /**
+     * Some checks for the createCopy() methods.
+     */
+    @Test
+    public void testCreateCopy() throws CloneNotSupportedException {
+        PrimitiveTimeSeries s = new PrimitiveTimeSeries("S", ZONE);
+        for (int i = 1; i <= 5; i++) {
+            s.add(new Day(2 * i, 1, 2020), i);
+        }
+        TimeSeries copy = s.createCopy(1, 3);
+        assertTrue(copy instanceof PrimitiveTimeSeries);
+        assertEquals(3, copy.getItemCount());
+        assertEquals(new Day(4, 1, 2020), copy.getTimePeriod(0));
+        assertEquals(2.0, copy.getMinY(), EPSILON);
+        assertEquals(4.0, copy.getMaxY(), EPSILON);
+
+        copy = s.createCopy(new Day(3, 1, 2020), new Day(7, 1, 2020));
+        assertEquals(2, copy.getItemCount());
+        assertEquals(new Day(4, 1, 2020), copy.getTimePeriod(0));
+        assertEquals(new Day(6, 1, 2020), copy.getTimePeriod(1));
+
+        copy = s.createCopy(new Day(11, 1, 2020), new Day(12, 1, 2020));
+        assertEquals(0, copy.getItemCount());
+        copy.add(new Day(11, 1, 2020), 1.0);
+        assertEquals(5, s.getItemCount());
+    }
+
+    /**
+     * Some checks for the findValueRange() methods.
+     */
+    @Test
+    public void testFindValueRange() {
+        PrimitiveTimeSeries s = new PrimitiveTimeSeries("S", ZONE);
+        assertNull(s.findValueRange());
+        assertNull(s.findValueRange(new Range(0.0, 10.0), ZONE));
+        for (int i = 0; i < 10; i++) {
+            s.add(new FixedMillisecond(i * 10L), i % 2 == 0 ? i : -i);
+        }
+        assertEquals(new Range(-9.0, 8.0), s.findValueRange());
+        assertEquals(new Range(-3.0, 4.0), s.findValueRange(
+                new Range(20.0, 45.0), TimePeriodAnchor.START, ZONE));
+        s.add(new FixedMillisecond(100L), -20.0);
+        s.add(new FixedMillisecond(35L), 20.0);
+        assertEquals(new Range(-3.0, 20.0), s.findValueRange(
+                new Range(20.0, 45.0), TimePeriodAnchor.START, ZONE));
+        assertEquals(new Range(-20.0, 20.0), s.findValueRange());
+    }
+
+    /**
+     * A collection returns the same values for a {@link PrimitiveTimeSeries}
+     * as for a {@link TimeSeries} containing the same data.
+     */
+    @Test
+    public void testCollection() {
+        TimeSeries s1 = new TimeSeries("S1");
+        PrimitiveTimeSeries s2 = new PrimitiveTimeSeries("S2", ZONE);
+        Hour h = new Hour(0, new Day(31, 10, 2020));  // includes a DST change
+        for (int i = 0; i < 48; i++) {
+            Number value = i % 5 == 0 ? null : new Double(i);
+            s1.add(h, value);
+            s2.add(h, value);
+            h = (Hour) h.next();
+        }
+        TimeSeriesCollection[] collections = new TimeSeriesCollection[] {
+                new TimeSeriesCollection(ZONE),
+                new TimeSeriesCollection(TimeZone.getTimeZone("UTC"))};
+        TimePeriodAnchor[] anchors = new TimePeriodAnchor[] {
+                TimePeriodAnchor.START, TimePeriodAnchor.MIDDLE,
+                TimePeriodAnchor.END};
+        for (int c = 0; c < collections.length; c++) {
+            TimeSeriesCollection dataset = collections[c];
+            dataset.addSeries(s1);
+            dataset.addSeries(s2);
+            for (int a = 0; a < anchors.length; a++) {
+                dataset.setXPosition(anchors[a]);
+                for (int i = 0; i < 48; i++) {
+                    assertEquals(dataset.getXValue(0, i),
+                            dataset.getXValue(1, i), EPSILON);
+                    assertEquals(dataset.getX(0, i), dataset.getX(1, i));
+                    assertEquals(dataset.getStartXValue(0, i),
+                            dataset.getStartXValue(1, i), EPSILON);
+                    assertEquals(dataset.getEndX(0, i), dataset.getEndX(1, i));
+                    assertEquals(dataset.getY(0, i), dataset.getY(1, i));
+                    assertEquals(dataset.getYValue(0, i),
+                            dataset.getYValue(1, i), EPSILON);
+                }
+            }
+            assertEquals(dataset.getDomainBounds(true).getLowerBound(),
+                    dataset.getStartXValue(1, 0), EPSILON);
+        }
+    }
+
+    /**
+     * A sequence of random changes gives the same results as for a
+     * {@link TimeSeries}.
+     */
+    @Test
+    public void testRandomChanges() throws CloneNotSupportedException {
+        Random random = new Random(14L);
+        TimeSeries s1 = new TimeSeries("S");
+        PrimitiveTimeSeries s2 = new PrimitiveTimeSeries("S");
+        s1.setMaximumItemCount(50);
+        s2.setMaximumItemCount(50);
+        for (int i = 0; i < 2000; i++) {
+            Minute m = new Minute(random.nextInt(60), random.nextInt(3), 1, 1,
+                    2020);
+            Double value = random.nextInt(10) == 0 ? null
+                    : new Double(random.nextInt(1000));
+            switch (random.nextInt(6)) {
+                case 0:
+                    s1.addOrUpdate(m, value);
+                    s2.addOrUpdate(m, value);
+                    break;
+                case 1:
+                    s1.delete(m);
+                    s2.delete(m);
+                    break;
+                case 2:
+                    if (s1.getItemCount() > 0) {
+                        int index = random.nextInt(s1.getItemCount());
+                        s1.update(index, value);
+                        s2.update(index, value);
+                    }
+                    break;
+                default:
+                    m = new Minute(i % 60, 3 + (i / 60) % 20, 1 + i / 1200,
+                            1, 2020);
+                    s1.add(m, value);
+                    s2.add(m, value);
+            }
+            assertEquals(s1.getItemCount(), s2.getItemCount());
+            assertEquals(s1.getMinY(), s2.getMinY(), EPSILON);
+            assertEquals(s1.getMaxY(), s2.getMaxY(), EPSILON);
+        }
+        assertEquals(s1.getItems(), s2.getItems());
+        assertEquals(s1.hashCode(), s2.hashCode());
+        Range xRange = new Range(s1.getTimePeriod(10).getFirstMillisecond(),
+                s1.getTimePeriod(30).getFirstMillisecond());
+        assertEquals(s1.findValueRange(xRange, TimeZone.getDefault()),
+                s2.findValueRange(xRange, TimeZone.getDefault()));
+        assertEquals(s1.createCopy(5, 20).getItems(),
+                s2.createCopy(5, 20).getItems());
+    }
+
+}
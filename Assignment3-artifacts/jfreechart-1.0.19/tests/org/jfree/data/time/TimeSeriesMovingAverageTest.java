@@ -0,0 +1,273 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------------
+ * TimeSeriesMovingAverageTest.java
+ * --------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesChangeType;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link TimeSeriesMovingAverage} class.
+ */
+public class TimeSeriesMovingAverageTest {
+
+    private static final double EPSILON = 0.0000001;
+
+    /**
+     * Checks that two series have the same periods and (approximately) the
+     * same values.
+     *
+     * @param expected  the expected series.
+     * @param actual  the actual series.
+     */
+    private void check(TimeSeries expected, TimeSeries actual) {
+        assertEquals(expected.getItemCount(), actual.getItemCount());
+        for (int i = 0; i < expected.getItemCount(); i++) {
+            assertEquals(expected.getTimePeriod(i), actual.getTimePeriod(i));
+            Number v = expected.getValue(i);
+            if (v == null) {
+                assertNull(actual.getValue(i));
+            }
+            else {
+                assertEquals(v.doubleValue(),
+                        actual.getValue(i).doubleValue(), EPSILON);
+            }
+        }
+    }
+
+    /**
+     * The averages of appended items should match those calculated by the
+     * MovingAverage class.
+     */
+    @Test
+    public void testAppend() {
+        TimeSeries s = new TimeSeries("S");
+        TimeSeriesMovingAverage ma = MovingAverage.createLiveMovingAverage(
+                s, "MA", 5, 3);
+        TimeSeriesMovingAverage pma
+                = MovingAverage.createLivePointMovingAverage(s, "PMA", 4);
+        Random random = new Random(19L);
+        Day day = new Day(1, 1, 2014);
+        for (int i = 0; i < 300; i++) {
+            day = (Day) day.next();
+            if (random.nextInt(3) == 0) {
+                day = (Day) day.next();
+            }
+            s.add(day, random.nextDouble() * 1000.0 - 500.0);
+            if (i % 25 == 0) {
+                check(MovingAverage.createMovingAverage(s, "MA", 5, 3),
+                        ma.getSeries());
+                check(MovingAverage.createPointMovingAverage(s, "PMA", 4),
+                        pma.getSeries());
+            }
+        }
+        check(MovingAverage.createMovingAverage(s, "MA", 5, 3),
+                ma.getSeries());
+        check(MovingAverage.createPointMovingAverage(s, "PMA", 4),
+                pma.getSeries());
+
+        // null values are not included in the average
+        s.add(day.next(), null);
+        check(MovingAverage.createMovingAverage(s, "MA", 5, 3),
+                ma.getSeries());
+        assertEquals(4, pma.getWindowSize());
+        assertTrue(pma.isPointWindow());
+    }
+
+    /**
+     * A series with the values 1 to n (in consecutive days), with a null
+     * value every tenth item.
+     *
+     * @param n  the number of items.
+     *
+     * @return The series.
+     */
+    private TimeSeries createSeries(int n) {
+        TimeSeries s = new TimeSeries("S");
+        Day day = new Day(1, 1, 2014);
+        for (int i = 1; i <= n; i++) {
+            s.add(day, i % 10 == 0 ? null : new Double(i));
+            day = (Day) day.next();
+        }
+        return s;
+    }
+
+    /**
+     * Updated items should update the averages whose windows include them.
+     */
+    @Test
+    public void testUpdate() {
+        TimeSeries s = createSeries(50);
+        TimeSeriesMovingAverage ma = new TimeSeriesMovingAverage(s, "MA", 7,
+                2, false);
+        TimeSeriesMovingAverage pma = new TimeSeriesMovingAverage(s, "PMA",
+                3, 0, true);
+        List events = new ArrayList();
+        ma.getSeries().addChangeListener(new EventRecorder(events));
+        s.update(20, new Double(-100.0));
+        assertEquals(7, events.size());
+        for (int i = 0; i < events.size(); i++) {
+            SeriesChangeEvent e = (SeriesChangeEvent) events.get(i);
+            assertEquals(SeriesChangeType.UPDATE, e.getType());
+            assertEquals(18 + i, e.getFirstIndex());
+        }
+        s.update(9, new Double(9.0));
+        s.update(5, null);
+        s.addOrUpdate(new Day(1, 1, 2014), 42.0);
+        s.update(49, new Double(0.5));
+        check(MovingAverage.createMovingAverage(s, "MA", 7, 2),
+                ma.getSeries());
+        check(MovingAverage.createPointMovingAverage(s, "PMA", 3),
+                pma.getSeries());
+    }
+
+    /**
+     * Items removed from the source series remove their averages without
+     * changing the others.
+     */
+    @Test
+    public void testRemoveFirst() {
+        TimeSeries s = createSeries(20);
+        s.setMaximumItemCount(20);
+        TimeSeriesMovingAverage ma = new TimeSeriesMovingAverage(s, "MA", 4,
+                2, false);
+        TimeSeriesMovingAverage pma = new TimeSeriesMovingAverage(s, "PMA",
+                3, 0, true);
+        TimeSeries before = MovingAverage.createMovingAverage(s, "MA", 4, 2);
+        TimeSeries pBefore = MovingAverage.createPointMovingAverage(s, "PMA",
+                3);
+        List events = new ArrayList();
+        ma.getSeries().addChangeListener(new EventRecorder(events));
+        s.add(new Day(21, 1, 2014), 1000.0);
+        // the first item had no average, so only the append is seen
+        assertEquals(1, events.size());
+        SeriesChangeEvent e = (SeriesChangeEvent) events.get(0);
+        assertEquals(SeriesChangeType.APPEND, e.getType());
+        assertEquals(18, e.getFirstIndex());
+        assertEquals(19, ma.getSeries().getItemCount());
+        assertEquals(19, pma.getSeries().getItemCount());
+
+        s.delete(0, 4);
+        assertEquals(2, events.size());
+        e = (SeriesChangeEvent) events.get(1);
+        assertEquals(SeriesChangeType.REMOVE_FIRST, e.getType());
+        assertEquals(4, e.getRemovedCount());
+        assertEquals(15, ma.getSeries().getItemCount());
+        assertEquals(15, pma.getSeries().getItemCount());
+        for (int i = 0; i < 14; i++) {
+            assertEquals(before.getValue(i + 4), ma.getSeries().getValue(i));
+            assertEquals(pBefore.getValue(i + 4),
+                    pma.getSeries().getValue(i));
+        }
+        // the item for day 20 is null
+        assertEquals(1037.0 / 3.0, ma.getSeries().getValue(14).doubleValue(),
+                EPSILON);
+        assertEquals(1019.0 / 2.0, pma.getSeries().getValue(14).doubleValue(),
+                EPSILON);
+
+        // new items are averaged over the items remaining in the source
+        s.setMaximumItemCount(2);
+        s.add(new Day(22, 1, 2014), 2000.0);
+        assertEquals(1500.0, ma.getSeries().getValue(
+                ma.getSeries().getItemCount() - 1).doubleValue(), EPSILON);
+        assertEquals(1500.0, pma.getSeries().getValue(
+                pma.getSeries().getItemCount() - 1).doubleValue(), EPSILON);
+    }
+
+    /**
+     * Other changes recalculate all the averages.
+     */
+    @Test
+    public void testRebuild() {
+        TimeSeries s = createSeries(30);
+        s.delete(new Day(5, 1, 2014));
+        TimeSeriesMovingAverage ma = new TimeSeriesMovingAverage(s, "MA", 4,
+                1, false);
+        s.add(new Day(5, 1, 2014), 500.0);
+        check(MovingAverage.createMovingAverage(s, "MA", 4, 1),
+                ma.getSeries());
+        s.setNotify(false);
+        s.add(new Day(1, 2, 2014), 7.0);
+        s.setNotify(true);
+        s.add(new Day(2, 2, 2014), 8.0);
+        check(MovingAverage.createMovingAverage(s, "MA", 4, 1),
+                ma.getSeries());
+        s.clear();
+        assertEquals(0, ma.getSeries().getItemCount());
+        s.add(new Day(2, 2, 2014), 8.0);
+        s.add(new Day(3, 2, 2014), 9.0);
+        check(MovingAverage.createMovingAverage(s, "MA", 4, 1),
+                ma.getSeries());
+
+        // no more updates after dispose()
+        ma.dispose();
+        s.add(new Day(4, 2, 2014), 9.0);
+        assertEquals(1, ma.getSeries().getItemCount());
+    }
+
+    /**
+     * Records events.
+     */
+    static class EventRecorder implements SeriesChangeListener {
+
+        private List events;
+
+        EventRecorder(List events) {
+            this.events = events;
+        }
+
+        @Override
+        public void seriesChanged(SeriesChangeEvent event) {
+            this.events.add(event);
+        }
+
+    }
+
+}
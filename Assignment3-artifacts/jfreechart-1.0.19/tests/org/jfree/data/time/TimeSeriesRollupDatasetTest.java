@@ -0,0 +1,284 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * TimeSeriesRollupDataset.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Added testDispose(), testEquals(), testCloning() and
+ *               testSerialization() (G14);
+ *
+ */
+
+package org.jfree.data.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Date;
+import java.util.TimeZone;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.chart.axis.DateAxis;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DatasetUtilities;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link TimeSeriesRollupDataset} class.
+ */
+public class TimeSeriesRollupDatasetTest implements DatasetChangeListener {
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    /** 1-Jan-2020 UTC. */
+    private static final long T = 1577836800000L;
+
+    private int events;
+
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.events++;
+    }
+
+    private TimeSeriesRollupDataset createDataset() {
+        TimeSeries s = new TimeSeries("S");
+        for (int i = 0; i < 3 * 3600; i++) {
+            s.add(new Second(new Date(T + i * 1000L), UTC),
+                    i % 60 == 59 ? null : new Double(i % 600));
+        }
+        return new TimeSeriesRollupDataset(new TimeSeriesRollup(s,
+                new Class[] {Minute.class, Hour.class, Day.class}, UTC));
+    }
+
+    /**
+     * The values at each level.
+     */
+    @Test
+    public void testValues() {
+        TimeSeriesRollupDataset d = createDataset();
+        assertEquals(1, d.getSeriesCount());
+        assertEquals("S", d.getSeriesKey(0));
+        assertEquals(TimeSeriesRollupDataset.SERIES_LEVEL, d.getLevel());
+        assertEquals(10800, d.getItemCount(0));
+        assertEquals(T + 1000L, d.getXValue(0, 1), 0.0);
+        assertEquals(1.0, d.getYValue(0, 1), 0.0);
+        assertNull(d.getY(0, 59));
+        assertEquals(0.0, d.getVolumeValue(0, 59), 0.0);
+
+        d.setLevel(0);
+        assertEquals(180, d.getItemCount(0));
+        // minute 1 has the values 60 to 118 (119 is null)
+        assertEquals(T + 60000L, d.getXValue(0, 1), 0.0);
+        assertEquals(T + 60000L, d.getStartXValue(0, 1), 0.0);
+        assertEquals(T + 119999L, d.getEndXValue(0, 1), 0.0);
+        assertEquals(89.0, d.getYValue(0, 1), 0.0);
+        assertEquals(60.0, d.getStartYValue(0, 1), 0.0);
+        assertEquals(118.0, d.getEndYValue(0, 1), 0.0);
+        assertEquals(60.0, d.getOpenValue(0, 1), 0.0);
+        assertEquals(118.0, d.getHighValue(0, 1), 0.0);
+        assertEquals(60.0, d.getLowValue(0, 1), 0.0);
+        assertEquals(118.0, d.getCloseValue(0, 1), 0.0);
+        assertEquals(59.0, d.getVolumeValue(0, 1), 0.0);
+
+        d.setLevel(1);
+        assertEquals(3, d.getItemCount(0));
+        assertEquals(0.0, d.getLowValue(0, 2), 0.0);
+        assertEquals(598.0, d.getHighValue(0, 2), 0.0);
+        d.setXPosition(TimePeriodAnchor.MIDDLE);
+        assertEquals(T + 1800000L - 1, d.getXValue(0, 0), 0.0);
+        assertEquals(T, DatasetUtilities.findMinimumDomainValue(d)
+                .doubleValue(), 0.0);
+    }
+
+    /**
+     * The level is selected for the range and width.
+     */
+    @Test
+    public void testSelectLevel() {
+        TimeSeriesRollupDataset d = createDataset();
+        d.addChangeListener(this);
+        // 10 minutes in 800 pixels: every second
+        assertEquals(-1, d.selectLevel(T, T + 600000L, 800));
+        assertEquals(0, this.events);
+        // 3 hours in 800 pixels: minutes
+        assertEquals(0, d.selectLevel(T, T + 3 * 3600000L, 800));
+        assertEquals(0, d.getLevel());
+        assertEquals(1, this.events);
+        // 3 hours in 100 pixels: hours
+        assertEquals(1, d.selectLevel(T - 3600000L, T + 3 * 3600000L, 100));
+        // the coarsest level is used if none is small enough
+        assertEquals(2, d.selectLevel(T, T + 3 * 3600000L, 1));
+        assertEquals(3, this.events);
+        // a range after the data has no items
+        assertEquals(-1, d.selectLevel(T + 4 * 3600000L, T + 5 * 3600000L,
+                1));
+    }
+
+    /**
+     * The level follows the range of an axis.
+     */
+    @Test
+    public void testAxisChanged() {
+        TimeSeriesRollupDataset d = createDataset();
+        DateAxis axis = new DateAxis("Time");
+        axis.addChangeListener(d);
+        axis.setRange(new Date(T), new Date(T + 3 * 3600000L));
+        assertEquals(TimeSeriesRollupDataset.SERIES_LEVEL, d.getLevel());
+        d.setPixelWidth(500);
+        axis.setRange(new Date(T), new Date(T + 3 * 3600000L));
+        assertEquals(0, d.getLevel());
+        axis.setRange(new Date(T), new Date(T + 100000L));
+        assertEquals(TimeSeriesRollupDataset.SERIES_LEVEL, d.getLevel());
+    }
+
+    /**
+     * Changes to the series reach the dataset's listeners.
+     */
+    @Test
+    public void testSeriesChange() {
+        TimeSeriesRollupDataset d = createDataset();
+        d.setLevel(1);
+        d.addChangeListener(this);
+        d.getRollup().getSeries().add(new Second(new Date(T + 3 * 3600000L),
+                UTC), 5.0);
+        assertEquals(1, this.events);
+        assertEquals(4, d.getItemCount(0));
+        assertEquals(5.0, d.getYValue(0, 3), 0.0);
+        try {
+            d.setLevel(3);
+            assertTrue(false);
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Setting the x-position respects the notify flag.
+     */
+    @Test
+    public void testSetXPosition() {
+        TimeSeriesRollupDataset d = createDataset();
+        d.addChangeListener(this);
+        d.setXPosition(TimePeriodAnchor.END);
+        assertEquals(1, this.events);
+        d.setNotify(false);
+        d.setXPosition(TimePeriodAnchor.MIDDLE);
+        assertEquals(1, this.events);
+        d.setNotify(true);
+        assertEquals(2, this.events);
+    }
+
+    /**
+     * A disposed dataset no longer receives changes from the rollup.
+     */
+    @Test
+    public void testDispose() {
+        TimeSeriesRollupDataset d = createDataset();
+        d.addChangeListener(this);
+        d.dispose();
+        d.getRollup().getSeries().add(new Second(new Date(T + 3 * 3600000L),
+                UTC), 5.0);
+        assertEquals(0, this.events);
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required
+     * fields.
+     */
+    @Test
+    public void testEquals() {
+        TimeSeriesRollupDataset d1 = createDataset();
+        TimeSeriesRollupDataset d2 = createDataset();
+        assertEquals(d1, d2);
+        assertEquals(d1.hashCode(), d2.hashCode());
+        d1.setLevel(1);
+        assertFalse(d1.equals(d2));
+        d2.setLevel(1);
+        assertEquals(d1, d2);
+        d1.setPixelWidth(100);
+        assertFalse(d1.equals(d2));
+        d2.setPixelWidth(100);
+        assertEquals(d1, d2);
+        d1.setXPosition(TimePeriodAnchor.MIDDLE);
+        assertFalse(d1.equals(d2));
+        d2.setXPosition(TimePeriodAnchor.MIDDLE);
+        assertEquals(d1, d2);
+        d1.getRollup().getSeries().add(new Second(new Date(
+                T + 3 * 3600000L), UTC), 5.0);
+        assertFalse(d1.equals(d2));
+    }
+
+    /**
+     * Confirm that cloning works, and that the clone follows the rollup.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        TimeSeriesRollupDataset d1 = createDataset();
+        d1.setLevel(1);
+        TimeSeriesRollupDataset d2 = (TimeSeriesRollupDataset) d1.clone();
+        assertNotSame(d1, d2);
+        assertEquals(d1, d2);
+        d2.addChangeListener(this);
+        d1.getRollup().getSeries().add(new Second(new Date(
+                T + 3 * 3600000L), UTC), 5.0);
+        assertEquals(1, this.events);
+        assertEquals(4, d2.getItemCount(0));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        TimeSeriesRollupDataset d1 = createDataset();
+        d1.setLevel(1);
+        d1.setXPosition(TimePeriodAnchor.MIDDLE);
+        TimeSeriesRollupDataset d2 = (TimeSeriesRollupDataset)
+                TestUtilities.serialised(d1);
+        assertEquals(d1, d2);
+        d2.addChangeListener(this);
+        d2.getRollup().getSeries().add(new Second(new Date(
+                T + 3 * 3600000L), UTC), 5.0);
+        assertEquals(1, this.events);
+        assertEquals(4, d2.getItemCount(0));
+    }
+
+}
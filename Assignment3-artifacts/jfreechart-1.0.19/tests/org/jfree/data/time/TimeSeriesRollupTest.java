@@ -0,0 +1,394 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * TimeSeriesRollup.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Added testDispose(), testEquals() and testSerialization()
+ *               (G14);
+ *
+ */
+
+package org.jfree.data.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link TimeSeriesRollup} class.
+ */
+public class TimeSeriesRollupTest implements SeriesChangeListener {
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private int events;
+
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        this.events++;
+    }
+
+    private TimeSeriesRollup createRollup(TimeSeries series) {
+        return new TimeSeriesRollup(series, new Class[] {Minute.class,
+                Hour.class, Day.class}, UTC);
+    }
+
+    /**
+     * Checks every level of a rollup against aggregates found by grouping
+     * the series items.
+     */
+    private void check(TimeSeriesRollup rollup) {
+        TimeSeries series = rollup.getSeries();
+        Calendar calendar = Calendar.getInstance(rollup.getTimeZone());
+        for (int level = 0; level < rollup.getLevelCount(); level++) {
+            List periods = new ArrayList();
+            List values = new ArrayList();
+            for (int i = 0; i < series.getItemCount(); i++) {
+                long millis = series.getTimePeriod(i).getFirstMillisecond(
+                        calendar);
+                RegularTimePeriod p = RegularTimePeriod.createInstance(
+                        rollup.getPeriodClass(level), new Date(millis),
+                        rollup.getTimeZone());
+                if (periods.isEmpty()
+                        || !periods.get(periods.size() - 1).equals(p)) {
+                    periods.add(p);
+                    values.add(new ArrayList());
+                }
+                ((List) values.get(values.size() - 1)).add(
+                        series.getValue(i));
+            }
+            assertEquals(periods.size(), rollup.getItemCount(level));
+            for (int b = 0; b < periods.size(); b++) {
+                RegularTimePeriod p = (RegularTimePeriod) periods.get(b);
+                assertEquals(p, rollup.getPeriod(level, b));
+                assertEquals(p.getFirstMillisecond(calendar),
+                        rollup.getFirstMillisecond(level, b));
+                assertEquals(p.getLastMillisecond(calendar),
+                        rollup.getLastMillisecond(level, b));
+                double min = Double.NaN;
+                double max = Double.NaN;
+                double first = Double.NaN;
+                double last = Double.NaN;
+                double sum = 0.0;
+                int count = 0;
+                List v = (List) values.get(b);
+                for (int k = 0; k < v.size(); k++) {
+                    Number n = (Number) v.get(k);
+                    if (n == null) {
+                        continue;
+                    }
+                    double y = n.doubleValue();
+                    min = count == 0 ? y : Math.min(min, y);
+                    max = count == 0 ? y : Math.max(max, y);
+                    first = count == 0 ? y : first;
+                    last = y;
+                    sum += y;
+                    count++;
+                }
+                assertEquals(min, rollup.getMinValue(level, b), 0.0);
+                assertEquals(max, rollup.getMaxValue(level, b), 0.0);
+                assertEquals(first, rollup.getFirstValue(level, b), 0.0);
+                assertEquals(last, rollup.getLastValue(level, b), 0.0);
+                assertEquals(sum, rollup.getSum(level, b), 1e-6);
+                assertEquals(count, rollup.getCount(level, b));
+            }
+        }
+    }
+
+    private Second second(long millis) {
+        return new Second(new Date(millis), UTC);
+    }
+
+    /**
+     * A rollup of an existing series.
+     */
+    @Test
+    public void testCreate() {
+        TimeSeries s = new TimeSeries("S");
+        long t = 1577836800000L;  // 1-Jan-2020 UTC
+        for (int i = 0; i < 10000; i += 7) {
+            s.add(second(t + i * 1000L), i % 13 == 0 ? null
+                    : new Double(Math.sin(i)));
+        }
+        TimeSeriesRollup rollup = createRollup(s);
+        assertEquals(3, rollup.getLevelCount());
+        assertEquals(Minute.class, rollup.getPeriodClass(0));
+        assertEquals(3, rollup.getItemCount(1));
+        check(rollup);
+        assertEquals(0, rollup.getIndex(2, t));
+        assertEquals(1, rollup.getIndex(1, t + 3600000L));
+        assertEquals(-1, rollup.getIndex(1, t - 1));
+        assertEquals(-4, rollup.getIndex(1, t + 3 * 3600000L));
+    }
+
+    /**
+     * Appending items (one at a time and in bulk) updates the rollup.
+     */
+    @Test
+    public void testAppend() {
+        TimeSeries s = new TimeSeries("S");
+        TimeSeriesRollup rollup = createRollup(s);
+        rollup.addChangeListener(this);
+        long t = 1577836800000L;
+        for (int i = 0; i < 5000; i++) {
+            s.add(second(t + i * 1000L), new Double(i % 97));
+        }
+        assertEquals(5000, this.events);
+        check(rollup);
+        TimeSeries more = new TimeSeries("More");
+        for (int i = 5000; i < 9000; i += 3) {
+            more.add(second(t + i * 1000L), new Double(-i));
+        }
+        s.addAndOrUpdate(more);
+        check(rollup);
+        int count = this.events;
+        rollup.removeChangeListener(this);
+        s.add(second(t + 99999000L), 1.0);
+        assertEquals(count, this.events);
+    }
+
+    /**
+     * Items removed by the maximum item count and age are removed from the
+     * rollup.
+     */
+    @Test
+    public void testRemoveFirst() {
+        TimeSeries s = new TimeSeries("S");
+        s.setMaximumItemCount(700);
+        TimeSeriesRollup rollup = createRollup(s);
+        long t = 1577836800000L;
+        for (int i = 0; i < 5000; i++) {
+            s.add(second(t + i * 1000L), new Double((i * 31) % 101));
+            if (i % 250 == 0) {
+                check(rollup);
+            }
+        }
+        check(rollup);
+        s.setMaximumItemAge(100);
+        check(rollup);
+        s.delete(0, 49);
+        check(rollup);
+        s.clear();
+        assertEquals(0, rollup.getItemCount(0));
+        assertEquals(0, rollup.getItemCount(2));
+    }
+
+    /**
+     * Updated, inserted and deleted items.
+     */
+    @Test
+    public void testChanges() {
+        TimeSeries s = new TimeSeries("S");
+        TimeSeriesRollup rollup = createRollup(s);
+        long t = 1577836800000L;
+        for (int i = 0; i < 4000; i += 2) {
+            s.add(second(t + i * 1000L), new Double(i));
+        }
+        s.update(10, new Double(-5.0));
+        s.addOrUpdate(second(t + 1000L * 3000), 99999.0);
+        s.addOrUpdate(second(t + 1000L * 3002), null);
+        check(rollup);
+        s.add(second(t + 1001000L), 7.0);
+        check(rollup);
+        s.delete(second(t + 2000000L));
+        check(rollup);
+    }
+
+    /**
+     * Changes made while notification is off are picked up by a rebuild.
+     */
+    @Test
+    public void testNotifyOff() {
+        TimeSeries s = new TimeSeries("S");
+        TimeSeriesRollup rollup = createRollup(s);
+        s.setNotify(false);
+        long t = 1577836800000L;
+        for (int i = 0; i < 1000; i++) {
+            s.add(second(t + i * 5000L), new Double(i));
+        }
+        check(rollup);
+        s.add(second(t + 5000000L), 1.0);
+        s.setNotify(true);
+        s.add(second(t + 5001000L), 2.0);
+        check(rollup);
+    }
+
+    /**
+     * Random changes to a series with a maximum item count.
+     */
+    @Test
+    public void testRandomChanges() {
+        Random random = new Random(17L);
+        TimeSeries s = new TimeSeries("S");
+        s.setMaximumItemCount(400);
+        TimeSeriesRollup rollup = createRollup(s);
+        long t = 1577836800000L;
+        for (int i = 0; i < 3000; i++) {
+            int op = random.nextInt(10);
+            Double y = random.nextInt(20) == 0 ? null
+                    : new Double(random.nextGaussian());
+            if (op < 7 || s.getItemCount() == 0) {
+                t += 1000L * (1 + random.nextInt(30));
+                s.add(second(t), y);
+            }
+            else if (op < 9) {
+                s.update(random.nextInt(s.getItemCount()), y);
+            }
+            else {
+                s.delete(0, random.nextInt(Math.min(5, s.getItemCount())));
+            }
+            if (i % 100 == 0) {
+                check(rollup);
+            }
+        }
+        check(rollup);
+    }
+
+    /**
+     * Levels that do not fit inside each other (weeks and months) and a
+     * time zone with daylight saving.
+     */
+    @Test
+    public void testWeeksAndMonths() {
+        TimeZone zone = TimeZone.getTimeZone("America/Toronto");
+        TimeSeries s = new TimeSeries("S");
+        TimeSeriesRollup rollup = new TimeSeriesRollup(s, new Class[] {
+            Day.class, Week.class, Month.class, Year.class}, zone);
+        Day d = new Day(new Date(1577836800000L), zone);
+        for (int i = 0; i < 800; i++) {
+            s.add(d, new Double(i % 17));
+            d = (Day) d.next();
+        }
+        check(rollup);
+        s.update(400, new Double(-1.0));
+        s.delete(0, 40);
+        check(rollup);
+    }
+
+    /**
+     * A disposed rollup no longer follows the series.
+     */
+    @Test
+    public void testDispose() {
+        TimeSeries s = new TimeSeries("S");
+        s.add(second(0L), 1.0);
+        TimeSeriesRollup rollup = createRollup(s);
+        rollup.addChangeListener(this);
+        rollup.dispose();
+        s.add(second(1000L), 2.0);
+        assertEquals(0, this.events);
+    }
+
+    /**
+     * Rollups are equal if their series, time zones and period classes are
+     * equal.
+     */
+    @Test
+    public void testEquals() {
+        TimeSeries s1 = new TimeSeries("S");
+        s1.add(second(0L), 1.0);
+        TimeSeries s2 = new TimeSeries("S");
+        s2.add(second(0L), 1.0);
+        TimeSeriesRollup r1 = createRollup(s1);
+        TimeSeriesRollup r2 = createRollup(s2);
+        assertEquals(r1, r2);
+        assertEquals(r1.hashCode(), r2.hashCode());
+        s1.add(second(1000L), 2.0);
+        assertFalse(r1.equals(r2));
+        s2.add(second(1000L), 2.0);
+        assertEquals(r1, r2);
+        r2 = new TimeSeriesRollup(s2, new Class[] {Minute.class}, UTC);
+        assertFalse(r1.equals(r2));
+        r2 = new TimeSeriesRollup(s2, new Class[] {Minute.class,
+                Hour.class, Day.class}, TimeZone.getTimeZone("GMT+1"));
+        assertFalse(r1.equals(r2));
+    }
+
+    /**
+     * Serialize a rollup, restore it, and check that it still follows its
+     * (restored) series.
+     */
+    @Test
+    public void testSerialization() {
+        TimeSeries s = new TimeSeries("S");
+        for (int i = 0; i < 200; i++) {
+            s.add(second(i * 1000L), new Double(i % 7));
+        }
+        TimeSeriesRollup r1 = createRollup(s);
+        TimeSeriesRollup r2 = (TimeSeriesRollup) TestUtilities.serialised(r1);
+        assertEquals(r1, r2);
+        check(r2);
+        r2.getSeries().add(second(200000L), 99.0);
+        check(r2);
+        assertEquals(99.0, r2.getMaxValue(0, r2.getItemCount(0) - 1), 0.0);
+    }
+
+    /**
+     * Classes without a (Date, TimeZone) constructor are rejected.
+     */
+    @Test
+    public void testInvalidClass() {
+        TimeSeries s = new TimeSeries("S");
+        try {
+            new TimeSeriesRollup(s, new Class[] {FixedMillisecond.class},
+                    UTC);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().indexOf("FixedMillisecond") >= 0);
+        }
+        try {
+            new TimeSeriesRollup(s, new Class[] {String.class}, UTC);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
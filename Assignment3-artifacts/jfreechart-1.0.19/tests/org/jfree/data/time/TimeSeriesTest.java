@@ -50,6 +50,12 @@
  * 09-Jun-2009 : Added testAdd_TimeSeriesDataItem (DG);
  * 31-Aug-2009 : Added new test for createCopy() method (DG);
  * 03-Dec-2011 : Added testBug3446965() (DG);
+ * 18-Oct-2026 : Added testMaximumItemCountRollingBounds() (G14);
+ * 18-Oct-2026 : Added testAddAll() (G14);
+ * 18-Oct-2026 : Added testFindValueRange3() (G14);
+ * 18-Oct-2026 : Added testChangeEventDetails() (G14);
+ * 18-Oct-2026 : Added testPrimitiveAccessors() (G14);
+ * 18-Oct-2026 : Added testRemoveAgedItemsBulk() (G14);
  * 
  */
 
@@ -63,6 +69,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 import org.jfree.chart.TestUtilities;
@@ -70,6 +77,7 @@ import org.jfree.data.Range;
 
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
 import org.jfree.date.MonthConstants;
 import org.junit.Before;
@@ -92,6 +100,9 @@ public class TimeSeriesTest implements SeriesChangeListener {
     /** A flag that indicates whether or not a change event was fired. */
     private boolean gotSeriesChangeEvent = false;
 
+    /** The last change event received. */
+    private SeriesChangeEvent lastEvent;
+
     /**
      * Common test setup.
      */
@@ -125,6 +136,7 @@ public class TimeSeriesTest implements SeriesChangeListener {
     @Override
     public void seriesChanged(SeriesChangeEvent event) {
         this.gotSeriesChangeEvent = true;
+        this.lastEvent = event;
     }
 
     /**
@@ -1203,4 +1215,267 @@ public class TimeSeriesTest implements SeriesChangeListener {
         assertTrue(ts.findValueRange(range, TimePeriodAnchor.MIDDLE, tzone).isNaNRange());
         assertTrue(ts.findValueRange(range, TimePeriodAnchor.END, tzone).isNaNRange());
     }
+
+    /**
+     * The y-range for an x-range should match a brute force scan of the
+     * items while items are appended, evicted, aged out and updated.
+     */
+    @Test
+    public void testFindValueRange3() {
+        TimeZone zone = TimeZone.getTimeZone("Europe/London");
+        java.util.Random random = new java.util.Random(14L);
+        TimeSeries s = new TimeSeries("S");
+        s.setMaximumItemCount(300);
+        s.setMaximumItemAge(400);
+        RegularTimePeriod period = new Hour(0, new Day(20, 3, 2014));
+        long first = period.getFirstMillisecond(zone);
+        for (int i = 0; i < 2000; i++) {
+            int action = random.nextInt(20);
+            if (action == 0) {
+                s.addOrUpdate(s.getTimePeriod(random.nextInt(
+                        s.getItemCount())), new Double(random.nextInt(100)));
+            }
+            else if (action == 1) {
+                s.add(period, null);
+            }
+            else if (action == 2) {
+                s.add(period, Double.NaN);
+            }
+            else {
+                s.add(period, random.nextInt(100));
+            }
+            // skip some periods, so that items are also aged out
+            period = random.nextInt(4) == 0 ? period.next().next()
+                    : period.next();
+            long now = period.getFirstMillisecond(zone);
+            for (int j = 0; j < 3; j++) {
+                double a = first + (now - first) * random.nextDouble();
+                Range xRange = new Range(a, a + random.nextInt(100)
+                        * 3600000.0);
+                TimePeriodAnchor anchor = j == 0 ? TimePeriodAnchor.START
+                        : (j == 1 ? TimePeriodAnchor.MIDDLE
+                        : TimePeriodAnchor.END);
+                Range expected = bruteForceValueRange(s, xRange, anchor,
+                        zone);
+                Range actual = s.findValueRange(xRange, anchor, zone);
+                if (expected.isNaNRange()) {
+                    assertTrue(actual.isNaNRange());
+                }
+                else {
+                    assertEquals(expected, actual);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the range of y-values for the items in an x-range by checking
+     * every item.
+     *
+     * @param s  the series (not empty).
+     * @param xRange  the x-range.
+     * @param anchor  the x-value anchor.
+     * @param zone  the time zone.
+     *
+     * @return The range.
+     */
+    private static Range bruteForceValueRange(TimeSeries s, Range xRange,
+            TimePeriodAnchor anchor, TimeZone zone) {
+        Calendar calendar = Calendar.getInstance(zone);
+        double low = Double.POSITIVE_INFINITY;
+        double high = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < s.getItemCount(); i++) {
+            long millis = s.getTimePeriod(i).getMillisecond(anchor, calendar);
+            Number n = s.getValue(i);
+            if (xRange.contains(millis) && n != null) {
+                low = Math.min(low, n.doubleValue());
+                high = Math.max(high, n.doubleValue());
+            }
+        }
+        if (Double.isInfinite(low) && Double.isInfinite(high)
+                && !(low < high)) {
+            return new Range(Double.NaN, Double.NaN);
+        }
+        return new Range(low, high);
+    }
+
+    /**
+     * A capped series should report the same y-bounds as a brute force scan
+     * of its items while data rolls through it.
+     */
+    @Test
+    public void testMaximumItemCountRollingBounds() {
+        java.util.Random random = new java.util.Random(637L);
+        TimeSeries s = new TimeSeries("S");
+        s.setMaximumItemCount(30);
+        RegularTimePeriod period = new Day(1, 1, 2000);
+        for (int i = 0; i < 1000; i++) {
+            // a descending run pushes the maximum out with every eviction
+            double y = i < 200 ? 1000.0 - i : random.nextGaussian();
+            s.add(period, y);
+            period = period.next();
+            if (i % 100 == 99) {
+                s.update(5, new Double(random.nextGaussian()));
+            }
+            double minY = Double.POSITIVE_INFINITY;
+            double maxY = Double.NEGATIVE_INFINITY;
+            for (int j = 0; j < s.getItemCount(); j++) {
+                minY = Math.min(minY, s.getValue(j).doubleValue());
+                maxY = Math.max(maxY, s.getValue(j).doubleValue());
+            }
+            assertEquals(minY, s.getMinY(), EPSILON);
+            assertEquals(maxY, s.getMaxY(), EPSILON);
+        }
+        assertEquals(30, s.getItemCount());
+    }
+
+
+    /**
+     * Some checks for the addAll() method.
+     */
+    @Test
+    public void testAddAll() {
+        TimeSeries s1 = new TimeSeries("S");
+        s1.add(new Day(10, 1, 2016), 10.0);
+        s1.addChangeListener(this);
+        long day = 24L * 60L * 60L * 1000L;
+        long start = new Day(1, 1, 2016).getFirstMillisecond();
+        long[] millis = new long[] {start + 12 * day, start + 11 * day,
+                start + 2 * day, start + 30 * day + 5};
+        this.gotSeriesChangeEvent = false;
+        s1.addAll(millis, new double[] {12.0, 11.0, 2.0, 30.0});
+        assertTrue(this.gotSeriesChangeEvent);
+        assertEquals(5, s1.getItemCount());
+        assertEquals(new Day(3, 1, 2016), s1.getTimePeriod(0));
+        assertEquals(new Day(10, 1, 2016), s1.getTimePeriod(1));
+        assertEquals(new Day(31, 1, 2016), s1.getTimePeriod(4));
+        assertEquals(2.0, s1.getMinY(), EPSILON);
+        assertEquals(30.0, s1.getMaxY(), EPSILON);
+
+        // a period that is already in the series is rejected
+        try {
+            s1.addAll(new long[] {start + 40 * day, start + 9 * day + 1},
+                    new double[2]);
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(5, s1.getItemCount());
+
+        // with no time period class, milliseconds are used
+        TimeSeries s2 = new TimeSeries("S2");
+        s2.setMaximumItemCount(2);
+        s2.addAll(new long[] {1L, 2L, 3L}, new double[] {1.0, 2.0, 3.0});
+        assertEquals(Millisecond.class, s2.getTimePeriodClass());
+        assertEquals(2, s2.getItemCount());
+        assertEquals(2.0, s2.getMinY(), EPSILON);
+    }
+
+    /**
+     * Checks the details of the change events sent by a series.
+     */
+    @Test
+    public void testChangeEventDetails() {
+        TimeSeries s = new TimeSeries("S");
+        s.addChangeListener(this);
+        s.add(new Year(2000), 1.0);
+        s.add(new Year(2001), 2.0);
+        assertSame(SeriesChangeType.APPEND, this.lastEvent.getType());
+        assertEquals(1, this.lastEvent.getFirstIndex());
+        assertEquals(1, this.lastEvent.getLastIndex());
+        assertEquals(0, this.lastEvent.getRemovedCount());
+
+        s.addOrUpdate(new Year(2000), 5.0);
+        assertSame(SeriesChangeType.UPDATE, this.lastEvent.getType());
+        assertEquals(0, this.lastEvent.getFirstIndex());
+        s.addOrUpdate(new Year(2002), 3.0);
+        assertSame(SeriesChangeType.APPEND, this.lastEvent.getType());
+        assertEquals(2, this.lastEvent.getFirstIndex());
+        s.add(new Year(1999), 0.0);
+        assertSame(SeriesChangeType.GENERAL, this.lastEvent.getType());
+
+        // items older than the maximum age are removed as items are added
+        s.setMaximumItemAge(2);
+        s.removeAgedItems(true);
+        assertSame(SeriesChangeType.REMOVE_FIRST, this.lastEvent.getType());
+        assertEquals(1, this.lastEvent.getRemovedCount());
+        s.add(new Year(2004), 4.0);
+        assertSame(SeriesChangeType.APPEND, this.lastEvent.getType());
+        assertEquals(2, this.lastEvent.getRemovedCount());
+        assertEquals(1, this.lastEvent.getFirstIndex());
+        assertEquals(2, s.getItemCount());
+
+        s.delete(0, 0);
+        assertSame(SeriesChangeType.REMOVE_FIRST, this.lastEvent.getType());
+        assertEquals(1, this.lastEvent.getRemovedCount());
+    }
+
+    /**
+     * Some checks for the getMillisecond() and getYValue() methods.
+     */
+    @Test
+    public void testPrimitiveAccessors() {
+        TimeSeries s = new TimeSeries("S");
+        Day d = new Day(1, 1, 2020);
+        s.add(d, 1.5);
+        s.add(d.next(), (Number) null);
+        Calendar c = Calendar.getInstance(TimeZone.getTimeZone("Asia/Tokyo"));
+        assertEquals(d.getFirstMillisecond(c),
+                s.getMillisecond(0, TimePeriodAnchor.START, c));
+        assertEquals(d.getMiddleMillisecond(c),
+                s.getMillisecond(0, TimePeriodAnchor.MIDDLE, c));
+        assertEquals(d.getLastMillisecond(c),
+                s.getMillisecond(0, TimePeriodAnchor.END, c));
+        assertEquals(1.5, s.getYValue(0), EPSILON);
+        assertTrue(Double.isNaN(s.getYValue(1)));
+    }
+
+    /**
+     * Many aged items can be removed at once, with the bounds kept up to
+     * date, for both list and ring buffer storage.
+     */
+    @Test
+    public void testRemoveAgedItemsBulk() {
+        for (int storage = 0; storage < 2; storage++) {
+            TimeSeries s = new TimeSeries("S");
+            s.addChangeListener(this);
+            if (storage == 1) {
+                s.setMaximumItemCount(10000);
+            }
+            s.setMaximumItemAge(100);
+            for (int i = 0; i < 1000; i++) {
+                s.add(new FixedMillisecond(i), (i * 37) % 101);
+                int first = Math.max(0, i - 100);
+                assertEquals(i - first + 1, s.getItemCount());
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                for (int j = first; j <= i; j++) {
+                    min = Math.min(min, (j * 37) % 101);
+                    max = Math.max(max, (j * 37) % 101);
+                }
+                assertEquals(min, s.getMinY(), EPSILON);
+                assertEquals(max, s.getMaxY(), EPSILON);
+            }
+
+            // a single add can remove all the earlier items
+            s.add(new FixedMillisecond(5000L), 7.0);
+            assertEquals(1, s.getItemCount());
+            assertEquals(101, this.lastEvent.getRemovedCount());
+            assertEquals(7.0, s.getMinY(), EPSILON);
+            assertEquals(7.0, s.getMaxY(), EPSILON);
+
+            s.add(new FixedMillisecond(5050L), 8.0);
+            s.add(new FixedMillisecond(5060L), (Number) null);
+            s.removeAgedItems(5155L, true);
+            assertSame(SeriesChangeType.REMOVE_FIRST,
+                    this.lastEvent.getType());
+            assertEquals(2, this.lastEvent.getRemovedCount());
+            assertEquals(new FixedMillisecond(5060L), s.getTimePeriod(0));
+            assertTrue(Double.isNaN(s.getMinY()));
+            s.removeAgedItems(6000L, true);
+            assertEquals(0, s.getItemCount());
+        }
+    }
+
 }
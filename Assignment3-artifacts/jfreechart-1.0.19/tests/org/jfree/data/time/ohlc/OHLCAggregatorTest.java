@@ -0,0 +1,220 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * OHLCAggregator.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Updated testBulkAdd() for one write per bar (G14);
+ *
+ */
+
+package org.jfree.data.time.ohlc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.data.time.FixedMillisecond;
+import org.jfree.data.time.Minute;
+import org.jfree.data.time.RegularTimePeriod;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link OHLCAggregator} class.
+ */
+public class OHLCAggregatorTest implements SeriesChangeListener {
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    /** 1-Jan-2020 UTC. */
+    private static final long T = 1577836800000L;
+
+    private SeriesChangeEvent lastEvent;
+
+    private int events;
+
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        this.lastEvent = event;
+        this.events++;
+    }
+
+    private void checkBar(OHLCSeries s, int i, RegularTimePeriod period,
+            double open, double high, double low, double close,
+            double volume) {
+        OHLCItem item = (OHLCItem) s.getDataItem(i);
+        assertEquals(period, item.getPeriod());
+        assertEquals(open, item.getOpenValue(), 0.0);
+        assertEquals(high, item.getHighValue(), 0.0);
+        assertEquals(low, item.getLowValue(), 0.0);
+        assertEquals(close, item.getCloseValue(), 0.0);
+        assertEquals(volume, item.getVolumeValue(), 1e-9);
+    }
+
+    private Minute minute(int m) {
+        return new Minute(new Date(T + m * 60000L), UTC);
+    }
+
+    /**
+     * Ticks added one at a time.
+     */
+    @Test
+    public void testAdd() {
+        OHLCSeries s = new OHLCSeries("S");
+        s.addChangeListener(this);
+        OHLCAggregator a = new OHLCAggregator(s, Minute.class, UTC);
+        assertNull(a.getCurrentPeriod());
+        a.add(T + 1000L, 10.0, 1.0);
+        assertEquals(1, s.getItemCount());
+        assertEquals(SeriesChangeType.APPEND, this.lastEvent.getType());
+        assertEquals(minute(0), a.getCurrentPeriod());
+        a.add(T + 2000L, 12.0, 2.0);
+        assertEquals(SeriesChangeType.UPDATE, this.lastEvent.getType());
+        assertEquals(0, this.lastEvent.getFirstIndex());
+        a.add(T + 3000L, 9.0, 3.0);
+        a.add(T + 59999L, 11.0, 4.0);
+        checkBar(s, 0, minute(0), 10.0, 12.0, 9.0, 11.0, 10.0);
+        assertEquals(4, this.events);
+
+        // the next minute, with an out-of-order tick inside it
+        a.add(T + 60000L + 5000L, 20.0, 1.0);
+        a.add(T + 60000L, 21.0, 1.0);
+        a.add(T + 60000L + 4000L, 19.0, Double.NaN);
+        checkBar(s, 1, minute(1), 21.0, 21.0, 19.0, 20.0, Double.NaN);
+        assertEquals(SeriesChangeType.UPDATE, this.lastEvent.getType());
+        assertEquals(1, this.lastEvent.getFirstIndex());
+
+        // a late tick updates the high, low and volume of the earlier bar
+        a.add(T + 30000L, 8.0, 5.0);
+        checkBar(s, 0, minute(0), 10.0, 12.0, 8.0, 11.0, 15.0);
+        // and can add a bar before the current one
+        a.add(T - 1L, 7.0, 1.0);
+        assertEquals(3, s.getItemCount());
+        checkBar(s, 0, minute(-1), 7.0, 7.0, 7.0, 7.0, 1.0);
+        assertEquals(minute(1), a.getCurrentPeriod());
+        a.add(T + 60000L + 6000L, 25.0, 0.0);
+        checkBar(s, 2, minute(1), 21.0, 25.0, 19.0, 25.0, Double.NaN);
+    }
+
+    /**
+     * Ticks added in bulk give the same bars as ticks added one at a time,
+     * with one event per bar written.
+     */
+    @Test
+    public void testBulkAdd() {
+        Random random = new Random(3L);
+        int n = 20000;
+        long[] times = new long[n];
+        double[] prices = new double[n];
+        double[] volumes = new double[n];
+        long t = T;
+        double p = 100.0;
+        for (int i = 0; i < n; i++) {
+            t += random.nextInt(100);
+            p += random.nextGaussian();
+            times[i] = t;
+            prices[i] = p;
+            volumes[i] = random.nextInt(10);
+        }
+        OHLCSeries s1 = new OHLCSeries("S1");
+        OHLCAggregator a1 = new OHLCAggregator(s1, Minute.class, UTC);
+        for (int i = 0; i < n; i++) {
+            a1.add(times[i], prices[i], volumes[i]);
+        }
+        OHLCSeries s2 = new OHLCSeries("S2");
+        s2.addChangeListener(this);
+        OHLCAggregator a2 = new OHLCAggregator(s2, Minute.class, UTC);
+        a2.add(times, prices, volumes, 0, 5000);
+        a2.add(times, prices, volumes, 5000, n - 5000);
+        assertEquals(s1.getItemCount(), s2.getItemCount());
+        for (int i = 0; i < s1.getItemCount(); i++) {
+            assertEquals(s1.getDataItem(i), s2.getDataItem(i));
+        }
+        // each bar is written once (the bar that spans the two calls is
+        // added by the first and updated by the second)
+        assertEquals(s2.getItemCount() + 1, this.events);
+    }
+
+    /**
+     * An aggregator continues a bar that is already in the series, and
+     * recovers when other code changes the series.
+     */
+    @Test
+    public void testExistingBars() {
+        OHLCSeries s = new OHLCSeries("S");
+        s.add(minute(0), 5.0, 6.0, 4.0, 5.5);
+        OHLCAggregator a = new OHLCAggregator(s, Minute.class, UTC);
+        a.add(T + 1000L, 7.0, 2.0);
+        checkBar(s, 0, minute(0), 5.0, 7.0, 4.0, 7.0, 2.0);
+        a.add(T + 61000L, 8.0, 1.0);
+        s.remove(minute(1));
+        a.add(T + 62000L, 9.0, 1.0);
+        checkBar(s, 1, minute(1), 8.0, 9.0, 8.0, 9.0, 2.0);
+        s.setMaximumItemCount(1);
+        a.add(T + 63000L, 1.0, 1.0);
+        assertEquals(1, s.getItemCount());
+        checkBar(s, 0, minute(1), 8.0, 9.0, 1.0, 1.0, 3.0);
+    }
+
+    /**
+     * Invalid arguments.
+     */
+    @Test
+    public void testInvalidArguments() {
+        OHLCSeries s = new OHLCSeries("S");
+        try {
+            new OHLCAggregator(s, FixedMillisecond.class, UTC);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        OHLCAggregator a = new OHLCAggregator(s, Minute.class, UTC);
+        try {
+            a.add(new long[2], new double[1], null, 0, 2);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
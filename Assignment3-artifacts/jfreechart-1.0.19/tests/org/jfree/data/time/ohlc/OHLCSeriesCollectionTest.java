@@ -245,4 +245,20 @@ public class OHLCSeriesCollectionTest implements DatasetChangeListener {
         this.lastEvent = event;
     }
 
+    /**
+     * The volume is taken from the items.
+     */
+    @Test
+    public void testVolume() {
+        OHLCSeries s1 = new OHLCSeries("S1");
+        s1.add(new Year(2006), 1.0, 2.0, 0.5, 1.5, 100.0);
+        s1.add(new Year(2007), 1.0, 2.0, 0.5, 1.5);
+        OHLCSeriesCollection c = new OHLCSeriesCollection();
+        c.addSeries(s1);
+        assertEquals(100.0, c.getVolumeValue(0, 0), 0.0);
+        assertEquals(new Double(100.0), c.getVolume(0, 0));
+        assertTrue(Double.isNaN(c.getVolumeValue(0, 1)));
+        assertNull(c.getVolume(0, 1));
+    }
+
 }
@@ -53,6 +53,7 @@ import org.jfree.chart.TestUtilities;
 
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
 import org.jfree.data.time.Year;
 import org.junit.Test;
@@ -259,4 +260,37 @@ public class OHLCSeriesTest implements SeriesChangeListener {
         assertTrue(s1.isEmpty());
     }
 
+    /**
+     * Appended and updated items are described by the change events.
+     */
+    @Test
+    public void testUpdateByIndex() {
+        OHLCSeries s1 = new OHLCSeries("S1");
+        s1.setMaximumItemCount(2);
+        s1.addChangeListener(this);
+        s1.add(new Year(2006), 1.0, 2.0, 0.5, 1.5, 100.0);
+        assertEquals(SeriesChangeType.APPEND, this.lastEvent.getType());
+        assertEquals(0, this.lastEvent.getFirstIndex());
+        s1.add(new Year(2007), 1.0, 2.0, 0.5, 1.5);
+        s1.add(new Year(2008), 1.0, 2.0, 0.5, 1.5);
+        assertEquals(SeriesChangeType.APPEND, this.lastEvent.getType());
+        assertEquals(1, this.lastEvent.getFirstIndex());
+        assertEquals(1, this.lastEvent.getRemovedCount());
+        s1.add(new Year(2005), 1.0, 2.0, 0.5, 1.5);
+        assertEquals(SeriesChangeType.GENERAL, this.lastEvent.getType());
+
+        s1.updateByIndex(1, 3.0, 4.0, 2.0, 3.5, 7.0);
+        assertEquals(SeriesChangeType.UPDATE, this.lastEvent.getType());
+        assertEquals(1, this.lastEvent.getFirstIndex());
+        OHLCItem item = (OHLCItem) s1.getDataItem(1);
+        assertEquals(new Year(2008), item.getPeriod());
+        assertEquals(4.0, item.getHighValue(), 0.0);
+        assertEquals(7.0, item.getVolumeValue(), 0.0);
+
+        OHLCSeries s2 = new OHLCSeries("S2");
+        s2.add(item);
+        assertEquals(7.0, ((OHLCItem) s2.getDataItem(0)).getVolumeValue(),
+                0.0);
+    }
+
 }
@@ -36,6 +36,7 @@
  * -------
  * 04-Dec-2006 : Version 1 (DG);
  * 23-May-2009 : Added testHashCode() (DG);
+ * 18-Oct-2026 : Added testSerializationWithoutVolume() (G14);
  *
  */
 
@@ -45,6 +46,9 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertEquals;
 
+import java.io.ByteArrayInputStream;
+import java.io.ObjectInputStream;
+
 import org.jfree.chart.TestUtilities;
 import org.junit.Test;
 
@@ -81,6 +85,13 @@ public class OHLCTest {
         assertFalse(i1.equals(i2));
         i2 = new OHLC(2.2, 4.4, 1.1, 3.3);
         assertTrue(i1.equals(i2));
+
+        i1 = new OHLC(2.2, 4.4, 1.1, 3.3, 5.5);
+        assertFalse(i1.equals(i2));
+        i2 = new OHLC(2.2, 4.4, 1.1, 3.3, 5.5);
+        assertTrue(i1.equals(i2));
+        assertEquals(5.5, i1.getVolume(), 0.0);
+        assertTrue(Double.isNaN(new OHLC(1.0, 1.0, 1.0, 1.0).getVolume()));
     }
 
     /**
@@ -100,6 +111,34 @@ public class OHLCTest {
         OHLC i1 = new OHLC(2.0, 4.0, 1.0, 3.0);
         OHLC i2 = (OHLC) TestUtilities.serialised(i1);
         assertEquals(i1, i2);
+        i1 = new OHLC(2.0, 4.0, 1.0, 3.0, 5.0);
+        i2 = (OHLC) TestUtilities.serialised(i1);
+        assertEquals(i1, i2);
+    }
+
+    /**
+     * An instance serialized before the volume was added, OHLC(2.0, 4.0,
+     * 1.0, 3.0), restores with a volume of <code>Double.NaN</code>.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testSerializationWithoutVolume() throws Exception {
+        String hex = "aced00057372001d6f72672e6a667265652e646174612e74696d652e"
+                + "6f686c632e4f484c430859d5cb93b24863020004440005636c6f7365"
+                + "440004686967684400036c6f774400046f70656e7870400800000000"
+                + "000040100000000000003ff00000000000004000000000000000";
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(
+                    hex.substring(2 * i, 2 * i + 2), 16);
+        }
+        ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes));
+        OHLC ohlc = (OHLC) in.readObject();
+        in.close();
+        assertEquals(new OHLC(2.0, 4.0, 1.0, 3.0), ohlc);
+        assertTrue(Double.isNaN(ohlc.getVolume()));
     }
 
     /**
@@ -0,0 +1,345 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * PrimitiveTableXYDataset.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetUtilities;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link PrimitiveTableXYDataset} class.
+ */
+public class PrimitiveTableXYDatasetTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Creates a dataset with two series and three x-values.
+     *
+     * @return The dataset.
+     */
+    private PrimitiveTableXYDataset createSampleDataset() {
+        PrimitiveTableXYDataset d = new PrimitiveTableXYDataset();
+        d.add(1.0, 1.1, "S1");
+        d.add(2.0, 2.2, "S1");
+        d.add(3.0, 3.3, "S1");
+        d.add(1.0, 10.0, "S2");
+        d.add(3.0, 30.0, "S2");
+        return d;
+    }
+
+    /**
+     * Values added to different series share the x-values, with missing
+     * values where a series has no value for an x-value.
+     */
+    @Test
+    public void testAdd() {
+        PrimitiveTableXYDataset d = createSampleDataset();
+        assertEquals(2, d.getSeriesCount());
+        assertEquals(3, d.getItemCount());
+        assertEquals(3, d.getItemCount(1));
+        assertEquals("S2", d.getSeriesKey(1));
+        assertEquals(1, d.indexOf("S2"));
+        assertEquals(-1, d.indexOf("S3"));
+        assertEquals(2.0, d.getXValue(1, 1), EPSILON);
+        assertEquals(2.2, d.getYValue(0, 1), EPSILON);
+        assertTrue(Double.isNaN(d.getYValue(1, 1)));
+        assertNull(d.getY(1, 1));
+        assertEquals(30.0, d.getY(1, 2).doubleValue(), EPSILON);
+
+        // replace an existing value
+        d.add(2.0, 2.5, "S1");
+        assertEquals(3, d.getItemCount());
+        assertEquals(2.5, d.getYValue(0, 1), EPSILON);
+    }
+
+    /**
+     * Adding x-values out of order keeps the x-values sorted.
+     */
+    @Test
+    public void testAddOutOfOrder() {
+        PrimitiveTableXYDataset d = new PrimitiveTableXYDataset(0);
+        for (int i = 40; i > 0; i--) {
+            d.add(i, i * 2.0, "S1");
+        }
+        d.add(20.5, 1.0, "S2");
+        assertEquals(41, d.getItemCount());
+        for (int i = 1; i < d.getItemCount(); i++) {
+            assertTrue(d.getXValue(0, i - 1) < d.getXValue(0, i));
+        }
+        assertEquals(20, d.getItemIndex(20.5));
+        assertEquals(1.0, d.getYValue(1, 20), EPSILON);
+        assertTrue(Double.isNaN(d.getYValue(0, 20)));
+        assertTrue(Double.isNaN(d.getYValue(1, 21)));
+        assertEquals(42.0, d.getYValue(0, 21), EPSILON);
+        assertEquals(-1, d.getItemIndex(0.5));
+        assertEquals(-42, d.getItemIndex(100.0));
+    }
+
+    /**
+     * Some checks for the addRow() method.
+     */
+    @Test
+    public void testAddRow() {
+        PrimitiveTableXYDataset d = createSampleDataset();
+        assertEquals(3, d.addRow(4.0, new double[] {4.4, Double.NaN}));
+        assertEquals(0, d.addRow(0.0, new double[] {0.5, 0.25}));
+        assertEquals(5, d.getItemCount());
+        assertEquals(0.25, d.getYValue(1, 0), EPSILON);
+        assertNull(d.getY(1, 4));
+        try {
+            d.addRow(5.0, new double[] {1.0});
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The stored totals match the totals calculated by visiting each series.
+     */
+    @Test
+    public void testGetStackTotal() {
+        PrimitiveTableXYDataset d = createSampleDataset();
+        d.add(0.0, 5.0, "S3");
+        d.add(2.0, -1.0, "S3");
+        checkStackTotals(d);
+        assertEquals(1.2, d.getStackTotal(2), EPSILON);
+        assertEquals(1.2, DatasetUtilities.calculateStackTotal(d, 2),
+                EPSILON);
+
+        d.remove(2.0, "S1");
+        assertEquals(-1.0, d.getStackTotal(2), EPSILON);
+        checkStackTotals(d);
+        d.removeSeries("S3");
+        assertEquals(0.0, d.getStackTotal(0), EPSILON);
+        checkStackTotals(d);
+        d.removeRow(0);
+        assertEquals(11.1, d.getStackTotal(0), EPSILON);
+        checkStackTotals(d);
+    }
+
+    /**
+     * Checks that the stored totals for a dataset match the totals
+     * calculated by adding the y-values for each series.
+     *
+     * @param d  the dataset.
+     */
+    private void checkStackTotals(PrimitiveTableXYDataset d) {
+        for (int i = 0; i < d.getItemCount(); i++) {
+            double total = 0.0;
+            for (int s = 0; s < d.getSeriesCount(); s++) {
+                double y = d.getYValue(s, i);
+                if (!Double.isNaN(y)) {
+                    total = total + y;
+                }
+            }
+            assertEquals(total, d.getStackTotal(i), EPSILON);
+        }
+    }
+
+    /**
+     * Some checks for the removeSeries() and removeRow() methods.
+     */
+    @Test
+    public void testRemove() {
+        PrimitiveTableXYDataset d = createSampleDataset();
+        d.removeSeries(0);
+        assertEquals(1, d.getSeriesCount());
+        assertEquals(0, d.indexOf("S2"));
+        assertEquals(3, d.getItemCount());
+        assertEquals(30.0, d.getYValue(0, 2), EPSILON);
+
+        d.removeRow(1);
+        assertEquals(2, d.getItemCount());
+        assertEquals(3.0, d.getXValue(0, 1), EPSILON);
+        assertEquals(30.0, d.getYValue(0, 1), EPSILON);
+
+        d.clear();
+        assertEquals(0, d.getSeriesCount());
+        assertEquals(0, d.getItemCount());
+        assertNull(d.getDomainBounds(false));
+    }
+
+    /**
+     * A series key can only be added once, and a NaN x-value is rejected.
+     */
+    @Test
+    public void testInvalidArguments() {
+        PrimitiveTableXYDataset d = createSampleDataset();
+        try {
+            d.addSeries("S1");
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            d.add(Double.NaN, 1.0, "S1");
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            d.getXValue(0, 3);
+            fail("Should have thrown an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Some checks for the domain bounds.
+     */
+    @Test
+    public void testGetDomainBounds() {
+        PrimitiveTableXYDataset d = createSampleDataset();
+        assertEquals(new Range(1.0, 3.0), d.getDomainBounds(false));
+        assertEquals(1.0, d.getDomainLowerBound(false), EPSILON);
+        assertEquals(3.0, d.getDomainUpperBound(false), EPSILON);
+        d.setIntervalWidth(1.0);
+        assertEquals(new Range(0.5, 3.5), d.getDomainBounds(true));
+        assertEquals(0.5, d.getStartX(0, 0).doubleValue(), EPSILON);
+        assertEquals(1.5, d.getEndX(0, 0).doubleValue(), EPSILON);
+    }
+
+    /**
+     * The results of the DatasetUtilities methods match those for a
+     * {@link DefaultTableXYDataset} with the same data.
+     */
+    @Test
+    public void testSameAsDefaultTableXYDataset() {
+        PrimitiveTableXYDataset d1 = createSampleDataset();
+        DefaultTableXYDataset d2 = new DefaultTableXYDataset();
+        XYSeries s1 = new XYSeries("S1", true, false);
+        s1.add(1.0, 1.1);
+        s1.add(2.0, 2.2);
+        s1.add(3.0, 3.3);
+        XYSeries s2 = new XYSeries("S2", true, false);
+        s2.add(1.0, 10.0);
+        s2.add(3.0, 30.0);
+        d2.addSeries(s1);
+        d2.addSeries(s2);
+        assertEquals(d2.getItemCount(), d1.getItemCount());
+        assertEquals(DatasetUtilities.findStackedRangeBounds(d2),
+                DatasetUtilities.findStackedRangeBounds(d1));
+        assertEquals(DatasetUtilities.findRangeBounds(d2),
+                DatasetUtilities.findRangeBounds(d1));
+        for (int i = 0; i < d1.getItemCount(); i++) {
+            assertEquals(DatasetUtilities.calculateStackTotal(d2, i),
+                    DatasetUtilities.calculateStackTotal(d1, i), EPSILON);
+        }
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        PrimitiveTableXYDataset d1 = createSampleDataset();
+        PrimitiveTableXYDataset d2 = createSampleDataset();
+        assertTrue(d1.equals(d2));
+        assertEquals(d1.hashCode(), d2.hashCode());
+
+        d1.add(2.0, 20.0, "S2");
+        assertFalse(d1.equals(d2));
+        d2.add(2.0, 20.0, "S2");
+        assertTrue(d1.equals(d2));
+
+        d1.add(4.0, Double.NaN, "S1");
+        assertFalse(d1.equals(d2));
+        d2.add(4.0, Double.NaN, "S1");
+        assertTrue(d1.equals(d2));
+
+        d1.setIntervalWidth(2.0);
+        assertFalse(d1.equals(d2));
+        d2.setIntervalWidth(2.0);
+        assertTrue(d1.equals(d2));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        PrimitiveTableXYDataset d1 = createSampleDataset();
+        d1.setIntervalWidth(0.5);
+        PrimitiveTableXYDataset d2 = (PrimitiveTableXYDataset) d1.clone();
+        assertTrue(d1 != d2);
+        assertTrue(d1.getClass() == d2.getClass());
+        assertTrue(d1.equals(d2));
+
+        // check independence
+        d1.add(2.0, 20.0, "S2");
+        d1.add(5.0, 5.0, "S3");
+        assertFalse(d1.equals(d2));
+        assertEquals(2, d2.getSeriesCount());
+        assertEquals(3, d2.getItemCount());
+        assertNull(d2.getY(1, 1));
+        assertEquals(2.2, d2.getStackTotal(1), EPSILON);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        PrimitiveTableXYDataset d1 = createSampleDataset();
+        PrimitiveTableXYDataset d2 = (PrimitiveTableXYDataset)
+                TestUtilities.serialised(d1);
+        assertEquals(d1, d2);
+        assertEquals(1, d2.indexOf("S2"));
+        d2.add(4.0, 4.0, "S3");
+        assertEquals(2, d2.indexOf("S3"));
+        assertEquals(4.0, d2.getStackTotal(3), EPSILON);
+    }
+
+}
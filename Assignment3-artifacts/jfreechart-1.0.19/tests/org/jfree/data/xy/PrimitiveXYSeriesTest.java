@@ -0,0 +1,524 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * PrimitiveXYSeriesTest.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Added testAddAll() (G14);
+ * 18-Oct-2026 : Added testIndexOfUnsorted() (G14);
+ * 18-Oct-2026 : Added testFindValueRange() (G14);
+ * 18-Oct-2026 : Added testFindValueRangeNaNX() (G14);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.Range;
+import org.jfree.data.general.SeriesException;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link PrimitiveXYSeries} class.
+ */
+public class PrimitiveXYSeriesTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        PrimitiveXYSeries s1 = new PrimitiveXYSeries("Series");
+        s1.add(1.0, 1.1);
+        PrimitiveXYSeries s2 = new PrimitiveXYSeries("Series");
+        s2.add(1.0, 1.1);
+        assertTrue(s1.equals(s2));
+        assertTrue(s2.equals(s1));
+
+        s1.add(2.0, 2.2);
+        assertFalse(s1.equals(s2));
+        s2.add(2.0, 2.2);
+        assertTrue(s1.equals(s2));
+        assertEquals(s1.hashCode(), s2.hashCode());
+
+        // a regular XYSeries with the same data is not equal
+        XYSeries s3 = new XYSeries("Series");
+        s3.add(1.0, 1.1);
+        s3.add(2.0, 2.2);
+        assertFalse(s1.equals(s3));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        PrimitiveXYSeries s1 = new PrimitiveXYSeries("Series");
+        s1.add(1.0, 1.1);
+        s1.add(2.0, null);
+        PrimitiveXYSeries s2 = (PrimitiveXYSeries) s1.clone();
+        assertTrue(s1 != s2);
+        assertTrue(s1.getClass() == s2.getClass());
+        assertTrue(s1.equals(s2));
+
+        // check independence
+        s1.add(3.0, 3.3);
+        assertFalse(s1.equals(s2));
+        s2.add(3.0, 3.3);
+        assertTrue(s1.equals(s2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        PrimitiveXYSeries s1 = new PrimitiveXYSeries("Series");
+        s1.add(1.0, 1.1);
+        s1.add(2.0, 2.2);
+        PrimitiveXYSeries s2 = (PrimitiveXYSeries) TestUtilities.serialised(s1);
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * Items added to a sorted series are stored in ascending order of
+     * x-value, with duplicates added after existing items.
+     */
+    @Test
+    public void testAddSorted() {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S");
+        s.add(5.0, 50.0);
+        s.add(1.0, 10.0);
+        s.add(3.0, 30.0);
+        s.add(3.0, 31.0);
+        assertEquals(4, s.getItemCount());
+        assertEquals(1.0, s.getXValue(0), EPSILON);
+        assertEquals(3.0, s.getXValue(1), EPSILON);
+        assertEquals(30.0, s.getYValue(1), EPSILON);
+        assertEquals(31.0, s.getYValue(2), EPSILON);
+        assertEquals(5.0, s.getXValue(3), EPSILON);
+        assertEquals(new Double(5.0), s.getX(3));
+        assertEquals(new Double(50.0), s.getY(3));
+    }
+
+    /**
+     * Items added to an unsorted series keep their insertion order.
+     */
+    @Test
+    public void testAddUnsorted() {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S", false);
+        s.add(5.0, 50.0);
+        s.add(1.0, 10.0);
+        s.add(3.0, 30.0);
+        assertEquals(5.0, s.getXValue(0), EPSILON);
+        assertEquals(1.0, s.getXValue(1), EPSILON);
+        assertEquals(3.0, s.getXValue(2), EPSILON);
+        assertEquals(1, s.indexOf(new Double(1.0)));
+        assertEquals(-1, s.indexOf(new Double(2.0)));
+    }
+
+    /**
+     * Duplicate x-values are rejected when not allowed.
+     */
+    @Test
+    public void testDuplicates() {
+        PrimitiveXYSeries s1 = new PrimitiveXYSeries("S", true, false);
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        try {
+            s1.add(1.0, 3.0);
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        PrimitiveXYSeries s2 = new PrimitiveXYSeries("S", false, false);
+        s2.add(2.0, 2.0);
+        s2.add(1.0, 1.0);
+        try {
+            s2.add(2.0, 3.0);
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(2, s2.getItemCount());
+    }
+
+    /**
+     * A null y-value is stored as a missing value.
+     */
+    @Test
+    public void testNullY() {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S");
+        s.add(1.0, null);
+        s.add(2.0, 5.0);
+        assertNull(s.getY(0));
+        assertTrue(Double.isNaN(s.getYValue(0)));
+        assertEquals(5.0, s.getMinY(), EPSILON);
+        assertEquals(5.0, s.getMaxY(), EPSILON);
+        assertNull(s.getDataItem(0).getY());
+    }
+
+    /**
+     * Check the cached bounds through a sequence of changes.
+     */
+    @Test
+    public void testBounds() {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S");
+        assertTrue(Double.isNaN(s.getMinX()));
+        s.add(1.0, 10.0);
+        s.add(2.0, -5.0);
+        s.add(3.0, 7.0);
+        assertEquals(1.0, s.getMinX(), EPSILON);
+        assertEquals(3.0, s.getMaxX(), EPSILON);
+        assertEquals(-5.0, s.getMinY(), EPSILON);
+        assertEquals(10.0, s.getMaxY(), EPSILON);
+
+        s.remove(0);
+        assertEquals(2.0, s.getMinX(), EPSILON);
+        assertEquals(7.0, s.getMaxY(), EPSILON);
+
+        s.updateByIndex(0, new Double(1.0));
+        assertEquals(1.0, s.getMinY(), EPSILON);
+
+        s.clear();
+        assertTrue(Double.isNaN(s.getMinX()));
+        assertTrue(Double.isNaN(s.getMaxY()));
+    }
+
+    /**
+     * Adding past the maximum item count removes the oldest item.
+     */
+    @Test
+    public void testMaximumItemCount() {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S");
+        s.setMaximumItemCount(2);
+        s.add(1.0, 1.1);
+        s.add(2.0, 2.2);
+        s.add(3.0, 3.3);
+        assertEquals(2, s.getItemCount());
+        assertEquals(2.0, s.getXValue(0), EPSILON);
+        assertEquals(2.0, s.getMinX(), EPSILON);
+        assertEquals(2.2, s.getMinY(), EPSILON);
+
+        s.setMaximumItemCount(1);
+        assertEquals(1, s.getItemCount());
+        assertEquals(3.0, s.getXValue(0), EPSILON);
+    }
+
+    /**
+     * Some checks for the addOrUpdate() and update() methods.
+     */
+    @Test
+    public void testAddOrUpdate() {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S", true, false);
+        assertNull(s.addOrUpdate(1.0, 1.0));
+        XYDataItem old = s.addOrUpdate(1.0, 2.0);
+        assertEquals(1.0, old.getYValue(), EPSILON);
+        assertEquals(1, s.getItemCount());
+        assertEquals(2.0, s.getYValue(0), EPSILON);
+
+        s.update(new Double(1.0), new Double(4.0));
+        assertEquals(4.0, s.getYValue(0), EPSILON);
+        try {
+            s.update(new Double(9.0), new Double(4.0));
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Some checks for the delete(), toArray() and createCopy() methods.
+     */
+    @Test
+    public void testDeleteAndCopy() throws CloneNotSupportedException {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S");
+        for (int i = 0; i < 10; i++) {
+            s.add(i, i * 10.0);
+        }
+        s.delete(2, 4);
+        assertEquals(7, s.getItemCount());
+        assertEquals(5.0, s.getXValue(2), EPSILON);
+
+        double[][] array = s.toArray();
+        assertEquals(7, array[0].length);
+        assertEquals(50.0, array[1][2], EPSILON);
+
+        XYSeries copy = s.createCopy(1, 3);
+        assertEquals(3, copy.getItemCount());
+        assertEquals(1.0, copy.getMinX(), EPSILON);
+        assertEquals(60.0, copy.getMaxY(), EPSILON);
+        copy.add(100.0, 100.0);
+        assertEquals(7, s.getItemCount());
+    }
+
+    /**
+     * The series can be used in an {@link XYSeriesCollection}.
+     */
+    @Test
+    public void testCollection() {
+        PrimitiveXYSeries s1 = new PrimitiveXYSeries("S1");
+        s1.add(1.0, 10.0);
+        s1.add(2.0, null);
+        XYSeries s2 = new XYSeries("S2");
+        s2.add(1.0, 5.0);
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        dataset.addSeries(s2);
+        assertEquals(2.0, dataset.getXValue(0, 1), EPSILON);
+        assertTrue(Double.isNaN(dataset.getYValue(0, 1)));
+        assertNull(dataset.getY(0, 1));
+        assertEquals(5.0, dataset.getYValue(1, 0), EPSILON);
+        assertEquals(5.0, dataset.getRangeLowerBound(false), EPSILON);
+        assertEquals(10.0, dataset.getRangeUpperBound(false), EPSILON);
+    }
+
+
+    /**
+     * Adding a block of items should give the same result as adding the
+     * items one by one.
+     */
+    @Test
+    public void testAddAll() {
+        java.util.Random random = new java.util.Random(14L);
+        boolean[] flags = new boolean[] {true, false};
+        for (int a = 0; a < 2; a++) {
+            for (int d = 0; d < 2; d++) {
+                PrimitiveXYSeries s1 = new PrimitiveXYSeries("S", flags[a],
+                        flags[d]);
+                PrimitiveXYSeries s2 = new PrimitiveXYSeries("S", flags[a],
+                        flags[d]);
+                s1.setMaximumItemCount(150);
+                s2.setMaximumItemCount(150);
+                for (int block = 0; block < 4; block++) {
+                    double[] x = new double[50];
+                    double[] y = new double[50];
+                    for (int i = 0; i < x.length; i++) {
+                        x[i] = block < 2 ? block * 1000 + i * 2
+                                : random.nextInt(1000000) + 0.5;
+                        y[i] = random.nextGaussian();
+                        s2.add(x[i], y[i]);
+                    }
+                    s1.addAll(x, y);
+                    assertEquals(s2, s1);
+                    assertEquals(s2.getMinX(), s1.getMinX(), EPSILON);
+                    assertEquals(s2.getMaxY(), s1.getMaxY(), EPSILON);
+                }
+            }
+        }
+
+        // duplicates in the new block are added after existing items
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S");
+        s.add(2.0, 1.0);
+        s.addAll(new double[] {2.0, 1.0, 2.0}, new double[] {2.0, 0.0, 3.0});
+        assertEquals(1.0, s.getXValue(0), EPSILON);
+        assertEquals(1.0, s.getYValue(1), EPSILON);
+        assertEquals(2.0, s.getYValue(2), EPSILON);
+        assertEquals(3.0, s.getYValue(3), EPSILON);
+        try {
+            new PrimitiveXYSeries("S", false, false).addAll(
+                    new double[] {1.0, 1.0}, new double[2]);
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+    }
+
+
+    /**
+     * The x-value index for an unsorted series should stay in step with the
+     * data through all kinds of change.
+     */
+    @Test
+    public void testIndexOfUnsorted() {
+        java.util.Random random = new java.util.Random(4L);
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S", false, false);
+        s.setMaximumItemCount(200);
+        for (int i = 0; i < 3000; i++) {
+            int action = random.nextInt(20);
+            double x = random.nextInt(1000);
+            if (action == 0 && s.getItemCount() > 0) {
+                s.remove(random.nextInt(s.getItemCount()));
+            }
+            else if (action == 1 && s.getItemCount() > 0) {
+                s.remove(s.getItemCount() - 1);
+            }
+            else if (action == 2 && s.getItemCount() > 5) {
+                s.delete(0, 2);
+            }
+            else if (action == 3) {
+                s.addOrUpdate(x, i);
+            }
+            else if (s.indexOf(x) < 0) {
+                s.add(x, i);
+            }
+            for (int j = 0; j < 5; j++) {
+                double xx = random.nextInt(1000);
+                int expected = -1;
+                for (int k = 0; k < s.getItemCount(); k++) {
+                    if (s.getXValue(k) == xx) {
+                        expected = k;
+                        break;
+                    }
+                }
+                assertEquals(expected, s.indexOf(xx));
+            }
+        }
+        s.clear();
+        s.add(Double.NaN, 1.0);
+        s.add(-0.0, 1.0);
+        assertEquals(-1, s.indexOf(Double.NaN));
+        assertEquals(1, s.indexOf(0.0));
+    }
+
+
+    /**
+     * Check the y-range found for an x-range against a brute force
+     * calculation, while the series is changed in various ways.
+     */
+    @Test
+    public void testFindValueRange() {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S1");
+        assertNull(s.findValueRange(new Range(0.0, 1.0)));
+        s.setMaximumItemCount(200);
+        java.util.Random random = new java.util.Random(14L);
+        for (int i = 0; i < 3000; i++) {
+            int action = random.nextInt(20);
+            double x = random.nextInt(2000);
+            if (action == 0 && s.getItemCount() > 0) {
+                s.updateByIndex(random.nextInt(s.getItemCount()),
+                        new Double(random.nextInt(100)));
+            }
+            else if (action == 1 && s.getItemCount() > 10) {
+                s.delete(5, 7);
+            }
+            else if (action == 2) {
+                s.add(x, null);
+            }
+            else if (action == 3) {
+                s.add(x, Double.NaN);
+            }
+            else if (action == 4) {
+                s.add(x, random.nextInt(100));  // usually an insertion
+            }
+            else {
+                double last = s.getItemCount() > 0
+                        ? s.getX(s.getItemCount() - 1).doubleValue() : 0.0;
+                s.add(last + random.nextInt(3), random.nextInt(100));
+            }
+            for (int j = 0; j < 3; j++) {
+                double a = random.nextInt(2000) - 10.0;
+                Range xRange = new Range(a, a + random.nextInt(500));
+                assertEquals(bruteForceValueRange(s, xRange),
+                        s.findValueRange(xRange));
+            }
+        }
+
+        // append only, with a descending run so that evictions change the
+        // bounds
+        for (int i = 0; i < 1000; i++) {
+            double x = s.getX(s.getItemCount() - 1).doubleValue() + 1.0;
+            s.add(x, i < 500 ? 1000.0 - i : random.nextInt(100));
+            Range xRange = new Range(x - random.nextInt(300), x);
+            assertEquals(bruteForceValueRange(s, xRange),
+                    s.findValueRange(xRange));
+        }
+    }
+
+    /**
+     * A series with a <code>Double.NaN</code> x-value cannot use the min/max
+     * tree, but the y-range must still be correct as the series changes.
+     */
+    @Test
+    public void testFindValueRangeNaNX() {
+        PrimitiveXYSeries s = new PrimitiveXYSeries("S1");
+        s.add(1.0, 5.0);
+        s.add(2.0, 3.0);
+        s.add(Double.NaN, 9.0);
+        Range xRange = new Range(0.0, 3.0);
+        assertEquals(new Range(3.0, 5.0), s.findValueRange(xRange));
+        assertEquals(new Range(3.0, 5.0), s.findValueRange(xRange));
+
+        // a change made without sending an event
+        s.add(1.5, 1.0, false);
+        assertEquals(new Range(1.0, 5.0), s.findValueRange(xRange));
+
+        // remove the NaN x-value, so that the tree can be used
+        for (int i = 0; i < s.getItemCount(); i++) {
+            if (Double.isNaN(s.getXValue(i))) {
+                s.remove(i);
+            }
+        }
+        assertEquals(new Range(1.0, 5.0), s.findValueRange(xRange));
+        s.add(2.5, 0.0);
+        assertEquals(new Range(0.0, 5.0), s.findValueRange(xRange));
+        assertEquals(new Range(0.0, 3.0), s.findValueRange(
+                new Range(2.0, 3.0)));
+    }
+
+    /**
+     * Finds the range of y-values for the items in an x-range by checking
+     * every item.
+     *
+     * @param s  the series.
+     * @param xRange  the x-range.
+     *
+     * @return The range (possibly <code>null</code>).
+     */
+    private static Range bruteForceValueRange(XYSeries s, Range xRange) {
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < s.getItemCount(); i++) {
+            double y = s.getYValue(i);
+            if (xRange.contains(s.getXValue(i)) && !Double.isNaN(y)) {
+                lower = Math.min(lower, y);
+                upper = Math.max(upper, y);
+            }
+        }
+        return lower == Double.POSITIVE_INFINITY ? null
+                : new Range(lower, upper);
+    }
+
+}
@@ -0,0 +1,118 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * XValueIndexTest.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link XValueIndex} class.
+ */
+public class XValueIndexTest {
+
+    /**
+     * Some simple checks.
+     */
+    @Test
+    public void testGet() {
+        XValueIndex index = new XValueIndex(0);
+        assertEquals(-1, index.get(XValueIndex.key(1.0)));
+        index.append(XValueIndex.key(1.0), 0);
+        index.append(XValueIndex.key(2.0), 1);
+        index.append(XValueIndex.key(1.0), 2);
+        assertEquals(2, index.size());
+        assertEquals(0, index.get(XValueIndex.key(1.0)));
+        assertEquals(1, index.get(XValueIndex.key(2.0)));
+
+        // keys are consistent with Double.equals()
+        index.append(XValueIndex.key(Double.NaN), 3);
+        assertEquals(3, index.get(XValueIndex.key(0.0 / 0.0)));
+        assertEquals(-1, index.get(XValueIndex.key(-1.0)));
+        assertTrue(XValueIndex.key(0.0) != XValueIndex.key(-0.0));
+    }
+
+    /**
+     * Run a long random sequence of appends and removals, checking the
+     * index against a list that mirrors the series.
+     */
+    @Test
+    public void testAgainstList() {
+        Random random = new Random(4L);
+        XValueIndex index = new XValueIndex(4);
+        List values = new ArrayList();
+        int next = 0;
+        for (int i = 0; i < 20000; i++) {
+            int action = random.nextInt(10);
+            if (action < 6 || values.isEmpty()) {
+                // append a value that is not already present (integer
+                // values give a worst case for the low bits of the keys)
+                double x = next++;
+                values.add(new Double(x));
+                index.append(XValueIndex.key(x), values.size() - 1);
+            }
+            else if (action < 9) {
+                Double x = (Double) values.remove(0);
+                assertTrue(index.removeFirst(XValueIndex.key(
+                        x.doubleValue())));
+            }
+            else {
+                Double x = (Double) values.remove(values.size() - 1);
+                index.removeLast(XValueIndex.key(x.doubleValue()),
+                        values.size());
+            }
+            assertEquals(values.size(), index.size());
+            if (i % 100 == 0) {
+                for (int j = 0; j < values.size(); j++) {
+                    double x = ((Double) values.get(j)).doubleValue();
+                    assertEquals(j, index.get(XValueIndex.key(x)));
+                }
+                assertEquals(-1, index.get(XValueIndex.key(next)));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,168 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * XYDatasetSnapshotTest.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import org.jfree.data.DomainOrder;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link XYDatasetSnapshot} class.
+ */
+public class XYDatasetSnapshotTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Creates the segments for a series of items with x-values starting at
+     * <code>start</code> and y-values twice the x-value.
+     *
+     * @param offset  the position of the first item.
+     * @param count  the number of items.
+     * @param start  the first x-value.
+     * @param columns  the number of columns.
+     *
+     * @return The segments.
+     */
+    private static double[][][] createSegments(int offset, int count,
+            double start, int columns) {
+        int size = XYDatasetSnapshot.SEGMENT_SIZE;
+        int segmentCount = (offset + count + size - 1) / size;
+        double[][][] result = new double[columns][segmentCount][size];
+        for (int i = 0; i < count; i++) {
+            int p = offset + i;
+            double x = start + i;
+            result[XYDatasetSnapshot.X][p / size][p % size] = x;
+            result[XYDatasetSnapshot.Y][p / size][p % size] = 2 * x;
+            if (columns > 2) {
+                result[XYDatasetSnapshot.START_X][p / size][p % size] = x - 0.1;
+                result[XYDatasetSnapshot.END_X][p / size][p % size] = x + 0.3;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Items are read across segment boundaries, from a position after the
+     * start of the first segment.
+     */
+    @Test
+    public void testValues() {
+        XYDatasetSnapshot d = new XYDatasetSnapshot(
+                new Comparable[] {"S1", "S2"},
+                new double[][][][] {createSegments(1000, 2000, 5.0, 2),
+                createSegments(0, 3, 1.0, 2)}, new int[] {1000, 0},
+                new int[] {2000, 3}, DomainOrder.ASCENDING, 0.5, 0.25);
+        assertEquals(2, d.getSeriesCount());
+        assertEquals("S2", d.getSeriesKey(1));
+        assertEquals(1, d.indexOf("S2"));
+        assertEquals(2000, d.getItemCount(0));
+        assertEquals(DomainOrder.ASCENDING, d.getDomainOrder());
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(5.0 + i, d.getXValue(0, i), EPSILON);
+            assertEquals(10.0 + 2 * i, d.getYValue(0, i), EPSILON);
+        }
+        assertEquals(3.0, d.getX(1, 2).doubleValue(), EPSILON);
+        assertEquals(6.0, d.getY(1, 2).doubleValue(), EPSILON);
+
+        // the x-interval is derived from the x-value...
+        assertEquals(2.5, d.getStartXValue(1, 2), EPSILON);
+        assertEquals(3.25, d.getEndXValue(1, 2), EPSILON);
+        assertEquals(6.0, d.getStartYValue(1, 2), EPSILON);
+        assertEquals(6.0, d.getEndY(1, 2).doubleValue(), EPSILON);
+    }
+
+    /**
+     * The x-interval can be held for every item.
+     */
+    @Test
+    public void testItemIntervals() {
+        XYDatasetSnapshot d = new XYDatasetSnapshot(new Comparable[] {"S1"},
+                new double[][][][] {createSegments(1020, 10, 1.0, 4)},
+                new int[] {1020}, new int[] {10}, DomainOrder.NONE, 0.0, 0.0);
+        assertEquals(5.9, d.getStartXValue(0, 5), EPSILON);
+        assertEquals(6.3, d.getEndX(0, 5).doubleValue(), EPSILON);
+    }
+
+    /**
+     * A missing y-value is returned as <code>null</code>.
+     */
+    @Test
+    public void testMissingValue() {
+        double[][][] segments = createSegments(0, 2, 1.0, 2);
+        segments[XYDatasetSnapshot.Y][0][1] = Double.NaN;
+        XYDatasetSnapshot d = new XYDatasetSnapshot(new Comparable[] {"S1"},
+                new double[][][][] {segments}, new int[] {0}, new int[] {2},
+                DomainOrder.NONE, 0.0, 0.0);
+        assertNull(d.getY(0, 1));
+        assertEquals(Double.NaN, d.getYValue(0, 1), EPSILON);
+    }
+
+    /**
+     * Items beyond the end of a series can't be read, even when the
+     * segment holds values there.
+     */
+    @Test
+    public void testItemOutOfBounds() {
+        XYDatasetSnapshot d = new XYDatasetSnapshot(new Comparable[] {"S1"},
+                new double[][][][] {createSegments(0, 5, 1.0, 2)},
+                new int[] {1}, new int[] {3}, DomainOrder.NONE, 0.0, 0.0);
+        assertEquals(2.0, d.getXValue(0, 0), EPSILON);
+        try {
+            d.getXValue(0, 3);
+            fail("Expected IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        try {
+            d.getY(0, -1);
+            fail("Expected IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+}
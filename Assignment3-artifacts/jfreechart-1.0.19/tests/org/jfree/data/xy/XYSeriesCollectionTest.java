@@ -44,6 +44,10 @@
  * 17-May-2010 : Added checks for duplicate series names (DG);
  * 08-Jan-2012 : Added testBug3445507() (DG);
  * 28-Jul-2012 : Added testSeriesRename() (DG);
+ * 18-Oct-2026 : Added testGetRangeBoundsForXRange() (G14);
+ * 18-Oct-2026 : Added testBeginEndUpdate() (G14);
+ * 18-Oct-2026 : Added testSeriesChangeDetails() (G14);
+ * 18-Oct-2026 : Added testGetVersion() (G14);
  *
  */
 
@@ -60,6 +64,12 @@ import static org.junit.Assert.fail;
 import org.jfree.chart.TestUtilities;
 import org.jfree.data.Range;
 import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.util.PublicCloneable;
 
 import org.junit.Test;
@@ -534,4 +544,175 @@ public class XYSeriesCollectionTest {
         // change because "C" is already the key for the other series in the
         // collection
     }
+
+    /**
+     * The y-bounds for an x-range should be the same as those found by
+     * iterating over the items.
+     */
+    @Test
+    public void testGetRangeBoundsForXRange() {
+        java.util.Random random = new java.util.Random(14L);
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new PrimitiveXYSeries("S2");
+        XYSeries s3 = new XYSeries("S3", false);
+        for (int i = 0; i < 1000; i++) {
+            s1.add(i, random.nextGaussian());
+            s2.add(i * 0.5, random.nextInt(10) == 0 ? Double.NaN
+                    : random.nextGaussian());
+            s3.add(random.nextInt(1000), random.nextGaussian());
+        }
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        dataset.addSeries(s3);
+        java.util.List keys = java.util.Arrays.asList(new String[] {"S1",
+                "S2", "S3"});
+        for (int i = 0; i < 100; i++) {
+            double a = random.nextInt(1200) - 100.0;
+            Range xRange = new Range(a, a + random.nextInt(50));
+            java.util.List visible = keys.subList(random.nextInt(3), 3);
+            assertEquals(DatasetUtilities.iterateToFindRangeBounds(dataset,
+                    visible, xRange, true), dataset.getRangeBounds(visible,
+                    xRange, true));
+            assertEquals(DatasetUtilities.iterateToFindRangeBounds(dataset,
+                    visible, xRange, false), DatasetUtilities.findRangeBounds(
+                    dataset, visible, xRange, false));
+        }
+        assertNull(dataset.getRangeBounds(keys, new Range(-5.0, -1.0),
+                false));
+    }
+
+    /** The number of dataset change events received. */
+    private int datasetEvents;
+
+    /** The number of series change events received. */
+    private int seriesEvents;
+
+    /**
+     * Some checks for batch updates of a series and of a collection.
+     */
+    @Test
+    public void testBeginEndUpdate() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        s1.addChangeListener(new SeriesChangeListener() {
+            @Override
+            public void seriesChanged(SeriesChangeEvent event) {
+                seriesEvents++;
+            }
+        });
+        dataset.addChangeListener(new DatasetChangeListener() {
+            @Override
+            public void datasetChanged(DatasetChangeEvent event) {
+                datasetEvents++;
+            }
+        });
+
+        // a batch on the series sends one event through the collection
+        s1.beginUpdate();
+        for (int i = 0; i < 10; i++) {
+            s1.add(i, i);
+        }
+        s1.update(new Double(3.0), new Double(30.0));
+        assertEquals(0, this.seriesEvents);
+        assertEquals(0, this.datasetEvents);
+        s1.endUpdate();
+        assertEquals(1, this.seriesEvents);
+        assertEquals(1, this.datasetEvents);
+        assertEquals(new Range(0.0, 30.0), dataset.getRangeBounds(false));
+
+        // a batch on the collection covers changes to all its series
+        dataset.beginUpdate();
+        s1.add(10.0, 10.0);
+        s2.add(1.0, 2.0);
+        s2.add(2.0, 4.0);
+        dataset.endUpdate();
+        assertEquals(2, this.seriesEvents);
+        assertEquals(2, this.datasetEvents);
+
+        try {
+            s1.endUpdate();
+            fail("Should have thrown an IllegalStateException");
+        }
+        catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    /** The last dataset change event received. */
+    private DatasetChangeEvent lastEvent;
+
+    /**
+     * Checks that the details of a series change are passed on by the
+     * collection.
+     */
+    @Test
+    public void testSeriesChangeDetails() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        dataset.addSeries(s2);
+        dataset.addChangeListener(new DatasetChangeListener() {
+            @Override
+            public void datasetChanged(DatasetChangeEvent event) {
+                lastEvent = event;
+            }
+        });
+        s2.add(1.0, 1.0);
+        assertEquals(1, this.lastEvent.getSeriesIndex());
+        SeriesChangeEvent change = this.lastEvent.getSeriesChange();
+        assertSame(s2, change.getSource());
+        assertSame(SeriesChangeType.APPEND, change.getType());
+        assertEquals(0, change.getFirstIndex());
+
+        s1.add(1.0, 1.0);
+        s1.clear();
+        assertEquals(-1, this.lastEvent.getSeriesIndex());
+        assertNull(this.lastEvent.getSeriesChange());
+
+        // events held back by a batch are replaced by a general event
+        dataset.beginUpdate();
+        s2.add(2.0, 2.0);
+        dataset.endUpdate();
+        assertNull(this.lastEvent.getSeriesChange());
+    }
+
+    /**
+     * The version increases with every change to the collection or its
+     * series, and reading it does not change it.
+     */
+    @Test
+    public void testGetVersion() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.add(1.0, 1.0);
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        long v0 = dataset.getVersion();
+        assertEquals(v0, dataset.getVersion());
+        s1.add(2.0, 2.0);
+        long v1 = dataset.getVersion();
+        assertEquals(v0 + 1, v1);
+        s1.add(3.0, 3.0, false);
+        long v2 = dataset.getVersion();
+        assertTrue(v2 > v1);
+        assertEquals(v2, dataset.getVersion());
+
+        // removing a series with a high version doesn't reduce the version
+        XYSeries s2 = new XYSeries("S2");
+        for (int i = 0; i < 10; i++) {
+            s2.add(i, i);
+        }
+        dataset.addSeries(s2);
+        long v3 = dataset.getVersion();
+        assertTrue(v3 > v2);
+        dataset.removeSeries(s2);
+        long v4 = dataset.getVersion();
+        assertTrue(v4 > v3);
+        dataset.addSeries(s2);
+        dataset.removeAllSeries();
+        assertTrue(dataset.getVersion() > v4);
+    }
+
 }
@@ -41,6 +41,14 @@
  * 01-May-2008 : Added testAddOrUpdate3() (DG);
  * 24-Nov-2008 : Added testBug1955483() (DG);
  * 06-Mar-2009 : Added tests for cached bounds values (DG);
+ * 18-Oct-2026 : Added tests for capped series bounds (G14);
+ * 18-Oct-2026 : Added tests for addAll() (G14);
+ * 18-Oct-2026 : Added testIndexOfUnsorted() (G14);
+ * 18-Oct-2026 : Added testFindValueRange() (G14);
+ * 18-Oct-2026 : Added testGetVersion() (G14);
+ * 18-Oct-2026 : Added testChangeEventDetails() (G14);
+ * 18-Oct-2026 : Added testFindValueRangeAfterAddAll() (G14);
+ * 18-Oct-2026 : Added testFindValueRangeNaNX() (G14);
  *
  */
 
@@ -48,9 +56,15 @@ package org.jfree.data.xy;
 
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 import org.jfree.chart.TestUtilities;
+import org.jfree.data.Range;
 
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
@@ -806,4 +820,425 @@ public class XYSeriesTest {
         c.removeSeries(1);
         s1.setKey("S2");
     }
+
+    /**
+     * A capped series should report the same bounds as a brute force scan
+     * of its items while data rolls through it.
+     */
+    @Test
+    public void testMaximumItemCountRollingBounds() {
+        java.util.Random random = new java.util.Random(637L);
+        XYSeries sorted = new XYSeries("S1");
+        sorted.setMaximumItemCount(50);
+        XYSeries unsorted = new XYSeries("S2", false);
+        unsorted.setMaximumItemCount(50);
+        for (int i = 0; i < 2000; i++) {
+            double y = random.nextGaussian();
+            // occasional out-of-order x-values for the sorted series
+            double x = random.nextInt(20) == 0 ? i - 10.5 : i;
+            sorted.add(x, y);
+            unsorted.add(random.nextGaussian(), y);
+            if (i % 100 == 99) {
+                sorted.updateByIndex(10, new Double(random.nextGaussian()));
+            }
+            assertBoundsByIteration(sorted);
+            assertBoundsByIteration(unsorted);
+        }
+        assertEquals(50, sorted.getItemCount());
+        assertEquals(50, unsorted.getItemCount());
+    }
+
+    /**
+     * Checks the cached bounds of a series against the items it contains.
+     *
+     * @param s  the series.
+     */
+    private void assertBoundsByIteration(XYSeries s) {
+        double minX = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < s.getItemCount(); i++) {
+            minX = Math.min(minX, s.getX(i).doubleValue());
+            maxX = Math.max(maxX, s.getX(i).doubleValue());
+            minY = Math.min(minY, s.getY(i).doubleValue());
+            maxY = Math.max(maxY, s.getY(i).doubleValue());
+        }
+        assertEquals(minX, s.getMinX(), EPSILON);
+        assertEquals(maxX, s.getMaxX(), EPSILON);
+        assertEquals(minY, s.getMinY(), EPSILON);
+        assertEquals(maxY, s.getMaxY(), EPSILON);
+    }
+
+
+    /**
+     * Adding a block of items should give the same result as adding the
+     * items one by one, but with a single change event.
+     */
+    @Test
+    public void testAddAll() {
+        java.util.Random random = new java.util.Random(14L);
+        boolean[] flags = new boolean[] {true, false};
+        for (int a = 0; a < 2; a++) {
+            for (int d = 0; d < 2; d++) {
+                XYSeries s1 = new XYSeries("S", flags[a], flags[d]);
+                XYSeries s2 = new XYSeries("S", flags[a], flags[d]);
+                s1.setMaximumItemCount(150);
+                s2.setMaximumItemCount(150);
+                final int[] events = new int[1];
+                s1.addChangeListener(new SeriesChangeListener() {
+                    @Override
+                    public void seriesChanged(SeriesChangeEvent event) {
+                        events[0]++;
+                    }
+                });
+                for (int block = 0; block < 4; block++) {
+                    // sorted blocks that follow the existing data, then
+                    // unsorted blocks that must be merged in
+                    double[] x = new double[50];
+                    double[] y = new double[50];
+                    for (int i = 0; i < x.length; i++) {
+                        x[i] = block < 2 ? block * 1000 + i * 2
+                                : random.nextInt(1000000) + 0.5;
+                        y[i] = random.nextGaussian();
+                        s2.add(x[i], y[i]);
+                    }
+                    s1.addAll(x, y);
+                    assertEquals(s2, s1);
+                    assertEquals(s2.getMinX(), s1.getMinX(), EPSILON);
+                    assertEquals(s2.getMaxX(), s1.getMaxX(), EPSILON);
+                    assertEquals(s2.getMinY(), s1.getMinY(), EPSILON);
+                    assertEquals(s2.getMaxY(), s1.getMaxY(), EPSILON);
+                }
+                assertEquals(4, events[0]);
+            }
+        }
+    }
+
+    /**
+     * A block containing a duplicate x-value is rejected without changing
+     * the series.
+     */
+    @Test
+    public void testAddAllDuplicates() {
+        XYSeries s1 = new XYSeries("S", true, false);
+        s1.add(1.0, 1.0);
+        s1.add(5.0, 5.0);
+        try {
+            s1.addAll(new double[] {3.0, 5.0}, new double[] {3.0, 4.0});
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(2, s1.getItemCount());
+
+        XYSeries s2 = new XYSeries("S", false, false);
+        s2.add(1.0, 1.0);
+        try {
+            s2.addAll(new double[] {3.0, 2.0, 3.0}, new double[3]);
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(1, s2.getItemCount());
+
+        try {
+            s2.addAll(new double[] {3.0}, new double[2]);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+
+    /**
+     * The x-value index for an unsorted series should stay in step with the
+     * data through all kinds of change.
+     */
+    @Test
+    public void testIndexOfUnsorted() {
+        java.util.Random random = new java.util.Random(4L);
+        XYSeries s = new XYSeries("S", false, false);
+        s.setMaximumItemCount(200);
+        for (int i = 0; i < 3000; i++) {
+            int action = random.nextInt(20);
+            double x = random.nextInt(1000);
+            if (action == 0 && s.getItemCount() > 0) {
+                s.remove(random.nextInt(s.getItemCount()));
+            }
+            else if (action == 1 && s.getItemCount() > 0) {
+                s.remove(s.getItemCount() - 1);
+            }
+            else if (action == 2 && s.getItemCount() > 5) {
+                s.delete(0, 2);
+            }
+            else if (action == 3) {
+                s.addOrUpdate(x, i);
+            }
+            else if (s.indexOf(new Double(x)) < 0) {
+                s.add(x, i);
+            }
+            for (int j = 0; j < 5; j++) {
+                Double xx = new Double(random.nextInt(1000));
+                int expected = -1;
+                for (int k = 0; k < s.getItemCount(); k++) {
+                    if (s.getX(k).equals(xx)) {
+                        expected = k;
+                        break;
+                    }
+                }
+                assertEquals(expected, s.indexOf(xx));
+            }
+        }
+
+        // x-values of different Number types are not equal
+        XYSeries s2 = new XYSeries("S2", false, true);
+        s2.add(new Integer(1), new Double(1.0));
+        s2.add(new Double(1.0), new Double(2.0));
+        assertEquals(0, s2.indexOf(new Integer(1)));
+        assertEquals(1, s2.indexOf(new Double(1.0)));
+        try {
+            XYSeries s3 = new XYSeries("S3", false, false);
+            s3.add(2.0, 1.0);
+            s3.add(2.0, 1.0);
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+    }
+
+
+    /**
+     * Check the y-range found for an x-range against a brute force
+     * calculation, while the series is changed in various ways.
+     */
+    @Test
+    public void testFindValueRange() {
+        XYSeries s = new XYSeries("S1");
+        assertNull(s.findValueRange(new Range(0.0, 1.0)));
+        s.setMaximumItemCount(200);
+        java.util.Random random = new java.util.Random(14L);
+        for (int i = 0; i < 3000; i++) {
+            int action = random.nextInt(20);
+            double x = random.nextInt(2000);
+            if (action == 0 && s.getItemCount() > 0) {
+                s.updateByIndex(random.nextInt(s.getItemCount()),
+                        new Double(random.nextInt(100)));
+            }
+            else if (action == 1 && s.getItemCount() > 10) {
+                s.delete(5, 7);
+            }
+            else if (action == 2) {
+                s.add(x, null);
+            }
+            else if (action == 3) {
+                s.add(x, Double.NaN);
+            }
+            else if (action == 4) {
+                s.add(x, random.nextInt(100));  // usually an insertion
+            }
+            else {
+                double last = s.getItemCount() > 0
+                        ? s.getX(s.getItemCount() - 1).doubleValue() : 0.0;
+                s.add(last + random.nextInt(3), random.nextInt(100));
+            }
+            for (int j = 0; j < 3; j++) {
+                double a = random.nextInt(2000) - 10.0;
+                Range xRange = new Range(a, a + random.nextInt(500));
+                assertEquals(bruteForceValueRange(s, xRange),
+                        s.findValueRange(xRange));
+            }
+        }
+
+        // append only, with a descending run so that evictions change the
+        // bounds
+        for (int i = 0; i < 1000; i++) {
+            double x = s.getX(s.getItemCount() - 1).doubleValue() + 1.0;
+            s.add(x, i < 500 ? 1000.0 - i : random.nextInt(100));
+            Range xRange = new Range(x - random.nextInt(300), x);
+            assertEquals(bruteForceValueRange(s, xRange),
+                    s.findValueRange(xRange));
+        }
+
+        // unsorted series
+        XYSeries s2 = new XYSeries("S2", false);
+        s2.add(5.0, 1.0);
+        s2.add(1.0, 3.0);
+        s2.add(3.0, 2.0);
+        assertEquals(new Range(2.0, 3.0), s2.findValueRange(
+                new Range(0.0, 4.0)));
+    }
+
+    /**
+     * Check the y-range and bounds after blocks of items are appended to a
+     * capped series, which extends (rather than rebuilds) the min/max tree.
+     */
+    @Test
+    public void testFindValueRangeAfterAddAll() {
+        XYSeries s = new XYSeries("S1");
+        s.setMaximumItemCount(50);
+        java.util.Random random = new java.util.Random(14L);
+        double x = 0.0;
+        for (int i = 0; i < 200; i++) {
+            int count = 1 + random.nextInt(30);
+            double[] xValues = new double[count];
+            double[] yValues = new double[count];
+            for (int j = 0; j < count; j++) {
+                x = x + random.nextInt(3);
+                xValues[j] = x;
+                yValues[j] = i < 100 ? 1000.0 - i : random.nextInt(100);
+            }
+            s.addAll(xValues, yValues);
+            for (int j = 0; j < 3; j++) {
+                Range xRange = new Range(x - random.nextInt(100), x);
+                assertEquals(bruteForceValueRange(s, xRange),
+                        s.findValueRange(xRange));
+            }
+            Range all = new Range(Double.NEGATIVE_INFINITY,
+                    Double.POSITIVE_INFINITY);
+            Range yRange = bruteForceValueRange(s, all);
+            assertEquals(yRange.getLowerBound(), s.getMinY(), EPSILON);
+            assertEquals(yRange.getUpperBound(), s.getMaxY(), EPSILON);
+        }
+
+        // a block that must be merged with the existing items
+        s.addAll(new double[] {x - 10.5, x + 1.0}, new double[] {-1.0, 7.0});
+        Range xRange = new Range(x - 20.0, x + 1.0);
+        assertEquals(bruteForceValueRange(s, xRange),
+                s.findValueRange(xRange));
+    }
+
+    /**
+     * A series with a <code>Double.NaN</code> x-value cannot use the min/max
+     * tree, but the y-range must still be correct as the series changes.
+     */
+    @Test
+    public void testFindValueRangeNaNX() {
+        XYSeries s = new XYSeries("S1");
+        s.add(1.0, 5.0);
+        s.add(2.0, 3.0);
+        s.add(Double.NaN, 9.0);
+        Range xRange = new Range(0.0, 3.0);
+        assertEquals(new Range(3.0, 5.0), s.findValueRange(xRange));
+        assertEquals(new Range(3.0, 5.0), s.findValueRange(xRange));
+
+        // a change made without sending an event
+        s.add(1.5, 1.0, false);
+        assertEquals(new Range(1.0, 5.0), s.findValueRange(xRange));
+
+        // remove the NaN x-value, so that the tree can be used
+        for (int i = 0; i < s.getItemCount(); i++) {
+            if (Double.isNaN(s.getXValue(i))) {
+                s.remove(i);
+            }
+        }
+        assertEquals(new Range(1.0, 5.0), s.findValueRange(xRange));
+        s.add(2.5, 0.0);
+        assertEquals(new Range(0.0, 5.0), s.findValueRange(xRange));
+        assertEquals(new Range(0.0, 3.0), s.findValueRange(
+                new Range(2.0, 3.0)));
+    }
+
+    /**
+     * Finds the range of y-values for the items in an x-range by checking
+     * every item.
+     *
+     * @param s  the series.
+     * @param xRange  the x-range.
+     *
+     * @return The range (possibly <code>null</code>).
+     */
+    private static Range bruteForceValueRange(XYSeries s, Range xRange) {
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < s.getItemCount(); i++) {
+            double y = s.getYValue(i);
+            if (xRange.contains(s.getXValue(i)) && !Double.isNaN(y)) {
+                lower = Math.min(lower, y);
+                upper = Math.max(upper, y);
+            }
+        }
+        return lower == Double.POSITIVE_INFINITY ? null
+                : new Range(lower, upper);
+    }
+
+    /**
+     * The version increases with every change, whether or not an event is
+     * sent.
+     */
+    @Test
+    public void testGetVersion() {
+        XYSeries s = new XYSeries("S1");
+        long v0 = s.getVersion();
+        s.add(1.0, 1.0);
+        long v1 = s.getVersion();
+        assertTrue(v1 > v0);
+        s.add(2.0, 2.0, false);
+        long v2 = s.getVersion();
+        assertTrue(v2 > v1);
+        s.setNotify(false);
+        s.updateByIndex(0, new Double(3.0));
+        assertTrue(s.getVersion() > v2);
+    }
+
+    /** The last change event received by the listener. */
+    private SeriesChangeEvent lastEvent;
+
+    /**
+     * Checks the details of the change events sent by a series.
+     */
+    @Test
+    public void testChangeEventDetails() {
+        XYSeries s = new XYSeries("S1", true, false);
+        s.addChangeListener(new SeriesChangeListener() {
+            @Override
+            public void seriesChanged(SeriesChangeEvent event) {
+                lastEvent = event;
+            }
+        });
+        s.add(1.0, 1.0);
+        s.add(2.0, 2.0);
+        assertSame(SeriesChangeType.APPEND, this.lastEvent.getType());
+        assertEquals(1, this.lastEvent.getFirstIndex());
+        assertEquals(1, this.lastEvent.getLastIndex());
+        assertEquals(0, this.lastEvent.getRemovedCount());
+
+        s.addAll(new double[] {3.0, 4.0, 5.0}, new double[] {3.0, 4.0, 5.0});
+        assertSame(SeriesChangeType.APPEND, this.lastEvent.getType());
+        assertEquals(2, this.lastEvent.getFirstIndex());
+        assertEquals(4, this.lastEvent.getLastIndex());
+
+        // inserting before the last item is a general change
+        s.add(1.5, 1.5);
+        assertSame(SeriesChangeType.GENERAL, this.lastEvent.getType());
+
+        s.updateByIndex(2, new Double(9.0));
+        assertSame(SeriesChangeType.UPDATE, this.lastEvent.getType());
+        assertEquals(2, this.lastEvent.getFirstIndex());
+        s.addOrUpdate(2.0, 8.0);
+        assertSame(SeriesChangeType.UPDATE, this.lastEvent.getType());
+        assertEquals(2, this.lastEvent.getFirstIndex());
+
+        s.remove(0);
+        assertSame(SeriesChangeType.REMOVE_FIRST, this.lastEvent.getType());
+        assertEquals(1, this.lastEvent.getRemovedCount());
+        s.delete(0, 1);
+        assertSame(SeriesChangeType.REMOVE_FIRST, this.lastEvent.getType());
+        assertEquals(2, this.lastEvent.getRemovedCount());
+        s.remove(1);
+        assertSame(SeriesChangeType.GENERAL, this.lastEvent.getType());
+
+        // a capped series removes the first item as it appends
+        s.setMaximumItemCount(2);
+        s.add(6.0, 6.0);
+        assertSame(SeriesChangeType.APPEND, this.lastEvent.getType());
+        assertEquals(1, this.lastEvent.getFirstIndex());
+        assertEquals(1, this.lastEvent.getRemovedCount());
+        assertEquals(2, s.getItemCount());
+    }
+
 }
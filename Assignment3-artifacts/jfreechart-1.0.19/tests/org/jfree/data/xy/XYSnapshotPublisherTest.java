@@ -0,0 +1,580 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * XYSnapshotPublisherTest.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  SENG637 Group 14;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (G14);
+ * 18-Oct-2026 : Added testConcurrentUpdatesWithAutoRange() and
+ *               testSnapshotPublishedBeforeEvent() (G14);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRendererState;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.time.FixedMillisecond;
+import org.jfree.data.time.Month;
+import org.jfree.data.time.TimePeriodAnchor;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link XYSnapshotPublisher} class, through the collections
+ * that use it.
+ */
+public class XYSnapshotPublisherTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Checks that a snapshot holds the same values as a dataset.
+     *
+     * @param expected  the dataset.
+     * @param snapshot  the snapshot.
+     */
+    private static void assertSnapshot(XYDataset expected,
+            XYDataset snapshot) {
+        assertEquals(expected.getSeriesCount(), snapshot.getSeriesCount());
+        for (int s = 0; s < expected.getSeriesCount(); s++) {
+            assertEquals(expected.getSeriesKey(s), snapshot.getSeriesKey(s));
+            assertEquals(expected.getItemCount(s), snapshot.getItemCount(s));
+            for (int i = 0; i < expected.getItemCount(s); i++) {
+                assertEquals(expected.getXValue(s, i),
+                        snapshot.getXValue(s, i), EPSILON);
+                assertEquals(expected.getYValue(s, i),
+                        snapshot.getYValue(s, i), EPSILON);
+                if (expected instanceof IntervalXYDataset) {
+                    IntervalXYDataset e = (IntervalXYDataset) expected;
+                    IntervalXYDataset a = (IntervalXYDataset) snapshot;
+                    assertEquals(e.getStartXValue(s, i),
+                            a.getStartXValue(s, i), EPSILON);
+                    assertEquals(e.getEndXValue(s, i),
+                            a.getEndXValue(s, i), EPSILON);
+                }
+            }
+        }
+    }
+
+    /**
+     * A snapshot is published when snapshots are enabled, and with each
+     * change event.  Earlier snapshots are not changed.
+     */
+    @Test
+    public void testAppend() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.add(1.0, 2.0);
+        XYSeriesCollection d = new XYSeriesCollection(s1);
+        assertNull(d.getSnapshot());
+        d.setSnapshotsEnabled(true);
+        XYDataset first = d.getSnapshot();
+        assertSnapshot(d, first);
+        for (int i = 2; i <= 3000; i++) {
+            s1.add(i, 2.0 * i);
+        }
+        assertSnapshot(d, d.getSnapshot());
+        assertEquals(1, first.getItemCount(0));
+        assertEquals(2.0, first.getYValue(0, 0), EPSILON);
+
+        d.setSnapshotsEnabled(false);
+        assertNull(d.getSnapshot());
+    }
+
+    /**
+     * Items removed from the start of a series (as the maximum item count
+     * is reached) are removed from the snapshot.
+     */
+    @Test
+    public void testRemoveFirst() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.setMaximumItemCount(1500);
+        XYSeriesCollection d = new XYSeriesCollection(s1);
+        d.setSnapshotsEnabled(true);
+        XYDataset snapshot = null;
+        for (int i = 0; i < 5000; i++) {
+            s1.add(i, 2.0 * i);
+            if (i == 2000) {
+                snapshot = d.getSnapshot();
+            }
+        }
+        assertSnapshot(d, d.getSnapshot());
+        assertEquals(501.0, snapshot.getXValue(0, 0), EPSILON);
+        assertEquals(2000.0, snapshot.getXValue(0, 1499), EPSILON);
+
+        s1.delete(0, 1498);
+        assertSnapshot(d, d.getSnapshot());
+        s1.remove(0);
+        assertEquals(0, d.getSnapshot().getItemCount(0));
+        s1.add(1.0, 3.0);
+        assertSnapshot(d, d.getSnapshot());
+    }
+
+    /**
+     * An updated item is changed in the new snapshot only.
+     */
+    @Test
+    public void testUpdate() {
+        XYSeries s1 = new XYSeries("S1", true, false);
+        for (int i = 0; i < 2000; i++) {
+            s1.add(i, 2.0 * i);
+        }
+        XYSeriesCollection d = new XYSeriesCollection(s1);
+        d.setSnapshotsEnabled(true);
+        XYDataset before = d.getSnapshot();
+        s1.updateByIndex(1500, new Double(-1.0));
+        s1.addOrUpdate(10.0, 99.0);
+        s1.updateByIndex(3, null);
+        assertSnapshot(d, d.getSnapshot());
+        assertEquals(3000.0, before.getYValue(0, 1500), EPSILON);
+        assertEquals(20.0, before.getYValue(0, 10), EPSILON);
+        assertNull(d.getSnapshot().getY(0, 3));
+    }
+
+    /**
+     * Other changes (an item inserted or removed in the middle of a series,
+     * a change without an event) are copied from the series.
+     */
+    @Test
+    public void testOtherChanges() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        for (int i = 0; i < 1200; i++) {
+            s1.add(i, 2.0 * i);
+            s2.add(i, 3.0 * i);
+        }
+        XYSeriesCollection d = new XYSeriesCollection(s1);
+        d.addSeries(s2);
+        d.setSnapshotsEnabled(true);
+        s1.add(0.5, 7.0);
+        assertSnapshot(d, d.getSnapshot());
+        s2.remove(600);
+        assertSnapshot(d, d.getSnapshot());
+
+        XYDataset before = d.getSnapshot();
+        s1.add(5000.0, 1.0, false);
+        assertSame(before, d.getSnapshot());
+        s2.add(5000.0, 2.0);
+        assertSnapshot(d, d.getSnapshot());
+
+        d.removeSeries(0);
+        assertSnapshot(d, d.getSnapshot());
+        d.addSeries(new XYSeries("S3"));
+        assertSnapshot(d, d.getSnapshot());
+    }
+
+    /**
+     * The changes in a batch are published when the batch ends.
+     */
+    @Test
+    public void testBatch() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeriesCollection d = new XYSeriesCollection(s1);
+        d.setSnapshotsEnabled(true);
+        s1.beginUpdate();
+        d.beginUpdate();
+        for (int i = 0; i < 100; i++) {
+            s1.add(i, i);
+        }
+        s1.endUpdate();
+        assertEquals(0, d.getSnapshot().getItemCount(0));
+        d.endUpdate();
+        assertSnapshot(d, d.getSnapshot());
+    }
+
+    /**
+     * The x-interval of each item in a time series collection is included
+     * in the snapshot, and changes with the x-position.
+     */
+    @Test
+    public void testTimeSeriesCollection() {
+        TimeSeries s1 = new TimeSeries("S1");
+        s1.setMaximumItemCount(20);
+        TimeSeriesCollection d = new TimeSeriesCollection(s1);
+        d.setSnapshotsEnabled(true);
+        Month m = new Month(1, 2014);
+        for (int i = 0; i < 30; i++) {
+            s1.add(m, i);
+            m = (Month) m.next();
+        }
+        s1.update(3, new Double(-1.0));
+        assertSnapshot(d, d.getSnapshot());
+        d.setXPosition(TimePeriodAnchor.END);
+        assertSnapshot(d, d.getSnapshot());
+
+        TimeSeriesCollection clone = null;
+        try {
+            clone = (TimeSeriesCollection) d.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            throw new RuntimeException(e);
+        }
+        assertTrue(clone.getSnapshotsEnabled());
+        assertSnapshot(clone, clone.getSnapshot());
+    }
+
+    /**
+     * The x-interval in an XY series collection is included in the snapshot.
+     */
+    @Test
+    public void testIntervalWidth() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.add(1.0, 1.0);
+        s1.add(3.0, 1.0);
+        XYSeriesCollection d = new XYSeriesCollection(s1);
+        d.setSnapshotsEnabled(true);
+        d.setIntervalWidth(0.5);
+        d.setIntervalPositionFactor(0.2);
+        assertSnapshot(d, d.getSnapshot());
+        d.setAutoWidth(true);
+        s1.add(3.5, 1.0);
+        assertSnapshot(d, d.getSnapshot());
+    }
+
+    /**
+     * A plot draws the items in the latest snapshot.
+     */
+    @Test
+    public void testPlotDrawsSnapshot() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.add(1.0, 2.0);
+        XYSeriesCollection d = new XYSeriesCollection(s1);
+        d.setSnapshotsEnabled(true);
+        JFreeChart chart = ChartFactory.createXYLineChart(null, "X", "Y", d,
+                PlotOrientation.VERTICAL, false, false, false);
+        final List drawn = new ArrayList();
+        chart.getXYPlot().setRenderer(new XYLineAndShapeRenderer() {
+            @Override
+            public void drawItem(Graphics2D g2, XYItemRendererState state,
+                    Rectangle2D dataArea, PlotRenderingInfo info,
+                    XYPlot plot, ValueAxis domainAxis, ValueAxis rangeAxis,
+                    XYDataset dataset, int series, int item,
+                    CrosshairState crosshairState, int pass) {
+                drawn.add(dataset);
+            }
+        });
+        chart.createBufferedImage(200, 100);
+        assertEquals(2, drawn.size());  // two passes
+        assertSame(d.getSnapshot(), drawn.get(0));
+    }
+
+    /**
+     * Checks the values in a snapshot of a dataset where every y-value is
+     * plus or minus twice the x-value and the x-values are ascending.
+     *
+     * @param snapshot  the snapshot.
+     * @param maxItemCount  the maximum item count for the last series.
+     */
+    private static void checkSnapshot(XYDataset snapshot, int maxItemCount) {
+        int seriesCount = snapshot.getSeriesCount();
+        for (int s = 0; s < seriesCount; s++) {
+            double previous = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < snapshot.getItemCount(s); i++) {
+                double x = snapshot.getXValue(s, i);
+                double y = snapshot.getYValue(s, i);
+                assertTrue(x > previous);
+                assertEquals(2.0 * x, Math.abs(y), EPSILON);
+                previous = x;
+            }
+        }
+        assertTrue(snapshot.getItemCount(seriesCount - 1) <= maxItemCount);
+    }
+
+    /**
+     * Two threads append to (and update) the series in two collections,
+     * holding a lock, while two other threads check the snapshots and draw
+     * charts of the collections without a lock.
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testConcurrentUpdatesAndRendering()
+            throws InterruptedException {
+        checkConcurrentUpdates(false);
+    }
+
+    /**
+     * As for {@link #testConcurrentUpdatesAndRendering()}, but with the axes
+     * auto-ranged, so that the data bounds are found on the threads that
+     * update the series (as each change event is received by the plots) and
+     * on the threads that draw the charts (as when a chart panel restores
+     * the auto bounds).
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    @Test
+    public void testConcurrentUpdatesWithAutoRange()
+            throws InterruptedException {
+        checkConcurrentUpdates(true);
+    }
+
+    /**
+     * Runs two threads that update two collections while two other threads
+     * draw charts of the collections.
+     *
+     * @param autoRange  auto-range the axes?
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    private void checkConcurrentUpdates(final boolean autoRange)
+            throws InterruptedException {
+        final XYSeries s1 = new XYSeries("S1");
+        final XYSeries s2 = new XYSeries("S2");
+        s2.setMaximumItemCount(1500);
+        final XYSeriesCollection xy = new XYSeriesCollection(s1);
+        xy.addSeries(s2);
+        xy.setSnapshotsEnabled(true);
+        final TimeSeries t1 = new TimeSeries("T1");
+        t1.setMaximumItemCount(2500);
+        final TimeSeriesCollection ts = new TimeSeriesCollection(t1);
+        ts.setSnapshotsEnabled(true);
+
+        final Object lock = new Object();
+        final long[] last = new long[1];
+        final long end = System.currentTimeMillis() + 1000L;
+        final List failures = Collections.synchronizedList(new ArrayList());
+        Runnable producer = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    boolean running = true;
+                    while (running) {
+                        synchronized (lock) {
+                            long x = ++last[0];
+                            s1.add(x, 2.0 * x);
+                            s2.add(x, 2.0 * x);
+                            t1.add(new FixedMillisecond(x), 2.0 * x);
+                            if (x % 50 == 0) {
+                                int i = s2.getItemCount() / 2;
+                                s2.updateByIndex(i, new Double(
+                                        -2.0 * s2.getXValue(i)));
+                                long t = t1.getTimePeriod(i)
+                                        .getMiddleMillisecond();
+                                t1.update(i, new Double(-2.0 * t));
+                            }
+                            running = x < 20000
+                                    && System.currentTimeMillis() < end;
+                        }
+                    }
+                }
+                catch (Throwable t) {
+                    failures.add(t);
+                }
+            }
+        };
+        final Thread[] producers = new Thread[] {new Thread(producer),
+                new Thread(producer)};
+
+        final int[] checks = new int[2];
+        Thread[] renderers = new Thread[2];
+        final JFreeChart[] charts = new JFreeChart[4];
+        for (int r = 0; r < renderers.length; r++) {
+            final int index = r;
+            final JFreeChart c1 = ChartFactory.createXYLineChart(null, "X",
+                    "Y", xy, PlotOrientation.VERTICAL, false, false, false);
+            final JFreeChart c2 = ChartFactory.createTimeSeriesChart(null,
+                    "T", "Y", ts, false, false, false);
+            charts[2 * r] = c1;
+            charts[2 * r + 1] = c2;
+            if (!autoRange) {
+                // fixed axis ranges, so that the producers don't spend
+                // their time finding the data bounds
+                c1.getXYPlot().getDomainAxis().setRange(0.0, 20000.0);
+                c1.getXYPlot().getRangeAxis().setRange(-40000.0, 40000.0);
+                c2.getXYPlot().getDomainAxis().setRange(0.0, 20000.0);
+                c2.getXYPlot().getRangeAxis().setRange(-40000.0, 40000.0);
+            }
+            renderers[r] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        BufferedImage image = new BufferedImage(200, 100,
+                                BufferedImage.TYPE_INT_RGB);
+                        Graphics2D g2 = image.createGraphics();
+                        Rectangle2D area = new Rectangle2D.Double(0, 0, 200,
+                                100);
+                        do {
+                            XYDataset snapshot = xy.getSnapshot();
+                            checkSnapshot(snapshot, 1500);
+                            // the series are updated one at a time
+                            int n1 = snapshot.getItemCount(0);
+                            int n2 = snapshot.getItemCount(1);
+                            if (n1 > 0 && n2 > 0) {
+                                double gap = snapshot.getXValue(0, n1 - 1)
+                                        - snapshot.getXValue(1, n2 - 1);
+                                assertTrue(gap == 0.0 || gap == 1.0);
+                            }
+                            checkSnapshot(ts.getSnapshot(), 2500);
+                            if (checks[index] % 10 == 0) {
+                                if (autoRange) {
+                                    // find the data bounds on this thread
+                                    c1.getXYPlot().getRangeAxis().configure();
+                                    c2.getXYPlot().getDomainAxis()
+                                            .configure();
+                                }
+                                c1.draw(g2, area);
+                                c2.draw(g2, area);
+                            }
+                            checks[index]++;
+                        }
+                        while (producers[0].isAlive()
+                                || producers[1].isAlive());
+                        g2.dispose();
+                    }
+                    catch (Throwable t) {
+                        failures.add(t);
+                    }
+                }
+            });
+        }
+        for (int i = 0; i < producers.length; i++) {
+            producers[i].start();
+        }
+        for (int r = 0; r < renderers.length; r++) {
+            renderers[r].start();
+        }
+        for (int i = 0; i < producers.length; i++) {
+            producers[i].join();
+        }
+        for (int r = 0; r < renderers.length; r++) {
+            renderers[r].join();
+        }
+        if (!failures.isEmpty()) {
+            Throwable t = (Throwable) failures.get(0);
+            AssertionError e = new AssertionError("Thread failed: " + t);
+            e.initCause(t);
+            throw e;
+        }
+        assertTrue(checks[0] > 0 && checks[1] > 0);
+        assertFalse(s2.getItemCount() > 1500);
+        assertSnapshot(xy, xy.getSnapshot());
+        assertSnapshot(ts, ts.getSnapshot());
+        if (autoRange) {
+            // the plots updated their axes from the final snapshots
+            for (int c = 0; c < charts.length; c++) {
+                XYPlot plot = charts[c].getXYPlot();
+                XYDataset dataset = plot.getDataset();
+                assertTrue(plot.getDomainAxis().getRange().contains(
+                        DatasetUtilities.findMaximumDomainValue(dataset)
+                        .doubleValue()));
+                assertTrue(plot.getRangeAxis().getRange().contains(
+                        DatasetUtilities.findMaximumRangeValue(dataset)
+                        .doubleValue()));
+            }
+        }
+    }
+
+    /**
+     * The snapshot is published before the change event is sent, so that a
+     * listener (such as a plot updating its axis ranges) sees the change.
+     * The plot finds the data range, draws the items and creates entities
+     * from the snapshot, and the entities refer to the collection.
+     */
+    @Test
+    public void testSnapshotPublishedBeforeEvent() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.add(1.0, 2.0);
+        final XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        dataset.setSnapshotsEnabled(true);
+        final int[] counts = new int[1];
+        dataset.addChangeListener(new DatasetChangeListener() {
+            @Override
+            public void datasetChanged(DatasetChangeEvent event) {
+                counts[0] = dataset.getSnapshot().getItemCount(0);
+            }
+        });
+        s1.add(2.0, 4.0);
+        assertEquals(2, counts[0]);
+
+        JFreeChart chart = ChartFactory.createXYLineChart(null, "X", "Y",
+                dataset, PlotOrientation.VERTICAL, false, true, false);
+        XYPlot plot = chart.getXYPlot();
+        s1.add(3.0, 60.0);
+        assertEquals(60.0, plot.getRangeAxis().getUpperBound(), 5.0);
+        XYDataset snapshot = dataset.getSnapshot();
+        assertEquals(0, plot.indexOf(snapshot));
+        assertSame(plot.getRenderer(), plot.getRendererForDataset(snapshot));
+
+        // a change without an event is not published, so it is not seen by
+        // the plot
+        s1.add(2.5, 500.0, false);
+        assertEquals(new Range(2.0, 60.0),
+                plot.getDataRange(plot.getRangeAxis()));
+
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), info);
+        g2.dispose();
+        int entityCount = 0;
+        Iterator iterator = info.getEntityCollection().iterator();
+        while (iterator.hasNext()) {
+            Object entity = iterator.next();
+            if (entity instanceof XYItemEntity) {
+                assertSame(dataset, ((XYItemEntity) entity).getDataset());
+                entityCount++;
+            }
+        }
+        assertEquals(3, entityCount);
+    }
+
+}